@@ -0,0 +1,65 @@
+package bransford.dicom.parser.benchmarks;
+
+import bransford.dicom.parser.DisplayLut;
+import bransford.dicom.parser.DisplayLutCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// A window drag over a 12 bit image: the display LUT rebuilt for the new window, then a frame rendered through it. And
+// a slice of a series shown with a preset, its LUT out of the cache
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayLutBenchmark
+{
+    @Param({"512", "2048"})
+    public int matrix;
+
+    @Param({DisplayLut.linear, DisplayLut.sigmoid})
+    public String function;
+
+    private short[] samples;
+    private DisplayLut lut;
+    private final DisplayLutCache cache = new DisplayLutCache(64);
+    private double center = 40;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        samples = new short[matrix * matrix];
+        for (int i = 0; i < samples.length; i++)
+        {
+            samples[i] = (short) ((i * 31 + i / matrix * 17) & 0xFFF);
+        }
+        lut = build();
+    }
+
+    @Benchmark
+    public DisplayLut build()
+    {
+        center = center > 400 ? 40 : center + 1;
+        return new DisplayLut(12, false, 1, -1024, center, 400, function, false);
+    }
+
+    @Benchmark
+    public byte[] render()
+    {
+        return lut.render(samples);
+    }
+
+    @Benchmark
+    public byte[] drag()
+    {
+        return build().render(samples);
+    }
+
+    @Benchmark
+    public byte[] preset()
+    {
+        return cache.get(12, false, 1, -1024, 40, 400, function, false).render(samples);
+    }
+}
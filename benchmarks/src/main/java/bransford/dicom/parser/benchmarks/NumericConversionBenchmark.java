@@ -0,0 +1,149 @@
+package bransford.dicom.parser.benchmarks;
+
+import bransford.dicom.parser.DicomTag;
+import bransford.dicom.parser.ValueConversions;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// The numeric conversions: single values as read for the image attributes, and the DicomTag primitive array
+// accessors over arrays of the size of a LUT, and DS windows parsed from the value bytes against BigDecimal
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericConversionBenchmark
+{
+    @Param({"256", "4096"})
+    public int num_values;
+
+    private byte[] shorts;
+    private byte[] doubles;
+    private byte[] short_value;
+    private byte[] int_value;
+    private byte[] float_value;
+    private byte[] double_value;
+    private DicomTag us_tag;
+    private DicomTag fd_tag;
+    private DicomTag ow_array;
+    private DicomTag fd_array;
+    private DicomTag ds_window;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        ByteBuffer values = ByteBuffer.allocate(num_values * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < num_values; i++)
+        {
+            values.putShort((short) (i * 7));
+        }
+        shorts = new byte[num_values * 2];
+        values.flip().get(shorts);
+
+        values.clear();
+        for (int i = 0; i < num_values; i++)
+        {
+            values.putDouble(i * 0.125);
+        }
+        doubles = values.array().clone();
+
+        short_value = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN).putShort((short) 512).array();
+        int_value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(1 << 20).array();
+        float_value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putFloat(0.5f).array();
+        double_value = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(-125.5).array();
+
+        us_tag = tag("US", short_value);
+        fd_tag = tag("FD", double_value);
+        ow_array = tag("OW", shorts);
+        fd_array = tag("FD", Arrays.copyOf(doubles, num_values * 8));
+        ds_window = tag("DS", "400\\40.5\\-1000.25 ".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static DicomTag tag(String vr, byte[] value)
+    {
+        DicomTag tag = new DicomTag();
+        tag.setTag(0x00091000);
+        tag.setVR(vr);
+        tag.setRawValue(value);
+        tag.setValueLength(value.length);
+        return tag;
+    }
+
+    @Benchmark
+    public short shortValue()
+    {
+        return ValueConversions.shortValue(short_value);
+    }
+
+    @Benchmark
+    public int intValue()
+    {
+        return ValueConversions.intValue(int_value);
+    }
+
+    @Benchmark
+    public float floatValue()
+    {
+        return ValueConversions.floatValue(float_value, 4);
+    }
+
+    @Benchmark
+    public double doubleValue()
+    {
+        return ValueConversions.doubleValue(double_value);
+    }
+
+    @Benchmark
+    public long getNumericValue()
+    {
+        return ValueConversions.getNumericValue(us_tag);
+    }
+
+    @Benchmark
+    public Double getDecimalValue()
+    {
+        return ValueConversions.getDecimalValue(fd_tag);
+    }
+
+    @Benchmark
+    public int getInt()
+    {
+        return us_tag.getInt();
+    }
+
+    @Benchmark
+    public int[] unsignedShortArray()
+    {
+        return ow_array.getInts();
+    }
+
+    @Benchmark
+    public double[] doubleArray()
+    {
+        return fd_array.getDoubles();
+    }
+
+    @Benchmark
+    public double[] decimalStrings()
+    {
+        return ds_window.getDoubles();
+    }
+
+    @Benchmark
+    public double decimalStringsBigDecimal()
+    {
+        double sum = 0.0;
+        for (String value : new String(ds_window.getRawValue(), StandardCharsets.US_ASCII).trim().split("\\\\"))
+        {
+            sum += new BigDecimal(value).doubleValue();
+        }
+        return sum;
+    }
+}
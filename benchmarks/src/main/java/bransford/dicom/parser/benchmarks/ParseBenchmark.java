@@ -0,0 +1,72 @@
+package bransford.dicom.parser.benchmarks;
+
+import bransford.dicom.parser.DicomObject;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.DicomTags;
+import bransford.dicom.parser.SyntheticDicom;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+// DicomParser.parseDICOMImage over a header of num_tags dictionary tags (plus the usual few dozen), a sequence nested
+// sequence_depth deep and a 512x512 16 bit frame, reading the file onto the heap or mapping it, and a header only
+// parse that stops at the pixel data
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark
+{
+    @Param({"50", "500"})
+    public int num_tags;
+
+    @Param({"1", "4"})
+    public int sequence_depth;
+
+    @Param({SyntheticDicom.explicit_little_endian, SyntheticDicom.implicit_little_endian,
+            SyntheticDicom.deflated_explicit_little_endian})
+    public String transfer_syntax;
+
+    @Param({"false", "true"})
+    public boolean memory_mapped;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_tags = num_tags;
+        generator.sequence_depth = sequence_depth;
+        generator.transfer_syntax = transfer_syntax;
+        file = generator.write(Files.createTempFile("parse", ".dcm"));
+        file.toFile().deleteOnExit();
+    }
+
+    @Benchmark
+    public DicomObject parse() throws IOException
+    {
+        DicomParser parser = new DicomParser(file.toString(), memory_mapped);
+        parser.isValidDicomImage();
+        return parser.parseDICOMImage();
+    }
+
+    @Benchmark
+    public DicomObject parseHeaderOnly() throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            DicomParser parser = new DicomParser(channel, 64 * 1024);
+            parser.stop_at_tag = DicomTags.PixelData;
+            parser.isValidDicomImage();
+            return parser.parseDICOMImage();
+        }
+    }
+}
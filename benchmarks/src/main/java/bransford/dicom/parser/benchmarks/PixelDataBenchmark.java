@@ -0,0 +1,93 @@
+package bransford.dicom.parser.benchmarks;
+
+import bransford.dicom.parser.DicomImage;
+import bransford.dicom.parser.DicomObject;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.FrameCache;
+import bransford.dicom.parser.PixelBufferPool;
+import bransford.dicom.parser.SyntheticDicom;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// DicomImage.getPixelData over a parsed multi-frame object: native 16 bit frames copied out of the parse buffer, 8 bit
+// baseline JPEG fragments decompressed through Driver8, 12 bit lossless JPEG through Driver12_16, and 16 bit RLE through
+// RleDecoder
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PixelDataBenchmark
+{
+    @Param({"native16", "jpeg8", "lossless12", "rle16"})
+    public String encoding;
+
+    @Param({"1", "16"})
+    public int frames;
+
+    @Param({"512"})
+    public int matrix;
+
+    private DicomObject dcm;
+    private final PixelBufferPool pool = new PixelBufferPool(1L << 30);
+    private final FrameCache cache = new FrameCache(1L << 30);
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_frames = frames;
+        generator.rows = matrix;
+        generator.columns = matrix;
+        switch (encoding)
+        {
+            case "jpeg8" ->
+            {
+                generator.transfer_syntax = SyntheticDicom.jpeg_baseline;
+                generator.bits_allocated = 8;
+            }
+            case "lossless12" -> generator.transfer_syntax = SyntheticDicom.jpeg_lossless;
+            case "rle16" -> generator.transfer_syntax = SyntheticDicom.rle_lossless;
+            default -> generator.transfer_syntax = SyntheticDicom.explicit_little_endian;
+        }
+
+        Path file = generator.write(Files.createTempFile("pixels", ".dcm"));
+        file.toFile().deleteOnExit();
+
+        DicomParser parser = new DicomParser(file.toString());
+        parser.isValidDicomImage();
+        dcm = parser.parseDICOMImage();
+    }
+
+    // decompressed every time, there is no frame cache unless one is set
+    @Benchmark
+    public byte[][] getPixelData()
+    {
+        return new DicomImage(dcm).getPixelData(true);
+    }
+
+    // what a viewer coming back to the image sees
+    @Benchmark
+    public byte[][] getPixelDataCached()
+    {
+        DicomImage image = new DicomImage(dcm);
+        image.frameCache = cache;
+        return image.getPixelData(true);
+    }
+
+    // into pooled direct buffers, released for the next invocation
+    @Benchmark
+    public int getPixelBuffers()
+    {
+        ByteBuffer[] buffers = new DicomImage(dcm).getPixelBuffers(pool);
+        int length = buffers.length;
+        pool.release(buffers);
+        return length;
+    }
+}
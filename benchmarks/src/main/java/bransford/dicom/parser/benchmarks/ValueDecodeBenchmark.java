@@ -0,0 +1,81 @@
+package bransford.dicom.parser.benchmarks;
+
+import bransford.dicom.parser.DicomTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// DicomTag.calculateValue for a value of each common VR, of the size and multiplicity usually found in a header
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueDecodeBenchmark
+{
+    @Param({"US", "SS", "UL", "FL", "FD", "AT", "DS", "IS", "DA", "TM", "UI", "PN", "LO"})
+    public String vr;
+
+    private DicomTag tag;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        tag = new DicomTag();
+        tag.setTag(0x00091000);
+        tag.setVR(vr);
+
+        byte[] value = value(vr);
+        tag.setRawValue(value);
+        tag.setValueLength(value.length);
+    }
+
+    @Benchmark
+    public DicomTag calculateValue()
+    {
+        tag.calculateValue();
+        return tag;
+    }
+
+    private static byte[] value(String vr)
+    {
+        ByteBuffer value = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+        switch (vr)
+        {
+            case "US", "SS" -> value.putShort((short) 512);
+            case "UL" -> value.putInt(1 << 20);
+            case "FL" -> value.putFloat(0.5f).putFloat(0.25f);
+            // e.g. an image position
+            case "FD" -> value.putDouble(-125.5).putDouble(-98.25).putDouble(42.0);
+            case "AT" -> value.putShort((short) 0x0028).putShort((short) 0x0010);
+            default ->
+            {
+                return string(vr);
+            }
+        }
+
+        byte[] bytes = new byte[value.position()];
+        value.flip().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] string(String vr)
+    {
+        String value = switch (vr)
+        {
+            case "DS" -> "-125.5\\-98.25\\42.0";
+            case "IS" -> "42";
+            case "DA" -> "20230115";
+            case "TM" -> "101530.250000";
+            case "UI" -> "1.2.826.0.1.3680043.2.1125.1.12345";
+            case "PN" -> "Synthetic^Patient^^Dr";
+            default -> "SYNTHETIC VALUE ";
+        };
+
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -1,52 +1,141 @@
 package bransford.dicom.parser;
 
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.Arrays;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+// The parse context for a single DICOM object: the bytes read from the file, plus the cursor (location and
+// range) the parser walks through them. Every DicomParser owns its own DCMBuff, so any number of parsers can
+// run concurrently in one JVM; a single DCMBuff is not meant to be shared between threads.
+//
+// The bytes are held as one or more segments of at most segment_size bytes, either heap arrays (the file is read)
+// or MappedByteBuffers (the file is mapped, and read straight off the page cache). Splitting into segments is what
+// lets objects over 2 GB, such as multi-frame cine and whole slide images, be addressed at all.
 public class DCMBuff
 {
     public static final String ascii = "UTF-8";
     public static final int _2bytes = 2;
     public static final int _4bytes = 4;
     public static final int _8bytes = 8;
-    public static int buffer_location = 0;
-    public static int buffer_range = 0;
+    public long buffer_location = 0;
+    public long buffer_range = 0;
 
-    public static final ByteOrder system_byte_order = ByteOrder.nativeOrder();
+    // the file meta information, and every transfer syntax but explicit VR big endian, is little endian whatever the
+    // order of the host; byte_order is the order the data set after the meta information is read in, set from the
+    // transfer syntax (see setByteOrder), and applies to lengths and to the values of the tags read
+    public static final ByteOrder default_byte_order = ByteOrder.LITTLE_ENDIAN;
+    public ByteOrder byte_order = default_byte_order;
 
-    public static byte[] data = null;
+    // 1 GB, a power of two so a location splits into a segment index and an offset with a shift and a mask
+    public static final int segment_shift = 30;
+    public static final int segment_size = 1 << segment_shift;
 
-    public static void readBinaryDicomFile(String dcm_file)
+    public ByteBuffer[] segments = null;
+    public long length = 0;
+    public boolean is_mapped = false;
+
+    public DCMBuff(byte[] data)
     {
-        try
+        this(data == null ? null : new ByteBuffer[]{ByteBuffer.wrap(data)}, false);
+    }
+
+    public DCMBuff(ByteBuffer[] segments, boolean is_mapped)
+    {
+        this.segments = segments;
+        this.is_mapped = is_mapped;
+
+        if (segments != null)
         {
-            File file = new File(dcm_file);
-            InputStream inputStream = new FileInputStream(file);
+            for (ByteBuffer segment : segments)
+            {
+                segment.order(default_byte_order);
+                length += segment.limit();
+            }
+        }
+    }
 
-            long length = file.length();
-            byte[] bytes = new byte[(int) length];
+    // read the entire file onto the heap
+    public static DCMBuff readBinaryDicomFile(String dcm_file)
+    {
+        DCMBuff buff = new DCMBuff(null, false);
 
-            int bytes_read = inputStream.read(bytes);
+        try (InputStream inputStream = new FileInputStream(dcm_file))
+        {
+            long length = new File(dcm_file).length();
+            ByteBuffer[] segments = new ByteBuffer[numSegments(length)];
 
-            if (bytes_read == length)
+            for (int i = 0; i < segments.length; i++)
             {
-                data = bytes;
+                byte[] bytes = new byte[segmentLength(length, i)];
+                int bytes_read = inputStream.readNBytes(bytes, 0, bytes.length);
+
+                if (bytes_read != bytes.length)
+                {
+                    System.err.println("could not read entire file");
+                    return buff;
+                }
+
+                segments[i] = ByteBuffer.wrap(bytes);
             }
-            else
+
+            buff = new DCMBuff(segments, false);
+        }
+        catch (IOException ioe)
+        {
+            ioe.printStackTrace();
+        }
+
+        return buff;
+    }
+
+    // map the file read only; nothing is copied onto the heap until a chunk of it is asked for. The mapping outlives
+    // the channel, and is released when the buffers are garbage collected
+    public static DCMBuff mapBinaryDicomFile(String dcm_file)
+    {
+        DCMBuff buff = new DCMBuff(null, true);
+
+        try (FileChannel channel = FileChannel.open(Path.of(dcm_file), StandardOpenOption.READ))
+        {
+            long length = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[numSegments(length)];
+
+            for (int i = 0; i < segments.length; i++)
             {
-                System.err.println("could not read entire file");
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, (long) i * segment_size,
+                        segmentLength(length, i));
             }
 
-            inputStream.close();
+            buff = new DCMBuff(segments, true);
         }
         catch (IOException ioe)
         {
             ioe.printStackTrace();
         }
+
+        return buff;
+    }
+
+    private static int numSegments(long length)
+    {
+        return (int) ((length + segment_size - 1) >>> segment_shift);
+    }
+
+    private static int segmentLength(long length, int segment)
+    {
+        return (int) Math.min(segment_size, length - (long) segment * segment_size);
+    }
+
+    public boolean isLoaded()
+    {
+        return segments != null;
     }
 
-    public static boolean advance(int num_bytes)
+    public boolean advance(int num_bytes)
     {
         if (num_bytes < 0)
         {
@@ -63,30 +152,201 @@ public class DCMBuff
         return isValidBufferLocation();
     }
 
-    public static void setLocationAndRange(int location)
+    public void setLocationAndRange(long location)
     {
         buffer_location = location;
         buffer_range = location;
     }
 
+    public void setByteOrder(ByteOrder order)
+    {
+        byte_order = order;
+
+        if (segments != null)
+        {
+            for (ByteBuffer segment : segments)
+            {
+                segment.order(order);
+            }
+        }
+    }
+
+    // give the tag the value at the current location and range, as a view of this buffer
+    public void setTagValue(DicomTag tag)
+    {
+        tag.setValueSource(this, buffer_location);
+        tag.byteOrder = byte_order;
+    }
+
+    // a view of length bytes at location, without copying them when they lie within a single segment (which, at 1
+    // GB per segment, all but a value straddling a segment boundary do)
+    public ByteBuffer slice(long location, int length)
+    {
+        if (length == 0)
+        {
+            return ByteBuffer.allocate(0).order(byte_order);
+        }
+
+        ByteBuffer segment = segments[(int) (location >>> segment_shift)];
+        int offset = (int) (location & (segment_size - 1));
+
+        if (offset + length <= segment.limit())
+        {
+            return segment.slice(offset, length).order(segment.order());
+        }
+
+        return ByteBuffer.wrap(getChunk(location, location + length)).order(segment.order());
+    }
+
+    // absolute reads of a primitive at a location, no chunk is copied unless it straddles two segments
+    public short getShort(long location)
+    {
+        ByteBuffer segment = segments[(int) (location >>> segment_shift)];
+        int offset = (int) (location & (segment_size - 1));
+
+        if (offset + _2bytes <= segment.limit())
+        {
+            return segment.getShort(offset);
+        }
+
+        return ValueConversions.shortValue(getChunk(location, location + _2bytes), byte_order);
+    }
+
+    public int getInt(long location)
+    {
+        ByteBuffer segment = segments[(int) (location >>> segment_shift)];
+        int offset = (int) (location & (segment_size - 1));
+
+        if (offset + _4bytes <= segment.limit())
+        {
+            return segment.getInt(offset);
+        }
+
+        return ValueConversions.intValue(getChunk(location, location + _4bytes), byte_order);
+    }
+
+    public String getString(long location, int length)
+    {
+        if (length == 0)
+        {
+            return "";
+        }
+
+        ByteBuffer segment = segments[(int) (location >>> segment_shift)];
+        int offset = (int) (location & (segment_size - 1));
+
+        if (segment.hasArray() && offset + length <= segment.limit())
+        {
+            // decode straight from the heap segment
+            return new String(segment.array(), segment.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+
+        return dataChunkToString(getChunk(location, location + length));
+    }
+
+    // the bytes from location to the end, as a stream
+    public InputStream inputStream(long location)
+    {
+        return new InputStream()
+        {
+            private long position = location;
+
+            @Override
+            public int read()
+            {
+                return position < length ? getByte(position++) & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int num_bytes)
+            {
+                if (num_bytes == 0)
+                {
+                    return 0;
+                }
+                if (position >= length)
+                {
+                    return -1;
+                }
+
+                int to_read = (int) Math.min(num_bytes, length - position);
+                copy(position, bytes, offset, to_read);
+                position += to_read;
+                return to_read;
+            }
+        };
+    }
+
     // return buffer chunk based on current location and range of data
-    public static byte[] getChunk()
+    public byte[] getChunk()
     {
         return getChunk(buffer_location, buffer_range);
     }
 
-    // return buffer chunk based on any location (including current)
-    public static byte[] getChunk(int fromIndex, int toIndex)
+    // return buffer chunk based on any location (including current), copying across segments when need be
+    public byte[] getChunk(long fromIndex, long toIndex)
     {
-        return Arrays.copyOfRange(data, fromIndex, toIndex);
+        byte[] chunk = new byte[(int) (toIndex - fromIndex)];
+        copy(fromIndex, chunk, 0, chunk.length);
+        return chunk;
+    }
+
+    private void copy(long fromIndex, byte[] destination, int destination_offset, int length)
+    {
+        int copied = 0;
+
+        while (copied < length)
+        {
+            long location = fromIndex + copied;
+            ByteBuffer segment = segments[(int) (location >>> segment_shift)];
+            int offset = (int) (location & (segment_size - 1));
+            int to_copy = Math.min(length - copied, segment.limit() - offset);
+            if (to_copy <= 0)
+            {
+                // past the end of the bytes, e.g. a value length longer than what is left of a truncated file
+                throw new BufferUnderflowException();
+            }
+            segment.get(offset, destination, destination_offset + copied, to_copy);
+            copied += to_copy;
+        }
     }
 
 
     // Method assumes location and range have been set
-    public static String dataChunkToString()
+    public String dataChunkToString()
+    {
+        return getString(buffer_location, (int) (buffer_range - buffer_location));
+    }
+
+    // Method assumes location and range have been set to the 2 bytes of an explicit VR, answers the shared
+    // constant for any VR made of two upper case letters rather than a new String per tag
+    public String dataChunkToVR()
+    {
+        int first = getByte(buffer_location) - 'A';
+        int second = getByte(buffer_location + 1) - 'A';
+
+        if (first < 0 || first >= 26 || second < 0 || second >= 26)
+        {
+            return dataChunkToString();
+        }
+
+        int index = first * 26 + second;
+        String vr = vr_strings[index];
+
+        if (vr == null)
+        {
+            vr = String.valueOf(new char[]{(char) (first + 'A'), (char) (second + 'A')}).intern();
+            vr_strings[index] = vr;
+        }
+
+        return vr;
+    }
+
+    private static final String[] vr_strings = new String[26 * 26];
+
+    public byte getByte(long location)
     {
-        byte[] chunk = getChunk(buffer_location, buffer_range);
-        return dataChunkToString(chunk);
+        return segments[(int) (location >>> segment_shift)].get((int) (location & (segment_size - 1)));
     }
 
     public static String dataChunkToString(byte[] chunk)
@@ -106,16 +366,14 @@ public class DCMBuff
     }
 
     // Method assumes location and range have been set
-    public static int dataChunkToInt()
+    public int dataChunkToInt()
     {
-        byte[] chunk = getChunk(buffer_location, buffer_range);
-        return dataChunkToInt(chunk);
+        return getInt(buffer_location);
     }
 
-    public static long dataChunkToUnsignedInt()
+    public long dataChunkToUnsignedInt()
     {
-        byte[] chunk = getChunk(buffer_location, buffer_range);
-        return dataChunkToUnsignedInt(chunk);
+        return Integer.toUnsignedLong(getInt(buffer_location));
     }
 
     public static int dataChunkToInt(byte[] chunk)
@@ -128,16 +386,14 @@ public class DCMBuff
         return ValueConversions.unsignedIntValue(chunk);
     }
 
-    public static short dataChunkToShort()
+    public short dataChunkToShort()
     {
-        byte[] chunk = getChunk(buffer_location, buffer_range);
-        return dataChunkToShort(chunk);
+        return getShort(buffer_location);
     }
 
-    public static int dataChunkToUnsignedShort()
+    public int dataChunkToUnsignedShort()
     {
-        byte[] chunk = getChunk(buffer_location, buffer_range);
-        return dataChunkToUnsignedShort(chunk);
+        return Short.toUnsignedInt(getShort(buffer_location));
     }
 
     public static short dataChunkToShort(byte[] chunk)
@@ -150,8 +406,8 @@ public class DCMBuff
         return ValueConversions.unsignedShortValue(chunk);
     }
 
-    public static boolean isValidBufferLocation()
+    public boolean isValidBufferLocation()
     {
-        return buffer_range < data.length;
+        return buffer_range < length;
     }
 }
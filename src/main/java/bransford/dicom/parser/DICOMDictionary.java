@@ -1,70 +1,233 @@
 package bransford.dicom.parser;
 
 import java.io.*;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 
+// The data dictionary, as an immutable table sorted by packed tag: a lookup is a binary search over an int[], and
+// the DictionaryEntry at the same index is shared by every element of that tag that is parsed.
+//
+// The standard dictionary is compiled from dicom.dic at build time (see DictionaryCompiler) into the dicom.dict
+// resource, which is loaded from the classpath once and shared by every parser, so constructing a DicomParser costs
+// nothing. A dictionary can still be read from a dicom.dic style text file, for a site with its own private tags.
 public class DICOMDictionary
 {
-    private final HashMap<String, DicomTag> dictionary = new HashMap<>();
+    public static final String compiled_resource = "dicom.dict";
+    public static final String text_resource = "dicom.dic";
 
-    private final boolean writeInterface = false;
+    // "DICT", then a format version, at the head of the compiled resource
+    public static final int magic_number = 0x44494354;
+    public static final int format_version = 1;
 
+    private final int[] tags;
+    private final DictionaryEntry[] entries;
+
+    // loaded on first use, by the class loader, so no locking is needed
+    private static class Standard
+    {
+        static final DICOMDictionary dictionary = loadStandard();
+    }
+
+    // the standard dictionary, shared
+    public static DICOMDictionary standard()
+    {
+        return Standard.dictionary;
+    }
+
+    // read a dicom.dic style text file
     public DICOMDictionary(String dict)
     {
-        init(dict);
+        this(readText(dict));
+    }
+
+    private DICOMDictionary(DICOMDictionary table)
+    {
+        this(table.entries);
     }
 
-    private void init(String dict)
+    // entries sorted by tag
+    private DICOMDictionary(DictionaryEntry[] entries)
     {
-        BufferedReader reader;
-        DicomTag tag;
+        this.entries = entries;
+        tags = new int[entries.length];
+        for (int i = 0; i < entries.length; i++)
+        {
+            tags[i] = entries[i].tag;
+        }
+    }
 
-        try
+    private static DICOMDictionary loadStandard()
+    {
+        try (InputStream compiled = DICOMDictionary.class.getResourceAsStream(compiled_resource))
+        {
+            if (compiled != null)
+            {
+                return read(compiled);
+            }
+        }
+        catch (IOException ioe)
         {
-            reader = new BufferedReader(new FileReader(dict));
-            String line;
+            System.err.println("unable to load " + compiled_resource + ", reading " + text_resource);
+        }
 
-            while ((line = reader.readLine()) != null)
+        // not compiled, e.g. run from the sources, fall back to the text dictionary
+        try (InputStream text = DICOMDictionary.class.getResourceAsStream(text_resource))
+        {
+            if (text != null)
             {
-                if (line.contains("#") || line.contains("Tag"))
-                {
-                    continue;
-                }
-
-                tag = new DicomTag();
-                tag.initializeFromDict(line.split("\t"));
-                dictionary.put(tag.groupElementKey, tag);
+                return readText(new InputStreamReader(text, DCMBuff.ascii));
             }
+        }
+        catch (IOException ioe)
+        {
+            ioe.printStackTrace();
+        }
+
+        System.err.println("no DICOM dictionary on the classpath, all tags will be unknown");
+        return new DICOMDictionary(new DictionaryEntry[0]);
+    }
 
-            reader.close();
+    private static DICOMDictionary readText(String dict)
+    {
+        try (Reader reader = new FileReader(dict))
+        {
+            return readText(reader);
         }
-        catch (IOException e)
+        catch (IOException ioe)
         {
-            e.printStackTrace();
+            ioe.printStackTrace();
+            return new DICOMDictionary(new DictionaryEntry[0]);
         }
     }
 
-    public DicomTag get_tag(String grp, String ele)
+    private static DICOMDictionary readText(Reader dict) throws IOException
     {
-        String group_element_key = "(" + grp + "," + ele + ")";
-        DicomTag a_tag = get_tag_with_key(group_element_key);
+        BufferedReader reader = new BufferedReader(dict);
+        ArrayList<DictionaryEntry> entries = new ArrayList<>();
+        String line;
 
-        if (a_tag != null)
+        while ((line = reader.readLine()) != null)
         {
-            a_tag = DicomTag.copy(a_tag);
-            a_tag.initialize();
+            // comments, and the column header row; a name may well contain "Tag" (TagThickness, Tagging, ...)
+            if (line.contains("#") || line.startsWith("Tag\t"))
+            {
+                continue;
+            }
+
+            DictionaryEntry entry = DictionaryEntry.fromDict(line.split("\t"));
+
+            // repeating group ranges have no single tag to be keyed by
+            if (entry.tag != -1)
+            {
+                entries.add(entry);
+            }
         }
 
-        return a_tag;
+        // sorted unsigned, as the tags are compared in a lookup; a repeated tag keeps its first entry
+        entries.sort((a, b) -> Integer.compareUnsigned(a.tag, b.tag));
+
+        DictionaryEntry[] sorted = new DictionaryEntry[entries.size()];
+        int size = 0;
+
+        for (DictionaryEntry entry : entries)
+        {
+            if (size > 0 && sorted[size - 1].tag == entry.tag)
+            {
+                continue;
+            }
+
+            sorted[size++] = entry;
+        }
+
+        return new DICOMDictionary(Arrays.copyOf(sorted, size));
+    }
+
+    // read a dictionary in the compiled form written by write()
+    public static DICOMDictionary read(InputStream compiled) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(compiled));
+
+        if (in.readInt() != magic_number || in.readInt() != format_version)
+        {
+            throw new IOException("not a compiled DICOM dictionary, or compiled by another version");
+        }
+
+        DictionaryEntry[] entries = new DictionaryEntry[in.readInt()];
+
+        for (int i = 0; i < entries.length; i++)
+        {
+            entries[i] = new DictionaryEntry(in.readInt(), in.readUTF(), in.readUTF(), in.readInt());
+        }
+
+        return new DICOMDictionary(entries);
+    }
+
+    public void write(OutputStream compiled) throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(compiled));
+        out.writeInt(magic_number);
+        out.writeInt(format_version);
+        out.writeInt(tags.length);
+
+        for (DictionaryEntry entry : entries)
+        {
+            out.writeInt(entry.tag);
+            out.writeUTF(entry.VR);
+            out.writeUTF(entry.description);
+            out.writeInt(entry.multiplicity);
+        }
+
+        out.flush();
+    }
+
+    public int size()
+    {
+        return tags.length;
+    }
+
+    // the index of the tag in the table, or -1 if it is not in the dictionary
+    public int indexOf(int tag)
+    {
+        int low = 0;
+        int high = tags.length - 1;
+
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int compare = Integer.compareUnsigned(tags[mid], tag);
+
+            if (compare < 0)
+            {
+                low = mid + 1;
+            }
+            else if (compare > 0)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    // a new tag for each element read, referencing the shared entry; null if the tag is not in the dictionary
+    public DicomTag get_tag(int tag)
+    {
+        DictionaryEntry entry = get_entry(tag);
+        return entry == null ? null : new DicomTag(entry);
     }
 
-    public DicomTag get_tag_with_key(String  group_element_key)
+    public DictionaryEntry get_entry(int tag)
     {
-        return dictionary.get(group_element_key);
+        int index = indexOf(tag);
+        return index < 0 ? null : entries[index];
     }
 
-    public HashMap<String, DicomTag> getDictionary()
+    public DictionaryEntry entryAt(int index)
     {
-        return dictionary;
+        return entries[index];
     }
 }
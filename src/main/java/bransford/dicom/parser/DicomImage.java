@@ -1,9 +1,16 @@
 package bransford.dicom.parser;
 
 import java.io.FileOutputStream;
-import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 
 import bransford.jpeg.bit8.jpeglib8;
 import bransford.jpeg.bit12_16.jpeglib12_16;
@@ -12,8 +19,27 @@ import bransford.jpeg.bit12_16.Driver12_16;
 
 public class DicomImage
 {
+    // the frames of a compressed image are decompressed concurrently on an executor, the common pool unless set, e.g.
+    // to a virtual thread per task executor where there is one
+    public static Executor defaultDecompressExecutor = ForkJoinPool.commonPool();
+
+    // a driver decodes frame after frame, so each thread keeps its own rather than sharing one
+    private static final ThreadLocal<Driver8> driver8 = ThreadLocal.withInitial(Driver8::new);
+    private static final ThreadLocal<Driver12_16> driver12_16 = ThreadLocal.withInitial(Driver12_16::new);
+
+    // decompressed frames shared by every image, e.g. a FrameCache of a quarter of the heap for a viewer; null (the
+    // default) to decompress every time
+    public static FrameCache defaultFrameCache = null;
+
+    // display LUTs of the window presets in use, shared by every image; null to compile one each time
+    public static DisplayLutCache defaultDisplayLutCache = new DisplayLutCache(64);
+
     private final DicomObject dicomObject;
 
+    public Executor decompressExecutor = defaultDecompressExecutor;
+    public FrameCache frameCache = defaultFrameCache;
+    public DisplayLutCache displayLutCache = defaultDisplayLutCache;
+
     public int rows = 0;
     public int spp = 0;
     public int columns = 0;
@@ -22,8 +48,12 @@ public class DicomImage
     public String photometricInterpretation = null;
     public double windowWidth = 0.0;
     public double windowCenter = 0.0;
+    public double[] windowWidths = null;
+    public double[] windowCenters = null;
     public double rescaleIntercept = 0.0;
     public double rescaleSlope = 1.0;
+    // LINEAR, LINEAR_EXACT or SIGMOID; empty is LINEAR
+    public String voiLutFunction = null;
 
 
     public String pixelSpacing = null;
@@ -32,9 +62,15 @@ public class DicomImage
 
     public String transferSyntaxUID = null;
     public boolean isCompressed = false;
+    // native pixel data of a big endian transfer syntax is swapped to little endian, like every other, as it is read
+    public boolean isBigEndian = false;
     public int bitsAllocated = 0;
     public int bitsStored = 0;
     public int highBit = 0;
+    // 0 for samples interleaved pixel by pixel, 1 for a plane of each
+    public int planarConfiguration = 0;
+    // 0 for unsigned samples, 1 for two's complement
+    public int pixelRepresentation = 0;
 
     // bytes allocated per sample (1 for an 8-bit, 2 for 10/12/16-bit, 3 for 3 sample per pix color)
     public int bpp = 0;
@@ -63,6 +99,10 @@ public class DicomImage
 
     public byte[][] pixels = null;
 
+    // for each frame of encapsulated pixel data, the first and (exclusive) last fragment of it, numbered from 0 after
+    // the basic offset table item
+    private int[][] frameFragments = null;
+
     public DicomImage(DicomObject dicomObject)
     {
         this.dicomObject = dicomObject;
@@ -71,9 +111,9 @@ public class DicomImage
 
     private void initialize()
     {
-        rows = (int) ValueConversions.getNumericValue(getTag(DicomTags.Columns));
-        spp = (int) ValueConversions.getNumericValue(getTag(DicomTags.SamplesPerPixel));
-        columns = (int) ValueConversions.getNumericValue(getTag(DicomTags.Columns));
+        rows = intValue(DicomTags.Rows);
+        spp = intValue(DicomTags.SamplesPerPixel);
+        columns = intValue(DicomTags.Columns);
         numberOfFrames = ValueConversions.stringToInt(getTag(DicomTags.NumberOfFrames));
         if (numberOfFrames == 0)
         {
@@ -81,39 +121,28 @@ public class DicomImage
         }
 
         photometricInterpretation = stringValue(DicomTags.PhotometricInterpretation);
-        String ww = stringValue(DicomTags.WindowWidth);
-        if (ww != null && !ww.isEmpty())
-        {
-            windowWidth = new BigDecimal(ww).doubleValue();
-        }
+        // a window width and center for each preset, the first is the default
+        windowWidths = doubleValues(DicomTags.WindowWidth);
+        windowCenters = doubleValues(DicomTags.WindowCenter);
+        windowWidth = windowWidths.length > 0 ? windowWidths[0] : 0.0;
+        windowCenter = windowCenters.length > 0 ? windowCenters[0] : 0.0;
 
-        String wc = stringValue(DicomTags.WindowCenter);
-        if (wc != null && !wc.isEmpty())
-        {
-            windowCenter = new BigDecimal(wc).doubleValue();
-        }
+        rescaleIntercept = doubleValue(DicomTags.RescaleIntercept, 0.0);
+        rescaleSlope = doubleValue(DicomTags.RescaleSlope, 1.0);
+        voiLutFunction = stringValue(DicomTags.VOILUTFunction);
 
-        String ri = stringValue(DicomTags.RescaleIntercept);
-        if (ri != null && !ri.isEmpty())
-        {
-            rescaleIntercept = new BigDecimal(ri).doubleValue();
-        }
-
-        cineRate = (int) ValueConversions.getNumericValue(getTag(DicomTags.CineRate));
+        cineRate = intValue(DicomTags.CineRate);
 
-        String rs = stringValue(DicomTags.RescaleSlope);
-        if (rs != null && !rs.isEmpty())
-        {
-            rescaleSlope = new BigDecimal(rs).doubleValue();
-        }
-
-        transferSyntaxUID = stringValue(DicomTags.PatientName);
+        transferSyntaxUID = stringValue(DicomTags.TransferSyntaxUID);
         DicomTag transferSyntaxTag = getTag(DicomTags.TransferSyntaxUID);
         isCompressed = transferSyntaxTag.isCompressed;
+        isBigEndian = transferSyntaxTag.isBigEndian;
 
-        bitsAllocated = (int) ValueConversions.getNumericValue(getTag(DicomTags.BitsAllocated));
-        bitsStored = (int) ValueConversions.getNumericValue(getTag(DicomTags.BitsStored));
-        highBit = (int) ValueConversions.getNumericValue(getTag(DicomTags.HighBit));
+        bitsAllocated = intValue(DicomTags.BitsAllocated);
+        bitsStored = intValue(DicomTags.BitsStored);
+        highBit = intValue(DicomTags.HighBit);
+        planarConfiguration = intValue(DicomTags.PlanarConfiguration);
+        pixelRepresentation = intValue(DicomTags.PixelRepresentation);
         pixelSpacing = stringValue(DicomTags.PixelSpacing);
         bpp = (bitsAllocated / 8) * spp;
 
@@ -140,10 +169,10 @@ public class DicomImage
 
     public byte[][] getPixelData(boolean decompress)
     {
-        DicomTag tag = getTag(DicomTags.PixelData);
+        DicomTag tag = pixelDataTag();
 
-        // number of bytes in a row
-        int stride = columns * bpp;
+        // number of bytes in a frame
+        int stride = rows * columns * bpp;
 
         byte[][] rawPixels = null;
 
@@ -152,22 +181,19 @@ public class DicomImage
             // should be encapsulated
             if (tag.hasSubsequence())
             {
-                ArrayList<DicomTag> subsequence = tag.subsequence;
-
-                if (numberOfFrames == subsequence.size() - 2)
+                int[][] fragments = frameFragments(tag.subsequence);
+                if (decompress)
                 {
-                    rawPixels = new byte[numberOfFrames][];
-                }
-                else
-                {
-                    System.err.println("number of frames doesn't match what is in the DICOM header");
-                    rawPixels = new byte[subsequence.size() - 2][];
+                    int[] frames = new int[fragments.length];
+                    Arrays.setAll(frames, i -> i);
+                    pixels = decompressedFrames(tag.subsequence, fragments, frames, frameCache);
+                    return pixels;
                 }
 
-                // clip offsets and sequence delimiter; [offset, byte[], byte[], ..., SQ delim]
-                for (int i = 1, j = 0; i < subsequence.size() - 1; i++, j++)
+                rawPixels = new byte[fragments.length][];
+                for (int i = 0; i < fragments.length; i++)
                 {
-                    rawPixels[j] = subsequence.get(i).rawValue;
+                    rawPixels[i] = compressedFrame(tag.subsequence, fragments[i]);
                 }
             }
             else
@@ -179,25 +205,769 @@ public class DicomImage
         }
         else
         {
-            pixels = ValueConversions.chunkByteArray(stride, tag.valueOB, numberOfFrames);
+            // copy each frame straight out of the source, rather than the whole value and then again per frame
+            rawPixels = new byte[numberOfFrames][];
+            for (int i = 0; i < numberOfFrames; i++)
+            {
+                rawPixels[i] = nativeFrame(tag, i, stride);
+            }
+        }
+
+        pixels = rawPixels;
+
+        return pixels;
+    }
+
+    // frame n (from 0) alone, decompressed: only the fragments holding it, found through the offset tables, are read
+    // and decoded, unless it is in frameCache. Native frames are copied out of the pixel data
+    public byte[] getFrame(int frame)
+    {
+        if (frame < 0 || frame >= numberOfFrames)
+        {
+            throw new IndexOutOfBoundsException("frame " + frame + " of " + numberOfFrames);
+        }
+
+        DicomTag tag = pixelDataTag();
+
+        if (!isCompressed)
+        {
+            return nativeFrame(tag, frame, rows * columns * bpp);
+        }
+
+        if (!tag.hasSubsequence())
+        {
+            System.err.println("improperly formatted compressed pixel data; " +
+                    "should be encapsulated");
+            return null;
+        }
+
+        int[][] fragments = frameFragments(tag.subsequence);
+        if (frame >= fragments.length)
+        {
+            System.err.println("frame " + frame + " is not in the encapsulated pixel data");
+            return null;
+        }
+
+        byte[][] decompressed = decompressedFrames(tag.subsequence, fragments, new int[]{frame}, frameCache);
+        return decompressed == null ? null : decompressed[0];
+    }
+
+    // the pixel data, which must have been read: a stream parse skips a value too large for its window, and a header
+    // only parse (stop_at_tag, skip_bulk_data) never reads it
+    private DicomTag pixelDataTag()
+    {
+        DicomTag tag = getTag(DicomTags.PixelData);
+        if (tag == null)
+        {
+            throw new IllegalStateException("there is no pixel data, or the parse stopped before it (stop_at_tag)");
+        }
+
+        boolean skipped = tag.isValueSkipped();
+        if (tag.hasSubsequence())
+        {
+            for (DicomTag item : tag.subsequence)
+            {
+                skipped |= item.isItem && item.isValueSkipped();
+            }
+        }
+
+        if (skipped)
+        {
+            throw new IllegalStateException("the pixel data was skipped, not read, in this parse (a stream, or "
+                    + "skip_bulk_data); parse the whole object to get its frames");
+        }
+
+        return tag;
+    }
+
+    // the frames asked for, out of the cache (if any) where they are, the rest read, decompressed together and cached
+    private byte[][] decompressedFrames(ArrayList<DicomTag> items, int[][] fragments, int[] frames, FrameCache cache)
+    {
+        byte[][] decompressed = new byte[frames.length][];
+        if (SOPInstanceUID == null || SOPInstanceUID.isEmpty())
+        {
+            cache = null;
+        }
+
+        int stride = rows * columns * bpp;
+        int[] missing = new int[frames.length];
+        int numMissing = 0;
+        for (int i = 0; i < frames.length; i++)
+        {
+            decompressed[i] = cache == null ? null : cache.get(frameKey(frames[i]));
+            if (decompressed[i] != null && decompressed[i].length != stride)
+            {
+                // not a frame of this image whatever the key says, decoded again and replaced
+                decompressed[i] = null;
+            }
+            if (decompressed[i] == null)
+            {
+                missing[numMissing++] = i;
+            }
+        }
+
+        if (numMissing == 0)
+        {
+            return decompressed;
+        }
+
+        byte[][] compressed = new byte[numMissing][];
+        for (int i = 0; i < numMissing; i++)
+        {
+            compressed[i] = compressedFrame(items, fragments[frames[missing[i]]]);
+        }
+
+        byte[][] decoded = decompress(compressed);
+        if (decoded == null)
+        {
+            return null;
+        }
+
+        for (int i = 0; i < numMissing; i++)
+        {
+            decompressed[missing[i]] = decoded[i];
+            if (cache != null)
+            {
+                cache.put(frameKey(frames[missing[i]]), decoded[i]);
+            }
+        }
+
+        return decompressed;
+    }
+
+    private FrameCache.Key frameKey(int frame)
+    {
+        return new FrameCache.Key(SOPInstanceUID, transferSyntaxUID, rows, columns, bitsAllocated, spp, frame);
+    }
+
+    // every frame in a direct buffer from pool, little endian like getPixelData(true), to be released back to the pool
+    // when done with. Native frames are copied straight from the file into their buffers; compressed ones are
+    // decompressed a batch at a time (a frame for each processor) and copied out, so no more than a batch of frames is
+    // ever on the heap. They are not put in (or taken from) frameCache, which is on the heap
+    public ByteBuffer[] getPixelBuffers(PixelBufferPool pool)
+    {
+        DicomTag tag = pixelDataTag();
+
+        if (!isCompressed)
+        {
+            ByteBuffer[] buffers = new ByteBuffer[numberOfFrames];
+            try
+            {
+                for (int i = 0; i < numberOfFrames; i++)
+                {
+                    buffers[i] = nativeFrameBuffer(tag, i, pool);
+                }
+            }
+            catch (RuntimeException e)
+            {
+                // the frames already copied go back to the pool, the caller never sees them to release
+                pool.release(buffers);
+                throw e;
+            }
+
+            return buffers;
+        }
+
+        if (!tag.hasSubsequence())
+        {
+            System.err.println("improperly formatted compressed pixel data; " +
+                    "should be encapsulated");
+            return null;
+        }
+
+        int[][] fragments = frameFragments(tag.subsequence);
+        ByteBuffer[] buffers = new ByteBuffer[fragments.length];
+        int batch = Runtime.getRuntime().availableProcessors();
+
+        try
+        {
+            for (int first = 0; first < fragments.length; first += batch)
+            {
+                byte[][] compressed = new byte[Math.min(batch, fragments.length - first)][];
+                for (int i = 0; i < compressed.length; i++)
+                {
+                    compressed[i] = compressedFrame(tag.subsequence, fragments[first + i]);
+                }
+
+                byte[][] decompressed = decompress(compressed);
+                if (decompressed == null)
+                {
+                    pool.release(buffers);
+                    return null;
+                }
+
+                for (int i = 0; i < decompressed.length; i++)
+                {
+                    buffers[first + i] = pool.acquire(decompressed[i].length).put(decompressed[i]).flip();
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            // a frame that won't decompress, the buffers of the batches before it go back to the pool
+            pool.release(buffers);
+            throw e;
+        }
+
+        return buffers;
+    }
+
+    // frame n (from 0) alone in a direct buffer from pool, as getPixelBuffers
+    public ByteBuffer getFrameBuffer(int frame, PixelBufferPool pool)
+    {
+        if (frame < 0 || frame >= numberOfFrames)
+        {
+            throw new IndexOutOfBoundsException("frame " + frame + " of " + numberOfFrames);
+        }
+
+        if (!isCompressed)
+        {
+            return nativeFrameBuffer(pixelDataTag(), frame, pool);
+        }
+
+        DicomTag tag = pixelDataTag();
+        if (!tag.hasSubsequence())
+        {
+            System.err.println("improperly formatted compressed pixel data; " +
+                    "should be encapsulated");
+            return null;
+        }
+
+        int[][] fragments = frameFragments(tag.subsequence);
+        if (frame >= fragments.length)
+        {
+            System.err.println("frame " + frame + " is not in the encapsulated pixel data");
+            return null;
+        }
+
+        byte[][] decompressed = decompressedFrames(tag.subsequence, fragments, new int[]{frame}, null);
+        return decompressed == null ? null : pool.acquire(decompressed[0].length).put(decompressed[0]).flip();
+    }
+
+    private ByteBuffer nativeFrameBuffer(DicomTag tag, int frame, PixelBufferPool pool)
+    {
+        int stride = rows * columns * bpp;
+        ByteBuffer pixels = tag.getValueBuffer((long) frame * stride, stride);
+        ByteBuffer buffer = pool.acquire(stride);
+
+        // swapped to little endian as they are copied
+        if (isBigEndian && bitsAllocated == 16)
+        {
+            buffer.asShortBuffer().put(pixels.order(ByteOrder.BIG_ENDIAN).asShortBuffer());
+        }
+        else if (isBigEndian && bitsAllocated == 32)
+        {
+            buffer.asIntBuffer().put(pixels.order(ByteOrder.BIG_ENDIAN).asIntBuffer());
+        }
+        else
+        {
+            buffer.put(pixels).flip();
+        }
+
+        return buffer;
+    }
+
+    // frame n's samples (interleaved as the frame is), each the bitsStored bits up to highBit, sign extended if
+    // pixelRepresentation is 1. For 8 and 16 bits allocated; an unsigned 16 bit sample over 32767 is the short of the
+    // same bits, to be read with & 0xFFFF
+    public short[] getFrameAsShorts(int frame)
+    {
+        if (bitsAllocated != 8 && bitsAllocated != 16)
+        {
+            throw new IllegalStateException("samples of " + bitsAllocated + " bits allocated don't fit in shorts");
+        }
+
+        byte[] pixels = getFrame(frame);
+        if (pixels == null)
+        {
+            return null;
+        }
+
+        int shiftLeft = 31 - storedHighBit();
+        int shiftRight = 32 - storedBits();
+        short[] samples;
+
+        if (bitsAllocated == 8)
+        {
+            samples = new short[pixels.length];
+            if (pixelRepresentation == 1)
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = (short) (((pixels[i] & 0xFF) << shiftLeft) >> shiftRight);
+                }
+            }
+            else
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = (short) (((pixels[i] & 0xFF) << shiftLeft) >>> shiftRight);
+                }
+            }
+
+            return samples;
+        }
+
+        samples = new short[pixels.length / 2];
+        ByteBuffer.wrap(pixels).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+        if (shiftLeft == 16 && shiftRight == 16)
+        {
+            // all 16 bits stored, they already are the samples
+            return samples;
+        }
+
+        if (pixelRepresentation == 1)
+        {
+            for (int i = 0; i < samples.length; i++)
+            {
+                samples[i] = (short) (((samples[i] & 0xFFFF) << shiftLeft) >> shiftRight);
+            }
+        }
+        else
+        {
+            for (int i = 0; i < samples.length; i++)
+            {
+                samples[i] = (short) (((samples[i] & 0xFFFF) << shiftLeft) >>> shiftRight);
+            }
+        }
+
+        return samples;
+    }
+
+    // frame n's samples as getFrameAsShorts, for 8, 16 and 32 bits allocated, unsigned 16 bit samples as they are. An
+    // unsigned 32 bit sample over 2^31 - 1 is the int of the same bits
+    public int[] getFrameAsInts(int frame)
+    {
+        if (bitsAllocated != 8 && bitsAllocated != 16 && bitsAllocated != 32)
+        {
+            throw new IllegalStateException("samples of " + bitsAllocated + " bits allocated aren't supported");
+        }
+
+        byte[] pixels = getFrame(frame);
+        if (pixels == null)
+        {
+            return null;
+        }
+
+        int shiftLeft = 31 - storedHighBit();
+        int shiftRight = 32 - storedBits();
+        int[] samples = new int[pixels.length / (bitsAllocated / 8)];
+
+        if (bitsAllocated == 32)
+        {
+            ByteBuffer.wrap(pixels).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(samples);
+            if (pixelRepresentation == 1)
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = (samples[i] << shiftLeft) >> shiftRight;
+                }
+            }
+            else
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = (samples[i] << shiftLeft) >>> shiftRight;
+                }
+            }
+
+            return samples;
+        }
+
+        if (bitsAllocated == 16)
+        {
+            short[] shorts = new short[samples.length];
+            ByteBuffer.wrap(pixels).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(shorts);
+            if (pixelRepresentation == 1)
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = ((shorts[i] & 0xFFFF) << shiftLeft) >> shiftRight;
+                }
+            }
+            else
+            {
+                for (int i = 0; i < samples.length; i++)
+                {
+                    samples[i] = ((shorts[i] & 0xFFFF) << shiftLeft) >>> shiftRight;
+                }
+            }
+
+            return samples;
         }
 
-        if (decompress && isCompressed)
+        if (pixelRepresentation == 1)
         {
-            pixels = decompress(rawPixels);
+            for (int i = 0; i < samples.length; i++)
+            {
+                samples[i] = ((pixels[i] & 0xFF) << shiftLeft) >> shiftRight;
+            }
         }
         else
         {
-            pixels = rawPixels;
+            for (int i = 0; i < samples.length; i++)
+            {
+                samples[i] = ((pixels[i] & 0xFF) << shiftLeft) >>> shiftRight;
+            }
+        }
+
+        return samples;
+    }
+
+    // the display LUT of the image's first window, else of its first VOI LUT, else null, for getDisplayFrame to fit
+    // a window to each frame
+    public DisplayLut getDisplayLut()
+    {
+        if (windowWidth > 0)
+        {
+            return getDisplayLut(windowCenter, windowWidth);
+        }
+
+        return voiLutSequenceLut();
+    }
+
+    // a window of the image's VOI LUT function over its rescaled values, out of displayLutCache if another image
+    // with the same stored bits and rescale has already used it
+    public DisplayLut getDisplayLut(double center, double width)
+    {
+        if (displayLutCache != null)
+        {
+            return displayLutCache.get(storedBits(), pixelRepresentation == 1, rescaleSlope, rescaleIntercept, center,
+                    width, voiLutFunction, isMonochrome1());
+        }
+
+        return new DisplayLut(storedBits(), pixelRepresentation == 1, rescaleSlope, rescaleIntercept, center, width,
+                voiLutFunction, isMonochrome1());
+    }
+
+    // frame n as 8 bit grey scale display values, through getDisplayLut(), or if the image has neither window nor VOI
+    // LUT, a window over the frame's range of values
+    public byte[] getDisplayFrame(int frame)
+    {
+        DisplayLut lut = getDisplayLut();
+        if (lut != null)
+        {
+            return getDisplayFrame(frame, lut);
+        }
+
+        checkGreyScale();
+        int[] samples = getFrameAsInts(frame);
+        if (samples == null)
+        {
+            return null;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int sample : samples)
+        {
+            min = Math.min(min, sample);
+            max = Math.max(max, sample);
+        }
+
+        double low = Math.min(min * rescaleSlope, max * rescaleSlope) + rescaleIntercept;
+        double high = Math.max(min * rescaleSlope, max * rescaleSlope) + rescaleIntercept;
+        // fitted to this frame alone, not one to cache
+        return new DisplayLut(storedBits(), pixelRepresentation == 1, rescaleSlope, rescaleIntercept,
+                (low + high + 1) / 2, high - low + 1, voiLutFunction, isMonochrome1()).render(samples);
+    }
+
+    // frame n as 8 bit grey scale display values, through lut, which must be for the image's stored bits and sign
+    public byte[] getDisplayFrame(int frame, DisplayLut lut)
+    {
+        checkGreyScale();
+
+        boolean signed = pixelRepresentation == 1;
+        if (lut.bits_stored != storedBits() || lut.signed != signed)
+        {
+            throw new IllegalArgumentException("a display LUT for " + lut.bits_stored + " bit "
+                    + (lut.signed ? "signed" : "unsigned") + " samples, the image's are " + storedBits() + " bit "
+                    + (signed ? "signed" : "unsigned"));
+        }
+
+        if (lut.table != null && bitsAllocated <= 16)
+        {
+            short[] samples = getFrameAsShorts(frame);
+            return samples == null ? null : lut.render(samples);
+        }
+
+        int[] samples = getFrameAsInts(frame);
+        return samples == null ? null : lut.render(samples);
+    }
+
+    private void checkGreyScale()
+    {
+        if (photometricInterpretation == null || !photometricInterpretation.startsWith("MONOCHROME"))
+        {
+            throw new IllegalStateException("display LUTs are for grey scale (MONOCHROME1/2) images, not "
+                    + photometricInterpretation);
+        }
+    }
+
+    public boolean isMonochrome1()
+    {
+        return "MONOCHROME1".equals(photometricInterpretation);
+    }
+
+    // the first LUT of the VOI LUT sequence, null if there isn't one
+    private DisplayLut voiLutSequenceLut()
+    {
+        DicomTag sequence = getTag(DicomTags.VOILUTSequence);
+        if (sequence == null || !sequence.hasSubsequence())
+        {
+            return null;
+        }
+
+        for (DicomTag item : sequence.subsequence)
+        {
+            if (!item.isItem || !item.hasSubsequence())
+            {
+                continue;
+            }
+
+            DicomTag descriptor = null;
+            DicomTag data = null;
+            for (DicomTag tag : item.subsequence)
+            {
+                if (tag.tag == DicomTags.LUTDescriptor)
+                {
+                    descriptor = tag;
+                }
+                else if (tag.tag == DicomTags.LUTData)
+                {
+                    data = tag;
+                }
+            }
+
+            if (descriptor == null || data == null || descriptor.getValueLength() < 6)
+            {
+                continue;
+            }
+
+            // US or SS, OW or US, and in implicit VR files only the dictionary's xs and lt: read them as words
+            int[] lutDescriptor = unsignedShorts(descriptor);
+            int[] entries = unsignedShorts(data);
+            int numEntries = lutDescriptor[0] == 0 ? 65536 : lutDescriptor[0];
+            if (entries.length > numEntries)
+            {
+                entries = Arrays.copyOf(entries, numEntries);
+            }
+
+            if (entries.length > 0)
+            {
+                return new DisplayLut(storedBits(), pixelRepresentation == 1, rescaleSlope, rescaleIntercept,
+                        lutDescriptor, entries, isMonochrome1());
+            }
+        }
+
+        return null;
+    }
+
+    private static int[] unsignedShorts(DicomTag tag)
+    {
+        ByteBuffer value = tag.getValueBuffer();
+        int[] values = new int[value.remaining() / 2];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = value.getShort(value.position() + i * 2) & 0xFFFF;
+        }
+
+        return values;
+    }
+
+    // bits stored, all of those allocated if the header has no (or a nonsensical) value
+    private int storedBits()
+    {
+        return bitsStored > 0 && bitsStored <= bitsAllocated ? bitsStored : bitsAllocated;
+    }
+
+    // the high bit, one below the stored bits if the header has no (or a nonsensical) value
+    private int storedHighBit()
+    {
+        int stored = storedBits();
+        return highBit >= stored - 1 && highBit < bitsAllocated ? highBit : stored - 1;
+    }
+
+    private byte[] nativeFrame(DicomTag tag, int frame, int stride)
+    {
+        byte[] pixels = tag.getRawValue((long) frame * stride, stride);
+        if (isBigEndian && bitsAllocated > 8)
+        {
+            ValueConversions.swapByteOrder(pixels, bitsAllocated / 8);
         }
 
         return pixels;
     }
 
+    // the bytes of a frame, joined up if it is split across fragments
+    private static byte[] compressedFrame(ArrayList<DicomTag> items, int[] fragments)
+    {
+        if (fragments[1] - fragments[0] == 1)
+        {
+            return items.get(fragments[0] + 1).getRawValue();
+        }
+
+        int length = 0;
+        for (int i = fragments[0]; i < fragments[1]; i++)
+        {
+            length += items.get(i + 1).getValueLength();
+        }
+
+        byte[] frame = new byte[length];
+        for (int i = fragments[0], offset = 0; i < fragments[1]; i++)
+        {
+            byte[] fragment = items.get(i + 1).getRawValue();
+            System.arraycopy(fragment, 0, frame, offset, fragment.length);
+            offset += fragment.length;
+        }
+
+        return frame;
+    }
+
+    // items: [basic offset table, fragment, fragment, ..., sequence delimiter]. The frames are found from the extended
+    // offset table if there is one, else the basic offset table if it is not empty, else a fragment a frame if the
+    // counts agree, all the fragments if there is one frame, or a fragment starting a JPEG stream (SOI) a frame
+    private int[][] frameFragments(ArrayList<DicomTag> items)
+    {
+        if (frameFragments != null)
+        {
+            return frameFragments;
+        }
+
+        int numFragments = items.size() - 2;
+
+        // where each fragment's item starts, from the first fragment's; one more, where the pixel data ends
+        long[] fragmentOffsets = new long[numFragments + 1];
+        for (int i = 0; i < numFragments; i++)
+        {
+            fragmentOffsets[i + 1] = fragmentOffsets[i] + 8 + items.get(i + 1).getValueLength();
+        }
+
+        int[][] fragments = null;
+        long[] frameOffsets = null;
+
+        // the extended table's lengths (7FE0,0002) are not needed, a frame runs to the next one's offset
+        DicomTag extendedOffsets = getTag(DicomTags.ExtendedOffsetTable);
+        if (extendedOffsets != null && extendedOffsets.getValueLength() > 0)
+        {
+            frameOffsets = extendedOffsets.getLongs();
+        }
+        else if (items.get(0).getValueLength() > 0)
+        {
+            ByteBuffer table = items.get(0).getValueBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            frameOffsets = new long[table.remaining() / 4];
+            for (int i = 0; i < frameOffsets.length; i++)
+            {
+                frameOffsets[i] = table.getInt(i * 4) & 0xFFFFFFFFL;
+            }
+        }
+
+        if (frameOffsets != null)
+        {
+            fragments = fragmentsAt(frameOffsets, fragmentOffsets);
+        }
+
+        if (fragments == null)
+        {
+            fragments = fragmentsWithoutTable(items, numFragments);
+        }
+
+        frameFragments = fragments;
+        return fragments;
+    }
+
+    // the fragments from each frame offset up to the next, the last frame's up to the end of the pixel data
+    private int[][] fragmentsAt(long[] frameOffsets, long[] fragmentOffsets)
+    {
+        int numFragments = fragmentOffsets.length - 1;
+        if (frameOffsets.length != numberOfFrames)
+        {
+            System.err.println("offset table has " + frameOffsets.length + " frames, the header " + numberOfFrames);
+            return null;
+        }
+
+        int[][] fragments = new int[frameOffsets.length][];
+        for (int frame = 0; frame < frameOffsets.length; frame++)
+        {
+            int first = Arrays.binarySearch(fragmentOffsets, 0, numFragments, frameOffsets[frame]);
+            if (first < 0)
+            {
+                System.err.println("offset table entry " + frameOffsets[frame] + " is not the start of a fragment");
+                return null;
+            }
+
+            long end = frame + 1 < frameOffsets.length ? frameOffsets[frame + 1] : fragmentOffsets[numFragments];
+
+            int last = first + 1;
+            while (last < numFragments && fragmentOffsets[last] < end)
+            {
+                last++;
+            }
+            fragments[frame] = new int[]{first, last};
+        }
+
+        return fragments;
+    }
+
+    private int[][] fragmentsWithoutTable(ArrayList<DicomTag> items, int numFragments)
+    {
+        if (numFragments == numberOfFrames || numFragments == 0)
+        {
+            return oneFragmentAFrame(numFragments);
+        }
+
+        if (numberOfFrames == 1)
+        {
+            return new int[][]{{0, numFragments}};
+        }
+
+        // a frame starts with the JPEG start of image marker, the fragments after it up to the next are the rest of it
+        ArrayList<int[]> frames = new ArrayList<>();
+        for (int i = 0; i < numFragments; i++)
+        {
+            byte[] start = items.get(i + 1).getRawValue(2);
+            boolean soi = start != null && start.length >= 2 && start[0] == (byte) 0xFF && start[1] == (byte) 0xD8;
+            if (soi || frames.isEmpty())
+            {
+                frames.add(new int[]{i, i + 1});
+            }
+            else
+            {
+                frames.get(frames.size() - 1)[1] = i + 1;
+            }
+        }
+
+        if (frames.size() == numberOfFrames)
+        {
+            return frames.toArray(new int[0][]);
+        }
+
+        System.err.println("number of frames doesn't match what is in the DICOM header");
+        return oneFragmentAFrame(numFragments);
+    }
+
+    private static int[][] oneFragmentAFrame(int numFragments)
+    {
+        int[][] fragments = new int[numFragments][];
+        for (int i = 0; i < numFragments; i++)
+        {
+            fragments[i] = new int[]{i, i + 1};
+        }
+
+        return fragments;
+    }
+
     public byte[][] decompress(byte[][] pixels)
     {
         byte[][] decompressedPixels = null;
 
+        if (RleDecoder.rle_lossless.equals(transferSyntaxUID))
+        {
+            // a fragment per frame, decoded with no help from the JPEG drivers
+            return decompressFrames(pixels, i -> RleDecoder.decode(pixels[i], rows, columns, spp, bitsAllocated,
+                    planarConfiguration));
+        }
+
         if (bitsAllocated == 8)
         {
             jpeglib8.J_COLOR_SPACE ijgPhotometricInterpretation = jpeglib8.J_COLOR_SPACE.JCS_UNKNOWN;
@@ -228,9 +998,9 @@ public class DicomImage
                 }
             }
 
-            ArrayList<HashMap<String, Integer>> imageCharacteristics = new ArrayList<>();
-            Driver8 decompressor = new Driver8();
-            decompressedPixels = decompressor.decompress8(pixels, ijgPhotometricInterpretation, imageCharacteristics);
+            jpeglib8.J_COLOR_SPACE colorSpace = ijgPhotometricInterpretation;
+            decompressedPixels = decompressFrames(pixels, i -> driver8.get().decompress8(new byte[][]{pixels[i]},
+                    colorSpace, new ArrayList<HashMap<String, Integer>>())[0]);
         }
         else if(bitsAllocated == 10 || bitsAllocated == 12 || bitsAllocated == 16)
         {
@@ -262,36 +1032,88 @@ public class DicomImage
                 }
             }
 
-            ArrayList<HashMap<String, Integer>> imageCharacteristics = new ArrayList<>();
-            Driver12_16 decompressor = new Driver12_16();
-            decompressedPixels = decompressor.decompress12_16(pixels, ijgPhotometricInterpretation, imageCharacteristics);
+            jpeglib12_16.J_COLOR_SPACE colorSpace = ijgPhotometricInterpretation;
+            decompressedPixels = decompressFrames(pixels, i -> driver12_16.get().decompress12_16(
+                    new byte[][]{pixels[i]}, colorSpace, new ArrayList<HashMap<String, Integer>>())[0]);
         }
 
-        writeRawData("/Users/m056084/dicom/color_problems/xc_java.pix", decompressedPixels[0]);
         return decompressedPixels;
     }
 
-    public DicomTag getTag(String grp_element_key)
+    // each frame decompressed as a task of decompressExecutor, gathered back in frame order. A single frame is
+    // decompressed on the calling thread
+    private byte[][] decompressFrames(byte[][] pixels, IntFunction<byte[]> decompressFrame)
     {
-        DicomTag tag = dicomObject.get_dicom_tag(grp_element_key);
-        if (tag != null)
+        byte[][] frames = new byte[pixels.length][];
+        if (pixels.length == 1)
         {
-            tag.isValueCalculated();
+            frames[0] = decompressFrame.apply(0);
+            return frames;
         }
 
-        return tag;
+        ArrayList<CompletableFuture<byte[]>> tasks = new ArrayList<>(pixels.length);
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int frame = i;
+            tasks.add(CompletableFuture.supplyAsync(() -> decompressFrame.apply(frame), decompressExecutor));
+        }
+
+        try
+        {
+            for (int i = 0; i < frames.length; i++)
+            {
+                frames[i] = tasks.get(i).join();
+            }
+        }
+        catch (CompletionException e)
+        {
+            // the decompressor's own exception, rather than the wrapper
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return frames;
+    }
+
+    public DicomTag getTag(int tag_id)
+    {
+        // the value is decoded when it is read, not here
+        return dicomObject.get_dicom_tag(tag_id);
+    }
+
+    // the first value of a binary numeric or IS tag, 0 if the tag is missing
+    public int intValue(int tag_id)
+    {
+        DicomTag tag = getTag(tag_id);
+        return tag == null ? 0 : tag.getInt();
+    }
+
+    // the first value of a DS (or other numeric) tag, missing_value if the tag or its value is missing
+    public double doubleValue(int tag_id, double missing_value)
+    {
+        DicomTag tag = getTag(tag_id);
+        return tag == null || tag.getValueLength() == 0 ? missing_value : tag.getDouble();
+    }
+
+    public double[] doubleValues(int tag_id)
+    {
+        DicomTag tag = getTag(tag_id);
+        return tag == null ? new double[0] : tag.getDoubles().clone();
     }
 
-    public String stringValue(String grp_element_key)
+    public String stringValue(int tag_id)
     {
-        DicomTag tag = getTag(grp_element_key);
+        DicomTag tag = getTag(tag_id);
         if (tag == null)
         {
             return "";
         }
         else
         {
-            return tag.valueString;
+            return tag.getValueString();
         }
     }
 
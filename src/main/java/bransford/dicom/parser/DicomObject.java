@@ -1,53 +1,28 @@
 package bransford.dicom.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
-// A DicomImage is represented as a DicomObject, storing all tags as doubly linked list of TagNode
-// Objects, where the TagNode wraps an individual DicomTag. Linked list preserves sequence of tags
-// The other mechanism of storage is each tage in a Hash map, for fast retrieval
+// A DicomImage is represented as a DicomObject, storing all tags in a TagMap, keyed by the packed tag. The map keeps
+// the sequence the tags were read in (for dumping), and answers a lookup by tag in constant time
 public class DicomObject
 {
-    public HashMap<String, DicomTag> tags = new HashMap<>();
-    public TagNode head = null;
-    public TagNode tail = null;
+    public TagMap tags = new TagMap();
 
     public void put(DicomTag tag)
     {
-        DicomTag cache_item = tags.get(tag.groupElementKey);
-
-        if (cache_item == null)
-        {
-            add_tag(new TagNode(tag));
-            tags.put(tag.groupElementKey, tag);
-        }
-        // else is a duplicate key, ignore
+        // a duplicate key is ignored
+        tags.putIfAbsent(tag.tag, tag);
     }
 
-    public void add_tag(TagNode node)
+    public DicomTag get_dicom_tag(int tag)
     {
-        if (node == null)
-        {
-            return;
-        }
-
-        if (head == null)
-        {
-            tail = node;
-            head = node;
-        }
-        else
-        {
-            tail.next = node;
-            node.previous = tail;
-            node.next = null;
-            tail = node;
-        }
+        return tags.get(tag);
     }
 
-    public DicomTag get_dicom_tag(String grp_ele)
+    // the index'th tag, in the order read
+    public DicomTag get_tag_at(int index)
     {
-        return tags.get(grp_ele);
+        return tags.valueAt(index);
     }
 
     public int getNumTags()
@@ -58,22 +33,11 @@ public class DicomObject
     public String dcmDump()
     {
         int depth = 0;
-        TagNode node = head;
         DicomTag tag;
         StringBuilder sb = new StringBuilder();
-        while (node.next != null)
-        {
-            tag = node.tag;
-            sb.append(tag.toString()).append("\n");
-            if (tag.hasSubsequence())
-            {
-                dumpSubsequence(tag.subsequence, depth + 1, sb);
-            }
-            node = node.next;
-        }
-        if (node == tail)
+        for (int i = 0; i < tags.size(); i++)
         {
-            tag = node.tag;
+            tag = tags.valueAt(i);
             sb.append(tag.toString()).append("\n");
             if (tag.hasSubsequence())
             {
@@ -107,18 +71,3 @@ public class DicomObject
         }
     }
 }
-
-class TagNode
-{
-    public DicomTag tag;
-    public TagNode next;
-    public TagNode previous;
-
-    public TagNode(DicomTag tag)
-    {
-        this.tag = tag;
-        this.next = null;
-        this.previous = null;
-    }
-}
-
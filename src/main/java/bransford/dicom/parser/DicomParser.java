@@ -1,37 +1,137 @@
 package bransford.dicom.parser;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.Consumer;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 public class DicomParser
 {
     public String dcm_file = null;
     public boolean is_explicit = true;
+    // the byte order of the data set, from the transfer syntax; the file meta information is always little endian
+    public boolean is_big_endian = false;
+    // the data set is deflated (1.2.840.10008.1.2.1.99), and is inflated as it is parsed, see inflateDataSet()
+    public boolean is_deflated = false;
     public boolean continueReading = true;
     public DICOMDictionary dicom_dictionary = null;
 
-    public static String dict_file = "/Users/m056084/JDicomParser/src/main/java/edu/mayo/dicom/parser/dicom.dic";
+    // the bytes and read cursor for this parser only, nothing about a parse is shared between instances
+    public DCMBuff dcm_buff = null;
+
+    // null for the standard, compiled, dictionary shared by every parser
+    public String dict_file = null;
 
     public DicomObject dcm = new DicomObject();
 
+    // called with each data element as soon as it (including any sequence or pixel data fragments it holds) has been
+    // read, and with each fragment of encapsulated pixel data as it is read
+    public Consumer<DicomTag> tag_listener = null;
+
+    // when false, elements are only handed to the tag_listener and not kept in dcm, so that streaming a large
+    // object holds no more than the stream window and the element being read
+    public boolean retain_tags = true;
+
+    // header only parsing, e.g. for indexing. Parsing stops before the first top level element at or after
+    // stop_at_tag (DicomTags.PixelData, say), and stop_location is where that element starts. With skip_bulk_data,
+    // pixel data is parsed past but never read, its tag records only the value's offset and length. Either way,
+    // parse from a stream over a FileChannel (or a mapped file) so the rest of the file is never read at all. A
+    // stop_at_tag of 0 (the default) parses everything
+    public int stop_at_tag = 0;
+    public long stop_location = -1;
+    public boolean skip_bulk_data = false;
+
+    // report each parse on stdout, as the command line does; off for a library caller parsing many objects, where a
+    // console write per parse is slower than a header only parse itself
+    public boolean verbose = false;
+
+    // inflating a deflated data set, ended when the parse is done with it
+    private Inflater inflater = null;
+
+    public DicomParser(String dcm_file)
+    {
+        this(dcm_file, null, false);
+    }
+
+    public DicomParser(String dcm_file, boolean memory_mapped)
+    {
+        this(dcm_file, null, memory_mapped);
+    }
+
+    // dict_file: a dicom.dic style dictionary to use in place of the standard one, or null
     public DicomParser(String dcm_file, String dict_file)
     {
-        if (dcm_file == null || dict_file == null)
+        this(dcm_file, dict_file, false);
+    }
+
+    // memory_mapped: map the file rather than read it onto the heap, headers are parsed straight off the page cache,
+    // and bulk pixel data stays in the mapping until DicomImage asks for it
+    public DicomParser(String dcm_file, String dict_file, boolean memory_mapped)
+    {
+        if (dcm_file == null)
         {
             return;
         }
 
         this.dcm_file = dcm_file;
-        DicomParser.dict_file = dict_file;
-        dicom_dictionary = new DICOMDictionary(dict_file);
-        DCMBuff.readBinaryDicomFile(dcm_file);
+        this.dict_file = dict_file;
+        dicom_dictionary = dictionary(dict_file);
+
+        if (memory_mapped)
+        {
+            dcm_buff = DCMBuff.mapBinaryDicomFile(dcm_file);
+        }
+        else
+        {
+            dcm_buff = DCMBuff.readBinaryDicomFile(dcm_file);
+        }
+    }
+
+    // stream the object from a channel, holding at most window_size bytes of it at once. Values too large for the
+    // window (pixel data, typically) are skipped, their tags keep only where they were in the stream
+    public DicomParser(ReadableByteChannel channel, String dict_file, int window_size)
+    {
+        if (channel == null)
+        {
+            return;
+        }
+
+        this.dcm_file = "(stream)";
+        this.dict_file = dict_file;
+        dicom_dictionary = dictionary(dict_file);
+        dcm_buff = new StreamingDCMBuff(channel, window_size);
+    }
+
+    public DicomParser(InputStream stream, String dict_file, int window_size)
+    {
+        this(stream == null ? null : Channels.newChannel(stream), dict_file, window_size);
+    }
+
+    public DicomParser(ReadableByteChannel channel, int window_size)
+    {
+        this(channel, null, window_size);
+    }
+
+    public DicomParser(InputStream stream, int window_size)
+    {
+        this(stream, null, window_size);
+    }
+
+    private static DICOMDictionary dictionary(String dict_file)
+    {
+        return dict_file == null ? DICOMDictionary.standard() : new DICOMDictionary(dict_file);
     }
 
     public boolean isValidDicomImage()
     {
         boolean isValid = false;
-        DCMBuff.setLocationAndRange(128);
-        DCMBuff.advance(DCMBuff._4bytes);
-        String magic_number = DCMBuff.dataChunkToString();
+        dcm_buff.setLocationAndRange(128);
+        dcm_buff.advance(DCMBuff._4bytes);
+        String magic_number = dcm_buff.dataChunkToString();
 
         if ("DICM".equals(magic_number))
         {
@@ -48,17 +148,50 @@ public class DicomParser
     public DicomObject parseDICOMImage() throws IOException
     {
         DicomTag tag;
-        readGroup2Elements();
+        try
+        {
+            readGroup2Elements();
+
+            while(continueReading)
+            {
+                tag = readTag();
+                if (tag == null)
+                {
+                    // reached stop_at_tag
+                    break;
+                }
+                emit(tag);
+                continueReading = dcm_buff.isValidBufferLocation();
+            }
+        }
+        finally
+        {
+            // the inflater's native memory is freed now, not whenever the collector gets to it
+            if (inflater != null)
+            {
+                inflater.end();
+                inflater = null;
+            }
+        }
 
-        while(continueReading)
+        if (verbose)
+        {
+            System.out.println("DICOM Image " + dcm_file + " successfully parsed");
+        }
+        return dcm;
+    }
+
+    private void emit(DicomTag tag)
+    {
+        if (retain_tags)
         {
-            tag = readTag();
             dcm.put(tag);
-            continueReading = DCMBuff.isValidBufferLocation();
         }
 
-        System.out.println("DICOM Image " + dcm_file + " successfully parsed");
-        return dcm;
+        if (tag_listener != null)
+        {
+            tag_listener.accept(tag);
+        }
     }
 
     public DicomTag readTag()
@@ -68,6 +201,14 @@ public class DicomParser
         dicom_tag = readBaseTag(bytes_read);
         bytes_read[0] = 0;
 
+        if (stop_at_tag != 0 && Integer.compareUnsigned(dicom_tag.tag, stop_at_tag) >= 0)
+        {
+            // back to the start of the group and element just read
+            stop_location = dcm_buff.buffer_range - DCMBuff._4bytes;
+            continueReading = false;
+            return null;
+        }
+
         if (dicom_tag.isSequence)
         {
             dicom_tag = readSequence(dicom_tag, bytes_read);
@@ -90,28 +231,27 @@ public class DicomParser
         bytesRead[0] = 0;
         DicomTag dicom_tag;
 
-        DCMBuff.advance(DCMBuff._2bytes);
+        dcm_buff.advance(DCMBuff._2bytes);
         bytesRead[0] += DCMBuff._2bytes;
-        String group = ValueConversions.getHexString(DCMBuff.getChunk());
-        group = group.toUpperCase();
+        int group = dcm_buff.dataChunkToUnsignedShort();
 
-        DCMBuff.advance(DCMBuff._2bytes);
+        dcm_buff.advance(DCMBuff._2bytes);
         bytesRead[0] += DCMBuff._2bytes;
-        String element = ValueConversions.getHexString(DCMBuff.getChunk());
-        element = element.toUpperCase();
-        dicom_tag = dicom_dictionary.get_tag(group, element);
+        int element = dcm_buff.dataChunkToUnsignedShort();
+        int tag = (group << 16) | element;
+        dicom_tag = dicom_dictionary.get_tag(tag);
 
         if (dicom_tag == null)
         {
             bytesRead[0] = 0;
             dicom_tag = new DicomTag();
-            dicom_tag.setWithGroupElement(group, element);
+            dicom_tag.setTag(tag);
             // read_tag_data will be called again, but need to know what kind of tag this is first
             dicom_tag = readTagData(dicom_tag, bytesRead, false, false);
 
             // tag was not in the dictionary, create one, populate data is desired, but
             // back up buffer 4 bytes, because didn't really read a tag
-            DCMBuff.advance(-1 * bytesRead[0]);
+            dcm_buff.advance(-1 * bytesRead[0]);
         }
 
         return dicom_tag;
@@ -124,50 +264,55 @@ public class DicomParser
         if (is_delim)
         {
             // for delimiters, need to read length field, as per spec
-            DCMBuff.advance(DCMBuff._4bytes);
+            dcm_buff.advance(DCMBuff._4bytes);
             bytesRead[0] += DCMBuff._4bytes;
-            value_length = DCMBuff.dataChunkToInt();
+            value_length = dcm_buff.dataChunkToInt();
             dicomTag.setValueLength(value_length);
             return dicomTag;
         }
 
         if (is_explicit)
         {
-            DCMBuff.advance(DCMBuff._2bytes);
+            dcm_buff.advance(DCMBuff._2bytes);
             bytesRead[0] += DCMBuff._2bytes;
-            String vr = DCMBuff.dataChunkToString();
+            String vr = dcm_buff.dataChunkToVR();
             dicomTag.setVR(vr);
 
             // read value length
-            DCMBuff.advance(DCMBuff._2bytes);
+            dcm_buff.advance(DCMBuff._2bytes);
             bytesRead[0] += DCMBuff._2bytes;
 
             if (dicomTag.isExplicitVRReserved())
             {
                 // skip reserved 2 bytes, advance to read value length
-                DCMBuff.advance(DCMBuff._4bytes);
+                dcm_buff.advance(DCMBuff._4bytes);
                 bytesRead[0] += DCMBuff._4bytes;
-                value_length = DCMBuff.dataChunkToInt();
+                value_length = dcm_buff.dataChunkToInt();
             }
             else
             {
-                value_length = DCMBuff.dataChunkToShort();
+                value_length = dcm_buff.dataChunkToShort();
             }
         }
         else
         {
-            DCMBuff.advance(DCMBuff._4bytes);
+            if (dicomTag.VR == null)
+            {
+                // not in the dictionary, so nothing says what it is
+                dicomTag.setVR("UN");
+            }
+
+            dcm_buff.advance(DCMBuff._4bytes);
             bytesRead[0] += DCMBuff._4bytes;
-            value_length = DCMBuff.dataChunkToInt();
+            value_length = dcm_buff.dataChunkToInt();
         }
 
         dicomTag.setValueLength(value_length);
         if (read_value && !dicomTag.isUndefinedLength())
         {
-            DCMBuff.advance(value_length);
+            dcm_buff.advance(value_length);
             bytesRead[0] += value_length;
-            byte[] value_bytes = DCMBuff.getChunk();
-            dicomTag.setRawValue(value_bytes);
+            dcm_buff.setTagValue(dicomTag);
         }
 
         return dicomTag;
@@ -233,64 +378,94 @@ public class DicomParser
 
         while (true)
         {
-            DCMBuff.advance(DCMBuff._2bytes);
-            String group = ValueConversions.getHexString(DCMBuff.getChunk());
-            group = group.toUpperCase();
-            if (group.equals("0002"))
+            dcm_buff.advance(DCMBuff._2bytes);
+            int group = dcm_buff.dataChunkToUnsignedShort();
+            if (group == 0x0002)
             {
-                DCMBuff.advance(DCMBuff._2bytes);
-                String element = ValueConversions.getHexString(DCMBuff.getChunk());
-                element = element.toUpperCase();
-                dicom_tag = dicom_dictionary.get_tag(group, element);
+                dcm_buff.advance(DCMBuff._2bytes);
+                int element = dcm_buff.dataChunkToUnsignedShort();
+                int tag = (group << 16) | element;
+                dicom_tag = dicom_dictionary.get_tag(tag);
 
-                DCMBuff.advance(DCMBuff._2bytes);
+                dcm_buff.advance(DCMBuff._2bytes);
                 if (dicom_tag == null)
                 {
                     dicom_tag = new DicomTag();
-                    dicom_tag.setWithGroupElement(group, element);
-                    String vr = DCMBuff.dataChunkToString();
+                    dicom_tag.setTag(tag);
+                    String vr = dcm_buff.dataChunkToVR();
                     dicom_tag.setVR(vr);
                 }
 
                 // read value length
                 int value_length;
-                DCMBuff.advance(DCMBuff._2bytes);
+                dcm_buff.advance(DCMBuff._2bytes);
                 if (dicom_tag.isExplicitVRReserved())
                 {
                     // skip reserved 2 bytes, advance to read value length
-                    DCMBuff.advance(DCMBuff._4bytes);
-                    value_length = DCMBuff.dataChunkToInt();
+                    dcm_buff.advance(DCMBuff._4bytes);
+                    value_length = dcm_buff.dataChunkToInt();
                 }
                 else
                 {
-                    value_length = DCMBuff.dataChunkToShort();
+                    value_length = dcm_buff.dataChunkToShort();
                 }
 
 
                 dicom_tag.valueLength = value_length;
 
                 // read the data proper
-                DCMBuff.advance(value_length);
-                byte[] value_bytes = DCMBuff.getChunk();
-                dicom_tag.setRawValue(value_bytes);
+                dcm_buff.advance(value_length);
+                dcm_buff.setTagValue(dicom_tag);
 
                 // if this tag represents the transfer syntax
                 if (dicom_tag.isTransferSyntaxTag())
                 {
                     is_explicit = dicom_tag.calculateIsExplicitAndBigEndian();
+                    is_big_endian = dicom_tag.isBigEndian;
+                    is_deflated = dicom_tag.isDeflated;
                 }
-                dcm.put(dicom_tag);
+                emit(dicom_tag);
             }
             else
             {
                 // not in the group tags, back up 2 bytes, and break out of
                 // read group 2 tags
-                DCMBuff.advance(-1 * DCMBuff._2bytes);
+                dcm_buff.advance(-1 * DCMBuff._2bytes);
+
+                // from here on, in the order of the transfer syntax
+                dcm_buff.setByteOrder(is_big_endian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+                if (is_deflated)
+                {
+                    inflateDataSet();
+                }
                 break;
             }
         }
     }
 
+    // The data set of a deflated transfer syntax is raw deflate (no zlib header) from the end of the file meta
+    // information to the end of the file. Rather than inflating it all into a second array, the rest of the parse
+    // reads from a stream window over an Inflater, so the data set is inflated as it is parsed. Locations from here on
+    // are positions in the inflated data set. The inflater can't go back, so values too large for the window are read
+    // onto the heap as they go by; they are only skipped if the parse was a stream to begin with, or header only
+    private void inflateDataSet()
+    {
+        int window_size = StreamingDCMBuff.default_window_size;
+        boolean skip_large_values = stop_at_tag != 0 || skip_bulk_data;
+        if (dcm_buff instanceof StreamingDCMBuff streaming)
+        {
+            window_size = streaming.window.capacity();
+            skip_large_values = skip_large_values || streaming.skip_large_values;
+        }
+
+        InputStream deflated = dcm_buff.inputStream(dcm_buff.buffer_range);
+        inflater = new Inflater(true);
+        InputStream inflated = new InflaterInputStream(deflated, inflater, 8192);
+        StreamingDCMBuff streaming = new StreamingDCMBuff(Channels.newChannel(inflated), window_size);
+        streaming.skip_large_values = skip_large_values;
+        dcm_buff = streaming;
+    }
+
     /**
      #  Common possibilities:
      #
@@ -422,7 +597,7 @@ public class DicomParser
         }
 
         // back up and allow the loops below to read all the tags
-        DCMBuff.advance(-1 * DCMBuff._4bytes);
+        dcm_buff.advance(-1 * DCMBuff._4bytes);
         boolean is_sequence_delimiter = false;
 
         // this begins the item sequence, until we hit another sequence (which results in recursion)
@@ -480,9 +655,9 @@ public class DicomParser
 
         if (item_tag.isExplicit)
         {
-            DCMBuff.advance(DCMBuff._4bytes);
+            dcm_buff.advance(DCMBuff._4bytes);
             bytesRead[0] += DCMBuff._4bytes;
-            int item_length = DCMBuff.dataChunkToInt();
+            int item_length = dcm_buff.dataChunkToInt();
             item_tag.setValueLength(item_length);
         }
 
@@ -491,7 +666,7 @@ public class DicomParser
         {
             item = readBaseTag(bytesReturned);
             bytesRead[0] += bytesReturned[0];
-            DCMBuff.advance(-1 * DCMBuff._4bytes);
+            dcm_buff.advance(-1 * DCMBuff._4bytes);
             if (item.isItemDelimiter)
             {
                 item_tag.addItem(item);
@@ -578,15 +753,29 @@ public class DicomParser
                 DicomTag tag = readBaseTag(bytesRead);
                 if (tag.isItem)
                 {
-                    DCMBuff.advance(DCMBuff._4bytes);
+                    dcm_buff.advance(DCMBuff._4bytes);
                     bytesRead[0] += DCMBuff._4bytes;
-                    int value_length = DCMBuff.dataChunkToInt();
-                    DCMBuff.advance(value_length);
+                    int value_length = dcm_buff.dataChunkToInt();
+                    dcm_buff.advance(value_length);
                     bytesRead[0] += value_length;
-                    byte[] value_bytes = DCMBuff.getChunk();
-                    tag.setRawValue(value_bytes);
+                    tag.setValueLength(value_length);
+                    if (skip_bulk_data)
+                    {
+                        tag.setValueSkipped(dcm_buff.buffer_location);
+                    }
+                    else
+                    {
+                        dcm_buff.setTagValue(tag);
+                    }
                     tag.setVR(pixel_data_tag.getVR());
-                    pixel_data_tag.addItem(tag);
+                    if (retain_tags)
+                    {
+                        pixel_data_tag.addItem(tag);
+                    }
+                    if (tag_listener != null)
+                    {
+                        tag_listener.accept(tag);
+                    }
                 }
                 else if (tag.isSequenceDelimiter)
                 {
@@ -598,9 +787,15 @@ public class DicomParser
         }
         else
         {
-            DCMBuff.advance(pixel_data_tag.valueLength);
-            byte[] value_bytes = DCMBuff.getChunk();
-            pixel_data_tag.setRawValue(value_bytes);
+            dcm_buff.advance(pixel_data_tag.valueLength);
+            if (skip_bulk_data)
+            {
+                pixel_data_tag.setValueSkipped(dcm_buff.buffer_location);
+            }
+            else
+            {
+                dcm_buff.setTagValue(pixel_data_tag);
+            }
         }
         return pixel_data_tag;
     }
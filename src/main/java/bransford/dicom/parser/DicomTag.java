@@ -1,38 +1,68 @@
 package bransford.dicom.parser;
 
-import java.io.File;
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 public class DicomTag
 {
-    public String group = null;
-    public String element = null;
-    public String description = "Unknown Tag & Data";
+    // the packed (group << 16 | element) identity of the tag; the "(gggg,eeee)" form is only made for display
+    public int tag = 0;
+
+    // what the dictionary has for the tag, shared with every other element of the same tag; null for a tag that
+    // is not in the dictionary
+    public DictionaryEntry entry = null;
 
     // the value representation, number, string, free text,
     // date, time, etc
     public String VR = null;
 
-    // the raw byte array read from the DICOM file
+    // the raw byte array, only for a tag built from bytes that are not in a DCMBuff
     public byte[] rawValue = null;
+    // a value read by the parser is not copied, it is a view of valueLength bytes left in the source buffer at
+    // valueOffset, and bytes are only materialised when asked for through getRawValue() or getValueBuffer()
+    public DCMBuff source = null;
+    public long valueOffset = -1;
     // the length the raw value
     public int valueLength = 0;
+    // the order of the binary values, the data set's as the transfer syntax gives it
+    public ByteOrder byteOrder = DCMBuff.default_byte_order;
+
+    // Values are decoded lazily: nothing is decoded while parsing, the value is decoded once when it is first asked
+    // for (decode(), or any of the accessors) into the typed results below, which are then answered as they are
+    // until the value is replaced. A tag that is never read is never decoded.
+    // valueState is volatile and is written after the decoded fields, so a thread that sees DECODED sees them whole; two
+    // threads decoding the same tag at once both decode it, to the same values. Replacing a value (setRawValue,
+    // setValueSource, setValueSkipped) is not safe while another thread reads the tag
+    public enum ValueState
+    {
+        UNDECODED,
+        DECODED,
+        NO_VALUE
+    }
 
-    public BigInteger[] valueNumeric = null;
+    public volatile ValueState valueState = ValueState.UNDECODED;
 
-    public BigDecimal[] valueDecimal = null;
+    // the decoded values of a numeric VR: integral ones (US, SS, UL, SL, ..., IS) widened to long, floating point
+    // ones (FL, FD, OF, OD, DS) to double. The arrays are shared by every caller, and are not to be modified
+    public long[] valueNumeric = null;
 
+    public double[] valueDecimal = null;
+
+    // the trimmed value of a string VR
     public String valueString = null;
 
+    // a bulk value held in rawValue (one left in its source is a view, see getValueBuffer())
     public byte[] valueOB = null;
 
     // the number of values that are encoded in the raw_value
     public int multiplicity = 0;
 
-    public String groupElementKey = null;
     public boolean isExplicitVrReserved = false;
     public boolean isExplicit = true;
     public boolean isBigEndian = false;
@@ -46,24 +76,29 @@ public class DicomTag
     public boolean undefinedLength = false;
 
     public boolean isCompressed = false;
+    public boolean isDeflated = false;
 
-    public ArrayList<DicomTag> subsequence = new ArrayList<>();
+    // the items of a sequence, or fragments of encapsulated pixel data; only allocated for a tag that has some
+    public ArrayList<DicomTag> subsequence = null;
 
-    public void initializeFromDict(String[] dicom_dict_entry)
+    // a tag not in the dictionary, see setTag() and setVR()
+    public DicomTag()
     {
-        groupElementKey = dicom_dict_entry[0];
-        setGroupElementFromKey(groupElementKey);
-        VR = dicom_dict_entry[1];
-        description = dicom_dict_entry[2];
-        String mult = dicom_dict_entry[3];
-        if (mult.contains("-") || mult.contains("n"))
-        {
-            multiplicity = -1;
-        }
-        else
-        {
-            multiplicity = Integer.parseInt(mult);
-        }
+    }
+
+    // a tag read from the dictionary entry; the flags are the entry's, already worked out from its VR
+    public DicomTag(DictionaryEntry entry)
+    {
+        this.entry = entry;
+        tag = entry.tag;
+        VR = entry.VR;
+        isNumeric = entry.isNumeric;
+        isExplicitVrReserved = entry.isExplicitVrReserved;
+        isSequence = entry.isSequence;
+        isSequenceDelimiter = entry.isSequenceDelimiter;
+        isItemDelimiter = entry.isItemDelimiter;
+        isItem = entry.isItem;
+        isPixelData = entry.isPixelData;
         isUnknown = false;
     }
 
@@ -78,65 +113,25 @@ public class DicomTag
         calculateIsPixelData();
     }
 
-    public static DicomTag copy(DicomTag to_copy)
-    {
-        DicomTag copy = new DicomTag();
-        copy.group = to_copy.group;
-        copy.element = to_copy.element;
-        copy.description = to_copy.description;
-
-        // the value representation, number, string, free text,
-        // date, time, etc
-        copy.VR = to_copy.VR;
-
-        // the number of values that are encoded in the raw_value
-        copy.multiplicity = to_copy.multiplicity;
-
-        copy.groupElementKey = to_copy.groupElementKey;
-        copy.isExplicitVrReserved = to_copy.isExplicitVrReserved;
-        copy.isExplicit = to_copy.isExplicit;
-        copy.isBigEndian = to_copy.isBigEndian;
-        copy.isSequence = to_copy.isSequence;
-        copy.isSequenceDelimiter = to_copy.isSequenceDelimiter;
-        copy.isItemDelimiter = to_copy.isItemDelimiter;
-        copy.isNumeric = to_copy.isNumeric;
-        copy.isItem = to_copy.isItem;
-        copy.isPixelData = to_copy.isPixelData;
-        copy.isUnknown = to_copy.isUnknown;
-        copy.undefinedLength = to_copy.undefinedLength;
-        return copy;
-    }
-
     // setters
     public void addItem(DicomTag item)
     {
+        if (subsequence == null)
+        {
+            subsequence = new ArrayList<>();
+        }
         subsequence.add(item);
     }
 
-    public void createGroupElementKey(String grp, String ele)
-    {
-        groupElementKey = "(" + grp + ',' + ele + ")";
-    }
-
-    public void setGroupElementFromKey(String grp_ele_key)
-    {
-        String converted = grp_ele_key.replace("(", "");
-        converted = converted.replace(")", "");
-        String[] converted_a = converted.split(",");
-        group = converted_a[0];
-        element = converted_a[1];
-    }
-
-    public void setWithGroupElement(String grp, String ele)
+    public void setTag(int tag)
     {
-        group = grp;
-        element = ele;
-        createGroupElementKey(grp, ele);
+        this.tag = tag;
     }
 
     public void setVR(String vr)
     {
         VR = vr;
+        resetValue();
         if (isUnknown)
         {
             initialize();
@@ -149,7 +144,7 @@ public class DicomTag
     public void setValueLength(int value_length)
     {
         this.valueLength = value_length;
-        if (String.format("%08x", value_length).equalsIgnoreCase("ffffffff"))
+        if (value_length == 0xFFFFFFFF)
         {
             // keep reading until the sequence delimiter is found
             undefinedLength = true;
@@ -159,13 +154,51 @@ public class DicomTag
     public void setRawValue(byte[] the_value)
     {
         rawValue = the_value;
+        resetValue();
+    }
+
+    public void setValueSource(DCMBuff buff, long offset)
+    {
+        source = buff;
+        valueOffset = offset;
+        resetValue();
+    }
+
+    // a new value, anything decoded from the last one is dropped
+    private void resetValue()
+    {
+        valueState = ValueState.UNDECODED;
+        valueNumeric = null;
+        valueDecimal = null;
+        valueString = null;
+        valueOB = null;
+    }
+
+    // the value was skipped over rather than read, only where it is (and valueLength) is known
+    public void setValueSkipped(long offset)
+    {
+        source = null;
+        rawValue = null;
+        valueOffset = offset;
+        resetValue();
     }
 
     // getters
 
+    public int getGroup()
+    {
+        return tag >>> 16;
+    }
+
+    public int getElement()
+    {
+        return tag & 0xFFFF;
+    }
+
+    // "(gggg,eeee)", for display
     public String get_group_element_key()
     {
-        return groupElementKey;
+        return ValueConversions.tagToString(tag);
     }
 
     public String getVR()
@@ -173,39 +206,109 @@ public class DicomTag
         return VR;
     }
 
+    public String getDescription()
+    {
+        return entry == null ? DictionaryEntry.unknown_description : entry.description;
+    }
+
     public int getValueLength()
     {
         return valueLength;
     }
 
-    public boolean hasSubsequence()
+    // the value bytes, copied out of the source buffer if the value was left there
+    public byte[] getRawValue()
     {
-        return subsequence.size() != 0;
+        return getRawValue(valueLength);
     }
 
-    public boolean isValueCalculated()
+    // at most max_length of the value bytes, without copying the rest of a bulk value
+    public byte[] getRawValue(int max_length)
     {
-        if (valueString == null && valueNumeric == null && valueDecimal == null && valueOB == null)
+        if (rawValue == null && source != null)
         {
-            calculateValue();
+            return getRawValue(0, Math.min(max_length, valueLength));
         }
 
-        if (valueString != null)
+        return rawValue;
+    }
+
+    // length bytes of the value, starting offset bytes into it (e.g. a single frame of native pixel data)
+    public byte[] getRawValue(long offset, int length)
+    {
+        if (rawValue == null && source != null)
         {
-            return true;
+            return source.getChunk(valueOffset + offset, valueOffset + offset + length);
         }
 
-        if (valueNumeric != null)
+        return rawValue == null ? null : Arrays.copyOfRange(rawValue, (int) offset, (int) offset + length);
+    }
+
+    // the value as a ByteBuffer in the byte order of the value, a slice of the source rather than a copy
+    public ByteBuffer getValueBuffer()
+    {
+        if (rawValue == null && source != null)
+        {
+            return source.slice(valueOffset, valueLength).order(byteOrder);
+        }
+
+        return rawValue == null ? null : ByteBuffer.wrap(rawValue).order(byteOrder);
+    }
+
+    // length bytes of the value from offset bytes into it, a slice of the source where it can be (e.g. a frame of native
+    // pixel data, copied straight from the file to where it is wanted)
+    public ByteBuffer getValueBuffer(long offset, int length)
+    {
+        if (rawValue == null && source != null)
         {
-            return true;
+            return source.slice(valueOffset + offset, length).order(byteOrder);
         }
 
-        if (valueOB != null)
+        return rawValue == null ? null : ByteBuffer.wrap(rawValue, (int) offset, length).slice().order(byteOrder);
+    }
+
+    public boolean isValueInSource()
+    {
+        return rawValue == null && source != null;
+    }
+
+    public boolean hasValue()
+    {
+        return rawValue != null || source != null;
+    }
+
+    // bulk data skipped in a header only parse, or a value too large for a stream window
+    public boolean isValueSkipped()
+    {
+        return !hasValue() && valueOffset >= 0;
+    }
+
+    public boolean hasSubsequence()
+    {
+        return subsequence != null && subsequence.size() != 0;
+    }
+
+    public boolean isValueCalculated()
+    {
+        return decode();
+    }
+
+    // decode the value if it hasn't been, answers whether there is a value
+    public boolean decode()
+    {
+        if (valueState == ValueState.UNDECODED)
         {
-            return true;
+            calculateValue();
         }
 
-        return valueDecimal != null;
+        return valueState == ValueState.DECODED;
+    }
+
+    // the trimmed value of a string VR, decoded once; null for a binary VR or no value
+    public String getValueString()
+    {
+        decode();
+        return valueString;
     }
 
     public boolean isExplicitVRReserved()
@@ -254,7 +357,7 @@ public class DicomTag
 
     public boolean isTransferSyntaxTag()
     {
-        return group.equals("0002") && element.equals("0010");
+        return tag == DicomTags.TransferSyntaxUID;
     }
 
     // obtained once and only once, based on the transfer syntax
@@ -266,10 +369,7 @@ public class DicomTag
         }
         else
         {
-            if (valueString == null && valueNumeric == null && valueDecimal == null)
-            {
-                calculateValue();
-            }
+            decode();
 
             if (valueString == null)
             {
@@ -287,6 +387,11 @@ public class DicomTag
                     isBigEndian = true;
                 }
 
+                if (valueString.equals("1.2.840.10008.1.2.1.99"))
+                {
+                    isDeflated = true;
+                }
+
                 if (isTransferSyntaxTag())
                 {
                     isCompressed = valueString.startsWith("1.2.840.10008.1.2.4.")
@@ -299,14 +404,23 @@ public class DicomTag
         return isExplicit;
     }
 
+    // (re)decode the value, see decode() for decoding only when needed. valueState is written last, see ValueState
     public void calculateValue()
     {
-        if (rawValue == null)
+        if (!hasValue())
         {
+            valueState = ValueState.NO_VALUE;
             return;
         }
 
-        int raw_value_length = rawValue.length;
+        decodeValue();
+        valueState = ValueState.DECODED;
+    }
+
+    private void decodeValue()
+    {
+        // a value left in its source is not copied out here, only its length is needed
+        int raw_value_length = rawValue == null ? valueLength : rawValue.length;
 
         if (isSequence() || isSequenceDelimiter() || isItem() || isItemDelimiter())
         {
@@ -333,12 +447,12 @@ public class DicomTag
                         valueAsNumericArray(2);
                     }
                 }
-                case "FL", "SL", "UL", "OF" ->
+                case "FL", "SL", "UL", "OF", "OL" ->
                 {
                     multiplicity = raw_value_length / 4;
                     valueAsNumericArray(4);
                 }
-                case "FD", "OD" ->
+                case "FD", "OD", "SV", "UV", "OV" ->
                 {
                     multiplicity = raw_value_length / 8;
                     valueAsNumericArray(8);
@@ -355,69 +469,545 @@ public class DicomTag
             // the raw array must be a string
             if (VR.equals("AT"))
             {
-                String first = ValueConversions.getHexString(DCMBuff.getChunk(0, 2));
-                String second = ValueConversions.getHexString(DCMBuff.getChunk(2, 4));
-                valueString = "(" + first + "," + second + ")";
+                ByteBuffer value = getValueBuffer();
+                int group = Short.toUnsignedInt(value.getShort(0));
+                int element = Short.toUnsignedInt(value.getShort(2));
+                valueString = ValueConversions.tagToString((group << 16) | element);
             }
             else
             {
-                valueString = DCMBuff.dataChunkToString(rawValue).trim();
+                valueString = DCMBuff.dataChunkToString(getRawValue()).trim();
             }
 
-            if (multiplicity == 0)
+            // the values actually there, whatever the dictionary allows
+            multiplicity = VR.equals("AT") ? raw_value_length / 4 : numStringValues();
+        }
+    }
+
+    public void valueAsNumericArray(int sizeof_type)
+    {
+        if (!hasValue())
+        {
+            return;
+        }
+        if (isFloatingPointVR(VR))
+        {
+            valueDecimal = decodeDoubles();
+        }
+        else
+        {
+            valueNumeric = decodeLongs();
+        }
+    }
+
+    public static boolean isFloatingPointVR(String vr)
+    {
+        return vr.equals("FL") || vr.equals("FD") || vr.equals("OF") || vr.equals("OD");
+    }
+
+    // the size in bytes of each value of a binary VR, 0 for a VR that is not binary
+    public static int binarySize(String vr)
+    {
+        return switch (vr)
+        {
+            case "OB", "UN" -> 1;
+            case "US", "SS", "OW" -> 2;
+            case "UL", "SL", "FL", "OF", "OL" -> 4;
+            case "FD", "OD", "SV", "UV", "OV" -> 8;
+            default -> 0;
+        };
+    }
+
+    // the number of binary values in the value
+    public int numBinaryValues()
+    {
+        int size = VR == null ? 0 : binarySize(VR);
+        if (size == 0 || !hasValue() || undefinedLength)
+        {
+            return 0;
+        }
+
+        return (rawValue == null ? valueLength : rawValue.length) / size;
+    }
+
+    // Values of the string VRs are separated by a backslash (0x5C), except for the text VRs which have one value
+    // that may contain backslashes. The values are found by scanning the value buffer, so reading one value doesn't
+    // split the rest
+
+    public static boolean isSingleValuedStringVR(String vr)
+    {
+        return "LT".equals(vr) || "ST".equals(vr) || "UT".equals(vr) || "UR".equals(vr);
+    }
+
+    // the number of values of a string VR, 0 if it has no value
+    public int numStringValues()
+    {
+        ByteBuffer value = getValueBuffer();
+        if (value == null || undefinedLength || value.limit() == 0)
+        {
+            return 0;
+        }
+        if (isSingleValuedStringVR(VR))
+        {
+            return 1;
+        }
+
+        int n = 1;
+        for (int i = 0; i < value.limit(); i++)
+        {
+            if (value.get(i) == '\\')
             {
-                // custom tag that is not in the dicom.dic
-                multiplicity = 1;
+                n++;
             }
-            else if (multiplicity == -1)
+        }
+
+        return n;
+    }
+
+    // the index'th value of a string VR without its padding, null if there isn't one
+    public String getString(int index)
+    {
+        ByteBuffer value = getValueBuffer();
+        if (value == null || index < 0 || undefinedLength || value.limit() == 0)
+        {
+            return null;
+        }
+
+        int from;
+        int to;
+        if (isSingleValuedStringVR(VR))
+        {
+            from = index == 0 ? 0 : -1;
+            to = value.limit();
+        }
+        else
+        {
+            from = stringValueStart(value, index);
+            to = from < 0 ? -1 : stringValueEnd(value, from);
+        }
+
+        if (from < 0)
+        {
+            return null;
+        }
+
+        // leading spaces of the text VRs are part of the value
+        while (from < to && !isSingleValuedStringVR(VR) && (value.get(from) == ' ' || value.get(from) == 0))
+        {
+            from++;
+        }
+        while (to > from && (value.get(to - 1) == ' ' || value.get(to - 1) == 0))
+        {
+            to--;
+        }
+
+        byte[] chunk = new byte[to - from];
+        value.get(from, chunk);
+        return DCMBuff.dataChunkToString(chunk);
+    }
+
+    // where the index'th backslash separated value starts, -1 if there isn't one
+    private static int stringValueStart(ByteBuffer value, int index)
+    {
+        int i = 0;
+        for (int n = 0; n < index; n++)
+        {
+            i = stringValueEnd(value, i);
+            if (i == value.limit())
+            {
+                return -1;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int stringValueEnd(ByteBuffer value, int from)
+    {
+        int i = from;
+        while (i < value.limit() && value.get(i) != '\\')
+        {
+            i++;
+        }
+
+        return i;
+    }
+
+    public static boolean isNumericStringVR(String vr)
+    {
+        return "DS".equals(vr) || "IS".equals(vr);
+    }
+
+    // Binary values, decoded straight out of the value buffer (in its byte order) into a primitive array, one pass
+    // and no object per value. Integral VRs are read as unsigned or signed as the VR says, floating point values are
+    // truncated when read as integers, and a VR that is not binary gives an empty array. DS and IS values are parsed
+    // the same way, from the characters in the value buffer. The arrays of a VR's own type are kept, see valueNumeric
+
+    public int[] getInts()
+    {
+        if (isNumericStringVR(VR))
+        {
+            long[] longs = getLongs();
+            int[] ints = new int[longs.length];
+            for (int i = 0; i < longs.length; i++)
             {
-                // compute it based on the number of "/" delimiters
-                // in the data
-                if (valueString.contains("\\"))
+                ints[i] = (int) longs[i];
+            }
+            return ints;
+        }
+
+        ByteBuffer value = getValueBuffer();
+        int n = numBinaryValues();
+        int[] ints = new int[n];
+
+        switch (VR)
+        {
+            case "OB", "UN" ->
+            {
+                for (int i = 0; i < n; i++)
                 {
-                    String[] multiplicity_a = valueString.split(Pattern.quote(File.separator));
-                    multiplicity = multiplicity_a.length;
+                    ints[i] = value.get(i) & 0xFF;
                 }
-                else
+            }
+            case "US", "OW" ->
+            {
+                for (int i = 0; i < n; i++)
                 {
-                    multiplicity = 1;
+                    ints[i] = Short.toUnsignedInt(value.getShort(i << 1));
                 }
             }
-            else
+            case "SS" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    ints[i] = value.getShort(i << 1);
+                }
+            }
+            case "UL", "SL", "OL" ->
+            {
+                // an unsigned value over 2^31 - 1 wraps, use getLongs() for those
+                for (int i = 0; i < n; i++)
+                {
+                    ints[i] = value.getInt(i << 2);
+                }
+            }
+            case "FL", "OF" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    ints[i] = (int) value.getFloat(i << 2);
+                }
+            }
+            case "FD", "OD" ->
             {
-                multiplicity = 1;
+                for (int i = 0; i < n; i++)
+                {
+                    ints[i] = (int) value.getDouble(i << 3);
+                }
+            }
+            case "SV", "UV", "OV" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    ints[i] = (int) value.getLong(i << 3);
+                }
             }
         }
+
+        return ints;
     }
 
-    public void valueAsNumericArray(int sizeof_type)
+    // the longs of an integral VR, or IS, are decoded once and shared
+    public long[] getLongs()
     {
-        if (rawValue == null)
+        if (valueNumeric != null)
         {
-            return;
+            return valueNumeric;
         }
-        if (VR.equals("OF") || VR.equals("OD") || VR.equals("FL") || VR.equals("FD"))
+
+        long[] longs = decodeLongs();
+        if (!isPixelData && !isByteArray() && !isFloatingPointVR(VR) && (binarySize(VR) != 0 || VR.equals("IS")))
         {
-            valueDecimal = ValueConversions.bigDecimalArray(rawValue, sizeof_type);
+            valueNumeric = longs;
         }
-        else
+
+        return longs;
+    }
+
+    private long[] decodeLongs()
+    {
+        if (isNumericStringVR(VR))
         {
-            valueNumeric = ValueConversions.bigIntegerArray(rawValue, sizeof_type, VR.startsWith("U"));
+            ByteBuffer value = getValueBuffer();
+            long[] longs = new long[numStringValues()];
+            boolean is_integer = VR.equals("IS");
+            for (int i = 0, from = 0; i < longs.length; i++)
+            {
+                int to = stringValueEnd(value, from);
+                longs[i] = is_integer ? ValueConversions.parseIntegerString(value, from, to)
+                        : (long) ValueConversions.parseDecimalString(value, from, to);
+                from = to + 1;
+            }
+            return longs;
         }
+
+        ByteBuffer value = getValueBuffer();
+        int n = numBinaryValues();
+        long[] longs = new long[n];
+
+        switch (VR)
+        {
+            case "UL", "OL" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    longs[i] = Integer.toUnsignedLong(value.getInt(i << 2));
+                }
+            }
+            case "SL" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    longs[i] = value.getInt(i << 2);
+                }
+            }
+            case "FD", "OD" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    longs[i] = (long) value.getDouble(i << 3);
+                }
+            }
+            case "SV", "UV", "OV" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    longs[i] = value.getLong(i << 3);
+                }
+            }
+            default ->
+            {
+                // nothing narrower loses anything as an int
+                int[] ints = getInts();
+                for (int i = 0; i < n; i++)
+                {
+                    longs[i] = ints[i];
+                }
+            }
+        }
+
+        return longs;
     }
 
-    public void calculateIsExplicitVRReserved()
+    public float[] getFloats()
     {
-        if (VR != null)
+        ByteBuffer value = getValueBuffer();
+        int n = numBinaryValues();
+
+        if (VR.equals("FL") || VR.equals("OF"))
         {
-            isExplicitVrReserved = VR.equals("OB") || VR.equals("OW")
-                    || VR.equals("OF") || VR.equals("SQ")
-                    || VR.equals("UN") || VR.equals("UT");
+            float[] floats = new float[n];
+            for (int i = 0; i < n; i++)
+            {
+                floats[i] = value.getFloat(i << 2);
+            }
+            return floats;
         }
-        else
+
+        double[] doubles = getDoubles();
+        float[] floats = new float[doubles.length];
+        for (int i = 0; i < doubles.length; i++)
+        {
+            floats[i] = (float) doubles[i];
+        }
+
+        return floats;
+    }
+
+    // the doubles of a floating point VR, or DS, are decoded once and shared
+    public double[] getDoubles()
+    {
+        if (valueDecimal != null)
+        {
+            return valueDecimal;
+        }
+
+        double[] doubles = decodeDoubles();
+        if (!isPixelData && (isFloatingPointVR(VR) || VR.equals("DS")))
+        {
+            valueDecimal = doubles;
+        }
+
+        return doubles;
+    }
+
+    private double[] decodeDoubles()
+    {
+        if (isNumericStringVR(VR))
         {
-            isExplicitVrReserved = false;
+            ByteBuffer value = getValueBuffer();
+            double[] doubles = new double[numStringValues()];
+            boolean is_integer = VR.equals("IS");
+            for (int i = 0, from = 0; i < doubles.length; i++)
+            {
+                int to = stringValueEnd(value, from);
+                doubles[i] = is_integer ? ValueConversions.parseIntegerString(value, from, to)
+                        : ValueConversions.parseDecimalString(value, from, to);
+                from = to + 1;
+            }
+            return doubles;
+        }
+
+        ByteBuffer value = getValueBuffer();
+        int n = numBinaryValues();
+        double[] doubles = new double[n];
+
+        switch (VR)
+        {
+            case "FL", "OF" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    doubles[i] = value.getFloat(i << 2);
+                }
+            }
+            case "FD", "OD" ->
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    doubles[i] = value.getDouble(i << 3);
+                }
+            }
+            default ->
+            {
+                long[] longs = getLongs();
+                for (int i = 0; i < n; i++)
+                {
+                    doubles[i] = longs[i];
+                }
+            }
+        }
+
+        return doubles;
+    }
+
+    // single values, 0 if there is no index'th value
+
+    public int getInt()
+    {
+        return getInt(0);
+    }
+
+    public int getInt(int index)
+    {
+        return (int) getLong(index);
+    }
+
+    public long getLong(int index)
+    {
+        if (isNumericStringVR(VR))
+        {
+            return (long) getDouble(index);
+        }
+
+        if (index < 0 || index >= numBinaryValues())
+        {
+            return 0;
         }
+
+        ByteBuffer value = getValueBuffer();
+        return switch (VR)
+        {
+            case "OB", "UN" -> value.get(index) & 0xFF;
+            case "US", "OW" -> Short.toUnsignedInt(value.getShort(index << 1));
+            case "SS" -> value.getShort(index << 1);
+            case "UL", "OL" -> Integer.toUnsignedLong(value.getInt(index << 2));
+            case "SL" -> value.getInt(index << 2);
+            case "FL", "OF" -> (long) value.getFloat(index << 2);
+            case "FD", "OD" -> (long) value.getDouble(index << 3);
+            case "SV", "UV", "OV" -> value.getLong(index << 3);
+            default -> 0;
+        };
+    }
+
+    public double getDouble()
+    {
+        return getDouble(0);
+    }
+
+    public double getDouble(int index)
+    {
+        if (VR.equals("IS"))
+        {
+            long[] longs = getLongs();
+            return index >= 0 && index < longs.length ? longs[index] : 0.0;
+        }
+        if (VR.equals("DS"))
+        {
+            double[] doubles = getDoubles();
+            return index >= 0 && index < doubles.length ? doubles[index] : 0.0;
+        }
+
+        if (index < 0 || index >= numBinaryValues())
+        {
+            return 0.0;
+        }
+
+        ByteBuffer value = getValueBuffer();
+        return switch (VR)
+        {
+            case "FL", "OF" -> value.getFloat(index << 2);
+            case "FD", "OD" -> value.getDouble(index << 3);
+            default -> getLong(index);
+        };
+    }
+
+    // DA, TM and DT values, null if there is no index'th value or it isn't valid
+
+    public LocalDate getDate(int index)
+    {
+        ByteBuffer value = getValueBuffer();
+        int from = value == null || index < 0 || !"DA".equals(VR) ? -1 : stringValueStart(value, index);
+        return from < 0 ? null : ValueConversions.parseDate(value, from, stringValueEnd(value, from));
+    }
+
+    public LocalTime getTime(int index)
+    {
+        ByteBuffer value = getValueBuffer();
+        int from = value == null || index < 0 || !"TM".equals(VR) ? -1 : stringValueStart(value, index);
+        return from < 0 ? null : ValueConversions.parseTime(value, from, stringValueEnd(value, from));
+    }
+
+    public LocalDateTime getDateTime(int index)
+    {
+        ByteBuffer value = getValueBuffer();
+        int from = value == null || index < 0 || !"DT".equals(VR) ? -1 : stringValueStart(value, index);
+        return from < 0 ? null : ValueConversions.parseDateTime(value, from, stringValueEnd(value, from));
+    }
+
+    // the offset from UTC a DT value gives, null if it gives none
+    public ZoneOffset getDateTimeOffset(int index)
+    {
+        ByteBuffer value = getValueBuffer();
+        int from = value == null || index < 0 || !"DT".equals(VR) ? -1 : stringValueStart(value, index);
+        return from < 0 ? null : ValueConversions.parseDateTimeOffset(value, from, stringValueEnd(value, from));
+    }
+
+    public void calculateIsExplicitVRReserved()
+    {
+        isExplicitVrReserved = isExplicitVRReservedVR(VR);
+    }
+
+    // the VRs with 2 reserved bytes and a 4 byte length in explicit VR
+    public static boolean isExplicitVRReservedVR(String vr)
+    {
+        return vr != null && (vr.equals("OB") || vr.equals("OW")
+                || vr.equals("OF") || vr.equals("SQ")
+                || vr.equals("UN") || vr.equals("UT")
+                || vr.equals("OD") || vr.equals("OL") || vr.equals("OV")
+                || vr.equals("SV") || vr.equals("UV")
+                || vr.equals("UC") || vr.equals("UR"));
     }
 
     public void calculateIsSequence()
@@ -428,56 +1018,55 @@ public class DicomTag
 
     public void calculateIsSequenceDelimiter()
     {
-        isSequenceDelimiter = group.equals("FFFE") && element.equals("E0DD");
+        isSequenceDelimiter = tag == DicomTags.SequenceDelimitationItem;
         multiplicity = 0;
     }
 
     public void calculateIsItemDelimiter()
     {
-        isItemDelimiter = group.equals("FFFE") && element.equals("E00D");
+        isItemDelimiter = tag == DicomTags.ItemDelimitationItem;
         multiplicity = 0;
     }
 
     public void calculateIsItem()
     {
-        isItem = group.equals("FFFE") && element.equals("E000");
+        isItem = tag == DicomTags.Item;
     }
 
     public void calculateIsNumeric()
     {
-        isNumeric = VR.equals("FL") || VR.equals("FD") || VR.equals("SL")
-                || VR.equals("SS") || VR.equals("UL")
-                || VR.equals("US") || VR.equals("OB") || VR.equals("OD")
-                || VR.equals("OF") || VR.equals("OW");
+        isNumeric = isNumericVR(VR);
+    }
+
+    public static boolean isNumericVR(String vr)
+    {
+        return vr.equals("FL") || vr.equals("FD") || vr.equals("SL")
+                || vr.equals("SS") || vr.equals("UL")
+                || vr.equals("US") || vr.equals("OB") || vr.equals("OD")
+                || vr.equals("OF") || vr.equals("OW") || vr.equals("OL")
+                || vr.equals("OV") || vr.equals("SV") || vr.equals("UV");
     }
 
     public void calculateIsPixelData()
     {
-        if (group.equals("7FE0"))
+        String pixel_data_vr = pixelDataVR(tag);
+        isPixelData = pixel_data_vr != null;
+        if (isPixelData)
         {
-            switch (element)
-            {
-                case "0010" ->
-                {
-                    VR = "OB";
-                    isPixelData = true;
-                }
-                case "0009" ->
-                {
-                    VR = "OD";
-                    isPixelData = true;
-                }
-                case "0008" ->
-                {
-                    VR = "OF";
-                    isPixelData = true;
-                }
-            }
+            VR = pixel_data_vr;
         }
-        else
+    }
+
+    // the VR pixel data is read as, null if the tag is not pixel data
+    public static String pixelDataVR(int tag)
+    {
+        return switch (tag)
         {
-            isPixelData = false;
-        }
+            case DicomTags.PixelData -> "OB";
+            case DicomTags.DoubleFloatPixelData -> "OD";
+            case DicomTags.FloatPixelData -> "OF";
+            default -> null;
+        };
     }
 
     public String toString()
@@ -501,7 +1090,7 @@ public class DicomTag
         {
             if (isNumeric())
             {
-                if (rawValue == null || rawValue.length == 0)
+                if (getValueLength() == 0 || !hasValue())
                 {
                     a_value_sb.append("(no value available)");
                 }
@@ -509,11 +1098,13 @@ public class DicomTag
                 {
                     a_value_sb.append("[");
                     String hexString;
-                    for (int i = 0, j = 0; i < rawValue.length; i++, j++)
+                    // enough to print, without copying a bulk value out of its source
+                    byte[] preview = getRawValue(11);
+                    for (int i = 0, j = 0; i < preview.length; i++, j++)
                     {
                         if (j < 10)
                         {
-                            hexString = String.format("0x%02x", rawValue[i] & 0xFF);
+                            hexString = String.format("0x%02x", preview[i] & 0xFF);
                             a_value_sb.append(hexString);
                         }
 
@@ -524,7 +1115,7 @@ public class DicomTag
                         }
                         else
                         {
-                            if (i < rawValue.length - 1)
+                            if (i < preview.length - 1)
                             {
                                 a_value_sb.append("\\");
                             }
@@ -541,11 +1132,11 @@ public class DicomTag
                         {
                             if (VR.equals("FD") || VR.equals("OD"))
                             {
-                                a_value_sb.append(valueDecimal[i].doubleValue());
+                                a_value_sb.append(valueDecimal[i]);
                             }
                             else
                             {
-                                a_value_sb.append(valueDecimal[i].floatValue());
+                                a_value_sb.append((float) valueDecimal[i]);
                             }
                         }
 
@@ -571,7 +1162,9 @@ public class DicomTag
                     {
                         if (j < 10)
                         {
-                            a_value_sb.append(valueNumeric[i].intValue());
+                            // 64 bit unsigned values (offsets, say) past 2^63 - 1 are not negative
+                            a_value_sb.append(VR.equals("UV") || VR.equals("OV")
+                                    ? Long.toUnsignedString(valueNumeric[i]) : String.valueOf(valueNumeric[i]));
                         }
 
                         if (j >= 10)
@@ -594,7 +1187,7 @@ public class DicomTag
             {
                 if (valueString == null)
                 {
-                    valueString = DCMBuff.dataChunkToString(rawValue).trim();
+                    valueString = DCMBuff.dataChunkToString(getRawValue()).trim();
                 }
                 a_value_sb.append(valueString);
             }
@@ -615,9 +1208,9 @@ public class DicomTag
         {
             if (VR.equals("OB"))
             {
-                if (rawValue != null)
+                if (hasValue())
                 {
-                    a_length = String.valueOf(rawValue.length);
+                    a_length = String.valueOf(getValueLength());
                 }
                 else
                 {
@@ -639,7 +1232,7 @@ public class DicomTag
 
         StringBuilder sb1;
         sb1 = new StringBuilder();
-        sb1.append(groupElementKey);
+        sb1.append(get_group_element_key());
         sb1.append("\t");
         sb1.append(VR);
         sb1.append("\t");
@@ -653,7 +1246,7 @@ public class DicomTag
         sb2.append(", ");
         sb2.append(multiplicity);
         sb2.append("\t");
-        sb2.append(description);
+        sb2.append(getDescription());
 
         String output2 = sb2.toString();
 
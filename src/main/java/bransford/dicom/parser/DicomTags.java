@@ -1,4424 +1,4429 @@
 package bransford.dicom.parser;
 
+// Tags as their packed 32-bit (group << 16 | element) identity, the same int DicomTag.tag, DICOMDictionary and
+// DicomObject are keyed by. Repeating group tags (overlays, 6000-60FF) are given for the first group of the range
 public class DicomTags
 {
-    public static final String CommandGroupLength = "(0000,0000)";
-    public static final String AffectedSOPClassUID = "(0000,0002)";
-    public static final String RequestedSOPClassUID = "(0000,0003)";
-    public static final String CommandField = "(0000,0100)";
-    public static final String MessageID = "(0000,0110)";
-    public static final String MessageIDBeingRespondedTo = "(0000,0120)";
-    public static final String MoveDestination = "(0000,0600)";
-    public static final String Priority = "(0000,0700)";
-    public static final String CommandDataSetType = "(0000,0800)";
-    public static final String Status = "(0000,0900)";
-    public static final String OffendingElement = "(0000,0901)";
-    public static final String ErrorComment = "(0000,0902)";
-    public static final String ErrorID = "(0000,0903)";
-    public static final String AffectedSOPInstanceUID = "(0000,1000)";
-    public static final String RequestedSOPInstanceUID = "(0000,1001)";
-    public static final String EventTypeID = "(0000,1002)";
-    public static final String AttributeIdentifierList = "(0000,1005)";
-    public static final String ActionTypeID = "(0000,1008)";
-    public static final String NumberOfRemainingSuboperations = "(0000,1020)";
-    public static final String NumberOfCompletedSuboperations = "(0000,1021)";
-    public static final String NumberOfFailedSuboperations = "(0000,1022)";
-    public static final String NumberOfWarningSuboperations = "(0000,1023)";
-    public static final String MoveOriginatorApplicationEntityTitle = "(0000,1030)";
-    public static final String MoveOriginatorMessageID = "(0000,1031)";
-    public static final String FileMetaInformationGroupLength = "(0002,0000)";
-    public static final String FileMetaInformationVersion = "(0002,0001)";
-    public static final String MediaStorageSOPClassUID = "(0002,0002)";
-    public static final String MediaStorageSOPInstanceUID = "(0002,0003)";
-    public static final String TransferSyntaxUID = "(0002,0010)";
-    public static final String ImplementationClassUID = "(0002,0012)";
-    public static final String ImplementationVersionName = "(0002,0013)";
-    public static final String SourceApplicationEntityTitle = "(0002,0016)";
-    public static final String SendingApplicationEntityTitle = "(0002,0017)";
-    public static final String ReceivingApplicationEntityTitle = "(0002,0018)";
-    public static final String SourcePresentationAddress = "(0002,0026)";
-    public static final String SendingPresentationAddress = "(0002,0027)";
-    public static final String ReceivingPresentationAddress = "(0002,0028)";
-    public static final String RTVMetaInformationVersion = "(0002,0031)";
-    public static final String RTVCommunicationSOPClassUID = "(0002,0032)";
-    public static final String RTVCommunicationSOPInstanceUID = "(0002,0033)";
-    public static final String RTVSourceIdentifier = "(0002,0035)";
-    public static final String RTVFlowIdentifier = "(0002,0036)";
-    public static final String RTVFlowRTPSamplingRate = "(0002,0037)";
-    public static final String RTVFlowActualFrameDuration = "(0002,0038)";
-    public static final String PrivateInformationCreatorUID = "(0002,0100)";
-    public static final String PrivateInformation = "(0002,0102)";
-    public static final String FileSetID = "(0004,1130)";
-    public static final String FileSetDescriptorFileID = "(0004,1141)";
-    public static final String SpecificCharacterSetOfFileSetDescriptorFile = "(0004,1142)";
-    public static final String OffsetOfTheFirstDirectoryRecordOfTheRootDirectoryEntity = "(0004,1200)";
-    public static final String OffsetOfTheLastDirectoryRecordOfTheRootDirectoryEntity = "(0004,1202)";
-    public static final String FileSetConsistencyFlag = "(0004,1212)";
-    public static final String DirectoryRecordSequence = "(0004,1220)";
-    public static final String OffsetOfTheNextDirectoryRecord = "(0004,1400)";
-    public static final String RecordInUseFlag = "(0004,1410)";
-    public static final String OffsetOfReferencedLowerLevelDirectoryEntity = "(0004,1420)";
-    public static final String DirectoryRecordType = "(0004,1430)";
-    public static final String PrivateRecordUID = "(0004,1432)";
-    public static final String ReferencedFileID = "(0004,1500)";
-    public static final String ReferencedSOPClassUIDInFile = "(0004,1510)";
-    public static final String ReferencedSOPInstanceUIDInFile = "(0004,1511)";
-    public static final String ReferencedTransferSyntaxUIDInFile = "(0004,1512)";
-    public static final String ReferencedRelatedGeneralSOPClassUIDInFile = "(0004,151A)";
-    public static final String CurrentFrameFunctionalGroupsSequence = "(0006,0001)";
-    public static final String SpecificCharacterSet = "(0008,0005)";
-    public static final String LanguageCodeSequence = "(0008,0006)";
-    public static final String ImageType = "(0008,0008)";
-    public static final String InstanceCreationDate = "(0008,0012)";
-    public static final String InstanceCreationTime = "(0008,0013)";
-    public static final String InstanceCreatorUID = "(0008,0014)";
-    public static final String InstanceCoercionDateTime = "(0008,0015)";
-    public static final String SOPClassUID = "(0008,0016)";
-    public static final String SOPInstanceUID = "(0008,0018)";
-    public static final String RelatedGeneralSOPClassUID = "(0008,001A)";
-    public static final String OriginalSpecializedSOPClassUID = "(0008,001B)";
-    public static final String StudyDate = "(0008,0020)";
-    public static final String SeriesDate = "(0008,0021)";
-    public static final String AcquisitionDate = "(0008,0022)";
-    public static final String ContentDate = "(0008,0023)";
-    public static final String AcquisitionDateTime = "(0008,002A)";
-    public static final String StudyTime = "(0008,0030)";
-    public static final String SeriesTime = "(0008,0031)";
-    public static final String AcquisitionTime = "(0008,0032)";
-    public static final String ContentTime = "(0008,0033)";
-    public static final String AccessionNumber = "(0008,0050)";
-    public static final String IssuerOfAccessionNumberSequence = "(0008,0051)";
-    public static final String QueryRetrieveLevel = "(0008,0052)";
-    public static final String QueryRetrieveView = "(0008,0053)";
-    public static final String RetrieveAETitle = "(0008,0054)";
-    public static final String StationAETitle = "(0008,0055)";
-    public static final String InstanceAvailability = "(0008,0056)";
-    public static final String FailedSOPInstanceUIDList = "(0008,0058)";
-    public static final String Modality = "(0008,0060)";
-    public static final String ModalitiesInStudy = "(0008,0061)";
-    public static final String SOPClassesInStudy = "(0008,0062)";
-    public static final String AnatomicRegionsInStudyCodeSequence = "(0008,0063)";
-    public static final String ConversionType = "(0008,0064)";
-    public static final String PresentationIntentType = "(0008,0068)";
-    public static final String Manufacturer = "(0008,0070)";
-    public static final String InstitutionName = "(0008,0080)";
-    public static final String InstitutionAddress = "(0008,0081)";
-    public static final String InstitutionCodeSequence = "(0008,0082)";
-    public static final String ReferringPhysicianName = "(0008,0090)";
-    public static final String ReferringPhysicianAddress = "(0008,0092)";
-    public static final String ReferringPhysicianTelephoneNumbers = "(0008,0094)";
-    public static final String ReferringPhysicianIdentificationSequence = "(0008,0096)";
-    public static final String ConsultingPhysicianName = "(0008,009C)";
-    public static final String ConsultingPhysicianIdentificationSequence = "(0008,009D)";
-    public static final String CodeValue = "(0008,0100)";
-    public static final String ExtendedCodeValue = "(0008,0101)";
-    public static final String CodingSchemeDesignator = "(0008,0102)";
-    public static final String CodingSchemeVersion = "(0008,0103)";
-    public static final String CodeMeaning = "(0008,0104)";
-    public static final String MappingResource = "(0008,0105)";
-    public static final String ContextGroupVersion = "(0008,0106)";
-    public static final String ContextGroupLocalVersion = "(0008,0107)";
-    public static final String ExtendedCodeMeaning = "(0008,0108)";
-    public static final String CodingSchemeResourcesSequence = "(0008,0109)";
-    public static final String CodingSchemeURLType = "(0008,010A)";
-    public static final String ContextGroupExtensionFlag = "(0008,010B)";
-    public static final String CodingSchemeUID = "(0008,010C)";
-    public static final String ContextGroupExtensionCreatorUID = "(0008,010D)";
-    public static final String CodingSchemeURL = "(0008,010E)";
-    public static final String ContextIdentifier = "(0008,010F)";
-    public static final String CodingSchemeIdentificationSequence = "(0008,0110)";
-    public static final String CodingSchemeRegistry = "(0008,0112)";
-    public static final String CodingSchemeExternalID = "(0008,0114)";
-    public static final String CodingSchemeName = "(0008,0115)";
-    public static final String CodingSchemeResponsibleOrganization = "(0008,0116)";
-    public static final String ContextUID = "(0008,0117)";
-    public static final String MappingResourceUID = "(0008,0118)";
-    public static final String LongCodeValue = "(0008,0119)";
-    public static final String URNCodeValue = "(0008,0120)";
-    public static final String EquivalentCodeSequence = "(0008,0121)";
-    public static final String MappingResourceName = "(0008,0122)";
-    public static final String ContextGroupIdentificationSequence = "(0008,0123)";
-    public static final String MappingResourceIdentificationSequence = "(0008,0124)";
-    public static final String TimezoneOffsetFromUTC = "(0008,0201)";
-    public static final String ResponsibleGroupCodeSequence = "(0008,0220)";
-    public static final String EquipmentModality = "(0008,0221)";
-    public static final String ManufacturerRelatedModelGroup = "(0008,0222)";
-    public static final String PrivateDataElementCharacteristicsSequence = "(0008,0300)";
-    public static final String PrivateGroupReference = "(0008,0301)";
-    public static final String PrivateCreatorReference = "(0008,0302)";
-    public static final String BlockIdentifyingInformationStatus = "(0008,0303)";
-    public static final String NonidentifyingPrivateElements = "(0008,0304)";
-    public static final String DeidentificationActionSequence = "(0008,0305)";
-    public static final String IdentifyingPrivateElements = "(0008,0306)";
-    public static final String DeidentificationAction = "(0008,0307)";
-    public static final String PrivateDataElement = "(0008,0308)";
-    public static final String PrivateDataElementValueMultiplicity = "(0008,0309)";
-    public static final String PrivateDataElementValueRepresentation = "(0008,030A)";
-    public static final String PrivateDataElementNumberOfItems = "(0008,030B)";
-    public static final String PrivateDataElementName = "(0008,030C)";
-    public static final String PrivateDataElementKeyword = "(0008,030D)";
-    public static final String PrivateDataElementDescription = "(0008,030E)";
-    public static final String PrivateDataElementEncoding = "(0008,030F)";
-    public static final String PrivateDataElementDefinitionSequence = "(0008,0310)";
-    public static final String StationName = "(0008,1010)";
-    public static final String StudyDescription = "(0008,1030)";
-    public static final String ProcedureCodeSequence = "(0008,1032)";
-    public static final String SeriesDescription = "(0008,103E)";
-    public static final String SeriesDescriptionCodeSequence = "(0008,103F)";
-    public static final String InstitutionalDepartmentName = "(0008,1040)";
-    public static final String InstitutionalDepartmentTypeCodeSequence = "(0008,1041)";
-    public static final String PhysiciansOfRecord = "(0008,1048)";
-    public static final String PhysiciansOfRecordIdentificationSequence = "(0008,1049)";
-    public static final String PerformingPhysicianName = "(0008,1050)";
-    public static final String PerformingPhysicianIdentificationSequence = "(0008,1052)";
-    public static final String NameOfPhysiciansReadingStudy = "(0008,1060)";
-    public static final String PhysiciansReadingStudyIdentificationSequence = "(0008,1062)";
-    public static final String OperatorsName = "(0008,1070)";
-    public static final String OperatorIdentificationSequence = "(0008,1072)";
-    public static final String AdmittingDiagnosesDescription = "(0008,1080)";
-    public static final String AdmittingDiagnosesCodeSequence = "(0008,1084)";
-    public static final String ManufacturerModelName = "(0008,1090)";
-    public static final String ReferencedStudySequence = "(0008,1110)";
-    public static final String ReferencedPerformedProcedureStepSequence = "(0008,1111)";
-    public static final String ReferencedSeriesSequence = "(0008,1115)";
-    public static final String ReferencedPatientSequence = "(0008,1120)";
-    public static final String ReferencedVisitSequence = "(0008,1125)";
-    public static final String ReferencedStereometricInstanceSequence = "(0008,1134)";
-    public static final String ReferencedWaveformSequence = "(0008,113A)";
-    public static final String ReferencedImageSequence = "(0008,1140)";
-    public static final String ReferencedInstanceSequence = "(0008,114A)";
-    public static final String ReferencedRealWorldValueMappingInstanceSequence = "(0008,114B)";
-    public static final String ReferencedSOPClassUID = "(0008,1150)";
-    public static final String ReferencedSOPInstanceUID = "(0008,1155)";
-    public static final String DefinitionSourceSequence = "(0008,1156)";
-    public static final String SOPClassesSupported = "(0008,115A)";
-    public static final String ReferencedFrameNumber = "(0008,1160)";
-    public static final String SimpleFrameList = "(0008,1161)";
-    public static final String CalculatedFrameList = "(0008,1162)";
-    public static final String TimeRange = "(0008,1163)";
-    public static final String FrameExtractionSequence = "(0008,1164)";
-    public static final String MultiFrameSourceSOPInstanceUID = "(0008,1167)";
-    public static final String RetrieveURL = "(0008,1190)";
-    public static final String TransactionUID = "(0008,1195)";
-    public static final String WarningReason = "(0008,1196)";
-    public static final String FailureReason = "(0008,1197)";
-    public static final String FailedSOPSequence = "(0008,1198)";
-    public static final String ReferencedSOPSequence = "(0008,1199)";
-    public static final String OtherFailuresSequence = "(0008,119A)";
-    public static final String StudiesContainingOtherReferencedInstancesSequence = "(0008,1200)";
-    public static final String RelatedSeriesSequence = "(0008,1250)";
-    public static final String DerivationDescription = "(0008,2111)";
-    public static final String SourceImageSequence = "(0008,2112)";
-    public static final String StageName = "(0008,2120)";
-    public static final String StageNumber = "(0008,2122)";
-    public static final String NumberOfStages = "(0008,2124)";
-    public static final String ViewName = "(0008,2127)";
-    public static final String ViewNumber = "(0008,2128)";
-    public static final String NumberOfEventTimers = "(0008,2129)";
-    public static final String NumberOfViewsInStage = "(0008,212A)";
-    public static final String EventElapsedTimes = "(0008,2130)";
-    public static final String EventTimerNames = "(0008,2132)";
-    public static final String EventTimerSequence = "(0008,2133)";
-    public static final String EventTimeOffset = "(0008,2134)";
-    public static final String EventCodeSequence = "(0008,2135)";
-    public static final String StartTrim = "(0008,2142)";
-    public static final String StopTrim = "(0008,2143)";
-    public static final String RecommendedDisplayFrameRate = "(0008,2144)";
-    public static final String AnatomicRegionSequence = "(0008,2218)";
-    public static final String AnatomicRegionModifierSequence = "(0008,2220)";
-    public static final String PrimaryAnatomicStructureSequence = "(0008,2228)";
-    public static final String PrimaryAnatomicStructureModifierSequence = "(0008,2230)";
-    public static final String AlternateRepresentationSequence = "(0008,3001)";
-    public static final String AvailableTransferSyntaxUID = "(0008,3002)";
-    public static final String IrradiationEventUID = "(0008,3010)";
-    public static final String SourceIrradiationEventSequence = "(0008,3011)";
-    public static final String RadiopharmaceuticalAdministrationEventUID = "(0008,3012)";
-    public static final String FrameType = "(0008,9007)";
-    public static final String ReferencedImageEvidenceSequence = "(0008,9092)";
-    public static final String ReferencedRawDataSequence = "(0008,9121)";
-    public static final String CreatorVersionUID = "(0008,9123)";
-    public static final String DerivationImageSequence = "(0008,9124)";
-    public static final String SourceImageEvidenceSequence = "(0008,9154)";
-    public static final String PixelPresentation = "(0008,9205)";
-    public static final String VolumetricProperties = "(0008,9206)";
-    public static final String VolumeBasedCalculationTechnique = "(0008,9207)";
-    public static final String ComplexImageComponent = "(0008,9208)";
-    public static final String AcquisitionContrast = "(0008,9209)";
-    public static final String DerivationCodeSequence = "(0008,9215)";
-    public static final String ReferencedPresentationStateSequence = "(0008,9237)";
-    public static final String ReferencedOtherPlaneSequence = "(0008,9410)";
-    public static final String FrameDisplaySequence = "(0008,9458)";
-    public static final String RecommendedDisplayFrameRateInFloat = "(0008,9459)";
-    public static final String SkipFrameRangeFlag = "(0008,9460)";
-    public static final String PatientName = "(0010,0010)";
-    public static final String PatientID = "(0010,0020)";
-    public static final String IssuerOfPatientID = "(0010,0021)";
-    public static final String TypeOfPatientID = "(0010,0022)";
-    public static final String IssuerOfPatientIDQualifiersSequence = "(0010,0024)";
-    public static final String SourcePatientGroupIdentificationSequence = "(0010,0026)";
-    public static final String GroupOfPatientsIdentificationSequence = "(0010,0027)";
-    public static final String SubjectRelativePositionInImage = "(0010,0028)";
-    public static final String PatientBirthDate = "(0010,0030)";
-    public static final String PatientBirthTime = "(0010,0032)";
-    public static final String PatientBirthDateInAlternativeCalendar = "(0010,0033)";
-    public static final String PatientDeathDateInAlternativeCalendar = "(0010,0034)";
-    public static final String PatientAlternativeCalendar = "(0010,0035)";
-    public static final String PatientSex = "(0010,0040)";
-    public static final String PatientInsurancePlanCodeSequence = "(0010,0050)";
-    public static final String PatientPrimaryLanguageCodeSequence = "(0010,0101)";
-    public static final String PatientPrimaryLanguageModifierCodeSequence = "(0010,0102)";
-    public static final String QualityControlSubject = "(0010,0200)";
-    public static final String QualityControlSubjectTypeCodeSequence = "(0010,0201)";
-    public static final String StrainDescription = "(0010,0212)";
-    public static final String StrainNomenclature = "(0010,0213)";
-    public static final String StrainStockNumber = "(0010,0214)";
-    public static final String StrainSourceRegistryCodeSequence = "(0010,0215)";
-    public static final String StrainStockSequence = "(0010,0216)";
-    public static final String StrainSource = "(0010,0217)";
-    public static final String StrainAdditionalInformation = "(0010,0218)";
-    public static final String StrainCodeSequence = "(0010,0219)";
-    public static final String GeneticModificationsSequence = "(0010,0221)";
-    public static final String GeneticModificationsDescription = "(0010,0222)";
-    public static final String GeneticModificationsNomenclature = "(0010,0223)";
-    public static final String GeneticModificationsCodeSequence = "(0010,0229)";
-    public static final String OtherPatientNames = "(0010,1001)";
-    public static final String OtherPatientIDsSequence = "(0010,1002)";
-    public static final String PatientBirthName = "(0010,1005)";
-    public static final String PatientAge = "(0010,1010)";
-    public static final String PatientSize = "(0010,1020)";
-    public static final String PatientSizeCodeSequence = "(0010,1021)";
-    public static final String PatientBodyMassIndex = "(0010,1022)";
-    public static final String MeasuredAPDimension = "(0010,1023)";
-    public static final String MeasuredLateralDimension = "(0010,1024)";
-    public static final String PatientWeight = "(0010,1030)";
-    public static final String PatientAddress = "(0010,1040)";
-    public static final String PatientMotherBirthName = "(0010,1060)";
-    public static final String MilitaryRank = "(0010,1080)";
-    public static final String BranchOfService = "(0010,1081)";
-    public static final String ReferencedPatientPhotoSequence = "(0010,1100)";
-    public static final String MedicalAlerts = "(0010,2000)";
-    public static final String Allergies = "(0010,2110)";
-    public static final String CountryOfResidence = "(0010,2150)";
-    public static final String RegionOfResidence = "(0010,2152)";
-    public static final String PatientTelephoneNumbers = "(0010,2154)";
-    public static final String PatientTelecomInformation = "(0010,2155)";
-    public static final String EthnicGroup = "(0010,2160)";
-    public static final String Occupation = "(0010,2180)";
-    public static final String SmokingStatus = "(0010,21A0)";
-    public static final String AdditionalPatientHistory = "(0010,21B0)";
-    public static final String PregnancyStatus = "(0010,21C0)";
-    public static final String LastMenstrualDate = "(0010,21D0)";
-    public static final String PatientReligiousPreference = "(0010,21F0)";
-    public static final String PatientSpeciesDescription = "(0010,2201)";
-    public static final String PatientSpeciesCodeSequence = "(0010,2202)";
-    public static final String PatientSexNeutered = "(0010,2203)";
-    public static final String AnatomicalOrientationType = "(0010,2210)";
-    public static final String PatientBreedDescription = "(0010,2292)";
-    public static final String PatientBreedCodeSequence = "(0010,2293)";
-    public static final String BreedRegistrationSequence = "(0010,2294)";
-    public static final String BreedRegistrationNumber = "(0010,2295)";
-    public static final String BreedRegistryCodeSequence = "(0010,2296)";
-    public static final String ResponsiblePerson = "(0010,2297)";
-    public static final String ResponsiblePersonRole = "(0010,2298)";
-    public static final String ResponsibleOrganization = "(0010,2299)";
-    public static final String PatientComments = "(0010,4000)";
-    public static final String ExaminedBodyThickness = "(0010,9431)";
-    public static final String ClinicalTrialSponsorName = "(0012,0010)";
-    public static final String ClinicalTrialProtocolID = "(0012,0020)";
-    public static final String ClinicalTrialProtocolName = "(0012,0021)";
-    public static final String ClinicalTrialSiteID = "(0012,0030)";
-    public static final String ClinicalTrialSiteName = "(0012,0031)";
-    public static final String ClinicalTrialSubjectID = "(0012,0040)";
-    public static final String ClinicalTrialSubjectReadingID = "(0012,0042)";
-    public static final String ClinicalTrialTimePointID = "(0012,0050)";
-    public static final String ClinicalTrialTimePointDescription = "(0012,0051)";
-    public static final String LongitudinalTemporalOffsetFromEvent = "(0012,0052)";
-    public static final String LongitudinalTemporalEventType = "(0012,0053)";
-    public static final String ClinicalTrialCoordinatingCenterName = "(0012,0060)";
-    public static final String PatientIdentityRemoved = "(0012,0062)";
-    public static final String DeidentificationMethod = "(0012,0063)";
-    public static final String DeidentificationMethodCodeSequence = "(0012,0064)";
-    public static final String ClinicalTrialSeriesID = "(0012,0071)";
-    public static final String ClinicalTrialSeriesDescription = "(0012,0072)";
-    public static final String ClinicalTrialProtocolEthicsCommitteeName = "(0012,0081)";
-    public static final String ClinicalTrialProtocolEthicsCommitteeApprovalNumber = "(0012,0082)";
-    public static final String ConsentForClinicalTrialUseSequence = "(0012,0083)";
-    public static final String DistributionType = "(0012,0084)";
-    public static final String ConsentForDistributionFlag = "(0012,0085)";
-    public static final String EthicsCommitteeApprovalEffectivenessStartDate = "(0012,0086)";
-    public static final String EthicsCommitteeApprovalEffectivenessEndDate = "(0012,0087)";
-    public static final String ComponentManufacturingProcedure = "(0014,0025)";
-    public static final String ComponentManufacturer = "(0014,0028)";
-    public static final String MaterialThickness = "(0014,0030)";
-    public static final String MaterialPipeDiameter = "(0014,0032)";
-    public static final String MaterialIsolationDiameter = "(0014,0034)";
-    public static final String MaterialGrade = "(0014,0042)";
-    public static final String MaterialPropertiesDescription = "(0014,0044)";
-    public static final String MaterialNotes = "(0014,0046)";
-    public static final String ComponentShape = "(0014,0050)";
-    public static final String CurvatureType = "(0014,0052)";
-    public static final String OuterDiameter = "(0014,0054)";
-    public static final String InnerDiameter = "(0014,0056)";
-    public static final String ComponentWelderIDs = "(0014,0100)";
-    public static final String SecondaryApprovalStatus = "(0014,0101)";
-    public static final String SecondaryReviewDate = "(0014,0102)";
-    public static final String SecondaryReviewTime = "(0014,0103)";
-    public static final String SecondaryReviewerName = "(0014,0104)";
-    public static final String RepairID = "(0014,0105)";
-    public static final String MultipleComponentApprovalSequence = "(0014,0106)";
-    public static final String OtherApprovalStatus = "(0014,0107)";
-    public static final String OtherSecondaryApprovalStatus = "(0014,0108)";
-    public static final String ActualEnvironmentalConditions = "(0014,1010)";
-    public static final String ExpiryDate = "(0014,1020)";
-    public static final String EnvironmentalConditions = "(0014,1040)";
-    public static final String EvaluatorSequence = "(0014,2002)";
-    public static final String EvaluatorNumber = "(0014,2004)";
-    public static final String EvaluatorName = "(0014,2006)";
-    public static final String EvaluationAttempt = "(0014,2008)";
-    public static final String IndicationSequence = "(0014,2012)";
-    public static final String IndicationNumber = "(0014,2014)";
-    public static final String IndicationLabel = "(0014,2016)";
-    public static final String IndicationDescription = "(0014,2018)";
-    public static final String IndicationType = "(0014,201A)";
-    public static final String IndicationDisposition = "(0014,201C)";
-    public static final String IndicationROISequence = "(0014,201E)";
-    public static final String IndicationPhysicalPropertySequence = "(0014,2030)";
-    public static final String PropertyLabel = "(0014,2032)";
-    public static final String CoordinateSystemNumberOfAxes = "(0014,2202)";
-    public static final String CoordinateSystemAxesSequence = "(0014,2204)";
-    public static final String CoordinateSystemAxisDescription = "(0014,2206)";
-    public static final String CoordinateSystemDataSetMapping = "(0014,2208)";
-    public static final String CoordinateSystemAxisNumber = "(0014,220A)";
-    public static final String CoordinateSystemAxisType = "(0014,220C)";
-    public static final String CoordinateSystemAxisUnits = "(0014,220E)";
-    public static final String CoordinateSystemAxisValues = "(0014,2210)";
-    public static final String CoordinateSystemTransformSequence = "(0014,2220)";
-    public static final String TransformDescription = "(0014,2222)";
-    public static final String TransformNumberOfAxes = "(0014,2224)";
-    public static final String TransformOrderOfAxes = "(0014,2226)";
-    public static final String TransformedAxisUnits = "(0014,2228)";
-    public static final String CoordinateSystemTransformRotationAndScaleMatrix = "(0014,222A)";
-    public static final String CoordinateSystemTransformTranslationMatrix = "(0014,222C)";
-    public static final String InternalDetectorFrameTime = "(0014,3011)";
-    public static final String NumberOfFramesIntegrated = "(0014,3012)";
-    public static final String DetectorTemperatureSequence = "(0014,3020)";
-    public static final String SensorName = "(0014,3022)";
-    public static final String HorizontalOffsetOfSensor = "(0014,3024)";
-    public static final String VerticalOffsetOfSensor = "(0014,3026)";
-    public static final String SensorTemperature = "(0014,3028)";
-    public static final String DarkCurrentSequence = "(0014,3040)";
-    public static final String DarkCurrentCounts = "(0014,3050)";
-    public static final String GainCorrectionReferenceSequence = "(0014,3060)";
-    public static final String AirCounts = "(0014,3070)";
-    public static final String KVUsedInGainCalibration = "(0014,3071)";
-    public static final String MAUsedInGainCalibration = "(0014,3072)";
-    public static final String NumberOfFramesUsedForIntegration = "(0014,3073)";
-    public static final String FilterMaterialUsedInGainCalibration = "(0014,3074)";
-    public static final String FilterThicknessUsedInGainCalibration = "(0014,3075)";
-    public static final String DateOfGainCalibration = "(0014,3076)";
-    public static final String TimeOfGainCalibration = "(0014,3077)";
-    public static final String BadPixelImage = "(0014,3080)";
-    public static final String CalibrationNotes = "(0014,3099)";
-    public static final String PulserEquipmentSequence = "(0014,4002)";
-    public static final String PulserType = "(0014,4004)";
-    public static final String PulserNotes = "(0014,4006)";
-    public static final String ReceiverEquipmentSequence = "(0014,4008)";
-    public static final String AmplifierType = "(0014,400A)";
-    public static final String ReceiverNotes = "(0014,400C)";
-    public static final String PreAmplifierEquipmentSequence = "(0014,400E)";
-    public static final String PreAmplifierNotes = "(0014,400F)";
-    public static final String TransmitTransducerSequence = "(0014,4010)";
-    public static final String ReceiveTransducerSequence = "(0014,4011)";
-    public static final String NumberOfElements = "(0014,4012)";
-    public static final String ElementShape = "(0014,4013)";
-    public static final String ElementDimensionA = "(0014,4014)";
-    public static final String ElementDimensionB = "(0014,4015)";
-    public static final String ElementPitchA = "(0014,4016)";
-    public static final String MeasuredBeamDimensionA = "(0014,4017)";
-    public static final String MeasuredBeamDimensionB = "(0014,4018)";
-    public static final String LocationOfMeasuredBeamDiameter = "(0014,4019)";
-    public static final String NominalFrequency = "(0014,401A)";
-    public static final String MeasuredCenterFrequency = "(0014,401B)";
-    public static final String MeasuredBandwidth = "(0014,401C)";
-    public static final String ElementPitchB = "(0014,401D)";
-    public static final String PulserSettingsSequence = "(0014,4020)";
-    public static final String PulseWidth = "(0014,4022)";
-    public static final String ExcitationFrequency = "(0014,4024)";
-    public static final String ModulationType = "(0014,4026)";
-    public static final String Damping = "(0014,4028)";
-    public static final String ReceiverSettingsSequence = "(0014,4030)";
-    public static final String AcquiredSoundpathLength = "(0014,4031)";
-    public static final String AcquisitionCompressionType = "(0014,4032)";
-    public static final String AcquisitionSampleSize = "(0014,4033)";
-    public static final String RectifierSmoothing = "(0014,4034)";
-    public static final String DACSequence = "(0014,4035)";
-    public static final String DACType = "(0014,4036)";
-    public static final String DACGainPoints = "(0014,4038)";
-    public static final String DACTimePoints = "(0014,403A)";
-    public static final String DACAmplitude = "(0014,403C)";
-    public static final String PreAmplifierSettingsSequence = "(0014,4040)";
-    public static final String TransmitTransducerSettingsSequence = "(0014,4050)";
-    public static final String ReceiveTransducerSettingsSequence = "(0014,4051)";
-    public static final String IncidentAngle = "(0014,4052)";
-    public static final String CouplingTechnique = "(0014,4054)";
-    public static final String CouplingMedium = "(0014,4056)";
-    public static final String CouplingVelocity = "(0014,4057)";
-    public static final String ProbeCenterLocationX = "(0014,4058)";
-    public static final String ProbeCenterLocationZ = "(0014,4059)";
-    public static final String SoundPathLength = "(0014,405A)";
-    public static final String DelayLawIdentifier = "(0014,405C)";
-    public static final String GateSettingsSequence = "(0014,4060)";
-    public static final String GateThreshold = "(0014,4062)";
-    public static final String VelocityOfSound = "(0014,4064)";
-    public static final String CalibrationSettingsSequence = "(0014,4070)";
-    public static final String CalibrationProcedure = "(0014,4072)";
-    public static final String ProcedureVersion = "(0014,4074)";
-    public static final String ProcedureCreationDate = "(0014,4076)";
-    public static final String ProcedureExpirationDate = "(0014,4078)";
-    public static final String ProcedureLastModifiedDate = "(0014,407A)";
-    public static final String CalibrationTime = "(0014,407C)";
-    public static final String CalibrationDate = "(0014,407E)";
-    public static final String ProbeDriveEquipmentSequence = "(0014,4080)";
-    public static final String DriveType = "(0014,4081)";
-    public static final String ProbeDriveNotes = "(0014,4082)";
-    public static final String DriveProbeSequence = "(0014,4083)";
-    public static final String ProbeInductance = "(0014,4084)";
-    public static final String ProbeResistance = "(0014,4085)";
-    public static final String ReceiveProbeSequence = "(0014,4086)";
-    public static final String ProbeDriveSettingsSequence = "(0014,4087)";
-    public static final String BridgeResistors = "(0014,4088)";
-    public static final String ProbeOrientationAngle = "(0014,4089)";
-    public static final String UserSelectedGainY = "(0014,408B)";
-    public static final String UserSelectedPhase = "(0014,408C)";
-    public static final String UserSelectedOffsetX = "(0014,408D)";
-    public static final String UserSelectedOffsetY = "(0014,408E)";
-    public static final String ChannelSettingsSequence = "(0014,4091)";
-    public static final String ChannelThreshold = "(0014,4092)";
-    public static final String ScannerSettingsSequence = "(0014,409A)";
-    public static final String ScanProcedure = "(0014,409B)";
-    public static final String TranslationRateX = "(0014,409C)";
-    public static final String TranslationRateY = "(0014,409D)";
-    public static final String ChannelOverlap = "(0014,409F)";
-    public static final String ImageQualityIndicatorType = "(0014,40A0)";
-    public static final String ImageQualityIndicatorMaterial = "(0014,40A1)";
-    public static final String ImageQualityIndicatorSize = "(0014,40A2)";
-    public static final String LINACEnergy = "(0014,5002)";
-    public static final String LINACOutput = "(0014,5004)";
-    public static final String ActiveAperture = "(0014,5100)";
-    public static final String TotalAperture = "(0014,5101)";
-    public static final String ApertureElevation = "(0014,5102)";
-    public static final String MainLobeAngle = "(0014,5103)";
-    public static final String MainRoofAngle = "(0014,5104)";
-    public static final String ConnectorType = "(0014,5105)";
-    public static final String WedgeModelNumber = "(0014,5106)";
-    public static final String WedgeAngleFloat = "(0014,5107)";
-    public static final String WedgeRoofAngle = "(0014,5108)";
-    public static final String WedgeElement1Position = "(0014,5109)";
-    public static final String WedgeMaterialVelocity = "(0014,510A)";
-    public static final String WedgeMaterial = "(0014,510B)";
-    public static final String WedgeOffsetZ = "(0014,510C)";
-    public static final String WedgeOriginOffsetX = "(0014,510D)";
-    public static final String WedgeTimeDelay = "(0014,510E)";
-    public static final String WedgeName = "(0014,510F)";
-    public static final String WedgeManufacturerName = "(0014,5110)";
-    public static final String WedgeDescription = "(0014,5111)";
-    public static final String NominalBeamAngle = "(0014,5112)";
-    public static final String WedgeOffsetX = "(0014,5113)";
-    public static final String WedgeOffsetY = "(0014,5114)";
-    public static final String WedgeTotalLength = "(0014,5115)";
-    public static final String WedgeInContactLength = "(0014,5116)";
-    public static final String WedgeFrontGap = "(0014,5117)";
-    public static final String WedgeTotalHeight = "(0014,5118)";
-    public static final String WedgeFrontHeight = "(0014,5119)";
-    public static final String WedgeRearHeight = "(0014,511A)";
-    public static final String WedgeTotalWidth = "(0014,511B)";
-    public static final String WedgeInContactWidth = "(0014,511C)";
-    public static final String WedgeChamferHeight = "(0014,511D)";
-    public static final String WedgeCurve = "(0014,511E)";
-    public static final String RadiusAlongWedge = "(0014,511F)";
-    public static final String WhitePoint = "(0016,0001)";
-    public static final String PrimaryChromaticities = "(0016,0002)";
-    public static final String BatteryLevel = "(0016,0003)";
-    public static final String ExposureTimeInSeconds = "(0016,0004)";
-    public static final String FNumber = "(0016,0005)";
-    public static final String OECFRows = "(0016,0006)";
-    public static final String OECFColumns = "(0016,0007)";
-    public static final String OECFColumnNames = "(0016,0008)";
-    public static final String OECFValues = "(0016,0009)";
-    public static final String SpatialFrequencyResponseRows = "(0016,000A)";
-    public static final String SpatialFrequencyResponseColumns = "(0016,000B)";
-    public static final String SpatialFrequencyResponseColumnNames = "(0016,000C)";
-    public static final String SpatialFrequencyResponseValues = "(0016,000D)";
-    public static final String ColorFilterArrayPatternRows = "(0016,000E)";
-    public static final String ColorFilterArrayPatternColumns = "(0016,000F)";
-    public static final String ColorFilterArrayPatternValues = "(0016,0010)";
-    public static final String FlashFiringStatus = "(0016,0011)";
-    public static final String FlashReturnStatus = "(0016,0012)";
-    public static final String FlashMode = "(0016,0013)";
-    public static final String FlashFunctionPresent = "(0016,0014)";
-    public static final String FlashRedEyeMode = "(0016,0015)";
-    public static final String ExposureProgram = "(0016,0016)";
-    public static final String SpectralSensitivity = "(0016,0017)";
-    public static final String PhotographicSensitivity = "(0016,0018)";
-    public static final String SelfTimerMode = "(0016,0019)";
-    public static final String SensitivityType = "(0016,001A)";
-    public static final String StandardOutputSensitivity = "(0016,001B)";
-    public static final String RecommendedExposureIndex = "(0016,001C)";
-    public static final String ISOSpeed = "(0016,001D)";
-    public static final String ISOSpeedLatitudeyyy = "(0016,001E)";
-    public static final String ISOSpeedLatitudezzz = "(0016,001F)";
-    public static final String EXIFVersion = "(0016,0020)";
-    public static final String ShutterSpeedValue = "(0016,0021)";
-    public static final String ApertureValue = "(0016,0022)";
-    public static final String BrightnessValue = "(0016,0023)";
-    public static final String ExposureBiasValue = "(0016,0024)";
-    public static final String MaxApertureValue = "(0016,0025)";
-    public static final String SubjectDistance = "(0016,0026)";
-    public static final String MeteringMode = "(0016,0027)";
-    public static final String LightSource = "(0016,0028)";
-    public static final String FocalLength = "(0016,0029)";
-    public static final String SubjectArea = "(0016,002A)";
-    public static final String MakerNote = "(0016,002B)";
-    public static final String Temperature = "(0016,0030)";
-    public static final String Humidity = "(0016,0031)";
-    public static final String Pressure = "(0016,0032)";
-    public static final String WaterDepth = "(0016,0033)";
-    public static final String Acceleration = "(0016,0034)";
-    public static final String CameraElevationAngle = "(0016,0035)";
-    public static final String FlashEnergy = "(0016,0036)";
-    public static final String SubjectLocation = "(0016,0037)";
-    public static final String PhotographicExposureIndex = "(0016,0038)";
-    public static final String SensingMethod = "(0016,0039)";
-    public static final String FileSource = "(0016,003A)";
-    public static final String SceneType = "(0016,003B)";
-    public static final String CustomRendered = "(0016,0041)";
-    public static final String ExposureMode = "(0016,0042)";
-    public static final String WhiteBalance = "(0016,0043)";
-    public static final String DigitalZoomRatio = "(0016,0044)";
-    public static final String FocalLengthIn35mmFilm = "(0016,0045)";
-    public static final String SceneCaptureType = "(0016,0046)";
-    public static final String GainControl = "(0016,0047)";
-    public static final String Contrast = "(0016,0048)";
-    public static final String Saturation = "(0016,0049)";
-    public static final String Sharpness = "(0016,004A)";
-    public static final String DeviceSettingDescription = "(0016,004B)";
-    public static final String SubjectDistanceRange = "(0016,004C)";
-    public static final String CameraOwnerName = "(0016,004D)";
-    public static final String LensSpecification = "(0016,004E)";
-    public static final String LensMake = "(0016,004F)";
-    public static final String LensModel = "(0016,0050)";
-    public static final String LensSerialNumber = "(0016,0051)";
-    public static final String InteroperabilityIndex = "(0016,0061)";
-    public static final String InteroperabilityVersion = "(0016,0062)";
-    public static final String GPSVersionID = "(0016,0070)";
-    public static final String GPSLatitudeRef = "(0016,0071)";
-    public static final String GPSLatitude = "(0016,0072)";
-    public static final String GPSLongitudeRef = "(0016,0073)";
-    public static final String GPSLongitude = "(0016,0074)";
-    public static final String GPSAltitudeRef = "(0016,0075)";
-    public static final String GPSAltitude = "(0016,0076)";
-    public static final String GPSTimeStamp = "(0016,0077)";
-    public static final String GPSSatellites = "(0016,0078)";
-    public static final String GPSStatus = "(0016,0079)";
-    public static final String GPSMeasureMode = "(0016,007A)";
-    public static final String GPSDOP = "(0016,007B)";
-    public static final String GPSSpeedRef = "(0016,007C)";
-    public static final String GPSSpeed = "(0016,007D)";
-    public static final String GPSTrackRef = "(0016,007E)";
-    public static final String GPSTrack = "(0016,007F)";
-    public static final String GPSImgDirectionRef = "(0016,0080)";
-    public static final String GPSImgDirection = "(0016,0081)";
-    public static final String GPSMapDatum = "(0016,0082)";
-    public static final String GPSDestLatitudeRef = "(0016,0083)";
-    public static final String GPSDestLatitude = "(0016,0084)";
-    public static final String GPSDestLongitudeRef = "(0016,0085)";
-    public static final String GPSDestLongitude = "(0016,0086)";
-    public static final String GPSDestBearingRef = "(0016,0087)";
-    public static final String GPSDestBearing = "(0016,0088)";
-    public static final String GPSDestDistanceRef = "(0016,0089)";
-    public static final String GPSDestDistance = "(0016,008A)";
-    public static final String GPSProcessingMethod = "(0016,008B)";
-    public static final String GPSAreaInformation = "(0016,008C)";
-    public static final String GPSDateStamp = "(0016,008D)";
-    public static final String GPSDifferential = "(0016,008E)";
-    public static final String LightSourcePolarization = "(0016,1001)";
-    public static final String EmitterColorTemperature = "(0016,1002)";
-    public static final String ContactMethod = "(0016,1003)";
-    public static final String ImmersionMedia = "(0016,1004)";
-    public static final String OpticalMagnificationFactor = "(0016,1005)";
-    public static final String ContrastBolusAgent = "(0018,0010)";
-    public static final String ContrastBolusAgentSequence = "(0018,0012)";
-    public static final String ContrastBolusT1Relaxivity = "(0018,0013)";
-    public static final String ContrastBolusAdministrationRouteSequence = "(0018,0014)";
-    public static final String BodyPartExamined = "(0018,0015)";
-    public static final String ScanningSequence = "(0018,0020)";
-    public static final String SequenceVariant = "(0018,0021)";
-    public static final String ScanOptions = "(0018,0022)";
-    public static final String MRAcquisitionType = "(0018,0023)";
-    public static final String SequenceName = "(0018,0024)";
-    public static final String AngioFlag = "(0018,0025)";
-    public static final String InterventionDrugInformationSequence = "(0018,0026)";
-    public static final String InterventionDrugStopTime = "(0018,0027)";
-    public static final String InterventionDrugDose = "(0018,0028)";
-    public static final String InterventionDrugCodeSequence = "(0018,0029)";
-    public static final String AdditionalDrugSequence = "(0018,002A)";
-    public static final String Radiopharmaceutical = "(0018,0031)";
-    public static final String InterventionDrugName = "(0018,0034)";
-    public static final String InterventionDrugStartTime = "(0018,0035)";
-    public static final String InterventionSequence = "(0018,0036)";
-    public static final String InterventionStatus = "(0018,0038)";
-    public static final String InterventionDescription = "(0018,003A)";
-    public static final String CineRate = "(0018,0040)";
-    public static final String InitialCineRunState = "(0018,0042)";
-    public static final String SliceThickness = "(0018,0050)";
-    public static final String KVP = "(0018,0060)";
-    public static final String CountsAccumulated = "(0018,0070)";
-    public static final String AcquisitionTerminationCondition = "(0018,0071)";
-    public static final String EffectiveDuration = "(0018,0072)";
-    public static final String AcquisitionStartCondition = "(0018,0073)";
-    public static final String AcquisitionStartConditionData = "(0018,0074)";
-    public static final String AcquisitionTerminationConditionData = "(0018,0075)";
-    public static final String RepetitionTime = "(0018,0080)";
-    public static final String EchoTime = "(0018,0081)";
-    public static final String InversionTime = "(0018,0082)";
-    public static final String NumberOfAverages = "(0018,0083)";
-    public static final String ImagingFrequency = "(0018,0084)";
-    public static final String ImagedNucleus = "(0018,0085)";
-    public static final String EchoNumbers = "(0018,0086)";
-    public static final String MagneticFieldStrength = "(0018,0087)";
-    public static final String SpacingBetweenSlices = "(0018,0088)";
-    public static final String NumberOfPhaseEncodingSteps = "(0018,0089)";
-    public static final String DataCollectionDiameter = "(0018,0090)";
-    public static final String EchoTrainLength = "(0018,0091)";
-    public static final String PercentSampling = "(0018,0093)";
-    public static final String PercentPhaseFieldOfView = "(0018,0094)";
-    public static final String PixelBandwidth = "(0018,0095)";
-    public static final String DeviceSerialNumber = "(0018,1000)";
-    public static final String DeviceUID = "(0018,1002)";
-    public static final String DeviceID = "(0018,1003)";
-    public static final String PlateID = "(0018,1004)";
-    public static final String GeneratorID = "(0018,1005)";
-    public static final String GridID = "(0018,1006)";
-    public static final String CassetteID = "(0018,1007)";
-    public static final String GantryID = "(0018,1008)";
-    public static final String UniqueDeviceIdentifier = "(0018,1009)";
-    public static final String UDISequence = "(0018,100A)";
-    public static final String ManufacturerDeviceClassUID = "(0018,100B)";
-    public static final String SecondaryCaptureDeviceID = "(0018,1010)";
-    public static final String DateOfSecondaryCapture = "(0018,1012)";
-    public static final String TimeOfSecondaryCapture = "(0018,1014)";
-    public static final String SecondaryCaptureDeviceManufacturer = "(0018,1016)";
-    public static final String SecondaryCaptureDeviceManufacturerModelName = "(0018,1018)";
-    public static final String SecondaryCaptureDeviceSoftwareVersions = "(0018,1019)";
-    public static final String SoftwareVersions = "(0018,1020)";
-    public static final String VideoImageFormatAcquired = "(0018,1022)";
-    public static final String DigitalImageFormatAcquired = "(0018,1023)";
-    public static final String ProtocolName = "(0018,1030)";
-    public static final String ContrastBolusRoute = "(0018,1040)";
-    public static final String ContrastBolusVolume = "(0018,1041)";
-    public static final String ContrastBolusStartTime = "(0018,1042)";
-    public static final String ContrastBolusStopTime = "(0018,1043)";
-    public static final String ContrastBolusTotalDose = "(0018,1044)";
-    public static final String SyringeCounts = "(0018,1045)";
-    public static final String ContrastFlowRate = "(0018,1046)";
-    public static final String ContrastFlowDuration = "(0018,1047)";
-    public static final String ContrastBolusIngredient = "(0018,1048)";
-    public static final String ContrastBolusIngredientConcentration = "(0018,1049)";
-    public static final String SpatialResolution = "(0018,1050)";
-    public static final String TriggerTime = "(0018,1060)";
-    public static final String TriggerSourceOrType = "(0018,1061)";
-    public static final String NominalInterval = "(0018,1062)";
-    public static final String FrameTime = "(0018,1063)";
-    public static final String CardiacFramingType = "(0018,1064)";
-    public static final String FrameTimeVector = "(0018,1065)";
-    public static final String FrameDelay = "(0018,1066)";
-    public static final String ImageTriggerDelay = "(0018,1067)";
-    public static final String MultiplexGroupTimeOffset = "(0018,1068)";
-    public static final String TriggerTimeOffset = "(0018,1069)";
-    public static final String SynchronizationTrigger = "(0018,106A)";
-    public static final String SynchronizationChannel = "(0018,106C)";
-    public static final String TriggerSamplePosition = "(0018,106E)";
-    public static final String RadiopharmaceuticalRoute = "(0018,1070)";
-    public static final String RadiopharmaceuticalVolume = "(0018,1071)";
-    public static final String RadiopharmaceuticalStartTime = "(0018,1072)";
-    public static final String RadiopharmaceuticalStopTime = "(0018,1073)";
-    public static final String RadionuclideTotalDose = "(0018,1074)";
-    public static final String RadionuclideHalfLife = "(0018,1075)";
-    public static final String RadionuclidePositronFraction = "(0018,1076)";
-    public static final String RadiopharmaceuticalSpecificActivity = "(0018,1077)";
-    public static final String RadiopharmaceuticalStartDateTime = "(0018,1078)";
-    public static final String RadiopharmaceuticalStopDateTime = "(0018,1079)";
-    public static final String BeatRejectionFlag = "(0018,1080)";
-    public static final String LowRRValue = "(0018,1081)";
-    public static final String HighRRValue = "(0018,1082)";
-    public static final String IntervalsAcquired = "(0018,1083)";
-    public static final String IntervalsRejected = "(0018,1084)";
-    public static final String PVCRejection = "(0018,1085)";
-    public static final String SkipBeats = "(0018,1086)";
-    public static final String HeartRate = "(0018,1088)";
-    public static final String CardiacNumberOfImages = "(0018,1090)";
-    public static final String TriggerWindow = "(0018,1094)";
-    public static final String ReconstructionDiameter = "(0018,1100)";
-    public static final String DistanceSourceToDetector = "(0018,1110)";
-    public static final String DistanceSourceToPatient = "(0018,1111)";
-    public static final String EstimatedRadiographicMagnificationFactor = "(0018,1114)";
-    public static final String GantryDetectorTilt = "(0018,1120)";
-    public static final String GantryDetectorSlew = "(0018,1121)";
-    public static final String TableHeight = "(0018,1130)";
-    public static final String TableTraverse = "(0018,1131)";
-    public static final String TableMotion = "(0018,1134)";
-    public static final String TableVerticalIncrement = "(0018,1135)";
-    public static final String TableLateralIncrement = "(0018,1136)";
-    public static final String TableLongitudinalIncrement = "(0018,1137)";
-    public static final String TableAngle = "(0018,1138)";
-    public static final String TableType = "(0018,113A)";
-    public static final String RotationDirection = "(0018,1140)";
-    public static final String RadialPosition = "(0018,1142)";
-    public static final String ScanArc = "(0018,1143)";
-    public static final String AngularStep = "(0018,1144)";
-    public static final String CenterOfRotationOffset = "(0018,1145)";
-    public static final String FieldOfViewShape = "(0018,1147)";
-    public static final String FieldOfViewDimensions = "(0018,1149)";
-    public static final String ExposureTime = "(0018,1150)";
-    public static final String XRayTubeCurrent = "(0018,1151)";
-    public static final String Exposure = "(0018,1152)";
-    public static final String ExposureInuAs = "(0018,1153)";
-    public static final String AveragePulseWidth = "(0018,1154)";
-    public static final String RadiationSetting = "(0018,1155)";
-    public static final String RectificationType = "(0018,1156)";
-    public static final String RadiationMode = "(0018,115A)";
-    public static final String ImageAndFluoroscopyAreaDoseProduct = "(0018,115E)";
-    public static final String FilterType = "(0018,1160)";
-    public static final String TypeOfFilters = "(0018,1161)";
-    public static final String IntensifierSize = "(0018,1162)";
-    public static final String ImagerPixelSpacing = "(0018,1164)";
-    public static final String Grid = "(0018,1166)";
-    public static final String GeneratorPower = "(0018,1170)";
-    public static final String CollimatorGridName = "(0018,1180)";
-    public static final String CollimatorType = "(0018,1181)";
-    public static final String FocalDistance = "(0018,1182)";
-    public static final String XFocusCenter = "(0018,1183)";
-    public static final String YFocusCenter = "(0018,1184)";
-    public static final String FocalSpots = "(0018,1190)";
-    public static final String AnodeTargetMaterial = "(0018,1191)";
-    public static final String BodyPartThickness = "(0018,11A0)";
-    public static final String CompressionForce = "(0018,11A2)";
-    public static final String CompressionPressure = "(0018,11A3)";
-    public static final String PaddleDescription = "(0018,11A4)";
-    public static final String CompressionContactArea = "(0018,11A5)";
-    public static final String DateOfLastCalibration = "(0018,1200)";
-    public static final String TimeOfLastCalibration = "(0018,1201)";
-    public static final String DateTimeOfLastCalibration = "(0018,1202)";
-    public static final String ConvolutionKernel = "(0018,1210)";
-    public static final String ActualFrameDuration = "(0018,1242)";
-    public static final String CountRate = "(0018,1243)";
-    public static final String PreferredPlaybackSequencing = "(0018,1244)";
-    public static final String ReceiveCoilName = "(0018,1250)";
-    public static final String TransmitCoilName = "(0018,1251)";
-    public static final String PlateType = "(0018,1260)";
-    public static final String PhosphorType = "(0018,1261)";
-    public static final String WaterEquivalentDiameter = "(0018,1271)";
-    public static final String WaterEquivalentDiameterCalculationMethodCodeSequence = "(0018,1272)";
-    public static final String ScanVelocity = "(0018,1300)";
-    public static final String WholeBodyTechnique = "(0018,1301)";
-    public static final String ScanLength = "(0018,1302)";
-    public static final String AcquisitionMatrix = "(0018,1310)";
-    public static final String InPlanePhaseEncodingDirection = "(0018,1312)";
-    public static final String FlipAngle = "(0018,1314)";
-    public static final String VariableFlipAngleFlag = "(0018,1315)";
-    public static final String SAR = "(0018,1316)";
-    public static final String dBdt = "(0018,1318)";
-    public static final String B1rms = "(0018,1320)";
-    public static final String AcquisitionDeviceProcessingDescription = "(0018,1400)";
-    public static final String AcquisitionDeviceProcessingCode = "(0018,1401)";
-    public static final String CassetteOrientation = "(0018,1402)";
-    public static final String CassetteSize = "(0018,1403)";
-    public static final String ExposuresOnPlate = "(0018,1404)";
-    public static final String RelativeXRayExposure = "(0018,1405)";
-    public static final String ExposureIndex = "(0018,1411)";
-    public static final String TargetExposureIndex = "(0018,1412)";
-    public static final String DeviationIndex = "(0018,1413)";
-    public static final String ColumnAngulation = "(0018,1450)";
-    public static final String TomoLayerHeight = "(0018,1460)";
-    public static final String TomoAngle = "(0018,1470)";
-    public static final String TomoTime = "(0018,1480)";
-    public static final String TomoType = "(0018,1490)";
-    public static final String TomoClass = "(0018,1491)";
-    public static final String NumberOfTomosynthesisSourceImages = "(0018,1495)";
-    public static final String PositionerMotion = "(0018,1500)";
-    public static final String PositionerType = "(0018,1508)";
-    public static final String PositionerPrimaryAngle = "(0018,1510)";
-    public static final String PositionerSecondaryAngle = "(0018,1511)";
-    public static final String PositionerPrimaryAngleIncrement = "(0018,1520)";
-    public static final String PositionerSecondaryAngleIncrement = "(0018,1521)";
-    public static final String DetectorPrimaryAngle = "(0018,1530)";
-    public static final String DetectorSecondaryAngle = "(0018,1531)";
-    public static final String ShutterShape = "(0018,1600)";
-    public static final String ShutterLeftVerticalEdge = "(0018,1602)";
-    public static final String ShutterRightVerticalEdge = "(0018,1604)";
-    public static final String ShutterUpperHorizontalEdge = "(0018,1606)";
-    public static final String ShutterLowerHorizontalEdge = "(0018,1608)";
-    public static final String CenterOfCircularShutter = "(0018,1610)";
-    public static final String RadiusOfCircularShutter = "(0018,1612)";
-    public static final String VerticesOfThePolygonalShutter = "(0018,1620)";
-    public static final String ShutterPresentationValue = "(0018,1622)";
-    public static final String ShutterOverlayGroup = "(0018,1623)";
-    public static final String ShutterPresentationColorCIELabValue = "(0018,1624)";
-    public static final String OutlineShapeType = "(0018,1630)";
-    public static final String OutlineLeftVerticalEdge = "(0018,1631)";
-    public static final String OutlineRightVerticalEdge = "(0018,1632)";
-    public static final String OutlineUpperHorizontalEdge = "(0018,1633)";
-    public static final String OutlineLowerHorizontalEdge = "(0018,1634)";
-    public static final String CenterOfCircularOutline = "(0018,1635)";
-    public static final String DiameterOfCircularOutline = "(0018,1636)";
-    public static final String NumberOfPolygonalVertices = "(0018,1637)";
-    public static final String VerticesOfThePolygonalOutline = "(0018,1638)";
-    public static final String CollimatorShape = "(0018,1700)";
-    public static final String CollimatorLeftVerticalEdge = "(0018,1702)";
-    public static final String CollimatorRightVerticalEdge = "(0018,1704)";
-    public static final String CollimatorUpperHorizontalEdge = "(0018,1706)";
-    public static final String CollimatorLowerHorizontalEdge = "(0018,1708)";
-    public static final String CenterOfCircularCollimator = "(0018,1710)";
-    public static final String RadiusOfCircularCollimator = "(0018,1712)";
-    public static final String VerticesOfThePolygonalCollimator = "(0018,1720)";
-    public static final String AcquisitionTimeSynchronized = "(0018,1800)";
-    public static final String TimeSource = "(0018,1801)";
-    public static final String TimeDistributionProtocol = "(0018,1802)";
-    public static final String NTPSourceAddress = "(0018,1803)";
-    public static final String PageNumberVector = "(0018,2001)";
-    public static final String FrameLabelVector = "(0018,2002)";
-    public static final String FramePrimaryAngleVector = "(0018,2003)";
-    public static final String FrameSecondaryAngleVector = "(0018,2004)";
-    public static final String SliceLocationVector = "(0018,2005)";
-    public static final String DisplayWindowLabelVector = "(0018,2006)";
-    public static final String NominalScannedPixelSpacing = "(0018,2010)";
-    public static final String DigitizingDeviceTransportDirection = "(0018,2020)";
-    public static final String RotationOfScannedFilm = "(0018,2030)";
-    public static final String BiopsyTargetSequence = "(0018,2041)";
-    public static final String TargetUID = "(0018,2042)";
-    public static final String LocalizingCursorPosition = "(0018,2043)";
-    public static final String CalculatedTargetPosition = "(0018,2044)";
-    public static final String TargetLabel = "(0018,2045)";
-    public static final String DisplayedZValue = "(0018,2046)";
-    public static final String IVUSAcquisition = "(0018,3100)";
-    public static final String IVUSPullbackRate = "(0018,3101)";
-    public static final String IVUSGatedRate = "(0018,3102)";
-    public static final String IVUSPullbackStartFrameNumber = "(0018,3103)";
-    public static final String IVUSPullbackStopFrameNumber = "(0018,3104)";
-    public static final String LesionNumber = "(0018,3105)";
-    public static final String OutputPower = "(0018,5000)";
-    public static final String TransducerData = "(0018,5010)";
-    public static final String TransducerIdentificationSequence = "(0018,5011)";
-    public static final String FocusDepth = "(0018,5012)";
-    public static final String ProcessingFunction = "(0018,5020)";
-    public static final String MechanicalIndex = "(0018,5022)";
-    public static final String BoneThermalIndex = "(0018,5024)";
-    public static final String CranialThermalIndex = "(0018,5026)";
-    public static final String SoftTissueThermalIndex = "(0018,5027)";
-    public static final String SoftTissueFocusThermalIndex = "(0018,5028)";
-    public static final String SoftTissueSurfaceThermalIndex = "(0018,5029)";
-    public static final String DepthOfScanField = "(0018,5050)";
-    public static final String PatientPosition = "(0018,5100)";
-    public static final String ViewPosition = "(0018,5101)";
-    public static final String ProjectionEponymousNameCodeSequence = "(0018,5104)";
-    public static final String Sensitivity = "(0018,6000)";
-    public static final String SequenceOfUltrasoundRegions = "(0018,6011)";
-    public static final String RegionSpatialFormat = "(0018,6012)";
-    public static final String RegionDataType = "(0018,6014)";
-    public static final String RegionFlags = "(0018,6016)";
-    public static final String RegionLocationMinX0 = "(0018,6018)";
-    public static final String RegionLocationMinY0 = "(0018,601A)";
-    public static final String RegionLocationMaxX1 = "(0018,601C)";
-    public static final String RegionLocationMaxY1 = "(0018,601E)";
-    public static final String ReferencePixelX0 = "(0018,6020)";
-    public static final String ReferencePixelY0 = "(0018,6022)";
-    public static final String PhysicalUnitsXDirection = "(0018,6024)";
-    public static final String PhysicalUnitsYDirection = "(0018,6026)";
-    public static final String ReferencePixelPhysicalValueX = "(0018,6028)";
-    public static final String ReferencePixelPhysicalValueY = "(0018,602A)";
-    public static final String PhysicalDeltaX = "(0018,602C)";
-    public static final String PhysicalDeltaY = "(0018,602E)";
-    public static final String TransducerFrequency = "(0018,6030)";
-    public static final String TransducerType = "(0018,6031)";
-    public static final String PulseRepetitionFrequency = "(0018,6032)";
-    public static final String DopplerCorrectionAngle = "(0018,6034)";
-    public static final String SteeringAngle = "(0018,6036)";
-    public static final String DopplerSampleVolumeXPosition = "(0018,6039)";
-    public static final String DopplerSampleVolumeYPosition = "(0018,603B)";
-    public static final String TMLinePositionX0 = "(0018,603D)";
-    public static final String TMLinePositionY0 = "(0018,603F)";
-    public static final String TMLinePositionX1 = "(0018,6041)";
-    public static final String TMLinePositionY1 = "(0018,6043)";
-    public static final String PixelComponentOrganization = "(0018,6044)";
-    public static final String PixelComponentMask = "(0018,6046)";
-    public static final String PixelComponentRangeStart = "(0018,6048)";
-    public static final String PixelComponentRangeStop = "(0018,604A)";
-    public static final String PixelComponentPhysicalUnits = "(0018,604C)";
-    public static final String PixelComponentDataType = "(0018,604E)";
-    public static final String NumberOfTableBreakPoints = "(0018,6050)";
-    public static final String TableOfXBreakPoints = "(0018,6052)";
-    public static final String TableOfYBreakPoints = "(0018,6054)";
-    public static final String NumberOfTableEntries = "(0018,6056)";
-    public static final String TableOfPixelValues = "(0018,6058)";
-    public static final String TableOfParameterValues = "(0018,605A)";
-    public static final String RWaveTimeVector = "(0018,6060)";
-    public static final String DetectorConditionsNominalFlag = "(0018,7000)";
-    public static final String DetectorTemperature = "(0018,7001)";
-    public static final String DetectorType = "(0018,7004)";
-    public static final String DetectorConfiguration = "(0018,7005)";
-    public static final String DetectorDescription = "(0018,7006)";
-    public static final String DetectorMode = "(0018,7008)";
-    public static final String DetectorID = "(0018,700A)";
-    public static final String DateOfLastDetectorCalibration = "(0018,700C)";
-    public static final String TimeOfLastDetectorCalibration = "(0018,700E)";
-    public static final String ExposuresOnDetectorSinceLastCalibration = "(0018,7010)";
-    public static final String ExposuresOnDetectorSinceManufactured = "(0018,7011)";
-    public static final String DetectorTimeSinceLastExposure = "(0018,7012)";
-    public static final String DetectorActiveTime = "(0018,7014)";
-    public static final String DetectorActivationOffsetFromExposure = "(0018,7016)";
-    public static final String DetectorBinning = "(0018,701A)";
-    public static final String DetectorElementPhysicalSize = "(0018,7020)";
-    public static final String DetectorElementSpacing = "(0018,7022)";
-    public static final String DetectorActiveShape = "(0018,7024)";
-    public static final String DetectorActiveDimensions = "(0018,7026)";
-    public static final String DetectorActiveOrigin = "(0018,7028)";
-    public static final String DetectorManufacturerName = "(0018,702A)";
-    public static final String DetectorManufacturerModelName = "(0018,702B)";
-    public static final String FieldOfViewOrigin = "(0018,7030)";
-    public static final String FieldOfViewRotation = "(0018,7032)";
-    public static final String FieldOfViewHorizontalFlip = "(0018,7034)";
-    public static final String PixelDataAreaOriginRelativeToFOV = "(0018,7036)";
-    public static final String PixelDataAreaRotationAngleRelativeToFOV = "(0018,7038)";
-    public static final String GridAbsorbingMaterial = "(0018,7040)";
-    public static final String GridSpacingMaterial = "(0018,7041)";
-    public static final String GridThickness = "(0018,7042)";
-    public static final String GridPitch = "(0018,7044)";
-    public static final String GridAspectRatio = "(0018,7046)";
-    public static final String GridPeriod = "(0018,7048)";
-    public static final String GridFocalDistance = "(0018,704C)";
-    public static final String FilterMaterial = "(0018,7050)";
-    public static final String FilterThicknessMinimum = "(0018,7052)";
-    public static final String FilterThicknessMaximum = "(0018,7054)";
-    public static final String FilterBeamPathLengthMinimum = "(0018,7056)";
-    public static final String FilterBeamPathLengthMaximum = "(0018,7058)";
-    public static final String ExposureControlMode = "(0018,7060)";
-    public static final String ExposureControlModeDescription = "(0018,7062)";
-    public static final String ExposureStatus = "(0018,7064)";
-    public static final String PhototimerSetting = "(0018,7065)";
-    public static final String ExposureTimeInuS = "(0018,8150)";
-    public static final String XRayTubeCurrentInuA = "(0018,8151)";
-    public static final String ContentQualification = "(0018,9004)";
-    public static final String PulseSequenceName = "(0018,9005)";
-    public static final String MRImagingModifierSequence = "(0018,9006)";
-    public static final String EchoPulseSequence = "(0018,9008)";
-    public static final String InversionRecovery = "(0018,9009)";
-    public static final String FlowCompensation = "(0018,9010)";
-    public static final String MultipleSpinEcho = "(0018,9011)";
-    public static final String MultiPlanarExcitation = "(0018,9012)";
-    public static final String PhaseContrast = "(0018,9014)";
-    public static final String TimeOfFlightContrast = "(0018,9015)";
-    public static final String Spoiling = "(0018,9016)";
-    public static final String SteadyStatePulseSequence = "(0018,9017)";
-    public static final String EchoPlanarPulseSequence = "(0018,9018)";
-    public static final String MagnetizationTransfer = "(0018,9020)";
-    public static final String T2Preparation = "(0018,9021)";
-    public static final String BloodSignalNulling = "(0018,9022)";
-    public static final String SaturationRecovery = "(0018,9024)";
-    public static final String SpectrallySelectedSuppression = "(0018,9025)";
-    public static final String SpectrallySelectedExcitation = "(0018,9026)";
-    public static final String SpatialPresaturation = "(0018,9027)";
-    public static final String OversamplingPhase = "(0018,9029)";
-    public static final String GeometryOfKSpaceTraversal = "(0018,9032)";
-    public static final String SegmentedKSpaceTraversal = "(0018,9033)";
-    public static final String RectilinearPhaseEncodeReordering = "(0018,9034)";
-    public static final String PartialFourierDirection = "(0018,9036)";
-    public static final String CardiacSynchronizationTechnique = "(0018,9037)";
-    public static final String ReceiveCoilManufacturerName = "(0018,9041)";
-    public static final String MRReceiveCoilSequence = "(0018,9042)";
-    public static final String ReceiveCoilType = "(0018,9043)";
-    public static final String QuadratureReceiveCoil = "(0018,9044)";
-    public static final String MultiCoilDefinitionSequence = "(0018,9045)";
-    public static final String MultiCoilConfiguration = "(0018,9046)";
-    public static final String MultiCoilElementName = "(0018,9047)";
-    public static final String MultiCoilElementUsed = "(0018,9048)";
-    public static final String MRTransmitCoilSequence = "(0018,9049)";
-    public static final String TransmitCoilManufacturerName = "(0018,9050)";
-    public static final String TransmitCoilType = "(0018,9051)";
-    public static final String SpectralWidth = "(0018,9052)";
-    public static final String ChemicalShiftReference = "(0018,9053)";
-    public static final String VolumeLocalizationTechnique = "(0018,9054)";
-    public static final String MRAcquisitionFrequencyEncodingSteps = "(0018,9058)";
-    public static final String Decoupling = "(0018,9059)";
-    public static final String DecoupledNucleus = "(0018,9060)";
-    public static final String DecouplingFrequency = "(0018,9061)";
-    public static final String DecouplingMethod = "(0018,9062)";
-    public static final String DecouplingChemicalShiftReference = "(0018,9063)";
-    public static final String KSpaceFiltering = "(0018,9064)";
-    public static final String TimeDomainFiltering = "(0018,9065)";
-    public static final String NumberOfZeroFills = "(0018,9066)";
-    public static final String BaselineCorrection = "(0018,9067)";
-    public static final String ParallelReductionFactorInPlane = "(0018,9069)";
-    public static final String CardiacRRIntervalSpecified = "(0018,9070)";
-    public static final String AcquisitionDuration = "(0018,9073)";
-    public static final String FrameAcquisitionDateTime = "(0018,9074)";
-    public static final String DiffusionDirectionality = "(0018,9075)";
-    public static final String DiffusionGradientDirectionSequence = "(0018,9076)";
-    public static final String ParallelAcquisition = "(0018,9077)";
-    public static final String ParallelAcquisitionTechnique = "(0018,9078)";
-    public static final String InversionTimes = "(0018,9079)";
-    public static final String MetaboliteMapDescription = "(0018,9080)";
-    public static final String PartialFourier = "(0018,9081)";
-    public static final String EffectiveEchoTime = "(0018,9082)";
-    public static final String MetaboliteMapCodeSequence = "(0018,9083)";
-    public static final String ChemicalShiftSequence = "(0018,9084)";
-    public static final String CardiacSignalSource = "(0018,9085)";
-    public static final String DiffusionBValue = "(0018,9087)";
-    public static final String DiffusionGradientOrientation = "(0018,9089)";
-    public static final String VelocityEncodingDirection = "(0018,9090)";
-    public static final String VelocityEncodingMinimumValue = "(0018,9091)";
-    public static final String VelocityEncodingAcquisitionSequence = "(0018,9092)";
-    public static final String NumberOfKSpaceTrajectories = "(0018,9093)";
-    public static final String CoverageOfKSpace = "(0018,9094)";
-    public static final String SpectroscopyAcquisitionPhaseRows = "(0018,9095)";
-    public static final String TransmitterFrequency = "(0018,9098)";
-    public static final String ResonantNucleus = "(0018,9100)";
-    public static final String FrequencyCorrection = "(0018,9101)";
-    public static final String MRSpectroscopyFOVGeometrySequence = "(0018,9103)";
-    public static final String SlabThickness = "(0018,9104)";
-    public static final String SlabOrientation = "(0018,9105)";
-    public static final String MidSlabPosition = "(0018,9106)";
-    public static final String MRSpatialSaturationSequence = "(0018,9107)";
-    public static final String MRTimingAndRelatedParametersSequence = "(0018,9112)";
-    public static final String MREchoSequence = "(0018,9114)";
-    public static final String MRModifierSequence = "(0018,9115)";
-    public static final String MRDiffusionSequence = "(0018,9117)";
-    public static final String CardiacSynchronizationSequence = "(0018,9118)";
-    public static final String MRAveragesSequence = "(0018,9119)";
-    public static final String MRFOVGeometrySequence = "(0018,9125)";
-    public static final String VolumeLocalizationSequence = "(0018,9126)";
-    public static final String SpectroscopyAcquisitionDataColumns = "(0018,9127)";
-    public static final String DiffusionAnisotropyType = "(0018,9147)";
-    public static final String FrameReferenceDateTime = "(0018,9151)";
-    public static final String MRMetaboliteMapSequence = "(0018,9152)";
-    public static final String ParallelReductionFactorOutOfPlane = "(0018,9155)";
-    public static final String SpectroscopyAcquisitionOutOfPlanePhaseSteps = "(0018,9159)";
-    public static final String ParallelReductionFactorSecondInPlane = "(0018,9168)";
-    public static final String CardiacBeatRejectionTechnique = "(0018,9169)";
-    public static final String RespiratoryMotionCompensationTechnique = "(0018,9170)";
-    public static final String RespiratorySignalSource = "(0018,9171)";
-    public static final String BulkMotionCompensationTechnique = "(0018,9172)";
-    public static final String BulkMotionSignalSource = "(0018,9173)";
-    public static final String ApplicableSafetyStandardAgency = "(0018,9174)";
-    public static final String ApplicableSafetyStandardDescription = "(0018,9175)";
-    public static final String OperatingModeSequence = "(0018,9176)";
-    public static final String OperatingModeType = "(0018,9177)";
-    public static final String OperatingMode = "(0018,9178)";
-    public static final String SpecificAbsorptionRateDefinition = "(0018,9179)";
-    public static final String GradientOutputType = "(0018,9180)";
-    public static final String SpecificAbsorptionRateValue = "(0018,9181)";
-    public static final String GradientOutput = "(0018,9182)";
-    public static final String FlowCompensationDirection = "(0018,9183)";
-    public static final String RespiratoryMotionCompensationTechniqueDescription = "(0018,9185)";
-    public static final String RespiratorySignalSourceID = "(0018,9186)";
-    public static final String MRVelocityEncodingSequence = "(0018,9197)";
-    public static final String FirstOrderPhaseCorrection = "(0018,9198)";
-    public static final String WaterReferencedPhaseCorrection = "(0018,9199)";
-    public static final String MRSpectroscopyAcquisitionType = "(0018,9200)";
-    public static final String RespiratoryCyclePosition = "(0018,9214)";
-    public static final String VelocityEncodingMaximumValue = "(0018,9217)";
-    public static final String FrameAcquisitionDuration = "(0018,9220)";
-    public static final String MRImageFrameTypeSequence = "(0018,9226)";
-    public static final String MRSpectroscopyFrameTypeSequence = "(0018,9227)";
-    public static final String MRAcquisitionPhaseEncodingStepsInPlane = "(0018,9231)";
-    public static final String MRAcquisitionPhaseEncodingStepsOutOfPlane = "(0018,9232)";
-    public static final String SpectroscopyAcquisitionPhaseColumns = "(0018,9234)";
-    public static final String CardiacCyclePosition = "(0018,9236)";
-    public static final String SpecificAbsorptionRateSequence = "(0018,9239)";
-    public static final String RFEchoTrainLength = "(0018,9240)";
-    public static final String GradientEchoTrainLength = "(0018,9241)";
-    public static final String ArterialSpinLabelingContrast = "(0018,9250)";
-    public static final String MRArterialSpinLabelingSequence = "(0018,9251)";
-    public static final String ASLTechniqueDescription = "(0018,9252)";
-    public static final String ASLSlabNumber = "(0018,9253)";
-    public static final String ASLSlabThickness = "(0018,9254)";
-    public static final String ASLSlabOrientation = "(0018,9255)";
-    public static final String ASLMidSlabPosition = "(0018,9256)";
-    public static final String ASLContext = "(0018,9257)";
-    public static final String ASLPulseTrainDuration = "(0018,9258)";
-    public static final String ASLCrusherFlag = "(0018,9259)";
-    public static final String ASLCrusherFlowLimit = "(0018,925A)";
-    public static final String ASLCrusherDescription = "(0018,925B)";
-    public static final String ASLBolusCutoffFlag = "(0018,925C)";
-    public static final String ASLBolusCutoffTimingSequence = "(0018,925D)";
-    public static final String ASLBolusCutoffTechnique = "(0018,925E)";
-    public static final String ASLBolusCutoffDelayTime = "(0018,925F)";
-    public static final String ASLSlabSequence = "(0018,9260)";
-    public static final String ChemicalShiftMinimumIntegrationLimitInppm = "(0018,9295)";
-    public static final String ChemicalShiftMaximumIntegrationLimitInppm = "(0018,9296)";
-    public static final String WaterReferenceAcquisition = "(0018,9297)";
-    public static final String EchoPeakPosition = "(0018,9298)";
-    public static final String CTAcquisitionTypeSequence = "(0018,9301)";
-    public static final String AcquisitionType = "(0018,9302)";
-    public static final String TubeAngle = "(0018,9303)";
-    public static final String CTAcquisitionDetailsSequence = "(0018,9304)";
-    public static final String RevolutionTime = "(0018,9305)";
-    public static final String SingleCollimationWidth = "(0018,9306)";
-    public static final String TotalCollimationWidth = "(0018,9307)";
-    public static final String CTTableDynamicsSequence = "(0018,9308)";
-    public static final String TableSpeed = "(0018,9309)";
-    public static final String TableFeedPerRotation = "(0018,9310)";
-    public static final String SpiralPitchFactor = "(0018,9311)";
-    public static final String CTGeometrySequence = "(0018,9312)";
-    public static final String DataCollectionCenterPatient = "(0018,9313)";
-    public static final String CTReconstructionSequence = "(0018,9314)";
-    public static final String ReconstructionAlgorithm = "(0018,9315)";
-    public static final String ConvolutionKernelGroup = "(0018,9316)";
-    public static final String ReconstructionFieldOfView = "(0018,9317)";
-    public static final String ReconstructionTargetCenterPatient = "(0018,9318)";
-    public static final String ReconstructionAngle = "(0018,9319)";
-    public static final String ImageFilter = "(0018,9320)";
-    public static final String CTExposureSequence = "(0018,9321)";
-    public static final String ReconstructionPixelSpacing = "(0018,9322)";
-    public static final String ExposureModulationType = "(0018,9323)";
-    public static final String EstimatedDoseSaving = "(0018,9324)";
-    public static final String CTXRayDetailsSequence = "(0018,9325)";
-    public static final String CTPositionSequence = "(0018,9326)";
-    public static final String TablePosition = "(0018,9327)";
-    public static final String ExposureTimeInms = "(0018,9328)";
-    public static final String CTImageFrameTypeSequence = "(0018,9329)";
-    public static final String XRayTubeCurrentInmA = "(0018,9330)";
-    public static final String ExposureInmAs = "(0018,9332)";
-    public static final String ConstantVolumeFlag = "(0018,9333)";
-    public static final String FluoroscopyFlag = "(0018,9334)";
-    public static final String DistanceSourceToDataCollectionCenter = "(0018,9335)";
-    public static final String ContrastBolusAgentNumber = "(0018,9337)";
-    public static final String ContrastBolusIngredientCodeSequence = "(0018,9338)";
-    public static final String ContrastAdministrationProfileSequence = "(0018,9340)";
-    public static final String ContrastBolusUsageSequence = "(0018,9341)";
-    public static final String ContrastBolusAgentAdministered = "(0018,9342)";
-    public static final String ContrastBolusAgentDetected = "(0018,9343)";
-    public static final String ContrastBolusAgentPhase = "(0018,9344)";
-    public static final String CTDIvol = "(0018,9345)";
-    public static final String CTDIPhantomTypeCodeSequence = "(0018,9346)";
-    public static final String CalciumScoringMassFactorPatient = "(0018,9351)";
-    public static final String CalciumScoringMassFactorDevice = "(0018,9352)";
-    public static final String EnergyWeightingFactor = "(0018,9353)";
-    public static final String CTAdditionalXRaySourceSequence = "(0018,9360)";
-    public static final String MultienergyCTAcquisition = "(0018,9361)";
-    public static final String MultienergyCTAcquisitionSequence = "(0018,9362)";
-    public static final String MultienergyCTProcessingSequence = "(0018,9363)";
-    public static final String MultienergyCTCharacteristicsSequence = "(0018,9364)";
-    public static final String MultienergyCTXRaySourceSequence = "(0018,9365)";
-    public static final String XRaySourceIndex = "(0018,9366)";
-    public static final String XRaySourceID = "(0018,9367)";
-    public static final String MultienergySourceTechnique = "(0018,9368)";
-    public static final String SourceStartDateTime = "(0018,9369)";
-    public static final String SourceEndDateTime = "(0018,936A)";
-    public static final String SwitchingPhaseNumber = "(0018,936B)";
-    public static final String SwitchingPhaseNominalDuration = "(0018,936C)";
-    public static final String SwitchingPhaseTransitionDuration = "(0018,936D)";
-    public static final String EffectiveBinEnergy = "(0018,936E)";
-    public static final String MultienergyCTXRayDetectorSequence = "(0018,936F)";
-    public static final String XRayDetectorIndex = "(0018,9370)";
-    public static final String XRayDetectorID = "(0018,9371)";
-    public static final String MultienergyDetectorType = "(0018,9372)";
-    public static final String XRayDetectorLabel = "(0018,9373)";
-    public static final String NominalMaxEnergy = "(0018,9374)";
-    public static final String NominalMinEnergy = "(0018,9375)";
-    public static final String ReferencedXRayDetectorIndex = "(0018,9376)";
-    public static final String ReferencedXRaySourceIndex = "(0018,9377)";
-    public static final String ReferencedPathIndex = "(0018,9378)";
-    public static final String MultienergyCTPathSequence = "(0018,9379)";
-    public static final String MultienergyCTPathIndex = "(0018,937A)";
-    public static final String MultienergyAcquisitionDescription = "(0018,937B)";
-    public static final String MonoenergeticEnergyEquivalent = "(0018,937C)";
-    public static final String MaterialCodeSequence = "(0018,937D)";
-    public static final String DecompositionMethod = "(0018,937E)";
-    public static final String DecompositionDescription = "(0018,937F)";
-    public static final String DecompositionAlgorithmIdentificationSequence = "(0018,9380)";
-    public static final String DecompositionMaterialSequence = "(0018,9381)";
-    public static final String MaterialAttenuationSequence = "(0018,9382)";
-    public static final String PhotonEnergy = "(0018,9383)";
-    public static final String XRayMassAttenuationCoefficient = "(0018,9384)";
-    public static final String ProjectionPixelCalibrationSequence = "(0018,9401)";
-    public static final String DistanceSourceToIsocenter = "(0018,9402)";
-    public static final String DistanceObjectToTableTop = "(0018,9403)";
-    public static final String ObjectPixelSpacingInCenterOfBeam = "(0018,9404)";
-    public static final String PositionerPositionSequence = "(0018,9405)";
-    public static final String TablePositionSequence = "(0018,9406)";
-    public static final String CollimatorShapeSequence = "(0018,9407)";
-    public static final String PlanesInAcquisition = "(0018,9410)";
-    public static final String XAXRFFrameCharacteristicsSequence = "(0018,9412)";
-    public static final String FrameAcquisitionSequence = "(0018,9417)";
-    public static final String XRayReceptorType = "(0018,9420)";
-    public static final String AcquisitionProtocolName = "(0018,9423)";
-    public static final String AcquisitionProtocolDescription = "(0018,9424)";
-    public static final String ContrastBolusIngredientOpaque = "(0018,9425)";
-    public static final String DistanceReceptorPlaneToDetectorHousing = "(0018,9426)";
-    public static final String IntensifierActiveShape = "(0018,9427)";
-    public static final String IntensifierActiveDimensions = "(0018,9428)";
-    public static final String PhysicalDetectorSize = "(0018,9429)";
-    public static final String PositionOfIsocenterProjection = "(0018,9430)";
-    public static final String FieldOfViewSequence = "(0018,9432)";
-    public static final String FieldOfViewDescription = "(0018,9433)";
-    public static final String ExposureControlSensingRegionsSequence = "(0018,9434)";
-    public static final String ExposureControlSensingRegionShape = "(0018,9435)";
-    public static final String ExposureControlSensingRegionLeftVerticalEdge = "(0018,9436)";
-    public static final String ExposureControlSensingRegionRightVerticalEdge = "(0018,9437)";
-    public static final String ExposureControlSensingRegionUpperHorizontalEdge = "(0018,9438)";
-    public static final String ExposureControlSensingRegionLowerHorizontalEdge = "(0018,9439)";
-    public static final String CenterOfCircularExposureControlSensingRegion = "(0018,9440)";
-    public static final String RadiusOfCircularExposureControlSensingRegion = "(0018,9441)";
-    public static final String VerticesOfThePolygonalExposureControlSensingRegion = "(0018,9442)";
-    public static final String ColumnAngulationPatient = "(0018,9447)";
-    public static final String BeamAngle = "(0018,9449)";
-    public static final String FrameDetectorParametersSequence = "(0018,9451)";
-    public static final String CalculatedAnatomyThickness = "(0018,9452)";
-    public static final String CalibrationSequence = "(0018,9455)";
-    public static final String ObjectThicknessSequence = "(0018,9456)";
-    public static final String PlaneIdentification = "(0018,9457)";
-    public static final String FieldOfViewDimensionsInFloat = "(0018,9461)";
-    public static final String IsocenterReferenceSystemSequence = "(0018,9462)";
-    public static final String PositionerIsocenterPrimaryAngle = "(0018,9463)";
-    public static final String PositionerIsocenterSecondaryAngle = "(0018,9464)";
-    public static final String PositionerIsocenterDetectorRotationAngle = "(0018,9465)";
-    public static final String TableXPositionToIsocenter = "(0018,9466)";
-    public static final String TableYPositionToIsocenter = "(0018,9467)";
-    public static final String TableZPositionToIsocenter = "(0018,9468)";
-    public static final String TableHorizontalRotationAngle = "(0018,9469)";
-    public static final String TableHeadTiltAngle = "(0018,9470)";
-    public static final String TableCradleTiltAngle = "(0018,9471)";
-    public static final String FrameDisplayShutterSequence = "(0018,9472)";
-    public static final String AcquiredImageAreaDoseProduct = "(0018,9473)";
-    public static final String CArmPositionerTabletopRelationship = "(0018,9474)";
-    public static final String XRayGeometrySequence = "(0018,9476)";
-    public static final String IrradiationEventIdentificationSequence = "(0018,9477)";
-    public static final String XRay3DFrameTypeSequence = "(0018,9504)";
-    public static final String ContributingSourcesSequence = "(0018,9506)";
-    public static final String XRay3DAcquisitionSequence = "(0018,9507)";
-    public static final String PrimaryPositionerScanArc = "(0018,9508)";
-    public static final String SecondaryPositionerScanArc = "(0018,9509)";
-    public static final String PrimaryPositionerScanStartAngle = "(0018,9510)";
-    public static final String SecondaryPositionerScanStartAngle = "(0018,9511)";
-    public static final String PrimaryPositionerIncrement = "(0018,9514)";
-    public static final String SecondaryPositionerIncrement = "(0018,9515)";
-    public static final String StartAcquisitionDateTime = "(0018,9516)";
-    public static final String EndAcquisitionDateTime = "(0018,9517)";
-    public static final String PrimaryPositionerIncrementSign = "(0018,9518)";
-    public static final String SecondaryPositionerIncrementSign = "(0018,9519)";
-    public static final String ApplicationName = "(0018,9524)";
-    public static final String ApplicationVersion = "(0018,9525)";
-    public static final String ApplicationManufacturer = "(0018,9526)";
-    public static final String AlgorithmType = "(0018,9527)";
-    public static final String AlgorithmDescription = "(0018,9528)";
-    public static final String XRay3DReconstructionSequence = "(0018,9530)";
-    public static final String ReconstructionDescription = "(0018,9531)";
-    public static final String PerProjectionAcquisitionSequence = "(0018,9538)";
-    public static final String DetectorPositionSequence = "(0018,9541)";
-    public static final String XRayAcquisitionDoseSequence = "(0018,9542)";
-    public static final String XRaySourceIsocenterPrimaryAngle = "(0018,9543)";
-    public static final String XRaySourceIsocenterSecondaryAngle = "(0018,9544)";
-    public static final String BreastSupportIsocenterPrimaryAngle = "(0018,9545)";
-    public static final String BreastSupportIsocenterSecondaryAngle = "(0018,9546)";
-    public static final String BreastSupportXPositionToIsocenter = "(0018,9547)";
-    public static final String BreastSupportYPositionToIsocenter = "(0018,9548)";
-    public static final String BreastSupportZPositionToIsocenter = "(0018,9549)";
-    public static final String DetectorIsocenterPrimaryAngle = "(0018,9550)";
-    public static final String DetectorIsocenterSecondaryAngle = "(0018,9551)";
-    public static final String DetectorXPositionToIsocenter = "(0018,9552)";
-    public static final String DetectorYPositionToIsocenter = "(0018,9553)";
-    public static final String DetectorZPositionToIsocenter = "(0018,9554)";
-    public static final String XRayGridSequence = "(0018,9555)";
-    public static final String XRayFilterSequence = "(0018,9556)";
-    public static final String DetectorActiveAreaTLHCPosition = "(0018,9557)";
-    public static final String DetectorActiveAreaOrientation = "(0018,9558)";
-    public static final String PositionerPrimaryAngleDirection = "(0018,9559)";
-    public static final String DiffusionBMatrixSequence = "(0018,9601)";
-    public static final String DiffusionBValueXX = "(0018,9602)";
-    public static final String DiffusionBValueXY = "(0018,9603)";
-    public static final String DiffusionBValueXZ = "(0018,9604)";
-    public static final String DiffusionBValueYY = "(0018,9605)";
-    public static final String DiffusionBValueYZ = "(0018,9606)";
-    public static final String DiffusionBValueZZ = "(0018,9607)";
-    public static final String FunctionalMRSequence = "(0018,9621)";
-    public static final String FunctionalSettlingPhaseFramesPresent = "(0018,9622)";
-    public static final String FunctionalSyncPulse = "(0018,9623)";
-    public static final String SettlingPhaseFrame = "(0018,9624)";
-    public static final String DecayCorrectionDateTime = "(0018,9701)";
-    public static final String StartDensityThreshold = "(0018,9715)";
-    public static final String StartRelativeDensityDifferenceThreshold = "(0018,9716)";
-    public static final String StartCardiacTriggerCountThreshold = "(0018,9717)";
-    public static final String StartRespiratoryTriggerCountThreshold = "(0018,9718)";
-    public static final String TerminationCountsThreshold = "(0018,9719)";
-    public static final String TerminationDensityThreshold = "(0018,9720)";
-    public static final String TerminationRelativeDensityThreshold = "(0018,9721)";
-    public static final String TerminationTimeThreshold = "(0018,9722)";
-    public static final String TerminationCardiacTriggerCountThreshold = "(0018,9723)";
-    public static final String TerminationRespiratoryTriggerCountThreshold = "(0018,9724)";
-    public static final String DetectorGeometry = "(0018,9725)";
-    public static final String TransverseDetectorSeparation = "(0018,9726)";
-    public static final String AxialDetectorDimension = "(0018,9727)";
-    public static final String RadiopharmaceuticalAgentNumber = "(0018,9729)";
-    public static final String PETFrameAcquisitionSequence = "(0018,9732)";
-    public static final String PETDetectorMotionDetailsSequence = "(0018,9733)";
-    public static final String PETTableDynamicsSequence = "(0018,9734)";
-    public static final String PETPositionSequence = "(0018,9735)";
-    public static final String PETFrameCorrectionFactorsSequence = "(0018,9736)";
-    public static final String RadiopharmaceuticalUsageSequence = "(0018,9737)";
-    public static final String AttenuationCorrectionSource = "(0018,9738)";
-    public static final String NumberOfIterations = "(0018,9739)";
-    public static final String NumberOfSubsets = "(0018,9740)";
-    public static final String PETReconstructionSequence = "(0018,9749)";
-    public static final String PETFrameTypeSequence = "(0018,9751)";
-    public static final String TimeOfFlightInformationUsed = "(0018,9755)";
-    public static final String ReconstructionType = "(0018,9756)";
-    public static final String DecayCorrected = "(0018,9758)";
-    public static final String AttenuationCorrected = "(0018,9759)";
-    public static final String ScatterCorrected = "(0018,9760)";
-    public static final String DeadTimeCorrected = "(0018,9761)";
-    public static final String GantryMotionCorrected = "(0018,9762)";
-    public static final String PatientMotionCorrected = "(0018,9763)";
-    public static final String CountLossNormalizationCorrected = "(0018,9764)";
-    public static final String RandomsCorrected = "(0018,9765)";
-    public static final String NonUniformRadialSamplingCorrected = "(0018,9766)";
-    public static final String SensitivityCalibrated = "(0018,9767)";
-    public static final String DetectorNormalizationCorrection = "(0018,9768)";
-    public static final String IterativeReconstructionMethod = "(0018,9769)";
-    public static final String AttenuationCorrectionTemporalRelationship = "(0018,9770)";
-    public static final String PatientPhysiologicalStateSequence = "(0018,9771)";
-    public static final String PatientPhysiologicalStateCodeSequence = "(0018,9772)";
-    public static final String DepthsOfFocus = "(0018,9801)";
-    public static final String ExcludedIntervalsSequence = "(0018,9803)";
-    public static final String ExclusionStartDateTime = "(0018,9804)";
-    public static final String ExclusionDuration = "(0018,9805)";
-    public static final String USImageDescriptionSequence = "(0018,9806)";
-    public static final String ImageDataTypeSequence = "(0018,9807)";
-    public static final String DataType = "(0018,9808)";
-    public static final String TransducerScanPatternCodeSequence = "(0018,9809)";
-    public static final String AliasedDataType = "(0018,980B)";
-    public static final String PositionMeasuringDeviceUsed = "(0018,980C)";
-    public static final String TransducerGeometryCodeSequence = "(0018,980D)";
-    public static final String TransducerBeamSteeringCodeSequence = "(0018,980E)";
-    public static final String TransducerApplicationCodeSequence = "(0018,980F)";
-    public static final String ZeroVelocityPixelValue = "(0018,9810)";
-    public static final String ReferenceLocationLabel = "(0018,9900)";
-    public static final String ReferenceLocationDescription = "(0018,9901)";
-    public static final String ReferenceBasisCodeSequence = "(0018,9902)";
-    public static final String ReferenceGeometryCodeSequence = "(0018,9903)";
-    public static final String OffsetDistance = "(0018,9904)";
-    public static final String OffsetDirection = "(0018,9905)";
-    public static final String PotentialScheduledProtocolCodeSequence = "(0018,9906)";
-    public static final String PotentialRequestedProcedureCodeSequence = "(0018,9907)";
-    public static final String PotentialReasonsForProcedure = "(0018,9908)";
-    public static final String PotentialReasonsForProcedureCodeSequence = "(0018,9909)";
-    public static final String PotentialDiagnosticTasks = "(0018,990A)";
-    public static final String ContraindicationsCodeSequence = "(0018,990B)";
-    public static final String ReferencedDefinedProtocolSequence = "(0018,990C)";
-    public static final String ReferencedPerformedProtocolSequence = "(0018,990D)";
-    public static final String PredecessorProtocolSequence = "(0018,990E)";
-    public static final String ProtocolPlanningInformation = "(0018,990F)";
-    public static final String ProtocolDesignRationale = "(0018,9910)";
-    public static final String PatientSpecificationSequence = "(0018,9911)";
-    public static final String ModelSpecificationSequence = "(0018,9912)";
-    public static final String ParametersSpecificationSequence = "(0018,9913)";
-    public static final String InstructionSequence = "(0018,9914)";
-    public static final String InstructionIndex = "(0018,9915)";
-    public static final String InstructionText = "(0018,9916)";
-    public static final String InstructionDescription = "(0018,9917)";
-    public static final String InstructionPerformedFlag = "(0018,9918)";
-    public static final String InstructionPerformedDateTime = "(0018,9919)";
-    public static final String InstructionPerformanceComment = "(0018,991A)";
-    public static final String PatientPositioningInstructionSequence = "(0018,991B)";
-    public static final String PositioningMethodCodeSequence = "(0018,991C)";
-    public static final String PositioningLandmarkSequence = "(0018,991D)";
-    public static final String TargetFrameOfReferenceUID = "(0018,991E)";
-    public static final String AcquisitionProtocolElementSpecificationSequence = "(0018,991F)";
-    public static final String AcquisitionProtocolElementSequence = "(0018,9920)";
-    public static final String ProtocolElementNumber = "(0018,9921)";
-    public static final String ProtocolElementName = "(0018,9922)";
-    public static final String ProtocolElementCharacteristicsSummary = "(0018,9923)";
-    public static final String ProtocolElementPurpose = "(0018,9924)";
-    public static final String AcquisitionMotion = "(0018,9930)";
-    public static final String AcquisitionStartLocationSequence = "(0018,9931)";
-    public static final String AcquisitionEndLocationSequence = "(0018,9932)";
-    public static final String ReconstructionProtocolElementSpecificationSequence = "(0018,9933)";
-    public static final String ReconstructionProtocolElementSequence = "(0018,9934)";
-    public static final String StorageProtocolElementSpecificationSequence = "(0018,9935)";
-    public static final String StorageProtocolElementSequence = "(0018,9936)";
-    public static final String RequestedSeriesDescription = "(0018,9937)";
-    public static final String SourceAcquisitionProtocolElementNumber = "(0018,9938)";
-    public static final String SourceAcquisitionBeamNumber = "(0018,9939)";
-    public static final String SourceReconstructionProtocolElementNumber = "(0018,993A)";
-    public static final String ReconstructionStartLocationSequence = "(0018,993B)";
-    public static final String ReconstructionEndLocationSequence = "(0018,993C)";
-    public static final String ReconstructionAlgorithmSequence = "(0018,993D)";
-    public static final String ReconstructionTargetCenterLocationSequence = "(0018,993E)";
-    public static final String ImageFilterDescription = "(0018,9941)";
-    public static final String CTDIvolNotificationTrigger = "(0018,9942)";
-    public static final String DLPNotificationTrigger = "(0018,9943)";
-    public static final String AutoKVPSelectionType = "(0018,9944)";
-    public static final String AutoKVPUpperBound = "(0018,9945)";
-    public static final String AutoKVPLowerBound = "(0018,9946)";
-    public static final String ProtocolDefinedPatientPosition = "(0018,9947)";
-    public static final String ContributingEquipmentSequence = "(0018,A001)";
-    public static final String ContributionDateTime = "(0018,A002)";
-    public static final String ContributionDescription = "(0018,A003)";
-    public static final String StudyInstanceUID = "(0020,000D)";
-    public static final String SeriesInstanceUID = "(0020,000E)";
-    public static final String StudyID = "(0020,0010)";
-    public static final String SeriesNumber = "(0020,0011)";
-    public static final String AcquisitionNumber = "(0020,0012)";
-    public static final String InstanceNumber = "(0020,0013)";
-    public static final String ItemNumber = "(0020,0019)";
-    public static final String PatientOrientation = "(0020,0020)";
-    public static final String ImagePositionPatient = "(0020,0032)";
-    public static final String ImageOrientationPatient = "(0020,0037)";
-    public static final String FrameOfReferenceUID = "(0020,0052)";
-    public static final String Laterality = "(0020,0060)";
-    public static final String ImageLaterality = "(0020,0062)";
-    public static final String TemporalPositionIdentifier = "(0020,0100)";
-    public static final String NumberOfTemporalPositions = "(0020,0105)";
-    public static final String TemporalResolution = "(0020,0110)";
-    public static final String SynchronizationFrameOfReferenceUID = "(0020,0200)";
-    public static final String SOPInstanceUIDOfConcatenationSource = "(0020,0242)";
-    public static final String ImagesInAcquisition = "(0020,1002)";
-    public static final String TargetPositionReferenceIndicator = "(0020,103F)";
-    public static final String PositionReferenceIndicator = "(0020,1040)";
-    public static final String SliceLocation = "(0020,1041)";
-    public static final String NumberOfPatientRelatedStudies = "(0020,1200)";
-    public static final String NumberOfPatientRelatedSeries = "(0020,1202)";
-    public static final String NumberOfPatientRelatedInstances = "(0020,1204)";
-    public static final String NumberOfStudyRelatedSeries = "(0020,1206)";
-    public static final String NumberOfStudyRelatedInstances = "(0020,1208)";
-    public static final String NumberOfSeriesRelatedInstances = "(0020,1209)";
-    public static final String ImageComments = "(0020,4000)";
-    public static final String StackID = "(0020,9056)";
-    public static final String InStackPositionNumber = "(0020,9057)";
-    public static final String FrameAnatomySequence = "(0020,9071)";
-    public static final String FrameLaterality = "(0020,9072)";
-    public static final String FrameContentSequence = "(0020,9111)";
-    public static final String PlanePositionSequence = "(0020,9113)";
-    public static final String PlaneOrientationSequence = "(0020,9116)";
-    public static final String TemporalPositionIndex = "(0020,9128)";
-    public static final String NominalCardiacTriggerDelayTime = "(0020,9153)";
-    public static final String NominalCardiacTriggerTimePriorToRPeak = "(0020,9154)";
-    public static final String ActualCardiacTriggerTimePriorToRPeak = "(0020,9155)";
-    public static final String FrameAcquisitionNumber = "(0020,9156)";
-    public static final String DimensionIndexValues = "(0020,9157)";
-    public static final String FrameComments = "(0020,9158)";
-    public static final String ConcatenationUID = "(0020,9161)";
-    public static final String InConcatenationNumber = "(0020,9162)";
-    public static final String InConcatenationTotalNumber = "(0020,9163)";
-    public static final String DimensionOrganizationUID = "(0020,9164)";
-    public static final String DimensionIndexPointer = "(0020,9165)";
-    public static final String FunctionalGroupPointer = "(0020,9167)";
-    public static final String UnassignedSharedConvertedAttributesSequence = "(0020,9170)";
-    public static final String UnassignedPerFrameConvertedAttributesSequence = "(0020,9171)";
-    public static final String ConversionSourceAttributesSequence = "(0020,9172)";
-    public static final String DimensionIndexPrivateCreator = "(0020,9213)";
-    public static final String DimensionOrganizationSequence = "(0020,9221)";
-    public static final String DimensionIndexSequence = "(0020,9222)";
-    public static final String ConcatenationFrameOffsetNumber = "(0020,9228)";
-    public static final String FunctionalGroupPrivateCreator = "(0020,9238)";
-    public static final String NominalPercentageOfCardiacPhase = "(0020,9241)";
-    public static final String NominalPercentageOfRespiratoryPhase = "(0020,9245)";
-    public static final String StartingRespiratoryAmplitude = "(0020,9246)";
-    public static final String StartingRespiratoryPhase = "(0020,9247)";
-    public static final String EndingRespiratoryAmplitude = "(0020,9248)";
-    public static final String EndingRespiratoryPhase = "(0020,9249)";
-    public static final String RespiratoryTriggerType = "(0020,9250)";
-    public static final String RRIntervalTimeNominal = "(0020,9251)";
-    public static final String ActualCardiacTriggerDelayTime = "(0020,9252)";
-    public static final String RespiratorySynchronizationSequence = "(0020,9253)";
-    public static final String RespiratoryIntervalTime = "(0020,9254)";
-    public static final String NominalRespiratoryTriggerDelayTime = "(0020,9255)";
-    public static final String RespiratoryTriggerDelayThreshold = "(0020,9256)";
-    public static final String ActualRespiratoryTriggerDelayTime = "(0020,9257)";
-    public static final String ImagePositionVolume = "(0020,9301)";
-    public static final String ImageOrientationVolume = "(0020,9302)";
-    public static final String UltrasoundAcquisitionGeometry = "(0020,9307)";
-    public static final String ApexPosition = "(0020,9308)";
-    public static final String VolumeToTransducerMappingMatrix = "(0020,9309)";
-    public static final String VolumeToTableMappingMatrix = "(0020,930A)";
-    public static final String VolumeToTransducerRelationship = "(0020,930B)";
-    public static final String PatientFrameOfReferenceSource = "(0020,930C)";
-    public static final String TemporalPositionTimeOffset = "(0020,930D)";
-    public static final String PlanePositionVolumeSequence = "(0020,930E)";
-    public static final String PlaneOrientationVolumeSequence = "(0020,930F)";
-    public static final String TemporalPositionSequence = "(0020,9310)";
-    public static final String DimensionOrganizationType = "(0020,9311)";
-    public static final String VolumeFrameOfReferenceUID = "(0020,9312)";
-    public static final String TableFrameOfReferenceUID = "(0020,9313)";
-    public static final String DimensionDescriptionLabel = "(0020,9421)";
-    public static final String PatientOrientationInFrameSequence = "(0020,9450)";
-    public static final String FrameLabel = "(0020,9453)";
-    public static final String AcquisitionIndex = "(0020,9518)";
-    public static final String ContributingSOPInstancesReferenceSequence = "(0020,9529)";
-    public static final String ReconstructionIndex = "(0020,9536)";
-    public static final String LightPathFilterPassThroughWavelength = "(0022,0001)";
-    public static final String LightPathFilterPassBand = "(0022,0002)";
-    public static final String ImagePathFilterPassThroughWavelength = "(0022,0003)";
-    public static final String ImagePathFilterPassBand = "(0022,0004)";
-    public static final String PatientEyeMovementCommanded = "(0022,0005)";
-    public static final String PatientEyeMovementCommandCodeSequence = "(0022,0006)";
-    public static final String SphericalLensPower = "(0022,0007)";
-    public static final String CylinderLensPower = "(0022,0008)";
-    public static final String CylinderAxis = "(0022,0009)";
-    public static final String EmmetropicMagnification = "(0022,000A)";
-    public static final String IntraOcularPressure = "(0022,000B)";
-    public static final String HorizontalFieldOfView = "(0022,000C)";
-    public static final String PupilDilated = "(0022,000D)";
-    public static final String DegreeOfDilation = "(0022,000E)";
-    public static final String StereoBaselineAngle = "(0022,0010)";
-    public static final String StereoBaselineDisplacement = "(0022,0011)";
-    public static final String StereoHorizontalPixelOffset = "(0022,0012)";
-    public static final String StereoVerticalPixelOffset = "(0022,0013)";
-    public static final String StereoRotation = "(0022,0014)";
-    public static final String AcquisitionDeviceTypeCodeSequence = "(0022,0015)";
-    public static final String IlluminationTypeCodeSequence = "(0022,0016)";
-    public static final String LightPathFilterTypeStackCodeSequence = "(0022,0017)";
-    public static final String ImagePathFilterTypeStackCodeSequence = "(0022,0018)";
-    public static final String LensesCodeSequence = "(0022,0019)";
-    public static final String ChannelDescriptionCodeSequence = "(0022,001A)";
-    public static final String RefractiveStateSequence = "(0022,001B)";
-    public static final String MydriaticAgentCodeSequence = "(0022,001C)";
-    public static final String RelativeImagePositionCodeSequence = "(0022,001D)";
-    public static final String CameraAngleOfView = "(0022,001E)";
-    public static final String StereoPairsSequence = "(0022,0020)";
-    public static final String LeftImageSequence = "(0022,0021)";
-    public static final String RightImageSequence = "(0022,0022)";
-    public static final String StereoPairsPresent = "(0022,0028)";
-    public static final String AxialLengthOfTheEye = "(0022,0030)";
-    public static final String OphthalmicFrameLocationSequence = "(0022,0031)";
-    public static final String ReferenceCoordinates = "(0022,0032)";
-    public static final String DepthSpatialResolution = "(0022,0035)";
-    public static final String MaximumDepthDistortion = "(0022,0036)";
-    public static final String AlongScanSpatialResolution = "(0022,0037)";
-    public static final String MaximumAlongScanDistortion = "(0022,0038)";
-    public static final String OphthalmicImageOrientation = "(0022,0039)";
-    public static final String DepthOfTransverseImage = "(0022,0041)";
-    public static final String MydriaticAgentConcentrationUnitsSequence = "(0022,0042)";
-    public static final String AcrossScanSpatialResolution = "(0022,0048)";
-    public static final String MaximumAcrossScanDistortion = "(0022,0049)";
-    public static final String MydriaticAgentConcentration = "(0022,004E)";
-    public static final String IlluminationWaveLength = "(0022,0055)";
-    public static final String IlluminationPower = "(0022,0056)";
-    public static final String IlluminationBandwidth = "(0022,0057)";
-    public static final String MydriaticAgentSequence = "(0022,0058)";
-    public static final String OphthalmicAxialMeasurementsRightEyeSequence = "(0022,1007)";
-    public static final String OphthalmicAxialMeasurementsLeftEyeSequence = "(0022,1008)";
-    public static final String OphthalmicAxialMeasurementsDeviceType = "(0022,1009)";
-    public static final String OphthalmicAxialLengthMeasurementsType = "(0022,1010)";
-    public static final String OphthalmicAxialLengthSequence = "(0022,1012)";
-    public static final String OphthalmicAxialLength = "(0022,1019)";
-    public static final String LensStatusCodeSequence = "(0022,1024)";
-    public static final String VitreousStatusCodeSequence = "(0022,1025)";
-    public static final String IOLFormulaCodeSequence = "(0022,1028)";
-    public static final String IOLFormulaDetail = "(0022,1029)";
-    public static final String KeratometerIndex = "(0022,1033)";
-    public static final String SourceOfOphthalmicAxialLengthCodeSequence = "(0022,1035)";
-    public static final String SourceOfCornealSizeDataCodeSequence = "(0022,1036)";
-    public static final String TargetRefraction = "(0022,1037)";
-    public static final String RefractiveProcedureOccurred = "(0022,1039)";
-    public static final String RefractiveSurgeryTypeCodeSequence = "(0022,1040)";
-    public static final String OphthalmicUltrasoundMethodCodeSequence = "(0022,1044)";
-    public static final String SurgicallyInducedAstigmatismSequence = "(0022,1045)";
-    public static final String TypeOfOpticalCorrection = "(0022,1046)";
-    public static final String ToricIOLPowerSequence = "(0022,1047)";
-    public static final String PredictedToricErrorSequence = "(0022,1048)";
-    public static final String PreSelectedForImplantation = "(0022,1049)";
-    public static final String ToricIOLPowerForExactEmmetropiaSequence = "(0022,104A)";
-    public static final String ToricIOLPowerForExactTargetRefractionSequence = "(0022,104B)";
-    public static final String OphthalmicAxialLengthMeasurementsSequence = "(0022,1050)";
-    public static final String IOLPower = "(0022,1053)";
-    public static final String PredictedRefractiveError = "(0022,1054)";
-    public static final String OphthalmicAxialLengthVelocity = "(0022,1059)";
-    public static final String LensStatusDescription = "(0022,1065)";
-    public static final String VitreousStatusDescription = "(0022,1066)";
-    public static final String IOLPowerSequence = "(0022,1090)";
-    public static final String LensConstantSequence = "(0022,1092)";
-    public static final String IOLManufacturer = "(0022,1093)";
-    public static final String ImplantName = "(0022,1095)";
-    public static final String KeratometryMeasurementTypeCodeSequence = "(0022,1096)";
-    public static final String ImplantPartNumber = "(0022,1097)";
-    public static final String ReferencedOphthalmicAxialMeasurementsSequence = "(0022,1100)";
-    public static final String OphthalmicAxialLengthMeasurementsSegmentNameCodeSequence = "(0022,1101)";
-    public static final String RefractiveErrorBeforeRefractiveSurgeryCodeSequence = "(0022,1103)";
-    public static final String IOLPowerForExactEmmetropia = "(0022,1121)";
-    public static final String IOLPowerForExactTargetRefraction = "(0022,1122)";
-    public static final String AnteriorChamberDepthDefinitionCodeSequence = "(0022,1125)";
-    public static final String LensThicknessSequence = "(0022,1127)";
-    public static final String AnteriorChamberDepthSequence = "(0022,1128)";
-    public static final String CalculationCommentSequence = "(0022,112A)";
-    public static final String CalculationCommentType = "(0022,112B)";
-    public static final String CalculationComment = "(0022,112C)";
-    public static final String LensThickness = "(0022,1130)";
-    public static final String AnteriorChamberDepth = "(0022,1131)";
-    public static final String SourceOfLensThicknessDataCodeSequence = "(0022,1132)";
-    public static final String SourceOfAnteriorChamberDepthDataCodeSequence = "(0022,1133)";
-    public static final String SourceOfRefractiveMeasurementsSequence = "(0022,1134)";
-    public static final String SourceOfRefractiveMeasurementsCodeSequence = "(0022,1135)";
-    public static final String OphthalmicAxialLengthMeasurementModified = "(0022,1140)";
-    public static final String OphthalmicAxialLengthDataSourceCodeSequence = "(0022,1150)";
-    public static final String SignalToNoiseRatio = "(0022,1155)";
-    public static final String OphthalmicAxialLengthDataSourceDescription = "(0022,1159)";
-    public static final String OphthalmicAxialLengthMeasurementsTotalLengthSequence = "(0022,1210)";
-    public static final String OphthalmicAxialLengthMeasurementsSegmentalLengthSequence = "(0022,1211)";
-    public static final String OphthalmicAxialLengthMeasurementsLengthSummationSequence = "(0022,1212)";
-    public static final String UltrasoundOphthalmicAxialLengthMeasurementsSequence = "(0022,1220)";
-    public static final String OpticalOphthalmicAxialLengthMeasurementsSequence = "(0022,1225)";
-    public static final String UltrasoundSelectedOphthalmicAxialLengthSequence = "(0022,1230)";
-    public static final String OphthalmicAxialLengthSelectionMethodCodeSequence = "(0022,1250)";
-    public static final String OpticalSelectedOphthalmicAxialLengthSequence = "(0022,1255)";
-    public static final String SelectedSegmentalOphthalmicAxialLengthSequence = "(0022,1257)";
-    public static final String SelectedTotalOphthalmicAxialLengthSequence = "(0022,1260)";
-    public static final String OphthalmicAxialLengthQualityMetricSequence = "(0022,1262)";
-    public static final String IntraocularLensCalculationsRightEyeSequence = "(0022,1300)";
-    public static final String IntraocularLensCalculationsLeftEyeSequence = "(0022,1310)";
-    public static final String ReferencedOphthalmicAxialLengthMeasurementQCImageSequence = "(0022,1330)";
-    public static final String OphthalmicMappingDeviceType = "(0022,1415)";
-    public static final String AcquisitionMethodCodeSequence = "(0022,1420)";
-    public static final String AcquisitionMethodAlgorithmSequence = "(0022,1423)";
-    public static final String OphthalmicThicknessMapTypeCodeSequence = "(0022,1436)";
-    public static final String OphthalmicThicknessMappingNormalsSequence = "(0022,1443)";
-    public static final String RetinalThicknessDefinitionCodeSequence = "(0022,1445)";
-    public static final String PixelValueMappingToCodedConceptSequence = "(0022,1450)";
-    public static final String MappedPixelValue = "(0022,1452)";
-    public static final String PixelValueMappingExplanation = "(0022,1454)";
-    public static final String OphthalmicThicknessMapQualityThresholdSequence = "(0022,1458)";
-    public static final String OphthalmicThicknessMapThresholdQualityRating = "(0022,1460)";
-    public static final String AnatomicStructureReferencePoint = "(0022,1463)";
-    public static final String RegistrationToLocalizerSequence = "(0022,1465)";
-    public static final String RegisteredLocalizerUnits = "(0022,1466)";
-    public static final String RegisteredLocalizerTopLeftHandCorner = "(0022,1467)";
-    public static final String RegisteredLocalizerBottomRightHandCorner = "(0022,1468)";
-    public static final String OphthalmicThicknessMapQualityRatingSequence = "(0022,1470)";
-    public static final String RelevantOPTAttributesSequence = "(0022,1472)";
-    public static final String TransformationMethodCodeSequence = "(0022,1512)";
-    public static final String TransformationAlgorithmSequence = "(0022,1513)";
-    public static final String OphthalmicAxialLengthMethod = "(0022,1515)";
-    public static final String OphthalmicFOV = "(0022,1517)";
-    public static final String TwoDimensionalToThreeDimensionalMapSequence = "(0022,1518)";
-    public static final String WideFieldOphthalmicPhotographyQualityRatingSequence = "(0022,1525)";
-    public static final String WideFieldOphthalmicPhotographyQualityThresholdSequence = "(0022,1526)";
-    public static final String WideFieldOphthalmicPhotographyThresholdQualityRating = "(0022,1527)";
-    public static final String XCoordinatesCenterPixelViewAngle = "(0022,1528)";
-    public static final String YCoordinatesCenterPixelViewAngle = "(0022,1529)";
-    public static final String NumberOfMapPoints = "(0022,1530)";
-    public static final String TwoDimensionalToThreeDimensionalMapData = "(0022,1531)";
-    public static final String DerivationAlgorithmSequence = "(0022,1612)";
-    public static final String OphthalmicImageTypeCodeSequence = "(0022,1615)";
-    public static final String OphthalmicImageTypeDescription = "(0022,1616)";
-    public static final String ScanPatternTypeCodeSequence = "(0022,1618)";
-    public static final String ReferencedSurfaceMeshIdentificationSequence = "(0022,1620)";
-    public static final String OphthalmicVolumetricPropertiesFlag = "(0022,1622)";
-    public static final String OphthalmicAnatomicReferencePointXCoordinate = "(0022,1624)";
-    public static final String OphthalmicAnatomicReferencePointYCoordinate = "(0022,1626)";
-    public static final String OphthalmicEnFaceImageQualityRatingSequence = "(0022,1628)";
-    public static final String QualityThreshold = "(0022,1630)";
-    public static final String OCTBscanAnalysisAcquisitionParametersSequence = "(0022,1640)";
-    public static final String NumberofBscansPerFrame = "(0022,1642)";
-    public static final String BscanSlabThickness = "(0022,1643)";
-    public static final String DistanceBetweenBscanSlabs = "(0022,1644)";
-    public static final String BscanCycleTime = "(0022,1645)";
-    public static final String BscanCycleTimeVector = "(0022,1646)";
-    public static final String AscanRate = "(0022,1649)";
-    public static final String BscanRate = "(0022,1650)";
-    public static final String SurfaceMeshZPixelOffset = "(0022,1658)";
-    public static final String VisualFieldHorizontalExtent = "(0024,0010)";
-    public static final String VisualFieldVerticalExtent = "(0024,0011)";
-    public static final String VisualFieldShape = "(0024,0012)";
-    public static final String ScreeningTestModeCodeSequence = "(0024,0016)";
-    public static final String MaximumStimulusLuminance = "(0024,0018)";
-    public static final String BackgroundLuminance = "(0024,0020)";
-    public static final String StimulusColorCodeSequence = "(0024,0021)";
-    public static final String BackgroundIlluminationColorCodeSequence = "(0024,0024)";
-    public static final String StimulusArea = "(0024,0025)";
-    public static final String StimulusPresentationTime = "(0024,0028)";
-    public static final String FixationSequence = "(0024,0032)";
-    public static final String FixationMonitoringCodeSequence = "(0024,0033)";
-    public static final String VisualFieldCatchTrialSequence = "(0024,0034)";
-    public static final String FixationCheckedQuantity = "(0024,0035)";
-    public static final String PatientNotProperlyFixatedQuantity = "(0024,0036)";
-    public static final String PresentedVisualStimuliDataFlag = "(0024,0037)";
-    public static final String NumberOfVisualStimuli = "(0024,0038)";
-    public static final String ExcessiveFixationLossesDataFlag = "(0024,0039)";
-    public static final String ExcessiveFixationLosses = "(0024,0040)";
-    public static final String StimuliRetestingQuantity = "(0024,0042)";
-    public static final String CommentsOnPatientPerformanceOfVisualField = "(0024,0044)";
-    public static final String FalseNegativesEstimateFlag = "(0024,0045)";
-    public static final String FalseNegativesEstimate = "(0024,0046)";
-    public static final String NegativeCatchTrialsQuantity = "(0024,0048)";
-    public static final String FalseNegativesQuantity = "(0024,0050)";
-    public static final String ExcessiveFalseNegativesDataFlag = "(0024,0051)";
-    public static final String ExcessiveFalseNegatives = "(0024,0052)";
-    public static final String FalsePositivesEstimateFlag = "(0024,0053)";
-    public static final String FalsePositivesEstimate = "(0024,0054)";
-    public static final String CatchTrialsDataFlag = "(0024,0055)";
-    public static final String PositiveCatchTrialsQuantity = "(0024,0056)";
-    public static final String TestPointNormalsDataFlag = "(0024,0057)";
-    public static final String TestPointNormalsSequence = "(0024,0058)";
-    public static final String GlobalDeviationProbabilityNormalsFlag = "(0024,0059)";
-    public static final String FalsePositivesQuantity = "(0024,0060)";
-    public static final String ExcessiveFalsePositivesDataFlag = "(0024,0061)";
-    public static final String ExcessiveFalsePositives = "(0024,0062)";
-    public static final String VisualFieldTestNormalsFlag = "(0024,0063)";
-    public static final String ResultsNormalsSequence = "(0024,0064)";
-    public static final String AgeCorrectedSensitivityDeviationAlgorithmSequence = "(0024,0065)";
-    public static final String GlobalDeviationFromNormal = "(0024,0066)";
-    public static final String GeneralizedDefectSensitivityDeviationAlgorithmSequence = "(0024,0067)";
-    public static final String LocalizedDeviationFromNormal = "(0024,0068)";
-    public static final String PatientReliabilityIndicator = "(0024,0069)";
-    public static final String VisualFieldMeanSensitivity = "(0024,0070)";
-    public static final String GlobalDeviationProbability = "(0024,0071)";
-    public static final String LocalDeviationProbabilityNormalsFlag = "(0024,0072)";
-    public static final String LocalizedDeviationProbability = "(0024,0073)";
-    public static final String ShortTermFluctuationCalculated = "(0024,0074)";
-    public static final String ShortTermFluctuation = "(0024,0075)";
-    public static final String ShortTermFluctuationProbabilityCalculated = "(0024,0076)";
-    public static final String ShortTermFluctuationProbability = "(0024,0077)";
-    public static final String CorrectedLocalizedDeviationFromNormalCalculated = "(0024,0078)";
-    public static final String CorrectedLocalizedDeviationFromNormal = "(0024,0079)";
-    public static final String CorrectedLocalizedDeviationFromNormalProbabilityCalculated = "(0024,0080)";
-    public static final String CorrectedLocalizedDeviationFromNormalProbability = "(0024,0081)";
-    public static final String GlobalDeviationProbabilitySequence = "(0024,0083)";
-    public static final String LocalizedDeviationProbabilitySequence = "(0024,0085)";
-    public static final String FovealSensitivityMeasured = "(0024,0086)";
-    public static final String FovealSensitivity = "(0024,0087)";
-    public static final String VisualFieldTestDuration = "(0024,0088)";
-    public static final String VisualFieldTestPointSequence = "(0024,0089)";
-    public static final String VisualFieldTestPointXCoordinate = "(0024,0090)";
-    public static final String VisualFieldTestPointYCoordinate = "(0024,0091)";
-    public static final String AgeCorrectedSensitivityDeviationValue = "(0024,0092)";
-    public static final String StimulusResults = "(0024,0093)";
-    public static final String SensitivityValue = "(0024,0094)";
-    public static final String RetestStimulusSeen = "(0024,0095)";
-    public static final String RetestSensitivityValue = "(0024,0096)";
-    public static final String VisualFieldTestPointNormalsSequence = "(0024,0097)";
-    public static final String QuantifiedDefect = "(0024,0098)";
-    public static final String AgeCorrectedSensitivityDeviationProbabilityValue = "(0024,0100)";
-    public static final String GeneralizedDefectCorrectedSensitivityDeviationFlag = "(0024,0102)";
-    public static final String GeneralizedDefectCorrectedSensitivityDeviationValue = "(0024,0103)";
-    public static final String GeneralizedDefectCorrectedSensitivityDeviationProbabilityValue = "(0024,0104)";
-    public static final String MinimumSensitivityValue = "(0024,0105)";
-    public static final String BlindSpotLocalized = "(0024,0106)";
-    public static final String BlindSpotXCoordinate = "(0024,0107)";
-    public static final String BlindSpotYCoordinate = "(0024,0108)";
-    public static final String VisualAcuityMeasurementSequence = "(0024,0110)";
-    public static final String RefractiveParametersUsedOnPatientSequence = "(0024,0112)";
-    public static final String MeasurementLaterality = "(0024,0113)";
-    public static final String OphthalmicPatientClinicalInformationLeftEyeSequence = "(0024,0114)";
-    public static final String OphthalmicPatientClinicalInformationRightEyeSequence = "(0024,0115)";
-    public static final String FovealPointNormativeDataFlag = "(0024,0117)";
-    public static final String FovealPointProbabilityValue = "(0024,0118)";
-    public static final String ScreeningBaselineMeasured = "(0024,0120)";
-    public static final String ScreeningBaselineMeasuredSequence = "(0024,0122)";
-    public static final String ScreeningBaselineType = "(0024,0124)";
-    public static final String ScreeningBaselineValue = "(0024,0126)";
-    public static final String AlgorithmSource = "(0024,0202)";
-    public static final String DataSetName = "(0024,0306)";
-    public static final String DataSetVersion = "(0024,0307)";
-    public static final String DataSetSource = "(0024,0308)";
-    public static final String DataSetDescription = "(0024,0309)";
-    public static final String VisualFieldTestReliabilityGlobalIndexSequence = "(0024,0317)";
-    public static final String VisualFieldGlobalResultsIndexSequence = "(0024,0320)";
-    public static final String DataObservationSequence = "(0024,0325)";
-    public static final String IndexNormalsFlag = "(0024,0338)";
-    public static final String IndexProbability = "(0024,0341)";
-    public static final String IndexProbabilitySequence = "(0024,0344)";
-    public static final String SamplesPerPixel = "(0028,0002)";
-    public static final String SamplesPerPixelUsed = "(0028,0003)";
-    public static final String PhotometricInterpretation = "(0028,0004)";
-    public static final String PlanarConfiguration = "(0028,0006)";
-    public static final String NumberOfFrames = "(0028,0008)";
-    public static final String FrameIncrementPointer = "(0028,0009)";
-    public static final String FrameDimensionPointer = "(0028,000A)";
-    public static final String Rows = "(0028,0010)";
-    public static final String Columns = "(0028,0011)";
-    public static final String UltrasoundColorDataPresent = "(0028,0014)";
-    public static final String PixelSpacing = "(0028,0030)";
-    public static final String ZoomFactor = "(0028,0031)";
-    public static final String ZoomCenter = "(0028,0032)";
-    public static final String PixelAspectRatio = "(0028,0034)";
-    public static final String CorrectedImage = "(0028,0051)";
-    public static final String BitsAllocated = "(0028,0100)";
-    public static final String BitsStored = "(0028,0101)";
-    public static final String HighBit = "(0028,0102)";
-    public static final String PixelRepresentation = "(0028,0103)";
-    public static final String SmallestImagePixelValue = "(0028,0106)";
-    public static final String LargestImagePixelValue = "(0028,0107)";
-    public static final String SmallestPixelValueInSeries = "(0028,0108)";
-    public static final String LargestPixelValueInSeries = "(0028,0109)";
-    public static final String PixelPaddingValue = "(0028,0120)";
-    public static final String PixelPaddingRangeLimit = "(0028,0121)";
-    public static final String FloatPixelPaddingValue = "(0028,0122)";
-    public static final String DoubleFloatPixelPaddingValue = "(0028,0123)";
-    public static final String FloatPixelPaddingRangeLimit = "(0028,0124)";
-    public static final String DoubleFloatPixelPaddingRangeLimit = "(0028,0125)";
-    public static final String QualityControlImage = "(0028,0300)";
-    public static final String BurnedInAnnotation = "(0028,0301)";
-    public static final String RecognizableVisualFeatures = "(0028,0302)";
-    public static final String LongitudinalTemporalInformationModified = "(0028,0303)";
-    public static final String ReferencedColorPaletteInstanceUID = "(0028,0304)";
-    public static final String PixelSpacingCalibrationType = "(0028,0A02)";
-    public static final String PixelSpacingCalibrationDescription = "(0028,0A04)";
-    public static final String PixelIntensityRelationship = "(0028,1040)";
-    public static final String PixelIntensityRelationshipSign = "(0028,1041)";
-    public static final String WindowCenter = "(0028,1050)";
-    public static final String WindowWidth = "(0028,1051)";
-    public static final String RescaleIntercept = "(0028,1052)";
-    public static final String RescaleSlope = "(0028,1053)";
-    public static final String RescaleType = "(0028,1054)";
-    public static final String WindowCenterWidthExplanation = "(0028,1055)";
-    public static final String VOILUTFunction = "(0028,1056)";
-    public static final String RecommendedViewingMode = "(0028,1090)";
-    public static final String RedPaletteColorLookupTableDescriptor = "(0028,1101)";
-    public static final String GreenPaletteColorLookupTableDescriptor = "(0028,1102)";
-    public static final String BluePaletteColorLookupTableDescriptor = "(0028,1103)";
-    public static final String AlphaPaletteColorLookupTableDescriptor = "(0028,1104)";
-    public static final String PaletteColorLookupTableUID = "(0028,1199)";
-    public static final String RedPaletteColorLookupTableData = "(0028,1201)";
-    public static final String GreenPaletteColorLookupTableData = "(0028,1202)";
-    public static final String BluePaletteColorLookupTableData = "(0028,1203)";
-    public static final String AlphaPaletteColorLookupTableData = "(0028,1204)";
-    public static final String SegmentedRedPaletteColorLookupTableData = "(0028,1221)";
-    public static final String SegmentedGreenPaletteColorLookupTableData = "(0028,1222)";
-    public static final String SegmentedBluePaletteColorLookupTableData = "(0028,1223)";
-    public static final String SegmentedAlphaPaletteColorLookupTableData = "(0028,1224)";
-    public static final String StoredValueColorRangeSequence = "(0028,1230)";
-    public static final String MinimumStoredValueMapped = "(0028,1231)";
-    public static final String MaximumStoredValueMapped = "(0028,1232)";
-    public static final String BreastImplantPresent = "(0028,1300)";
-    public static final String PartialView = "(0028,1350)";
-    public static final String PartialViewDescription = "(0028,1351)";
-    public static final String PartialViewCodeSequence = "(0028,1352)";
-    public static final String SpatialLocationsPreserved = "(0028,135A)";
-    public static final String DataFrameAssignmentSequence = "(0028,1401)";
-    public static final String DataPathAssignment = "(0028,1402)";
-    public static final String BitsMappedToColorLookupTable = "(0028,1403)";
-    public static final String BlendingLUT1Sequence = "(0028,1404)";
-    public static final String BlendingLUT1TransferFunction = "(0028,1405)";
-    public static final String BlendingWeightConstant = "(0028,1406)";
-    public static final String BlendingLookupTableDescriptor = "(0028,1407)";
-    public static final String BlendingLookupTableData = "(0028,1408)";
-    public static final String EnhancedPaletteColorLookupTableSequence = "(0028,140B)";
-    public static final String BlendingLUT2Sequence = "(0028,140C)";
-    public static final String BlendingLUT2TransferFunction = "(0028,140D)";
-    public static final String DataPathID = "(0028,140E)";
-    public static final String RGBLUTTransferFunction = "(0028,140F)";
-    public static final String AlphaLUTTransferFunction = "(0028,1410)";
-    public static final String ICCProfile = "(0028,2000)";
-    public static final String ColorSpace = "(0028,2002)";
-    public static final String LossyImageCompression = "(0028,2110)";
-    public static final String LossyImageCompressionRatio = "(0028,2112)";
-    public static final String LossyImageCompressionMethod = "(0028,2114)";
-    public static final String ModalityLUTSequence = "(0028,3000)";
-    public static final String LUTDescriptor = "(0028,3002)";
-    public static final String LUTExplanation = "(0028,3003)";
-    public static final String ModalityLUTType = "(0028,3004)";
-    public static final String LUTData = "(0028,3006)";
-    public static final String VOILUTSequence = "(0028,3010)";
-    public static final String SoftcopyVOILUTSequence = "(0028,3110)";
-    public static final String RepresentativeFrameNumber = "(0028,6010)";
-    public static final String FrameNumbersOfInterest = "(0028,6020)";
-    public static final String FrameOfInterestDescription = "(0028,6022)";
-    public static final String FrameOfInterestType = "(0028,6023)";
-    public static final String RWavePointer = "(0028,6040)";
-    public static final String MaskSubtractionSequence = "(0028,6100)";
-    public static final String MaskOperation = "(0028,6101)";
-    public static final String ApplicableFrameRange = "(0028,6102)";
-    public static final String MaskFrameNumbers = "(0028,6110)";
-    public static final String ContrastFrameAveraging = "(0028,6112)";
-    public static final String MaskSubPixelShift = "(0028,6114)";
-    public static final String TIDOffset = "(0028,6120)";
-    public static final String MaskOperationExplanation = "(0028,6190)";
-    public static final String EquipmentAdministratorSequence = "(0028,7000)";
-    public static final String NumberOfDisplaySubsystems = "(0028,7001)";
-    public static final String CurrentConfigurationID = "(0028,7002)";
-    public static final String DisplaySubsystemID = "(0028,7003)";
-    public static final String DisplaySubsystemName = "(0028,7004)";
-    public static final String DisplaySubsystemDescription = "(0028,7005)";
-    public static final String SystemStatus = "(0028,7006)";
-    public static final String SystemStatusComment = "(0028,7007)";
-    public static final String TargetLuminanceCharacteristicsSequence = "(0028,7008)";
-    public static final String LuminanceCharacteristicsID = "(0028,7009)";
-    public static final String DisplaySubsystemConfigurationSequence = "(0028,700A)";
-    public static final String ConfigurationID = "(0028,700B)";
-    public static final String ConfigurationName = "(0028,700C)";
-    public static final String ConfigurationDescription = "(0028,700D)";
-    public static final String ReferencedTargetLuminanceCharacteristicsID = "(0028,700E)";
-    public static final String QAResultsSequence = "(0028,700F)";
-    public static final String DisplaySubsystemQAResultsSequence = "(0028,7010)";
-    public static final String ConfigurationQAResultsSequence = "(0028,7011)";
-    public static final String MeasurementEquipmentSequence = "(0028,7012)";
-    public static final String MeasurementFunctions = "(0028,7013)";
-    public static final String MeasurementEquipmentType = "(0028,7014)";
-    public static final String VisualEvaluationResultSequence = "(0028,7015)";
-    public static final String DisplayCalibrationResultSequence = "(0028,7016)";
-    public static final String DDLValue = "(0028,7017)";
-    public static final String CIExyWhitePoint = "(0028,7018)";
-    public static final String DisplayFunctionType = "(0028,7019)";
-    public static final String GammaValue = "(0028,701A)";
-    public static final String NumberOfLuminancePoints = "(0028,701B)";
-    public static final String LuminanceResponseSequence = "(0028,701C)";
-    public static final String TargetMinimumLuminance = "(0028,701D)";
-    public static final String TargetMaximumLuminance = "(0028,701E)";
-    public static final String LuminanceValue = "(0028,701F)";
-    public static final String LuminanceResponseDescription = "(0028,7020)";
-    public static final String WhitePointFlag = "(0028,7021)";
-    public static final String DisplayDeviceTypeCodeSequence = "(0028,7022)";
-    public static final String DisplaySubsystemSequence = "(0028,7023)";
-    public static final String LuminanceResultSequence = "(0028,7024)";
-    public static final String AmbientLightValueSource = "(0028,7025)";
-    public static final String MeasuredCharacteristics = "(0028,7026)";
-    public static final String LuminanceUniformityResultSequence = "(0028,7027)";
-    public static final String VisualEvaluationTestSequence = "(0028,7028)";
-    public static final String TestResult = "(0028,7029)";
-    public static final String TestResultComment = "(0028,702A)";
-    public static final String TestImageValidation = "(0028,702B)";
-    public static final String TestPatternCodeSequence = "(0028,702C)";
-    public static final String MeasurementPatternCodeSequence = "(0028,702D)";
-    public static final String VisualEvaluationMethodCodeSequence = "(0028,702E)";
-    public static final String PixelDataProviderURL = "(0028,7FE0)";
-    public static final String DataPointRows = "(0028,9001)";
-    public static final String DataPointColumns = "(0028,9002)";
-    public static final String SignalDomainColumns = "(0028,9003)";
-    public static final String DataRepresentation = "(0028,9108)";
-    public static final String PixelMeasuresSequence = "(0028,9110)";
-    public static final String FrameVOILUTSequence = "(0028,9132)";
-    public static final String PixelValueTransformationSequence = "(0028,9145)";
-    public static final String SignalDomainRows = "(0028,9235)";
-    public static final String DisplayFilterPercentage = "(0028,9411)";
-    public static final String FramePixelShiftSequence = "(0028,9415)";
-    public static final String SubtractionItemID = "(0028,9416)";
-    public static final String PixelIntensityRelationshipLUTSequence = "(0028,9422)";
-    public static final String FramePixelDataPropertiesSequence = "(0028,9443)";
-    public static final String GeometricalProperties = "(0028,9444)";
-    public static final String GeometricMaximumDistortion = "(0028,9445)";
-    public static final String ImageProcessingApplied = "(0028,9446)";
-    public static final String MaskSelectionMode = "(0028,9454)";
-    public static final String LUTFunction = "(0028,9474)";
-    public static final String MaskVisibilityPercentage = "(0028,9478)";
-    public static final String PixelShiftSequence = "(0028,9501)";
-    public static final String RegionPixelShiftSequence = "(0028,9502)";
-    public static final String VerticesOfTheRegion = "(0028,9503)";
-    public static final String MultiFramePresentationSequence = "(0028,9505)";
-    public static final String PixelShiftFrameRange = "(0028,9506)";
-    public static final String LUTFrameRange = "(0028,9507)";
-    public static final String ImageToEquipmentMappingMatrix = "(0028,9520)";
-    public static final String EquipmentCoordinateSystemIdentification = "(0028,9537)";
-    public static final String RequestingPhysicianIdentificationSequence = "(0032,1031)";
-    public static final String RequestingPhysician = "(0032,1032)";
-    public static final String RequestingService = "(0032,1033)";
-    public static final String RequestingServiceCodeSequence = "(0032,1034)";
-    public static final String RequestedProcedureDescription = "(0032,1060)";
-    public static final String RequestedProcedureCodeSequence = "(0032,1064)";
-    public static final String ReasonForVisit = "(0032,1066)";
-    public static final String ReasonForVisitCodeSequence = "(0032,1067)";
-    public static final String RequestedContrastAgent = "(0032,1070)";
-    public static final String FlowIdentifierSequence = "(0034,0001)";
-    public static final String FlowIdentifier = "(0034,0002)";
-    public static final String FlowTransferSyntaxUID = "(0034,0003)";
-    public static final String FlowRTPSamplingRate = "(0034,0004)";
-    public static final String SourceIdentifier = "(0034,0005)";
-    public static final String FrameOriginTimestamp = "(0034,0007)";
-    public static final String IncludesImagingSubject = "(0034,0008)";
-    public static final String FrameUsefulnessGroupSequence = "(0034,0009)";
-    public static final String RealTimeBulkDataFlowSequence = "(0034,000A)";
-    public static final String CameraPositionGroupSequence = "(0034,000B)";
-    public static final String IncludesInformation = "(0034,000C)";
-    public static final String TimeOfFrameGroupSequence = "(0034,000D)";
-    public static final String ReferencedPatientAliasSequence = "(0038,0004)";
-    public static final String VisitStatusID = "(0038,0008)";
-    public static final String AdmissionID = "(0038,0010)";
-    public static final String IssuerOfAdmissionIDSequence = "(0038,0014)";
-    public static final String RouteOfAdmissions = "(0038,0016)";
-    public static final String AdmittingDate = "(0038,0020)";
-    public static final String AdmittingTime = "(0038,0021)";
-    public static final String SpecialNeeds = "(0038,0050)";
-    public static final String ServiceEpisodeID = "(0038,0060)";
-    public static final String ServiceEpisodeDescription = "(0038,0062)";
-    public static final String IssuerOfServiceEpisodeIDSequence = "(0038,0064)";
-    public static final String PertinentDocumentsSequence = "(0038,0100)";
-    public static final String PertinentResourcesSequence = "(0038,0101)";
-    public static final String ResourceDescription = "(0038,0102)";
-    public static final String CurrentPatientLocation = "(0038,0300)";
-    public static final String PatientInstitutionResidence = "(0038,0400)";
-    public static final String PatientState = "(0038,0500)";
-    public static final String PatientClinicalTrialParticipationSequence = "(0038,0502)";
-    public static final String VisitComments = "(0038,4000)";
-    public static final String WaveformOriginality = "(003A,0004)";
-    public static final String NumberOfWaveformChannels = "(003A,0005)";
-    public static final String NumberOfWaveformSamples = "(003A,0010)";
-    public static final String SamplingFrequency = "(003A,001A)";
-    public static final String MultiplexGroupLabel = "(003A,0020)";
-    public static final String ChannelDefinitionSequence = "(003A,0200)";
-    public static final String WaveformChannelNumber = "(003A,0202)";
-    public static final String ChannelLabel = "(003A,0203)";
-    public static final String ChannelStatus = "(003A,0205)";
-    public static final String ChannelSourceSequence = "(003A,0208)";
-    public static final String ChannelSourceModifiersSequence = "(003A,0209)";
-    public static final String SourceWaveformSequence = "(003A,020A)";
-    public static final String ChannelDerivationDescription = "(003A,020C)";
-    public static final String ChannelSensitivity = "(003A,0210)";
-    public static final String ChannelSensitivityUnitsSequence = "(003A,0211)";
-    public static final String ChannelSensitivityCorrectionFactor = "(003A,0212)";
-    public static final String ChannelBaseline = "(003A,0213)";
-    public static final String ChannelTimeSkew = "(003A,0214)";
-    public static final String ChannelSampleSkew = "(003A,0215)";
-    public static final String ChannelOffset = "(003A,0218)";
-    public static final String WaveformBitsStored = "(003A,021A)";
-    public static final String FilterLowFrequency = "(003A,0220)";
-    public static final String FilterHighFrequency = "(003A,0221)";
-    public static final String NotchFilterFrequency = "(003A,0222)";
-    public static final String NotchFilterBandwidth = "(003A,0223)";
-    public static final String WaveformDataDisplayScale = "(003A,0230)";
-    public static final String WaveformDisplayBackgroundCIELabValue = "(003A,0231)";
-    public static final String WaveformPresentationGroupSequence = "(003A,0240)";
-    public static final String PresentationGroupNumber = "(003A,0241)";
-    public static final String ChannelDisplaySequence = "(003A,0242)";
-    public static final String ChannelRecommendedDisplayCIELabValue = "(003A,0244)";
-    public static final String ChannelPosition = "(003A,0245)";
-    public static final String DisplayShadingFlag = "(003A,0246)";
-    public static final String FractionalChannelDisplayScale = "(003A,0247)";
-    public static final String AbsoluteChannelDisplayScale = "(003A,0248)";
-    public static final String MultiplexedAudioChannelsDescriptionCodeSequence = "(003A,0300)";
-    public static final String ChannelIdentificationCode = "(003A,0301)";
-    public static final String ChannelMode = "(003A,0302)";
-    public static final String MultiplexGroupUID = "(003A,0310)";
-    public static final String PowerlineFrequency = "(003A,0311)";
-    public static final String ChannelImpedanceSequence = "(003A,0312)";
-    public static final String ImpedanceValue = "(003A,0313)";
-    public static final String ImpedanceMeasurementDateTime = "(003A,0314)";
-    public static final String ImpedanceMeasurementFrequency = "(003A,0315)";
-    public static final String ImpedanceMeasurementCurrentType = "(003A,0316)";
-    public static final String ScheduledStationAETitle = "(0040,0001)";
-    public static final String ScheduledProcedureStepStartDate = "(0040,0002)";
-    public static final String ScheduledProcedureStepStartTime = "(0040,0003)";
-    public static final String ScheduledProcedureStepEndDate = "(0040,0004)";
-    public static final String ScheduledProcedureStepEndTime = "(0040,0005)";
-    public static final String ScheduledPerformingPhysicianName = "(0040,0006)";
-    public static final String ScheduledProcedureStepDescription = "(0040,0007)";
-    public static final String ScheduledProtocolCodeSequence = "(0040,0008)";
-    public static final String ScheduledProcedureStepID = "(0040,0009)";
-    public static final String StageCodeSequence = "(0040,000A)";
-    public static final String ScheduledPerformingPhysicianIdentificationSequence = "(0040,000B)";
-    public static final String ScheduledStationName = "(0040,0010)";
-    public static final String ScheduledProcedureStepLocation = "(0040,0011)";
-    public static final String PreMedication = "(0040,0012)";
-    public static final String ScheduledProcedureStepStatus = "(0040,0020)";
-    public static final String OrderPlacerIdentifierSequence = "(0040,0026)";
-    public static final String OrderFillerIdentifierSequence = "(0040,0027)";
-    public static final String LocalNamespaceEntityID = "(0040,0031)";
-    public static final String UniversalEntityID = "(0040,0032)";
-    public static final String UniversalEntityIDType = "(0040,0033)";
-    public static final String IdentifierTypeCode = "(0040,0035)";
-    public static final String AssigningFacilitySequence = "(0040,0036)";
-    public static final String AssigningJurisdictionCodeSequence = "(0040,0039)";
-    public static final String AssigningAgencyOrDepartmentCodeSequence = "(0040,003A)";
-    public static final String ScheduledProcedureStepSequence = "(0040,0100)";
-    public static final String ReferencedNonImageCompositeSOPInstanceSequence = "(0040,0220)";
-    public static final String PerformedStationAETitle = "(0040,0241)";
-    public static final String PerformedStationName = "(0040,0242)";
-    public static final String PerformedLocation = "(0040,0243)";
-    public static final String PerformedProcedureStepStartDate = "(0040,0244)";
-    public static final String PerformedProcedureStepStartTime = "(0040,0245)";
-    public static final String PerformedProcedureStepEndDate = "(0040,0250)";
-    public static final String PerformedProcedureStepEndTime = "(0040,0251)";
-    public static final String PerformedProcedureStepStatus = "(0040,0252)";
-    public static final String PerformedProcedureStepID = "(0040,0253)";
-    public static final String PerformedProcedureStepDescription = "(0040,0254)";
-    public static final String PerformedProcedureTypeDescription = "(0040,0255)";
-    public static final String PerformedProtocolCodeSequence = "(0040,0260)";
-    public static final String PerformedProtocolType = "(0040,0261)";
-    public static final String ScheduledStepAttributesSequence = "(0040,0270)";
-    public static final String RequestAttributesSequence = "(0040,0275)";
-    public static final String CommentsOnThePerformedProcedureStep = "(0040,0280)";
-    public static final String PerformedProcedureStepDiscontinuationReasonCodeSequence = "(0040,0281)";
-    public static final String QuantitySequence = "(0040,0293)";
-    public static final String Quantity = "(0040,0294)";
-    public static final String MeasuringUnitsSequence = "(0040,0295)";
-    public static final String BillingItemSequence = "(0040,0296)";
-    public static final String EntranceDose = "(0040,0302)";
-    public static final String ExposedArea = "(0040,0303)";
-    public static final String DistanceSourceToEntrance = "(0040,0306)";
-    public static final String CommentsOnRadiationDose = "(0040,0310)";
-    public static final String XRayOutput = "(0040,0312)";
-    public static final String HalfValueLayer = "(0040,0314)";
-    public static final String OrganDose = "(0040,0316)";
-    public static final String OrganExposed = "(0040,0318)";
-    public static final String BillingProcedureStepSequence = "(0040,0320)";
-    public static final String FilmConsumptionSequence = "(0040,0321)";
-    public static final String BillingSuppliesAndDevicesSequence = "(0040,0324)";
-    public static final String PerformedSeriesSequence = "(0040,0340)";
-    public static final String CommentsOnTheScheduledProcedureStep = "(0040,0400)";
-    public static final String ProtocolContextSequence = "(0040,0440)";
-    public static final String ContentItemModifierSequence = "(0040,0441)";
-    public static final String ScheduledSpecimenSequence = "(0040,0500)";
-    public static final String ContainerIdentifier = "(0040,0512)";
-    public static final String IssuerOfTheContainerIdentifierSequence = "(0040,0513)";
-    public static final String AlternateContainerIdentifierSequence = "(0040,0515)";
-    public static final String ContainerTypeCodeSequence = "(0040,0518)";
-    public static final String ContainerDescription = "(0040,051A)";
-    public static final String ContainerComponentSequence = "(0040,0520)";
-    public static final String SpecimenIdentifier = "(0040,0551)";
-    public static final String SpecimenUID = "(0040,0554)";
-    public static final String AcquisitionContextSequence = "(0040,0555)";
-    public static final String AcquisitionContextDescription = "(0040,0556)";
-    public static final String SpecimenDescriptionSequence = "(0040,0560)";
-    public static final String IssuerOfTheSpecimenIdentifierSequence = "(0040,0562)";
-    public static final String SpecimenTypeCodeSequence = "(0040,059A)";
-    public static final String SpecimenShortDescription = "(0040,0600)";
-    public static final String SpecimenDetailedDescription = "(0040,0602)";
-    public static final String SpecimenPreparationSequence = "(0040,0610)";
-    public static final String SpecimenPreparationStepContentItemSequence = "(0040,0612)";
-    public static final String SpecimenLocalizationContentItemSequence = "(0040,0620)";
-    public static final String WholeSlideMicroscopyImageFrameTypeSequence = "(0040,0710)";
-    public static final String ImageCenterPointCoordinatesSequence = "(0040,071A)";
-    public static final String XOffsetInSlideCoordinateSystem = "(0040,072A)";
-    public static final String YOffsetInSlideCoordinateSystem = "(0040,073A)";
-    public static final String ZOffsetInSlideCoordinateSystem = "(0040,074A)";
-    public static final String MeasurementUnitsCodeSequence = "(0040,08EA)";
-    public static final String RequestedProcedureID = "(0040,1001)";
-    public static final String ReasonForTheRequestedProcedure = "(0040,1002)";
-    public static final String RequestedProcedurePriority = "(0040,1003)";
-    public static final String PatientTransportArrangements = "(0040,1004)";
-    public static final String RequestedProcedureLocation = "(0040,1005)";
-    public static final String ConfidentialityCode = "(0040,1008)";
-    public static final String ReportingPriority = "(0040,1009)";
-    public static final String ReasonForRequestedProcedureCodeSequence = "(0040,100A)";
-    public static final String NamesOfIntendedRecipientsOfResults = "(0040,1010)";
-    public static final String IntendedRecipientsOfResultsIdentificationSequence = "(0040,1011)";
-    public static final String ReasonForPerformedProcedureCodeSequence = "(0040,1012)";
-    public static final String PersonIdentificationCodeSequence = "(0040,1101)";
-    public static final String PersonAddress = "(0040,1102)";
-    public static final String PersonTelephoneNumbers = "(0040,1103)";
-    public static final String PersonTelecomInformation = "(0040,1104)";
-    public static final String RequestedProcedureComments = "(0040,1400)";
-    public static final String IssueDateOfImagingServiceRequest = "(0040,2004)";
-    public static final String IssueTimeOfImagingServiceRequest = "(0040,2005)";
-    public static final String OrderEnteredBy = "(0040,2008)";
-    public static final String OrderEntererLocation = "(0040,2009)";
-    public static final String OrderCallbackPhoneNumber = "(0040,2010)";
-    public static final String OrderCallbackTelecomInformation = "(0040,2011)";
-    public static final String PlacerOrderNumberImagingServiceRequest = "(0040,2016)";
-    public static final String FillerOrderNumberImagingServiceRequest = "(0040,2017)";
-    public static final String ImagingServiceRequestComments = "(0040,2400)";
-    public static final String ConfidentialityConstraintOnPatientDataDescription = "(0040,3001)";
-    public static final String ScheduledProcedureStepStartDateTime = "(0040,4005)";
-    public static final String ScheduledProcedureStepExpirationDateTime = "(0040,4008)";
-    public static final String HumanPerformerCodeSequence = "(0040,4009)";
-    public static final String ScheduledProcedureStepModificationDateTime = "(0040,4010)";
-    public static final String ExpectedCompletionDateTime = "(0040,4011)";
-    public static final String ScheduledWorkitemCodeSequence = "(0040,4018)";
-    public static final String PerformedWorkitemCodeSequence = "(0040,4019)";
-    public static final String InputInformationSequence = "(0040,4021)";
-    public static final String ScheduledStationNameCodeSequence = "(0040,4025)";
-    public static final String ScheduledStationClassCodeSequence = "(0040,4026)";
-    public static final String ScheduledStationGeographicLocationCodeSequence = "(0040,4027)";
-    public static final String PerformedStationNameCodeSequence = "(0040,4028)";
-    public static final String PerformedStationClassCodeSequence = "(0040,4029)";
-    public static final String PerformedStationGeographicLocationCodeSequence = "(0040,4030)";
-    public static final String OutputInformationSequence = "(0040,4033)";
-    public static final String ScheduledHumanPerformersSequence = "(0040,4034)";
-    public static final String ActualHumanPerformersSequence = "(0040,4035)";
-    public static final String HumanPerformerOrganization = "(0040,4036)";
-    public static final String HumanPerformerName = "(0040,4037)";
-    public static final String RawDataHandling = "(0040,4040)";
-    public static final String InputReadinessState = "(0040,4041)";
-    public static final String PerformedProcedureStepStartDateTime = "(0040,4050)";
-    public static final String PerformedProcedureStepEndDateTime = "(0040,4051)";
-    public static final String ProcedureStepCancellationDateTime = "(0040,4052)";
-    public static final String OutputDestinationSequence = "(0040,4070)";
-    public static final String DICOMStorageSequence = "(0040,4071)";
-    public static final String STOWRSStorageSequence = "(0040,4072)";
-    public static final String StorageURL = "(0040,4073)";
-    public static final String XDSStorageSequence = "(0040,4074)";
-    public static final String EntranceDoseInmGy = "(0040,8302)";
-    public static final String EntranceDoseDerivation = "(0040,8303)";
-    public static final String ParametricMapFrameTypeSequence = "(0040,9092)";
-    public static final String ReferencedImageRealWorldValueMappingSequence = "(0040,9094)";
-    public static final String RealWorldValueMappingSequence = "(0040,9096)";
-    public static final String PixelValueMappingCodeSequence = "(0040,9098)";
-    public static final String LUTLabel = "(0040,9210)";
-    public static final String RealWorldValueLastValueMapped = "(0040,9211)";
-    public static final String RealWorldValueLUTData = "(0040,9212)";
-    public static final String DoubleFloatRealWorldValueLastValueMapped = "(0040,9213)";
-    public static final String DoubleFloatRealWorldValueFirstValueMapped = "(0040,9214)";
-    public static final String RealWorldValueFirstValueMapped = "(0040,9216)";
-    public static final String QuantityDefinitionSequence = "(0040,9220)";
-    public static final String RealWorldValueIntercept = "(0040,9224)";
-    public static final String RealWorldValueSlope = "(0040,9225)";
-    public static final String RelationshipType = "(0040,A010)";
-    public static final String VerifyingOrganization = "(0040,A027)";
-    public static final String VerificationDateTime = "(0040,A030)";
-    public static final String ObservationDateTime = "(0040,A032)";
-    public static final String ValueType = "(0040,A040)";
-    public static final String ConceptNameCodeSequence = "(0040,A043)";
-    public static final String ContinuityOfContent = "(0040,A050)";
-    public static final String VerifyingObserverSequence = "(0040,A073)";
-    public static final String VerifyingObserverName = "(0040,A075)";
-    public static final String AuthorObserverSequence = "(0040,A078)";
-    public static final String ParticipantSequence = "(0040,A07A)";
-    public static final String CustodialOrganizationSequence = "(0040,A07C)";
-    public static final String ParticipationType = "(0040,A080)";
-    public static final String ParticipationDateTime = "(0040,A082)";
-    public static final String ObserverType = "(0040,A084)";
-    public static final String VerifyingObserverIdentificationCodeSequence = "(0040,A088)";
-    public static final String ReferencedWaveformChannels = "(0040,A0B0)";
-    public static final String DateTime = "(0040,A120)";
-    public static final String Date = "(0040,A121)";
-    public static final String Time = "(0040,A122)";
-    public static final String PersonName = "(0040,A123)";
-    public static final String UID = "(0040,A124)";
-    public static final String TemporalRangeType = "(0040,A130)";
-    public static final String ReferencedSamplePositions = "(0040,A132)";
-    public static final String ReferencedTimeOffsets = "(0040,A138)";
-    public static final String ReferencedDateTime = "(0040,A13A)";
-    public static final String TextValue = "(0040,A160)";
-    public static final String FloatingPointValue = "(0040,A161)";
-    public static final String RationalNumeratorValue = "(0040,A162)";
-    public static final String RationalDenominatorValue = "(0040,A163)";
-    public static final String ConceptCodeSequence = "(0040,A168)";
-    public static final String PurposeOfReferenceCodeSequence = "(0040,A170)";
-    public static final String ObservationUID = "(0040,A171)";
-    public static final String AnnotationGroupNumber = "(0040,A180)";
-    public static final String ModifierCodeSequence = "(0040,A195)";
-    public static final String MeasuredValueSequence = "(0040,A300)";
-    public static final String NumericValueQualifierCodeSequence = "(0040,A301)";
-    public static final String NumericValue = "(0040,A30A)";
-    public static final String PredecessorDocumentsSequence = "(0040,A360)";
-    public static final String ReferencedRequestSequence = "(0040,A370)";
-    public static final String PerformedProcedureCodeSequence = "(0040,A372)";
-    public static final String CurrentRequestedProcedureEvidenceSequence = "(0040,A375)";
-    public static final String PertinentOtherEvidenceSequence = "(0040,A385)";
-    public static final String HL7StructuredDocumentReferenceSequence = "(0040,A390)";
-    public static final String CompletionFlag = "(0040,A491)";
-    public static final String CompletionFlagDescription = "(0040,A492)";
-    public static final String VerificationFlag = "(0040,A493)";
-    public static final String ArchiveRequested = "(0040,A494)";
-    public static final String PreliminaryFlag = "(0040,A496)";
-    public static final String ContentTemplateSequence = "(0040,A504)";
-    public static final String IdenticalDocumentsSequence = "(0040,A525)";
-    public static final String ContentSequence = "(0040,A730)";
-    public static final String TabulatedValuesSequence = "(0040,A801)";
-    public static final String NumberOfTableRows = "(0040,A802)";
-    public static final String NumbeOfTableColumns = "(0040,A803)";
-    public static final String TableRowNumber = "(0040,A804)";
-    public static final String TableColumnNumber = "(0040,A805)";
-    public static final String TableRowDefinitionSequence = "(0040,A806)";
-    public static final String TableColumnDefinitionSequence = "(0040,A807)";
-    public static final String CellValuesSequence = "(0040,A808)";
-    public static final String WaveformAnnotationSequence = "(0040,B020)";
-    public static final String TemplateIdentifier = "(0040,DB00)";
-    public static final String ReferencedContentItemIdentifier = "(0040,DB73)";
-    public static final String HL7InstanceIdentifier = "(0040,E001)";
-    public static final String HL7DocumentEffectiveTime = "(0040,E004)";
-    public static final String HL7DocumentTypeCodeSequence = "(0040,E006)";
-    public static final String DocumentClassCodeSequence = "(0040,E008)";
-    public static final String RetrieveURI = "(0040,E010)";
-    public static final String RetrieveLocationUID = "(0040,E011)";
-    public static final String TypeOfInstances = "(0040,E020)";
-    public static final String DICOMRetrievalSequence = "(0040,E021)";
-    public static final String DICOMMediaRetrievalSequence = "(0040,E022)";
-    public static final String WADORetrievalSequence = "(0040,E023)";
-    public static final String XDSRetrievalSequence = "(0040,E024)";
-    public static final String WADORSRetrievalSequence = "(0040,E025)";
-    public static final String RepositoryUniqueID = "(0040,E030)";
-    public static final String HomeCommunityID = "(0040,E031)";
-    public static final String DocumentTitle = "(0042,0010)";
-    public static final String EncapsulatedDocument = "(0042,0011)";
-    public static final String MIMETypeOfEncapsulatedDocument = "(0042,0012)";
-    public static final String SourceInstanceSequence = "(0042,0013)";
-    public static final String ListOfMIMETypes = "(0042,0014)";
-    public static final String EncapsulatedDocumentLength = "(0042,0015)";
-    public static final String ProductPackageIdentifier = "(0044,0001)";
-    public static final String SubstanceAdministrationApproval = "(0044,0002)";
-    public static final String ApprovalStatusFurtherDescription = "(0044,0003)";
-    public static final String ApprovalStatusDateTime = "(0044,0004)";
-    public static final String ProductTypeCodeSequence = "(0044,0007)";
-    public static final String ProductName = "(0044,0008)";
-    public static final String ProductDescription = "(0044,0009)";
-    public static final String ProductLotIdentifier = "(0044,000A)";
-    public static final String ProductExpirationDateTime = "(0044,000B)";
-    public static final String SubstanceAdministrationDateTime = "(0044,0010)";
-    public static final String SubstanceAdministrationNotes = "(0044,0011)";
-    public static final String SubstanceAdministrationDeviceID = "(0044,0012)";
-    public static final String ProductParameterSequence = "(0044,0013)";
-    public static final String SubstanceAdministrationParameterSequence = "(0044,0019)";
-    public static final String ApprovalSequence = "(0044,0100)";
-    public static final String AssertionCodeSequence = "(0044,0101)";
-    public static final String AssertionUID = "(0044,0102)";
-    public static final String AsserterIdentificationSequence = "(0044,0103)";
-    public static final String AssertionDateTime = "(0044,0104)";
-    public static final String AssertionExpirationDateTime = "(0044,0105)";
-    public static final String AssertionComments = "(0044,0106)";
-    public static final String RelatedAssertionSequence = "(0044,0107)";
-    public static final String ReferencedAssertionUID = "(0044,0108)";
-    public static final String ApprovalSubjectSequence = "(0044,0109)";
-    public static final String OrganizationalRoleCodeSequence = "(0044,010A)";
-    public static final String LensDescription = "(0046,0012)";
-    public static final String RightLensSequence = "(0046,0014)";
-    public static final String LeftLensSequence = "(0046,0015)";
-    public static final String UnspecifiedLateralityLensSequence = "(0046,0016)";
-    public static final String CylinderSequence = "(0046,0018)";
-    public static final String PrismSequence = "(0046,0028)";
-    public static final String HorizontalPrismPower = "(0046,0030)";
-    public static final String HorizontalPrismBase = "(0046,0032)";
-    public static final String VerticalPrismPower = "(0046,0034)";
-    public static final String VerticalPrismBase = "(0046,0036)";
-    public static final String LensSegmentType = "(0046,0038)";
-    public static final String OpticalTransmittance = "(0046,0040)";
-    public static final String ChannelWidth = "(0046,0042)";
-    public static final String PupilSize = "(0046,0044)";
-    public static final String CornealSize = "(0046,0046)";
-    public static final String CornealSizeSequence = "(0046,0047)";
-    public static final String AutorefractionRightEyeSequence = "(0046,0050)";
-    public static final String AutorefractionLeftEyeSequence = "(0046,0052)";
-    public static final String DistancePupillaryDistance = "(0046,0060)";
-    public static final String NearPupillaryDistance = "(0046,0062)";
-    public static final String IntermediatePupillaryDistance = "(0046,0063)";
-    public static final String OtherPupillaryDistance = "(0046,0064)";
-    public static final String KeratometryRightEyeSequence = "(0046,0070)";
-    public static final String KeratometryLeftEyeSequence = "(0046,0071)";
-    public static final String SteepKeratometricAxisSequence = "(0046,0074)";
-    public static final String RadiusOfCurvature = "(0046,0075)";
-    public static final String KeratometricPower = "(0046,0076)";
-    public static final String KeratometricAxis = "(0046,0077)";
-    public static final String FlatKeratometricAxisSequence = "(0046,0080)";
-    public static final String BackgroundColor = "(0046,0092)";
-    public static final String Optotype = "(0046,0094)";
-    public static final String OptotypePresentation = "(0046,0095)";
-    public static final String SubjectiveRefractionRightEyeSequence = "(0046,0097)";
-    public static final String SubjectiveRefractionLeftEyeSequence = "(0046,0098)";
-    public static final String AddNearSequence = "(0046,0100)";
-    public static final String AddIntermediateSequence = "(0046,0101)";
-    public static final String AddOtherSequence = "(0046,0102)";
-    public static final String AddPower = "(0046,0104)";
-    public static final String ViewingDistance = "(0046,0106)";
-    public static final String CorneaMeasurementsSequence = "(0046,0110)";
-    public static final String SourceOfCorneaMeasurementDataCodeSequence = "(0046,0111)";
-    public static final String SteepCornealAxisSequence = "(0046,0112)";
-    public static final String FlatCornealAxisSequence = "(0046,0113)";
-    public static final String CornealPower = "(0046,0114)";
-    public static final String CornealAxis = "(0046,0115)";
-    public static final String CorneaMeasurementMethodCodeSequence = "(0046,0116)";
-    public static final String RefractiveIndexOfCornea = "(0046,0117)";
-    public static final String RefractiveIndexOfAqueousHumor = "(0046,0118)";
-    public static final String VisualAcuityTypeCodeSequence = "(0046,0121)";
-    public static final String VisualAcuityRightEyeSequence = "(0046,0122)";
-    public static final String VisualAcuityLeftEyeSequence = "(0046,0123)";
-    public static final String VisualAcuityBothEyesOpenSequence = "(0046,0124)";
-    public static final String ViewingDistanceType = "(0046,0125)";
-    public static final String VisualAcuityModifiers = "(0046,0135)";
-    public static final String DecimalVisualAcuity = "(0046,0137)";
-    public static final String OptotypeDetailedDefinition = "(0046,0139)";
-    public static final String ReferencedRefractiveMeasurementsSequence = "(0046,0145)";
-    public static final String SpherePower = "(0046,0146)";
-    public static final String CylinderPower = "(0046,0147)";
-    public static final String CornealTopographySurface = "(0046,0201)";
-    public static final String CornealVertexLocation = "(0046,0202)";
-    public static final String PupilCentroidXCoordinate = "(0046,0203)";
-    public static final String PupilCentroidYCoordinate = "(0046,0204)";
-    public static final String EquivalentPupilRadius = "(0046,0205)";
-    public static final String CornealTopographyMapTypeCodeSequence = "(0046,0207)";
-    public static final String VerticesOfTheOutlineOfPupil = "(0046,0208)";
-    public static final String CornealTopographyMappingNormalsSequence = "(0046,0210)";
-    public static final String MaximumCornealCurvatureSequence = "(0046,0211)";
-    public static final String MaximumCornealCurvature = "(0046,0212)";
-    public static final String MaximumCornealCurvatureLocation = "(0046,0213)";
-    public static final String MinimumKeratometricSequence = "(0046,0215)";
-    public static final String SimulatedKeratometricCylinderSequence = "(0046,0218)";
-    public static final String AverageCornealPower = "(0046,0220)";
-    public static final String CornealISValue = "(0046,0224)";
-    public static final String AnalyzedArea = "(0046,0227)";
-    public static final String SurfaceRegularityIndex = "(0046,0230)";
-    public static final String SurfaceAsymmetryIndex = "(0046,0232)";
-    public static final String CornealEccentricityIndex = "(0046,0234)";
-    public static final String KeratoconusPredictionIndex = "(0046,0236)";
-    public static final String DecimalPotentialVisualAcuity = "(0046,0238)";
-    public static final String CornealTopographyMapQualityEvaluation = "(0046,0242)";
-    public static final String SourceImageCornealProcessedDataSequence = "(0046,0244)";
-    public static final String CornealPointLocation = "(0046,0247)";
-    public static final String CornealPointEstimated = "(0046,0248)";
-    public static final String AxialPower = "(0046,0249)";
-    public static final String TangentialPower = "(0046,0250)";
-    public static final String RefractivePower = "(0046,0251)";
-    public static final String RelativeElevation = "(0046,0252)";
-    public static final String CornealWavefront = "(0046,0253)";
-    public static final String ImagedVolumeWidth = "(0048,0001)";
-    public static final String ImagedVolumeHeight = "(0048,0002)";
-    public static final String ImagedVolumeDepth = "(0048,0003)";
-    public static final String TotalPixelMatrixColumns = "(0048,0006)";
-    public static final String TotalPixelMatrixRows = "(0048,0007)";
-    public static final String TotalPixelMatrixOriginSequence = "(0048,0008)";
-    public static final String SpecimenLabelInImage = "(0048,0010)";
-    public static final String FocusMethod = "(0048,0011)";
-    public static final String ExtendedDepthOfField = "(0048,0012)";
-    public static final String NumberOfFocalPlanes = "(0048,0013)";
-    public static final String DistanceBetweenFocalPlanes = "(0048,0014)";
-    public static final String RecommendedAbsentPixelCIELabValue = "(0048,0015)";
-    public static final String IlluminatorTypeCodeSequence = "(0048,0100)";
-    public static final String ImageOrientationSlide = "(0048,0102)";
-    public static final String OpticalPathSequence = "(0048,0105)";
-    public static final String OpticalPathIdentifier = "(0048,0106)";
-    public static final String OpticalPathDescription = "(0048,0107)";
-    public static final String IlluminationColorCodeSequence = "(0048,0108)";
-    public static final String SpecimenReferenceSequence = "(0048,0110)";
-    public static final String CondenserLensPower = "(0048,0111)";
-    public static final String ObjectiveLensPower = "(0048,0112)";
-    public static final String ObjectiveLensNumericalAperture = "(0048,0113)";
-    public static final String PaletteColorLookupTableSequence = "(0048,0120)";
-    public static final String ReferencedImageNavigationSequence = "(0048,0200)";
-    public static final String TopLeftHandCornerOfLocalizerArea = "(0048,0201)";
-    public static final String BottomRightHandCornerOfLocalizerArea = "(0048,0202)";
-    public static final String OpticalPathIdentificationSequence = "(0048,0207)";
-    public static final String PlanePositionSlideSequence = "(0048,021A)";
-    public static final String ColumnPositionInTotalImagePixelMatrix = "(0048,021E)";
-    public static final String RowPositionInTotalImagePixelMatrix = "(0048,021F)";
-    public static final String PixelOriginInterpretation = "(0048,0301)";
-    public static final String NumberOfOpticalPaths = "(0048,0302)";
-    public static final String TotalPixelMatrixFocalPlanes = "(0048,0303)";
-    public static final String CalibrationImage = "(0050,0004)";
-    public static final String DeviceSequence = "(0050,0010)";
-    public static final String ContainerComponentTypeCodeSequence = "(0050,0012)";
-    public static final String ContainerComponentThickness = "(0050,0013)";
-    public static final String DeviceLength = "(0050,0014)";
-    public static final String ContainerComponentWidth = "(0050,0015)";
-    public static final String DeviceDiameter = "(0050,0016)";
-    public static final String DeviceDiameterUnits = "(0050,0017)";
-    public static final String DeviceVolume = "(0050,0018)";
-    public static final String InterMarkerDistance = "(0050,0019)";
-    public static final String ContainerComponentMaterial = "(0050,001A)";
-    public static final String ContainerComponentID = "(0050,001B)";
-    public static final String ContainerComponentLength = "(0050,001C)";
-    public static final String ContainerComponentDiameter = "(0050,001D)";
-    public static final String ContainerComponentDescription = "(0050,001E)";
-    public static final String DeviceDescription = "(0050,0020)";
-    public static final String LongDeviceDescription = "(0050,0021)";
-    public static final String ContrastBolusIngredientPercentByVolume = "(0052,0001)";
-    public static final String OCTFocalDistance = "(0052,0002)";
-    public static final String BeamSpotSize = "(0052,0003)";
-    public static final String EffectiveRefractiveIndex = "(0052,0004)";
-    public static final String OCTAcquisitionDomain = "(0052,0006)";
-    public static final String OCTOpticalCenterWavelength = "(0052,0007)";
-    public static final String AxialResolution = "(0052,0008)";
-    public static final String RangingDepth = "(0052,0009)";
-    public static final String ALineRate = "(0052,0011)";
-    public static final String ALinesPerFrame = "(0052,0012)";
-    public static final String CatheterRotationalRate = "(0052,0013)";
-    public static final String ALinePixelSpacing = "(0052,0014)";
-    public static final String ModeOfPercutaneousAccessSequence = "(0052,0016)";
-    public static final String IntravascularOCTFrameTypeSequence = "(0052,0025)";
-    public static final String OCTZOffsetApplied = "(0052,0026)";
-    public static final String IntravascularFrameContentSequence = "(0052,0027)";
-    public static final String IntravascularLongitudinalDistance = "(0052,0028)";
-    public static final String IntravascularOCTFrameContentSequence = "(0052,0029)";
-    public static final String OCTZOffsetCorrection = "(0052,0030)";
-    public static final String CatheterDirectionOfRotation = "(0052,0031)";
-    public static final String SeamLineLocation = "(0052,0033)";
-    public static final String FirstALineLocation = "(0052,0034)";
-    public static final String SeamLineIndex = "(0052,0036)";
-    public static final String NumberOfPaddedALines = "(0052,0038)";
-    public static final String InterpolationType = "(0052,0039)";
-    public static final String RefractiveIndexApplied = "(0052,003A)";
-    public static final String EnergyWindowVector = "(0054,0010)";
-    public static final String NumberOfEnergyWindows = "(0054,0011)";
-    public static final String EnergyWindowInformationSequence = "(0054,0012)";
-    public static final String EnergyWindowRangeSequence = "(0054,0013)";
-    public static final String EnergyWindowLowerLimit = "(0054,0014)";
-    public static final String EnergyWindowUpperLimit = "(0054,0015)";
-    public static final String RadiopharmaceuticalInformationSequence = "(0054,0016)";
-    public static final String ResidualSyringeCounts = "(0054,0017)";
-    public static final String EnergyWindowName = "(0054,0018)";
-    public static final String DetectorVector = "(0054,0020)";
-    public static final String NumberOfDetectors = "(0054,0021)";
-    public static final String DetectorInformationSequence = "(0054,0022)";
-    public static final String PhaseVector = "(0054,0030)";
-    public static final String NumberOfPhases = "(0054,0031)";
-    public static final String PhaseInformationSequence = "(0054,0032)";
-    public static final String NumberOfFramesInPhase = "(0054,0033)";
-    public static final String PhaseDelay = "(0054,0036)";
-    public static final String PauseBetweenFrames = "(0054,0038)";
-    public static final String PhaseDescription = "(0054,0039)";
-    public static final String RotationVector = "(0054,0050)";
-    public static final String NumberOfRotations = "(0054,0051)";
-    public static final String RotationInformationSequence = "(0054,0052)";
-    public static final String NumberOfFramesInRotation = "(0054,0053)";
-    public static final String RRIntervalVector = "(0054,0060)";
-    public static final String NumberOfRRIntervals = "(0054,0061)";
-    public static final String GatedInformationSequence = "(0054,0062)";
-    public static final String DataInformationSequence = "(0054,0063)";
-    public static final String TimeSlotVector = "(0054,0070)";
-    public static final String NumberOfTimeSlots = "(0054,0071)";
-    public static final String TimeSlotInformationSequence = "(0054,0072)";
-    public static final String TimeSlotTime = "(0054,0073)";
-    public static final String SliceVector = "(0054,0080)";
-    public static final String NumberOfSlices = "(0054,0081)";
-    public static final String AngularViewVector = "(0054,0090)";
-    public static final String TimeSliceVector = "(0054,0100)";
-    public static final String NumberOfTimeSlices = "(0054,0101)";
-    public static final String StartAngle = "(0054,0200)";
-    public static final String TypeOfDetectorMotion = "(0054,0202)";
-    public static final String TriggerVector = "(0054,0210)";
-    public static final String NumberOfTriggersInPhase = "(0054,0211)";
-    public static final String ViewCodeSequence = "(0054,0220)";
-    public static final String ViewModifierCodeSequence = "(0054,0222)";
-    public static final String RadionuclideCodeSequence = "(0054,0300)";
-    public static final String AdministrationRouteCodeSequence = "(0054,0302)";
-    public static final String RadiopharmaceuticalCodeSequence = "(0054,0304)";
-    public static final String CalibrationDataSequence = "(0054,0306)";
-    public static final String EnergyWindowNumber = "(0054,0308)";
-    public static final String ImageID = "(0054,0400)";
-    public static final String PatientOrientationCodeSequence = "(0054,0410)";
-    public static final String PatientOrientationModifierCodeSequence = "(0054,0412)";
-    public static final String PatientGantryRelationshipCodeSequence = "(0054,0414)";
-    public static final String SliceProgressionDirection = "(0054,0500)";
-    public static final String ScanProgressionDirection = "(0054,0501)";
-    public static final String SeriesType = "(0054,1000)";
-    public static final String Units = "(0054,1001)";
-    public static final String CountsSource = "(0054,1002)";
-    public static final String ReprojectionMethod = "(0054,1004)";
-    public static final String SUVType = "(0054,1006)";
-    public static final String RandomsCorrectionMethod = "(0054,1100)";
-    public static final String AttenuationCorrectionMethod = "(0054,1101)";
-    public static final String DecayCorrection = "(0054,1102)";
-    public static final String ReconstructionMethod = "(0054,1103)";
-    public static final String DetectorLinesOfResponseUsed = "(0054,1104)";
-    public static final String ScatterCorrectionMethod = "(0054,1105)";
-    public static final String AxialAcceptance = "(0054,1200)";
-    public static final String AxialMash = "(0054,1201)";
-    public static final String TransverseMash = "(0054,1202)";
-    public static final String DetectorElementSize = "(0054,1203)";
-    public static final String CoincidenceWindowWidth = "(0054,1210)";
-    public static final String SecondaryCountsType = "(0054,1220)";
-    public static final String FrameReferenceTime = "(0054,1300)";
-    public static final String PrimaryPromptsCountsAccumulated = "(0054,1310)";
-    public static final String SecondaryCountsAccumulated = "(0054,1311)";
-    public static final String SliceSensitivityFactor = "(0054,1320)";
-    public static final String DecayFactor = "(0054,1321)";
-    public static final String DoseCalibrationFactor = "(0054,1322)";
-    public static final String ScatterFractionFactor = "(0054,1323)";
-    public static final String DeadTimeFactor = "(0054,1324)";
-    public static final String ImageIndex = "(0054,1330)";
-    public static final String HistogramSequence = "(0060,3000)";
-    public static final String HistogramNumberOfBins = "(0060,3002)";
-    public static final String HistogramFirstBinValue = "(0060,3004)";
-    public static final String HistogramLastBinValue = "(0060,3006)";
-    public static final String HistogramBinWidth = "(0060,3008)";
-    public static final String HistogramExplanation = "(0060,3010)";
-    public static final String HistogramData = "(0060,3020)";
-    public static final String SegmentationType = "(0062,0001)";
-    public static final String SegmentSequence = "(0062,0002)";
-    public static final String SegmentedPropertyCategoryCodeSequence = "(0062,0003)";
-    public static final String SegmentNumber = "(0062,0004)";
-    public static final String SegmentLabel = "(0062,0005)";
-    public static final String SegmentDescription = "(0062,0006)";
-    public static final String SegmentationAlgorithmIdentificationSequence = "(0062,0007)";
-    public static final String SegmentAlgorithmType = "(0062,0008)";
-    public static final String SegmentAlgorithmName = "(0062,0009)";
-    public static final String SegmentIdentificationSequence = "(0062,000A)";
-    public static final String ReferencedSegmentNumber = "(0062,000B)";
-    public static final String RecommendedDisplayGrayscaleValue = "(0062,000C)";
-    public static final String RecommendedDisplayCIELabValue = "(0062,000D)";
-    public static final String MaximumFractionalValue = "(0062,000E)";
-    public static final String SegmentedPropertyTypeCodeSequence = "(0062,000F)";
-    public static final String SegmentationFractionalType = "(0062,0010)";
-    public static final String SegmentedPropertyTypeModifierCodeSequence = "(0062,0011)";
-    public static final String UsedSegmentsSequence = "(0062,0012)";
-    public static final String SegmentsOverlap = "(0062,0013)";
-    public static final String TrackingID = "(0062,0020)";
-    public static final String TrackingUID = "(0062,0021)";
-    public static final String DeformableRegistrationSequence = "(0064,0002)";
-    public static final String SourceFrameOfReferenceUID = "(0064,0003)";
-    public static final String DeformableRegistrationGridSequence = "(0064,0005)";
-    public static final String GridDimensions = "(0064,0007)";
-    public static final String GridResolution = "(0064,0008)";
-    public static final String VectorGridData = "(0064,0009)";
-    public static final String PreDeformationMatrixRegistrationSequence = "(0064,000F)";
-    public static final String PostDeformationMatrixRegistrationSequence = "(0064,0010)";
-    public static final String NumberOfSurfaces = "(0066,0001)";
-    public static final String SurfaceSequence = "(0066,0002)";
-    public static final String SurfaceNumber = "(0066,0003)";
-    public static final String SurfaceComments = "(0066,0004)";
-    public static final String SurfaceProcessing = "(0066,0009)";
-    public static final String SurfaceProcessingRatio = "(0066,000A)";
-    public static final String SurfaceProcessingDescription = "(0066,000B)";
-    public static final String RecommendedPresentationOpacity = "(0066,000C)";
-    public static final String RecommendedPresentationType = "(0066,000D)";
-    public static final String FiniteVolume = "(0066,000E)";
-    public static final String Manifold = "(0066,0010)";
-    public static final String SurfacePointsSequence = "(0066,0011)";
-    public static final String SurfacePointsNormalsSequence = "(0066,0012)";
-    public static final String SurfaceMeshPrimitivesSequence = "(0066,0013)";
-    public static final String NumberOfSurfacePoints = "(0066,0015)";
-    public static final String PointCoordinatesData = "(0066,0016)";
-    public static final String PointPositionAccuracy = "(0066,0017)";
-    public static final String MeanPointDistance = "(0066,0018)";
-    public static final String MaximumPointDistance = "(0066,0019)";
-    public static final String PointsBoundingBoxCoordinates = "(0066,001A)";
-    public static final String AxisOfRotation = "(0066,001B)";
-    public static final String CenterOfRotation = "(0066,001C)";
-    public static final String NumberOfVectors = "(0066,001E)";
-    public static final String VectorDimensionality = "(0066,001F)";
-    public static final String VectorAccuracy = "(0066,0020)";
-    public static final String VectorCoordinateData = "(0066,0021)";
-    public static final String TriangleStripSequence = "(0066,0026)";
-    public static final String TriangleFanSequence = "(0066,0027)";
-    public static final String LineSequence = "(0066,0028)";
-    public static final String SurfaceCount = "(0066,002A)";
-    public static final String ReferencedSurfaceSequence = "(0066,002B)";
-    public static final String ReferencedSurfaceNumber = "(0066,002C)";
-    public static final String SegmentSurfaceGenerationAlgorithmIdentificationSequence = "(0066,002D)";
-    public static final String SegmentSurfaceSourceInstanceSequence = "(0066,002E)";
-    public static final String AlgorithmFamilyCodeSequence = "(0066,002F)";
-    public static final String AlgorithmNameCodeSequence = "(0066,0030)";
-    public static final String AlgorithmVersion = "(0066,0031)";
-    public static final String AlgorithmParameters = "(0066,0032)";
-    public static final String FacetSequence = "(0066,0034)";
-    public static final String SurfaceProcessingAlgorithmIdentificationSequence = "(0066,0035)";
-    public static final String AlgorithmName = "(0066,0036)";
-    public static final String RecommendedPointRadius = "(0066,0037)";
-    public static final String RecommendedLineThickness = "(0066,0038)";
-    public static final String LongPrimitivePointIndexList = "(0066,0040)";
-    public static final String LongTrianglePointIndexList = "(0066,0041)";
-    public static final String LongEdgePointIndexList = "(0066,0042)";
-    public static final String LongVertexPointIndexList = "(0066,0043)";
-    public static final String TrackSetSequence = "(0066,0101)";
-    public static final String TrackSequence = "(0066,0102)";
-    public static final String RecommendedDisplayCIELabValueList = "(0066,0103)";
-    public static final String TrackingAlgorithmIdentificationSequence = "(0066,0104)";
-    public static final String TrackSetNumber = "(0066,0105)";
-    public static final String TrackSetLabel = "(0066,0106)";
-    public static final String TrackSetDescription = "(0066,0107)";
-    public static final String TrackSetAnatomicalTypeCodeSequence = "(0066,0108)";
-    public static final String MeasurementsSequence = "(0066,0121)";
-    public static final String TrackSetStatisticsSequence = "(0066,0124)";
-    public static final String FloatingPointValues = "(0066,0125)";
-    public static final String TrackPointIndexList = "(0066,0129)";
-    public static final String TrackStatisticsSequence = "(0066,0130)";
-    public static final String MeasurementValuesSequence = "(0066,0132)";
-    public static final String DiffusionAcquisitionCodeSequence = "(0066,0133)";
-    public static final String DiffusionModelCodeSequence = "(0066,0134)";
-    public static final String ImplantSize = "(0068,6210)";
-    public static final String ImplantTemplateVersion = "(0068,6221)";
-    public static final String ReplacedImplantTemplateSequence = "(0068,6222)";
-    public static final String ImplantType = "(0068,6223)";
-    public static final String DerivationImplantTemplateSequence = "(0068,6224)";
-    public static final String OriginalImplantTemplateSequence = "(0068,6225)";
-    public static final String EffectiveDateTime = "(0068,6226)";
-    public static final String ImplantTargetAnatomySequence = "(0068,6230)";
-    public static final String InformationFromManufacturerSequence = "(0068,6260)";
-    public static final String NotificationFromManufacturerSequence = "(0068,6265)";
-    public static final String InformationIssueDateTime = "(0068,6270)";
-    public static final String InformationSummary = "(0068,6280)";
-    public static final String ImplantRegulatoryDisapprovalCodeSequence = "(0068,62A0)";
-    public static final String OverallTemplateSpatialTolerance = "(0068,62A5)";
-    public static final String HPGLDocumentSequence = "(0068,62C0)";
-    public static final String HPGLDocumentID = "(0068,62D0)";
-    public static final String HPGLDocumentLabel = "(0068,62D5)";
-    public static final String ViewOrientationCodeSequence = "(0068,62E0)";
-    public static final String ViewOrientationModifierCodeSequence = "(0068,62F0)";
-    public static final String HPGLDocumentScaling = "(0068,62F2)";
-    public static final String HPGLDocument = "(0068,6300)";
-    public static final String HPGLContourPenNumber = "(0068,6310)";
-    public static final String HPGLPenSequence = "(0068,6320)";
-    public static final String HPGLPenNumber = "(0068,6330)";
-    public static final String HPGLPenLabel = "(0068,6340)";
-    public static final String HPGLPenDescription = "(0068,6345)";
-    public static final String RecommendedRotationPoint = "(0068,6346)";
-    public static final String BoundingRectangle = "(0068,6347)";
-    public static final String ImplantTemplate3DModelSurfaceNumber = "(0068,6350)";
-    public static final String SurfaceModelDescriptionSequence = "(0068,6360)";
-    public static final String SurfaceModelLabel = "(0068,6380)";
-    public static final String SurfaceModelScalingFactor = "(0068,6390)";
-    public static final String MaterialsCodeSequence = "(0068,63A0)";
-    public static final String CoatingMaterialsCodeSequence = "(0068,63A4)";
-    public static final String ImplantTypeCodeSequence = "(0068,63A8)";
-    public static final String FixationMethodCodeSequence = "(0068,63AC)";
-    public static final String MatingFeatureSetsSequence = "(0068,63B0)";
-    public static final String MatingFeatureSetID = "(0068,63C0)";
-    public static final String MatingFeatureSetLabel = "(0068,63D0)";
-    public static final String MatingFeatureSequence = "(0068,63E0)";
-    public static final String MatingFeatureID = "(0068,63F0)";
-    public static final String MatingFeatureDegreeOfFreedomSequence = "(0068,6400)";
-    public static final String DegreeOfFreedomID = "(0068,6410)";
-    public static final String DegreeOfFreedomType = "(0068,6420)";
-    public static final String TwoDMatingFeatureCoordinatesSequence = "(0068,6430)";
-    public static final String ReferencedHPGLDocumentID = "(0068,6440)";
-    public static final String TwoDMatingPoint = "(0068,6450)";
-    public static final String TwoDMatingAxes = "(0068,6460)";
-    public static final String TwoDDegreeOfFreedomSequence = "(0068,6470)";
-    public static final String ThreeDDegreeOfFreedomAxis = "(0068,6490)";
-    public static final String RangeOfFreedom = "(0068,64A0)";
-    public static final String ThreeDMatingPoint = "(0068,64C0)";
-    public static final String ThreeDMatingAxes = "(0068,64D0)";
-    public static final String TwoDDegreeOfFreedomAxis = "(0068,64F0)";
-    public static final String PlanningLandmarkPointSequence = "(0068,6500)";
-    public static final String PlanningLandmarkLineSequence = "(0068,6510)";
-    public static final String PlanningLandmarkPlaneSequence = "(0068,6520)";
-    public static final String PlanningLandmarkID = "(0068,6530)";
-    public static final String PlanningLandmarkDescription = "(0068,6540)";
-    public static final String PlanningLandmarkIdentificationCodeSequence = "(0068,6545)";
-    public static final String TwoDPointCoordinatesSequence = "(0068,6550)";
-    public static final String TwoDPointCoordinates = "(0068,6560)";
-    public static final String ThreeDPointCoordinates = "(0068,6590)";
-    public static final String TwoDLineCoordinatesSequence = "(0068,65A0)";
-    public static final String TwoDLineCoordinates = "(0068,65B0)";
-    public static final String ThreeDLineCoordinates = "(0068,65D0)";
-    public static final String TwoDPlaneCoordinatesSequence = "(0068,65E0)";
-    public static final String TwoDPlaneIntersection = "(0068,65F0)";
-    public static final String ThreeDPlaneOrigin = "(0068,6610)";
-    public static final String ThreeDPlaneNormal = "(0068,6620)";
-    public static final String ModelModification = "(0068,7001)";
-    public static final String ModelMirroring = "(0068,7002)";
-    public static final String ModelUsageCodeSequence = "(0068,7003)";
-    public static final String ModelGroupUID = "(0068,7004)";
-    public static final String RelativeURIReferenceWithinEncapsulatedDocument = "(0068,7005)";
-    public static final String GraphicAnnotationSequence = "(0070,0001)";
-    public static final String GraphicLayer = "(0070,0002)";
-    public static final String BoundingBoxAnnotationUnits = "(0070,0003)";
-    public static final String AnchorPointAnnotationUnits = "(0070,0004)";
-    public static final String GraphicAnnotationUnits = "(0070,0005)";
-    public static final String UnformattedTextValue = "(0070,0006)";
-    public static final String TextObjectSequence = "(0070,0008)";
-    public static final String GraphicObjectSequence = "(0070,0009)";
-    public static final String BoundingBoxTopLeftHandCorner = "(0070,0010)";
-    public static final String BoundingBoxBottomRightHandCorner = "(0070,0011)";
-    public static final String BoundingBoxTextHorizontalJustification = "(0070,0012)";
-    public static final String AnchorPoint = "(0070,0014)";
-    public static final String AnchorPointVisibility = "(0070,0015)";
-    public static final String GraphicDimensions = "(0070,0020)";
-    public static final String NumberOfGraphicPoints = "(0070,0021)";
-    public static final String GraphicData = "(0070,0022)";
-    public static final String GraphicType = "(0070,0023)";
-    public static final String GraphicFilled = "(0070,0024)";
-    public static final String ImageHorizontalFlip = "(0070,0041)";
-    public static final String ImageRotation = "(0070,0042)";
-    public static final String DisplayedAreaTopLeftHandCorner = "(0070,0052)";
-    public static final String DisplayedAreaBottomRightHandCorner = "(0070,0053)";
-    public static final String DisplayedAreaSelectionSequence = "(0070,005A)";
-    public static final String GraphicLayerSequence = "(0070,0060)";
-    public static final String GraphicLayerOrder = "(0070,0062)";
-    public static final String GraphicLayerRecommendedDisplayGrayscaleValue = "(0070,0066)";
-    public static final String GraphicLayerDescription = "(0070,0068)";
-    public static final String ContentLabel = "(0070,0080)";
-    public static final String ContentDescription = "(0070,0081)";
-    public static final String PresentationCreationDate = "(0070,0082)";
-    public static final String PresentationCreationTime = "(0070,0083)";
-    public static final String ContentCreatorName = "(0070,0084)";
-    public static final String ContentCreatorIdentificationCodeSequence = "(0070,0086)";
-    public static final String AlternateContentDescriptionSequence = "(0070,0087)";
-    public static final String PresentationSizeMode = "(0070,0100)";
-    public static final String PresentationPixelSpacing = "(0070,0101)";
-    public static final String PresentationPixelAspectRatio = "(0070,0102)";
-    public static final String PresentationPixelMagnificationRatio = "(0070,0103)";
-    public static final String GraphicGroupLabel = "(0070,0207)";
-    public static final String GraphicGroupDescription = "(0070,0208)";
-    public static final String CompoundGraphicSequence = "(0070,0209)";
-    public static final String CompoundGraphicInstanceID = "(0070,0226)";
-    public static final String FontName = "(0070,0227)";
-    public static final String FontNameType = "(0070,0228)";
-    public static final String CSSFontName = "(0070,0229)";
-    public static final String RotationAngle = "(0070,0230)";
-    public static final String TextStyleSequence = "(0070,0231)";
-    public static final String LineStyleSequence = "(0070,0232)";
-    public static final String FillStyleSequence = "(0070,0233)";
-    public static final String GraphicGroupSequence = "(0070,0234)";
-    public static final String TextColorCIELabValue = "(0070,0241)";
-    public static final String HorizontalAlignment = "(0070,0242)";
-    public static final String VerticalAlignment = "(0070,0243)";
-    public static final String ShadowStyle = "(0070,0244)";
-    public static final String ShadowOffsetX = "(0070,0245)";
-    public static final String ShadowOffsetY = "(0070,0246)";
-    public static final String ShadowColorCIELabValue = "(0070,0247)";
-    public static final String Underlined = "(0070,0248)";
-    public static final String Bold = "(0070,0249)";
-    public static final String Italic = "(0070,0250)";
-    public static final String PatternOnColorCIELabValue = "(0070,0251)";
-    public static final String PatternOffColorCIELabValue = "(0070,0252)";
-    public static final String LineThickness = "(0070,0253)";
-    public static final String LineDashingStyle = "(0070,0254)";
-    public static final String LinePattern = "(0070,0255)";
-    public static final String FillPattern = "(0070,0256)";
-    public static final String FillMode = "(0070,0257)";
-    public static final String ShadowOpacity = "(0070,0258)";
-    public static final String GapLength = "(0070,0261)";
-    public static final String DiameterOfVisibility = "(0070,0262)";
-    public static final String RotationPoint = "(0070,0273)";
-    public static final String TickAlignment = "(0070,0274)";
-    public static final String ShowTickLabel = "(0070,0278)";
-    public static final String TickLabelAlignment = "(0070,0279)";
-    public static final String CompoundGraphicUnits = "(0070,0282)";
-    public static final String PatternOnOpacity = "(0070,0284)";
-    public static final String PatternOffOpacity = "(0070,0285)";
-    public static final String MajorTicksSequence = "(0070,0287)";
-    public static final String TickPosition = "(0070,0288)";
-    public static final String TickLabel = "(0070,0289)";
-    public static final String CompoundGraphicType = "(0070,0294)";
-    public static final String GraphicGroupID = "(0070,0295)";
-    public static final String ShapeType = "(0070,0306)";
-    public static final String RegistrationSequence = "(0070,0308)";
-    public static final String MatrixRegistrationSequence = "(0070,0309)";
-    public static final String MatrixSequence = "(0070,030A)";
-    public static final String FrameOfReferenceToDisplayedCoordinateSystemTransformationMatrix = "(0070,030B)";
-    public static final String FrameOfReferenceTransformationMatrixType = "(0070,030C)";
-    public static final String RegistrationTypeCodeSequence = "(0070,030D)";
-    public static final String FiducialDescription = "(0070,030F)";
-    public static final String FiducialIdentifier = "(0070,0310)";
-    public static final String FiducialIdentifierCodeSequence = "(0070,0311)";
-    public static final String ContourUncertaintyRadius = "(0070,0312)";
-    public static final String UsedFiducialsSequence = "(0070,0314)";
-    public static final String GraphicCoordinatesDataSequence = "(0070,0318)";
-    public static final String FiducialUID = "(0070,031A)";
-    public static final String ReferencedFiducialUID = "(0070,031B)";
-    public static final String FiducialSetSequence = "(0070,031C)";
-    public static final String FiducialSequence = "(0070,031E)";
-    public static final String FiducialsPropertyCategoryCodeSequence = "(0070,031F)";
-    public static final String GraphicLayerRecommendedDisplayCIELabValue = "(0070,0401)";
-    public static final String BlendingSequence = "(0070,0402)";
-    public static final String RelativeOpacity = "(0070,0403)";
-    public static final String ReferencedSpatialRegistrationSequence = "(0070,0404)";
-    public static final String BlendingPosition = "(0070,0405)";
-    public static final String PresentationDisplayCollectionUID = "(0070,1101)";
-    public static final String PresentationSequenceCollectionUID = "(0070,1102)";
-    public static final String PresentationSequencePositionIndex = "(0070,1103)";
-    public static final String RenderedImageReferenceSequence = "(0070,1104)";
-    public static final String VolumetricPresentationStateInputSequence = "(0070,1201)";
-    public static final String PresentationInputType = "(0070,1202)";
-    public static final String InputSequencePositionIndex = "(0070,1203)";
-    public static final String Crop = "(0070,1204)";
-    public static final String CroppingSpecificationIndex = "(0070,1205)";
-    public static final String VolumetricPresentationInputNumber = "(0070,1207)";
-    public static final String ImageVolumeGeometry = "(0070,1208)";
-    public static final String VolumetricPresentationInputSetUID = "(0070,1209)";
-    public static final String VolumetricPresentationInputSetSequence = "(0070,120A)";
-    public static final String GlobalCrop = "(0070,120B)";
-    public static final String GlobalCroppingSpecificationIndex = "(0070,120C)";
-    public static final String RenderingMethod = "(0070,120D)";
-    public static final String VolumeCroppingSequence = "(0070,1301)";
-    public static final String VolumeCroppingMethod = "(0070,1302)";
-    public static final String BoundingBoxCrop = "(0070,1303)";
-    public static final String ObliqueCroppingPlaneSequence = "(0070,1304)";
-    public static final String Plane = "(0070,1305)";
-    public static final String PlaneNormal = "(0070,1306)";
-    public static final String CroppingSpecificationNumber = "(0070,1309)";
-    public static final String MultiPlanarReconstructionStyle = "(0070,1501)";
-    public static final String MPRThicknessType = "(0070,1502)";
-    public static final String MPRSlabThickness = "(0070,1503)";
-    public static final String MPRTopLeftHandCorner = "(0070,1505)";
-    public static final String MPRViewWidthDirection = "(0070,1507)";
-    public static final String MPRViewWidth = "(0070,1508)";
-    public static final String NumberOfVolumetricCurvePoints = "(0070,150C)";
-    public static final String VolumetricCurvePoints = "(0070,150D)";
-    public static final String MPRViewHeightDirection = "(0070,1511)";
-    public static final String MPRViewHeight = "(0070,1512)";
-    public static final String RenderProjection = "(0070,1602)";
-    public static final String ViewpointPosition = "(0070,1603)";
-    public static final String ViewpointLookAtPoint = "(0070,1604)";
-    public static final String ViewpointUpDirection = "(0070,1605)";
-    public static final String RenderFieldOfView = "(0070,1606)";
-    public static final String SamplingStepSize = "(0070,1607)";
-    public static final String ShadingStyle = "(0070,1701)";
-    public static final String AmbientReflectionIntensity = "(0070,1702)";
-    public static final String LightDirection = "(0070,1703)";
-    public static final String DiffuseReflectionIntensity = "(0070,1704)";
-    public static final String SpecularReflectionIntensity = "(0070,1705)";
-    public static final String Shininess = "(0070,1706)";
-    public static final String PresentationStateClassificationComponentSequence = "(0070,1801)";
-    public static final String ComponentType = "(0070,1802)";
-    public static final String ComponentInputSequence = "(0070,1803)";
-    public static final String VolumetricPresentationInputIndex = "(0070,1804)";
-    public static final String PresentationStateCompositorComponentSequence = "(0070,1805)";
-    public static final String WeightingTransferFunctionSequence = "(0070,1806)";
-    public static final String WeightingLookupTableDescriptor = "(0070,1807)";
-    public static final String WeightingLookupTableData = "(0070,1808)";
-    public static final String VolumetricAnnotationSequence = "(0070,1901)";
-    public static final String ReferencedStructuredContextSequence = "(0070,1903)";
-    public static final String ReferencedContentItem = "(0070,1904)";
-    public static final String VolumetricPresentationInputAnnotationSequence = "(0070,1905)";
-    public static final String AnnotationClipping = "(0070,1907)";
-    public static final String PresentationAnimationStyle = "(0070,1A01)";
-    public static final String RecommendedAnimationRate = "(0070,1A03)";
-    public static final String AnimationCurveSequence = "(0070,1A04)";
-    public static final String AnimationStepSize = "(0070,1A05)";
-    public static final String SwivelRange = "(0070,1A06)";
-    public static final String VolumetricCurveUpDirections = "(0070,1A07)";
-    public static final String VolumeStreamSequence = "(0070,1A08)";
-    public static final String RGBATransferFunctionDescription = "(0070,1A09)";
-    public static final String AdvancedBlendingSequence = "(0070,1B01)";
-    public static final String BlendingInputNumber = "(0070,1B02)";
-    public static final String BlendingDisplayInputSequence = "(0070,1B03)";
-    public static final String BlendingDisplaySequence = "(0070,1B04)";
-    public static final String BlendingMode = "(0070,1B06)";
-    public static final String TimeSeriesBlending = "(0070,1B07)";
-    public static final String GeometryForDisplay = "(0070,1B08)";
-    public static final String ThresholdSequence = "(0070,1B11)";
-    public static final String ThresholdValueSequence = "(0070,1B12)";
-    public static final String ThresholdType = "(0070,1B13)";
-    public static final String ThresholdValue = "(0070,1B14)";
-    public static final String HangingProtocolName = "(0072,0002)";
-    public static final String HangingProtocolDescription = "(0072,0004)";
-    public static final String HangingProtocolLevel = "(0072,0006)";
-    public static final String HangingProtocolCreator = "(0072,0008)";
-    public static final String HangingProtocolCreationDateTime = "(0072,000A)";
-    public static final String HangingProtocolDefinitionSequence = "(0072,000C)";
-    public static final String HangingProtocolUserIdentificationCodeSequence = "(0072,000E)";
-    public static final String HangingProtocolUserGroupName = "(0072,0010)";
-    public static final String SourceHangingProtocolSequence = "(0072,0012)";
-    public static final String NumberOfPriorsReferenced = "(0072,0014)";
-    public static final String ImageSetsSequence = "(0072,0020)";
-    public static final String ImageSetSelectorSequence = "(0072,0022)";
-    public static final String ImageSetSelectorUsageFlag = "(0072,0024)";
-    public static final String SelectorAttribute = "(0072,0026)";
-    public static final String SelectorValueNumber = "(0072,0028)";
-    public static final String TimeBasedImageSetsSequence = "(0072,0030)";
-    public static final String ImageSetNumber = "(0072,0032)";
-    public static final String ImageSetSelectorCategory = "(0072,0034)";
-    public static final String RelativeTime = "(0072,0038)";
-    public static final String RelativeTimeUnits = "(0072,003A)";
-    public static final String AbstractPriorValue = "(0072,003C)";
-    public static final String AbstractPriorCodeSequence = "(0072,003E)";
-    public static final String ImageSetLabel = "(0072,0040)";
-    public static final String SelectorAttributeVR = "(0072,0050)";
-    public static final String SelectorSequencePointer = "(0072,0052)";
-    public static final String SelectorSequencePointerPrivateCreator = "(0072,0054)";
-    public static final String SelectorAttributePrivateCreator = "(0072,0056)";
-    public static final String SelectorAEValue = "(0072,005E)";
-    public static final String SelectorASValue = "(0072,005F)";
-    public static final String SelectorATValue = "(0072,0060)";
-    public static final String SelectorDAValue = "(0072,0061)";
-    public static final String SelectorCSValue = "(0072,0062)";
-    public static final String SelectorDTValue = "(0072,0063)";
-    public static final String SelectorISValue = "(0072,0064)";
-    public static final String SelectorOBValue = "(0072,0065)";
-    public static final String SelectorLOValue = "(0072,0066)";
-    public static final String SelectorOFValue = "(0072,0067)";
-    public static final String SelectorLTValue = "(0072,0068)";
-    public static final String SelectorOWValue = "(0072,0069)";
-    public static final String SelectorPNValue = "(0072,006A)";
-    public static final String SelectorTMValue = "(0072,006B)";
-    public static final String SelectorSHValue = "(0072,006C)";
-    public static final String SelectorUNValue = "(0072,006D)";
-    public static final String SelectorSTValue = "(0072,006E)";
-    public static final String SelectorUCValue = "(0072,006F)";
-    public static final String SelectorUTValue = "(0072,0070)";
-    public static final String SelectorURValue = "(0072,0071)";
-    public static final String SelectorDSValue = "(0072,0072)";
-    public static final String SelectorODValue = "(0072,0073)";
-    public static final String SelectorFDValue = "(0072,0074)";
-    public static final String SelectorOLValue = "(0072,0075)";
-    public static final String SelectorFLValue = "(0072,0076)";
-    public static final String SelectorULValue = "(0072,0078)";
-    public static final String SelectorUSValue = "(0072,007A)";
-    public static final String SelectorSLValue = "(0072,007C)";
-    public static final String SelectorSSValue = "(0072,007E)";
-    public static final String SelectorUIValue = "(0072,007F)";
-    public static final String SelectorCodeSequenceValue = "(0072,0080)";
-    public static final String SelectorOVValue = "(0072,0081)";
-    public static final String SelectorSVValue = "(0072,0082)";
-    public static final String SelectorUVValue = "(0072,0083)";
-    public static final String NumberOfScreens = "(0072,0100)";
-    public static final String NominalScreenDefinitionSequence = "(0072,0102)";
-    public static final String NumberOfVerticalPixels = "(0072,0104)";
-    public static final String NumberOfHorizontalPixels = "(0072,0106)";
-    public static final String DisplayEnvironmentSpatialPosition = "(0072,0108)";
-    public static final String ScreenMinimumGrayscaleBitDepth = "(0072,010A)";
-    public static final String ScreenMinimumColorBitDepth = "(0072,010C)";
-    public static final String ApplicationMaximumRepaintTime = "(0072,010E)";
-    public static final String DisplaySetsSequence = "(0072,0200)";
-    public static final String DisplaySetNumber = "(0072,0202)";
-    public static final String DisplaySetLabel = "(0072,0203)";
-    public static final String DisplaySetPresentationGroup = "(0072,0204)";
-    public static final String DisplaySetPresentationGroupDescription = "(0072,0206)";
-    public static final String PartialDataDisplayHandling = "(0072,0208)";
-    public static final String SynchronizedScrollingSequence = "(0072,0210)";
-    public static final String DisplaySetScrollingGroup = "(0072,0212)";
-    public static final String NavigationIndicatorSequence = "(0072,0214)";
-    public static final String NavigationDisplaySet = "(0072,0216)";
-    public static final String ReferenceDisplaySets = "(0072,0218)";
-    public static final String ImageBoxesSequence = "(0072,0300)";
-    public static final String ImageBoxNumber = "(0072,0302)";
-    public static final String ImageBoxLayoutType = "(0072,0304)";
-    public static final String ImageBoxTileHorizontalDimension = "(0072,0306)";
-    public static final String ImageBoxTileVerticalDimension = "(0072,0308)";
-    public static final String ImageBoxScrollDirection = "(0072,0310)";
-    public static final String ImageBoxSmallScrollType = "(0072,0312)";
-    public static final String ImageBoxSmallScrollAmount = "(0072,0314)";
-    public static final String ImageBoxLargeScrollType = "(0072,0316)";
-    public static final String ImageBoxLargeScrollAmount = "(0072,0318)";
-    public static final String ImageBoxOverlapPriority = "(0072,0320)";
-    public static final String CineRelativeToRealTime = "(0072,0330)";
-    public static final String FilterOperationsSequence = "(0072,0400)";
-    public static final String FilterByCategory = "(0072,0402)";
-    public static final String FilterByAttributePresence = "(0072,0404)";
-    public static final String FilterByOperator = "(0072,0406)";
-    public static final String StructuredDisplayBackgroundCIELabValue = "(0072,0420)";
-    public static final String EmptyImageBoxCIELabValue = "(0072,0421)";
-    public static final String StructuredDisplayImageBoxSequence = "(0072,0422)";
-    public static final String StructuredDisplayTextBoxSequence = "(0072,0424)";
-    public static final String ReferencedFirstFrameSequence = "(0072,0427)";
-    public static final String ImageBoxSynchronizationSequence = "(0072,0430)";
-    public static final String SynchronizedImageBoxList = "(0072,0432)";
-    public static final String TypeOfSynchronization = "(0072,0434)";
-    public static final String BlendingOperationType = "(0072,0500)";
-    public static final String ReformattingOperationType = "(0072,0510)";
-    public static final String ReformattingThickness = "(0072,0512)";
-    public static final String ReformattingInterval = "(0072,0514)";
-    public static final String ReformattingOperationInitialViewDirection = "(0072,0516)";
-    public static final String ThreeDRenderingType = "(0072,0520)";
-    public static final String SortingOperationsSequence = "(0072,0600)";
-    public static final String SortByCategory = "(0072,0602)";
-    public static final String SortingDirection = "(0072,0604)";
-    public static final String DisplaySetPatientOrientation = "(0072,0700)";
-    public static final String VOIType = "(0072,0702)";
-    public static final String PseudoColorType = "(0072,0704)";
-    public static final String PseudoColorPaletteInstanceReferenceSequence = "(0072,0705)";
-    public static final String ShowGrayscaleInverted = "(0072,0706)";
-    public static final String ShowImageTrueSizeFlag = "(0072,0710)";
-    public static final String ShowGraphicAnnotationFlag = "(0072,0712)";
-    public static final String ShowPatientDemographicsFlag = "(0072,0714)";
-    public static final String ShowAcquisitionTechniquesFlag = "(0072,0716)";
-    public static final String DisplaySetHorizontalJustification = "(0072,0717)";
-    public static final String DisplaySetVerticalJustification = "(0072,0718)";
-    public static final String ContinuationStartMeterset = "(0074,0120)";
-    public static final String ContinuationEndMeterset = "(0074,0121)";
-    public static final String ProcedureStepState = "(0074,1000)";
-    public static final String ProcedureStepProgressInformationSequence = "(0074,1002)";
-    public static final String ProcedureStepProgress = "(0074,1004)";
-    public static final String ProcedureStepProgressDescription = "(0074,1006)";
-    public static final String ProcedureStepProgressParametersSequence = "(0074,1007)";
-    public static final String ProcedureStepCommunicationsURISequence = "(0074,1008)";
-    public static final String ContactURI = "(0074,100A)";
-    public static final String ContactDisplayName = "(0074,100C)";
-    public static final String ProcedureStepDiscontinuationReasonCodeSequence = "(0074,100E)";
-    public static final String BeamTaskSequence = "(0074,1020)";
-    public static final String BeamTaskType = "(0074,1022)";
-    public static final String AutosequenceFlag = "(0074,1025)";
-    public static final String TableTopVerticalAdjustedPosition = "(0074,1026)";
-    public static final String TableTopLongitudinalAdjustedPosition = "(0074,1027)";
-    public static final String TableTopLateralAdjustedPosition = "(0074,1028)";
-    public static final String PatientSupportAdjustedAngle = "(0074,102A)";
-    public static final String TableTopEccentricAdjustedAngle = "(0074,102B)";
-    public static final String TableTopPitchAdjustedAngle = "(0074,102C)";
-    public static final String TableTopRollAdjustedAngle = "(0074,102D)";
-    public static final String DeliveryVerificationImageSequence = "(0074,1030)";
-    public static final String VerificationImageTiming = "(0074,1032)";
-    public static final String DoubleExposureFlag = "(0074,1034)";
-    public static final String DoubleExposureOrdering = "(0074,1036)";
-    public static final String RelatedReferenceRTImageSequence = "(0074,1040)";
-    public static final String GeneralMachineVerificationSequence = "(0074,1042)";
-    public static final String ConventionalMachineVerificationSequence = "(0074,1044)";
-    public static final String IonMachineVerificationSequence = "(0074,1046)";
-    public static final String FailedAttributesSequence = "(0074,1048)";
-    public static final String OverriddenAttributesSequence = "(0074,104A)";
-    public static final String ConventionalControlPointVerificationSequence = "(0074,104C)";
-    public static final String IonControlPointVerificationSequence = "(0074,104E)";
-    public static final String AttributeOccurrenceSequence = "(0074,1050)";
-    public static final String AttributeOccurrencePointer = "(0074,1052)";
-    public static final String AttributeItemSelector = "(0074,1054)";
-    public static final String AttributeOccurrencePrivateCreator = "(0074,1056)";
-    public static final String SelectorSequencePointerItems = "(0074,1057)";
-    public static final String ScheduledProcedureStepPriority = "(0074,1200)";
-    public static final String WorklistLabel = "(0074,1202)";
-    public static final String ProcedureStepLabel = "(0074,1204)";
-    public static final String ScheduledProcessingParametersSequence = "(0074,1210)";
-    public static final String PerformedProcessingParametersSequence = "(0074,1212)";
-    public static final String UnifiedProcedureStepPerformedProcedureSequence = "(0074,1216)";
-    public static final String ReplacedProcedureStepSequence = "(0074,1224)";
-    public static final String DeletionLock = "(0074,1230)";
-    public static final String ReceivingAE = "(0074,1234)";
-    public static final String RequestingAE = "(0074,1236)";
-    public static final String ReasonForCancellation = "(0074,1238)";
-    public static final String SCPStatus = "(0074,1242)";
-    public static final String SubscriptionListStatus = "(0074,1244)";
-    public static final String UnifiedProcedureStepListStatus = "(0074,1246)";
-    public static final String BeamOrderIndex = "(0074,1324)";
-    public static final String DoubleExposureMeterset = "(0074,1338)";
-    public static final String DoubleExposureFieldDelta = "(0074,133A)";
-    public static final String BrachyTaskSequence = "(0074,1401)";
-    public static final String ContinuationStartTotalReferenceAirKerma = "(0074,1402)";
-    public static final String ContinuationEndTotalReferenceAirKerma = "(0074,1403)";
-    public static final String ContinuationPulseNumber = "(0074,1404)";
-    public static final String ChannelDeliveryOrderSequence = "(0074,1405)";
-    public static final String ReferencedChannelNumber = "(0074,1406)";
-    public static final String StartCumulativeTimeWeight = "(0074,1407)";
-    public static final String EndCumulativeTimeWeight = "(0074,1408)";
-    public static final String OmittedChannelSequence = "(0074,1409)";
-    public static final String ReasonForChannelOmission = "(0074,140A)";
-    public static final String ReasonForChannelOmissionDescription = "(0074,140B)";
-    public static final String ChannelDeliveryOrderIndex = "(0074,140C)";
-    public static final String ChannelDeliveryContinuationSequence = "(0074,140D)";
-    public static final String OmittedApplicationSetupSequence = "(0074,140E)";
-    public static final String ImplantAssemblyTemplateName = "(0076,0001)";
-    public static final String ImplantAssemblyTemplateIssuer = "(0076,0003)";
-    public static final String ImplantAssemblyTemplateVersion = "(0076,0006)";
-    public static final String ReplacedImplantAssemblyTemplateSequence = "(0076,0008)";
-    public static final String ImplantAssemblyTemplateType = "(0076,000A)";
-    public static final String OriginalImplantAssemblyTemplateSequence = "(0076,000C)";
-    public static final String DerivationImplantAssemblyTemplateSequence = "(0076,000E)";
-    public static final String ImplantAssemblyTemplateTargetAnatomySequence = "(0076,0010)";
-    public static final String ProcedureTypeCodeSequence = "(0076,0020)";
-    public static final String SurgicalTechnique = "(0076,0030)";
-    public static final String ComponentTypesSequence = "(0076,0032)";
-    public static final String ComponentTypeCodeSequence = "(0076,0034)";
-    public static final String ExclusiveComponentType = "(0076,0036)";
-    public static final String MandatoryComponentType = "(0076,0038)";
-    public static final String ComponentSequence = "(0076,0040)";
-    public static final String ComponentID = "(0076,0055)";
-    public static final String ComponentAssemblySequence = "(0076,0060)";
-    public static final String Component1ReferencedID = "(0076,0070)";
-    public static final String Component1ReferencedMatingFeatureSetID = "(0076,0080)";
-    public static final String Component1ReferencedMatingFeatureID = "(0076,0090)";
-    public static final String Component2ReferencedID = "(0076,00A0)";
-    public static final String Component2ReferencedMatingFeatureSetID = "(0076,00B0)";
-    public static final String Component2ReferencedMatingFeatureID = "(0076,00C0)";
-    public static final String ImplantTemplateGroupName = "(0078,0001)";
-    public static final String ImplantTemplateGroupDescription = "(0078,0010)";
-    public static final String ImplantTemplateGroupIssuer = "(0078,0020)";
-    public static final String ImplantTemplateGroupVersion = "(0078,0024)";
-    public static final String ReplacedImplantTemplateGroupSequence = "(0078,0026)";
-    public static final String ImplantTemplateGroupTargetAnatomySequence = "(0078,0028)";
-    public static final String ImplantTemplateGroupMembersSequence = "(0078,002A)";
-    public static final String ImplantTemplateGroupMemberID = "(0078,002E)";
-    public static final String ThreeDImplantTemplateGroupMemberMatchingPoint = "(0078,0050)";
-    public static final String ThreeDImplantTemplateGroupMemberMatchingAxes = "(0078,0060)";
-    public static final String ImplantTemplateGroupMemberMatching2DCoordinatesSequence = "(0078,0070)";
-    public static final String TwoDImplantTemplateGroupMemberMatchingPoint = "(0078,0090)";
-    public static final String TwoDImplantTemplateGroupMemberMatchingAxes = "(0078,00A0)";
-    public static final String ImplantTemplateGroupVariationDimensionSequence = "(0078,00B0)";
-    public static final String ImplantTemplateGroupVariationDimensionName = "(0078,00B2)";
-    public static final String ImplantTemplateGroupVariationDimensionRankSequence = "(0078,00B4)";
-    public static final String ReferencedImplantTemplateGroupMemberID = "(0078,00B6)";
-    public static final String ImplantTemplateGroupVariationDimensionRank = "(0078,00B8)";
-    public static final String SurfaceScanAcquisitionTypeCodeSequence = "(0080,0001)";
-    public static final String SurfaceScanModeCodeSequence = "(0080,0002)";
-    public static final String RegistrationMethodCodeSequence = "(0080,0003)";
-    public static final String ShotDurationTime = "(0080,0004)";
-    public static final String ShotOffsetTime = "(0080,0005)";
-    public static final String SurfacePointPresentationValueData = "(0080,0006)";
-    public static final String SurfacePointColorCIELabValueData = "(0080,0007)";
-    public static final String UVMappingSequence = "(0080,0008)";
-    public static final String TextureLabel = "(0080,0009)";
-    public static final String UValueData = "(0080,0010)";
-    public static final String VValueData = "(0080,0011)";
-    public static final String ReferencedTextureSequence = "(0080,0012)";
-    public static final String ReferencedSurfaceDataSequence = "(0080,0013)";
-    public static final String AssessmentSummary = "(0082,0001)";
-    public static final String AssessmentSummaryDescription = "(0082,0003)";
-    public static final String AssessedSOPInstanceSequence = "(0082,0004)";
-    public static final String ReferencedComparisonSOPInstanceSequence = "(0082,0005)";
-    public static final String NumberOfAssessmentObservations = "(0082,0006)";
-    public static final String AssessmentObservationsSequence = "(0082,0007)";
-    public static final String ObservationSignificance = "(0082,0008)";
-    public static final String ObservationDescription = "(0082,000A)";
-    public static final String StructuredConstraintObservationSequence = "(0082,000C)";
-    public static final String AssessedAttributeValueSequence = "(0082,0010)";
-    public static final String AssessmentSetID = "(0082,0016)";
-    public static final String AssessmentRequesterSequence = "(0082,0017)";
-    public static final String SelectorAttributeName = "(0082,0018)";
-    public static final String SelectorAttributeKeyword = "(0082,0019)";
-    public static final String AssessmentTypeCodeSequence = "(0082,0021)";
-    public static final String ObservationBasisCodeSequence = "(0082,0022)";
-    public static final String AssessmentLabel = "(0082,0023)";
-    public static final String ConstraintType = "(0082,0032)";
-    public static final String SpecificationSelectionGuidance = "(0082,0033)";
-    public static final String ConstraintValueSequence = "(0082,0034)";
-    public static final String RecommendedDefaultValueSequence = "(0082,0035)";
-    public static final String ConstraintViolationSignificance = "(0082,0036)";
-    public static final String ConstraintViolationCondition = "(0082,0037)";
-    public static final String ModifiableConstraintFlag = "(0082,0038)";
-    public static final String StorageMediaFileSetID = "(0088,0130)";
-    public static final String StorageMediaFileSetUID = "(0088,0140)";
-    public static final String IconImageSequence = "(0088,0200)";
-    public static final String SOPInstanceStatus = "(0100,0410)";
-    public static final String SOPAuthorizationDateTime = "(0100,0420)";
-    public static final String SOPAuthorizationComment = "(0100,0424)";
-    public static final String AuthorizationEquipmentCertificationNumber = "(0100,0426)";
-    public static final String MACIDNumber = "(0400,0005)";
-    public static final String MACCalculationTransferSyntaxUID = "(0400,0010)";
-    public static final String MACAlgorithm = "(0400,0015)";
-    public static final String DataElementsSigned = "(0400,0020)";
-    public static final String DigitalSignatureUID = "(0400,0100)";
-    public static final String DigitalSignatureDateTime = "(0400,0105)";
-    public static final String CertificateType = "(0400,0110)";
-    public static final String CertificateOfSigner = "(0400,0115)";
-    public static final String Signature = "(0400,0120)";
-    public static final String CertifiedTimestampType = "(0400,0305)";
-    public static final String CertifiedTimestamp = "(0400,0310)";
-    public static final String DigitalSignaturePurposeCodeSequence = "(0400,0401)";
-    public static final String ReferencedDigitalSignatureSequence = "(0400,0402)";
-    public static final String ReferencedSOPInstanceMACSequence = "(0400,0403)";
-    public static final String MAC = "(0400,0404)";
-    public static final String EncryptedAttributesSequence = "(0400,0500)";
-    public static final String EncryptedContentTransferSyntaxUID = "(0400,0510)";
-    public static final String EncryptedContent = "(0400,0520)";
-    public static final String ModifiedAttributesSequence = "(0400,0550)";
-    public static final String NonconformingModifiedAttributesSequence = "(0400,0551)";
-    public static final String NonconformingDataElementValue = "(0400,0552)";
-    public static final String OriginalAttributesSequence = "(0400,0561)";
-    public static final String AttributeModificationDateTime = "(0400,0562)";
-    public static final String ModifyingSystem = "(0400,0563)";
-    public static final String SourceOfPreviousValues = "(0400,0564)";
-    public static final String ReasonForTheAttributeModification = "(0400,0565)";
-    public static final String InstanceOriginStatus = "(0400,0600)";
-    public static final String NumberOfCopies = "(2000,0010)";
-    public static final String PrinterConfigurationSequence = "(2000,001E)";
-    public static final String PrintPriority = "(2000,0020)";
-    public static final String MediumType = "(2000,0030)";
-    public static final String FilmDestination = "(2000,0040)";
-    public static final String FilmSessionLabel = "(2000,0050)";
-    public static final String MemoryAllocation = "(2000,0060)";
-    public static final String MaximumMemoryAllocation = "(2000,0061)";
-    public static final String MemoryBitDepth = "(2000,00A0)";
-    public static final String PrintingBitDepth = "(2000,00A1)";
-    public static final String MediaInstalledSequence = "(2000,00A2)";
-    public static final String OtherMediaAvailableSequence = "(2000,00A4)";
-    public static final String SupportedImageDisplayFormatsSequence = "(2000,00A8)";
-    public static final String ReferencedFilmBoxSequence = "(2000,0500)";
-    public static final String ImageDisplayFormat = "(2010,0010)";
-    public static final String AnnotationDisplayFormatID = "(2010,0030)";
-    public static final String FilmOrientation = "(2010,0040)";
-    public static final String FilmSizeID = "(2010,0050)";
-    public static final String PrinterResolutionID = "(2010,0052)";
-    public static final String DefaultPrinterResolutionID = "(2010,0054)";
-    public static final String MagnificationType = "(2010,0060)";
-    public static final String SmoothingType = "(2010,0080)";
-    public static final String DefaultMagnificationType = "(2010,00A6)";
-    public static final String OtherMagnificationTypesAvailable = "(2010,00A7)";
-    public static final String DefaultSmoothingType = "(2010,00A8)";
-    public static final String OtherSmoothingTypesAvailable = "(2010,00A9)";
-    public static final String BorderDensity = "(2010,0100)";
-    public static final String EmptyImageDensity = "(2010,0110)";
-    public static final String MinDensity = "(2010,0120)";
-    public static final String MaxDensity = "(2010,0130)";
-    public static final String Trim = "(2010,0140)";
-    public static final String ConfigurationInformation = "(2010,0150)";
-    public static final String ConfigurationInformationDescription = "(2010,0152)";
-    public static final String MaximumCollatedFilms = "(2010,0154)";
-    public static final String Illumination = "(2010,015E)";
-    public static final String ReflectedAmbientLight = "(2010,0160)";
-    public static final String PrinterPixelSpacing = "(2010,0376)";
-    public static final String ReferencedFilmSessionSequence = "(2010,0500)";
-    public static final String ReferencedImageBoxSequence = "(2010,0510)";
-    public static final String ReferencedBasicAnnotationBoxSequence = "(2010,0520)";
-    public static final String ImageBoxPosition = "(2020,0010)";
-    public static final String Polarity = "(2020,0020)";
-    public static final String RequestedImageSize = "(2020,0030)";
-    public static final String RequestedDecimateCropBehavior = "(2020,0040)";
-    public static final String RequestedResolutionID = "(2020,0050)";
-    public static final String RequestedImageSizeFlag = "(2020,00A0)";
-    public static final String DecimateCropResult = "(2020,00A2)";
-    public static final String BasicGrayscaleImageSequence = "(2020,0110)";
-    public static final String BasicColorImageSequence = "(2020,0111)";
-    public static final String AnnotationPosition = "(2030,0010)";
-    public static final String TextString = "(2030,0020)";
-    public static final String PresentationLUTSequence = "(2050,0010)";
-    public static final String PresentationLUTShape = "(2050,0020)";
-    public static final String ReferencedPresentationLUTSequence = "(2050,0500)";
-    public static final String ExecutionStatus = "(2100,0020)";
-    public static final String ExecutionStatusInfo = "(2100,0030)";
-    public static final String CreationDate = "(2100,0040)";
-    public static final String CreationTime = "(2100,0050)";
-    public static final String Originator = "(2100,0070)";
-    public static final String DestinationAE = "(2100,0140)";
-    public static final String OwnerID = "(2100,0160)";
-    public static final String NumberOfFilms = "(2100,0170)";
-    public static final String PrinterStatus = "(2110,0010)";
-    public static final String PrinterStatusInfo = "(2110,0020)";
-    public static final String PrinterName = "(2110,0030)";
-    public static final String LabelUsingInformationExtractedFromInstances = "(2200,0001)";
-    public static final String LabelText = "(2200,0002)";
-    public static final String LabelStyleSelection = "(2200,0003)";
-    public static final String MediaDisposition = "(2200,0004)";
-    public static final String BarcodeValue = "(2200,0005)";
-    public static final String BarcodeSymbology = "(2200,0006)";
-    public static final String AllowMediaSplitting = "(2200,0007)";
-    public static final String IncludeNonDICOMObjects = "(2200,0008)";
-    public static final String IncludeDisplayApplication = "(2200,0009)";
-    public static final String PreserveCompositeInstancesAfterMediaCreation = "(2200,000A)";
-    public static final String TotalNumberOfPiecesOfMediaCreated = "(2200,000B)";
-    public static final String RequestedMediaApplicationProfile = "(2200,000C)";
-    public static final String ReferencedStorageMediaSequence = "(2200,000D)";
-    public static final String FailureAttributes = "(2200,000E)";
-    public static final String AllowLossyCompression = "(2200,000F)";
-    public static final String RequestPriority = "(2200,0020)";
-    public static final String RTImageLabel = "(3002,0002)";
-    public static final String RTImageName = "(3002,0003)";
-    public static final String RTImageDescription = "(3002,0004)";
-    public static final String ReportedValuesOrigin = "(3002,000A)";
-    public static final String RTImagePlane = "(3002,000C)";
-    public static final String XRayImageReceptorTranslation = "(3002,000D)";
-    public static final String XRayImageReceptorAngle = "(3002,000E)";
-    public static final String RTImageOrientation = "(3002,0010)";
-    public static final String ImagePlanePixelSpacing = "(3002,0011)";
-    public static final String RTImagePosition = "(3002,0012)";
-    public static final String RadiationMachineName = "(3002,0020)";
-    public static final String RadiationMachineSAD = "(3002,0022)";
-    public static final String RadiationMachineSSD = "(3002,0024)";
-    public static final String RTImageSID = "(3002,0026)";
-    public static final String SourceToReferenceObjectDistance = "(3002,0028)";
-    public static final String FractionNumber = "(3002,0029)";
-    public static final String ExposureSequence = "(3002,0030)";
-    public static final String MetersetExposure = "(3002,0032)";
-    public static final String DiaphragmPosition = "(3002,0034)";
-    public static final String FluenceMapSequence = "(3002,0040)";
-    public static final String FluenceDataSource = "(3002,0041)";
-    public static final String FluenceDataScale = "(3002,0042)";
-    public static final String PrimaryFluenceModeSequence = "(3002,0050)";
-    public static final String FluenceMode = "(3002,0051)";
-    public static final String FluenceModeID = "(3002,0052)";
-    public static final String DVHType = "(3004,0001)";
-    public static final String DoseUnits = "(3004,0002)";
-    public static final String DoseType = "(3004,0004)";
-    public static final String SpatialTransformOfDose = "(3004,0005)";
-    public static final String DoseComment = "(3004,0006)";
-    public static final String NormalizationPoint = "(3004,0008)";
-    public static final String DoseSummationType = "(3004,000A)";
-    public static final String GridFrameOffsetVector = "(3004,000C)";
-    public static final String DoseGridScaling = "(3004,000E)";
-    public static final String RTDoseROISequence = "(3004,0010)";
-    public static final String DoseValue = "(3004,0012)";
-    public static final String TissueHeterogeneityCorrection = "(3004,0014)";
-    public static final String DVHNormalizationPoint = "(3004,0040)";
-    public static final String DVHNormalizationDoseValue = "(3004,0042)";
-    public static final String DVHSequence = "(3004,0050)";
-    public static final String DVHDoseScaling = "(3004,0052)";
-    public static final String DVHVolumeUnits = "(3004,0054)";
-    public static final String DVHNumberOfBins = "(3004,0056)";
-    public static final String DVHData = "(3004,0058)";
-    public static final String DVHReferencedROISequence = "(3004,0060)";
-    public static final String DVHROIContributionType = "(3004,0062)";
-    public static final String DVHMinimumDose = "(3004,0070)";
-    public static final String DVHMaximumDose = "(3004,0072)";
-    public static final String DVHMeanDose = "(3004,0074)";
-    public static final String StructureSetLabel = "(3006,0002)";
-    public static final String StructureSetName = "(3006,0004)";
-    public static final String StructureSetDescription = "(3006,0006)";
-    public static final String StructureSetDate = "(3006,0008)";
-    public static final String StructureSetTime = "(3006,0009)";
-    public static final String ReferencedFrameOfReferenceSequence = "(3006,0010)";
-    public static final String RTReferencedStudySequence = "(3006,0012)";
-    public static final String RTReferencedSeriesSequence = "(3006,0014)";
-    public static final String ContourImageSequence = "(3006,0016)";
-    public static final String PredecessorStructureSetSequence = "(3006,0018)";
-    public static final String StructureSetROISequence = "(3006,0020)";
-    public static final String ROINumber = "(3006,0022)";
-    public static final String ReferencedFrameOfReferenceUID = "(3006,0024)";
-    public static final String ROIName = "(3006,0026)";
-    public static final String ROIDescription = "(3006,0028)";
-    public static final String ROIDisplayColor = "(3006,002A)";
-    public static final String ROIVolume = "(3006,002C)";
-    public static final String RTRelatedROISequence = "(3006,0030)";
-    public static final String RTROIRelationship = "(3006,0033)";
-    public static final String ROIGenerationAlgorithm = "(3006,0036)";
-    public static final String ROIDerivationAlgorithmIdentificationSequence = "(3006,0037)";
-    public static final String ROIGenerationDescription = "(3006,0038)";
-    public static final String ROIContourSequence = "(3006,0039)";
-    public static final String ContourSequence = "(3006,0040)";
-    public static final String ContourGeometricType = "(3006,0042)";
-    public static final String ContourSlabThickness = "(3006,0044)";
-    public static final String ContourOffsetVector = "(3006,0045)";
-    public static final String NumberOfContourPoints = "(3006,0046)";
-    public static final String ContourNumber = "(3006,0048)";
-    public static final String AttachedContours = "(3006,0049)";
-    public static final String ContourData = "(3006,0050)";
-    public static final String RTROIObservationsSequence = "(3006,0080)";
-    public static final String ObservationNumber = "(3006,0082)";
-    public static final String ReferencedROINumber = "(3006,0084)";
-    public static final String ROIObservationLabel = "(3006,0085)";
-    public static final String RTROIIdentificationCodeSequence = "(3006,0086)";
-    public static final String ROIObservationDescription = "(3006,0088)";
-    public static final String RelatedRTROIObservationsSequence = "(3006,00A0)";
-    public static final String RTROIInterpretedType = "(3006,00A4)";
-    public static final String ROIInterpreter = "(3006,00A6)";
-    public static final String ROIPhysicalPropertiesSequence = "(3006,00B0)";
-    public static final String ROIPhysicalProperty = "(3006,00B2)";
-    public static final String ROIPhysicalPropertyValue = "(3006,00B4)";
-    public static final String ROIElementalCompositionSequence = "(3006,00B6)";
-    public static final String ROIElementalCompositionAtomicNumber = "(3006,00B7)";
-    public static final String ROIElementalCompositionAtomicMassFraction = "(3006,00B8)";
-    public static final String FrameOfReferenceTransformationMatrix = "(3006,00C6)";
-    public static final String FrameOfReferenceTransformationComment = "(3006,00C8)";
-    public static final String PatientLocationCoordinatesSequence = "(3006,00C9)";
-    public static final String PatientLocationCoordinatesCodeSequence = "(3006,00CA)";
-    public static final String PatientSupportPositionSequence = "(3006,00CB)";
-    public static final String MeasuredDoseReferenceSequence = "(3008,0010)";
-    public static final String MeasuredDoseDescription = "(3008,0012)";
-    public static final String MeasuredDoseType = "(3008,0014)";
-    public static final String MeasuredDoseValue = "(3008,0016)";
-    public static final String TreatmentSessionBeamSequence = "(3008,0020)";
-    public static final String TreatmentSessionIonBeamSequence = "(3008,0021)";
-    public static final String CurrentFractionNumber = "(3008,0022)";
-    public static final String TreatmentControlPointDate = "(3008,0024)";
-    public static final String TreatmentControlPointTime = "(3008,0025)";
-    public static final String TreatmentTerminationStatus = "(3008,002A)";
-    public static final String TreatmentTerminationCode = "(3008,002B)";
-    public static final String TreatmentVerificationStatus = "(3008,002C)";
-    public static final String ReferencedTreatmentRecordSequence = "(3008,0030)";
-    public static final String SpecifiedPrimaryMeterset = "(3008,0032)";
-    public static final String SpecifiedSecondaryMeterset = "(3008,0033)";
-    public static final String DeliveredPrimaryMeterset = "(3008,0036)";
-    public static final String DeliveredSecondaryMeterset = "(3008,0037)";
-    public static final String SpecifiedTreatmentTime = "(3008,003A)";
-    public static final String DeliveredTreatmentTime = "(3008,003B)";
-    public static final String ControlPointDeliverySequence = "(3008,0040)";
-    public static final String IonControlPointDeliverySequence = "(3008,0041)";
-    public static final String SpecifiedMeterset = "(3008,0042)";
-    public static final String DeliveredMeterset = "(3008,0044)";
-    public static final String MetersetRateSet = "(3008,0045)";
-    public static final String MetersetRateDelivered = "(3008,0046)";
-    public static final String ScanSpotMetersetsDelivered = "(3008,0047)";
-    public static final String DoseRateDelivered = "(3008,0048)";
-    public static final String TreatmentSummaryCalculatedDoseReferenceSequence = "(3008,0050)";
-    public static final String CumulativeDoseToDoseReference = "(3008,0052)";
-    public static final String FirstTreatmentDate = "(3008,0054)";
-    public static final String MostRecentTreatmentDate = "(3008,0056)";
-    public static final String NumberOfFractionsDelivered = "(3008,005A)";
-    public static final String OverrideSequence = "(3008,0060)";
-    public static final String ParameterSequencePointer = "(3008,0061)";
-    public static final String OverrideParameterPointer = "(3008,0062)";
-    public static final String ParameterItemIndex = "(3008,0063)";
-    public static final String MeasuredDoseReferenceNumber = "(3008,0064)";
-    public static final String ParameterPointer = "(3008,0065)";
-    public static final String OverrideReason = "(3008,0066)";
-    public static final String ParameterValueNumber = "(3008,0067)";
-    public static final String CorrectedParameterSequence = "(3008,0068)";
-    public static final String CorrectionValue = "(3008,006A)";
-    public static final String CalculatedDoseReferenceSequence = "(3008,0070)";
-    public static final String CalculatedDoseReferenceNumber = "(3008,0072)";
-    public static final String CalculatedDoseReferenceDescription = "(3008,0074)";
-    public static final String CalculatedDoseReferenceDoseValue = "(3008,0076)";
-    public static final String StartMeterset = "(3008,0078)";
-    public static final String EndMeterset = "(3008,007A)";
-    public static final String ReferencedMeasuredDoseReferenceSequence = "(3008,0080)";
-    public static final String ReferencedMeasuredDoseReferenceNumber = "(3008,0082)";
-    public static final String ReferencedCalculatedDoseReferenceSequence = "(3008,0090)";
-    public static final String ReferencedCalculatedDoseReferenceNumber = "(3008,0092)";
-    public static final String BeamLimitingDeviceLeafPairsSequence = "(3008,00A0)";
-    public static final String RecordedWedgeSequence = "(3008,00B0)";
-    public static final String RecordedCompensatorSequence = "(3008,00C0)";
-    public static final String RecordedBlockSequence = "(3008,00D0)";
-    public static final String TreatmentSummaryMeasuredDoseReferenceSequence = "(3008,00E0)";
-    public static final String RecordedSnoutSequence = "(3008,00F0)";
-    public static final String RecordedRangeShifterSequence = "(3008,00F2)";
-    public static final String RecordedLateralSpreadingDeviceSequence = "(3008,00F4)";
-    public static final String RecordedRangeModulatorSequence = "(3008,00F6)";
-    public static final String RecordedSourceSequence = "(3008,0100)";
-    public static final String SourceSerialNumber = "(3008,0105)";
-    public static final String TreatmentSessionApplicationSetupSequence = "(3008,0110)";
-    public static final String ApplicationSetupCheck = "(3008,0116)";
-    public static final String RecordedBrachyAccessoryDeviceSequence = "(3008,0120)";
-    public static final String ReferencedBrachyAccessoryDeviceNumber = "(3008,0122)";
-    public static final String RecordedChannelSequence = "(3008,0130)";
-    public static final String SpecifiedChannelTotalTime = "(3008,0132)";
-    public static final String DeliveredChannelTotalTime = "(3008,0134)";
-    public static final String SpecifiedNumberOfPulses = "(3008,0136)";
-    public static final String DeliveredNumberOfPulses = "(3008,0138)";
-    public static final String SpecifiedPulseRepetitionInterval = "(3008,013A)";
-    public static final String DeliveredPulseRepetitionInterval = "(3008,013C)";
-    public static final String RecordedSourceApplicatorSequence = "(3008,0140)";
-    public static final String ReferencedSourceApplicatorNumber = "(3008,0142)";
-    public static final String RecordedChannelShieldSequence = "(3008,0150)";
-    public static final String ReferencedChannelShieldNumber = "(3008,0152)";
-    public static final String BrachyControlPointDeliveredSequence = "(3008,0160)";
-    public static final String SafePositionExitDate = "(3008,0162)";
-    public static final String SafePositionExitTime = "(3008,0164)";
-    public static final String SafePositionReturnDate = "(3008,0166)";
-    public static final String SafePositionReturnTime = "(3008,0168)";
-    public static final String PulseSpecificBrachyControlPointDeliveredSequence = "(3008,0171)";
-    public static final String PulseNumber = "(3008,0172)";
-    public static final String BrachyPulseControlPointDeliveredSequence = "(3008,0173)";
-    public static final String CurrentTreatmentStatus = "(3008,0200)";
-    public static final String TreatmentStatusComment = "(3008,0202)";
-    public static final String FractionGroupSummarySequence = "(3008,0220)";
-    public static final String ReferencedFractionNumber = "(3008,0223)";
-    public static final String FractionGroupType = "(3008,0224)";
-    public static final String BeamStopperPosition = "(3008,0230)";
-    public static final String FractionStatusSummarySequence = "(3008,0240)";
-    public static final String TreatmentDate = "(3008,0250)";
-    public static final String TreatmentTime = "(3008,0251)";
-    public static final String RTPlanLabel = "(300A,0002)";
-    public static final String RTPlanName = "(300A,0003)";
-    public static final String RTPlanDescription = "(300A,0004)";
-    public static final String RTPlanDate = "(300A,0006)";
-    public static final String RTPlanTime = "(300A,0007)";
-    public static final String TreatmentProtocols = "(300A,0009)";
-    public static final String PlanIntent = "(300A,000A)";
-    public static final String TreatmentSites = "(300A,000B)";
-    public static final String RTPlanGeometry = "(300A,000C)";
-    public static final String PrescriptionDescription = "(300A,000E)";
-    public static final String DoseReferenceSequence = "(300A,0010)";
-    public static final String DoseReferenceNumber = "(300A,0012)";
-    public static final String DoseReferenceUID = "(300A,0013)";
-    public static final String DoseReferenceStructureType = "(300A,0014)";
-    public static final String NominalBeamEnergyUnit = "(300A,0015)";
-    public static final String DoseReferenceDescription = "(300A,0016)";
-    public static final String DoseReferencePointCoordinates = "(300A,0018)";
-    public static final String NominalPriorDose = "(300A,001A)";
-    public static final String DoseReferenceType = "(300A,0020)";
-    public static final String ConstraintWeight = "(300A,0021)";
-    public static final String DeliveryWarningDose = "(300A,0022)";
-    public static final String DeliveryMaximumDose = "(300A,0023)";
-    public static final String TargetMinimumDose = "(300A,0025)";
-    public static final String TargetPrescriptionDose = "(300A,0026)";
-    public static final String TargetMaximumDose = "(300A,0027)";
-    public static final String TargetUnderdoseVolumeFraction = "(300A,0028)";
-    public static final String OrganAtRiskFullVolumeDose = "(300A,002A)";
-    public static final String OrganAtRiskLimitDose = "(300A,002B)";
-    public static final String OrganAtRiskMaximumDose = "(300A,002C)";
-    public static final String OrganAtRiskOverdoseVolumeFraction = "(300A,002D)";
-    public static final String ToleranceTableSequence = "(300A,0040)";
-    public static final String ToleranceTableNumber = "(300A,0042)";
-    public static final String ToleranceTableLabel = "(300A,0043)";
-    public static final String GantryAngleTolerance = "(300A,0044)";
-    public static final String BeamLimitingDeviceAngleTolerance = "(300A,0046)";
-    public static final String BeamLimitingDeviceToleranceSequence = "(300A,0048)";
-    public static final String BeamLimitingDevicePositionTolerance = "(300A,004A)";
-    public static final String SnoutPositionTolerance = "(300A,004B)";
-    public static final String PatientSupportAngleTolerance = "(300A,004C)";
-    public static final String TableTopEccentricAngleTolerance = "(300A,004E)";
-    public static final String TableTopPitchAngleTolerance = "(300A,004F)";
-    public static final String TableTopRollAngleTolerance = "(300A,0050)";
-    public static final String TableTopVerticalPositionTolerance = "(300A,0051)";
-    public static final String TableTopLongitudinalPositionTolerance = "(300A,0052)";
-    public static final String TableTopLateralPositionTolerance = "(300A,0053)";
-    public static final String RTPlanRelationship = "(300A,0055)";
-    public static final String FractionGroupSequence = "(300A,0070)";
-    public static final String FractionGroupNumber = "(300A,0071)";
-    public static final String FractionGroupDescription = "(300A,0072)";
-    public static final String NumberOfFractionsPlanned = "(300A,0078)";
-    public static final String NumberOfFractionPatternDigitsPerDay = "(300A,0079)";
-    public static final String RepeatFractionCycleLength = "(300A,007A)";
-    public static final String FractionPattern = "(300A,007B)";
-    public static final String NumberOfBeams = "(300A,0080)";
-    public static final String ReferencedDoseReferenceUID = "(300A,0083)";
-    public static final String BeamDose = "(300A,0084)";
-    public static final String BeamMeterset = "(300A,0086)";
-    public static final String BeamDosePointDepth = "(300A,0088)";
-    public static final String BeamDosePointEquivalentDepth = "(300A,0089)";
-    public static final String BeamDosePointSSD = "(300A,008A)";
-    public static final String BeamDoseMeaning = "(300A,008B)";
-    public static final String BeamDoseVerificationControlPointSequence = "(300A,008C)";
-    public static final String BeamDoseType = "(300A,0090)";
-    public static final String AlternateBeamDose = "(300A,0091)";
-    public static final String AlternateBeamDoseType = "(300A,0092)";
-    public static final String DepthValueAveragingFlag = "(300A,0093)";
-    public static final String BeamDosePointSourceToExternalContourDistance = "(300A,0094)";
-    public static final String NumberOfBrachyApplicationSetups = "(300A,00A0)";
-    public static final String BrachyApplicationSetupDoseSpecificationPoint = "(300A,00A2)";
-    public static final String BrachyApplicationSetupDose = "(300A,00A4)";
-    public static final String BeamSequence = "(300A,00B0)";
-    public static final String TreatmentMachineName = "(300A,00B2)";
-    public static final String PrimaryDosimeterUnit = "(300A,00B3)";
-    public static final String SourceAxisDistance = "(300A,00B4)";
-    public static final String BeamLimitingDeviceSequence = "(300A,00B6)";
-    public static final String RTBeamLimitingDeviceType = "(300A,00B8)";
-    public static final String SourceToBeamLimitingDeviceDistance = "(300A,00BA)";
-    public static final String IsocenterToBeamLimitingDeviceDistance = "(300A,00BB)";
-    public static final String NumberOfLeafJawPairs = "(300A,00BC)";
-    public static final String LeafPositionBoundaries = "(300A,00BE)";
-    public static final String BeamNumber = "(300A,00C0)";
-    public static final String BeamName = "(300A,00C2)";
-    public static final String BeamDescription = "(300A,00C3)";
-    public static final String BeamType = "(300A,00C4)";
-    public static final String BeamDeliveryDurationLimit = "(300A,00C5)";
-    public static final String RadiationType = "(300A,00C6)";
-    public static final String HighDoseTechniqueType = "(300A,00C7)";
-    public static final String ReferenceImageNumber = "(300A,00C8)";
-    public static final String PlannedVerificationImageSequence = "(300A,00CA)";
-    public static final String ImagingDeviceSpecificAcquisitionParameters = "(300A,00CC)";
-    public static final String TreatmentDeliveryType = "(300A,00CE)";
-    public static final String NumberOfWedges = "(300A,00D0)";
-    public static final String WedgeSequence = "(300A,00D1)";
-    public static final String WedgeNumber = "(300A,00D2)";
-    public static final String WedgeType = "(300A,00D3)";
-    public static final String WedgeID = "(300A,00D4)";
-    public static final String WedgeAngle = "(300A,00D5)";
-    public static final String WedgeFactor = "(300A,00D6)";
-    public static final String TotalWedgeTrayWaterEquivalentThickness = "(300A,00D7)";
-    public static final String WedgeOrientation = "(300A,00D8)";
-    public static final String IsocenterToWedgeTrayDistance = "(300A,00D9)";
-    public static final String SourceToWedgeTrayDistance = "(300A,00DA)";
-    public static final String WedgeThinEdgePosition = "(300A,00DB)";
-    public static final String BolusID = "(300A,00DC)";
-    public static final String BolusDescription = "(300A,00DD)";
-    public static final String EffectiveWedgeAngle = "(300A,00DE)";
-    public static final String NumberOfCompensators = "(300A,00E0)";
-    public static final String MaterialID = "(300A,00E1)";
-    public static final String TotalCompensatorTrayFactor = "(300A,00E2)";
-    public static final String CompensatorSequence = "(300A,00E3)";
-    public static final String CompensatorNumber = "(300A,00E4)";
-    public static final String CompensatorID = "(300A,00E5)";
-    public static final String SourceToCompensatorTrayDistance = "(300A,00E6)";
-    public static final String CompensatorRows = "(300A,00E7)";
-    public static final String CompensatorColumns = "(300A,00E8)";
-    public static final String CompensatorPixelSpacing = "(300A,00E9)";
-    public static final String CompensatorPosition = "(300A,00EA)";
-    public static final String CompensatorTransmissionData = "(300A,00EB)";
-    public static final String CompensatorThicknessData = "(300A,00EC)";
-    public static final String NumberOfBoli = "(300A,00ED)";
-    public static final String CompensatorType = "(300A,00EE)";
-    public static final String CompensatorTrayID = "(300A,00EF)";
-    public static final String NumberOfBlocks = "(300A,00F0)";
-    public static final String TotalBlockTrayFactor = "(300A,00F2)";
-    public static final String TotalBlockTrayWaterEquivalentThickness = "(300A,00F3)";
-    public static final String BlockSequence = "(300A,00F4)";
-    public static final String BlockTrayID = "(300A,00F5)";
-    public static final String SourceToBlockTrayDistance = "(300A,00F6)";
-    public static final String IsocenterToBlockTrayDistance = "(300A,00F7)";
-    public static final String BlockType = "(300A,00F8)";
-    public static final String AccessoryCode = "(300A,00F9)";
-    public static final String BlockDivergence = "(300A,00FA)";
-    public static final String BlockMountingPosition = "(300A,00FB)";
-    public static final String BlockNumber = "(300A,00FC)";
-    public static final String BlockName = "(300A,00FE)";
-    public static final String BlockThickness = "(300A,0100)";
-    public static final String BlockTransmission = "(300A,0102)";
-    public static final String BlockNumberOfPoints = "(300A,0104)";
-    public static final String BlockData = "(300A,0106)";
-    public static final String ApplicatorSequence = "(300A,0107)";
-    public static final String ApplicatorID = "(300A,0108)";
-    public static final String ApplicatorType = "(300A,0109)";
-    public static final String ApplicatorDescription = "(300A,010A)";
-    public static final String CumulativeDoseReferenceCoefficient = "(300A,010C)";
-    public static final String FinalCumulativeMetersetWeight = "(300A,010E)";
-    public static final String NumberOfControlPoints = "(300A,0110)";
-    public static final String ControlPointSequence = "(300A,0111)";
-    public static final String ControlPointIndex = "(300A,0112)";
-    public static final String NominalBeamEnergy = "(300A,0114)";
-    public static final String DoseRateSet = "(300A,0115)";
-    public static final String WedgePositionSequence = "(300A,0116)";
-    public static final String WedgePosition = "(300A,0118)";
-    public static final String BeamLimitingDevicePositionSequence = "(300A,011A)";
-    public static final String LeafJawPositions = "(300A,011C)";
-    public static final String GantryAngle = "(300A,011E)";
-    public static final String GantryRotationDirection = "(300A,011F)";
-    public static final String BeamLimitingDeviceAngle = "(300A,0120)";
-    public static final String BeamLimitingDeviceRotationDirection = "(300A,0121)";
-    public static final String PatientSupportAngle = "(300A,0122)";
-    public static final String PatientSupportRotationDirection = "(300A,0123)";
-    public static final String TableTopEccentricAxisDistance = "(300A,0124)";
-    public static final String TableTopEccentricAngle = "(300A,0125)";
-    public static final String TableTopEccentricRotationDirection = "(300A,0126)";
-    public static final String TableTopVerticalPosition = "(300A,0128)";
-    public static final String TableTopLongitudinalPosition = "(300A,0129)";
-    public static final String TableTopLateralPosition = "(300A,012A)";
-    public static final String IsocenterPosition = "(300A,012C)";
-    public static final String SurfaceEntryPoint = "(300A,012E)";
-    public static final String SourceToSurfaceDistance = "(300A,0130)";
-    public static final String AverageBeamDosePointSourceToExternalContourDistance = "(300A,0131)";
-    public static final String SourceToExternalContourDistance = "(300A,0132)";
-    public static final String ExternalContourEntryPoint = "(300A,0133)";
-    public static final String CumulativeMetersetWeight = "(300A,0134)";
-    public static final String TableTopPitchAngle = "(300A,0140)";
-    public static final String TableTopPitchRotationDirection = "(300A,0142)";
-    public static final String TableTopRollAngle = "(300A,0144)";
-    public static final String TableTopRollRotationDirection = "(300A,0146)";
-    public static final String HeadFixationAngle = "(300A,0148)";
-    public static final String GantryPitchAngle = "(300A,014A)";
-    public static final String GantryPitchRotationDirection = "(300A,014C)";
-    public static final String GantryPitchAngleTolerance = "(300A,014E)";
-    public static final String FixationEye = "(300A,0150)";
-    public static final String ChairHeadFramePosition = "(300A,0151)";
-    public static final String HeadFixationAngleTolerance = "(300A,0152)";
-    public static final String ChairHeadFramePositionTolerance = "(300A,0153)";
-    public static final String FixationLightAzimuthalAngleTolerance = "(300A,0154)";
-    public static final String FixationLightPolarAngleTolerance = "(300A,0155)";
-    public static final String PatientSetupSequence = "(300A,0180)";
-    public static final String PatientSetupNumber = "(300A,0182)";
-    public static final String PatientSetupLabel = "(300A,0183)";
-    public static final String PatientAdditionalPosition = "(300A,0184)";
-    public static final String FixationDeviceSequence = "(300A,0190)";
-    public static final String FixationDeviceType = "(300A,0192)";
-    public static final String FixationDeviceLabel = "(300A,0194)";
-    public static final String FixationDeviceDescription = "(300A,0196)";
-    public static final String FixationDevicePosition = "(300A,0198)";
-    public static final String FixationDevicePitchAngle = "(300A,0199)";
-    public static final String FixationDeviceRollAngle = "(300A,019A)";
-    public static final String ShieldingDeviceSequence = "(300A,01A0)";
-    public static final String ShieldingDeviceType = "(300A,01A2)";
-    public static final String ShieldingDeviceLabel = "(300A,01A4)";
-    public static final String ShieldingDeviceDescription = "(300A,01A6)";
-    public static final String ShieldingDevicePosition = "(300A,01A8)";
-    public static final String SetupTechnique = "(300A,01B0)";
-    public static final String SetupTechniqueDescription = "(300A,01B2)";
-    public static final String SetupDeviceSequence = "(300A,01B4)";
-    public static final String SetupDeviceType = "(300A,01B6)";
-    public static final String SetupDeviceLabel = "(300A,01B8)";
-    public static final String SetupDeviceDescription = "(300A,01BA)";
-    public static final String SetupDeviceParameter = "(300A,01BC)";
-    public static final String SetupReferenceDescription = "(300A,01D0)";
-    public static final String TableTopVerticalSetupDisplacement = "(300A,01D2)";
-    public static final String TableTopLongitudinalSetupDisplacement = "(300A,01D4)";
-    public static final String TableTopLateralSetupDisplacement = "(300A,01D6)";
-    public static final String BrachyTreatmentTechnique = "(300A,0200)";
-    public static final String BrachyTreatmentType = "(300A,0202)";
-    public static final String TreatmentMachineSequence = "(300A,0206)";
-    public static final String SourceSequence = "(300A,0210)";
-    public static final String SourceNumber = "(300A,0212)";
-    public static final String SourceType = "(300A,0214)";
-    public static final String SourceManufacturer = "(300A,0216)";
-    public static final String ActiveSourceDiameter = "(300A,0218)";
-    public static final String ActiveSourceLength = "(300A,021A)";
-    public static final String SourceModelID = "(300A,021B)";
-    public static final String SourceDescription = "(300A,021C)";
-    public static final String SourceEncapsulationNominalThickness = "(300A,0222)";
-    public static final String SourceEncapsulationNominalTransmission = "(300A,0224)";
-    public static final String SourceIsotopeName = "(300A,0226)";
-    public static final String SourceIsotopeHalfLife = "(300A,0228)";
-    public static final String SourceStrengthUnits = "(300A,0229)";
-    public static final String ReferenceAirKermaRate = "(300A,022A)";
-    public static final String SourceStrength = "(300A,022B)";
-    public static final String SourceStrengthReferenceDate = "(300A,022C)";
-    public static final String SourceStrengthReferenceTime = "(300A,022E)";
-    public static final String ApplicationSetupSequence = "(300A,0230)";
-    public static final String ApplicationSetupType = "(300A,0232)";
-    public static final String ApplicationSetupNumber = "(300A,0234)";
-    public static final String ApplicationSetupName = "(300A,0236)";
-    public static final String ApplicationSetupManufacturer = "(300A,0238)";
-    public static final String TemplateNumber = "(300A,0240)";
-    public static final String TemplateType = "(300A,0242)";
-    public static final String TemplateName = "(300A,0244)";
-    public static final String TotalReferenceAirKerma = "(300A,0250)";
-    public static final String BrachyAccessoryDeviceSequence = "(300A,0260)";
-    public static final String BrachyAccessoryDeviceNumber = "(300A,0262)";
-    public static final String BrachyAccessoryDeviceID = "(300A,0263)";
-    public static final String BrachyAccessoryDeviceType = "(300A,0264)";
-    public static final String BrachyAccessoryDeviceName = "(300A,0266)";
-    public static final String BrachyAccessoryDeviceNominalThickness = "(300A,026A)";
-    public static final String BrachyAccessoryDeviceNominalTransmission = "(300A,026C)";
-    public static final String ChannelEffectiveLength = "(300A,0271)";
-    public static final String ChannelInnerLength = "(300A,0272)";
-    public static final String AfterloaderChannelID = "(300A,0273)";
-    public static final String SourceApplicatorTipLength = "(300A,0274)";
-    public static final String ChannelSequence = "(300A,0280)";
-    public static final String ChannelNumber = "(300A,0282)";
-    public static final String ChannelLength = "(300A,0284)";
-    public static final String ChannelTotalTime = "(300A,0286)";
-    public static final String SourceMovementType = "(300A,0288)";
-    public static final String NumberOfPulses = "(300A,028A)";
-    public static final String PulseRepetitionInterval = "(300A,028C)";
-    public static final String SourceApplicatorNumber = "(300A,0290)";
-    public static final String SourceApplicatorID = "(300A,0291)";
-    public static final String SourceApplicatorType = "(300A,0292)";
-    public static final String SourceApplicatorName = "(300A,0294)";
-    public static final String SourceApplicatorLength = "(300A,0296)";
-    public static final String SourceApplicatorManufacturer = "(300A,0298)";
-    public static final String SourceApplicatorWallNominalThickness = "(300A,029C)";
-    public static final String SourceApplicatorWallNominalTransmission = "(300A,029E)";
-    public static final String SourceApplicatorStepSize = "(300A,02A0)";
-    public static final String TransferTubeNumber = "(300A,02A2)";
-    public static final String TransferTubeLength = "(300A,02A4)";
-    public static final String ChannelShieldSequence = "(300A,02B0)";
-    public static final String ChannelShieldNumber = "(300A,02B2)";
-    public static final String ChannelShieldID = "(300A,02B3)";
-    public static final String ChannelShieldName = "(300A,02B4)";
-    public static final String ChannelShieldNominalThickness = "(300A,02B8)";
-    public static final String ChannelShieldNominalTransmission = "(300A,02BA)";
-    public static final String FinalCumulativeTimeWeight = "(300A,02C8)";
-    public static final String BrachyControlPointSequence = "(300A,02D0)";
-    public static final String ControlPointRelativePosition = "(300A,02D2)";
-    public static final String ControlPoint3DPosition = "(300A,02D4)";
-    public static final String CumulativeTimeWeight = "(300A,02D6)";
-    public static final String CompensatorDivergence = "(300A,02E0)";
-    public static final String CompensatorMountingPosition = "(300A,02E1)";
-    public static final String SourceToCompensatorDistance = "(300A,02E2)";
-    public static final String TotalCompensatorTrayWaterEquivalentThickness = "(300A,02E3)";
-    public static final String IsocenterToCompensatorTrayDistance = "(300A,02E4)";
-    public static final String CompensatorColumnOffset = "(300A,02E5)";
-    public static final String IsocenterToCompensatorDistances = "(300A,02E6)";
-    public static final String CompensatorRelativeStoppingPowerRatio = "(300A,02E7)";
-    public static final String CompensatorMillingToolDiameter = "(300A,02E8)";
-    public static final String IonRangeCompensatorSequence = "(300A,02EA)";
-    public static final String CompensatorDescription = "(300A,02EB)";
-    public static final String RadiationMassNumber = "(300A,0302)";
-    public static final String RadiationAtomicNumber = "(300A,0304)";
-    public static final String RadiationChargeState = "(300A,0306)";
-    public static final String ScanMode = "(300A,0308)";
-    public static final String ModulatedScanModeType = "(300A,0309)";
-    public static final String VirtualSourceAxisDistances = "(300A,030A)";
-    public static final String SnoutSequence = "(300A,030C)";
-    public static final String SnoutPosition = "(300A,030D)";
-    public static final String SnoutID = "(300A,030F)";
-    public static final String NumberOfRangeShifters = "(300A,0312)";
-    public static final String RangeShifterSequence = "(300A,0314)";
-    public static final String RangeShifterNumber = "(300A,0316)";
-    public static final String RangeShifterID = "(300A,0318)";
-    public static final String RangeShifterType = "(300A,0320)";
-    public static final String RangeShifterDescription = "(300A,0322)";
-    public static final String NumberOfLateralSpreadingDevices = "(300A,0330)";
-    public static final String LateralSpreadingDeviceSequence = "(300A,0332)";
-    public static final String LateralSpreadingDeviceNumber = "(300A,0334)";
-    public static final String LateralSpreadingDeviceID = "(300A,0336)";
-    public static final String LateralSpreadingDeviceType = "(300A,0338)";
-    public static final String LateralSpreadingDeviceDescription = "(300A,033A)";
-    public static final String LateralSpreadingDeviceWaterEquivalentThickness = "(300A,033C)";
-    public static final String NumberOfRangeModulators = "(300A,0340)";
-    public static final String RangeModulatorSequence = "(300A,0342)";
-    public static final String RangeModulatorNumber = "(300A,0344)";
-    public static final String RangeModulatorID = "(300A,0346)";
-    public static final String RangeModulatorType = "(300A,0348)";
-    public static final String RangeModulatorDescription = "(300A,034A)";
-    public static final String BeamCurrentModulationID = "(300A,034C)";
-    public static final String PatientSupportType = "(300A,0350)";
-    public static final String PatientSupportID = "(300A,0352)";
-    public static final String PatientSupportAccessoryCode = "(300A,0354)";
-    public static final String TrayAccessoryCode = "(300A,0355)";
-    public static final String FixationLightAzimuthalAngle = "(300A,0356)";
-    public static final String FixationLightPolarAngle = "(300A,0358)";
-    public static final String MetersetRate = "(300A,035A)";
-    public static final String RangeShifterSettingsSequence = "(300A,0360)";
-    public static final String RangeShifterSetting = "(300A,0362)";
-    public static final String IsocenterToRangeShifterDistance = "(300A,0364)";
-    public static final String RangeShifterWaterEquivalentThickness = "(300A,0366)";
-    public static final String LateralSpreadingDeviceSettingsSequence = "(300A,0370)";
-    public static final String LateralSpreadingDeviceSetting = "(300A,0372)";
-    public static final String IsocenterToLateralSpreadingDeviceDistance = "(300A,0374)";
-    public static final String RangeModulatorSettingsSequence = "(300A,0380)";
-    public static final String RangeModulatorGatingStartValue = "(300A,0382)";
-    public static final String RangeModulatorGatingStopValue = "(300A,0384)";
-    public static final String RangeModulatorGatingStartWaterEquivalentThickness = "(300A,0386)";
-    public static final String RangeModulatorGatingStopWaterEquivalentThickness = "(300A,0388)";
-    public static final String IsocenterToRangeModulatorDistance = "(300A,038A)";
-    public static final String ScanSpotTimeOffset = "(300A,038F)";
-    public static final String ScanSpotTuneID = "(300A,0390)";
-    public static final String ScanSpotPrescribedIndices = "(300A,0391)";
-    public static final String NumberOfScanSpotPositions = "(300A,0392)";
-    public static final String ScanSpotReordered = "(300A,0393)";
-    public static final String ScanSpotPositionMap = "(300A,0394)";
-    public static final String ScanSpotReorderingAllowed = "(300A,0395)";
-    public static final String ScanSpotMetersetWeights = "(300A,0396)";
-    public static final String ScanningSpotSize = "(300A,0398)";
-    public static final String ScanSpotSizesDelivered = "(300A,0399)";
-    public static final String NumberOfPaintings = "(300A,039A)";
-    public static final String IonToleranceTableSequence = "(300A,03A0)";
-    public static final String IonBeamSequence = "(300A,03A2)";
-    public static final String IonBeamLimitingDeviceSequence = "(300A,03A4)";
-    public static final String IonBlockSequence = "(300A,03A6)";
-    public static final String IonControlPointSequence = "(300A,03A8)";
-    public static final String IonWedgeSequence = "(300A,03AA)";
-    public static final String IonWedgePositionSequence = "(300A,03AC)";
-    public static final String ReferencedSetupImageSequence = "(300A,0401)";
-    public static final String SetupImageComment = "(300A,0402)";
-    public static final String MotionSynchronizationSequence = "(300A,0410)";
-    public static final String ControlPointOrientation = "(300A,0412)";
-    public static final String GeneralAccessorySequence = "(300A,0420)";
-    public static final String GeneralAccessoryID = "(300A,0421)";
-    public static final String GeneralAccessoryDescription = "(300A,0422)";
-    public static final String GeneralAccessoryType = "(300A,0423)";
-    public static final String GeneralAccessoryNumber = "(300A,0424)";
-    public static final String SourceToGeneralAccessoryDistance = "(300A,0425)";
-    public static final String IsocenterToGeneralAccessoryDistance = "(300A,0426)";
-    public static final String ApplicatorGeometrySequence = "(300A,0431)";
-    public static final String ApplicatorApertureShape = "(300A,0432)";
-    public static final String ApplicatorOpening = "(300A,0433)";
-    public static final String ApplicatorOpeningX = "(300A,0434)";
-    public static final String ApplicatorOpeningY = "(300A,0435)";
-    public static final String SourceToApplicatorMountingPositionDistance = "(300A,0436)";
-    public static final String NumberOfBlockSlabItems = "(300A,0440)";
-    public static final String BlockSlabSequence = "(300A,0441)";
-    public static final String BlockSlabThickness = "(300A,0442)";
-    public static final String BlockSlabNumber = "(300A,0443)";
-    public static final String DeviceMotionControlSequence = "(300A,0450)";
-    public static final String DeviceMotionExecutionMode = "(300A,0451)";
-    public static final String DeviceMotionObservationMode = "(300A,0452)";
-    public static final String DeviceMotionParameterCodeSequence = "(300A,0453)";
-    public static final String DistalDepthFraction = "(300A,0501)";
-    public static final String DistalDepth = "(300A,0502)";
-    public static final String NominalRangeModulationFractions = "(300A,0503)";
-    public static final String NominalRangeModulatedRegionDepths = "(300A,0504)";
-    public static final String DepthDoseParametersSequence = "(300A,0505)";
-    public static final String DeliveredDepthDoseParametersSequence = "(300A,0506)";
-    public static final String DeliveredDistalDepthFraction = "(300A,0507)";
-    public static final String DeliveredDistalDepth = "(300A,0508)";
-    public static final String DeliveredNominalRangeModulationFractions = "(300A,0509)";
-    public static final String DeliveredNominalRangeModulatedRegionDepths = "(300A,0510)";
-    public static final String DeliveredReferenceDoseDefinition = "(300A,0511)";
-    public static final String ReferenceDoseDefinition = "(300A,0512)";
-    public static final String RTControlPointIndex = "(300A,0600)";
-    public static final String RadiationGenerationModeIndex = "(300A,0601)";
-    public static final String ReferencedDefinedDeviceIndex = "(300A,0602)";
-    public static final String RadiationDoseIdentificationIndex = "(300A,0603)";
-    public static final String NumberOfRTControlPoints = "(300A,0604)";
-    public static final String ReferencedRadiationGenerationModeIndex = "(300A,0605)";
-    public static final String TreatmentPositionIndex = "(300A,0606)";
-    public static final String ReferencedDeviceIndex = "(300A,0607)";
-    public static final String TreatmentPositionGroupLabel = "(300A,0608)";
-    public static final String TreatmentPositionGroupUID = "(300A,0609)";
-    public static final String TreatmentPositionGroupSequence = "(300A,060A)";
-    public static final String ReferencedTreatmentPositionIndex = "(300A,060B)";
-    public static final String ReferencedRadiationDoseIdentificationIndex = "(300A,060C)";
-    public static final String RTAccessoryHolderWaterEquivalentThickness = "(300A,060D)";
-    public static final String ReferencedRTAccessoryHolderDeviceIndex = "(300A,060E)";
-    public static final String RTAccessoryHolderSlotExistenceFlag = "(300A,060F)";
-    public static final String RTAccessoryHolderSlotSequence = "(300A,0610)";
-    public static final String RTAccessoryHolderSlotID = "(300A,0611)";
-    public static final String RTAccessoryHolderSlotDistance = "(300A,0612)";
-    public static final String RTAccessorySlotDistance = "(300A,0613)";
-    public static final String RTAccessoryHolderDefinitionSequence = "(300A,0614)";
-    public static final String RTAccessoryDeviceSlotID = "(300A,0615)";
-    public static final String RTRadiationSequence = "(300A,0616)";
-    public static final String RadiationDoseSequence = "(300A,0617)";
-    public static final String RadiationDoseIdentificationSequence = "(300A,0618)";
-    public static final String RadiationDoseIdentificationLabel = "(300A,0619)";
-    public static final String ReferenceDoseType = "(300A,061A)";
-    public static final String PrimaryDoseValueIndicator = "(300A,061B)";
-    public static final String DoseValuesSequence = "(300A,061C)";
-    public static final String DoseValuePurpose = "(300A,061D)";
-    public static final String ReferenceDosePointCoordinates = "(300A,061E)";
-    public static final String RadiationDoseValuesParametersSequence = "(300A,061F)";
-    public static final String MetersetToDoseMappingSequence = "(300A,0620)";
-    public static final String ExpectedInVivoMeasurementValuesSequence = "(300A,0621)";
-    public static final String ExpectedInVivoMeasurementValueIndex = "(300A,0622)";
-    public static final String RadiationDoseInVivoMeasurementLabel = "(300A,0623)";
-    public static final String RadiationDoseCentralAxisDisplacement = "(300A,0624)";
-    public static final String RadiationDoseValue = "(300A,0625)";
-    public static final String RadiationDoseSourceToSkinDistance = "(300A,0626)";
-    public static final String RadiationDoseMeasurementPointCoordinates = "(300A,0627)";
-    public static final String RadiationDoseSourceToExternalContourDistance = "(300A,0628)";
-    public static final String RTToleranceSetSequence = "(300A,0629)";
-    public static final String RTToleranceSetLabel = "(300A,062A)";
-    public static final String AttributeToleranceValuesSequence = "(300A,062B)";
-    public static final String ToleranceValue = "(300A,062C)";
-    public static final String PatientSupportPositionToleranceSequence = "(300A,062D)";
-    public static final String TreatmentTimeLimit = "(300A,062E)";
-    public static final String CArmPhotonElectronControlPointSequence = "(300A,062F)";
-    public static final String ReferencedRTRadiationSequence = "(300A,0630)";
-    public static final String ReferencedRTInstanceSequence = "(300A,0631)";
-    public static final String ReferencedRTPatientSetupSequence = "(300A,0632)";
-    public static final String SourceToPatientSurfaceDistance = "(300A,0634)";
-    public static final String TreatmentMachineSpecialModeCodeSequence = "(300A,0635)";
-    public static final String IntendedNumberOfFractions = "(300A,0636)";
-    public static final String RTRadiationSetIntent = "(300A,0637)";
-    public static final String RTRadiationPhysicalAndGeometricContentDetailFlag = "(300A,0638)";
-    public static final String RTRecordFlag = "(300A,0639)";
-    public static final String TreatmentDeviceIdentificationSequence = "(300A,063A)";
-    public static final String ReferencedRTPhysicianIntentSequence = "(300A,063B)";
-    public static final String CumulativeMeterset = "(300A,063C)";
-    public static final String DeliveryRate = "(300A,063D)";
-    public static final String DeliveryRateUnitSequence = "(300A,063E)";
-    public static final String TreatmentPositionSequence = "(300A,063F)";
-    public static final String RadiationSourceAxisDistance = "(300A,0640)";
-    public static final String NumberOfRTBeamLimitingDevices = "(300A,0641)";
-    public static final String RTBeamLimitingDeviceProximalDistance = "(300A,0642)";
-    public static final String RTBeamLimitingDeviceDistalDistance = "(300A,0643)";
-    public static final String ParallelRTBeamDelimiterDeviceOrientationLabelCodeSequence = "(300A,0644)";
-    public static final String BeamModifierOrientationAngle = "(300A,0645)";
-    public static final String FixedRTBeamDelimiterDeviceSequence = "(300A,0646)";
-    public static final String ParallelRTBeamDelimiterDeviceSequence = "(300A,0647)";
-    public static final String NumberOfParallelRTBeamDelimiters = "(300A,0648)";
-    public static final String ParallelRTBeamDelimiterBoundaries = "(300A,0649)";
-    public static final String ParallelRTBeamDelimiterPositions = "(300A,064A)";
-    public static final String RTBeamLimitingDeviceOffset = "(300A,064B)";
-    public static final String RTBeamDelimiterGeometrySequence = "(300A,064C)";
-    public static final String RTBeamLimitingDeviceDefinitionSequence = "(300A,064D)";
-    public static final String ParallelRTBeamDelimiterOpeningMode = "(300A,064E)";
-    public static final String ParallelRTBeamDelimiterLeafMountingSide = "(300A,064F)";
-    public static final String PatientSetupUID = "(300A,0650)";
-    public static final String WedgeDefinitionSequence = "(300A,0651)";
-    public static final String RadiationBeamWedgeAngle = "(300A,0652)";
-    public static final String RadiationBeamWedgeThinEdgeDistance = "(300A,0653)";
-    public static final String RadiationBeamEffectiveWedgeAngle = "(300A,0654)";
-    public static final String NumberOfWedgePositions = "(300A,0655)";
-    public static final String RTBeamLimitingDeviceOpeningSequence = "(300A,0656)";
-    public static final String NumberOfRTBeamLimitingDeviceOpenings = "(300A,0657)";
-    public static final String RadiationDosimeterUnitSequence = "(300A,0658)";
-    public static final String RTDeviceDistanceReferenceLocationCodeSequence = "(300A,0659)";
-    public static final String RadiationDeviceConfigurationAndCommissioningKeySequence = "(300A,065A)";
-    public static final String PatientSupportPositionParameterSequence = "(300A,065B)";
-    public static final String PatientSupportPositionSpecificationMethod = "(300A,065C)";
-    public static final String PatientSupportPositionDeviceParameterSequence = "(300A,065D)";
-    public static final String DeviceOrderIndex = "(300A,065E)";
-    public static final String PatientSupportPositionParameterOrderIndex = "(300A,065F)";
-    public static final String PatientSupportPositionDeviceToleranceSequence = "(300A,0660)";
-    public static final String PatientSupportPositionToleranceOrderIndex = "(300A,0661)";
-    public static final String CompensatorDefinitionSequence = "(300A,0662)";
-    public static final String CompensatorMapOrientation = "(300A,0663)";
-    public static final String CompensatorProximalThicknessMap = "(300A,0664)";
-    public static final String CompensatorDistalThicknessMap = "(300A,0665)";
-    public static final String CompensatorBasePlaneOffset = "(300A,0666)";
-    public static final String CompensatorShapeFabricationCodeSequence = "(300A,0667)";
-    public static final String CompensatorShapeSequence = "(300A,0668)";
-    public static final String RadiationBeamCompensatorMillingToolDiameter = "(300A,0669)";
-    public static final String BlockDefinitionSequence = "(300A,066A)";
-    public static final String BlockEdgeData = "(300A,066B)";
-    public static final String BlockOrientation = "(300A,066C)";
-    public static final String RadiationBeamBlockThickness = "(300A,066D)";
-    public static final String RadiationBeamBlockSlabThickness = "(300A,066E)";
-    public static final String BlockEdgeDataSequence = "(300A,066F)";
-    public static final String NumberOfRTAccessoryHolders = "(300A,0670)";
-    public static final String GeneralAccessoryDefinitionSequence = "(300A,0671)";
-    public static final String NumberOfGeneralAccessories = "(300A,0672)";
-    public static final String BolusDefinitionSequence = "(300A,0673)";
-    public static final String NumberOfBoluses = "(300A,0674)";
-    public static final String EquipmentFrameOfReferenceUID = "(300A,0675)";
-    public static final String EquipmentFrameOfReferenceDescription = "(300A,0676)";
-    public static final String EquipmentReferencePointCoordinatesSequence = "(300A,0677)";
-    public static final String EquipmentReferencePointCodeSequence = "(300A,0678)";
-    public static final String RTBeamLimitingDeviceAngle = "(300A,0679)";
-    public static final String SourceRollAngle = "(300A,067A)";
-    public static final String RadiationGenerationModeSequence = "(300A,067B)";
-    public static final String RadiationGenerationModeLabel = "(300A,067C)";
-    public static final String RadiationGenerationModeDescription = "(300A,067D)";
-    public static final String RadiationGenerationModeMachineCodeSequence = "(300A,067E)";
-    public static final String RadiationTypeCodeSequence = "(300A,067F)";
-    public static final String NominalEnergy = "(300A,0680)";
-    public static final String MinimumNominalEnergy = "(300A,0681)";
-    public static final String MaximumNominalEnergy = "(300A,0682)";
-    public static final String RadiationFluenceModifierCodeSequence = "(300A,0683)";
-    public static final String EnergyUnitCodeSequence = "(300A,0684)";
-    public static final String NumberOfRadiationGenerationModes = "(300A,0685)";
-    public static final String PatientSupportDevicesSequence = "(300A,0686)";
-    public static final String NumberOfPatientSupportDevices = "(300A,0687)";
-    public static final String RTBeamModifierDefinitionDistance = "(300A,0688)";
-    public static final String BeamAreaLimitSequence = "(300A,0689)";
-    public static final String ReferencedRTPrescriptionSequence = "(300A,068A)";
-    public static final String TreatmentSessionUID = "(300A,0700)";
-    public static final String RTRadiationUsage = "(300A,0701)";
-    public static final String ReferencedRTRadiationSetSequence = "(300A,0702)";
-    public static final String ReferencedRTRadiationRecordSequence = "(300A,0703)";
-    public static final String RTRadiationSetDeliveryNumber = "(300A,0704)";
-    public static final String ClinicalFractionNumber = "(300A,0705)";
-    public static final String RTTreatmentFractionCompletionStatus = "(300A,0706)";
-    public static final String RTRadiationSetUsage = "(300A,0707)";
-    public static final String TreatmentDeliveryContinuationFlag = "(300A,0708)";
-    public static final String TreatmentRecordContentOrigin = "(300A,0709)";
-    public static final String RTTreatmentTerminationStatus = "(300A,0714)";
-    public static final String RTTreatmentTerminationReasonCodeSequence = "(300A,0715)";
-    public static final String MachineSpecificTreatmentTerminationCodeSequence = "(300A,0716)";
-    public static final String RTRadiationSalvageRecordControlPointSequence = "(300A,0722)";
-    public static final String StartingMetersetValueKnownFlag = "(300A,0723)";
-    public static final String TreatmentTerminationDescription = "(300A,0730)";
-    public static final String TreatmentToleranceViolationSequence = "(300A,0731)";
-    public static final String TreatmentToleranceViolationCategory = "(300A,0732)";
-    public static final String TreatmentToleranceViolationAttributeSequence = "(300A,0733)";
-    public static final String TreatmentToleranceViolationDescription = "(300A,0734)";
-    public static final String TreatmentToleranceViolationIdentification = "(300A,0735)";
-    public static final String TreatmentToleranceViolationDateTime = "(300A,0736)";
-    public static final String RecordedRTControlPointDateTime = "(300A,073A)";
-    public static final String ReferencedRadiationRTControlPointIndex = "(300A,073B)";
-    public static final String AlternateValueSequence = "(300A,073E)";
-    public static final String ConfirmationSequence = "(300A,073F)";
-    public static final String InterlockSequence = "(300A,0740)";
-    public static final String InterlockDateTime = "(300A,0741)";
-    public static final String InterlockDescription = "(300A,0742)";
-    public static final String InterlockOriginatingDeviceSequence = "(300A,0743)";
-    public static final String InterlockCodeSequence = "(300A,0744)";
-    public static final String InterlockResolutionCodeSequence = "(300A,0745)";
-    public static final String InterlockResolutionUserSequence = "(300A,0746)";
-    public static final String OverrideDateTime = "(300A,0760)";
-    public static final String TreatmentToleranceViolationTypeCodeSequence = "(300A,0761)";
-    public static final String TreatmentToleranceViolationCauseCodeSequence = "(300A,0762)";
-    public static final String MeasuredMetersetToDoseMappingSequence = "(300A,0772)";
-    public static final String ReferencedExpectedInVivoMeasurementValueIndex = "(300A,0773)";
-    public static final String DoseMeasurementDeviceCodeSequence = "(300A,0774)";
-    public static final String AdditionalParameterRecordingInstanceSequence = "(300A,0780)";
-    public static final String InterlockOriginDescription = "(300A,0783)";
-    public static final String ReferencedRTPlanSequence = "(300C,0002)";
-    public static final String ReferencedBeamSequence = "(300C,0004)";
-    public static final String ReferencedBeamNumber = "(300C,0006)";
-    public static final String ReferencedReferenceImageNumber = "(300C,0007)";
-    public static final String StartCumulativeMetersetWeight = "(300C,0008)";
-    public static final String EndCumulativeMetersetWeight = "(300C,0009)";
-    public static final String ReferencedBrachyApplicationSetupSequence = "(300C,000A)";
-    public static final String ReferencedBrachyApplicationSetupNumber = "(300C,000C)";
-    public static final String ReferencedSourceNumber = "(300C,000E)";
-    public static final String ReferencedFractionGroupSequence = "(300C,0020)";
-    public static final String ReferencedFractionGroupNumber = "(300C,0022)";
-    public static final String ReferencedVerificationImageSequence = "(300C,0040)";
-    public static final String ReferencedReferenceImageSequence = "(300C,0042)";
-    public static final String ReferencedDoseReferenceSequence = "(300C,0050)";
-    public static final String ReferencedDoseReferenceNumber = "(300C,0051)";
-    public static final String BrachyReferencedDoseReferenceSequence = "(300C,0055)";
-    public static final String ReferencedStructureSetSequence = "(300C,0060)";
-    public static final String ReferencedPatientSetupNumber = "(300C,006A)";
-    public static final String ReferencedDoseSequence = "(300C,0080)";
-    public static final String ReferencedToleranceTableNumber = "(300C,00A0)";
-    public static final String ReferencedBolusSequence = "(300C,00B0)";
-    public static final String ReferencedWedgeNumber = "(300C,00C0)";
-    public static final String ReferencedCompensatorNumber = "(300C,00D0)";
-    public static final String ReferencedBlockNumber = "(300C,00E0)";
-    public static final String ReferencedControlPointIndex = "(300C,00F0)";
-    public static final String ReferencedControlPointSequence = "(300C,00F2)";
-    public static final String ReferencedStartControlPointIndex = "(300C,00F4)";
-    public static final String ReferencedStopControlPointIndex = "(300C,00F6)";
-    public static final String ReferencedRangeShifterNumber = "(300C,0100)";
-    public static final String ReferencedLateralSpreadingDeviceNumber = "(300C,0102)";
-    public static final String ReferencedRangeModulatorNumber = "(300C,0104)";
-    public static final String OmittedBeamTaskSequence = "(300C,0111)";
-    public static final String ReasonForOmission = "(300C,0112)";
-    public static final String ReasonForOmissionDescription = "(300C,0113)";
-    public static final String ApprovalStatus = "(300E,0002)";
-    public static final String ReviewDate = "(300E,0004)";
-    public static final String ReviewTime = "(300E,0005)";
-    public static final String ReviewerName = "(300E,0008)";
-    public static final String RadiobiologicalDoseEffectSequence = "(3010,0001)";
-    public static final String RadiobiologicalDoseEffectFlag = "(3010,0002)";
-    public static final String EffectiveDoseCalculationMethodCategoryCodeSequence = "(3010,0003)";
-    public static final String EffectiveDoseCalculationMethodCodeSequence = "(3010,0004)";
-    public static final String EffectiveDoseCalculationMethodDescription = "(3010,0005)";
-    public static final String ConceptualVolumeUID = "(3010,0006)";
-    public static final String OriginatingSOPInstanceReferenceSequence = "(3010,0007)";
-    public static final String ConceptualVolumeConstituentSequence = "(3010,0008)";
-    public static final String EquivalentConceptualVolumeInstanceReferenceSequence = "(3010,0009)";
-    public static final String EquivalentConceptualVolumesSequence = "(3010,000A)";
-    public static final String ReferencedConceptualVolumeUID = "(3010,000B)";
-    public static final String ConceptualVolumeCombinationExpression = "(3010,000C)";
-    public static final String ConceptualVolumeConstituentIndex = "(3010,000D)";
-    public static final String ConceptualVolumeCombinationFlag = "(3010,000E)";
-    public static final String ConceptualVolumeCombinationDescription = "(3010,000F)";
-    public static final String ConceptualVolumeSegmentationDefinedFlag = "(3010,0010)";
-    public static final String ConceptualVolumeSegmentationReferenceSequence = "(3010,0011)";
-    public static final String ConceptualVolumeConstituentSegmentationReferenceSequence = "(3010,0012)";
-    public static final String ConstituentConceptualVolumeUID = "(3010,0013)";
-    public static final String DerivationConceptualVolumeSequence = "(3010,0014)";
-    public static final String SourceConceptualVolumeUID = "(3010,0015)";
-    public static final String ConceptualVolumeDerivationAlgorithmSequence = "(3010,0016)";
-    public static final String ConceptualVolumeDescription = "(3010,0017)";
-    public static final String SourceConceptualVolumeSequence = "(3010,0018)";
-    public static final String AuthorIdentificationSequence = "(3010,0019)";
-    public static final String ManufacturerModelVersion = "(3010,001A)";
-    public static final String DeviceAlternateIdentifier = "(3010,001B)";
-    public static final String DeviceAlternateIdentifierType = "(3010,001C)";
-    public static final String DeviceAlternateIdentifierFormat = "(3010,001D)";
-    public static final String SegmentationCreationTemplateLabel = "(3010,001E)";
-    public static final String SegmentationTemplateUID = "(3010,001F)";
-    public static final String ReferencedSegmentReferenceIndex = "(3010,0020)";
-    public static final String SegmentReferenceSequence = "(3010,0021)";
-    public static final String SegmentReferenceIndex = "(3010,0022)";
-    public static final String DirectSegmentReferenceSequence = "(3010,0023)";
-    public static final String CombinationSegmentReferenceSequence = "(3010,0024)";
-    public static final String ConceptualVolumeSequence = "(3010,0025)";
-    public static final String SegmentedRTAccessoryDeviceSequence = "(3010,0026)";
-    public static final String SegmentCharacteristicsSequence = "(3010,0027)";
-    public static final String RelatedSegmentCharacteristicsSequence = "(3010,0028)";
-    public static final String SegmentCharacteristicsPrecedence = "(3010,0029)";
-    public static final String RTSegmentAnnotationSequence = "(3010,002A)";
-    public static final String SegmentAnnotationCategoryCodeSequence = "(3010,002B)";
-    public static final String SegmentAnnotationTypeCodeSequence = "(3010,002C)";
-    public static final String DeviceLabel = "(3010,002D)";
-    public static final String DeviceTypeCodeSequence = "(3010,002E)";
-    public static final String SegmentAnnotationTypeModifierCodeSequence = "(3010,002F)";
-    public static final String PatientEquipmentRelationshipCodeSequence = "(3010,0030)";
-    public static final String ReferencedFiducialsUID = "(3010,0031)";
-    public static final String PatientTreatmentOrientationSequence = "(3010,0032)";
-    public static final String UserContentLabel = "(3010,0033)";
-    public static final String UserContentLongLabel = "(3010,0034)";
-    public static final String EntityLabel = "(3010,0035)";
-    public static final String EntityName = "(3010,0036)";
-    public static final String EntityDescription = "(3010,0037)";
-    public static final String EntityLongLabel = "(3010,0038)";
-    public static final String DeviceIndex = "(3010,0039)";
-    public static final String RTTreatmentPhaseIndex = "(3010,003A)";
-    public static final String RTTreatmentPhaseUID = "(3010,003B)";
-    public static final String RTPrescriptionIndex = "(3010,003C)";
-    public static final String RTSegmentAnnotationIndex = "(3010,003D)";
-    public static final String BasisRTTreatmentPhaseIndex = "(3010,003E)";
-    public static final String RelatedRTTreatmentPhaseIndex = "(3010,003F)";
-    public static final String ReferencedRTTreatmentPhaseIndex = "(3010,0040)";
-    public static final String ReferencedRTPrescriptionIndex = "(3010,0041)";
-    public static final String ReferencedParentRTPrescriptionIndex = "(3010,0042)";
-    public static final String ManufacturerDeviceIdentifier = "(3010,0043)";
-    public static final String InstanceLevelReferencedPerformedProcedureStepSequence = "(3010,0044)";
-    public static final String RTTreatmentPhaseIntentPresenceFlag = "(3010,0045)";
-    public static final String RadiotherapyTreatmentType = "(3010,0046)";
-    public static final String TeletherapyRadiationType = "(3010,0047)";
-    public static final String BrachytherapySourceType = "(3010,0048)";
-    public static final String ReferencedRTTreatmentPhaseSequence = "(3010,0049)";
-    public static final String ReferencedDirectSegmentInstanceSequence = "(3010,004A)";
-    public static final String IntendedRTTreatmentPhaseSequence = "(3010,004B)";
-    public static final String IntendedPhaseStartDate = "(3010,004C)";
-    public static final String IntendedPhaseEndDate = "(3010,004D)";
-    public static final String RTTreatmentPhaseIntervalSequence = "(3010,004E)";
-    public static final String TemporalRelationshipIntervalAnchor = "(3010,004F)";
-    public static final String MinimumNumberOfIntervalDays = "(3010,0050)";
-    public static final String MaximumNumberOfIntervalDays = "(3010,0051)";
-    public static final String PertinentSOPClassesInStudy = "(3010,0052)";
-    public static final String PertinentSOPClassesInSeries = "(3010,0053)";
-    public static final String RTPrescriptionLabel = "(3010,0054)";
-    public static final String RTPhysicianIntentPredecessorSequence = "(3010,0055)";
-    public static final String RTTreatmentApproachLabel = "(3010,0056)";
-    public static final String RTPhysicianIntentSequence = "(3010,0057)";
-    public static final String RTPhysicianIntentIndex = "(3010,0058)";
-    public static final String RTTreatmentIntentType = "(3010,0059)";
-    public static final String RTPhysicianIntentNarrative = "(3010,005A)";
-    public static final String RTProtocolCodeSequence = "(3010,005B)";
-    public static final String ReasonForSuperseding = "(3010,005C)";
-    public static final String RTDiagnosisCodeSequence = "(3010,005D)";
-    public static final String ReferencedRTPhysicianIntentIndex = "(3010,005E)";
-    public static final String RTPhysicianIntentInputInstanceSequence = "(3010,005F)";
-    public static final String RTAnatomicPrescriptionSequence = "(3010,0060)";
-    public static final String PriorTreatmentDoseDescription = "(3010,0061)";
-    public static final String PriorTreatmentReferenceSequence = "(3010,0062)";
-    public static final String DosimetricObjectiveEvaluationScope = "(3010,0063)";
-    public static final String TherapeuticRoleCategoryCodeSequence = "(3010,0064)";
-    public static final String TherapeuticRoleTypeCodeSequence = "(3010,0065)";
-    public static final String ConceptualVolumeOptimizationPrecedence = "(3010,0066)";
-    public static final String ConceptualVolumeCategoryCodeSequence = "(3010,0067)";
-    public static final String ConceptualVolumeBlockingConstraint = "(3010,0068)";
-    public static final String ConceptualVolumeTypeCodeSequence = "(3010,0069)";
-    public static final String ConceptualVolumeTypeModifierCodeSequence = "(3010,006A)";
-    public static final String RTPrescriptionSequence = "(3010,006B)";
-    public static final String DosimetricObjectiveSequence = "(3010,006C)";
-    public static final String DosimetricObjectiveTypeCodeSequence = "(3010,006D)";
-    public static final String DosimetricObjectiveUID = "(3010,006E)";
-    public static final String ReferencedDosimetricObjectiveUID = "(3010,006F)";
-    public static final String DosimetricObjectiveParameterSequence = "(3010,0070)";
-    public static final String ReferencedDosimetricObjectivesSequence = "(3010,0071)";
-    public static final String AbsoluteDosimetricObjectiveFlag = "(3010,0073)";
-    public static final String DosimetricObjectiveWeight = "(3010,0074)";
-    public static final String DosimetricObjectivePurpose = "(3010,0075)";
-    public static final String PlanningInputInformationSequence = "(3010,0076)";
-    public static final String TreatmentSite = "(3010,0077)";
-    public static final String TreatmentSiteCodeSequence = "(3010,0078)";
-    public static final String FractionPatternSequence = "(3010,0079)";
-    public static final String TreatmentTechniqueNotes = "(3010,007A)";
-    public static final String PrescriptionNotes = "(3010,007B)";
-    public static final String NumberOfIntervalFractions = "(3010,007C)";
-    public static final String NumberOfFractions = "(3010,007D)";
-    public static final String IntendedDeliveryDuration = "(3010,007E)";
-    public static final String FractionationNotes = "(3010,007F)";
-    public static final String RTTreatmentTechniqueCodeSequence = "(3010,0080)";
-    public static final String PrescriptionNotesSequence = "(3010,0081)";
-    public static final String FractionBasedRelationshipSequence = "(3010,0082)";
-    public static final String FractionBasedRelationshipIntervalAnchor = "(3010,0083)";
-    public static final String MinimumHoursBetweenFractions = "(3010,0084)";
-    public static final String IntendedFractionStartTime = "(3010,0085)";
-    public static final String IntendedStartDayOfWeek = "(3010,0086)";
-    public static final String WeekdayFractionPatternSequence = "(3010,0087)";
-    public static final String DeliveryTimeStructureCodeSequence = "(3010,0088)";
-    public static final String TreatmentSiteModifierCodeSequence = "(3010,0089)";
-    public static final String RoboticBaseLocationIndicator = "(3010,0090)";
-    public static final String RoboticPathNodeSetCodeSequence = "(3010,0091)";
-    public static final String RoboticNodeIdentifier = "(3010,0092)";
-    public static final String RTTreatmentSourceCoordinates = "(3010,0093)";
-    public static final String RadiationSourceCoordinateSystemYawAngle = "(3010,0094)";
-    public static final String RadiationSourceCoordinateSystemRollAngle = "(3010,0095)";
-    public static final String RadiationSourceCoordinateSystemPitchAngle = "(3010,0096)";
-    public static final String RoboticPathControlPointSequence = "(3010,0097)";
-    public static final String TomotherapeuticControlPointSequence = "(3010,0098)";
-    public static final String TomotherapeuticLeafOpenDurations = "(3010,0099)";
-    public static final String TomotherapeuticLeafInitialClosedDurations = "(3010,009A)";
-    public static final String LowEnergyDetectors = "(4010,0001)";
-    public static final String HighEnergyDetectors = "(4010,0002)";
-    public static final String DetectorGeometrySequence = "(4010,0004)";
-    public static final String ThreatROIVoxelSequence = "(4010,1001)";
-    public static final String ThreatROIBase = "(4010,1004)";
-    public static final String ThreatROIExtents = "(4010,1005)";
-    public static final String ThreatROIBitmap = "(4010,1006)";
-    public static final String RouteSegmentID = "(4010,1007)";
-    public static final String GantryType = "(4010,1008)";
-    public static final String OOIOwnerType = "(4010,1009)";
-    public static final String RouteSegmentSequence = "(4010,100A)";
-    public static final String PotentialThreatObjectID = "(4010,1010)";
-    public static final String ThreatSequence = "(4010,1011)";
-    public static final String ThreatCategory = "(4010,1012)";
-    public static final String ThreatCategoryDescription = "(4010,1013)";
-    public static final String ATDAbilityAssessment = "(4010,1014)";
-    public static final String ATDAssessmentFlag = "(4010,1015)";
-    public static final String ATDAssessmentProbability = "(4010,1016)";
-    public static final String Mass = "(4010,1017)";
-    public static final String Density = "(4010,1018)";
-    public static final String ZEffective = "(4010,1019)";
-    public static final String BoardingPassID = "(4010,101A)";
-    public static final String CenterOfMass = "(4010,101B)";
-    public static final String CenterOfPTO = "(4010,101C)";
-    public static final String BoundingPolygon = "(4010,101D)";
-    public static final String RouteSegmentStartLocationID = "(4010,101E)";
-    public static final String RouteSegmentEndLocationID = "(4010,101F)";
-    public static final String RouteSegmentLocationIDType = "(4010,1020)";
-    public static final String AbortReason = "(4010,1021)";
-    public static final String VolumeOfPTO = "(4010,1023)";
-    public static final String AbortFlag = "(4010,1024)";
-    public static final String RouteSegmentStartTime = "(4010,1025)";
-    public static final String RouteSegmentEndTime = "(4010,1026)";
-    public static final String TDRType = "(4010,1027)";
-    public static final String InternationalRouteSegment = "(4010,1028)";
-    public static final String ThreatDetectionAlgorithmAndVersion = "(4010,1029)";
-    public static final String AssignedLocation = "(4010,102A)";
-    public static final String AlarmDecisionTime = "(4010,102B)";
-    public static final String AlarmDecision = "(4010,1031)";
-    public static final String NumberOfTotalObjects = "(4010,1033)";
-    public static final String NumberOfAlarmObjects = "(4010,1034)";
-    public static final String PTORepresentationSequence = "(4010,1037)";
-    public static final String ATDAssessmentSequence = "(4010,1038)";
-    public static final String TIPType = "(4010,1039)";
-    public static final String DICOSVersion = "(4010,103A)";
-    public static final String OOIOwnerCreationTime = "(4010,1041)";
-    public static final String OOIType = "(4010,1042)";
-    public static final String OOISize = "(4010,1043)";
-    public static final String AcquisitionStatus = "(4010,1044)";
-    public static final String BasisMaterialsCodeSequence = "(4010,1045)";
-    public static final String PhantomType = "(4010,1046)";
-    public static final String OOIOwnerSequence = "(4010,1047)";
-    public static final String ScanType = "(4010,1048)";
-    public static final String ItineraryID = "(4010,1051)";
-    public static final String ItineraryIDType = "(4010,1052)";
-    public static final String ItineraryIDAssigningAuthority = "(4010,1053)";
-    public static final String RouteID = "(4010,1054)";
-    public static final String RouteIDAssigningAuthority = "(4010,1055)";
-    public static final String InboundArrivalType = "(4010,1056)";
-    public static final String CarrierID = "(4010,1058)";
-    public static final String CarrierIDAssigningAuthority = "(4010,1059)";
-    public static final String SourceOrientation = "(4010,1060)";
-    public static final String SourcePosition = "(4010,1061)";
-    public static final String BeltHeight = "(4010,1062)";
-    public static final String AlgorithmRoutingCodeSequence = "(4010,1064)";
-    public static final String TransportClassification = "(4010,1067)";
-    public static final String OOITypeDescriptor = "(4010,1068)";
-    public static final String TotalProcessingTime = "(4010,1069)";
-    public static final String DetectorCalibrationData = "(4010,106C)";
-    public static final String AdditionalScreeningPerformed = "(4010,106D)";
-    public static final String AdditionalInspectionSelectionCriteria = "(4010,106E)";
-    public static final String AdditionalInspectionMethodSequence = "(4010,106F)";
-    public static final String AITDeviceType = "(4010,1070)";
-    public static final String QRMeasurementsSequence = "(4010,1071)";
-    public static final String TargetMaterialSequence = "(4010,1072)";
-    public static final String SNRThreshold = "(4010,1073)";
-    public static final String ImageScaleRepresentation = "(4010,1075)";
-    public static final String ReferencedPTOSequence = "(4010,1076)";
-    public static final String ReferencedTDRInstanceSequence = "(4010,1077)";
-    public static final String PTOLocationDescription = "(4010,1078)";
-    public static final String AnomalyLocatorIndicatorSequence = "(4010,1079)";
-    public static final String AnomalyLocatorIndicator = "(4010,107A)";
-    public static final String PTORegionSequence = "(4010,107B)";
-    public static final String InspectionSelectionCriteria = "(4010,107C)";
-    public static final String SecondaryInspectionMethodSequence = "(4010,107D)";
-    public static final String PRCSToRCSOrientation = "(4010,107E)";
-    public static final String MACParametersSequence = "(4FFE,0001)";
-    public static final String SharedFunctionalGroupsSequence = "(5200,9229)";
-    public static final String PerFrameFunctionalGroupsSequence = "(5200,9230)";
-    public static final String WaveformSequence = "(5400,0100)";
-    public static final String ChannelMinimumValue = "(5400,0110)";
-    public static final String ChannelMaximumValue = "(5400,0112)";
-    public static final String WaveformBitsAllocated = "(5400,1004)";
-    public static final String WaveformSampleInterpretation = "(5400,1006)";
-    public static final String WaveformPaddingValue = "(5400,100A)";
-    public static final String WaveformData = "(5400,1010)";
-    public static final String FirstOrderPhaseCorrectionAngle = "(5600,0010)";
-    public static final String SpectroscopyData = "(5600,0020)";
-    public static final String OverlayRows = "(6000-60FF,0010)";
-    public static final String OverlayColumns = "(6000-60FF,0011)";
-    public static final String NumberOfFramesInOverlay = "(6000-60FF,0015)";
-    public static final String OverlayDescription = "(6000-60FF,0022)";
-    public static final String OverlayType = "(6000-60FF,0040)";
-    public static final String OverlaySubtype = "(6000-60FF,0045)";
-    public static final String OverlayOrigin = "(6000-60FF,0050)";
-    public static final String ImageFrameOrigin = "(6000-60FF,0051)";
-    public static final String OverlayBitsAllocated = "(6000-60FF,0100)";
-    public static final String OverlayBitPosition = "(6000-60FF,0102)";
-    public static final String OverlayActivationLayer = "(6000-60FF,1001)";
-    public static final String ROIArea = "(6000-60FF,1301)";
-    public static final String ROIMean = "(6000-60FF,1302)";
-    public static final String ROIStandardDeviation = "(6000-60FF,1303)";
-    public static final String OverlayLabel = "(6000-60FF,1500)";
-    public static final String OverlayData = "(6000-60FF,3000)";
-    public static final String ExtendedOffsetTable = "(7FE0,0001)";
-    public static final String ExtendedOffsetTableLengths = "(7FE0,0002)";
-    public static final String FloatPixelData = "(7FE0,0008)";
-    public static final String DoubleFloatPixelData = "(7FE0,0009)";
-    public static final String PixelData = "(7FE0,0010)";
-    public static final String DigitalSignaturesSequence = "(FFFA,FFFA)";
-    public static final String DataSetTrailingPadding = "(FFFC,FFFC)";
+    public static final int CommandGroupLength = 0x00000000;
+    public static final int AffectedSOPClassUID = 0x00000002;
+    public static final int RequestedSOPClassUID = 0x00000003;
+    public static final int CommandField = 0x00000100;
+    public static final int MessageID = 0x00000110;
+    public static final int MessageIDBeingRespondedTo = 0x00000120;
+    public static final int MoveDestination = 0x00000600;
+    public static final int Priority = 0x00000700;
+    public static final int CommandDataSetType = 0x00000800;
+    public static final int Status = 0x00000900;
+    public static final int OffendingElement = 0x00000901;
+    public static final int ErrorComment = 0x00000902;
+    public static final int ErrorID = 0x00000903;
+    public static final int AffectedSOPInstanceUID = 0x00001000;
+    public static final int RequestedSOPInstanceUID = 0x00001001;
+    public static final int EventTypeID = 0x00001002;
+    public static final int AttributeIdentifierList = 0x00001005;
+    public static final int ActionTypeID = 0x00001008;
+    public static final int NumberOfRemainingSuboperations = 0x00001020;
+    public static final int NumberOfCompletedSuboperations = 0x00001021;
+    public static final int NumberOfFailedSuboperations = 0x00001022;
+    public static final int NumberOfWarningSuboperations = 0x00001023;
+    public static final int MoveOriginatorApplicationEntityTitle = 0x00001030;
+    public static final int MoveOriginatorMessageID = 0x00001031;
+    public static final int FileMetaInformationGroupLength = 0x00020000;
+    public static final int FileMetaInformationVersion = 0x00020001;
+    public static final int MediaStorageSOPClassUID = 0x00020002;
+    public static final int MediaStorageSOPInstanceUID = 0x00020003;
+    public static final int TransferSyntaxUID = 0x00020010;
+    public static final int ImplementationClassUID = 0x00020012;
+    public static final int ImplementationVersionName = 0x00020013;
+    public static final int SourceApplicationEntityTitle = 0x00020016;
+    public static final int SendingApplicationEntityTitle = 0x00020017;
+    public static final int ReceivingApplicationEntityTitle = 0x00020018;
+    public static final int SourcePresentationAddress = 0x00020026;
+    public static final int SendingPresentationAddress = 0x00020027;
+    public static final int ReceivingPresentationAddress = 0x00020028;
+    public static final int RTVMetaInformationVersion = 0x00020031;
+    public static final int RTVCommunicationSOPClassUID = 0x00020032;
+    public static final int RTVCommunicationSOPInstanceUID = 0x00020033;
+    public static final int RTVSourceIdentifier = 0x00020035;
+    public static final int RTVFlowIdentifier = 0x00020036;
+    public static final int RTVFlowRTPSamplingRate = 0x00020037;
+    public static final int RTVFlowActualFrameDuration = 0x00020038;
+    public static final int PrivateInformationCreatorUID = 0x00020100;
+    public static final int PrivateInformation = 0x00020102;
+    public static final int FileSetID = 0x00041130;
+    public static final int FileSetDescriptorFileID = 0x00041141;
+    public static final int SpecificCharacterSetOfFileSetDescriptorFile = 0x00041142;
+    public static final int OffsetOfTheFirstDirectoryRecordOfTheRootDirectoryEntity = 0x00041200;
+    public static final int OffsetOfTheLastDirectoryRecordOfTheRootDirectoryEntity = 0x00041202;
+    public static final int FileSetConsistencyFlag = 0x00041212;
+    public static final int DirectoryRecordSequence = 0x00041220;
+    public static final int OffsetOfTheNextDirectoryRecord = 0x00041400;
+    public static final int RecordInUseFlag = 0x00041410;
+    public static final int OffsetOfReferencedLowerLevelDirectoryEntity = 0x00041420;
+    public static final int DirectoryRecordType = 0x00041430;
+    public static final int PrivateRecordUID = 0x00041432;
+    public static final int ReferencedFileID = 0x00041500;
+    public static final int ReferencedSOPClassUIDInFile = 0x00041510;
+    public static final int ReferencedSOPInstanceUIDInFile = 0x00041511;
+    public static final int ReferencedTransferSyntaxUIDInFile = 0x00041512;
+    public static final int ReferencedRelatedGeneralSOPClassUIDInFile = 0x0004151A;
+    public static final int CurrentFrameFunctionalGroupsSequence = 0x00060001;
+    public static final int SpecificCharacterSet = 0x00080005;
+    public static final int LanguageCodeSequence = 0x00080006;
+    public static final int ImageType = 0x00080008;
+    public static final int InstanceCreationDate = 0x00080012;
+    public static final int InstanceCreationTime = 0x00080013;
+    public static final int InstanceCreatorUID = 0x00080014;
+    public static final int InstanceCoercionDateTime = 0x00080015;
+    public static final int SOPClassUID = 0x00080016;
+    public static final int SOPInstanceUID = 0x00080018;
+    public static final int RelatedGeneralSOPClassUID = 0x0008001A;
+    public static final int OriginalSpecializedSOPClassUID = 0x0008001B;
+    public static final int StudyDate = 0x00080020;
+    public static final int SeriesDate = 0x00080021;
+    public static final int AcquisitionDate = 0x00080022;
+    public static final int ContentDate = 0x00080023;
+    public static final int AcquisitionDateTime = 0x0008002A;
+    public static final int StudyTime = 0x00080030;
+    public static final int SeriesTime = 0x00080031;
+    public static final int AcquisitionTime = 0x00080032;
+    public static final int ContentTime = 0x00080033;
+    public static final int AccessionNumber = 0x00080050;
+    public static final int IssuerOfAccessionNumberSequence = 0x00080051;
+    public static final int QueryRetrieveLevel = 0x00080052;
+    public static final int QueryRetrieveView = 0x00080053;
+    public static final int RetrieveAETitle = 0x00080054;
+    public static final int StationAETitle = 0x00080055;
+    public static final int InstanceAvailability = 0x00080056;
+    public static final int FailedSOPInstanceUIDList = 0x00080058;
+    public static final int Modality = 0x00080060;
+    public static final int ModalitiesInStudy = 0x00080061;
+    public static final int SOPClassesInStudy = 0x00080062;
+    public static final int AnatomicRegionsInStudyCodeSequence = 0x00080063;
+    public static final int ConversionType = 0x00080064;
+    public static final int PresentationIntentType = 0x00080068;
+    public static final int Manufacturer = 0x00080070;
+    public static final int InstitutionName = 0x00080080;
+    public static final int InstitutionAddress = 0x00080081;
+    public static final int InstitutionCodeSequence = 0x00080082;
+    public static final int ReferringPhysicianName = 0x00080090;
+    public static final int ReferringPhysicianAddress = 0x00080092;
+    public static final int ReferringPhysicianTelephoneNumbers = 0x00080094;
+    public static final int ReferringPhysicianIdentificationSequence = 0x00080096;
+    public static final int ConsultingPhysicianName = 0x0008009C;
+    public static final int ConsultingPhysicianIdentificationSequence = 0x0008009D;
+    public static final int CodeValue = 0x00080100;
+    public static final int ExtendedCodeValue = 0x00080101;
+    public static final int CodingSchemeDesignator = 0x00080102;
+    public static final int CodingSchemeVersion = 0x00080103;
+    public static final int CodeMeaning = 0x00080104;
+    public static final int MappingResource = 0x00080105;
+    public static final int ContextGroupVersion = 0x00080106;
+    public static final int ContextGroupLocalVersion = 0x00080107;
+    public static final int ExtendedCodeMeaning = 0x00080108;
+    public static final int CodingSchemeResourcesSequence = 0x00080109;
+    public static final int CodingSchemeURLType = 0x0008010A;
+    public static final int ContextGroupExtensionFlag = 0x0008010B;
+    public static final int CodingSchemeUID = 0x0008010C;
+    public static final int ContextGroupExtensionCreatorUID = 0x0008010D;
+    public static final int CodingSchemeURL = 0x0008010E;
+    public static final int ContextIdentifier = 0x0008010F;
+    public static final int CodingSchemeIdentificationSequence = 0x00080110;
+    public static final int CodingSchemeRegistry = 0x00080112;
+    public static final int CodingSchemeExternalID = 0x00080114;
+    public static final int CodingSchemeName = 0x00080115;
+    public static final int CodingSchemeResponsibleOrganization = 0x00080116;
+    public static final int ContextUID = 0x00080117;
+    public static final int MappingResourceUID = 0x00080118;
+    public static final int LongCodeValue = 0x00080119;
+    public static final int URNCodeValue = 0x00080120;
+    public static final int EquivalentCodeSequence = 0x00080121;
+    public static final int MappingResourceName = 0x00080122;
+    public static final int ContextGroupIdentificationSequence = 0x00080123;
+    public static final int MappingResourceIdentificationSequence = 0x00080124;
+    public static final int TimezoneOffsetFromUTC = 0x00080201;
+    public static final int ResponsibleGroupCodeSequence = 0x00080220;
+    public static final int EquipmentModality = 0x00080221;
+    public static final int ManufacturerRelatedModelGroup = 0x00080222;
+    public static final int PrivateDataElementCharacteristicsSequence = 0x00080300;
+    public static final int PrivateGroupReference = 0x00080301;
+    public static final int PrivateCreatorReference = 0x00080302;
+    public static final int BlockIdentifyingInformationStatus = 0x00080303;
+    public static final int NonidentifyingPrivateElements = 0x00080304;
+    public static final int DeidentificationActionSequence = 0x00080305;
+    public static final int IdentifyingPrivateElements = 0x00080306;
+    public static final int DeidentificationAction = 0x00080307;
+    public static final int PrivateDataElement = 0x00080308;
+    public static final int PrivateDataElementValueMultiplicity = 0x00080309;
+    public static final int PrivateDataElementValueRepresentation = 0x0008030A;
+    public static final int PrivateDataElementNumberOfItems = 0x0008030B;
+    public static final int PrivateDataElementName = 0x0008030C;
+    public static final int PrivateDataElementKeyword = 0x0008030D;
+    public static final int PrivateDataElementDescription = 0x0008030E;
+    public static final int PrivateDataElementEncoding = 0x0008030F;
+    public static final int PrivateDataElementDefinitionSequence = 0x00080310;
+    public static final int StationName = 0x00081010;
+    public static final int StudyDescription = 0x00081030;
+    public static final int ProcedureCodeSequence = 0x00081032;
+    public static final int SeriesDescription = 0x0008103E;
+    public static final int SeriesDescriptionCodeSequence = 0x0008103F;
+    public static final int InstitutionalDepartmentName = 0x00081040;
+    public static final int InstitutionalDepartmentTypeCodeSequence = 0x00081041;
+    public static final int PhysiciansOfRecord = 0x00081048;
+    public static final int PhysiciansOfRecordIdentificationSequence = 0x00081049;
+    public static final int PerformingPhysicianName = 0x00081050;
+    public static final int PerformingPhysicianIdentificationSequence = 0x00081052;
+    public static final int NameOfPhysiciansReadingStudy = 0x00081060;
+    public static final int PhysiciansReadingStudyIdentificationSequence = 0x00081062;
+    public static final int OperatorsName = 0x00081070;
+    public static final int OperatorIdentificationSequence = 0x00081072;
+    public static final int AdmittingDiagnosesDescription = 0x00081080;
+    public static final int AdmittingDiagnosesCodeSequence = 0x00081084;
+    public static final int ManufacturerModelName = 0x00081090;
+    public static final int ReferencedStudySequence = 0x00081110;
+    public static final int ReferencedPerformedProcedureStepSequence = 0x00081111;
+    public static final int ReferencedSeriesSequence = 0x00081115;
+    public static final int ReferencedPatientSequence = 0x00081120;
+    public static final int ReferencedVisitSequence = 0x00081125;
+    public static final int ReferencedStereometricInstanceSequence = 0x00081134;
+    public static final int ReferencedWaveformSequence = 0x0008113A;
+    public static final int ReferencedImageSequence = 0x00081140;
+    public static final int ReferencedInstanceSequence = 0x0008114A;
+    public static final int ReferencedRealWorldValueMappingInstanceSequence = 0x0008114B;
+    public static final int ReferencedSOPClassUID = 0x00081150;
+    public static final int ReferencedSOPInstanceUID = 0x00081155;
+    public static final int DefinitionSourceSequence = 0x00081156;
+    public static final int SOPClassesSupported = 0x0008115A;
+    public static final int ReferencedFrameNumber = 0x00081160;
+    public static final int SimpleFrameList = 0x00081161;
+    public static final int CalculatedFrameList = 0x00081162;
+    public static final int TimeRange = 0x00081163;
+    public static final int FrameExtractionSequence = 0x00081164;
+    public static final int MultiFrameSourceSOPInstanceUID = 0x00081167;
+    public static final int RetrieveURL = 0x00081190;
+    public static final int TransactionUID = 0x00081195;
+    public static final int WarningReason = 0x00081196;
+    public static final int FailureReason = 0x00081197;
+    public static final int FailedSOPSequence = 0x00081198;
+    public static final int ReferencedSOPSequence = 0x00081199;
+    public static final int OtherFailuresSequence = 0x0008119A;
+    public static final int StudiesContainingOtherReferencedInstancesSequence = 0x00081200;
+    public static final int RelatedSeriesSequence = 0x00081250;
+    public static final int DerivationDescription = 0x00082111;
+    public static final int SourceImageSequence = 0x00082112;
+    public static final int StageName = 0x00082120;
+    public static final int StageNumber = 0x00082122;
+    public static final int NumberOfStages = 0x00082124;
+    public static final int ViewName = 0x00082127;
+    public static final int ViewNumber = 0x00082128;
+    public static final int NumberOfEventTimers = 0x00082129;
+    public static final int NumberOfViewsInStage = 0x0008212A;
+    public static final int EventElapsedTimes = 0x00082130;
+    public static final int EventTimerNames = 0x00082132;
+    public static final int EventTimerSequence = 0x00082133;
+    public static final int EventTimeOffset = 0x00082134;
+    public static final int EventCodeSequence = 0x00082135;
+    public static final int StartTrim = 0x00082142;
+    public static final int StopTrim = 0x00082143;
+    public static final int RecommendedDisplayFrameRate = 0x00082144;
+    public static final int AnatomicRegionSequence = 0x00082218;
+    public static final int AnatomicRegionModifierSequence = 0x00082220;
+    public static final int PrimaryAnatomicStructureSequence = 0x00082228;
+    public static final int PrimaryAnatomicStructureModifierSequence = 0x00082230;
+    public static final int AlternateRepresentationSequence = 0x00083001;
+    public static final int AvailableTransferSyntaxUID = 0x00083002;
+    public static final int IrradiationEventUID = 0x00083010;
+    public static final int SourceIrradiationEventSequence = 0x00083011;
+    public static final int RadiopharmaceuticalAdministrationEventUID = 0x00083012;
+    public static final int FrameType = 0x00089007;
+    public static final int ReferencedImageEvidenceSequence = 0x00089092;
+    public static final int ReferencedRawDataSequence = 0x00089121;
+    public static final int CreatorVersionUID = 0x00089123;
+    public static final int DerivationImageSequence = 0x00089124;
+    public static final int SourceImageEvidenceSequence = 0x00089154;
+    public static final int PixelPresentation = 0x00089205;
+    public static final int VolumetricProperties = 0x00089206;
+    public static final int VolumeBasedCalculationTechnique = 0x00089207;
+    public static final int ComplexImageComponent = 0x00089208;
+    public static final int AcquisitionContrast = 0x00089209;
+    public static final int DerivationCodeSequence = 0x00089215;
+    public static final int ReferencedPresentationStateSequence = 0x00089237;
+    public static final int ReferencedOtherPlaneSequence = 0x00089410;
+    public static final int FrameDisplaySequence = 0x00089458;
+    public static final int RecommendedDisplayFrameRateInFloat = 0x00089459;
+    public static final int SkipFrameRangeFlag = 0x00089460;
+    public static final int PatientName = 0x00100010;
+    public static final int PatientID = 0x00100020;
+    public static final int IssuerOfPatientID = 0x00100021;
+    public static final int TypeOfPatientID = 0x00100022;
+    public static final int IssuerOfPatientIDQualifiersSequence = 0x00100024;
+    public static final int SourcePatientGroupIdentificationSequence = 0x00100026;
+    public static final int GroupOfPatientsIdentificationSequence = 0x00100027;
+    public static final int SubjectRelativePositionInImage = 0x00100028;
+    public static final int PatientBirthDate = 0x00100030;
+    public static final int PatientBirthTime = 0x00100032;
+    public static final int PatientBirthDateInAlternativeCalendar = 0x00100033;
+    public static final int PatientDeathDateInAlternativeCalendar = 0x00100034;
+    public static final int PatientAlternativeCalendar = 0x00100035;
+    public static final int PatientSex = 0x00100040;
+    public static final int PatientInsurancePlanCodeSequence = 0x00100050;
+    public static final int PatientPrimaryLanguageCodeSequence = 0x00100101;
+    public static final int PatientPrimaryLanguageModifierCodeSequence = 0x00100102;
+    public static final int QualityControlSubject = 0x00100200;
+    public static final int QualityControlSubjectTypeCodeSequence = 0x00100201;
+    public static final int StrainDescription = 0x00100212;
+    public static final int StrainNomenclature = 0x00100213;
+    public static final int StrainStockNumber = 0x00100214;
+    public static final int StrainSourceRegistryCodeSequence = 0x00100215;
+    public static final int StrainStockSequence = 0x00100216;
+    public static final int StrainSource = 0x00100217;
+    public static final int StrainAdditionalInformation = 0x00100218;
+    public static final int StrainCodeSequence = 0x00100219;
+    public static final int GeneticModificationsSequence = 0x00100221;
+    public static final int GeneticModificationsDescription = 0x00100222;
+    public static final int GeneticModificationsNomenclature = 0x00100223;
+    public static final int GeneticModificationsCodeSequence = 0x00100229;
+    public static final int OtherPatientNames = 0x00101001;
+    public static final int OtherPatientIDsSequence = 0x00101002;
+    public static final int PatientBirthName = 0x00101005;
+    public static final int PatientAge = 0x00101010;
+    public static final int PatientSize = 0x00101020;
+    public static final int PatientSizeCodeSequence = 0x00101021;
+    public static final int PatientBodyMassIndex = 0x00101022;
+    public static final int MeasuredAPDimension = 0x00101023;
+    public static final int MeasuredLateralDimension = 0x00101024;
+    public static final int PatientWeight = 0x00101030;
+    public static final int PatientAddress = 0x00101040;
+    public static final int PatientMotherBirthName = 0x00101060;
+    public static final int MilitaryRank = 0x00101080;
+    public static final int BranchOfService = 0x00101081;
+    public static final int ReferencedPatientPhotoSequence = 0x00101100;
+    public static final int MedicalAlerts = 0x00102000;
+    public static final int Allergies = 0x00102110;
+    public static final int CountryOfResidence = 0x00102150;
+    public static final int RegionOfResidence = 0x00102152;
+    public static final int PatientTelephoneNumbers = 0x00102154;
+    public static final int PatientTelecomInformation = 0x00102155;
+    public static final int EthnicGroup = 0x00102160;
+    public static final int Occupation = 0x00102180;
+    public static final int SmokingStatus = 0x001021A0;
+    public static final int AdditionalPatientHistory = 0x001021B0;
+    public static final int PregnancyStatus = 0x001021C0;
+    public static final int LastMenstrualDate = 0x001021D0;
+    public static final int PatientReligiousPreference = 0x001021F0;
+    public static final int PatientSpeciesDescription = 0x00102201;
+    public static final int PatientSpeciesCodeSequence = 0x00102202;
+    public static final int PatientSexNeutered = 0x00102203;
+    public static final int AnatomicalOrientationType = 0x00102210;
+    public static final int PatientBreedDescription = 0x00102292;
+    public static final int PatientBreedCodeSequence = 0x00102293;
+    public static final int BreedRegistrationSequence = 0x00102294;
+    public static final int BreedRegistrationNumber = 0x00102295;
+    public static final int BreedRegistryCodeSequence = 0x00102296;
+    public static final int ResponsiblePerson = 0x00102297;
+    public static final int ResponsiblePersonRole = 0x00102298;
+    public static final int ResponsibleOrganization = 0x00102299;
+    public static final int PatientComments = 0x00104000;
+    public static final int ExaminedBodyThickness = 0x00109431;
+    public static final int ClinicalTrialSponsorName = 0x00120010;
+    public static final int ClinicalTrialProtocolID = 0x00120020;
+    public static final int ClinicalTrialProtocolName = 0x00120021;
+    public static final int ClinicalTrialSiteID = 0x00120030;
+    public static final int ClinicalTrialSiteName = 0x00120031;
+    public static final int ClinicalTrialSubjectID = 0x00120040;
+    public static final int ClinicalTrialSubjectReadingID = 0x00120042;
+    public static final int ClinicalTrialTimePointID = 0x00120050;
+    public static final int ClinicalTrialTimePointDescription = 0x00120051;
+    public static final int LongitudinalTemporalOffsetFromEvent = 0x00120052;
+    public static final int LongitudinalTemporalEventType = 0x00120053;
+    public static final int ClinicalTrialCoordinatingCenterName = 0x00120060;
+    public static final int PatientIdentityRemoved = 0x00120062;
+    public static final int DeidentificationMethod = 0x00120063;
+    public static final int DeidentificationMethodCodeSequence = 0x00120064;
+    public static final int ClinicalTrialSeriesID = 0x00120071;
+    public static final int ClinicalTrialSeriesDescription = 0x00120072;
+    public static final int ClinicalTrialProtocolEthicsCommitteeName = 0x00120081;
+    public static final int ClinicalTrialProtocolEthicsCommitteeApprovalNumber = 0x00120082;
+    public static final int ConsentForClinicalTrialUseSequence = 0x00120083;
+    public static final int DistributionType = 0x00120084;
+    public static final int ConsentForDistributionFlag = 0x00120085;
+    public static final int EthicsCommitteeApprovalEffectivenessStartDate = 0x00120086;
+    public static final int EthicsCommitteeApprovalEffectivenessEndDate = 0x00120087;
+    public static final int ComponentManufacturingProcedure = 0x00140025;
+    public static final int ComponentManufacturer = 0x00140028;
+    public static final int MaterialThickness = 0x00140030;
+    public static final int MaterialPipeDiameter = 0x00140032;
+    public static final int MaterialIsolationDiameter = 0x00140034;
+    public static final int MaterialGrade = 0x00140042;
+    public static final int MaterialPropertiesDescription = 0x00140044;
+    public static final int MaterialNotes = 0x00140046;
+    public static final int ComponentShape = 0x00140050;
+    public static final int CurvatureType = 0x00140052;
+    public static final int OuterDiameter = 0x00140054;
+    public static final int InnerDiameter = 0x00140056;
+    public static final int ComponentWelderIDs = 0x00140100;
+    public static final int SecondaryApprovalStatus = 0x00140101;
+    public static final int SecondaryReviewDate = 0x00140102;
+    public static final int SecondaryReviewTime = 0x00140103;
+    public static final int SecondaryReviewerName = 0x00140104;
+    public static final int RepairID = 0x00140105;
+    public static final int MultipleComponentApprovalSequence = 0x00140106;
+    public static final int OtherApprovalStatus = 0x00140107;
+    public static final int OtherSecondaryApprovalStatus = 0x00140108;
+    public static final int ActualEnvironmentalConditions = 0x00141010;
+    public static final int ExpiryDate = 0x00141020;
+    public static final int EnvironmentalConditions = 0x00141040;
+    public static final int EvaluatorSequence = 0x00142002;
+    public static final int EvaluatorNumber = 0x00142004;
+    public static final int EvaluatorName = 0x00142006;
+    public static final int EvaluationAttempt = 0x00142008;
+    public static final int IndicationSequence = 0x00142012;
+    public static final int IndicationNumber = 0x00142014;
+    public static final int IndicationLabel = 0x00142016;
+    public static final int IndicationDescription = 0x00142018;
+    public static final int IndicationType = 0x0014201A;
+    public static final int IndicationDisposition = 0x0014201C;
+    public static final int IndicationROISequence = 0x0014201E;
+    public static final int IndicationPhysicalPropertySequence = 0x00142030;
+    public static final int PropertyLabel = 0x00142032;
+    public static final int CoordinateSystemNumberOfAxes = 0x00142202;
+    public static final int CoordinateSystemAxesSequence = 0x00142204;
+    public static final int CoordinateSystemAxisDescription = 0x00142206;
+    public static final int CoordinateSystemDataSetMapping = 0x00142208;
+    public static final int CoordinateSystemAxisNumber = 0x0014220A;
+    public static final int CoordinateSystemAxisType = 0x0014220C;
+    public static final int CoordinateSystemAxisUnits = 0x0014220E;
+    public static final int CoordinateSystemAxisValues = 0x00142210;
+    public static final int CoordinateSystemTransformSequence = 0x00142220;
+    public static final int TransformDescription = 0x00142222;
+    public static final int TransformNumberOfAxes = 0x00142224;
+    public static final int TransformOrderOfAxes = 0x00142226;
+    public static final int TransformedAxisUnits = 0x00142228;
+    public static final int CoordinateSystemTransformRotationAndScaleMatrix = 0x0014222A;
+    public static final int CoordinateSystemTransformTranslationMatrix = 0x0014222C;
+    public static final int InternalDetectorFrameTime = 0x00143011;
+    public static final int NumberOfFramesIntegrated = 0x00143012;
+    public static final int DetectorTemperatureSequence = 0x00143020;
+    public static final int SensorName = 0x00143022;
+    public static final int HorizontalOffsetOfSensor = 0x00143024;
+    public static final int VerticalOffsetOfSensor = 0x00143026;
+    public static final int SensorTemperature = 0x00143028;
+    public static final int DarkCurrentSequence = 0x00143040;
+    public static final int DarkCurrentCounts = 0x00143050;
+    public static final int GainCorrectionReferenceSequence = 0x00143060;
+    public static final int AirCounts = 0x00143070;
+    public static final int KVUsedInGainCalibration = 0x00143071;
+    public static final int MAUsedInGainCalibration = 0x00143072;
+    public static final int NumberOfFramesUsedForIntegration = 0x00143073;
+    public static final int FilterMaterialUsedInGainCalibration = 0x00143074;
+    public static final int FilterThicknessUsedInGainCalibration = 0x00143075;
+    public static final int DateOfGainCalibration = 0x00143076;
+    public static final int TimeOfGainCalibration = 0x00143077;
+    public static final int BadPixelImage = 0x00143080;
+    public static final int CalibrationNotes = 0x00143099;
+    public static final int PulserEquipmentSequence = 0x00144002;
+    public static final int PulserType = 0x00144004;
+    public static final int PulserNotes = 0x00144006;
+    public static final int ReceiverEquipmentSequence = 0x00144008;
+    public static final int AmplifierType = 0x0014400A;
+    public static final int ReceiverNotes = 0x0014400C;
+    public static final int PreAmplifierEquipmentSequence = 0x0014400E;
+    public static final int PreAmplifierNotes = 0x0014400F;
+    public static final int TransmitTransducerSequence = 0x00144010;
+    public static final int ReceiveTransducerSequence = 0x00144011;
+    public static final int NumberOfElements = 0x00144012;
+    public static final int ElementShape = 0x00144013;
+    public static final int ElementDimensionA = 0x00144014;
+    public static final int ElementDimensionB = 0x00144015;
+    public static final int ElementPitchA = 0x00144016;
+    public static final int MeasuredBeamDimensionA = 0x00144017;
+    public static final int MeasuredBeamDimensionB = 0x00144018;
+    public static final int LocationOfMeasuredBeamDiameter = 0x00144019;
+    public static final int NominalFrequency = 0x0014401A;
+    public static final int MeasuredCenterFrequency = 0x0014401B;
+    public static final int MeasuredBandwidth = 0x0014401C;
+    public static final int ElementPitchB = 0x0014401D;
+    public static final int PulserSettingsSequence = 0x00144020;
+    public static final int PulseWidth = 0x00144022;
+    public static final int ExcitationFrequency = 0x00144024;
+    public static final int ModulationType = 0x00144026;
+    public static final int Damping = 0x00144028;
+    public static final int ReceiverSettingsSequence = 0x00144030;
+    public static final int AcquiredSoundpathLength = 0x00144031;
+    public static final int AcquisitionCompressionType = 0x00144032;
+    public static final int AcquisitionSampleSize = 0x00144033;
+    public static final int RectifierSmoothing = 0x00144034;
+    public static final int DACSequence = 0x00144035;
+    public static final int DACType = 0x00144036;
+    public static final int DACGainPoints = 0x00144038;
+    public static final int DACTimePoints = 0x0014403A;
+    public static final int DACAmplitude = 0x0014403C;
+    public static final int PreAmplifierSettingsSequence = 0x00144040;
+    public static final int TransmitTransducerSettingsSequence = 0x00144050;
+    public static final int ReceiveTransducerSettingsSequence = 0x00144051;
+    public static final int IncidentAngle = 0x00144052;
+    public static final int CouplingTechnique = 0x00144054;
+    public static final int CouplingMedium = 0x00144056;
+    public static final int CouplingVelocity = 0x00144057;
+    public static final int ProbeCenterLocationX = 0x00144058;
+    public static final int ProbeCenterLocationZ = 0x00144059;
+    public static final int SoundPathLength = 0x0014405A;
+    public static final int DelayLawIdentifier = 0x0014405C;
+    public static final int GateSettingsSequence = 0x00144060;
+    public static final int GateThreshold = 0x00144062;
+    public static final int VelocityOfSound = 0x00144064;
+    public static final int CalibrationSettingsSequence = 0x00144070;
+    public static final int CalibrationProcedure = 0x00144072;
+    public static final int ProcedureVersion = 0x00144074;
+    public static final int ProcedureCreationDate = 0x00144076;
+    public static final int ProcedureExpirationDate = 0x00144078;
+    public static final int ProcedureLastModifiedDate = 0x0014407A;
+    public static final int CalibrationTime = 0x0014407C;
+    public static final int CalibrationDate = 0x0014407E;
+    public static final int ProbeDriveEquipmentSequence = 0x00144080;
+    public static final int DriveType = 0x00144081;
+    public static final int ProbeDriveNotes = 0x00144082;
+    public static final int DriveProbeSequence = 0x00144083;
+    public static final int ProbeInductance = 0x00144084;
+    public static final int ProbeResistance = 0x00144085;
+    public static final int ReceiveProbeSequence = 0x00144086;
+    public static final int ProbeDriveSettingsSequence = 0x00144087;
+    public static final int BridgeResistors = 0x00144088;
+    public static final int ProbeOrientationAngle = 0x00144089;
+    public static final int UserSelectedGainY = 0x0014408B;
+    public static final int UserSelectedPhase = 0x0014408C;
+    public static final int UserSelectedOffsetX = 0x0014408D;
+    public static final int UserSelectedOffsetY = 0x0014408E;
+    public static final int ChannelSettingsSequence = 0x00144091;
+    public static final int ChannelThreshold = 0x00144092;
+    public static final int ScannerSettingsSequence = 0x0014409A;
+    public static final int ScanProcedure = 0x0014409B;
+    public static final int TranslationRateX = 0x0014409C;
+    public static final int TranslationRateY = 0x0014409D;
+    public static final int ChannelOverlap = 0x0014409F;
+    public static final int ImageQualityIndicatorType = 0x001440A0;
+    public static final int ImageQualityIndicatorMaterial = 0x001440A1;
+    public static final int ImageQualityIndicatorSize = 0x001440A2;
+    public static final int LINACEnergy = 0x00145002;
+    public static final int LINACOutput = 0x00145004;
+    public static final int ActiveAperture = 0x00145100;
+    public static final int TotalAperture = 0x00145101;
+    public static final int ApertureElevation = 0x00145102;
+    public static final int MainLobeAngle = 0x00145103;
+    public static final int MainRoofAngle = 0x00145104;
+    public static final int ConnectorType = 0x00145105;
+    public static final int WedgeModelNumber = 0x00145106;
+    public static final int WedgeAngleFloat = 0x00145107;
+    public static final int WedgeRoofAngle = 0x00145108;
+    public static final int WedgeElement1Position = 0x00145109;
+    public static final int WedgeMaterialVelocity = 0x0014510A;
+    public static final int WedgeMaterial = 0x0014510B;
+    public static final int WedgeOffsetZ = 0x0014510C;
+    public static final int WedgeOriginOffsetX = 0x0014510D;
+    public static final int WedgeTimeDelay = 0x0014510E;
+    public static final int WedgeName = 0x0014510F;
+    public static final int WedgeManufacturerName = 0x00145110;
+    public static final int WedgeDescription = 0x00145111;
+    public static final int NominalBeamAngle = 0x00145112;
+    public static final int WedgeOffsetX = 0x00145113;
+    public static final int WedgeOffsetY = 0x00145114;
+    public static final int WedgeTotalLength = 0x00145115;
+    public static final int WedgeInContactLength = 0x00145116;
+    public static final int WedgeFrontGap = 0x00145117;
+    public static final int WedgeTotalHeight = 0x00145118;
+    public static final int WedgeFrontHeight = 0x00145119;
+    public static final int WedgeRearHeight = 0x0014511A;
+    public static final int WedgeTotalWidth = 0x0014511B;
+    public static final int WedgeInContactWidth = 0x0014511C;
+    public static final int WedgeChamferHeight = 0x0014511D;
+    public static final int WedgeCurve = 0x0014511E;
+    public static final int RadiusAlongWedge = 0x0014511F;
+    public static final int WhitePoint = 0x00160001;
+    public static final int PrimaryChromaticities = 0x00160002;
+    public static final int BatteryLevel = 0x00160003;
+    public static final int ExposureTimeInSeconds = 0x00160004;
+    public static final int FNumber = 0x00160005;
+    public static final int OECFRows = 0x00160006;
+    public static final int OECFColumns = 0x00160007;
+    public static final int OECFColumnNames = 0x00160008;
+    public static final int OECFValues = 0x00160009;
+    public static final int SpatialFrequencyResponseRows = 0x0016000A;
+    public static final int SpatialFrequencyResponseColumns = 0x0016000B;
+    public static final int SpatialFrequencyResponseColumnNames = 0x0016000C;
+    public static final int SpatialFrequencyResponseValues = 0x0016000D;
+    public static final int ColorFilterArrayPatternRows = 0x0016000E;
+    public static final int ColorFilterArrayPatternColumns = 0x0016000F;
+    public static final int ColorFilterArrayPatternValues = 0x00160010;
+    public static final int FlashFiringStatus = 0x00160011;
+    public static final int FlashReturnStatus = 0x00160012;
+    public static final int FlashMode = 0x00160013;
+    public static final int FlashFunctionPresent = 0x00160014;
+    public static final int FlashRedEyeMode = 0x00160015;
+    public static final int ExposureProgram = 0x00160016;
+    public static final int SpectralSensitivity = 0x00160017;
+    public static final int PhotographicSensitivity = 0x00160018;
+    public static final int SelfTimerMode = 0x00160019;
+    public static final int SensitivityType = 0x0016001A;
+    public static final int StandardOutputSensitivity = 0x0016001B;
+    public static final int RecommendedExposureIndex = 0x0016001C;
+    public static final int ISOSpeed = 0x0016001D;
+    public static final int ISOSpeedLatitudeyyy = 0x0016001E;
+    public static final int ISOSpeedLatitudezzz = 0x0016001F;
+    public static final int EXIFVersion = 0x00160020;
+    public static final int ShutterSpeedValue = 0x00160021;
+    public static final int ApertureValue = 0x00160022;
+    public static final int BrightnessValue = 0x00160023;
+    public static final int ExposureBiasValue = 0x00160024;
+    public static final int MaxApertureValue = 0x00160025;
+    public static final int SubjectDistance = 0x00160026;
+    public static final int MeteringMode = 0x00160027;
+    public static final int LightSource = 0x00160028;
+    public static final int FocalLength = 0x00160029;
+    public static final int SubjectArea = 0x0016002A;
+    public static final int MakerNote = 0x0016002B;
+    public static final int Temperature = 0x00160030;
+    public static final int Humidity = 0x00160031;
+    public static final int Pressure = 0x00160032;
+    public static final int WaterDepth = 0x00160033;
+    public static final int Acceleration = 0x00160034;
+    public static final int CameraElevationAngle = 0x00160035;
+    public static final int FlashEnergy = 0x00160036;
+    public static final int SubjectLocation = 0x00160037;
+    public static final int PhotographicExposureIndex = 0x00160038;
+    public static final int SensingMethod = 0x00160039;
+    public static final int FileSource = 0x0016003A;
+    public static final int SceneType = 0x0016003B;
+    public static final int CustomRendered = 0x00160041;
+    public static final int ExposureMode = 0x00160042;
+    public static final int WhiteBalance = 0x00160043;
+    public static final int DigitalZoomRatio = 0x00160044;
+    public static final int FocalLengthIn35mmFilm = 0x00160045;
+    public static final int SceneCaptureType = 0x00160046;
+    public static final int GainControl = 0x00160047;
+    public static final int Contrast = 0x00160048;
+    public static final int Saturation = 0x00160049;
+    public static final int Sharpness = 0x0016004A;
+    public static final int DeviceSettingDescription = 0x0016004B;
+    public static final int SubjectDistanceRange = 0x0016004C;
+    public static final int CameraOwnerName = 0x0016004D;
+    public static final int LensSpecification = 0x0016004E;
+    public static final int LensMake = 0x0016004F;
+    public static final int LensModel = 0x00160050;
+    public static final int LensSerialNumber = 0x00160051;
+    public static final int InteroperabilityIndex = 0x00160061;
+    public static final int InteroperabilityVersion = 0x00160062;
+    public static final int GPSVersionID = 0x00160070;
+    public static final int GPSLatitudeRef = 0x00160071;
+    public static final int GPSLatitude = 0x00160072;
+    public static final int GPSLongitudeRef = 0x00160073;
+    public static final int GPSLongitude = 0x00160074;
+    public static final int GPSAltitudeRef = 0x00160075;
+    public static final int GPSAltitude = 0x00160076;
+    public static final int GPSTimeStamp = 0x00160077;
+    public static final int GPSSatellites = 0x00160078;
+    public static final int GPSStatus = 0x00160079;
+    public static final int GPSMeasureMode = 0x0016007A;
+    public static final int GPSDOP = 0x0016007B;
+    public static final int GPSSpeedRef = 0x0016007C;
+    public static final int GPSSpeed = 0x0016007D;
+    public static final int GPSTrackRef = 0x0016007E;
+    public static final int GPSTrack = 0x0016007F;
+    public static final int GPSImgDirectionRef = 0x00160080;
+    public static final int GPSImgDirection = 0x00160081;
+    public static final int GPSMapDatum = 0x00160082;
+    public static final int GPSDestLatitudeRef = 0x00160083;
+    public static final int GPSDestLatitude = 0x00160084;
+    public static final int GPSDestLongitudeRef = 0x00160085;
+    public static final int GPSDestLongitude = 0x00160086;
+    public static final int GPSDestBearingRef = 0x00160087;
+    public static final int GPSDestBearing = 0x00160088;
+    public static final int GPSDestDistanceRef = 0x00160089;
+    public static final int GPSDestDistance = 0x0016008A;
+    public static final int GPSProcessingMethod = 0x0016008B;
+    public static final int GPSAreaInformation = 0x0016008C;
+    public static final int GPSDateStamp = 0x0016008D;
+    public static final int GPSDifferential = 0x0016008E;
+    public static final int LightSourcePolarization = 0x00161001;
+    public static final int EmitterColorTemperature = 0x00161002;
+    public static final int ContactMethod = 0x00161003;
+    public static final int ImmersionMedia = 0x00161004;
+    public static final int OpticalMagnificationFactor = 0x00161005;
+    public static final int ContrastBolusAgent = 0x00180010;
+    public static final int ContrastBolusAgentSequence = 0x00180012;
+    public static final int ContrastBolusT1Relaxivity = 0x00180013;
+    public static final int ContrastBolusAdministrationRouteSequence = 0x00180014;
+    public static final int BodyPartExamined = 0x00180015;
+    public static final int ScanningSequence = 0x00180020;
+    public static final int SequenceVariant = 0x00180021;
+    public static final int ScanOptions = 0x00180022;
+    public static final int MRAcquisitionType = 0x00180023;
+    public static final int SequenceName = 0x00180024;
+    public static final int AngioFlag = 0x00180025;
+    public static final int InterventionDrugInformationSequence = 0x00180026;
+    public static final int InterventionDrugStopTime = 0x00180027;
+    public static final int InterventionDrugDose = 0x00180028;
+    public static final int InterventionDrugCodeSequence = 0x00180029;
+    public static final int AdditionalDrugSequence = 0x0018002A;
+    public static final int Radiopharmaceutical = 0x00180031;
+    public static final int InterventionDrugName = 0x00180034;
+    public static final int InterventionDrugStartTime = 0x00180035;
+    public static final int InterventionSequence = 0x00180036;
+    public static final int InterventionStatus = 0x00180038;
+    public static final int InterventionDescription = 0x0018003A;
+    public static final int CineRate = 0x00180040;
+    public static final int InitialCineRunState = 0x00180042;
+    public static final int SliceThickness = 0x00180050;
+    public static final int KVP = 0x00180060;
+    public static final int CountsAccumulated = 0x00180070;
+    public static final int AcquisitionTerminationCondition = 0x00180071;
+    public static final int EffectiveDuration = 0x00180072;
+    public static final int AcquisitionStartCondition = 0x00180073;
+    public static final int AcquisitionStartConditionData = 0x00180074;
+    public static final int AcquisitionTerminationConditionData = 0x00180075;
+    public static final int RepetitionTime = 0x00180080;
+    public static final int EchoTime = 0x00180081;
+    public static final int InversionTime = 0x00180082;
+    public static final int NumberOfAverages = 0x00180083;
+    public static final int ImagingFrequency = 0x00180084;
+    public static final int ImagedNucleus = 0x00180085;
+    public static final int EchoNumbers = 0x00180086;
+    public static final int MagneticFieldStrength = 0x00180087;
+    public static final int SpacingBetweenSlices = 0x00180088;
+    public static final int NumberOfPhaseEncodingSteps = 0x00180089;
+    public static final int DataCollectionDiameter = 0x00180090;
+    public static final int EchoTrainLength = 0x00180091;
+    public static final int PercentSampling = 0x00180093;
+    public static final int PercentPhaseFieldOfView = 0x00180094;
+    public static final int PixelBandwidth = 0x00180095;
+    public static final int DeviceSerialNumber = 0x00181000;
+    public static final int DeviceUID = 0x00181002;
+    public static final int DeviceID = 0x00181003;
+    public static final int PlateID = 0x00181004;
+    public static final int GeneratorID = 0x00181005;
+    public static final int GridID = 0x00181006;
+    public static final int CassetteID = 0x00181007;
+    public static final int GantryID = 0x00181008;
+    public static final int UniqueDeviceIdentifier = 0x00181009;
+    public static final int UDISequence = 0x0018100A;
+    public static final int ManufacturerDeviceClassUID = 0x0018100B;
+    public static final int SecondaryCaptureDeviceID = 0x00181010;
+    public static final int DateOfSecondaryCapture = 0x00181012;
+    public static final int TimeOfSecondaryCapture = 0x00181014;
+    public static final int SecondaryCaptureDeviceManufacturer = 0x00181016;
+    public static final int SecondaryCaptureDeviceManufacturerModelName = 0x00181018;
+    public static final int SecondaryCaptureDeviceSoftwareVersions = 0x00181019;
+    public static final int SoftwareVersions = 0x00181020;
+    public static final int VideoImageFormatAcquired = 0x00181022;
+    public static final int DigitalImageFormatAcquired = 0x00181023;
+    public static final int ProtocolName = 0x00181030;
+    public static final int ContrastBolusRoute = 0x00181040;
+    public static final int ContrastBolusVolume = 0x00181041;
+    public static final int ContrastBolusStartTime = 0x00181042;
+    public static final int ContrastBolusStopTime = 0x00181043;
+    public static final int ContrastBolusTotalDose = 0x00181044;
+    public static final int SyringeCounts = 0x00181045;
+    public static final int ContrastFlowRate = 0x00181046;
+    public static final int ContrastFlowDuration = 0x00181047;
+    public static final int ContrastBolusIngredient = 0x00181048;
+    public static final int ContrastBolusIngredientConcentration = 0x00181049;
+    public static final int SpatialResolution = 0x00181050;
+    public static final int TriggerTime = 0x00181060;
+    public static final int TriggerSourceOrType = 0x00181061;
+    public static final int NominalInterval = 0x00181062;
+    public static final int FrameTime = 0x00181063;
+    public static final int CardiacFramingType = 0x00181064;
+    public static final int FrameTimeVector = 0x00181065;
+    public static final int FrameDelay = 0x00181066;
+    public static final int ImageTriggerDelay = 0x00181067;
+    public static final int MultiplexGroupTimeOffset = 0x00181068;
+    public static final int TriggerTimeOffset = 0x00181069;
+    public static final int SynchronizationTrigger = 0x0018106A;
+    public static final int SynchronizationChannel = 0x0018106C;
+    public static final int TriggerSamplePosition = 0x0018106E;
+    public static final int RadiopharmaceuticalRoute = 0x00181070;
+    public static final int RadiopharmaceuticalVolume = 0x00181071;
+    public static final int RadiopharmaceuticalStartTime = 0x00181072;
+    public static final int RadiopharmaceuticalStopTime = 0x00181073;
+    public static final int RadionuclideTotalDose = 0x00181074;
+    public static final int RadionuclideHalfLife = 0x00181075;
+    public static final int RadionuclidePositronFraction = 0x00181076;
+    public static final int RadiopharmaceuticalSpecificActivity = 0x00181077;
+    public static final int RadiopharmaceuticalStartDateTime = 0x00181078;
+    public static final int RadiopharmaceuticalStopDateTime = 0x00181079;
+    public static final int BeatRejectionFlag = 0x00181080;
+    public static final int LowRRValue = 0x00181081;
+    public static final int HighRRValue = 0x00181082;
+    public static final int IntervalsAcquired = 0x00181083;
+    public static final int IntervalsRejected = 0x00181084;
+    public static final int PVCRejection = 0x00181085;
+    public static final int SkipBeats = 0x00181086;
+    public static final int HeartRate = 0x00181088;
+    public static final int CardiacNumberOfImages = 0x00181090;
+    public static final int TriggerWindow = 0x00181094;
+    public static final int ReconstructionDiameter = 0x00181100;
+    public static final int DistanceSourceToDetector = 0x00181110;
+    public static final int DistanceSourceToPatient = 0x00181111;
+    public static final int EstimatedRadiographicMagnificationFactor = 0x00181114;
+    public static final int GantryDetectorTilt = 0x00181120;
+    public static final int GantryDetectorSlew = 0x00181121;
+    public static final int TableHeight = 0x00181130;
+    public static final int TableTraverse = 0x00181131;
+    public static final int TableMotion = 0x00181134;
+    public static final int TableVerticalIncrement = 0x00181135;
+    public static final int TableLateralIncrement = 0x00181136;
+    public static final int TableLongitudinalIncrement = 0x00181137;
+    public static final int TableAngle = 0x00181138;
+    public static final int TableType = 0x0018113A;
+    public static final int RotationDirection = 0x00181140;
+    public static final int RadialPosition = 0x00181142;
+    public static final int ScanArc = 0x00181143;
+    public static final int AngularStep = 0x00181144;
+    public static final int CenterOfRotationOffset = 0x00181145;
+    public static final int FieldOfViewShape = 0x00181147;
+    public static final int FieldOfViewDimensions = 0x00181149;
+    public static final int ExposureTime = 0x00181150;
+    public static final int XRayTubeCurrent = 0x00181151;
+    public static final int Exposure = 0x00181152;
+    public static final int ExposureInuAs = 0x00181153;
+    public static final int AveragePulseWidth = 0x00181154;
+    public static final int RadiationSetting = 0x00181155;
+    public static final int RectificationType = 0x00181156;
+    public static final int RadiationMode = 0x0018115A;
+    public static final int ImageAndFluoroscopyAreaDoseProduct = 0x0018115E;
+    public static final int FilterType = 0x00181160;
+    public static final int TypeOfFilters = 0x00181161;
+    public static final int IntensifierSize = 0x00181162;
+    public static final int ImagerPixelSpacing = 0x00181164;
+    public static final int Grid = 0x00181166;
+    public static final int GeneratorPower = 0x00181170;
+    public static final int CollimatorGridName = 0x00181180;
+    public static final int CollimatorType = 0x00181181;
+    public static final int FocalDistance = 0x00181182;
+    public static final int XFocusCenter = 0x00181183;
+    public static final int YFocusCenter = 0x00181184;
+    public static final int FocalSpots = 0x00181190;
+    public static final int AnodeTargetMaterial = 0x00181191;
+    public static final int BodyPartThickness = 0x001811A0;
+    public static final int CompressionForce = 0x001811A2;
+    public static final int CompressionPressure = 0x001811A3;
+    public static final int PaddleDescription = 0x001811A4;
+    public static final int CompressionContactArea = 0x001811A5;
+    public static final int DateOfLastCalibration = 0x00181200;
+    public static final int TimeOfLastCalibration = 0x00181201;
+    public static final int DateTimeOfLastCalibration = 0x00181202;
+    public static final int ConvolutionKernel = 0x00181210;
+    public static final int ActualFrameDuration = 0x00181242;
+    public static final int CountRate = 0x00181243;
+    public static final int PreferredPlaybackSequencing = 0x00181244;
+    public static final int ReceiveCoilName = 0x00181250;
+    public static final int TransmitCoilName = 0x00181251;
+    public static final int PlateType = 0x00181260;
+    public static final int PhosphorType = 0x00181261;
+    public static final int WaterEquivalentDiameter = 0x00181271;
+    public static final int WaterEquivalentDiameterCalculationMethodCodeSequence = 0x00181272;
+    public static final int ScanVelocity = 0x00181300;
+    public static final int WholeBodyTechnique = 0x00181301;
+    public static final int ScanLength = 0x00181302;
+    public static final int AcquisitionMatrix = 0x00181310;
+    public static final int InPlanePhaseEncodingDirection = 0x00181312;
+    public static final int FlipAngle = 0x00181314;
+    public static final int VariableFlipAngleFlag = 0x00181315;
+    public static final int SAR = 0x00181316;
+    public static final int dBdt = 0x00181318;
+    public static final int B1rms = 0x00181320;
+    public static final int AcquisitionDeviceProcessingDescription = 0x00181400;
+    public static final int AcquisitionDeviceProcessingCode = 0x00181401;
+    public static final int CassetteOrientation = 0x00181402;
+    public static final int CassetteSize = 0x00181403;
+    public static final int ExposuresOnPlate = 0x00181404;
+    public static final int RelativeXRayExposure = 0x00181405;
+    public static final int ExposureIndex = 0x00181411;
+    public static final int TargetExposureIndex = 0x00181412;
+    public static final int DeviationIndex = 0x00181413;
+    public static final int ColumnAngulation = 0x00181450;
+    public static final int TomoLayerHeight = 0x00181460;
+    public static final int TomoAngle = 0x00181470;
+    public static final int TomoTime = 0x00181480;
+    public static final int TomoType = 0x00181490;
+    public static final int TomoClass = 0x00181491;
+    public static final int NumberOfTomosynthesisSourceImages = 0x00181495;
+    public static final int PositionerMotion = 0x00181500;
+    public static final int PositionerType = 0x00181508;
+    public static final int PositionerPrimaryAngle = 0x00181510;
+    public static final int PositionerSecondaryAngle = 0x00181511;
+    public static final int PositionerPrimaryAngleIncrement = 0x00181520;
+    public static final int PositionerSecondaryAngleIncrement = 0x00181521;
+    public static final int DetectorPrimaryAngle = 0x00181530;
+    public static final int DetectorSecondaryAngle = 0x00181531;
+    public static final int ShutterShape = 0x00181600;
+    public static final int ShutterLeftVerticalEdge = 0x00181602;
+    public static final int ShutterRightVerticalEdge = 0x00181604;
+    public static final int ShutterUpperHorizontalEdge = 0x00181606;
+    public static final int ShutterLowerHorizontalEdge = 0x00181608;
+    public static final int CenterOfCircularShutter = 0x00181610;
+    public static final int RadiusOfCircularShutter = 0x00181612;
+    public static final int VerticesOfThePolygonalShutter = 0x00181620;
+    public static final int ShutterPresentationValue = 0x00181622;
+    public static final int ShutterOverlayGroup = 0x00181623;
+    public static final int ShutterPresentationColorCIELabValue = 0x00181624;
+    public static final int OutlineShapeType = 0x00181630;
+    public static final int OutlineLeftVerticalEdge = 0x00181631;
+    public static final int OutlineRightVerticalEdge = 0x00181632;
+    public static final int OutlineUpperHorizontalEdge = 0x00181633;
+    public static final int OutlineLowerHorizontalEdge = 0x00181634;
+    public static final int CenterOfCircularOutline = 0x00181635;
+    public static final int DiameterOfCircularOutline = 0x00181636;
+    public static final int NumberOfPolygonalVertices = 0x00181637;
+    public static final int VerticesOfThePolygonalOutline = 0x00181638;
+    public static final int CollimatorShape = 0x00181700;
+    public static final int CollimatorLeftVerticalEdge = 0x00181702;
+    public static final int CollimatorRightVerticalEdge = 0x00181704;
+    public static final int CollimatorUpperHorizontalEdge = 0x00181706;
+    public static final int CollimatorLowerHorizontalEdge = 0x00181708;
+    public static final int CenterOfCircularCollimator = 0x00181710;
+    public static final int RadiusOfCircularCollimator = 0x00181712;
+    public static final int VerticesOfThePolygonalCollimator = 0x00181720;
+    public static final int AcquisitionTimeSynchronized = 0x00181800;
+    public static final int TimeSource = 0x00181801;
+    public static final int TimeDistributionProtocol = 0x00181802;
+    public static final int NTPSourceAddress = 0x00181803;
+    public static final int PageNumberVector = 0x00182001;
+    public static final int FrameLabelVector = 0x00182002;
+    public static final int FramePrimaryAngleVector = 0x00182003;
+    public static final int FrameSecondaryAngleVector = 0x00182004;
+    public static final int SliceLocationVector = 0x00182005;
+    public static final int DisplayWindowLabelVector = 0x00182006;
+    public static final int NominalScannedPixelSpacing = 0x00182010;
+    public static final int DigitizingDeviceTransportDirection = 0x00182020;
+    public static final int RotationOfScannedFilm = 0x00182030;
+    public static final int BiopsyTargetSequence = 0x00182041;
+    public static final int TargetUID = 0x00182042;
+    public static final int LocalizingCursorPosition = 0x00182043;
+    public static final int CalculatedTargetPosition = 0x00182044;
+    public static final int TargetLabel = 0x00182045;
+    public static final int DisplayedZValue = 0x00182046;
+    public static final int IVUSAcquisition = 0x00183100;
+    public static final int IVUSPullbackRate = 0x00183101;
+    public static final int IVUSGatedRate = 0x00183102;
+    public static final int IVUSPullbackStartFrameNumber = 0x00183103;
+    public static final int IVUSPullbackStopFrameNumber = 0x00183104;
+    public static final int LesionNumber = 0x00183105;
+    public static final int OutputPower = 0x00185000;
+    public static final int TransducerData = 0x00185010;
+    public static final int TransducerIdentificationSequence = 0x00185011;
+    public static final int FocusDepth = 0x00185012;
+    public static final int ProcessingFunction = 0x00185020;
+    public static final int MechanicalIndex = 0x00185022;
+    public static final int BoneThermalIndex = 0x00185024;
+    public static final int CranialThermalIndex = 0x00185026;
+    public static final int SoftTissueThermalIndex = 0x00185027;
+    public static final int SoftTissueFocusThermalIndex = 0x00185028;
+    public static final int SoftTissueSurfaceThermalIndex = 0x00185029;
+    public static final int DepthOfScanField = 0x00185050;
+    public static final int PatientPosition = 0x00185100;
+    public static final int ViewPosition = 0x00185101;
+    public static final int ProjectionEponymousNameCodeSequence = 0x00185104;
+    public static final int Sensitivity = 0x00186000;
+    public static final int SequenceOfUltrasoundRegions = 0x00186011;
+    public static final int RegionSpatialFormat = 0x00186012;
+    public static final int RegionDataType = 0x00186014;
+    public static final int RegionFlags = 0x00186016;
+    public static final int RegionLocationMinX0 = 0x00186018;
+    public static final int RegionLocationMinY0 = 0x0018601A;
+    public static final int RegionLocationMaxX1 = 0x0018601C;
+    public static final int RegionLocationMaxY1 = 0x0018601E;
+    public static final int ReferencePixelX0 = 0x00186020;
+    public static final int ReferencePixelY0 = 0x00186022;
+    public static final int PhysicalUnitsXDirection = 0x00186024;
+    public static final int PhysicalUnitsYDirection = 0x00186026;
+    public static final int ReferencePixelPhysicalValueX = 0x00186028;
+    public static final int ReferencePixelPhysicalValueY = 0x0018602A;
+    public static final int PhysicalDeltaX = 0x0018602C;
+    public static final int PhysicalDeltaY = 0x0018602E;
+    public static final int TransducerFrequency = 0x00186030;
+    public static final int TransducerType = 0x00186031;
+    public static final int PulseRepetitionFrequency = 0x00186032;
+    public static final int DopplerCorrectionAngle = 0x00186034;
+    public static final int SteeringAngle = 0x00186036;
+    public static final int DopplerSampleVolumeXPosition = 0x00186039;
+    public static final int DopplerSampleVolumeYPosition = 0x0018603B;
+    public static final int TMLinePositionX0 = 0x0018603D;
+    public static final int TMLinePositionY0 = 0x0018603F;
+    public static final int TMLinePositionX1 = 0x00186041;
+    public static final int TMLinePositionY1 = 0x00186043;
+    public static final int PixelComponentOrganization = 0x00186044;
+    public static final int PixelComponentMask = 0x00186046;
+    public static final int PixelComponentRangeStart = 0x00186048;
+    public static final int PixelComponentRangeStop = 0x0018604A;
+    public static final int PixelComponentPhysicalUnits = 0x0018604C;
+    public static final int PixelComponentDataType = 0x0018604E;
+    public static final int NumberOfTableBreakPoints = 0x00186050;
+    public static final int TableOfXBreakPoints = 0x00186052;
+    public static final int TableOfYBreakPoints = 0x00186054;
+    public static final int NumberOfTableEntries = 0x00186056;
+    public static final int TableOfPixelValues = 0x00186058;
+    public static final int TableOfParameterValues = 0x0018605A;
+    public static final int RWaveTimeVector = 0x00186060;
+    public static final int DetectorConditionsNominalFlag = 0x00187000;
+    public static final int DetectorTemperature = 0x00187001;
+    public static final int DetectorType = 0x00187004;
+    public static final int DetectorConfiguration = 0x00187005;
+    public static final int DetectorDescription = 0x00187006;
+    public static final int DetectorMode = 0x00187008;
+    public static final int DetectorID = 0x0018700A;
+    public static final int DateOfLastDetectorCalibration = 0x0018700C;
+    public static final int TimeOfLastDetectorCalibration = 0x0018700E;
+    public static final int ExposuresOnDetectorSinceLastCalibration = 0x00187010;
+    public static final int ExposuresOnDetectorSinceManufactured = 0x00187011;
+    public static final int DetectorTimeSinceLastExposure = 0x00187012;
+    public static final int DetectorActiveTime = 0x00187014;
+    public static final int DetectorActivationOffsetFromExposure = 0x00187016;
+    public static final int DetectorBinning = 0x0018701A;
+    public static final int DetectorElementPhysicalSize = 0x00187020;
+    public static final int DetectorElementSpacing = 0x00187022;
+    public static final int DetectorActiveShape = 0x00187024;
+    public static final int DetectorActiveDimensions = 0x00187026;
+    public static final int DetectorActiveOrigin = 0x00187028;
+    public static final int DetectorManufacturerName = 0x0018702A;
+    public static final int DetectorManufacturerModelName = 0x0018702B;
+    public static final int FieldOfViewOrigin = 0x00187030;
+    public static final int FieldOfViewRotation = 0x00187032;
+    public static final int FieldOfViewHorizontalFlip = 0x00187034;
+    public static final int PixelDataAreaOriginRelativeToFOV = 0x00187036;
+    public static final int PixelDataAreaRotationAngleRelativeToFOV = 0x00187038;
+    public static final int GridAbsorbingMaterial = 0x00187040;
+    public static final int GridSpacingMaterial = 0x00187041;
+    public static final int GridThickness = 0x00187042;
+    public static final int GridPitch = 0x00187044;
+    public static final int GridAspectRatio = 0x00187046;
+    public static final int GridPeriod = 0x00187048;
+    public static final int GridFocalDistance = 0x0018704C;
+    public static final int FilterMaterial = 0x00187050;
+    public static final int FilterThicknessMinimum = 0x00187052;
+    public static final int FilterThicknessMaximum = 0x00187054;
+    public static final int FilterBeamPathLengthMinimum = 0x00187056;
+    public static final int FilterBeamPathLengthMaximum = 0x00187058;
+    public static final int ExposureControlMode = 0x00187060;
+    public static final int ExposureControlModeDescription = 0x00187062;
+    public static final int ExposureStatus = 0x00187064;
+    public static final int PhototimerSetting = 0x00187065;
+    public static final int ExposureTimeInuS = 0x00188150;
+    public static final int XRayTubeCurrentInuA = 0x00188151;
+    public static final int ContentQualification = 0x00189004;
+    public static final int PulseSequenceName = 0x00189005;
+    public static final int MRImagingModifierSequence = 0x00189006;
+    public static final int EchoPulseSequence = 0x00189008;
+    public static final int InversionRecovery = 0x00189009;
+    public static final int FlowCompensation = 0x00189010;
+    public static final int MultipleSpinEcho = 0x00189011;
+    public static final int MultiPlanarExcitation = 0x00189012;
+    public static final int PhaseContrast = 0x00189014;
+    public static final int TimeOfFlightContrast = 0x00189015;
+    public static final int Spoiling = 0x00189016;
+    public static final int SteadyStatePulseSequence = 0x00189017;
+    public static final int EchoPlanarPulseSequence = 0x00189018;
+    public static final int MagnetizationTransfer = 0x00189020;
+    public static final int T2Preparation = 0x00189021;
+    public static final int BloodSignalNulling = 0x00189022;
+    public static final int SaturationRecovery = 0x00189024;
+    public static final int SpectrallySelectedSuppression = 0x00189025;
+    public static final int SpectrallySelectedExcitation = 0x00189026;
+    public static final int SpatialPresaturation = 0x00189027;
+    public static final int OversamplingPhase = 0x00189029;
+    public static final int GeometryOfKSpaceTraversal = 0x00189032;
+    public static final int SegmentedKSpaceTraversal = 0x00189033;
+    public static final int RectilinearPhaseEncodeReordering = 0x00189034;
+    public static final int PartialFourierDirection = 0x00189036;
+    public static final int CardiacSynchronizationTechnique = 0x00189037;
+    public static final int ReceiveCoilManufacturerName = 0x00189041;
+    public static final int MRReceiveCoilSequence = 0x00189042;
+    public static final int ReceiveCoilType = 0x00189043;
+    public static final int QuadratureReceiveCoil = 0x00189044;
+    public static final int MultiCoilDefinitionSequence = 0x00189045;
+    public static final int MultiCoilConfiguration = 0x00189046;
+    public static final int MultiCoilElementName = 0x00189047;
+    public static final int MultiCoilElementUsed = 0x00189048;
+    public static final int MRTransmitCoilSequence = 0x00189049;
+    public static final int TransmitCoilManufacturerName = 0x00189050;
+    public static final int TransmitCoilType = 0x00189051;
+    public static final int SpectralWidth = 0x00189052;
+    public static final int ChemicalShiftReference = 0x00189053;
+    public static final int VolumeLocalizationTechnique = 0x00189054;
+    public static final int MRAcquisitionFrequencyEncodingSteps = 0x00189058;
+    public static final int Decoupling = 0x00189059;
+    public static final int DecoupledNucleus = 0x00189060;
+    public static final int DecouplingFrequency = 0x00189061;
+    public static final int DecouplingMethod = 0x00189062;
+    public static final int DecouplingChemicalShiftReference = 0x00189063;
+    public static final int KSpaceFiltering = 0x00189064;
+    public static final int TimeDomainFiltering = 0x00189065;
+    public static final int NumberOfZeroFills = 0x00189066;
+    public static final int BaselineCorrection = 0x00189067;
+    public static final int ParallelReductionFactorInPlane = 0x00189069;
+    public static final int CardiacRRIntervalSpecified = 0x00189070;
+    public static final int AcquisitionDuration = 0x00189073;
+    public static final int FrameAcquisitionDateTime = 0x00189074;
+    public static final int DiffusionDirectionality = 0x00189075;
+    public static final int DiffusionGradientDirectionSequence = 0x00189076;
+    public static final int ParallelAcquisition = 0x00189077;
+    public static final int ParallelAcquisitionTechnique = 0x00189078;
+    public static final int InversionTimes = 0x00189079;
+    public static final int MetaboliteMapDescription = 0x00189080;
+    public static final int PartialFourier = 0x00189081;
+    public static final int EffectiveEchoTime = 0x00189082;
+    public static final int MetaboliteMapCodeSequence = 0x00189083;
+    public static final int ChemicalShiftSequence = 0x00189084;
+    public static final int CardiacSignalSource = 0x00189085;
+    public static final int DiffusionBValue = 0x00189087;
+    public static final int DiffusionGradientOrientation = 0x00189089;
+    public static final int VelocityEncodingDirection = 0x00189090;
+    public static final int VelocityEncodingMinimumValue = 0x00189091;
+    public static final int VelocityEncodingAcquisitionSequence = 0x00189092;
+    public static final int NumberOfKSpaceTrajectories = 0x00189093;
+    public static final int CoverageOfKSpace = 0x00189094;
+    public static final int SpectroscopyAcquisitionPhaseRows = 0x00189095;
+    public static final int TransmitterFrequency = 0x00189098;
+    public static final int ResonantNucleus = 0x00189100;
+    public static final int FrequencyCorrection = 0x00189101;
+    public static final int MRSpectroscopyFOVGeometrySequence = 0x00189103;
+    public static final int SlabThickness = 0x00189104;
+    public static final int SlabOrientation = 0x00189105;
+    public static final int MidSlabPosition = 0x00189106;
+    public static final int MRSpatialSaturationSequence = 0x00189107;
+    public static final int MRTimingAndRelatedParametersSequence = 0x00189112;
+    public static final int MREchoSequence = 0x00189114;
+    public static final int MRModifierSequence = 0x00189115;
+    public static final int MRDiffusionSequence = 0x00189117;
+    public static final int CardiacSynchronizationSequence = 0x00189118;
+    public static final int MRAveragesSequence = 0x00189119;
+    public static final int MRFOVGeometrySequence = 0x00189125;
+    public static final int VolumeLocalizationSequence = 0x00189126;
+    public static final int SpectroscopyAcquisitionDataColumns = 0x00189127;
+    public static final int DiffusionAnisotropyType = 0x00189147;
+    public static final int FrameReferenceDateTime = 0x00189151;
+    public static final int MRMetaboliteMapSequence = 0x00189152;
+    public static final int ParallelReductionFactorOutOfPlane = 0x00189155;
+    public static final int SpectroscopyAcquisitionOutOfPlanePhaseSteps = 0x00189159;
+    public static final int ParallelReductionFactorSecondInPlane = 0x00189168;
+    public static final int CardiacBeatRejectionTechnique = 0x00189169;
+    public static final int RespiratoryMotionCompensationTechnique = 0x00189170;
+    public static final int RespiratorySignalSource = 0x00189171;
+    public static final int BulkMotionCompensationTechnique = 0x00189172;
+    public static final int BulkMotionSignalSource = 0x00189173;
+    public static final int ApplicableSafetyStandardAgency = 0x00189174;
+    public static final int ApplicableSafetyStandardDescription = 0x00189175;
+    public static final int OperatingModeSequence = 0x00189176;
+    public static final int OperatingModeType = 0x00189177;
+    public static final int OperatingMode = 0x00189178;
+    public static final int SpecificAbsorptionRateDefinition = 0x00189179;
+    public static final int GradientOutputType = 0x00189180;
+    public static final int SpecificAbsorptionRateValue = 0x00189181;
+    public static final int GradientOutput = 0x00189182;
+    public static final int FlowCompensationDirection = 0x00189183;
+    public static final int RespiratoryMotionCompensationTechniqueDescription = 0x00189185;
+    public static final int RespiratorySignalSourceID = 0x00189186;
+    public static final int MRVelocityEncodingSequence = 0x00189197;
+    public static final int FirstOrderPhaseCorrection = 0x00189198;
+    public static final int WaterReferencedPhaseCorrection = 0x00189199;
+    public static final int MRSpectroscopyAcquisitionType = 0x00189200;
+    public static final int RespiratoryCyclePosition = 0x00189214;
+    public static final int VelocityEncodingMaximumValue = 0x00189217;
+    public static final int FrameAcquisitionDuration = 0x00189220;
+    public static final int MRImageFrameTypeSequence = 0x00189226;
+    public static final int MRSpectroscopyFrameTypeSequence = 0x00189227;
+    public static final int MRAcquisitionPhaseEncodingStepsInPlane = 0x00189231;
+    public static final int MRAcquisitionPhaseEncodingStepsOutOfPlane = 0x00189232;
+    public static final int SpectroscopyAcquisitionPhaseColumns = 0x00189234;
+    public static final int CardiacCyclePosition = 0x00189236;
+    public static final int SpecificAbsorptionRateSequence = 0x00189239;
+    public static final int RFEchoTrainLength = 0x00189240;
+    public static final int GradientEchoTrainLength = 0x00189241;
+    public static final int ArterialSpinLabelingContrast = 0x00189250;
+    public static final int MRArterialSpinLabelingSequence = 0x00189251;
+    public static final int ASLTechniqueDescription = 0x00189252;
+    public static final int ASLSlabNumber = 0x00189253;
+    public static final int ASLSlabThickness = 0x00189254;
+    public static final int ASLSlabOrientation = 0x00189255;
+    public static final int ASLMidSlabPosition = 0x00189256;
+    public static final int ASLContext = 0x00189257;
+    public static final int ASLPulseTrainDuration = 0x00189258;
+    public static final int ASLCrusherFlag = 0x00189259;
+    public static final int ASLCrusherFlowLimit = 0x0018925A;
+    public static final int ASLCrusherDescription = 0x0018925B;
+    public static final int ASLBolusCutoffFlag = 0x0018925C;
+    public static final int ASLBolusCutoffTimingSequence = 0x0018925D;
+    public static final int ASLBolusCutoffTechnique = 0x0018925E;
+    public static final int ASLBolusCutoffDelayTime = 0x0018925F;
+    public static final int ASLSlabSequence = 0x00189260;
+    public static final int ChemicalShiftMinimumIntegrationLimitInppm = 0x00189295;
+    public static final int ChemicalShiftMaximumIntegrationLimitInppm = 0x00189296;
+    public static final int WaterReferenceAcquisition = 0x00189297;
+    public static final int EchoPeakPosition = 0x00189298;
+    public static final int CTAcquisitionTypeSequence = 0x00189301;
+    public static final int AcquisitionType = 0x00189302;
+    public static final int TubeAngle = 0x00189303;
+    public static final int CTAcquisitionDetailsSequence = 0x00189304;
+    public static final int RevolutionTime = 0x00189305;
+    public static final int SingleCollimationWidth = 0x00189306;
+    public static final int TotalCollimationWidth = 0x00189307;
+    public static final int CTTableDynamicsSequence = 0x00189308;
+    public static final int TableSpeed = 0x00189309;
+    public static final int TableFeedPerRotation = 0x00189310;
+    public static final int SpiralPitchFactor = 0x00189311;
+    public static final int CTGeometrySequence = 0x00189312;
+    public static final int DataCollectionCenterPatient = 0x00189313;
+    public static final int CTReconstructionSequence = 0x00189314;
+    public static final int ReconstructionAlgorithm = 0x00189315;
+    public static final int ConvolutionKernelGroup = 0x00189316;
+    public static final int ReconstructionFieldOfView = 0x00189317;
+    public static final int ReconstructionTargetCenterPatient = 0x00189318;
+    public static final int ReconstructionAngle = 0x00189319;
+    public static final int ImageFilter = 0x00189320;
+    public static final int CTExposureSequence = 0x00189321;
+    public static final int ReconstructionPixelSpacing = 0x00189322;
+    public static final int ExposureModulationType = 0x00189323;
+    public static final int EstimatedDoseSaving = 0x00189324;
+    public static final int CTXRayDetailsSequence = 0x00189325;
+    public static final int CTPositionSequence = 0x00189326;
+    public static final int TablePosition = 0x00189327;
+    public static final int ExposureTimeInms = 0x00189328;
+    public static final int CTImageFrameTypeSequence = 0x00189329;
+    public static final int XRayTubeCurrentInmA = 0x00189330;
+    public static final int ExposureInmAs = 0x00189332;
+    public static final int ConstantVolumeFlag = 0x00189333;
+    public static final int FluoroscopyFlag = 0x00189334;
+    public static final int DistanceSourceToDataCollectionCenter = 0x00189335;
+    public static final int ContrastBolusAgentNumber = 0x00189337;
+    public static final int ContrastBolusIngredientCodeSequence = 0x00189338;
+    public static final int ContrastAdministrationProfileSequence = 0x00189340;
+    public static final int ContrastBolusUsageSequence = 0x00189341;
+    public static final int ContrastBolusAgentAdministered = 0x00189342;
+    public static final int ContrastBolusAgentDetected = 0x00189343;
+    public static final int ContrastBolusAgentPhase = 0x00189344;
+    public static final int CTDIvol = 0x00189345;
+    public static final int CTDIPhantomTypeCodeSequence = 0x00189346;
+    public static final int CalciumScoringMassFactorPatient = 0x00189351;
+    public static final int CalciumScoringMassFactorDevice = 0x00189352;
+    public static final int EnergyWeightingFactor = 0x00189353;
+    public static final int CTAdditionalXRaySourceSequence = 0x00189360;
+    public static final int MultienergyCTAcquisition = 0x00189361;
+    public static final int MultienergyCTAcquisitionSequence = 0x00189362;
+    public static final int MultienergyCTProcessingSequence = 0x00189363;
+    public static final int MultienergyCTCharacteristicsSequence = 0x00189364;
+    public static final int MultienergyCTXRaySourceSequence = 0x00189365;
+    public static final int XRaySourceIndex = 0x00189366;
+    public static final int XRaySourceID = 0x00189367;
+    public static final int MultienergySourceTechnique = 0x00189368;
+    public static final int SourceStartDateTime = 0x00189369;
+    public static final int SourceEndDateTime = 0x0018936A;
+    public static final int SwitchingPhaseNumber = 0x0018936B;
+    public static final int SwitchingPhaseNominalDuration = 0x0018936C;
+    public static final int SwitchingPhaseTransitionDuration = 0x0018936D;
+    public static final int EffectiveBinEnergy = 0x0018936E;
+    public static final int MultienergyCTXRayDetectorSequence = 0x0018936F;
+    public static final int XRayDetectorIndex = 0x00189370;
+    public static final int XRayDetectorID = 0x00189371;
+    public static final int MultienergyDetectorType = 0x00189372;
+    public static final int XRayDetectorLabel = 0x00189373;
+    public static final int NominalMaxEnergy = 0x00189374;
+    public static final int NominalMinEnergy = 0x00189375;
+    public static final int ReferencedXRayDetectorIndex = 0x00189376;
+    public static final int ReferencedXRaySourceIndex = 0x00189377;
+    public static final int ReferencedPathIndex = 0x00189378;
+    public static final int MultienergyCTPathSequence = 0x00189379;
+    public static final int MultienergyCTPathIndex = 0x0018937A;
+    public static final int MultienergyAcquisitionDescription = 0x0018937B;
+    public static final int MonoenergeticEnergyEquivalent = 0x0018937C;
+    public static final int MaterialCodeSequence = 0x0018937D;
+    public static final int DecompositionMethod = 0x0018937E;
+    public static final int DecompositionDescription = 0x0018937F;
+    public static final int DecompositionAlgorithmIdentificationSequence = 0x00189380;
+    public static final int DecompositionMaterialSequence = 0x00189381;
+    public static final int MaterialAttenuationSequence = 0x00189382;
+    public static final int PhotonEnergy = 0x00189383;
+    public static final int XRayMassAttenuationCoefficient = 0x00189384;
+    public static final int ProjectionPixelCalibrationSequence = 0x00189401;
+    public static final int DistanceSourceToIsocenter = 0x00189402;
+    public static final int DistanceObjectToTableTop = 0x00189403;
+    public static final int ObjectPixelSpacingInCenterOfBeam = 0x00189404;
+    public static final int PositionerPositionSequence = 0x00189405;
+    public static final int TablePositionSequence = 0x00189406;
+    public static final int CollimatorShapeSequence = 0x00189407;
+    public static final int PlanesInAcquisition = 0x00189410;
+    public static final int XAXRFFrameCharacteristicsSequence = 0x00189412;
+    public static final int FrameAcquisitionSequence = 0x00189417;
+    public static final int XRayReceptorType = 0x00189420;
+    public static final int AcquisitionProtocolName = 0x00189423;
+    public static final int AcquisitionProtocolDescription = 0x00189424;
+    public static final int ContrastBolusIngredientOpaque = 0x00189425;
+    public static final int DistanceReceptorPlaneToDetectorHousing = 0x00189426;
+    public static final int IntensifierActiveShape = 0x00189427;
+    public static final int IntensifierActiveDimensions = 0x00189428;
+    public static final int PhysicalDetectorSize = 0x00189429;
+    public static final int PositionOfIsocenterProjection = 0x00189430;
+    public static final int FieldOfViewSequence = 0x00189432;
+    public static final int FieldOfViewDescription = 0x00189433;
+    public static final int ExposureControlSensingRegionsSequence = 0x00189434;
+    public static final int ExposureControlSensingRegionShape = 0x00189435;
+    public static final int ExposureControlSensingRegionLeftVerticalEdge = 0x00189436;
+    public static final int ExposureControlSensingRegionRightVerticalEdge = 0x00189437;
+    public static final int ExposureControlSensingRegionUpperHorizontalEdge = 0x00189438;
+    public static final int ExposureControlSensingRegionLowerHorizontalEdge = 0x00189439;
+    public static final int CenterOfCircularExposureControlSensingRegion = 0x00189440;
+    public static final int RadiusOfCircularExposureControlSensingRegion = 0x00189441;
+    public static final int VerticesOfThePolygonalExposureControlSensingRegion = 0x00189442;
+    public static final int ColumnAngulationPatient = 0x00189447;
+    public static final int BeamAngle = 0x00189449;
+    public static final int FrameDetectorParametersSequence = 0x00189451;
+    public static final int CalculatedAnatomyThickness = 0x00189452;
+    public static final int CalibrationSequence = 0x00189455;
+    public static final int ObjectThicknessSequence = 0x00189456;
+    public static final int PlaneIdentification = 0x00189457;
+    public static final int FieldOfViewDimensionsInFloat = 0x00189461;
+    public static final int IsocenterReferenceSystemSequence = 0x00189462;
+    public static final int PositionerIsocenterPrimaryAngle = 0x00189463;
+    public static final int PositionerIsocenterSecondaryAngle = 0x00189464;
+    public static final int PositionerIsocenterDetectorRotationAngle = 0x00189465;
+    public static final int TableXPositionToIsocenter = 0x00189466;
+    public static final int TableYPositionToIsocenter = 0x00189467;
+    public static final int TableZPositionToIsocenter = 0x00189468;
+    public static final int TableHorizontalRotationAngle = 0x00189469;
+    public static final int TableHeadTiltAngle = 0x00189470;
+    public static final int TableCradleTiltAngle = 0x00189471;
+    public static final int FrameDisplayShutterSequence = 0x00189472;
+    public static final int AcquiredImageAreaDoseProduct = 0x00189473;
+    public static final int CArmPositionerTabletopRelationship = 0x00189474;
+    public static final int XRayGeometrySequence = 0x00189476;
+    public static final int IrradiationEventIdentificationSequence = 0x00189477;
+    public static final int XRay3DFrameTypeSequence = 0x00189504;
+    public static final int ContributingSourcesSequence = 0x00189506;
+    public static final int XRay3DAcquisitionSequence = 0x00189507;
+    public static final int PrimaryPositionerScanArc = 0x00189508;
+    public static final int SecondaryPositionerScanArc = 0x00189509;
+    public static final int PrimaryPositionerScanStartAngle = 0x00189510;
+    public static final int SecondaryPositionerScanStartAngle = 0x00189511;
+    public static final int PrimaryPositionerIncrement = 0x00189514;
+    public static final int SecondaryPositionerIncrement = 0x00189515;
+    public static final int StartAcquisitionDateTime = 0x00189516;
+    public static final int EndAcquisitionDateTime = 0x00189517;
+    public static final int PrimaryPositionerIncrementSign = 0x00189518;
+    public static final int SecondaryPositionerIncrementSign = 0x00189519;
+    public static final int ApplicationName = 0x00189524;
+    public static final int ApplicationVersion = 0x00189525;
+    public static final int ApplicationManufacturer = 0x00189526;
+    public static final int AlgorithmType = 0x00189527;
+    public static final int AlgorithmDescription = 0x00189528;
+    public static final int XRay3DReconstructionSequence = 0x00189530;
+    public static final int ReconstructionDescription = 0x00189531;
+    public static final int PerProjectionAcquisitionSequence = 0x00189538;
+    public static final int DetectorPositionSequence = 0x00189541;
+    public static final int XRayAcquisitionDoseSequence = 0x00189542;
+    public static final int XRaySourceIsocenterPrimaryAngle = 0x00189543;
+    public static final int XRaySourceIsocenterSecondaryAngle = 0x00189544;
+    public static final int BreastSupportIsocenterPrimaryAngle = 0x00189545;
+    public static final int BreastSupportIsocenterSecondaryAngle = 0x00189546;
+    public static final int BreastSupportXPositionToIsocenter = 0x00189547;
+    public static final int BreastSupportYPositionToIsocenter = 0x00189548;
+    public static final int BreastSupportZPositionToIsocenter = 0x00189549;
+    public static final int DetectorIsocenterPrimaryAngle = 0x00189550;
+    public static final int DetectorIsocenterSecondaryAngle = 0x00189551;
+    public static final int DetectorXPositionToIsocenter = 0x00189552;
+    public static final int DetectorYPositionToIsocenter = 0x00189553;
+    public static final int DetectorZPositionToIsocenter = 0x00189554;
+    public static final int XRayGridSequence = 0x00189555;
+    public static final int XRayFilterSequence = 0x00189556;
+    public static final int DetectorActiveAreaTLHCPosition = 0x00189557;
+    public static final int DetectorActiveAreaOrientation = 0x00189558;
+    public static final int PositionerPrimaryAngleDirection = 0x00189559;
+    public static final int DiffusionBMatrixSequence = 0x00189601;
+    public static final int DiffusionBValueXX = 0x00189602;
+    public static final int DiffusionBValueXY = 0x00189603;
+    public static final int DiffusionBValueXZ = 0x00189604;
+    public static final int DiffusionBValueYY = 0x00189605;
+    public static final int DiffusionBValueYZ = 0x00189606;
+    public static final int DiffusionBValueZZ = 0x00189607;
+    public static final int FunctionalMRSequence = 0x00189621;
+    public static final int FunctionalSettlingPhaseFramesPresent = 0x00189622;
+    public static final int FunctionalSyncPulse = 0x00189623;
+    public static final int SettlingPhaseFrame = 0x00189624;
+    public static final int DecayCorrectionDateTime = 0x00189701;
+    public static final int StartDensityThreshold = 0x00189715;
+    public static final int StartRelativeDensityDifferenceThreshold = 0x00189716;
+    public static final int StartCardiacTriggerCountThreshold = 0x00189717;
+    public static final int StartRespiratoryTriggerCountThreshold = 0x00189718;
+    public static final int TerminationCountsThreshold = 0x00189719;
+    public static final int TerminationDensityThreshold = 0x00189720;
+    public static final int TerminationRelativeDensityThreshold = 0x00189721;
+    public static final int TerminationTimeThreshold = 0x00189722;
+    public static final int TerminationCardiacTriggerCountThreshold = 0x00189723;
+    public static final int TerminationRespiratoryTriggerCountThreshold = 0x00189724;
+    public static final int DetectorGeometry = 0x00189725;
+    public static final int TransverseDetectorSeparation = 0x00189726;
+    public static final int AxialDetectorDimension = 0x00189727;
+    public static final int RadiopharmaceuticalAgentNumber = 0x00189729;
+    public static final int PETFrameAcquisitionSequence = 0x00189732;
+    public static final int PETDetectorMotionDetailsSequence = 0x00189733;
+    public static final int PETTableDynamicsSequence = 0x00189734;
+    public static final int PETPositionSequence = 0x00189735;
+    public static final int PETFrameCorrectionFactorsSequence = 0x00189736;
+    public static final int RadiopharmaceuticalUsageSequence = 0x00189737;
+    public static final int AttenuationCorrectionSource = 0x00189738;
+    public static final int NumberOfIterations = 0x00189739;
+    public static final int NumberOfSubsets = 0x00189740;
+    public static final int PETReconstructionSequence = 0x00189749;
+    public static final int PETFrameTypeSequence = 0x00189751;
+    public static final int TimeOfFlightInformationUsed = 0x00189755;
+    public static final int ReconstructionType = 0x00189756;
+    public static final int DecayCorrected = 0x00189758;
+    public static final int AttenuationCorrected = 0x00189759;
+    public static final int ScatterCorrected = 0x00189760;
+    public static final int DeadTimeCorrected = 0x00189761;
+    public static final int GantryMotionCorrected = 0x00189762;
+    public static final int PatientMotionCorrected = 0x00189763;
+    public static final int CountLossNormalizationCorrected = 0x00189764;
+    public static final int RandomsCorrected = 0x00189765;
+    public static final int NonUniformRadialSamplingCorrected = 0x00189766;
+    public static final int SensitivityCalibrated = 0x00189767;
+    public static final int DetectorNormalizationCorrection = 0x00189768;
+    public static final int IterativeReconstructionMethod = 0x00189769;
+    public static final int AttenuationCorrectionTemporalRelationship = 0x00189770;
+    public static final int PatientPhysiologicalStateSequence = 0x00189771;
+    public static final int PatientPhysiologicalStateCodeSequence = 0x00189772;
+    public static final int DepthsOfFocus = 0x00189801;
+    public static final int ExcludedIntervalsSequence = 0x00189803;
+    public static final int ExclusionStartDateTime = 0x00189804;
+    public static final int ExclusionDuration = 0x00189805;
+    public static final int USImageDescriptionSequence = 0x00189806;
+    public static final int ImageDataTypeSequence = 0x00189807;
+    public static final int DataType = 0x00189808;
+    public static final int TransducerScanPatternCodeSequence = 0x00189809;
+    public static final int AliasedDataType = 0x0018980B;
+    public static final int PositionMeasuringDeviceUsed = 0x0018980C;
+    public static final int TransducerGeometryCodeSequence = 0x0018980D;
+    public static final int TransducerBeamSteeringCodeSequence = 0x0018980E;
+    public static final int TransducerApplicationCodeSequence = 0x0018980F;
+    public static final int ZeroVelocityPixelValue = 0x00189810;
+    public static final int ReferenceLocationLabel = 0x00189900;
+    public static final int ReferenceLocationDescription = 0x00189901;
+    public static final int ReferenceBasisCodeSequence = 0x00189902;
+    public static final int ReferenceGeometryCodeSequence = 0x00189903;
+    public static final int OffsetDistance = 0x00189904;
+    public static final int OffsetDirection = 0x00189905;
+    public static final int PotentialScheduledProtocolCodeSequence = 0x00189906;
+    public static final int PotentialRequestedProcedureCodeSequence = 0x00189907;
+    public static final int PotentialReasonsForProcedure = 0x00189908;
+    public static final int PotentialReasonsForProcedureCodeSequence = 0x00189909;
+    public static final int PotentialDiagnosticTasks = 0x0018990A;
+    public static final int ContraindicationsCodeSequence = 0x0018990B;
+    public static final int ReferencedDefinedProtocolSequence = 0x0018990C;
+    public static final int ReferencedPerformedProtocolSequence = 0x0018990D;
+    public static final int PredecessorProtocolSequence = 0x0018990E;
+    public static final int ProtocolPlanningInformation = 0x0018990F;
+    public static final int ProtocolDesignRationale = 0x00189910;
+    public static final int PatientSpecificationSequence = 0x00189911;
+    public static final int ModelSpecificationSequence = 0x00189912;
+    public static final int ParametersSpecificationSequence = 0x00189913;
+    public static final int InstructionSequence = 0x00189914;
+    public static final int InstructionIndex = 0x00189915;
+    public static final int InstructionText = 0x00189916;
+    public static final int InstructionDescription = 0x00189917;
+    public static final int InstructionPerformedFlag = 0x00189918;
+    public static final int InstructionPerformedDateTime = 0x00189919;
+    public static final int InstructionPerformanceComment = 0x0018991A;
+    public static final int PatientPositioningInstructionSequence = 0x0018991B;
+    public static final int PositioningMethodCodeSequence = 0x0018991C;
+    public static final int PositioningLandmarkSequence = 0x0018991D;
+    public static final int TargetFrameOfReferenceUID = 0x0018991E;
+    public static final int AcquisitionProtocolElementSpecificationSequence = 0x0018991F;
+    public static final int AcquisitionProtocolElementSequence = 0x00189920;
+    public static final int ProtocolElementNumber = 0x00189921;
+    public static final int ProtocolElementName = 0x00189922;
+    public static final int ProtocolElementCharacteristicsSummary = 0x00189923;
+    public static final int ProtocolElementPurpose = 0x00189924;
+    public static final int AcquisitionMotion = 0x00189930;
+    public static final int AcquisitionStartLocationSequence = 0x00189931;
+    public static final int AcquisitionEndLocationSequence = 0x00189932;
+    public static final int ReconstructionProtocolElementSpecificationSequence = 0x00189933;
+    public static final int ReconstructionProtocolElementSequence = 0x00189934;
+    public static final int StorageProtocolElementSpecificationSequence = 0x00189935;
+    public static final int StorageProtocolElementSequence = 0x00189936;
+    public static final int RequestedSeriesDescription = 0x00189937;
+    public static final int SourceAcquisitionProtocolElementNumber = 0x00189938;
+    public static final int SourceAcquisitionBeamNumber = 0x00189939;
+    public static final int SourceReconstructionProtocolElementNumber = 0x0018993A;
+    public static final int ReconstructionStartLocationSequence = 0x0018993B;
+    public static final int ReconstructionEndLocationSequence = 0x0018993C;
+    public static final int ReconstructionAlgorithmSequence = 0x0018993D;
+    public static final int ReconstructionTargetCenterLocationSequence = 0x0018993E;
+    public static final int ImageFilterDescription = 0x00189941;
+    public static final int CTDIvolNotificationTrigger = 0x00189942;
+    public static final int DLPNotificationTrigger = 0x00189943;
+    public static final int AutoKVPSelectionType = 0x00189944;
+    public static final int AutoKVPUpperBound = 0x00189945;
+    public static final int AutoKVPLowerBound = 0x00189946;
+    public static final int ProtocolDefinedPatientPosition = 0x00189947;
+    public static final int ContributingEquipmentSequence = 0x0018A001;
+    public static final int ContributionDateTime = 0x0018A002;
+    public static final int ContributionDescription = 0x0018A003;
+    public static final int StudyInstanceUID = 0x0020000D;
+    public static final int SeriesInstanceUID = 0x0020000E;
+    public static final int StudyID = 0x00200010;
+    public static final int SeriesNumber = 0x00200011;
+    public static final int AcquisitionNumber = 0x00200012;
+    public static final int InstanceNumber = 0x00200013;
+    public static final int ItemNumber = 0x00200019;
+    public static final int PatientOrientation = 0x00200020;
+    public static final int ImagePositionPatient = 0x00200032;
+    public static final int ImageOrientationPatient = 0x00200037;
+    public static final int FrameOfReferenceUID = 0x00200052;
+    public static final int Laterality = 0x00200060;
+    public static final int ImageLaterality = 0x00200062;
+    public static final int TemporalPositionIdentifier = 0x00200100;
+    public static final int NumberOfTemporalPositions = 0x00200105;
+    public static final int TemporalResolution = 0x00200110;
+    public static final int SynchronizationFrameOfReferenceUID = 0x00200200;
+    public static final int SOPInstanceUIDOfConcatenationSource = 0x00200242;
+    public static final int ImagesInAcquisition = 0x00201002;
+    public static final int TargetPositionReferenceIndicator = 0x0020103F;
+    public static final int PositionReferenceIndicator = 0x00201040;
+    public static final int SliceLocation = 0x00201041;
+    public static final int NumberOfPatientRelatedStudies = 0x00201200;
+    public static final int NumberOfPatientRelatedSeries = 0x00201202;
+    public static final int NumberOfPatientRelatedInstances = 0x00201204;
+    public static final int NumberOfStudyRelatedSeries = 0x00201206;
+    public static final int NumberOfStudyRelatedInstances = 0x00201208;
+    public static final int NumberOfSeriesRelatedInstances = 0x00201209;
+    public static final int ImageComments = 0x00204000;
+    public static final int StackID = 0x00209056;
+    public static final int InStackPositionNumber = 0x00209057;
+    public static final int FrameAnatomySequence = 0x00209071;
+    public static final int FrameLaterality = 0x00209072;
+    public static final int FrameContentSequence = 0x00209111;
+    public static final int PlanePositionSequence = 0x00209113;
+    public static final int PlaneOrientationSequence = 0x00209116;
+    public static final int TemporalPositionIndex = 0x00209128;
+    public static final int NominalCardiacTriggerDelayTime = 0x00209153;
+    public static final int NominalCardiacTriggerTimePriorToRPeak = 0x00209154;
+    public static final int ActualCardiacTriggerTimePriorToRPeak = 0x00209155;
+    public static final int FrameAcquisitionNumber = 0x00209156;
+    public static final int DimensionIndexValues = 0x00209157;
+    public static final int FrameComments = 0x00209158;
+    public static final int ConcatenationUID = 0x00209161;
+    public static final int InConcatenationNumber = 0x00209162;
+    public static final int InConcatenationTotalNumber = 0x00209163;
+    public static final int DimensionOrganizationUID = 0x00209164;
+    public static final int DimensionIndexPointer = 0x00209165;
+    public static final int FunctionalGroupPointer = 0x00209167;
+    public static final int UnassignedSharedConvertedAttributesSequence = 0x00209170;
+    public static final int UnassignedPerFrameConvertedAttributesSequence = 0x00209171;
+    public static final int ConversionSourceAttributesSequence = 0x00209172;
+    public static final int DimensionIndexPrivateCreator = 0x00209213;
+    public static final int DimensionOrganizationSequence = 0x00209221;
+    public static final int DimensionIndexSequence = 0x00209222;
+    public static final int ConcatenationFrameOffsetNumber = 0x00209228;
+    public static final int FunctionalGroupPrivateCreator = 0x00209238;
+    public static final int NominalPercentageOfCardiacPhase = 0x00209241;
+    public static final int NominalPercentageOfRespiratoryPhase = 0x00209245;
+    public static final int StartingRespiratoryAmplitude = 0x00209246;
+    public static final int StartingRespiratoryPhase = 0x00209247;
+    public static final int EndingRespiratoryAmplitude = 0x00209248;
+    public static final int EndingRespiratoryPhase = 0x00209249;
+    public static final int RespiratoryTriggerType = 0x00209250;
+    public static final int RRIntervalTimeNominal = 0x00209251;
+    public static final int ActualCardiacTriggerDelayTime = 0x00209252;
+    public static final int RespiratorySynchronizationSequence = 0x00209253;
+    public static final int RespiratoryIntervalTime = 0x00209254;
+    public static final int NominalRespiratoryTriggerDelayTime = 0x00209255;
+    public static final int RespiratoryTriggerDelayThreshold = 0x00209256;
+    public static final int ActualRespiratoryTriggerDelayTime = 0x00209257;
+    public static final int ImagePositionVolume = 0x00209301;
+    public static final int ImageOrientationVolume = 0x00209302;
+    public static final int UltrasoundAcquisitionGeometry = 0x00209307;
+    public static final int ApexPosition = 0x00209308;
+    public static final int VolumeToTransducerMappingMatrix = 0x00209309;
+    public static final int VolumeToTableMappingMatrix = 0x0020930A;
+    public static final int VolumeToTransducerRelationship = 0x0020930B;
+    public static final int PatientFrameOfReferenceSource = 0x0020930C;
+    public static final int TemporalPositionTimeOffset = 0x0020930D;
+    public static final int PlanePositionVolumeSequence = 0x0020930E;
+    public static final int PlaneOrientationVolumeSequence = 0x0020930F;
+    public static final int TemporalPositionSequence = 0x00209310;
+    public static final int DimensionOrganizationType = 0x00209311;
+    public static final int VolumeFrameOfReferenceUID = 0x00209312;
+    public static final int TableFrameOfReferenceUID = 0x00209313;
+    public static final int DimensionDescriptionLabel = 0x00209421;
+    public static final int PatientOrientationInFrameSequence = 0x00209450;
+    public static final int FrameLabel = 0x00209453;
+    public static final int AcquisitionIndex = 0x00209518;
+    public static final int ContributingSOPInstancesReferenceSequence = 0x00209529;
+    public static final int ReconstructionIndex = 0x00209536;
+    public static final int LightPathFilterPassThroughWavelength = 0x00220001;
+    public static final int LightPathFilterPassBand = 0x00220002;
+    public static final int ImagePathFilterPassThroughWavelength = 0x00220003;
+    public static final int ImagePathFilterPassBand = 0x00220004;
+    public static final int PatientEyeMovementCommanded = 0x00220005;
+    public static final int PatientEyeMovementCommandCodeSequence = 0x00220006;
+    public static final int SphericalLensPower = 0x00220007;
+    public static final int CylinderLensPower = 0x00220008;
+    public static final int CylinderAxis = 0x00220009;
+    public static final int EmmetropicMagnification = 0x0022000A;
+    public static final int IntraOcularPressure = 0x0022000B;
+    public static final int HorizontalFieldOfView = 0x0022000C;
+    public static final int PupilDilated = 0x0022000D;
+    public static final int DegreeOfDilation = 0x0022000E;
+    public static final int StereoBaselineAngle = 0x00220010;
+    public static final int StereoBaselineDisplacement = 0x00220011;
+    public static final int StereoHorizontalPixelOffset = 0x00220012;
+    public static final int StereoVerticalPixelOffset = 0x00220013;
+    public static final int StereoRotation = 0x00220014;
+    public static final int AcquisitionDeviceTypeCodeSequence = 0x00220015;
+    public static final int IlluminationTypeCodeSequence = 0x00220016;
+    public static final int LightPathFilterTypeStackCodeSequence = 0x00220017;
+    public static final int ImagePathFilterTypeStackCodeSequence = 0x00220018;
+    public static final int LensesCodeSequence = 0x00220019;
+    public static final int ChannelDescriptionCodeSequence = 0x0022001A;
+    public static final int RefractiveStateSequence = 0x0022001B;
+    public static final int MydriaticAgentCodeSequence = 0x0022001C;
+    public static final int RelativeImagePositionCodeSequence = 0x0022001D;
+    public static final int CameraAngleOfView = 0x0022001E;
+    public static final int StereoPairsSequence = 0x00220020;
+    public static final int LeftImageSequence = 0x00220021;
+    public static final int RightImageSequence = 0x00220022;
+    public static final int StereoPairsPresent = 0x00220028;
+    public static final int AxialLengthOfTheEye = 0x00220030;
+    public static final int OphthalmicFrameLocationSequence = 0x00220031;
+    public static final int ReferenceCoordinates = 0x00220032;
+    public static final int DepthSpatialResolution = 0x00220035;
+    public static final int MaximumDepthDistortion = 0x00220036;
+    public static final int AlongScanSpatialResolution = 0x00220037;
+    public static final int MaximumAlongScanDistortion = 0x00220038;
+    public static final int OphthalmicImageOrientation = 0x00220039;
+    public static final int DepthOfTransverseImage = 0x00220041;
+    public static final int MydriaticAgentConcentrationUnitsSequence = 0x00220042;
+    public static final int AcrossScanSpatialResolution = 0x00220048;
+    public static final int MaximumAcrossScanDistortion = 0x00220049;
+    public static final int MydriaticAgentConcentration = 0x0022004E;
+    public static final int IlluminationWaveLength = 0x00220055;
+    public static final int IlluminationPower = 0x00220056;
+    public static final int IlluminationBandwidth = 0x00220057;
+    public static final int MydriaticAgentSequence = 0x00220058;
+    public static final int OphthalmicAxialMeasurementsRightEyeSequence = 0x00221007;
+    public static final int OphthalmicAxialMeasurementsLeftEyeSequence = 0x00221008;
+    public static final int OphthalmicAxialMeasurementsDeviceType = 0x00221009;
+    public static final int OphthalmicAxialLengthMeasurementsType = 0x00221010;
+    public static final int OphthalmicAxialLengthSequence = 0x00221012;
+    public static final int OphthalmicAxialLength = 0x00221019;
+    public static final int LensStatusCodeSequence = 0x00221024;
+    public static final int VitreousStatusCodeSequence = 0x00221025;
+    public static final int IOLFormulaCodeSequence = 0x00221028;
+    public static final int IOLFormulaDetail = 0x00221029;
+    public static final int KeratometerIndex = 0x00221033;
+    public static final int SourceOfOphthalmicAxialLengthCodeSequence = 0x00221035;
+    public static final int SourceOfCornealSizeDataCodeSequence = 0x00221036;
+    public static final int TargetRefraction = 0x00221037;
+    public static final int RefractiveProcedureOccurred = 0x00221039;
+    public static final int RefractiveSurgeryTypeCodeSequence = 0x00221040;
+    public static final int OphthalmicUltrasoundMethodCodeSequence = 0x00221044;
+    public static final int SurgicallyInducedAstigmatismSequence = 0x00221045;
+    public static final int TypeOfOpticalCorrection = 0x00221046;
+    public static final int ToricIOLPowerSequence = 0x00221047;
+    public static final int PredictedToricErrorSequence = 0x00221048;
+    public static final int PreSelectedForImplantation = 0x00221049;
+    public static final int ToricIOLPowerForExactEmmetropiaSequence = 0x0022104A;
+    public static final int ToricIOLPowerForExactTargetRefractionSequence = 0x0022104B;
+    public static final int OphthalmicAxialLengthMeasurementsSequence = 0x00221050;
+    public static final int IOLPower = 0x00221053;
+    public static final int PredictedRefractiveError = 0x00221054;
+    public static final int OphthalmicAxialLengthVelocity = 0x00221059;
+    public static final int LensStatusDescription = 0x00221065;
+    public static final int VitreousStatusDescription = 0x00221066;
+    public static final int IOLPowerSequence = 0x00221090;
+    public static final int LensConstantSequence = 0x00221092;
+    public static final int IOLManufacturer = 0x00221093;
+    public static final int ImplantName = 0x00221095;
+    public static final int KeratometryMeasurementTypeCodeSequence = 0x00221096;
+    public static final int ImplantPartNumber = 0x00221097;
+    public static final int ReferencedOphthalmicAxialMeasurementsSequence = 0x00221100;
+    public static final int OphthalmicAxialLengthMeasurementsSegmentNameCodeSequence = 0x00221101;
+    public static final int RefractiveErrorBeforeRefractiveSurgeryCodeSequence = 0x00221103;
+    public static final int IOLPowerForExactEmmetropia = 0x00221121;
+    public static final int IOLPowerForExactTargetRefraction = 0x00221122;
+    public static final int AnteriorChamberDepthDefinitionCodeSequence = 0x00221125;
+    public static final int LensThicknessSequence = 0x00221127;
+    public static final int AnteriorChamberDepthSequence = 0x00221128;
+    public static final int CalculationCommentSequence = 0x0022112A;
+    public static final int CalculationCommentType = 0x0022112B;
+    public static final int CalculationComment = 0x0022112C;
+    public static final int LensThickness = 0x00221130;
+    public static final int AnteriorChamberDepth = 0x00221131;
+    public static final int SourceOfLensThicknessDataCodeSequence = 0x00221132;
+    public static final int SourceOfAnteriorChamberDepthDataCodeSequence = 0x00221133;
+    public static final int SourceOfRefractiveMeasurementsSequence = 0x00221134;
+    public static final int SourceOfRefractiveMeasurementsCodeSequence = 0x00221135;
+    public static final int OphthalmicAxialLengthMeasurementModified = 0x00221140;
+    public static final int OphthalmicAxialLengthDataSourceCodeSequence = 0x00221150;
+    public static final int SignalToNoiseRatio = 0x00221155;
+    public static final int OphthalmicAxialLengthDataSourceDescription = 0x00221159;
+    public static final int OphthalmicAxialLengthMeasurementsTotalLengthSequence = 0x00221210;
+    public static final int OphthalmicAxialLengthMeasurementsSegmentalLengthSequence = 0x00221211;
+    public static final int OphthalmicAxialLengthMeasurementsLengthSummationSequence = 0x00221212;
+    public static final int UltrasoundOphthalmicAxialLengthMeasurementsSequence = 0x00221220;
+    public static final int OpticalOphthalmicAxialLengthMeasurementsSequence = 0x00221225;
+    public static final int UltrasoundSelectedOphthalmicAxialLengthSequence = 0x00221230;
+    public static final int OphthalmicAxialLengthSelectionMethodCodeSequence = 0x00221250;
+    public static final int OpticalSelectedOphthalmicAxialLengthSequence = 0x00221255;
+    public static final int SelectedSegmentalOphthalmicAxialLengthSequence = 0x00221257;
+    public static final int SelectedTotalOphthalmicAxialLengthSequence = 0x00221260;
+    public static final int OphthalmicAxialLengthQualityMetricSequence = 0x00221262;
+    public static final int IntraocularLensCalculationsRightEyeSequence = 0x00221300;
+    public static final int IntraocularLensCalculationsLeftEyeSequence = 0x00221310;
+    public static final int ReferencedOphthalmicAxialLengthMeasurementQCImageSequence = 0x00221330;
+    public static final int OphthalmicMappingDeviceType = 0x00221415;
+    public static final int AcquisitionMethodCodeSequence = 0x00221420;
+    public static final int AcquisitionMethodAlgorithmSequence = 0x00221423;
+    public static final int OphthalmicThicknessMapTypeCodeSequence = 0x00221436;
+    public static final int OphthalmicThicknessMappingNormalsSequence = 0x00221443;
+    public static final int RetinalThicknessDefinitionCodeSequence = 0x00221445;
+    public static final int PixelValueMappingToCodedConceptSequence = 0x00221450;
+    public static final int MappedPixelValue = 0x00221452;
+    public static final int PixelValueMappingExplanation = 0x00221454;
+    public static final int OphthalmicThicknessMapQualityThresholdSequence = 0x00221458;
+    public static final int OphthalmicThicknessMapThresholdQualityRating = 0x00221460;
+    public static final int AnatomicStructureReferencePoint = 0x00221463;
+    public static final int RegistrationToLocalizerSequence = 0x00221465;
+    public static final int RegisteredLocalizerUnits = 0x00221466;
+    public static final int RegisteredLocalizerTopLeftHandCorner = 0x00221467;
+    public static final int RegisteredLocalizerBottomRightHandCorner = 0x00221468;
+    public static final int OphthalmicThicknessMapQualityRatingSequence = 0x00221470;
+    public static final int RelevantOPTAttributesSequence = 0x00221472;
+    public static final int TransformationMethodCodeSequence = 0x00221512;
+    public static final int TransformationAlgorithmSequence = 0x00221513;
+    public static final int OphthalmicAxialLengthMethod = 0x00221515;
+    public static final int OphthalmicFOV = 0x00221517;
+    public static final int TwoDimensionalToThreeDimensionalMapSequence = 0x00221518;
+    public static final int WideFieldOphthalmicPhotographyQualityRatingSequence = 0x00221525;
+    public static final int WideFieldOphthalmicPhotographyQualityThresholdSequence = 0x00221526;
+    public static final int WideFieldOphthalmicPhotographyThresholdQualityRating = 0x00221527;
+    public static final int XCoordinatesCenterPixelViewAngle = 0x00221528;
+    public static final int YCoordinatesCenterPixelViewAngle = 0x00221529;
+    public static final int NumberOfMapPoints = 0x00221530;
+    public static final int TwoDimensionalToThreeDimensionalMapData = 0x00221531;
+    public static final int DerivationAlgorithmSequence = 0x00221612;
+    public static final int OphthalmicImageTypeCodeSequence = 0x00221615;
+    public static final int OphthalmicImageTypeDescription = 0x00221616;
+    public static final int ScanPatternTypeCodeSequence = 0x00221618;
+    public static final int ReferencedSurfaceMeshIdentificationSequence = 0x00221620;
+    public static final int OphthalmicVolumetricPropertiesFlag = 0x00221622;
+    public static final int OphthalmicAnatomicReferencePointXCoordinate = 0x00221624;
+    public static final int OphthalmicAnatomicReferencePointYCoordinate = 0x00221626;
+    public static final int OphthalmicEnFaceImageQualityRatingSequence = 0x00221628;
+    public static final int QualityThreshold = 0x00221630;
+    public static final int OCTBscanAnalysisAcquisitionParametersSequence = 0x00221640;
+    public static final int NumberofBscansPerFrame = 0x00221642;
+    public static final int BscanSlabThickness = 0x00221643;
+    public static final int DistanceBetweenBscanSlabs = 0x00221644;
+    public static final int BscanCycleTime = 0x00221645;
+    public static final int BscanCycleTimeVector = 0x00221646;
+    public static final int AscanRate = 0x00221649;
+    public static final int BscanRate = 0x00221650;
+    public static final int SurfaceMeshZPixelOffset = 0x00221658;
+    public static final int VisualFieldHorizontalExtent = 0x00240010;
+    public static final int VisualFieldVerticalExtent = 0x00240011;
+    public static final int VisualFieldShape = 0x00240012;
+    public static final int ScreeningTestModeCodeSequence = 0x00240016;
+    public static final int MaximumStimulusLuminance = 0x00240018;
+    public static final int BackgroundLuminance = 0x00240020;
+    public static final int StimulusColorCodeSequence = 0x00240021;
+    public static final int BackgroundIlluminationColorCodeSequence = 0x00240024;
+    public static final int StimulusArea = 0x00240025;
+    public static final int StimulusPresentationTime = 0x00240028;
+    public static final int FixationSequence = 0x00240032;
+    public static final int FixationMonitoringCodeSequence = 0x00240033;
+    public static final int VisualFieldCatchTrialSequence = 0x00240034;
+    public static final int FixationCheckedQuantity = 0x00240035;
+    public static final int PatientNotProperlyFixatedQuantity = 0x00240036;
+    public static final int PresentedVisualStimuliDataFlag = 0x00240037;
+    public static final int NumberOfVisualStimuli = 0x00240038;
+    public static final int ExcessiveFixationLossesDataFlag = 0x00240039;
+    public static final int ExcessiveFixationLosses = 0x00240040;
+    public static final int StimuliRetestingQuantity = 0x00240042;
+    public static final int CommentsOnPatientPerformanceOfVisualField = 0x00240044;
+    public static final int FalseNegativesEstimateFlag = 0x00240045;
+    public static final int FalseNegativesEstimate = 0x00240046;
+    public static final int NegativeCatchTrialsQuantity = 0x00240048;
+    public static final int FalseNegativesQuantity = 0x00240050;
+    public static final int ExcessiveFalseNegativesDataFlag = 0x00240051;
+    public static final int ExcessiveFalseNegatives = 0x00240052;
+    public static final int FalsePositivesEstimateFlag = 0x00240053;
+    public static final int FalsePositivesEstimate = 0x00240054;
+    public static final int CatchTrialsDataFlag = 0x00240055;
+    public static final int PositiveCatchTrialsQuantity = 0x00240056;
+    public static final int TestPointNormalsDataFlag = 0x00240057;
+    public static final int TestPointNormalsSequence = 0x00240058;
+    public static final int GlobalDeviationProbabilityNormalsFlag = 0x00240059;
+    public static final int FalsePositivesQuantity = 0x00240060;
+    public static final int ExcessiveFalsePositivesDataFlag = 0x00240061;
+    public static final int ExcessiveFalsePositives = 0x00240062;
+    public static final int VisualFieldTestNormalsFlag = 0x00240063;
+    public static final int ResultsNormalsSequence = 0x00240064;
+    public static final int AgeCorrectedSensitivityDeviationAlgorithmSequence = 0x00240065;
+    public static final int GlobalDeviationFromNormal = 0x00240066;
+    public static final int GeneralizedDefectSensitivityDeviationAlgorithmSequence = 0x00240067;
+    public static final int LocalizedDeviationFromNormal = 0x00240068;
+    public static final int PatientReliabilityIndicator = 0x00240069;
+    public static final int VisualFieldMeanSensitivity = 0x00240070;
+    public static final int GlobalDeviationProbability = 0x00240071;
+    public static final int LocalDeviationProbabilityNormalsFlag = 0x00240072;
+    public static final int LocalizedDeviationProbability = 0x00240073;
+    public static final int ShortTermFluctuationCalculated = 0x00240074;
+    public static final int ShortTermFluctuation = 0x00240075;
+    public static final int ShortTermFluctuationProbabilityCalculated = 0x00240076;
+    public static final int ShortTermFluctuationProbability = 0x00240077;
+    public static final int CorrectedLocalizedDeviationFromNormalCalculated = 0x00240078;
+    public static final int CorrectedLocalizedDeviationFromNormal = 0x00240079;
+    public static final int CorrectedLocalizedDeviationFromNormalProbabilityCalculated = 0x00240080;
+    public static final int CorrectedLocalizedDeviationFromNormalProbability = 0x00240081;
+    public static final int GlobalDeviationProbabilitySequence = 0x00240083;
+    public static final int LocalizedDeviationProbabilitySequence = 0x00240085;
+    public static final int FovealSensitivityMeasured = 0x00240086;
+    public static final int FovealSensitivity = 0x00240087;
+    public static final int VisualFieldTestDuration = 0x00240088;
+    public static final int VisualFieldTestPointSequence = 0x00240089;
+    public static final int VisualFieldTestPointXCoordinate = 0x00240090;
+    public static final int VisualFieldTestPointYCoordinate = 0x00240091;
+    public static final int AgeCorrectedSensitivityDeviationValue = 0x00240092;
+    public static final int StimulusResults = 0x00240093;
+    public static final int SensitivityValue = 0x00240094;
+    public static final int RetestStimulusSeen = 0x00240095;
+    public static final int RetestSensitivityValue = 0x00240096;
+    public static final int VisualFieldTestPointNormalsSequence = 0x00240097;
+    public static final int QuantifiedDefect = 0x00240098;
+    public static final int AgeCorrectedSensitivityDeviationProbabilityValue = 0x00240100;
+    public static final int GeneralizedDefectCorrectedSensitivityDeviationFlag = 0x00240102;
+    public static final int GeneralizedDefectCorrectedSensitivityDeviationValue = 0x00240103;
+    public static final int GeneralizedDefectCorrectedSensitivityDeviationProbabilityValue = 0x00240104;
+    public static final int MinimumSensitivityValue = 0x00240105;
+    public static final int BlindSpotLocalized = 0x00240106;
+    public static final int BlindSpotXCoordinate = 0x00240107;
+    public static final int BlindSpotYCoordinate = 0x00240108;
+    public static final int VisualAcuityMeasurementSequence = 0x00240110;
+    public static final int RefractiveParametersUsedOnPatientSequence = 0x00240112;
+    public static final int MeasurementLaterality = 0x00240113;
+    public static final int OphthalmicPatientClinicalInformationLeftEyeSequence = 0x00240114;
+    public static final int OphthalmicPatientClinicalInformationRightEyeSequence = 0x00240115;
+    public static final int FovealPointNormativeDataFlag = 0x00240117;
+    public static final int FovealPointProbabilityValue = 0x00240118;
+    public static final int ScreeningBaselineMeasured = 0x00240120;
+    public static final int ScreeningBaselineMeasuredSequence = 0x00240122;
+    public static final int ScreeningBaselineType = 0x00240124;
+    public static final int ScreeningBaselineValue = 0x00240126;
+    public static final int AlgorithmSource = 0x00240202;
+    public static final int DataSetName = 0x00240306;
+    public static final int DataSetVersion = 0x00240307;
+    public static final int DataSetSource = 0x00240308;
+    public static final int DataSetDescription = 0x00240309;
+    public static final int VisualFieldTestReliabilityGlobalIndexSequence = 0x00240317;
+    public static final int VisualFieldGlobalResultsIndexSequence = 0x00240320;
+    public static final int DataObservationSequence = 0x00240325;
+    public static final int IndexNormalsFlag = 0x00240338;
+    public static final int IndexProbability = 0x00240341;
+    public static final int IndexProbabilitySequence = 0x00240344;
+    public static final int SamplesPerPixel = 0x00280002;
+    public static final int SamplesPerPixelUsed = 0x00280003;
+    public static final int PhotometricInterpretation = 0x00280004;
+    public static final int PlanarConfiguration = 0x00280006;
+    public static final int NumberOfFrames = 0x00280008;
+    public static final int FrameIncrementPointer = 0x00280009;
+    public static final int FrameDimensionPointer = 0x0028000A;
+    public static final int Rows = 0x00280010;
+    public static final int Columns = 0x00280011;
+    public static final int UltrasoundColorDataPresent = 0x00280014;
+    public static final int PixelSpacing = 0x00280030;
+    public static final int ZoomFactor = 0x00280031;
+    public static final int ZoomCenter = 0x00280032;
+    public static final int PixelAspectRatio = 0x00280034;
+    public static final int CorrectedImage = 0x00280051;
+    public static final int BitsAllocated = 0x00280100;
+    public static final int BitsStored = 0x00280101;
+    public static final int HighBit = 0x00280102;
+    public static final int PixelRepresentation = 0x00280103;
+    public static final int SmallestImagePixelValue = 0x00280106;
+    public static final int LargestImagePixelValue = 0x00280107;
+    public static final int SmallestPixelValueInSeries = 0x00280108;
+    public static final int LargestPixelValueInSeries = 0x00280109;
+    public static final int PixelPaddingValue = 0x00280120;
+    public static final int PixelPaddingRangeLimit = 0x00280121;
+    public static final int FloatPixelPaddingValue = 0x00280122;
+    public static final int DoubleFloatPixelPaddingValue = 0x00280123;
+    public static final int FloatPixelPaddingRangeLimit = 0x00280124;
+    public static final int DoubleFloatPixelPaddingRangeLimit = 0x00280125;
+    public static final int QualityControlImage = 0x00280300;
+    public static final int BurnedInAnnotation = 0x00280301;
+    public static final int RecognizableVisualFeatures = 0x00280302;
+    public static final int LongitudinalTemporalInformationModified = 0x00280303;
+    public static final int ReferencedColorPaletteInstanceUID = 0x00280304;
+    public static final int PixelSpacingCalibrationType = 0x00280A02;
+    public static final int PixelSpacingCalibrationDescription = 0x00280A04;
+    public static final int PixelIntensityRelationship = 0x00281040;
+    public static final int PixelIntensityRelationshipSign = 0x00281041;
+    public static final int WindowCenter = 0x00281050;
+    public static final int WindowWidth = 0x00281051;
+    public static final int RescaleIntercept = 0x00281052;
+    public static final int RescaleSlope = 0x00281053;
+    public static final int RescaleType = 0x00281054;
+    public static final int WindowCenterWidthExplanation = 0x00281055;
+    public static final int VOILUTFunction = 0x00281056;
+    public static final int RecommendedViewingMode = 0x00281090;
+    public static final int RedPaletteColorLookupTableDescriptor = 0x00281101;
+    public static final int GreenPaletteColorLookupTableDescriptor = 0x00281102;
+    public static final int BluePaletteColorLookupTableDescriptor = 0x00281103;
+    public static final int AlphaPaletteColorLookupTableDescriptor = 0x00281104;
+    public static final int PaletteColorLookupTableUID = 0x00281199;
+    public static final int RedPaletteColorLookupTableData = 0x00281201;
+    public static final int GreenPaletteColorLookupTableData = 0x00281202;
+    public static final int BluePaletteColorLookupTableData = 0x00281203;
+    public static final int AlphaPaletteColorLookupTableData = 0x00281204;
+    public static final int SegmentedRedPaletteColorLookupTableData = 0x00281221;
+    public static final int SegmentedGreenPaletteColorLookupTableData = 0x00281222;
+    public static final int SegmentedBluePaletteColorLookupTableData = 0x00281223;
+    public static final int SegmentedAlphaPaletteColorLookupTableData = 0x00281224;
+    public static final int StoredValueColorRangeSequence = 0x00281230;
+    public static final int MinimumStoredValueMapped = 0x00281231;
+    public static final int MaximumStoredValueMapped = 0x00281232;
+    public static final int BreastImplantPresent = 0x00281300;
+    public static final int PartialView = 0x00281350;
+    public static final int PartialViewDescription = 0x00281351;
+    public static final int PartialViewCodeSequence = 0x00281352;
+    public static final int SpatialLocationsPreserved = 0x0028135A;
+    public static final int DataFrameAssignmentSequence = 0x00281401;
+    public static final int DataPathAssignment = 0x00281402;
+    public static final int BitsMappedToColorLookupTable = 0x00281403;
+    public static final int BlendingLUT1Sequence = 0x00281404;
+    public static final int BlendingLUT1TransferFunction = 0x00281405;
+    public static final int BlendingWeightConstant = 0x00281406;
+    public static final int BlendingLookupTableDescriptor = 0x00281407;
+    public static final int BlendingLookupTableData = 0x00281408;
+    public static final int EnhancedPaletteColorLookupTableSequence = 0x0028140B;
+    public static final int BlendingLUT2Sequence = 0x0028140C;
+    public static final int BlendingLUT2TransferFunction = 0x0028140D;
+    public static final int DataPathID = 0x0028140E;
+    public static final int RGBLUTTransferFunction = 0x0028140F;
+    public static final int AlphaLUTTransferFunction = 0x00281410;
+    public static final int ICCProfile = 0x00282000;
+    public static final int ColorSpace = 0x00282002;
+    public static final int LossyImageCompression = 0x00282110;
+    public static final int LossyImageCompressionRatio = 0x00282112;
+    public static final int LossyImageCompressionMethod = 0x00282114;
+    public static final int ModalityLUTSequence = 0x00283000;
+    public static final int LUTDescriptor = 0x00283002;
+    public static final int LUTExplanation = 0x00283003;
+    public static final int ModalityLUTType = 0x00283004;
+    public static final int LUTData = 0x00283006;
+    public static final int VOILUTSequence = 0x00283010;
+    public static final int SoftcopyVOILUTSequence = 0x00283110;
+    public static final int RepresentativeFrameNumber = 0x00286010;
+    public static final int FrameNumbersOfInterest = 0x00286020;
+    public static final int FrameOfInterestDescription = 0x00286022;
+    public static final int FrameOfInterestType = 0x00286023;
+    public static final int RWavePointer = 0x00286040;
+    public static final int MaskSubtractionSequence = 0x00286100;
+    public static final int MaskOperation = 0x00286101;
+    public static final int ApplicableFrameRange = 0x00286102;
+    public static final int MaskFrameNumbers = 0x00286110;
+    public static final int ContrastFrameAveraging = 0x00286112;
+    public static final int MaskSubPixelShift = 0x00286114;
+    public static final int TIDOffset = 0x00286120;
+    public static final int MaskOperationExplanation = 0x00286190;
+    public static final int EquipmentAdministratorSequence = 0x00287000;
+    public static final int NumberOfDisplaySubsystems = 0x00287001;
+    public static final int CurrentConfigurationID = 0x00287002;
+    public static final int DisplaySubsystemID = 0x00287003;
+    public static final int DisplaySubsystemName = 0x00287004;
+    public static final int DisplaySubsystemDescription = 0x00287005;
+    public static final int SystemStatus = 0x00287006;
+    public static final int SystemStatusComment = 0x00287007;
+    public static final int TargetLuminanceCharacteristicsSequence = 0x00287008;
+    public static final int LuminanceCharacteristicsID = 0x00287009;
+    public static final int DisplaySubsystemConfigurationSequence = 0x0028700A;
+    public static final int ConfigurationID = 0x0028700B;
+    public static final int ConfigurationName = 0x0028700C;
+    public static final int ConfigurationDescription = 0x0028700D;
+    public static final int ReferencedTargetLuminanceCharacteristicsID = 0x0028700E;
+    public static final int QAResultsSequence = 0x0028700F;
+    public static final int DisplaySubsystemQAResultsSequence = 0x00287010;
+    public static final int ConfigurationQAResultsSequence = 0x00287011;
+    public static final int MeasurementEquipmentSequence = 0x00287012;
+    public static final int MeasurementFunctions = 0x00287013;
+    public static final int MeasurementEquipmentType = 0x00287014;
+    public static final int VisualEvaluationResultSequence = 0x00287015;
+    public static final int DisplayCalibrationResultSequence = 0x00287016;
+    public static final int DDLValue = 0x00287017;
+    public static final int CIExyWhitePoint = 0x00287018;
+    public static final int DisplayFunctionType = 0x00287019;
+    public static final int GammaValue = 0x0028701A;
+    public static final int NumberOfLuminancePoints = 0x0028701B;
+    public static final int LuminanceResponseSequence = 0x0028701C;
+    public static final int TargetMinimumLuminance = 0x0028701D;
+    public static final int TargetMaximumLuminance = 0x0028701E;
+    public static final int LuminanceValue = 0x0028701F;
+    public static final int LuminanceResponseDescription = 0x00287020;
+    public static final int WhitePointFlag = 0x00287021;
+    public static final int DisplayDeviceTypeCodeSequence = 0x00287022;
+    public static final int DisplaySubsystemSequence = 0x00287023;
+    public static final int LuminanceResultSequence = 0x00287024;
+    public static final int AmbientLightValueSource = 0x00287025;
+    public static final int MeasuredCharacteristics = 0x00287026;
+    public static final int LuminanceUniformityResultSequence = 0x00287027;
+    public static final int VisualEvaluationTestSequence = 0x00287028;
+    public static final int TestResult = 0x00287029;
+    public static final int TestResultComment = 0x0028702A;
+    public static final int TestImageValidation = 0x0028702B;
+    public static final int TestPatternCodeSequence = 0x0028702C;
+    public static final int MeasurementPatternCodeSequence = 0x0028702D;
+    public static final int VisualEvaluationMethodCodeSequence = 0x0028702E;
+    public static final int PixelDataProviderURL = 0x00287FE0;
+    public static final int DataPointRows = 0x00289001;
+    public static final int DataPointColumns = 0x00289002;
+    public static final int SignalDomainColumns = 0x00289003;
+    public static final int DataRepresentation = 0x00289108;
+    public static final int PixelMeasuresSequence = 0x00289110;
+    public static final int FrameVOILUTSequence = 0x00289132;
+    public static final int PixelValueTransformationSequence = 0x00289145;
+    public static final int SignalDomainRows = 0x00289235;
+    public static final int DisplayFilterPercentage = 0x00289411;
+    public static final int FramePixelShiftSequence = 0x00289415;
+    public static final int SubtractionItemID = 0x00289416;
+    public static final int PixelIntensityRelationshipLUTSequence = 0x00289422;
+    public static final int FramePixelDataPropertiesSequence = 0x00289443;
+    public static final int GeometricalProperties = 0x00289444;
+    public static final int GeometricMaximumDistortion = 0x00289445;
+    public static final int ImageProcessingApplied = 0x00289446;
+    public static final int MaskSelectionMode = 0x00289454;
+    public static final int LUTFunction = 0x00289474;
+    public static final int MaskVisibilityPercentage = 0x00289478;
+    public static final int PixelShiftSequence = 0x00289501;
+    public static final int RegionPixelShiftSequence = 0x00289502;
+    public static final int VerticesOfTheRegion = 0x00289503;
+    public static final int MultiFramePresentationSequence = 0x00289505;
+    public static final int PixelShiftFrameRange = 0x00289506;
+    public static final int LUTFrameRange = 0x00289507;
+    public static final int ImageToEquipmentMappingMatrix = 0x00289520;
+    public static final int EquipmentCoordinateSystemIdentification = 0x00289537;
+    public static final int RequestingPhysicianIdentificationSequence = 0x00321031;
+    public static final int RequestingPhysician = 0x00321032;
+    public static final int RequestingService = 0x00321033;
+    public static final int RequestingServiceCodeSequence = 0x00321034;
+    public static final int RequestedProcedureDescription = 0x00321060;
+    public static final int RequestedProcedureCodeSequence = 0x00321064;
+    public static final int ReasonForVisit = 0x00321066;
+    public static final int ReasonForVisitCodeSequence = 0x00321067;
+    public static final int RequestedContrastAgent = 0x00321070;
+    public static final int FlowIdentifierSequence = 0x00340001;
+    public static final int FlowIdentifier = 0x00340002;
+    public static final int FlowTransferSyntaxUID = 0x00340003;
+    public static final int FlowRTPSamplingRate = 0x00340004;
+    public static final int SourceIdentifier = 0x00340005;
+    public static final int FrameOriginTimestamp = 0x00340007;
+    public static final int IncludesImagingSubject = 0x00340008;
+    public static final int FrameUsefulnessGroupSequence = 0x00340009;
+    public static final int RealTimeBulkDataFlowSequence = 0x0034000A;
+    public static final int CameraPositionGroupSequence = 0x0034000B;
+    public static final int IncludesInformation = 0x0034000C;
+    public static final int TimeOfFrameGroupSequence = 0x0034000D;
+    public static final int ReferencedPatientAliasSequence = 0x00380004;
+    public static final int VisitStatusID = 0x00380008;
+    public static final int AdmissionID = 0x00380010;
+    public static final int IssuerOfAdmissionIDSequence = 0x00380014;
+    public static final int RouteOfAdmissions = 0x00380016;
+    public static final int AdmittingDate = 0x00380020;
+    public static final int AdmittingTime = 0x00380021;
+    public static final int SpecialNeeds = 0x00380050;
+    public static final int ServiceEpisodeID = 0x00380060;
+    public static final int ServiceEpisodeDescription = 0x00380062;
+    public static final int IssuerOfServiceEpisodeIDSequence = 0x00380064;
+    public static final int PertinentDocumentsSequence = 0x00380100;
+    public static final int PertinentResourcesSequence = 0x00380101;
+    public static final int ResourceDescription = 0x00380102;
+    public static final int CurrentPatientLocation = 0x00380300;
+    public static final int PatientInstitutionResidence = 0x00380400;
+    public static final int PatientState = 0x00380500;
+    public static final int PatientClinicalTrialParticipationSequence = 0x00380502;
+    public static final int VisitComments = 0x00384000;
+    public static final int WaveformOriginality = 0x003A0004;
+    public static final int NumberOfWaveformChannels = 0x003A0005;
+    public static final int NumberOfWaveformSamples = 0x003A0010;
+    public static final int SamplingFrequency = 0x003A001A;
+    public static final int MultiplexGroupLabel = 0x003A0020;
+    public static final int ChannelDefinitionSequence = 0x003A0200;
+    public static final int WaveformChannelNumber = 0x003A0202;
+    public static final int ChannelLabel = 0x003A0203;
+    public static final int ChannelStatus = 0x003A0205;
+    public static final int ChannelSourceSequence = 0x003A0208;
+    public static final int ChannelSourceModifiersSequence = 0x003A0209;
+    public static final int SourceWaveformSequence = 0x003A020A;
+    public static final int ChannelDerivationDescription = 0x003A020C;
+    public static final int ChannelSensitivity = 0x003A0210;
+    public static final int ChannelSensitivityUnitsSequence = 0x003A0211;
+    public static final int ChannelSensitivityCorrectionFactor = 0x003A0212;
+    public static final int ChannelBaseline = 0x003A0213;
+    public static final int ChannelTimeSkew = 0x003A0214;
+    public static final int ChannelSampleSkew = 0x003A0215;
+    public static final int ChannelOffset = 0x003A0218;
+    public static final int WaveformBitsStored = 0x003A021A;
+    public static final int FilterLowFrequency = 0x003A0220;
+    public static final int FilterHighFrequency = 0x003A0221;
+    public static final int NotchFilterFrequency = 0x003A0222;
+    public static final int NotchFilterBandwidth = 0x003A0223;
+    public static final int WaveformDataDisplayScale = 0x003A0230;
+    public static final int WaveformDisplayBackgroundCIELabValue = 0x003A0231;
+    public static final int WaveformPresentationGroupSequence = 0x003A0240;
+    public static final int PresentationGroupNumber = 0x003A0241;
+    public static final int ChannelDisplaySequence = 0x003A0242;
+    public static final int ChannelRecommendedDisplayCIELabValue = 0x003A0244;
+    public static final int ChannelPosition = 0x003A0245;
+    public static final int DisplayShadingFlag = 0x003A0246;
+    public static final int FractionalChannelDisplayScale = 0x003A0247;
+    public static final int AbsoluteChannelDisplayScale = 0x003A0248;
+    public static final int MultiplexedAudioChannelsDescriptionCodeSequence = 0x003A0300;
+    public static final int ChannelIdentificationCode = 0x003A0301;
+    public static final int ChannelMode = 0x003A0302;
+    public static final int MultiplexGroupUID = 0x003A0310;
+    public static final int PowerlineFrequency = 0x003A0311;
+    public static final int ChannelImpedanceSequence = 0x003A0312;
+    public static final int ImpedanceValue = 0x003A0313;
+    public static final int ImpedanceMeasurementDateTime = 0x003A0314;
+    public static final int ImpedanceMeasurementFrequency = 0x003A0315;
+    public static final int ImpedanceMeasurementCurrentType = 0x003A0316;
+    public static final int ScheduledStationAETitle = 0x00400001;
+    public static final int ScheduledProcedureStepStartDate = 0x00400002;
+    public static final int ScheduledProcedureStepStartTime = 0x00400003;
+    public static final int ScheduledProcedureStepEndDate = 0x00400004;
+    public static final int ScheduledProcedureStepEndTime = 0x00400005;
+    public static final int ScheduledPerformingPhysicianName = 0x00400006;
+    public static final int ScheduledProcedureStepDescription = 0x00400007;
+    public static final int ScheduledProtocolCodeSequence = 0x00400008;
+    public static final int ScheduledProcedureStepID = 0x00400009;
+    public static final int StageCodeSequence = 0x0040000A;
+    public static final int ScheduledPerformingPhysicianIdentificationSequence = 0x0040000B;
+    public static final int ScheduledStationName = 0x00400010;
+    public static final int ScheduledProcedureStepLocation = 0x00400011;
+    public static final int PreMedication = 0x00400012;
+    public static final int ScheduledProcedureStepStatus = 0x00400020;
+    public static final int OrderPlacerIdentifierSequence = 0x00400026;
+    public static final int OrderFillerIdentifierSequence = 0x00400027;
+    public static final int LocalNamespaceEntityID = 0x00400031;
+    public static final int UniversalEntityID = 0x00400032;
+    public static final int UniversalEntityIDType = 0x00400033;
+    public static final int IdentifierTypeCode = 0x00400035;
+    public static final int AssigningFacilitySequence = 0x00400036;
+    public static final int AssigningJurisdictionCodeSequence = 0x00400039;
+    public static final int AssigningAgencyOrDepartmentCodeSequence = 0x0040003A;
+    public static final int ScheduledProcedureStepSequence = 0x00400100;
+    public static final int ReferencedNonImageCompositeSOPInstanceSequence = 0x00400220;
+    public static final int PerformedStationAETitle = 0x00400241;
+    public static final int PerformedStationName = 0x00400242;
+    public static final int PerformedLocation = 0x00400243;
+    public static final int PerformedProcedureStepStartDate = 0x00400244;
+    public static final int PerformedProcedureStepStartTime = 0x00400245;
+    public static final int PerformedProcedureStepEndDate = 0x00400250;
+    public static final int PerformedProcedureStepEndTime = 0x00400251;
+    public static final int PerformedProcedureStepStatus = 0x00400252;
+    public static final int PerformedProcedureStepID = 0x00400253;
+    public static final int PerformedProcedureStepDescription = 0x00400254;
+    public static final int PerformedProcedureTypeDescription = 0x00400255;
+    public static final int PerformedProtocolCodeSequence = 0x00400260;
+    public static final int PerformedProtocolType = 0x00400261;
+    public static final int ScheduledStepAttributesSequence = 0x00400270;
+    public static final int RequestAttributesSequence = 0x00400275;
+    public static final int CommentsOnThePerformedProcedureStep = 0x00400280;
+    public static final int PerformedProcedureStepDiscontinuationReasonCodeSequence = 0x00400281;
+    public static final int QuantitySequence = 0x00400293;
+    public static final int Quantity = 0x00400294;
+    public static final int MeasuringUnitsSequence = 0x00400295;
+    public static final int BillingItemSequence = 0x00400296;
+    public static final int EntranceDose = 0x00400302;
+    public static final int ExposedArea = 0x00400303;
+    public static final int DistanceSourceToEntrance = 0x00400306;
+    public static final int CommentsOnRadiationDose = 0x00400310;
+    public static final int XRayOutput = 0x00400312;
+    public static final int HalfValueLayer = 0x00400314;
+    public static final int OrganDose = 0x00400316;
+    public static final int OrganExposed = 0x00400318;
+    public static final int BillingProcedureStepSequence = 0x00400320;
+    public static final int FilmConsumptionSequence = 0x00400321;
+    public static final int BillingSuppliesAndDevicesSequence = 0x00400324;
+    public static final int PerformedSeriesSequence = 0x00400340;
+    public static final int CommentsOnTheScheduledProcedureStep = 0x00400400;
+    public static final int ProtocolContextSequence = 0x00400440;
+    public static final int ContentItemModifierSequence = 0x00400441;
+    public static final int ScheduledSpecimenSequence = 0x00400500;
+    public static final int ContainerIdentifier = 0x00400512;
+    public static final int IssuerOfTheContainerIdentifierSequence = 0x00400513;
+    public static final int AlternateContainerIdentifierSequence = 0x00400515;
+    public static final int ContainerTypeCodeSequence = 0x00400518;
+    public static final int ContainerDescription = 0x0040051A;
+    public static final int ContainerComponentSequence = 0x00400520;
+    public static final int SpecimenIdentifier = 0x00400551;
+    public static final int SpecimenUID = 0x00400554;
+    public static final int AcquisitionContextSequence = 0x00400555;
+    public static final int AcquisitionContextDescription = 0x00400556;
+    public static final int SpecimenDescriptionSequence = 0x00400560;
+    public static final int IssuerOfTheSpecimenIdentifierSequence = 0x00400562;
+    public static final int SpecimenTypeCodeSequence = 0x0040059A;
+    public static final int SpecimenShortDescription = 0x00400600;
+    public static final int SpecimenDetailedDescription = 0x00400602;
+    public static final int SpecimenPreparationSequence = 0x00400610;
+    public static final int SpecimenPreparationStepContentItemSequence = 0x00400612;
+    public static final int SpecimenLocalizationContentItemSequence = 0x00400620;
+    public static final int WholeSlideMicroscopyImageFrameTypeSequence = 0x00400710;
+    public static final int ImageCenterPointCoordinatesSequence = 0x0040071A;
+    public static final int XOffsetInSlideCoordinateSystem = 0x0040072A;
+    public static final int YOffsetInSlideCoordinateSystem = 0x0040073A;
+    public static final int ZOffsetInSlideCoordinateSystem = 0x0040074A;
+    public static final int MeasurementUnitsCodeSequence = 0x004008EA;
+    public static final int RequestedProcedureID = 0x00401001;
+    public static final int ReasonForTheRequestedProcedure = 0x00401002;
+    public static final int RequestedProcedurePriority = 0x00401003;
+    public static final int PatientTransportArrangements = 0x00401004;
+    public static final int RequestedProcedureLocation = 0x00401005;
+    public static final int ConfidentialityCode = 0x00401008;
+    public static final int ReportingPriority = 0x00401009;
+    public static final int ReasonForRequestedProcedureCodeSequence = 0x0040100A;
+    public static final int NamesOfIntendedRecipientsOfResults = 0x00401010;
+    public static final int IntendedRecipientsOfResultsIdentificationSequence = 0x00401011;
+    public static final int ReasonForPerformedProcedureCodeSequence = 0x00401012;
+    public static final int PersonIdentificationCodeSequence = 0x00401101;
+    public static final int PersonAddress = 0x00401102;
+    public static final int PersonTelephoneNumbers = 0x00401103;
+    public static final int PersonTelecomInformation = 0x00401104;
+    public static final int RequestedProcedureComments = 0x00401400;
+    public static final int IssueDateOfImagingServiceRequest = 0x00402004;
+    public static final int IssueTimeOfImagingServiceRequest = 0x00402005;
+    public static final int OrderEnteredBy = 0x00402008;
+    public static final int OrderEntererLocation = 0x00402009;
+    public static final int OrderCallbackPhoneNumber = 0x00402010;
+    public static final int OrderCallbackTelecomInformation = 0x00402011;
+    public static final int PlacerOrderNumberImagingServiceRequest = 0x00402016;
+    public static final int FillerOrderNumberImagingServiceRequest = 0x00402017;
+    public static final int ImagingServiceRequestComments = 0x00402400;
+    public static final int ConfidentialityConstraintOnPatientDataDescription = 0x00403001;
+    public static final int ScheduledProcedureStepStartDateTime = 0x00404005;
+    public static final int ScheduledProcedureStepExpirationDateTime = 0x00404008;
+    public static final int HumanPerformerCodeSequence = 0x00404009;
+    public static final int ScheduledProcedureStepModificationDateTime = 0x00404010;
+    public static final int ExpectedCompletionDateTime = 0x00404011;
+    public static final int ScheduledWorkitemCodeSequence = 0x00404018;
+    public static final int PerformedWorkitemCodeSequence = 0x00404019;
+    public static final int InputInformationSequence = 0x00404021;
+    public static final int ScheduledStationNameCodeSequence = 0x00404025;
+    public static final int ScheduledStationClassCodeSequence = 0x00404026;
+    public static final int ScheduledStationGeographicLocationCodeSequence = 0x00404027;
+    public static final int PerformedStationNameCodeSequence = 0x00404028;
+    public static final int PerformedStationClassCodeSequence = 0x00404029;
+    public static final int PerformedStationGeographicLocationCodeSequence = 0x00404030;
+    public static final int OutputInformationSequence = 0x00404033;
+    public static final int ScheduledHumanPerformersSequence = 0x00404034;
+    public static final int ActualHumanPerformersSequence = 0x00404035;
+    public static final int HumanPerformerOrganization = 0x00404036;
+    public static final int HumanPerformerName = 0x00404037;
+    public static final int RawDataHandling = 0x00404040;
+    public static final int InputReadinessState = 0x00404041;
+    public static final int PerformedProcedureStepStartDateTime = 0x00404050;
+    public static final int PerformedProcedureStepEndDateTime = 0x00404051;
+    public static final int ProcedureStepCancellationDateTime = 0x00404052;
+    public static final int OutputDestinationSequence = 0x00404070;
+    public static final int DICOMStorageSequence = 0x00404071;
+    public static final int STOWRSStorageSequence = 0x00404072;
+    public static final int StorageURL = 0x00404073;
+    public static final int XDSStorageSequence = 0x00404074;
+    public static final int EntranceDoseInmGy = 0x00408302;
+    public static final int EntranceDoseDerivation = 0x00408303;
+    public static final int ParametricMapFrameTypeSequence = 0x00409092;
+    public static final int ReferencedImageRealWorldValueMappingSequence = 0x00409094;
+    public static final int RealWorldValueMappingSequence = 0x00409096;
+    public static final int PixelValueMappingCodeSequence = 0x00409098;
+    public static final int LUTLabel = 0x00409210;
+    public static final int RealWorldValueLastValueMapped = 0x00409211;
+    public static final int RealWorldValueLUTData = 0x00409212;
+    public static final int DoubleFloatRealWorldValueLastValueMapped = 0x00409213;
+    public static final int DoubleFloatRealWorldValueFirstValueMapped = 0x00409214;
+    public static final int RealWorldValueFirstValueMapped = 0x00409216;
+    public static final int QuantityDefinitionSequence = 0x00409220;
+    public static final int RealWorldValueIntercept = 0x00409224;
+    public static final int RealWorldValueSlope = 0x00409225;
+    public static final int RelationshipType = 0x0040A010;
+    public static final int VerifyingOrganization = 0x0040A027;
+    public static final int VerificationDateTime = 0x0040A030;
+    public static final int ObservationDateTime = 0x0040A032;
+    public static final int ValueType = 0x0040A040;
+    public static final int ConceptNameCodeSequence = 0x0040A043;
+    public static final int ContinuityOfContent = 0x0040A050;
+    public static final int VerifyingObserverSequence = 0x0040A073;
+    public static final int VerifyingObserverName = 0x0040A075;
+    public static final int AuthorObserverSequence = 0x0040A078;
+    public static final int ParticipantSequence = 0x0040A07A;
+    public static final int CustodialOrganizationSequence = 0x0040A07C;
+    public static final int ParticipationType = 0x0040A080;
+    public static final int ParticipationDateTime = 0x0040A082;
+    public static final int ObserverType = 0x0040A084;
+    public static final int VerifyingObserverIdentificationCodeSequence = 0x0040A088;
+    public static final int ReferencedWaveformChannels = 0x0040A0B0;
+    public static final int DateTime = 0x0040A120;
+    public static final int Date = 0x0040A121;
+    public static final int Time = 0x0040A122;
+    public static final int PersonName = 0x0040A123;
+    public static final int UID = 0x0040A124;
+    public static final int TemporalRangeType = 0x0040A130;
+    public static final int ReferencedSamplePositions = 0x0040A132;
+    public static final int ReferencedTimeOffsets = 0x0040A138;
+    public static final int ReferencedDateTime = 0x0040A13A;
+    public static final int TextValue = 0x0040A160;
+    public static final int FloatingPointValue = 0x0040A161;
+    public static final int RationalNumeratorValue = 0x0040A162;
+    public static final int RationalDenominatorValue = 0x0040A163;
+    public static final int ConceptCodeSequence = 0x0040A168;
+    public static final int PurposeOfReferenceCodeSequence = 0x0040A170;
+    public static final int ObservationUID = 0x0040A171;
+    public static final int AnnotationGroupNumber = 0x0040A180;
+    public static final int ModifierCodeSequence = 0x0040A195;
+    public static final int MeasuredValueSequence = 0x0040A300;
+    public static final int NumericValueQualifierCodeSequence = 0x0040A301;
+    public static final int NumericValue = 0x0040A30A;
+    public static final int PredecessorDocumentsSequence = 0x0040A360;
+    public static final int ReferencedRequestSequence = 0x0040A370;
+    public static final int PerformedProcedureCodeSequence = 0x0040A372;
+    public static final int CurrentRequestedProcedureEvidenceSequence = 0x0040A375;
+    public static final int PertinentOtherEvidenceSequence = 0x0040A385;
+    public static final int HL7StructuredDocumentReferenceSequence = 0x0040A390;
+    public static final int CompletionFlag = 0x0040A491;
+    public static final int CompletionFlagDescription = 0x0040A492;
+    public static final int VerificationFlag = 0x0040A493;
+    public static final int ArchiveRequested = 0x0040A494;
+    public static final int PreliminaryFlag = 0x0040A496;
+    public static final int ContentTemplateSequence = 0x0040A504;
+    public static final int IdenticalDocumentsSequence = 0x0040A525;
+    public static final int ContentSequence = 0x0040A730;
+    public static final int TabulatedValuesSequence = 0x0040A801;
+    public static final int NumberOfTableRows = 0x0040A802;
+    public static final int NumbeOfTableColumns = 0x0040A803;
+    public static final int TableRowNumber = 0x0040A804;
+    public static final int TableColumnNumber = 0x0040A805;
+    public static final int TableRowDefinitionSequence = 0x0040A806;
+    public static final int TableColumnDefinitionSequence = 0x0040A807;
+    public static final int CellValuesSequence = 0x0040A808;
+    public static final int WaveformAnnotationSequence = 0x0040B020;
+    public static final int TemplateIdentifier = 0x0040DB00;
+    public static final int ReferencedContentItemIdentifier = 0x0040DB73;
+    public static final int HL7InstanceIdentifier = 0x0040E001;
+    public static final int HL7DocumentEffectiveTime = 0x0040E004;
+    public static final int HL7DocumentTypeCodeSequence = 0x0040E006;
+    public static final int DocumentClassCodeSequence = 0x0040E008;
+    public static final int RetrieveURI = 0x0040E010;
+    public static final int RetrieveLocationUID = 0x0040E011;
+    public static final int TypeOfInstances = 0x0040E020;
+    public static final int DICOMRetrievalSequence = 0x0040E021;
+    public static final int DICOMMediaRetrievalSequence = 0x0040E022;
+    public static final int WADORetrievalSequence = 0x0040E023;
+    public static final int XDSRetrievalSequence = 0x0040E024;
+    public static final int WADORSRetrievalSequence = 0x0040E025;
+    public static final int RepositoryUniqueID = 0x0040E030;
+    public static final int HomeCommunityID = 0x0040E031;
+    public static final int DocumentTitle = 0x00420010;
+    public static final int EncapsulatedDocument = 0x00420011;
+    public static final int MIMETypeOfEncapsulatedDocument = 0x00420012;
+    public static final int SourceInstanceSequence = 0x00420013;
+    public static final int ListOfMIMETypes = 0x00420014;
+    public static final int EncapsulatedDocumentLength = 0x00420015;
+    public static final int ProductPackageIdentifier = 0x00440001;
+    public static final int SubstanceAdministrationApproval = 0x00440002;
+    public static final int ApprovalStatusFurtherDescription = 0x00440003;
+    public static final int ApprovalStatusDateTime = 0x00440004;
+    public static final int ProductTypeCodeSequence = 0x00440007;
+    public static final int ProductName = 0x00440008;
+    public static final int ProductDescription = 0x00440009;
+    public static final int ProductLotIdentifier = 0x0044000A;
+    public static final int ProductExpirationDateTime = 0x0044000B;
+    public static final int SubstanceAdministrationDateTime = 0x00440010;
+    public static final int SubstanceAdministrationNotes = 0x00440011;
+    public static final int SubstanceAdministrationDeviceID = 0x00440012;
+    public static final int ProductParameterSequence = 0x00440013;
+    public static final int SubstanceAdministrationParameterSequence = 0x00440019;
+    public static final int ApprovalSequence = 0x00440100;
+    public static final int AssertionCodeSequence = 0x00440101;
+    public static final int AssertionUID = 0x00440102;
+    public static final int AsserterIdentificationSequence = 0x00440103;
+    public static final int AssertionDateTime = 0x00440104;
+    public static final int AssertionExpirationDateTime = 0x00440105;
+    public static final int AssertionComments = 0x00440106;
+    public static final int RelatedAssertionSequence = 0x00440107;
+    public static final int ReferencedAssertionUID = 0x00440108;
+    public static final int ApprovalSubjectSequence = 0x00440109;
+    public static final int OrganizationalRoleCodeSequence = 0x0044010A;
+    public static final int LensDescription = 0x00460012;
+    public static final int RightLensSequence = 0x00460014;
+    public static final int LeftLensSequence = 0x00460015;
+    public static final int UnspecifiedLateralityLensSequence = 0x00460016;
+    public static final int CylinderSequence = 0x00460018;
+    public static final int PrismSequence = 0x00460028;
+    public static final int HorizontalPrismPower = 0x00460030;
+    public static final int HorizontalPrismBase = 0x00460032;
+    public static final int VerticalPrismPower = 0x00460034;
+    public static final int VerticalPrismBase = 0x00460036;
+    public static final int LensSegmentType = 0x00460038;
+    public static final int OpticalTransmittance = 0x00460040;
+    public static final int ChannelWidth = 0x00460042;
+    public static final int PupilSize = 0x00460044;
+    public static final int CornealSize = 0x00460046;
+    public static final int CornealSizeSequence = 0x00460047;
+    public static final int AutorefractionRightEyeSequence = 0x00460050;
+    public static final int AutorefractionLeftEyeSequence = 0x00460052;
+    public static final int DistancePupillaryDistance = 0x00460060;
+    public static final int NearPupillaryDistance = 0x00460062;
+    public static final int IntermediatePupillaryDistance = 0x00460063;
+    public static final int OtherPupillaryDistance = 0x00460064;
+    public static final int KeratometryRightEyeSequence = 0x00460070;
+    public static final int KeratometryLeftEyeSequence = 0x00460071;
+    public static final int SteepKeratometricAxisSequence = 0x00460074;
+    public static final int RadiusOfCurvature = 0x00460075;
+    public static final int KeratometricPower = 0x00460076;
+    public static final int KeratometricAxis = 0x00460077;
+    public static final int FlatKeratometricAxisSequence = 0x00460080;
+    public static final int BackgroundColor = 0x00460092;
+    public static final int Optotype = 0x00460094;
+    public static final int OptotypePresentation = 0x00460095;
+    public static final int SubjectiveRefractionRightEyeSequence = 0x00460097;
+    public static final int SubjectiveRefractionLeftEyeSequence = 0x00460098;
+    public static final int AddNearSequence = 0x00460100;
+    public static final int AddIntermediateSequence = 0x00460101;
+    public static final int AddOtherSequence = 0x00460102;
+    public static final int AddPower = 0x00460104;
+    public static final int ViewingDistance = 0x00460106;
+    public static final int CorneaMeasurementsSequence = 0x00460110;
+    public static final int SourceOfCorneaMeasurementDataCodeSequence = 0x00460111;
+    public static final int SteepCornealAxisSequence = 0x00460112;
+    public static final int FlatCornealAxisSequence = 0x00460113;
+    public static final int CornealPower = 0x00460114;
+    public static final int CornealAxis = 0x00460115;
+    public static final int CorneaMeasurementMethodCodeSequence = 0x00460116;
+    public static final int RefractiveIndexOfCornea = 0x00460117;
+    public static final int RefractiveIndexOfAqueousHumor = 0x00460118;
+    public static final int VisualAcuityTypeCodeSequence = 0x00460121;
+    public static final int VisualAcuityRightEyeSequence = 0x00460122;
+    public static final int VisualAcuityLeftEyeSequence = 0x00460123;
+    public static final int VisualAcuityBothEyesOpenSequence = 0x00460124;
+    public static final int ViewingDistanceType = 0x00460125;
+    public static final int VisualAcuityModifiers = 0x00460135;
+    public static final int DecimalVisualAcuity = 0x00460137;
+    public static final int OptotypeDetailedDefinition = 0x00460139;
+    public static final int ReferencedRefractiveMeasurementsSequence = 0x00460145;
+    public static final int SpherePower = 0x00460146;
+    public static final int CylinderPower = 0x00460147;
+    public static final int CornealTopographySurface = 0x00460201;
+    public static final int CornealVertexLocation = 0x00460202;
+    public static final int PupilCentroidXCoordinate = 0x00460203;
+    public static final int PupilCentroidYCoordinate = 0x00460204;
+    public static final int EquivalentPupilRadius = 0x00460205;
+    public static final int CornealTopographyMapTypeCodeSequence = 0x00460207;
+    public static final int VerticesOfTheOutlineOfPupil = 0x00460208;
+    public static final int CornealTopographyMappingNormalsSequence = 0x00460210;
+    public static final int MaximumCornealCurvatureSequence = 0x00460211;
+    public static final int MaximumCornealCurvature = 0x00460212;
+    public static final int MaximumCornealCurvatureLocation = 0x00460213;
+    public static final int MinimumKeratometricSequence = 0x00460215;
+    public static final int SimulatedKeratometricCylinderSequence = 0x00460218;
+    public static final int AverageCornealPower = 0x00460220;
+    public static final int CornealISValue = 0x00460224;
+    public static final int AnalyzedArea = 0x00460227;
+    public static final int SurfaceRegularityIndex = 0x00460230;
+    public static final int SurfaceAsymmetryIndex = 0x00460232;
+    public static final int CornealEccentricityIndex = 0x00460234;
+    public static final int KeratoconusPredictionIndex = 0x00460236;
+    public static final int DecimalPotentialVisualAcuity = 0x00460238;
+    public static final int CornealTopographyMapQualityEvaluation = 0x00460242;
+    public static final int SourceImageCornealProcessedDataSequence = 0x00460244;
+    public static final int CornealPointLocation = 0x00460247;
+    public static final int CornealPointEstimated = 0x00460248;
+    public static final int AxialPower = 0x00460249;
+    public static final int TangentialPower = 0x00460250;
+    public static final int RefractivePower = 0x00460251;
+    public static final int RelativeElevation = 0x00460252;
+    public static final int CornealWavefront = 0x00460253;
+    public static final int ImagedVolumeWidth = 0x00480001;
+    public static final int ImagedVolumeHeight = 0x00480002;
+    public static final int ImagedVolumeDepth = 0x00480003;
+    public static final int TotalPixelMatrixColumns = 0x00480006;
+    public static final int TotalPixelMatrixRows = 0x00480007;
+    public static final int TotalPixelMatrixOriginSequence = 0x00480008;
+    public static final int SpecimenLabelInImage = 0x00480010;
+    public static final int FocusMethod = 0x00480011;
+    public static final int ExtendedDepthOfField = 0x00480012;
+    public static final int NumberOfFocalPlanes = 0x00480013;
+    public static final int DistanceBetweenFocalPlanes = 0x00480014;
+    public static final int RecommendedAbsentPixelCIELabValue = 0x00480015;
+    public static final int IlluminatorTypeCodeSequence = 0x00480100;
+    public static final int ImageOrientationSlide = 0x00480102;
+    public static final int OpticalPathSequence = 0x00480105;
+    public static final int OpticalPathIdentifier = 0x00480106;
+    public static final int OpticalPathDescription = 0x00480107;
+    public static final int IlluminationColorCodeSequence = 0x00480108;
+    public static final int SpecimenReferenceSequence = 0x00480110;
+    public static final int CondenserLensPower = 0x00480111;
+    public static final int ObjectiveLensPower = 0x00480112;
+    public static final int ObjectiveLensNumericalAperture = 0x00480113;
+    public static final int PaletteColorLookupTableSequence = 0x00480120;
+    public static final int ReferencedImageNavigationSequence = 0x00480200;
+    public static final int TopLeftHandCornerOfLocalizerArea = 0x00480201;
+    public static final int BottomRightHandCornerOfLocalizerArea = 0x00480202;
+    public static final int OpticalPathIdentificationSequence = 0x00480207;
+    public static final int PlanePositionSlideSequence = 0x0048021A;
+    public static final int ColumnPositionInTotalImagePixelMatrix = 0x0048021E;
+    public static final int RowPositionInTotalImagePixelMatrix = 0x0048021F;
+    public static final int PixelOriginInterpretation = 0x00480301;
+    public static final int NumberOfOpticalPaths = 0x00480302;
+    public static final int TotalPixelMatrixFocalPlanes = 0x00480303;
+    public static final int CalibrationImage = 0x00500004;
+    public static final int DeviceSequence = 0x00500010;
+    public static final int ContainerComponentTypeCodeSequence = 0x00500012;
+    public static final int ContainerComponentThickness = 0x00500013;
+    public static final int DeviceLength = 0x00500014;
+    public static final int ContainerComponentWidth = 0x00500015;
+    public static final int DeviceDiameter = 0x00500016;
+    public static final int DeviceDiameterUnits = 0x00500017;
+    public static final int DeviceVolume = 0x00500018;
+    public static final int InterMarkerDistance = 0x00500019;
+    public static final int ContainerComponentMaterial = 0x0050001A;
+    public static final int ContainerComponentID = 0x0050001B;
+    public static final int ContainerComponentLength = 0x0050001C;
+    public static final int ContainerComponentDiameter = 0x0050001D;
+    public static final int ContainerComponentDescription = 0x0050001E;
+    public static final int DeviceDescription = 0x00500020;
+    public static final int LongDeviceDescription = 0x00500021;
+    public static final int ContrastBolusIngredientPercentByVolume = 0x00520001;
+    public static final int OCTFocalDistance = 0x00520002;
+    public static final int BeamSpotSize = 0x00520003;
+    public static final int EffectiveRefractiveIndex = 0x00520004;
+    public static final int OCTAcquisitionDomain = 0x00520006;
+    public static final int OCTOpticalCenterWavelength = 0x00520007;
+    public static final int AxialResolution = 0x00520008;
+    public static final int RangingDepth = 0x00520009;
+    public static final int ALineRate = 0x00520011;
+    public static final int ALinesPerFrame = 0x00520012;
+    public static final int CatheterRotationalRate = 0x00520013;
+    public static final int ALinePixelSpacing = 0x00520014;
+    public static final int ModeOfPercutaneousAccessSequence = 0x00520016;
+    public static final int IntravascularOCTFrameTypeSequence = 0x00520025;
+    public static final int OCTZOffsetApplied = 0x00520026;
+    public static final int IntravascularFrameContentSequence = 0x00520027;
+    public static final int IntravascularLongitudinalDistance = 0x00520028;
+    public static final int IntravascularOCTFrameContentSequence = 0x00520029;
+    public static final int OCTZOffsetCorrection = 0x00520030;
+    public static final int CatheterDirectionOfRotation = 0x00520031;
+    public static final int SeamLineLocation = 0x00520033;
+    public static final int FirstALineLocation = 0x00520034;
+    public static final int SeamLineIndex = 0x00520036;
+    public static final int NumberOfPaddedALines = 0x00520038;
+    public static final int InterpolationType = 0x00520039;
+    public static final int RefractiveIndexApplied = 0x0052003A;
+    public static final int EnergyWindowVector = 0x00540010;
+    public static final int NumberOfEnergyWindows = 0x00540011;
+    public static final int EnergyWindowInformationSequence = 0x00540012;
+    public static final int EnergyWindowRangeSequence = 0x00540013;
+    public static final int EnergyWindowLowerLimit = 0x00540014;
+    public static final int EnergyWindowUpperLimit = 0x00540015;
+    public static final int RadiopharmaceuticalInformationSequence = 0x00540016;
+    public static final int ResidualSyringeCounts = 0x00540017;
+    public static final int EnergyWindowName = 0x00540018;
+    public static final int DetectorVector = 0x00540020;
+    public static final int NumberOfDetectors = 0x00540021;
+    public static final int DetectorInformationSequence = 0x00540022;
+    public static final int PhaseVector = 0x00540030;
+    public static final int NumberOfPhases = 0x00540031;
+    public static final int PhaseInformationSequence = 0x00540032;
+    public static final int NumberOfFramesInPhase = 0x00540033;
+    public static final int PhaseDelay = 0x00540036;
+    public static final int PauseBetweenFrames = 0x00540038;
+    public static final int PhaseDescription = 0x00540039;
+    public static final int RotationVector = 0x00540050;
+    public static final int NumberOfRotations = 0x00540051;
+    public static final int RotationInformationSequence = 0x00540052;
+    public static final int NumberOfFramesInRotation = 0x00540053;
+    public static final int RRIntervalVector = 0x00540060;
+    public static final int NumberOfRRIntervals = 0x00540061;
+    public static final int GatedInformationSequence = 0x00540062;
+    public static final int DataInformationSequence = 0x00540063;
+    public static final int TimeSlotVector = 0x00540070;
+    public static final int NumberOfTimeSlots = 0x00540071;
+    public static final int TimeSlotInformationSequence = 0x00540072;
+    public static final int TimeSlotTime = 0x00540073;
+    public static final int SliceVector = 0x00540080;
+    public static final int NumberOfSlices = 0x00540081;
+    public static final int AngularViewVector = 0x00540090;
+    public static final int TimeSliceVector = 0x00540100;
+    public static final int NumberOfTimeSlices = 0x00540101;
+    public static final int StartAngle = 0x00540200;
+    public static final int TypeOfDetectorMotion = 0x00540202;
+    public static final int TriggerVector = 0x00540210;
+    public static final int NumberOfTriggersInPhase = 0x00540211;
+    public static final int ViewCodeSequence = 0x00540220;
+    public static final int ViewModifierCodeSequence = 0x00540222;
+    public static final int RadionuclideCodeSequence = 0x00540300;
+    public static final int AdministrationRouteCodeSequence = 0x00540302;
+    public static final int RadiopharmaceuticalCodeSequence = 0x00540304;
+    public static final int CalibrationDataSequence = 0x00540306;
+    public static final int EnergyWindowNumber = 0x00540308;
+    public static final int ImageID = 0x00540400;
+    public static final int PatientOrientationCodeSequence = 0x00540410;
+    public static final int PatientOrientationModifierCodeSequence = 0x00540412;
+    public static final int PatientGantryRelationshipCodeSequence = 0x00540414;
+    public static final int SliceProgressionDirection = 0x00540500;
+    public static final int ScanProgressionDirection = 0x00540501;
+    public static final int SeriesType = 0x00541000;
+    public static final int Units = 0x00541001;
+    public static final int CountsSource = 0x00541002;
+    public static final int ReprojectionMethod = 0x00541004;
+    public static final int SUVType = 0x00541006;
+    public static final int RandomsCorrectionMethod = 0x00541100;
+    public static final int AttenuationCorrectionMethod = 0x00541101;
+    public static final int DecayCorrection = 0x00541102;
+    public static final int ReconstructionMethod = 0x00541103;
+    public static final int DetectorLinesOfResponseUsed = 0x00541104;
+    public static final int ScatterCorrectionMethod = 0x00541105;
+    public static final int AxialAcceptance = 0x00541200;
+    public static final int AxialMash = 0x00541201;
+    public static final int TransverseMash = 0x00541202;
+    public static final int DetectorElementSize = 0x00541203;
+    public static final int CoincidenceWindowWidth = 0x00541210;
+    public static final int SecondaryCountsType = 0x00541220;
+    public static final int FrameReferenceTime = 0x00541300;
+    public static final int PrimaryPromptsCountsAccumulated = 0x00541310;
+    public static final int SecondaryCountsAccumulated = 0x00541311;
+    public static final int SliceSensitivityFactor = 0x00541320;
+    public static final int DecayFactor = 0x00541321;
+    public static final int DoseCalibrationFactor = 0x00541322;
+    public static final int ScatterFractionFactor = 0x00541323;
+    public static final int DeadTimeFactor = 0x00541324;
+    public static final int ImageIndex = 0x00541330;
+    public static final int HistogramSequence = 0x00603000;
+    public static final int HistogramNumberOfBins = 0x00603002;
+    public static final int HistogramFirstBinValue = 0x00603004;
+    public static final int HistogramLastBinValue = 0x00603006;
+    public static final int HistogramBinWidth = 0x00603008;
+    public static final int HistogramExplanation = 0x00603010;
+    public static final int HistogramData = 0x00603020;
+    public static final int SegmentationType = 0x00620001;
+    public static final int SegmentSequence = 0x00620002;
+    public static final int SegmentedPropertyCategoryCodeSequence = 0x00620003;
+    public static final int SegmentNumber = 0x00620004;
+    public static final int SegmentLabel = 0x00620005;
+    public static final int SegmentDescription = 0x00620006;
+    public static final int SegmentationAlgorithmIdentificationSequence = 0x00620007;
+    public static final int SegmentAlgorithmType = 0x00620008;
+    public static final int SegmentAlgorithmName = 0x00620009;
+    public static final int SegmentIdentificationSequence = 0x0062000A;
+    public static final int ReferencedSegmentNumber = 0x0062000B;
+    public static final int RecommendedDisplayGrayscaleValue = 0x0062000C;
+    public static final int RecommendedDisplayCIELabValue = 0x0062000D;
+    public static final int MaximumFractionalValue = 0x0062000E;
+    public static final int SegmentedPropertyTypeCodeSequence = 0x0062000F;
+    public static final int SegmentationFractionalType = 0x00620010;
+    public static final int SegmentedPropertyTypeModifierCodeSequence = 0x00620011;
+    public static final int UsedSegmentsSequence = 0x00620012;
+    public static final int SegmentsOverlap = 0x00620013;
+    public static final int TrackingID = 0x00620020;
+    public static final int TrackingUID = 0x00620021;
+    public static final int DeformableRegistrationSequence = 0x00640002;
+    public static final int SourceFrameOfReferenceUID = 0x00640003;
+    public static final int DeformableRegistrationGridSequence = 0x00640005;
+    public static final int GridDimensions = 0x00640007;
+    public static final int GridResolution = 0x00640008;
+    public static final int VectorGridData = 0x00640009;
+    public static final int PreDeformationMatrixRegistrationSequence = 0x0064000F;
+    public static final int PostDeformationMatrixRegistrationSequence = 0x00640010;
+    public static final int NumberOfSurfaces = 0x00660001;
+    public static final int SurfaceSequence = 0x00660002;
+    public static final int SurfaceNumber = 0x00660003;
+    public static final int SurfaceComments = 0x00660004;
+    public static final int SurfaceProcessing = 0x00660009;
+    public static final int SurfaceProcessingRatio = 0x0066000A;
+    public static final int SurfaceProcessingDescription = 0x0066000B;
+    public static final int RecommendedPresentationOpacity = 0x0066000C;
+    public static final int RecommendedPresentationType = 0x0066000D;
+    public static final int FiniteVolume = 0x0066000E;
+    public static final int Manifold = 0x00660010;
+    public static final int SurfacePointsSequence = 0x00660011;
+    public static final int SurfacePointsNormalsSequence = 0x00660012;
+    public static final int SurfaceMeshPrimitivesSequence = 0x00660013;
+    public static final int NumberOfSurfacePoints = 0x00660015;
+    public static final int PointCoordinatesData = 0x00660016;
+    public static final int PointPositionAccuracy = 0x00660017;
+    public static final int MeanPointDistance = 0x00660018;
+    public static final int MaximumPointDistance = 0x00660019;
+    public static final int PointsBoundingBoxCoordinates = 0x0066001A;
+    public static final int AxisOfRotation = 0x0066001B;
+    public static final int CenterOfRotation = 0x0066001C;
+    public static final int NumberOfVectors = 0x0066001E;
+    public static final int VectorDimensionality = 0x0066001F;
+    public static final int VectorAccuracy = 0x00660020;
+    public static final int VectorCoordinateData = 0x00660021;
+    public static final int TriangleStripSequence = 0x00660026;
+    public static final int TriangleFanSequence = 0x00660027;
+    public static final int LineSequence = 0x00660028;
+    public static final int SurfaceCount = 0x0066002A;
+    public static final int ReferencedSurfaceSequence = 0x0066002B;
+    public static final int ReferencedSurfaceNumber = 0x0066002C;
+    public static final int SegmentSurfaceGenerationAlgorithmIdentificationSequence = 0x0066002D;
+    public static final int SegmentSurfaceSourceInstanceSequence = 0x0066002E;
+    public static final int AlgorithmFamilyCodeSequence = 0x0066002F;
+    public static final int AlgorithmNameCodeSequence = 0x00660030;
+    public static final int AlgorithmVersion = 0x00660031;
+    public static final int AlgorithmParameters = 0x00660032;
+    public static final int FacetSequence = 0x00660034;
+    public static final int SurfaceProcessingAlgorithmIdentificationSequence = 0x00660035;
+    public static final int AlgorithmName = 0x00660036;
+    public static final int RecommendedPointRadius = 0x00660037;
+    public static final int RecommendedLineThickness = 0x00660038;
+    public static final int LongPrimitivePointIndexList = 0x00660040;
+    public static final int LongTrianglePointIndexList = 0x00660041;
+    public static final int LongEdgePointIndexList = 0x00660042;
+    public static final int LongVertexPointIndexList = 0x00660043;
+    public static final int TrackSetSequence = 0x00660101;
+    public static final int TrackSequence = 0x00660102;
+    public static final int RecommendedDisplayCIELabValueList = 0x00660103;
+    public static final int TrackingAlgorithmIdentificationSequence = 0x00660104;
+    public static final int TrackSetNumber = 0x00660105;
+    public static final int TrackSetLabel = 0x00660106;
+    public static final int TrackSetDescription = 0x00660107;
+    public static final int TrackSetAnatomicalTypeCodeSequence = 0x00660108;
+    public static final int MeasurementsSequence = 0x00660121;
+    public static final int TrackSetStatisticsSequence = 0x00660124;
+    public static final int FloatingPointValues = 0x00660125;
+    public static final int TrackPointIndexList = 0x00660129;
+    public static final int TrackStatisticsSequence = 0x00660130;
+    public static final int MeasurementValuesSequence = 0x00660132;
+    public static final int DiffusionAcquisitionCodeSequence = 0x00660133;
+    public static final int DiffusionModelCodeSequence = 0x00660134;
+    public static final int ImplantSize = 0x00686210;
+    public static final int ImplantTemplateVersion = 0x00686221;
+    public static final int ReplacedImplantTemplateSequence = 0x00686222;
+    public static final int ImplantType = 0x00686223;
+    public static final int DerivationImplantTemplateSequence = 0x00686224;
+    public static final int OriginalImplantTemplateSequence = 0x00686225;
+    public static final int EffectiveDateTime = 0x00686226;
+    public static final int ImplantTargetAnatomySequence = 0x00686230;
+    public static final int InformationFromManufacturerSequence = 0x00686260;
+    public static final int NotificationFromManufacturerSequence = 0x00686265;
+    public static final int InformationIssueDateTime = 0x00686270;
+    public static final int InformationSummary = 0x00686280;
+    public static final int ImplantRegulatoryDisapprovalCodeSequence = 0x006862A0;
+    public static final int OverallTemplateSpatialTolerance = 0x006862A5;
+    public static final int HPGLDocumentSequence = 0x006862C0;
+    public static final int HPGLDocumentID = 0x006862D0;
+    public static final int HPGLDocumentLabel = 0x006862D5;
+    public static final int ViewOrientationCodeSequence = 0x006862E0;
+    public static final int ViewOrientationModifierCodeSequence = 0x006862F0;
+    public static final int HPGLDocumentScaling = 0x006862F2;
+    public static final int HPGLDocument = 0x00686300;
+    public static final int HPGLContourPenNumber = 0x00686310;
+    public static final int HPGLPenSequence = 0x00686320;
+    public static final int HPGLPenNumber = 0x00686330;
+    public static final int HPGLPenLabel = 0x00686340;
+    public static final int HPGLPenDescription = 0x00686345;
+    public static final int RecommendedRotationPoint = 0x00686346;
+    public static final int BoundingRectangle = 0x00686347;
+    public static final int ImplantTemplate3DModelSurfaceNumber = 0x00686350;
+    public static final int SurfaceModelDescriptionSequence = 0x00686360;
+    public static final int SurfaceModelLabel = 0x00686380;
+    public static final int SurfaceModelScalingFactor = 0x00686390;
+    public static final int MaterialsCodeSequence = 0x006863A0;
+    public static final int CoatingMaterialsCodeSequence = 0x006863A4;
+    public static final int ImplantTypeCodeSequence = 0x006863A8;
+    public static final int FixationMethodCodeSequence = 0x006863AC;
+    public static final int MatingFeatureSetsSequence = 0x006863B0;
+    public static final int MatingFeatureSetID = 0x006863C0;
+    public static final int MatingFeatureSetLabel = 0x006863D0;
+    public static final int MatingFeatureSequence = 0x006863E0;
+    public static final int MatingFeatureID = 0x006863F0;
+    public static final int MatingFeatureDegreeOfFreedomSequence = 0x00686400;
+    public static final int DegreeOfFreedomID = 0x00686410;
+    public static final int DegreeOfFreedomType = 0x00686420;
+    public static final int TwoDMatingFeatureCoordinatesSequence = 0x00686430;
+    public static final int ReferencedHPGLDocumentID = 0x00686440;
+    public static final int TwoDMatingPoint = 0x00686450;
+    public static final int TwoDMatingAxes = 0x00686460;
+    public static final int TwoDDegreeOfFreedomSequence = 0x00686470;
+    public static final int ThreeDDegreeOfFreedomAxis = 0x00686490;
+    public static final int RangeOfFreedom = 0x006864A0;
+    public static final int ThreeDMatingPoint = 0x006864C0;
+    public static final int ThreeDMatingAxes = 0x006864D0;
+    public static final int TwoDDegreeOfFreedomAxis = 0x006864F0;
+    public static final int PlanningLandmarkPointSequence = 0x00686500;
+    public static final int PlanningLandmarkLineSequence = 0x00686510;
+    public static final int PlanningLandmarkPlaneSequence = 0x00686520;
+    public static final int PlanningLandmarkID = 0x00686530;
+    public static final int PlanningLandmarkDescription = 0x00686540;
+    public static final int PlanningLandmarkIdentificationCodeSequence = 0x00686545;
+    public static final int TwoDPointCoordinatesSequence = 0x00686550;
+    public static final int TwoDPointCoordinates = 0x00686560;
+    public static final int ThreeDPointCoordinates = 0x00686590;
+    public static final int TwoDLineCoordinatesSequence = 0x006865A0;
+    public static final int TwoDLineCoordinates = 0x006865B0;
+    public static final int ThreeDLineCoordinates = 0x006865D0;
+    public static final int TwoDPlaneCoordinatesSequence = 0x006865E0;
+    public static final int TwoDPlaneIntersection = 0x006865F0;
+    public static final int ThreeDPlaneOrigin = 0x00686610;
+    public static final int ThreeDPlaneNormal = 0x00686620;
+    public static final int ModelModification = 0x00687001;
+    public static final int ModelMirroring = 0x00687002;
+    public static final int ModelUsageCodeSequence = 0x00687003;
+    public static final int ModelGroupUID = 0x00687004;
+    public static final int RelativeURIReferenceWithinEncapsulatedDocument = 0x00687005;
+    public static final int GraphicAnnotationSequence = 0x00700001;
+    public static final int GraphicLayer = 0x00700002;
+    public static final int BoundingBoxAnnotationUnits = 0x00700003;
+    public static final int AnchorPointAnnotationUnits = 0x00700004;
+    public static final int GraphicAnnotationUnits = 0x00700005;
+    public static final int UnformattedTextValue = 0x00700006;
+    public static final int TextObjectSequence = 0x00700008;
+    public static final int GraphicObjectSequence = 0x00700009;
+    public static final int BoundingBoxTopLeftHandCorner = 0x00700010;
+    public static final int BoundingBoxBottomRightHandCorner = 0x00700011;
+    public static final int BoundingBoxTextHorizontalJustification = 0x00700012;
+    public static final int AnchorPoint = 0x00700014;
+    public static final int AnchorPointVisibility = 0x00700015;
+    public static final int GraphicDimensions = 0x00700020;
+    public static final int NumberOfGraphicPoints = 0x00700021;
+    public static final int GraphicData = 0x00700022;
+    public static final int GraphicType = 0x00700023;
+    public static final int GraphicFilled = 0x00700024;
+    public static final int ImageHorizontalFlip = 0x00700041;
+    public static final int ImageRotation = 0x00700042;
+    public static final int DisplayedAreaTopLeftHandCorner = 0x00700052;
+    public static final int DisplayedAreaBottomRightHandCorner = 0x00700053;
+    public static final int DisplayedAreaSelectionSequence = 0x0070005A;
+    public static final int GraphicLayerSequence = 0x00700060;
+    public static final int GraphicLayerOrder = 0x00700062;
+    public static final int GraphicLayerRecommendedDisplayGrayscaleValue = 0x00700066;
+    public static final int GraphicLayerDescription = 0x00700068;
+    public static final int ContentLabel = 0x00700080;
+    public static final int ContentDescription = 0x00700081;
+    public static final int PresentationCreationDate = 0x00700082;
+    public static final int PresentationCreationTime = 0x00700083;
+    public static final int ContentCreatorName = 0x00700084;
+    public static final int ContentCreatorIdentificationCodeSequence = 0x00700086;
+    public static final int AlternateContentDescriptionSequence = 0x00700087;
+    public static final int PresentationSizeMode = 0x00700100;
+    public static final int PresentationPixelSpacing = 0x00700101;
+    public static final int PresentationPixelAspectRatio = 0x00700102;
+    public static final int PresentationPixelMagnificationRatio = 0x00700103;
+    public static final int GraphicGroupLabel = 0x00700207;
+    public static final int GraphicGroupDescription = 0x00700208;
+    public static final int CompoundGraphicSequence = 0x00700209;
+    public static final int CompoundGraphicInstanceID = 0x00700226;
+    public static final int FontName = 0x00700227;
+    public static final int FontNameType = 0x00700228;
+    public static final int CSSFontName = 0x00700229;
+    public static final int RotationAngle = 0x00700230;
+    public static final int TextStyleSequence = 0x00700231;
+    public static final int LineStyleSequence = 0x00700232;
+    public static final int FillStyleSequence = 0x00700233;
+    public static final int GraphicGroupSequence = 0x00700234;
+    public static final int TextColorCIELabValue = 0x00700241;
+    public static final int HorizontalAlignment = 0x00700242;
+    public static final int VerticalAlignment = 0x00700243;
+    public static final int ShadowStyle = 0x00700244;
+    public static final int ShadowOffsetX = 0x00700245;
+    public static final int ShadowOffsetY = 0x00700246;
+    public static final int ShadowColorCIELabValue = 0x00700247;
+    public static final int Underlined = 0x00700248;
+    public static final int Bold = 0x00700249;
+    public static final int Italic = 0x00700250;
+    public static final int PatternOnColorCIELabValue = 0x00700251;
+    public static final int PatternOffColorCIELabValue = 0x00700252;
+    public static final int LineThickness = 0x00700253;
+    public static final int LineDashingStyle = 0x00700254;
+    public static final int LinePattern = 0x00700255;
+    public static final int FillPattern = 0x00700256;
+    public static final int FillMode = 0x00700257;
+    public static final int ShadowOpacity = 0x00700258;
+    public static final int GapLength = 0x00700261;
+    public static final int DiameterOfVisibility = 0x00700262;
+    public static final int RotationPoint = 0x00700273;
+    public static final int TickAlignment = 0x00700274;
+    public static final int ShowTickLabel = 0x00700278;
+    public static final int TickLabelAlignment = 0x00700279;
+    public static final int CompoundGraphicUnits = 0x00700282;
+    public static final int PatternOnOpacity = 0x00700284;
+    public static final int PatternOffOpacity = 0x00700285;
+    public static final int MajorTicksSequence = 0x00700287;
+    public static final int TickPosition = 0x00700288;
+    public static final int TickLabel = 0x00700289;
+    public static final int CompoundGraphicType = 0x00700294;
+    public static final int GraphicGroupID = 0x00700295;
+    public static final int ShapeType = 0x00700306;
+    public static final int RegistrationSequence = 0x00700308;
+    public static final int MatrixRegistrationSequence = 0x00700309;
+    public static final int MatrixSequence = 0x0070030A;
+    public static final int FrameOfReferenceToDisplayedCoordinateSystemTransformationMatrix = 0x0070030B;
+    public static final int FrameOfReferenceTransformationMatrixType = 0x0070030C;
+    public static final int RegistrationTypeCodeSequence = 0x0070030D;
+    public static final int FiducialDescription = 0x0070030F;
+    public static final int FiducialIdentifier = 0x00700310;
+    public static final int FiducialIdentifierCodeSequence = 0x00700311;
+    public static final int ContourUncertaintyRadius = 0x00700312;
+    public static final int UsedFiducialsSequence = 0x00700314;
+    public static final int GraphicCoordinatesDataSequence = 0x00700318;
+    public static final int FiducialUID = 0x0070031A;
+    public static final int ReferencedFiducialUID = 0x0070031B;
+    public static final int FiducialSetSequence = 0x0070031C;
+    public static final int FiducialSequence = 0x0070031E;
+    public static final int FiducialsPropertyCategoryCodeSequence = 0x0070031F;
+    public static final int GraphicLayerRecommendedDisplayCIELabValue = 0x00700401;
+    public static final int BlendingSequence = 0x00700402;
+    public static final int RelativeOpacity = 0x00700403;
+    public static final int ReferencedSpatialRegistrationSequence = 0x00700404;
+    public static final int BlendingPosition = 0x00700405;
+    public static final int PresentationDisplayCollectionUID = 0x00701101;
+    public static final int PresentationSequenceCollectionUID = 0x00701102;
+    public static final int PresentationSequencePositionIndex = 0x00701103;
+    public static final int RenderedImageReferenceSequence = 0x00701104;
+    public static final int VolumetricPresentationStateInputSequence = 0x00701201;
+    public static final int PresentationInputType = 0x00701202;
+    public static final int InputSequencePositionIndex = 0x00701203;
+    public static final int Crop = 0x00701204;
+    public static final int CroppingSpecificationIndex = 0x00701205;
+    public static final int VolumetricPresentationInputNumber = 0x00701207;
+    public static final int ImageVolumeGeometry = 0x00701208;
+    public static final int VolumetricPresentationInputSetUID = 0x00701209;
+    public static final int VolumetricPresentationInputSetSequence = 0x0070120A;
+    public static final int GlobalCrop = 0x0070120B;
+    public static final int GlobalCroppingSpecificationIndex = 0x0070120C;
+    public static final int RenderingMethod = 0x0070120D;
+    public static final int VolumeCroppingSequence = 0x00701301;
+    public static final int VolumeCroppingMethod = 0x00701302;
+    public static final int BoundingBoxCrop = 0x00701303;
+    public static final int ObliqueCroppingPlaneSequence = 0x00701304;
+    public static final int Plane = 0x00701305;
+    public static final int PlaneNormal = 0x00701306;
+    public static final int CroppingSpecificationNumber = 0x00701309;
+    public static final int MultiPlanarReconstructionStyle = 0x00701501;
+    public static final int MPRThicknessType = 0x00701502;
+    public static final int MPRSlabThickness = 0x00701503;
+    public static final int MPRTopLeftHandCorner = 0x00701505;
+    public static final int MPRViewWidthDirection = 0x00701507;
+    public static final int MPRViewWidth = 0x00701508;
+    public static final int NumberOfVolumetricCurvePoints = 0x0070150C;
+    public static final int VolumetricCurvePoints = 0x0070150D;
+    public static final int MPRViewHeightDirection = 0x00701511;
+    public static final int MPRViewHeight = 0x00701512;
+    public static final int RenderProjection = 0x00701602;
+    public static final int ViewpointPosition = 0x00701603;
+    public static final int ViewpointLookAtPoint = 0x00701604;
+    public static final int ViewpointUpDirection = 0x00701605;
+    public static final int RenderFieldOfView = 0x00701606;
+    public static final int SamplingStepSize = 0x00701607;
+    public static final int ShadingStyle = 0x00701701;
+    public static final int AmbientReflectionIntensity = 0x00701702;
+    public static final int LightDirection = 0x00701703;
+    public static final int DiffuseReflectionIntensity = 0x00701704;
+    public static final int SpecularReflectionIntensity = 0x00701705;
+    public static final int Shininess = 0x00701706;
+    public static final int PresentationStateClassificationComponentSequence = 0x00701801;
+    public static final int ComponentType = 0x00701802;
+    public static final int ComponentInputSequence = 0x00701803;
+    public static final int VolumetricPresentationInputIndex = 0x00701804;
+    public static final int PresentationStateCompositorComponentSequence = 0x00701805;
+    public static final int WeightingTransferFunctionSequence = 0x00701806;
+    public static final int WeightingLookupTableDescriptor = 0x00701807;
+    public static final int WeightingLookupTableData = 0x00701808;
+    public static final int VolumetricAnnotationSequence = 0x00701901;
+    public static final int ReferencedStructuredContextSequence = 0x00701903;
+    public static final int ReferencedContentItem = 0x00701904;
+    public static final int VolumetricPresentationInputAnnotationSequence = 0x00701905;
+    public static final int AnnotationClipping = 0x00701907;
+    public static final int PresentationAnimationStyle = 0x00701A01;
+    public static final int RecommendedAnimationRate = 0x00701A03;
+    public static final int AnimationCurveSequence = 0x00701A04;
+    public static final int AnimationStepSize = 0x00701A05;
+    public static final int SwivelRange = 0x00701A06;
+    public static final int VolumetricCurveUpDirections = 0x00701A07;
+    public static final int VolumeStreamSequence = 0x00701A08;
+    public static final int RGBATransferFunctionDescription = 0x00701A09;
+    public static final int AdvancedBlendingSequence = 0x00701B01;
+    public static final int BlendingInputNumber = 0x00701B02;
+    public static final int BlendingDisplayInputSequence = 0x00701B03;
+    public static final int BlendingDisplaySequence = 0x00701B04;
+    public static final int BlendingMode = 0x00701B06;
+    public static final int TimeSeriesBlending = 0x00701B07;
+    public static final int GeometryForDisplay = 0x00701B08;
+    public static final int ThresholdSequence = 0x00701B11;
+    public static final int ThresholdValueSequence = 0x00701B12;
+    public static final int ThresholdType = 0x00701B13;
+    public static final int ThresholdValue = 0x00701B14;
+    public static final int HangingProtocolName = 0x00720002;
+    public static final int HangingProtocolDescription = 0x00720004;
+    public static final int HangingProtocolLevel = 0x00720006;
+    public static final int HangingProtocolCreator = 0x00720008;
+    public static final int HangingProtocolCreationDateTime = 0x0072000A;
+    public static final int HangingProtocolDefinitionSequence = 0x0072000C;
+    public static final int HangingProtocolUserIdentificationCodeSequence = 0x0072000E;
+    public static final int HangingProtocolUserGroupName = 0x00720010;
+    public static final int SourceHangingProtocolSequence = 0x00720012;
+    public static final int NumberOfPriorsReferenced = 0x00720014;
+    public static final int ImageSetsSequence = 0x00720020;
+    public static final int ImageSetSelectorSequence = 0x00720022;
+    public static final int ImageSetSelectorUsageFlag = 0x00720024;
+    public static final int SelectorAttribute = 0x00720026;
+    public static final int SelectorValueNumber = 0x00720028;
+    public static final int TimeBasedImageSetsSequence = 0x00720030;
+    public static final int ImageSetNumber = 0x00720032;
+    public static final int ImageSetSelectorCategory = 0x00720034;
+    public static final int RelativeTime = 0x00720038;
+    public static final int RelativeTimeUnits = 0x0072003A;
+    public static final int AbstractPriorValue = 0x0072003C;
+    public static final int AbstractPriorCodeSequence = 0x0072003E;
+    public static final int ImageSetLabel = 0x00720040;
+    public static final int SelectorAttributeVR = 0x00720050;
+    public static final int SelectorSequencePointer = 0x00720052;
+    public static final int SelectorSequencePointerPrivateCreator = 0x00720054;
+    public static final int SelectorAttributePrivateCreator = 0x00720056;
+    public static final int SelectorAEValue = 0x0072005E;
+    public static final int SelectorASValue = 0x0072005F;
+    public static final int SelectorATValue = 0x00720060;
+    public static final int SelectorDAValue = 0x00720061;
+    public static final int SelectorCSValue = 0x00720062;
+    public static final int SelectorDTValue = 0x00720063;
+    public static final int SelectorISValue = 0x00720064;
+    public static final int SelectorOBValue = 0x00720065;
+    public static final int SelectorLOValue = 0x00720066;
+    public static final int SelectorOFValue = 0x00720067;
+    public static final int SelectorLTValue = 0x00720068;
+    public static final int SelectorOWValue = 0x00720069;
+    public static final int SelectorPNValue = 0x0072006A;
+    public static final int SelectorTMValue = 0x0072006B;
+    public static final int SelectorSHValue = 0x0072006C;
+    public static final int SelectorUNValue = 0x0072006D;
+    public static final int SelectorSTValue = 0x0072006E;
+    public static final int SelectorUCValue = 0x0072006F;
+    public static final int SelectorUTValue = 0x00720070;
+    public static final int SelectorURValue = 0x00720071;
+    public static final int SelectorDSValue = 0x00720072;
+    public static final int SelectorODValue = 0x00720073;
+    public static final int SelectorFDValue = 0x00720074;
+    public static final int SelectorOLValue = 0x00720075;
+    public static final int SelectorFLValue = 0x00720076;
+    public static final int SelectorULValue = 0x00720078;
+    public static final int SelectorUSValue = 0x0072007A;
+    public static final int SelectorSLValue = 0x0072007C;
+    public static final int SelectorSSValue = 0x0072007E;
+    public static final int SelectorUIValue = 0x0072007F;
+    public static final int SelectorCodeSequenceValue = 0x00720080;
+    public static final int SelectorOVValue = 0x00720081;
+    public static final int SelectorSVValue = 0x00720082;
+    public static final int SelectorUVValue = 0x00720083;
+    public static final int NumberOfScreens = 0x00720100;
+    public static final int NominalScreenDefinitionSequence = 0x00720102;
+    public static final int NumberOfVerticalPixels = 0x00720104;
+    public static final int NumberOfHorizontalPixels = 0x00720106;
+    public static final int DisplayEnvironmentSpatialPosition = 0x00720108;
+    public static final int ScreenMinimumGrayscaleBitDepth = 0x0072010A;
+    public static final int ScreenMinimumColorBitDepth = 0x0072010C;
+    public static final int ApplicationMaximumRepaintTime = 0x0072010E;
+    public static final int DisplaySetsSequence = 0x00720200;
+    public static final int DisplaySetNumber = 0x00720202;
+    public static final int DisplaySetLabel = 0x00720203;
+    public static final int DisplaySetPresentationGroup = 0x00720204;
+    public static final int DisplaySetPresentationGroupDescription = 0x00720206;
+    public static final int PartialDataDisplayHandling = 0x00720208;
+    public static final int SynchronizedScrollingSequence = 0x00720210;
+    public static final int DisplaySetScrollingGroup = 0x00720212;
+    public static final int NavigationIndicatorSequence = 0x00720214;
+    public static final int NavigationDisplaySet = 0x00720216;
+    public static final int ReferenceDisplaySets = 0x00720218;
+    public static final int ImageBoxesSequence = 0x00720300;
+    public static final int ImageBoxNumber = 0x00720302;
+    public static final int ImageBoxLayoutType = 0x00720304;
+    public static final int ImageBoxTileHorizontalDimension = 0x00720306;
+    public static final int ImageBoxTileVerticalDimension = 0x00720308;
+    public static final int ImageBoxScrollDirection = 0x00720310;
+    public static final int ImageBoxSmallScrollType = 0x00720312;
+    public static final int ImageBoxSmallScrollAmount = 0x00720314;
+    public static final int ImageBoxLargeScrollType = 0x00720316;
+    public static final int ImageBoxLargeScrollAmount = 0x00720318;
+    public static final int ImageBoxOverlapPriority = 0x00720320;
+    public static final int CineRelativeToRealTime = 0x00720330;
+    public static final int FilterOperationsSequence = 0x00720400;
+    public static final int FilterByCategory = 0x00720402;
+    public static final int FilterByAttributePresence = 0x00720404;
+    public static final int FilterByOperator = 0x00720406;
+    public static final int StructuredDisplayBackgroundCIELabValue = 0x00720420;
+    public static final int EmptyImageBoxCIELabValue = 0x00720421;
+    public static final int StructuredDisplayImageBoxSequence = 0x00720422;
+    public static final int StructuredDisplayTextBoxSequence = 0x00720424;
+    public static final int ReferencedFirstFrameSequence = 0x00720427;
+    public static final int ImageBoxSynchronizationSequence = 0x00720430;
+    public static final int SynchronizedImageBoxList = 0x00720432;
+    public static final int TypeOfSynchronization = 0x00720434;
+    public static final int BlendingOperationType = 0x00720500;
+    public static final int ReformattingOperationType = 0x00720510;
+    public static final int ReformattingThickness = 0x00720512;
+    public static final int ReformattingInterval = 0x00720514;
+    public static final int ReformattingOperationInitialViewDirection = 0x00720516;
+    public static final int ThreeDRenderingType = 0x00720520;
+    public static final int SortingOperationsSequence = 0x00720600;
+    public static final int SortByCategory = 0x00720602;
+    public static final int SortingDirection = 0x00720604;
+    public static final int DisplaySetPatientOrientation = 0x00720700;
+    public static final int VOIType = 0x00720702;
+    public static final int PseudoColorType = 0x00720704;
+    public static final int PseudoColorPaletteInstanceReferenceSequence = 0x00720705;
+    public static final int ShowGrayscaleInverted = 0x00720706;
+    public static final int ShowImageTrueSizeFlag = 0x00720710;
+    public static final int ShowGraphicAnnotationFlag = 0x00720712;
+    public static final int ShowPatientDemographicsFlag = 0x00720714;
+    public static final int ShowAcquisitionTechniquesFlag = 0x00720716;
+    public static final int DisplaySetHorizontalJustification = 0x00720717;
+    public static final int DisplaySetVerticalJustification = 0x00720718;
+    public static final int ContinuationStartMeterset = 0x00740120;
+    public static final int ContinuationEndMeterset = 0x00740121;
+    public static final int ProcedureStepState = 0x00741000;
+    public static final int ProcedureStepProgressInformationSequence = 0x00741002;
+    public static final int ProcedureStepProgress = 0x00741004;
+    public static final int ProcedureStepProgressDescription = 0x00741006;
+    public static final int ProcedureStepProgressParametersSequence = 0x00741007;
+    public static final int ProcedureStepCommunicationsURISequence = 0x00741008;
+    public static final int ContactURI = 0x0074100A;
+    public static final int ContactDisplayName = 0x0074100C;
+    public static final int ProcedureStepDiscontinuationReasonCodeSequence = 0x0074100E;
+    public static final int BeamTaskSequence = 0x00741020;
+    public static final int BeamTaskType = 0x00741022;
+    public static final int AutosequenceFlag = 0x00741025;
+    public static final int TableTopVerticalAdjustedPosition = 0x00741026;
+    public static final int TableTopLongitudinalAdjustedPosition = 0x00741027;
+    public static final int TableTopLateralAdjustedPosition = 0x00741028;
+    public static final int PatientSupportAdjustedAngle = 0x0074102A;
+    public static final int TableTopEccentricAdjustedAngle = 0x0074102B;
+    public static final int TableTopPitchAdjustedAngle = 0x0074102C;
+    public static final int TableTopRollAdjustedAngle = 0x0074102D;
+    public static final int DeliveryVerificationImageSequence = 0x00741030;
+    public static final int VerificationImageTiming = 0x00741032;
+    public static final int DoubleExposureFlag = 0x00741034;
+    public static final int DoubleExposureOrdering = 0x00741036;
+    public static final int RelatedReferenceRTImageSequence = 0x00741040;
+    public static final int GeneralMachineVerificationSequence = 0x00741042;
+    public static final int ConventionalMachineVerificationSequence = 0x00741044;
+    public static final int IonMachineVerificationSequence = 0x00741046;
+    public static final int FailedAttributesSequence = 0x00741048;
+    public static final int OverriddenAttributesSequence = 0x0074104A;
+    public static final int ConventionalControlPointVerificationSequence = 0x0074104C;
+    public static final int IonControlPointVerificationSequence = 0x0074104E;
+    public static final int AttributeOccurrenceSequence = 0x00741050;
+    public static final int AttributeOccurrencePointer = 0x00741052;
+    public static final int AttributeItemSelector = 0x00741054;
+    public static final int AttributeOccurrencePrivateCreator = 0x00741056;
+    public static final int SelectorSequencePointerItems = 0x00741057;
+    public static final int ScheduledProcedureStepPriority = 0x00741200;
+    public static final int WorklistLabel = 0x00741202;
+    public static final int ProcedureStepLabel = 0x00741204;
+    public static final int ScheduledProcessingParametersSequence = 0x00741210;
+    public static final int PerformedProcessingParametersSequence = 0x00741212;
+    public static final int UnifiedProcedureStepPerformedProcedureSequence = 0x00741216;
+    public static final int ReplacedProcedureStepSequence = 0x00741224;
+    public static final int DeletionLock = 0x00741230;
+    public static final int ReceivingAE = 0x00741234;
+    public static final int RequestingAE = 0x00741236;
+    public static final int ReasonForCancellation = 0x00741238;
+    public static final int SCPStatus = 0x00741242;
+    public static final int SubscriptionListStatus = 0x00741244;
+    public static final int UnifiedProcedureStepListStatus = 0x00741246;
+    public static final int BeamOrderIndex = 0x00741324;
+    public static final int DoubleExposureMeterset = 0x00741338;
+    public static final int DoubleExposureFieldDelta = 0x0074133A;
+    public static final int BrachyTaskSequence = 0x00741401;
+    public static final int ContinuationStartTotalReferenceAirKerma = 0x00741402;
+    public static final int ContinuationEndTotalReferenceAirKerma = 0x00741403;
+    public static final int ContinuationPulseNumber = 0x00741404;
+    public static final int ChannelDeliveryOrderSequence = 0x00741405;
+    public static final int ReferencedChannelNumber = 0x00741406;
+    public static final int StartCumulativeTimeWeight = 0x00741407;
+    public static final int EndCumulativeTimeWeight = 0x00741408;
+    public static final int OmittedChannelSequence = 0x00741409;
+    public static final int ReasonForChannelOmission = 0x0074140A;
+    public static final int ReasonForChannelOmissionDescription = 0x0074140B;
+    public static final int ChannelDeliveryOrderIndex = 0x0074140C;
+    public static final int ChannelDeliveryContinuationSequence = 0x0074140D;
+    public static final int OmittedApplicationSetupSequence = 0x0074140E;
+    public static final int ImplantAssemblyTemplateName = 0x00760001;
+    public static final int ImplantAssemblyTemplateIssuer = 0x00760003;
+    public static final int ImplantAssemblyTemplateVersion = 0x00760006;
+    public static final int ReplacedImplantAssemblyTemplateSequence = 0x00760008;
+    public static final int ImplantAssemblyTemplateType = 0x0076000A;
+    public static final int OriginalImplantAssemblyTemplateSequence = 0x0076000C;
+    public static final int DerivationImplantAssemblyTemplateSequence = 0x0076000E;
+    public static final int ImplantAssemblyTemplateTargetAnatomySequence = 0x00760010;
+    public static final int ProcedureTypeCodeSequence = 0x00760020;
+    public static final int SurgicalTechnique = 0x00760030;
+    public static final int ComponentTypesSequence = 0x00760032;
+    public static final int ComponentTypeCodeSequence = 0x00760034;
+    public static final int ExclusiveComponentType = 0x00760036;
+    public static final int MandatoryComponentType = 0x00760038;
+    public static final int ComponentSequence = 0x00760040;
+    public static final int ComponentID = 0x00760055;
+    public static final int ComponentAssemblySequence = 0x00760060;
+    public static final int Component1ReferencedID = 0x00760070;
+    public static final int Component1ReferencedMatingFeatureSetID = 0x00760080;
+    public static final int Component1ReferencedMatingFeatureID = 0x00760090;
+    public static final int Component2ReferencedID = 0x007600A0;
+    public static final int Component2ReferencedMatingFeatureSetID = 0x007600B0;
+    public static final int Component2ReferencedMatingFeatureID = 0x007600C0;
+    public static final int ImplantTemplateGroupName = 0x00780001;
+    public static final int ImplantTemplateGroupDescription = 0x00780010;
+    public static final int ImplantTemplateGroupIssuer = 0x00780020;
+    public static final int ImplantTemplateGroupVersion = 0x00780024;
+    public static final int ReplacedImplantTemplateGroupSequence = 0x00780026;
+    public static final int ImplantTemplateGroupTargetAnatomySequence = 0x00780028;
+    public static final int ImplantTemplateGroupMembersSequence = 0x0078002A;
+    public static final int ImplantTemplateGroupMemberID = 0x0078002E;
+    public static final int ThreeDImplantTemplateGroupMemberMatchingPoint = 0x00780050;
+    public static final int ThreeDImplantTemplateGroupMemberMatchingAxes = 0x00780060;
+    public static final int ImplantTemplateGroupMemberMatching2DCoordinatesSequence = 0x00780070;
+    public static final int TwoDImplantTemplateGroupMemberMatchingPoint = 0x00780090;
+    public static final int TwoDImplantTemplateGroupMemberMatchingAxes = 0x007800A0;
+    public static final int ImplantTemplateGroupVariationDimensionSequence = 0x007800B0;
+    public static final int ImplantTemplateGroupVariationDimensionName = 0x007800B2;
+    public static final int ImplantTemplateGroupVariationDimensionRankSequence = 0x007800B4;
+    public static final int ReferencedImplantTemplateGroupMemberID = 0x007800B6;
+    public static final int ImplantTemplateGroupVariationDimensionRank = 0x007800B8;
+    public static final int SurfaceScanAcquisitionTypeCodeSequence = 0x00800001;
+    public static final int SurfaceScanModeCodeSequence = 0x00800002;
+    public static final int RegistrationMethodCodeSequence = 0x00800003;
+    public static final int ShotDurationTime = 0x00800004;
+    public static final int ShotOffsetTime = 0x00800005;
+    public static final int SurfacePointPresentationValueData = 0x00800006;
+    public static final int SurfacePointColorCIELabValueData = 0x00800007;
+    public static final int UVMappingSequence = 0x00800008;
+    public static final int TextureLabel = 0x00800009;
+    public static final int UValueData = 0x00800010;
+    public static final int VValueData = 0x00800011;
+    public static final int ReferencedTextureSequence = 0x00800012;
+    public static final int ReferencedSurfaceDataSequence = 0x00800013;
+    public static final int AssessmentSummary = 0x00820001;
+    public static final int AssessmentSummaryDescription = 0x00820003;
+    public static final int AssessedSOPInstanceSequence = 0x00820004;
+    public static final int ReferencedComparisonSOPInstanceSequence = 0x00820005;
+    public static final int NumberOfAssessmentObservations = 0x00820006;
+    public static final int AssessmentObservationsSequence = 0x00820007;
+    public static final int ObservationSignificance = 0x00820008;
+    public static final int ObservationDescription = 0x0082000A;
+    public static final int StructuredConstraintObservationSequence = 0x0082000C;
+    public static final int AssessedAttributeValueSequence = 0x00820010;
+    public static final int AssessmentSetID = 0x00820016;
+    public static final int AssessmentRequesterSequence = 0x00820017;
+    public static final int SelectorAttributeName = 0x00820018;
+    public static final int SelectorAttributeKeyword = 0x00820019;
+    public static final int AssessmentTypeCodeSequence = 0x00820021;
+    public static final int ObservationBasisCodeSequence = 0x00820022;
+    public static final int AssessmentLabel = 0x00820023;
+    public static final int ConstraintType = 0x00820032;
+    public static final int SpecificationSelectionGuidance = 0x00820033;
+    public static final int ConstraintValueSequence = 0x00820034;
+    public static final int RecommendedDefaultValueSequence = 0x00820035;
+    public static final int ConstraintViolationSignificance = 0x00820036;
+    public static final int ConstraintViolationCondition = 0x00820037;
+    public static final int ModifiableConstraintFlag = 0x00820038;
+    public static final int StorageMediaFileSetID = 0x00880130;
+    public static final int StorageMediaFileSetUID = 0x00880140;
+    public static final int IconImageSequence = 0x00880200;
+    public static final int SOPInstanceStatus = 0x01000410;
+    public static final int SOPAuthorizationDateTime = 0x01000420;
+    public static final int SOPAuthorizationComment = 0x01000424;
+    public static final int AuthorizationEquipmentCertificationNumber = 0x01000426;
+    public static final int MACIDNumber = 0x04000005;
+    public static final int MACCalculationTransferSyntaxUID = 0x04000010;
+    public static final int MACAlgorithm = 0x04000015;
+    public static final int DataElementsSigned = 0x04000020;
+    public static final int DigitalSignatureUID = 0x04000100;
+    public static final int DigitalSignatureDateTime = 0x04000105;
+    public static final int CertificateType = 0x04000110;
+    public static final int CertificateOfSigner = 0x04000115;
+    public static final int Signature = 0x04000120;
+    public static final int CertifiedTimestampType = 0x04000305;
+    public static final int CertifiedTimestamp = 0x04000310;
+    public static final int DigitalSignaturePurposeCodeSequence = 0x04000401;
+    public static final int ReferencedDigitalSignatureSequence = 0x04000402;
+    public static final int ReferencedSOPInstanceMACSequence = 0x04000403;
+    public static final int MAC = 0x04000404;
+    public static final int EncryptedAttributesSequence = 0x04000500;
+    public static final int EncryptedContentTransferSyntaxUID = 0x04000510;
+    public static final int EncryptedContent = 0x04000520;
+    public static final int ModifiedAttributesSequence = 0x04000550;
+    public static final int NonconformingModifiedAttributesSequence = 0x04000551;
+    public static final int NonconformingDataElementValue = 0x04000552;
+    public static final int OriginalAttributesSequence = 0x04000561;
+    public static final int AttributeModificationDateTime = 0x04000562;
+    public static final int ModifyingSystem = 0x04000563;
+    public static final int SourceOfPreviousValues = 0x04000564;
+    public static final int ReasonForTheAttributeModification = 0x04000565;
+    public static final int InstanceOriginStatus = 0x04000600;
+    public static final int NumberOfCopies = 0x20000010;
+    public static final int PrinterConfigurationSequence = 0x2000001E;
+    public static final int PrintPriority = 0x20000020;
+    public static final int MediumType = 0x20000030;
+    public static final int FilmDestination = 0x20000040;
+    public static final int FilmSessionLabel = 0x20000050;
+    public static final int MemoryAllocation = 0x20000060;
+    public static final int MaximumMemoryAllocation = 0x20000061;
+    public static final int MemoryBitDepth = 0x200000A0;
+    public static final int PrintingBitDepth = 0x200000A1;
+    public static final int MediaInstalledSequence = 0x200000A2;
+    public static final int OtherMediaAvailableSequence = 0x200000A4;
+    public static final int SupportedImageDisplayFormatsSequence = 0x200000A8;
+    public static final int ReferencedFilmBoxSequence = 0x20000500;
+    public static final int ImageDisplayFormat = 0x20100010;
+    public static final int AnnotationDisplayFormatID = 0x20100030;
+    public static final int FilmOrientation = 0x20100040;
+    public static final int FilmSizeID = 0x20100050;
+    public static final int PrinterResolutionID = 0x20100052;
+    public static final int DefaultPrinterResolutionID = 0x20100054;
+    public static final int MagnificationType = 0x20100060;
+    public static final int SmoothingType = 0x20100080;
+    public static final int DefaultMagnificationType = 0x201000A6;
+    public static final int OtherMagnificationTypesAvailable = 0x201000A7;
+    public static final int DefaultSmoothingType = 0x201000A8;
+    public static final int OtherSmoothingTypesAvailable = 0x201000A9;
+    public static final int BorderDensity = 0x20100100;
+    public static final int EmptyImageDensity = 0x20100110;
+    public static final int MinDensity = 0x20100120;
+    public static final int MaxDensity = 0x20100130;
+    public static final int Trim = 0x20100140;
+    public static final int ConfigurationInformation = 0x20100150;
+    public static final int ConfigurationInformationDescription = 0x20100152;
+    public static final int MaximumCollatedFilms = 0x20100154;
+    public static final int Illumination = 0x2010015E;
+    public static final int ReflectedAmbientLight = 0x20100160;
+    public static final int PrinterPixelSpacing = 0x20100376;
+    public static final int ReferencedFilmSessionSequence = 0x20100500;
+    public static final int ReferencedImageBoxSequence = 0x20100510;
+    public static final int ReferencedBasicAnnotationBoxSequence = 0x20100520;
+    public static final int ImageBoxPosition = 0x20200010;
+    public static final int Polarity = 0x20200020;
+    public static final int RequestedImageSize = 0x20200030;
+    public static final int RequestedDecimateCropBehavior = 0x20200040;
+    public static final int RequestedResolutionID = 0x20200050;
+    public static final int RequestedImageSizeFlag = 0x202000A0;
+    public static final int DecimateCropResult = 0x202000A2;
+    public static final int BasicGrayscaleImageSequence = 0x20200110;
+    public static final int BasicColorImageSequence = 0x20200111;
+    public static final int AnnotationPosition = 0x20300010;
+    public static final int TextString = 0x20300020;
+    public static final int PresentationLUTSequence = 0x20500010;
+    public static final int PresentationLUTShape = 0x20500020;
+    public static final int ReferencedPresentationLUTSequence = 0x20500500;
+    public static final int ExecutionStatus = 0x21000020;
+    public static final int ExecutionStatusInfo = 0x21000030;
+    public static final int CreationDate = 0x21000040;
+    public static final int CreationTime = 0x21000050;
+    public static final int Originator = 0x21000070;
+    public static final int DestinationAE = 0x21000140;
+    public static final int OwnerID = 0x21000160;
+    public static final int NumberOfFilms = 0x21000170;
+    public static final int PrinterStatus = 0x21100010;
+    public static final int PrinterStatusInfo = 0x21100020;
+    public static final int PrinterName = 0x21100030;
+    public static final int LabelUsingInformationExtractedFromInstances = 0x22000001;
+    public static final int LabelText = 0x22000002;
+    public static final int LabelStyleSelection = 0x22000003;
+    public static final int MediaDisposition = 0x22000004;
+    public static final int BarcodeValue = 0x22000005;
+    public static final int BarcodeSymbology = 0x22000006;
+    public static final int AllowMediaSplitting = 0x22000007;
+    public static final int IncludeNonDICOMObjects = 0x22000008;
+    public static final int IncludeDisplayApplication = 0x22000009;
+    public static final int PreserveCompositeInstancesAfterMediaCreation = 0x2200000A;
+    public static final int TotalNumberOfPiecesOfMediaCreated = 0x2200000B;
+    public static final int RequestedMediaApplicationProfile = 0x2200000C;
+    public static final int ReferencedStorageMediaSequence = 0x2200000D;
+    public static final int FailureAttributes = 0x2200000E;
+    public static final int AllowLossyCompression = 0x2200000F;
+    public static final int RequestPriority = 0x22000020;
+    public static final int RTImageLabel = 0x30020002;
+    public static final int RTImageName = 0x30020003;
+    public static final int RTImageDescription = 0x30020004;
+    public static final int ReportedValuesOrigin = 0x3002000A;
+    public static final int RTImagePlane = 0x3002000C;
+    public static final int XRayImageReceptorTranslation = 0x3002000D;
+    public static final int XRayImageReceptorAngle = 0x3002000E;
+    public static final int RTImageOrientation = 0x30020010;
+    public static final int ImagePlanePixelSpacing = 0x30020011;
+    public static final int RTImagePosition = 0x30020012;
+    public static final int RadiationMachineName = 0x30020020;
+    public static final int RadiationMachineSAD = 0x30020022;
+    public static final int RadiationMachineSSD = 0x30020024;
+    public static final int RTImageSID = 0x30020026;
+    public static final int SourceToReferenceObjectDistance = 0x30020028;
+    public static final int FractionNumber = 0x30020029;
+    public static final int ExposureSequence = 0x30020030;
+    public static final int MetersetExposure = 0x30020032;
+    public static final int DiaphragmPosition = 0x30020034;
+    public static final int FluenceMapSequence = 0x30020040;
+    public static final int FluenceDataSource = 0x30020041;
+    public static final int FluenceDataScale = 0x30020042;
+    public static final int PrimaryFluenceModeSequence = 0x30020050;
+    public static final int FluenceMode = 0x30020051;
+    public static final int FluenceModeID = 0x30020052;
+    public static final int DVHType = 0x30040001;
+    public static final int DoseUnits = 0x30040002;
+    public static final int DoseType = 0x30040004;
+    public static final int SpatialTransformOfDose = 0x30040005;
+    public static final int DoseComment = 0x30040006;
+    public static final int NormalizationPoint = 0x30040008;
+    public static final int DoseSummationType = 0x3004000A;
+    public static final int GridFrameOffsetVector = 0x3004000C;
+    public static final int DoseGridScaling = 0x3004000E;
+    public static final int RTDoseROISequence = 0x30040010;
+    public static final int DoseValue = 0x30040012;
+    public static final int TissueHeterogeneityCorrection = 0x30040014;
+    public static final int DVHNormalizationPoint = 0x30040040;
+    public static final int DVHNormalizationDoseValue = 0x30040042;
+    public static final int DVHSequence = 0x30040050;
+    public static final int DVHDoseScaling = 0x30040052;
+    public static final int DVHVolumeUnits = 0x30040054;
+    public static final int DVHNumberOfBins = 0x30040056;
+    public static final int DVHData = 0x30040058;
+    public static final int DVHReferencedROISequence = 0x30040060;
+    public static final int DVHROIContributionType = 0x30040062;
+    public static final int DVHMinimumDose = 0x30040070;
+    public static final int DVHMaximumDose = 0x30040072;
+    public static final int DVHMeanDose = 0x30040074;
+    public static final int StructureSetLabel = 0x30060002;
+    public static final int StructureSetName = 0x30060004;
+    public static final int StructureSetDescription = 0x30060006;
+    public static final int StructureSetDate = 0x30060008;
+    public static final int StructureSetTime = 0x30060009;
+    public static final int ReferencedFrameOfReferenceSequence = 0x30060010;
+    public static final int RTReferencedStudySequence = 0x30060012;
+    public static final int RTReferencedSeriesSequence = 0x30060014;
+    public static final int ContourImageSequence = 0x30060016;
+    public static final int PredecessorStructureSetSequence = 0x30060018;
+    public static final int StructureSetROISequence = 0x30060020;
+    public static final int ROINumber = 0x30060022;
+    public static final int ReferencedFrameOfReferenceUID = 0x30060024;
+    public static final int ROIName = 0x30060026;
+    public static final int ROIDescription = 0x30060028;
+    public static final int ROIDisplayColor = 0x3006002A;
+    public static final int ROIVolume = 0x3006002C;
+    public static final int RTRelatedROISequence = 0x30060030;
+    public static final int RTROIRelationship = 0x30060033;
+    public static final int ROIGenerationAlgorithm = 0x30060036;
+    public static final int ROIDerivationAlgorithmIdentificationSequence = 0x30060037;
+    public static final int ROIGenerationDescription = 0x30060038;
+    public static final int ROIContourSequence = 0x30060039;
+    public static final int ContourSequence = 0x30060040;
+    public static final int ContourGeometricType = 0x30060042;
+    public static final int ContourSlabThickness = 0x30060044;
+    public static final int ContourOffsetVector = 0x30060045;
+    public static final int NumberOfContourPoints = 0x30060046;
+    public static final int ContourNumber = 0x30060048;
+    public static final int AttachedContours = 0x30060049;
+    public static final int ContourData = 0x30060050;
+    public static final int RTROIObservationsSequence = 0x30060080;
+    public static final int ObservationNumber = 0x30060082;
+    public static final int ReferencedROINumber = 0x30060084;
+    public static final int ROIObservationLabel = 0x30060085;
+    public static final int RTROIIdentificationCodeSequence = 0x30060086;
+    public static final int ROIObservationDescription = 0x30060088;
+    public static final int RelatedRTROIObservationsSequence = 0x300600A0;
+    public static final int RTROIInterpretedType = 0x300600A4;
+    public static final int ROIInterpreter = 0x300600A6;
+    public static final int ROIPhysicalPropertiesSequence = 0x300600B0;
+    public static final int ROIPhysicalProperty = 0x300600B2;
+    public static final int ROIPhysicalPropertyValue = 0x300600B4;
+    public static final int ROIElementalCompositionSequence = 0x300600B6;
+    public static final int ROIElementalCompositionAtomicNumber = 0x300600B7;
+    public static final int ROIElementalCompositionAtomicMassFraction = 0x300600B8;
+    public static final int FrameOfReferenceTransformationMatrix = 0x300600C6;
+    public static final int FrameOfReferenceTransformationComment = 0x300600C8;
+    public static final int PatientLocationCoordinatesSequence = 0x300600C9;
+    public static final int PatientLocationCoordinatesCodeSequence = 0x300600CA;
+    public static final int PatientSupportPositionSequence = 0x300600CB;
+    public static final int MeasuredDoseReferenceSequence = 0x30080010;
+    public static final int MeasuredDoseDescription = 0x30080012;
+    public static final int MeasuredDoseType = 0x30080014;
+    public static final int MeasuredDoseValue = 0x30080016;
+    public static final int TreatmentSessionBeamSequence = 0x30080020;
+    public static final int TreatmentSessionIonBeamSequence = 0x30080021;
+    public static final int CurrentFractionNumber = 0x30080022;
+    public static final int TreatmentControlPointDate = 0x30080024;
+    public static final int TreatmentControlPointTime = 0x30080025;
+    public static final int TreatmentTerminationStatus = 0x3008002A;
+    public static final int TreatmentTerminationCode = 0x3008002B;
+    public static final int TreatmentVerificationStatus = 0x3008002C;
+    public static final int ReferencedTreatmentRecordSequence = 0x30080030;
+    public static final int SpecifiedPrimaryMeterset = 0x30080032;
+    public static final int SpecifiedSecondaryMeterset = 0x30080033;
+    public static final int DeliveredPrimaryMeterset = 0x30080036;
+    public static final int DeliveredSecondaryMeterset = 0x30080037;
+    public static final int SpecifiedTreatmentTime = 0x3008003A;
+    public static final int DeliveredTreatmentTime = 0x3008003B;
+    public static final int ControlPointDeliverySequence = 0x30080040;
+    public static final int IonControlPointDeliverySequence = 0x30080041;
+    public static final int SpecifiedMeterset = 0x30080042;
+    public static final int DeliveredMeterset = 0x30080044;
+    public static final int MetersetRateSet = 0x30080045;
+    public static final int MetersetRateDelivered = 0x30080046;
+    public static final int ScanSpotMetersetsDelivered = 0x30080047;
+    public static final int DoseRateDelivered = 0x30080048;
+    public static final int TreatmentSummaryCalculatedDoseReferenceSequence = 0x30080050;
+    public static final int CumulativeDoseToDoseReference = 0x30080052;
+    public static final int FirstTreatmentDate = 0x30080054;
+    public static final int MostRecentTreatmentDate = 0x30080056;
+    public static final int NumberOfFractionsDelivered = 0x3008005A;
+    public static final int OverrideSequence = 0x30080060;
+    public static final int ParameterSequencePointer = 0x30080061;
+    public static final int OverrideParameterPointer = 0x30080062;
+    public static final int ParameterItemIndex = 0x30080063;
+    public static final int MeasuredDoseReferenceNumber = 0x30080064;
+    public static final int ParameterPointer = 0x30080065;
+    public static final int OverrideReason = 0x30080066;
+    public static final int ParameterValueNumber = 0x30080067;
+    public static final int CorrectedParameterSequence = 0x30080068;
+    public static final int CorrectionValue = 0x3008006A;
+    public static final int CalculatedDoseReferenceSequence = 0x30080070;
+    public static final int CalculatedDoseReferenceNumber = 0x30080072;
+    public static final int CalculatedDoseReferenceDescription = 0x30080074;
+    public static final int CalculatedDoseReferenceDoseValue = 0x30080076;
+    public static final int StartMeterset = 0x30080078;
+    public static final int EndMeterset = 0x3008007A;
+    public static final int ReferencedMeasuredDoseReferenceSequence = 0x30080080;
+    public static final int ReferencedMeasuredDoseReferenceNumber = 0x30080082;
+    public static final int ReferencedCalculatedDoseReferenceSequence = 0x30080090;
+    public static final int ReferencedCalculatedDoseReferenceNumber = 0x30080092;
+    public static final int BeamLimitingDeviceLeafPairsSequence = 0x300800A0;
+    public static final int RecordedWedgeSequence = 0x300800B0;
+    public static final int RecordedCompensatorSequence = 0x300800C0;
+    public static final int RecordedBlockSequence = 0x300800D0;
+    public static final int TreatmentSummaryMeasuredDoseReferenceSequence = 0x300800E0;
+    public static final int RecordedSnoutSequence = 0x300800F0;
+    public static final int RecordedRangeShifterSequence = 0x300800F2;
+    public static final int RecordedLateralSpreadingDeviceSequence = 0x300800F4;
+    public static final int RecordedRangeModulatorSequence = 0x300800F6;
+    public static final int RecordedSourceSequence = 0x30080100;
+    public static final int SourceSerialNumber = 0x30080105;
+    public static final int TreatmentSessionApplicationSetupSequence = 0x30080110;
+    public static final int ApplicationSetupCheck = 0x30080116;
+    public static final int RecordedBrachyAccessoryDeviceSequence = 0x30080120;
+    public static final int ReferencedBrachyAccessoryDeviceNumber = 0x30080122;
+    public static final int RecordedChannelSequence = 0x30080130;
+    public static final int SpecifiedChannelTotalTime = 0x30080132;
+    public static final int DeliveredChannelTotalTime = 0x30080134;
+    public static final int SpecifiedNumberOfPulses = 0x30080136;
+    public static final int DeliveredNumberOfPulses = 0x30080138;
+    public static final int SpecifiedPulseRepetitionInterval = 0x3008013A;
+    public static final int DeliveredPulseRepetitionInterval = 0x3008013C;
+    public static final int RecordedSourceApplicatorSequence = 0x30080140;
+    public static final int ReferencedSourceApplicatorNumber = 0x30080142;
+    public static final int RecordedChannelShieldSequence = 0x30080150;
+    public static final int ReferencedChannelShieldNumber = 0x30080152;
+    public static final int BrachyControlPointDeliveredSequence = 0x30080160;
+    public static final int SafePositionExitDate = 0x30080162;
+    public static final int SafePositionExitTime = 0x30080164;
+    public static final int SafePositionReturnDate = 0x30080166;
+    public static final int SafePositionReturnTime = 0x30080168;
+    public static final int PulseSpecificBrachyControlPointDeliveredSequence = 0x30080171;
+    public static final int PulseNumber = 0x30080172;
+    public static final int BrachyPulseControlPointDeliveredSequence = 0x30080173;
+    public static final int CurrentTreatmentStatus = 0x30080200;
+    public static final int TreatmentStatusComment = 0x30080202;
+    public static final int FractionGroupSummarySequence = 0x30080220;
+    public static final int ReferencedFractionNumber = 0x30080223;
+    public static final int FractionGroupType = 0x30080224;
+    public static final int BeamStopperPosition = 0x30080230;
+    public static final int FractionStatusSummarySequence = 0x30080240;
+    public static final int TreatmentDate = 0x30080250;
+    public static final int TreatmentTime = 0x30080251;
+    public static final int RTPlanLabel = 0x300A0002;
+    public static final int RTPlanName = 0x300A0003;
+    public static final int RTPlanDescription = 0x300A0004;
+    public static final int RTPlanDate = 0x300A0006;
+    public static final int RTPlanTime = 0x300A0007;
+    public static final int TreatmentProtocols = 0x300A0009;
+    public static final int PlanIntent = 0x300A000A;
+    public static final int TreatmentSites = 0x300A000B;
+    public static final int RTPlanGeometry = 0x300A000C;
+    public static final int PrescriptionDescription = 0x300A000E;
+    public static final int DoseReferenceSequence = 0x300A0010;
+    public static final int DoseReferenceNumber = 0x300A0012;
+    public static final int DoseReferenceUID = 0x300A0013;
+    public static final int DoseReferenceStructureType = 0x300A0014;
+    public static final int NominalBeamEnergyUnit = 0x300A0015;
+    public static final int DoseReferenceDescription = 0x300A0016;
+    public static final int DoseReferencePointCoordinates = 0x300A0018;
+    public static final int NominalPriorDose = 0x300A001A;
+    public static final int DoseReferenceType = 0x300A0020;
+    public static final int ConstraintWeight = 0x300A0021;
+    public static final int DeliveryWarningDose = 0x300A0022;
+    public static final int DeliveryMaximumDose = 0x300A0023;
+    public static final int TargetMinimumDose = 0x300A0025;
+    public static final int TargetPrescriptionDose = 0x300A0026;
+    public static final int TargetMaximumDose = 0x300A0027;
+    public static final int TargetUnderdoseVolumeFraction = 0x300A0028;
+    public static final int OrganAtRiskFullVolumeDose = 0x300A002A;
+    public static final int OrganAtRiskLimitDose = 0x300A002B;
+    public static final int OrganAtRiskMaximumDose = 0x300A002C;
+    public static final int OrganAtRiskOverdoseVolumeFraction = 0x300A002D;
+    public static final int ToleranceTableSequence = 0x300A0040;
+    public static final int ToleranceTableNumber = 0x300A0042;
+    public static final int ToleranceTableLabel = 0x300A0043;
+    public static final int GantryAngleTolerance = 0x300A0044;
+    public static final int BeamLimitingDeviceAngleTolerance = 0x300A0046;
+    public static final int BeamLimitingDeviceToleranceSequence = 0x300A0048;
+    public static final int BeamLimitingDevicePositionTolerance = 0x300A004A;
+    public static final int SnoutPositionTolerance = 0x300A004B;
+    public static final int PatientSupportAngleTolerance = 0x300A004C;
+    public static final int TableTopEccentricAngleTolerance = 0x300A004E;
+    public static final int TableTopPitchAngleTolerance = 0x300A004F;
+    public static final int TableTopRollAngleTolerance = 0x300A0050;
+    public static final int TableTopVerticalPositionTolerance = 0x300A0051;
+    public static final int TableTopLongitudinalPositionTolerance = 0x300A0052;
+    public static final int TableTopLateralPositionTolerance = 0x300A0053;
+    public static final int RTPlanRelationship = 0x300A0055;
+    public static final int FractionGroupSequence = 0x300A0070;
+    public static final int FractionGroupNumber = 0x300A0071;
+    public static final int FractionGroupDescription = 0x300A0072;
+    public static final int NumberOfFractionsPlanned = 0x300A0078;
+    public static final int NumberOfFractionPatternDigitsPerDay = 0x300A0079;
+    public static final int RepeatFractionCycleLength = 0x300A007A;
+    public static final int FractionPattern = 0x300A007B;
+    public static final int NumberOfBeams = 0x300A0080;
+    public static final int ReferencedDoseReferenceUID = 0x300A0083;
+    public static final int BeamDose = 0x300A0084;
+    public static final int BeamMeterset = 0x300A0086;
+    public static final int BeamDosePointDepth = 0x300A0088;
+    public static final int BeamDosePointEquivalentDepth = 0x300A0089;
+    public static final int BeamDosePointSSD = 0x300A008A;
+    public static final int BeamDoseMeaning = 0x300A008B;
+    public static final int BeamDoseVerificationControlPointSequence = 0x300A008C;
+    public static final int BeamDoseType = 0x300A0090;
+    public static final int AlternateBeamDose = 0x300A0091;
+    public static final int AlternateBeamDoseType = 0x300A0092;
+    public static final int DepthValueAveragingFlag = 0x300A0093;
+    public static final int BeamDosePointSourceToExternalContourDistance = 0x300A0094;
+    public static final int NumberOfBrachyApplicationSetups = 0x300A00A0;
+    public static final int BrachyApplicationSetupDoseSpecificationPoint = 0x300A00A2;
+    public static final int BrachyApplicationSetupDose = 0x300A00A4;
+    public static final int BeamSequence = 0x300A00B0;
+    public static final int TreatmentMachineName = 0x300A00B2;
+    public static final int PrimaryDosimeterUnit = 0x300A00B3;
+    public static final int SourceAxisDistance = 0x300A00B4;
+    public static final int BeamLimitingDeviceSequence = 0x300A00B6;
+    public static final int RTBeamLimitingDeviceType = 0x300A00B8;
+    public static final int SourceToBeamLimitingDeviceDistance = 0x300A00BA;
+    public static final int IsocenterToBeamLimitingDeviceDistance = 0x300A00BB;
+    public static final int NumberOfLeafJawPairs = 0x300A00BC;
+    public static final int LeafPositionBoundaries = 0x300A00BE;
+    public static final int BeamNumber = 0x300A00C0;
+    public static final int BeamName = 0x300A00C2;
+    public static final int BeamDescription = 0x300A00C3;
+    public static final int BeamType = 0x300A00C4;
+    public static final int BeamDeliveryDurationLimit = 0x300A00C5;
+    public static final int RadiationType = 0x300A00C6;
+    public static final int HighDoseTechniqueType = 0x300A00C7;
+    public static final int ReferenceImageNumber = 0x300A00C8;
+    public static final int PlannedVerificationImageSequence = 0x300A00CA;
+    public static final int ImagingDeviceSpecificAcquisitionParameters = 0x300A00CC;
+    public static final int TreatmentDeliveryType = 0x300A00CE;
+    public static final int NumberOfWedges = 0x300A00D0;
+    public static final int WedgeSequence = 0x300A00D1;
+    public static final int WedgeNumber = 0x300A00D2;
+    public static final int WedgeType = 0x300A00D3;
+    public static final int WedgeID = 0x300A00D4;
+    public static final int WedgeAngle = 0x300A00D5;
+    public static final int WedgeFactor = 0x300A00D6;
+    public static final int TotalWedgeTrayWaterEquivalentThickness = 0x300A00D7;
+    public static final int WedgeOrientation = 0x300A00D8;
+    public static final int IsocenterToWedgeTrayDistance = 0x300A00D9;
+    public static final int SourceToWedgeTrayDistance = 0x300A00DA;
+    public static final int WedgeThinEdgePosition = 0x300A00DB;
+    public static final int BolusID = 0x300A00DC;
+    public static final int BolusDescription = 0x300A00DD;
+    public static final int EffectiveWedgeAngle = 0x300A00DE;
+    public static final int NumberOfCompensators = 0x300A00E0;
+    public static final int MaterialID = 0x300A00E1;
+    public static final int TotalCompensatorTrayFactor = 0x300A00E2;
+    public static final int CompensatorSequence = 0x300A00E3;
+    public static final int CompensatorNumber = 0x300A00E4;
+    public static final int CompensatorID = 0x300A00E5;
+    public static final int SourceToCompensatorTrayDistance = 0x300A00E6;
+    public static final int CompensatorRows = 0x300A00E7;
+    public static final int CompensatorColumns = 0x300A00E8;
+    public static final int CompensatorPixelSpacing = 0x300A00E9;
+    public static final int CompensatorPosition = 0x300A00EA;
+    public static final int CompensatorTransmissionData = 0x300A00EB;
+    public static final int CompensatorThicknessData = 0x300A00EC;
+    public static final int NumberOfBoli = 0x300A00ED;
+    public static final int CompensatorType = 0x300A00EE;
+    public static final int CompensatorTrayID = 0x300A00EF;
+    public static final int NumberOfBlocks = 0x300A00F0;
+    public static final int TotalBlockTrayFactor = 0x300A00F2;
+    public static final int TotalBlockTrayWaterEquivalentThickness = 0x300A00F3;
+    public static final int BlockSequence = 0x300A00F4;
+    public static final int BlockTrayID = 0x300A00F5;
+    public static final int SourceToBlockTrayDistance = 0x300A00F6;
+    public static final int IsocenterToBlockTrayDistance = 0x300A00F7;
+    public static final int BlockType = 0x300A00F8;
+    public static final int AccessoryCode = 0x300A00F9;
+    public static final int BlockDivergence = 0x300A00FA;
+    public static final int BlockMountingPosition = 0x300A00FB;
+    public static final int BlockNumber = 0x300A00FC;
+    public static final int BlockName = 0x300A00FE;
+    public static final int BlockThickness = 0x300A0100;
+    public static final int BlockTransmission = 0x300A0102;
+    public static final int BlockNumberOfPoints = 0x300A0104;
+    public static final int BlockData = 0x300A0106;
+    public static final int ApplicatorSequence = 0x300A0107;
+    public static final int ApplicatorID = 0x300A0108;
+    public static final int ApplicatorType = 0x300A0109;
+    public static final int ApplicatorDescription = 0x300A010A;
+    public static final int CumulativeDoseReferenceCoefficient = 0x300A010C;
+    public static final int FinalCumulativeMetersetWeight = 0x300A010E;
+    public static final int NumberOfControlPoints = 0x300A0110;
+    public static final int ControlPointSequence = 0x300A0111;
+    public static final int ControlPointIndex = 0x300A0112;
+    public static final int NominalBeamEnergy = 0x300A0114;
+    public static final int DoseRateSet = 0x300A0115;
+    public static final int WedgePositionSequence = 0x300A0116;
+    public static final int WedgePosition = 0x300A0118;
+    public static final int BeamLimitingDevicePositionSequence = 0x300A011A;
+    public static final int LeafJawPositions = 0x300A011C;
+    public static final int GantryAngle = 0x300A011E;
+    public static final int GantryRotationDirection = 0x300A011F;
+    public static final int BeamLimitingDeviceAngle = 0x300A0120;
+    public static final int BeamLimitingDeviceRotationDirection = 0x300A0121;
+    public static final int PatientSupportAngle = 0x300A0122;
+    public static final int PatientSupportRotationDirection = 0x300A0123;
+    public static final int TableTopEccentricAxisDistance = 0x300A0124;
+    public static final int TableTopEccentricAngle = 0x300A0125;
+    public static final int TableTopEccentricRotationDirection = 0x300A0126;
+    public static final int TableTopVerticalPosition = 0x300A0128;
+    public static final int TableTopLongitudinalPosition = 0x300A0129;
+    public static final int TableTopLateralPosition = 0x300A012A;
+    public static final int IsocenterPosition = 0x300A012C;
+    public static final int SurfaceEntryPoint = 0x300A012E;
+    public static final int SourceToSurfaceDistance = 0x300A0130;
+    public static final int AverageBeamDosePointSourceToExternalContourDistance = 0x300A0131;
+    public static final int SourceToExternalContourDistance = 0x300A0132;
+    public static final int ExternalContourEntryPoint = 0x300A0133;
+    public static final int CumulativeMetersetWeight = 0x300A0134;
+    public static final int TableTopPitchAngle = 0x300A0140;
+    public static final int TableTopPitchRotationDirection = 0x300A0142;
+    public static final int TableTopRollAngle = 0x300A0144;
+    public static final int TableTopRollRotationDirection = 0x300A0146;
+    public static final int HeadFixationAngle = 0x300A0148;
+    public static final int GantryPitchAngle = 0x300A014A;
+    public static final int GantryPitchRotationDirection = 0x300A014C;
+    public static final int GantryPitchAngleTolerance = 0x300A014E;
+    public static final int FixationEye = 0x300A0150;
+    public static final int ChairHeadFramePosition = 0x300A0151;
+    public static final int HeadFixationAngleTolerance = 0x300A0152;
+    public static final int ChairHeadFramePositionTolerance = 0x300A0153;
+    public static final int FixationLightAzimuthalAngleTolerance = 0x300A0154;
+    public static final int FixationLightPolarAngleTolerance = 0x300A0155;
+    public static final int PatientSetupSequence = 0x300A0180;
+    public static final int PatientSetupNumber = 0x300A0182;
+    public static final int PatientSetupLabel = 0x300A0183;
+    public static final int PatientAdditionalPosition = 0x300A0184;
+    public static final int FixationDeviceSequence = 0x300A0190;
+    public static final int FixationDeviceType = 0x300A0192;
+    public static final int FixationDeviceLabel = 0x300A0194;
+    public static final int FixationDeviceDescription = 0x300A0196;
+    public static final int FixationDevicePosition = 0x300A0198;
+    public static final int FixationDevicePitchAngle = 0x300A0199;
+    public static final int FixationDeviceRollAngle = 0x300A019A;
+    public static final int ShieldingDeviceSequence = 0x300A01A0;
+    public static final int ShieldingDeviceType = 0x300A01A2;
+    public static final int ShieldingDeviceLabel = 0x300A01A4;
+    public static final int ShieldingDeviceDescription = 0x300A01A6;
+    public static final int ShieldingDevicePosition = 0x300A01A8;
+    public static final int SetupTechnique = 0x300A01B0;
+    public static final int SetupTechniqueDescription = 0x300A01B2;
+    public static final int SetupDeviceSequence = 0x300A01B4;
+    public static final int SetupDeviceType = 0x300A01B6;
+    public static final int SetupDeviceLabel = 0x300A01B8;
+    public static final int SetupDeviceDescription = 0x300A01BA;
+    public static final int SetupDeviceParameter = 0x300A01BC;
+    public static final int SetupReferenceDescription = 0x300A01D0;
+    public static final int TableTopVerticalSetupDisplacement = 0x300A01D2;
+    public static final int TableTopLongitudinalSetupDisplacement = 0x300A01D4;
+    public static final int TableTopLateralSetupDisplacement = 0x300A01D6;
+    public static final int BrachyTreatmentTechnique = 0x300A0200;
+    public static final int BrachyTreatmentType = 0x300A0202;
+    public static final int TreatmentMachineSequence = 0x300A0206;
+    public static final int SourceSequence = 0x300A0210;
+    public static final int SourceNumber = 0x300A0212;
+    public static final int SourceType = 0x300A0214;
+    public static final int SourceManufacturer = 0x300A0216;
+    public static final int ActiveSourceDiameter = 0x300A0218;
+    public static final int ActiveSourceLength = 0x300A021A;
+    public static final int SourceModelID = 0x300A021B;
+    public static final int SourceDescription = 0x300A021C;
+    public static final int SourceEncapsulationNominalThickness = 0x300A0222;
+    public static final int SourceEncapsulationNominalTransmission = 0x300A0224;
+    public static final int SourceIsotopeName = 0x300A0226;
+    public static final int SourceIsotopeHalfLife = 0x300A0228;
+    public static final int SourceStrengthUnits = 0x300A0229;
+    public static final int ReferenceAirKermaRate = 0x300A022A;
+    public static final int SourceStrength = 0x300A022B;
+    public static final int SourceStrengthReferenceDate = 0x300A022C;
+    public static final int SourceStrengthReferenceTime = 0x300A022E;
+    public static final int ApplicationSetupSequence = 0x300A0230;
+    public static final int ApplicationSetupType = 0x300A0232;
+    public static final int ApplicationSetupNumber = 0x300A0234;
+    public static final int ApplicationSetupName = 0x300A0236;
+    public static final int ApplicationSetupManufacturer = 0x300A0238;
+    public static final int TemplateNumber = 0x300A0240;
+    public static final int TemplateType = 0x300A0242;
+    public static final int TemplateName = 0x300A0244;
+    public static final int TotalReferenceAirKerma = 0x300A0250;
+    public static final int BrachyAccessoryDeviceSequence = 0x300A0260;
+    public static final int BrachyAccessoryDeviceNumber = 0x300A0262;
+    public static final int BrachyAccessoryDeviceID = 0x300A0263;
+    public static final int BrachyAccessoryDeviceType = 0x300A0264;
+    public static final int BrachyAccessoryDeviceName = 0x300A0266;
+    public static final int BrachyAccessoryDeviceNominalThickness = 0x300A026A;
+    public static final int BrachyAccessoryDeviceNominalTransmission = 0x300A026C;
+    public static final int ChannelEffectiveLength = 0x300A0271;
+    public static final int ChannelInnerLength = 0x300A0272;
+    public static final int AfterloaderChannelID = 0x300A0273;
+    public static final int SourceApplicatorTipLength = 0x300A0274;
+    public static final int ChannelSequence = 0x300A0280;
+    public static final int ChannelNumber = 0x300A0282;
+    public static final int ChannelLength = 0x300A0284;
+    public static final int ChannelTotalTime = 0x300A0286;
+    public static final int SourceMovementType = 0x300A0288;
+    public static final int NumberOfPulses = 0x300A028A;
+    public static final int PulseRepetitionInterval = 0x300A028C;
+    public static final int SourceApplicatorNumber = 0x300A0290;
+    public static final int SourceApplicatorID = 0x300A0291;
+    public static final int SourceApplicatorType = 0x300A0292;
+    public static final int SourceApplicatorName = 0x300A0294;
+    public static final int SourceApplicatorLength = 0x300A0296;
+    public static final int SourceApplicatorManufacturer = 0x300A0298;
+    public static final int SourceApplicatorWallNominalThickness = 0x300A029C;
+    public static final int SourceApplicatorWallNominalTransmission = 0x300A029E;
+    public static final int SourceApplicatorStepSize = 0x300A02A0;
+    public static final int TransferTubeNumber = 0x300A02A2;
+    public static final int TransferTubeLength = 0x300A02A4;
+    public static final int ChannelShieldSequence = 0x300A02B0;
+    public static final int ChannelShieldNumber = 0x300A02B2;
+    public static final int ChannelShieldID = 0x300A02B3;
+    public static final int ChannelShieldName = 0x300A02B4;
+    public static final int ChannelShieldNominalThickness = 0x300A02B8;
+    public static final int ChannelShieldNominalTransmission = 0x300A02BA;
+    public static final int FinalCumulativeTimeWeight = 0x300A02C8;
+    public static final int BrachyControlPointSequence = 0x300A02D0;
+    public static final int ControlPointRelativePosition = 0x300A02D2;
+    public static final int ControlPoint3DPosition = 0x300A02D4;
+    public static final int CumulativeTimeWeight = 0x300A02D6;
+    public static final int CompensatorDivergence = 0x300A02E0;
+    public static final int CompensatorMountingPosition = 0x300A02E1;
+    public static final int SourceToCompensatorDistance = 0x300A02E2;
+    public static final int TotalCompensatorTrayWaterEquivalentThickness = 0x300A02E3;
+    public static final int IsocenterToCompensatorTrayDistance = 0x300A02E4;
+    public static final int CompensatorColumnOffset = 0x300A02E5;
+    public static final int IsocenterToCompensatorDistances = 0x300A02E6;
+    public static final int CompensatorRelativeStoppingPowerRatio = 0x300A02E7;
+    public static final int CompensatorMillingToolDiameter = 0x300A02E8;
+    public static final int IonRangeCompensatorSequence = 0x300A02EA;
+    public static final int CompensatorDescription = 0x300A02EB;
+    public static final int RadiationMassNumber = 0x300A0302;
+    public static final int RadiationAtomicNumber = 0x300A0304;
+    public static final int RadiationChargeState = 0x300A0306;
+    public static final int ScanMode = 0x300A0308;
+    public static final int ModulatedScanModeType = 0x300A0309;
+    public static final int VirtualSourceAxisDistances = 0x300A030A;
+    public static final int SnoutSequence = 0x300A030C;
+    public static final int SnoutPosition = 0x300A030D;
+    public static final int SnoutID = 0x300A030F;
+    public static final int NumberOfRangeShifters = 0x300A0312;
+    public static final int RangeShifterSequence = 0x300A0314;
+    public static final int RangeShifterNumber = 0x300A0316;
+    public static final int RangeShifterID = 0x300A0318;
+    public static final int RangeShifterType = 0x300A0320;
+    public static final int RangeShifterDescription = 0x300A0322;
+    public static final int NumberOfLateralSpreadingDevices = 0x300A0330;
+    public static final int LateralSpreadingDeviceSequence = 0x300A0332;
+    public static final int LateralSpreadingDeviceNumber = 0x300A0334;
+    public static final int LateralSpreadingDeviceID = 0x300A0336;
+    public static final int LateralSpreadingDeviceType = 0x300A0338;
+    public static final int LateralSpreadingDeviceDescription = 0x300A033A;
+    public static final int LateralSpreadingDeviceWaterEquivalentThickness = 0x300A033C;
+    public static final int NumberOfRangeModulators = 0x300A0340;
+    public static final int RangeModulatorSequence = 0x300A0342;
+    public static final int RangeModulatorNumber = 0x300A0344;
+    public static final int RangeModulatorID = 0x300A0346;
+    public static final int RangeModulatorType = 0x300A0348;
+    public static final int RangeModulatorDescription = 0x300A034A;
+    public static final int BeamCurrentModulationID = 0x300A034C;
+    public static final int PatientSupportType = 0x300A0350;
+    public static final int PatientSupportID = 0x300A0352;
+    public static final int PatientSupportAccessoryCode = 0x300A0354;
+    public static final int TrayAccessoryCode = 0x300A0355;
+    public static final int FixationLightAzimuthalAngle = 0x300A0356;
+    public static final int FixationLightPolarAngle = 0x300A0358;
+    public static final int MetersetRate = 0x300A035A;
+    public static final int RangeShifterSettingsSequence = 0x300A0360;
+    public static final int RangeShifterSetting = 0x300A0362;
+    public static final int IsocenterToRangeShifterDistance = 0x300A0364;
+    public static final int RangeShifterWaterEquivalentThickness = 0x300A0366;
+    public static final int LateralSpreadingDeviceSettingsSequence = 0x300A0370;
+    public static final int LateralSpreadingDeviceSetting = 0x300A0372;
+    public static final int IsocenterToLateralSpreadingDeviceDistance = 0x300A0374;
+    public static final int RangeModulatorSettingsSequence = 0x300A0380;
+    public static final int RangeModulatorGatingStartValue = 0x300A0382;
+    public static final int RangeModulatorGatingStopValue = 0x300A0384;
+    public static final int RangeModulatorGatingStartWaterEquivalentThickness = 0x300A0386;
+    public static final int RangeModulatorGatingStopWaterEquivalentThickness = 0x300A0388;
+    public static final int IsocenterToRangeModulatorDistance = 0x300A038A;
+    public static final int ScanSpotTimeOffset = 0x300A038F;
+    public static final int ScanSpotTuneID = 0x300A0390;
+    public static final int ScanSpotPrescribedIndices = 0x300A0391;
+    public static final int NumberOfScanSpotPositions = 0x300A0392;
+    public static final int ScanSpotReordered = 0x300A0393;
+    public static final int ScanSpotPositionMap = 0x300A0394;
+    public static final int ScanSpotReorderingAllowed = 0x300A0395;
+    public static final int ScanSpotMetersetWeights = 0x300A0396;
+    public static final int ScanningSpotSize = 0x300A0398;
+    public static final int ScanSpotSizesDelivered = 0x300A0399;
+    public static final int NumberOfPaintings = 0x300A039A;
+    public static final int IonToleranceTableSequence = 0x300A03A0;
+    public static final int IonBeamSequence = 0x300A03A2;
+    public static final int IonBeamLimitingDeviceSequence = 0x300A03A4;
+    public static final int IonBlockSequence = 0x300A03A6;
+    public static final int IonControlPointSequence = 0x300A03A8;
+    public static final int IonWedgeSequence = 0x300A03AA;
+    public static final int IonWedgePositionSequence = 0x300A03AC;
+    public static final int ReferencedSetupImageSequence = 0x300A0401;
+    public static final int SetupImageComment = 0x300A0402;
+    public static final int MotionSynchronizationSequence = 0x300A0410;
+    public static final int ControlPointOrientation = 0x300A0412;
+    public static final int GeneralAccessorySequence = 0x300A0420;
+    public static final int GeneralAccessoryID = 0x300A0421;
+    public static final int GeneralAccessoryDescription = 0x300A0422;
+    public static final int GeneralAccessoryType = 0x300A0423;
+    public static final int GeneralAccessoryNumber = 0x300A0424;
+    public static final int SourceToGeneralAccessoryDistance = 0x300A0425;
+    public static final int IsocenterToGeneralAccessoryDistance = 0x300A0426;
+    public static final int ApplicatorGeometrySequence = 0x300A0431;
+    public static final int ApplicatorApertureShape = 0x300A0432;
+    public static final int ApplicatorOpening = 0x300A0433;
+    public static final int ApplicatorOpeningX = 0x300A0434;
+    public static final int ApplicatorOpeningY = 0x300A0435;
+    public static final int SourceToApplicatorMountingPositionDistance = 0x300A0436;
+    public static final int NumberOfBlockSlabItems = 0x300A0440;
+    public static final int BlockSlabSequence = 0x300A0441;
+    public static final int BlockSlabThickness = 0x300A0442;
+    public static final int BlockSlabNumber = 0x300A0443;
+    public static final int DeviceMotionControlSequence = 0x300A0450;
+    public static final int DeviceMotionExecutionMode = 0x300A0451;
+    public static final int DeviceMotionObservationMode = 0x300A0452;
+    public static final int DeviceMotionParameterCodeSequence = 0x300A0453;
+    public static final int DistalDepthFraction = 0x300A0501;
+    public static final int DistalDepth = 0x300A0502;
+    public static final int NominalRangeModulationFractions = 0x300A0503;
+    public static final int NominalRangeModulatedRegionDepths = 0x300A0504;
+    public static final int DepthDoseParametersSequence = 0x300A0505;
+    public static final int DeliveredDepthDoseParametersSequence = 0x300A0506;
+    public static final int DeliveredDistalDepthFraction = 0x300A0507;
+    public static final int DeliveredDistalDepth = 0x300A0508;
+    public static final int DeliveredNominalRangeModulationFractions = 0x300A0509;
+    public static final int DeliveredNominalRangeModulatedRegionDepths = 0x300A0510;
+    public static final int DeliveredReferenceDoseDefinition = 0x300A0511;
+    public static final int ReferenceDoseDefinition = 0x300A0512;
+    public static final int RTControlPointIndex = 0x300A0600;
+    public static final int RadiationGenerationModeIndex = 0x300A0601;
+    public static final int ReferencedDefinedDeviceIndex = 0x300A0602;
+    public static final int RadiationDoseIdentificationIndex = 0x300A0603;
+    public static final int NumberOfRTControlPoints = 0x300A0604;
+    public static final int ReferencedRadiationGenerationModeIndex = 0x300A0605;
+    public static final int TreatmentPositionIndex = 0x300A0606;
+    public static final int ReferencedDeviceIndex = 0x300A0607;
+    public static final int TreatmentPositionGroupLabel = 0x300A0608;
+    public static final int TreatmentPositionGroupUID = 0x300A0609;
+    public static final int TreatmentPositionGroupSequence = 0x300A060A;
+    public static final int ReferencedTreatmentPositionIndex = 0x300A060B;
+    public static final int ReferencedRadiationDoseIdentificationIndex = 0x300A060C;
+    public static final int RTAccessoryHolderWaterEquivalentThickness = 0x300A060D;
+    public static final int ReferencedRTAccessoryHolderDeviceIndex = 0x300A060E;
+    public static final int RTAccessoryHolderSlotExistenceFlag = 0x300A060F;
+    public static final int RTAccessoryHolderSlotSequence = 0x300A0610;
+    public static final int RTAccessoryHolderSlotID = 0x300A0611;
+    public static final int RTAccessoryHolderSlotDistance = 0x300A0612;
+    public static final int RTAccessorySlotDistance = 0x300A0613;
+    public static final int RTAccessoryHolderDefinitionSequence = 0x300A0614;
+    public static final int RTAccessoryDeviceSlotID = 0x300A0615;
+    public static final int RTRadiationSequence = 0x300A0616;
+    public static final int RadiationDoseSequence = 0x300A0617;
+    public static final int RadiationDoseIdentificationSequence = 0x300A0618;
+    public static final int RadiationDoseIdentificationLabel = 0x300A0619;
+    public static final int ReferenceDoseType = 0x300A061A;
+    public static final int PrimaryDoseValueIndicator = 0x300A061B;
+    public static final int DoseValuesSequence = 0x300A061C;
+    public static final int DoseValuePurpose = 0x300A061D;
+    public static final int ReferenceDosePointCoordinates = 0x300A061E;
+    public static final int RadiationDoseValuesParametersSequence = 0x300A061F;
+    public static final int MetersetToDoseMappingSequence = 0x300A0620;
+    public static final int ExpectedInVivoMeasurementValuesSequence = 0x300A0621;
+    public static final int ExpectedInVivoMeasurementValueIndex = 0x300A0622;
+    public static final int RadiationDoseInVivoMeasurementLabel = 0x300A0623;
+    public static final int RadiationDoseCentralAxisDisplacement = 0x300A0624;
+    public static final int RadiationDoseValue = 0x300A0625;
+    public static final int RadiationDoseSourceToSkinDistance = 0x300A0626;
+    public static final int RadiationDoseMeasurementPointCoordinates = 0x300A0627;
+    public static final int RadiationDoseSourceToExternalContourDistance = 0x300A0628;
+    public static final int RTToleranceSetSequence = 0x300A0629;
+    public static final int RTToleranceSetLabel = 0x300A062A;
+    public static final int AttributeToleranceValuesSequence = 0x300A062B;
+    public static final int ToleranceValue = 0x300A062C;
+    public static final int PatientSupportPositionToleranceSequence = 0x300A062D;
+    public static final int TreatmentTimeLimit = 0x300A062E;
+    public static final int CArmPhotonElectronControlPointSequence = 0x300A062F;
+    public static final int ReferencedRTRadiationSequence = 0x300A0630;
+    public static final int ReferencedRTInstanceSequence = 0x300A0631;
+    public static final int ReferencedRTPatientSetupSequence = 0x300A0632;
+    public static final int SourceToPatientSurfaceDistance = 0x300A0634;
+    public static final int TreatmentMachineSpecialModeCodeSequence = 0x300A0635;
+    public static final int IntendedNumberOfFractions = 0x300A0636;
+    public static final int RTRadiationSetIntent = 0x300A0637;
+    public static final int RTRadiationPhysicalAndGeometricContentDetailFlag = 0x300A0638;
+    public static final int RTRecordFlag = 0x300A0639;
+    public static final int TreatmentDeviceIdentificationSequence = 0x300A063A;
+    public static final int ReferencedRTPhysicianIntentSequence = 0x300A063B;
+    public static final int CumulativeMeterset = 0x300A063C;
+    public static final int DeliveryRate = 0x300A063D;
+    public static final int DeliveryRateUnitSequence = 0x300A063E;
+    public static final int TreatmentPositionSequence = 0x300A063F;
+    public static final int RadiationSourceAxisDistance = 0x300A0640;
+    public static final int NumberOfRTBeamLimitingDevices = 0x300A0641;
+    public static final int RTBeamLimitingDeviceProximalDistance = 0x300A0642;
+    public static final int RTBeamLimitingDeviceDistalDistance = 0x300A0643;
+    public static final int ParallelRTBeamDelimiterDeviceOrientationLabelCodeSequence = 0x300A0644;
+    public static final int BeamModifierOrientationAngle = 0x300A0645;
+    public static final int FixedRTBeamDelimiterDeviceSequence = 0x300A0646;
+    public static final int ParallelRTBeamDelimiterDeviceSequence = 0x300A0647;
+    public static final int NumberOfParallelRTBeamDelimiters = 0x300A0648;
+    public static final int ParallelRTBeamDelimiterBoundaries = 0x300A0649;
+    public static final int ParallelRTBeamDelimiterPositions = 0x300A064A;
+    public static final int RTBeamLimitingDeviceOffset = 0x300A064B;
+    public static final int RTBeamDelimiterGeometrySequence = 0x300A064C;
+    public static final int RTBeamLimitingDeviceDefinitionSequence = 0x300A064D;
+    public static final int ParallelRTBeamDelimiterOpeningMode = 0x300A064E;
+    public static final int ParallelRTBeamDelimiterLeafMountingSide = 0x300A064F;
+    public static final int PatientSetupUID = 0x300A0650;
+    public static final int WedgeDefinitionSequence = 0x300A0651;
+    public static final int RadiationBeamWedgeAngle = 0x300A0652;
+    public static final int RadiationBeamWedgeThinEdgeDistance = 0x300A0653;
+    public static final int RadiationBeamEffectiveWedgeAngle = 0x300A0654;
+    public static final int NumberOfWedgePositions = 0x300A0655;
+    public static final int RTBeamLimitingDeviceOpeningSequence = 0x300A0656;
+    public static final int NumberOfRTBeamLimitingDeviceOpenings = 0x300A0657;
+    public static final int RadiationDosimeterUnitSequence = 0x300A0658;
+    public static final int RTDeviceDistanceReferenceLocationCodeSequence = 0x300A0659;
+    public static final int RadiationDeviceConfigurationAndCommissioningKeySequence = 0x300A065A;
+    public static final int PatientSupportPositionParameterSequence = 0x300A065B;
+    public static final int PatientSupportPositionSpecificationMethod = 0x300A065C;
+    public static final int PatientSupportPositionDeviceParameterSequence = 0x300A065D;
+    public static final int DeviceOrderIndex = 0x300A065E;
+    public static final int PatientSupportPositionParameterOrderIndex = 0x300A065F;
+    public static final int PatientSupportPositionDeviceToleranceSequence = 0x300A0660;
+    public static final int PatientSupportPositionToleranceOrderIndex = 0x300A0661;
+    public static final int CompensatorDefinitionSequence = 0x300A0662;
+    public static final int CompensatorMapOrientation = 0x300A0663;
+    public static final int CompensatorProximalThicknessMap = 0x300A0664;
+    public static final int CompensatorDistalThicknessMap = 0x300A0665;
+    public static final int CompensatorBasePlaneOffset = 0x300A0666;
+    public static final int CompensatorShapeFabricationCodeSequence = 0x300A0667;
+    public static final int CompensatorShapeSequence = 0x300A0668;
+    public static final int RadiationBeamCompensatorMillingToolDiameter = 0x300A0669;
+    public static final int BlockDefinitionSequence = 0x300A066A;
+    public static final int BlockEdgeData = 0x300A066B;
+    public static final int BlockOrientation = 0x300A066C;
+    public static final int RadiationBeamBlockThickness = 0x300A066D;
+    public static final int RadiationBeamBlockSlabThickness = 0x300A066E;
+    public static final int BlockEdgeDataSequence = 0x300A066F;
+    public static final int NumberOfRTAccessoryHolders = 0x300A0670;
+    public static final int GeneralAccessoryDefinitionSequence = 0x300A0671;
+    public static final int NumberOfGeneralAccessories = 0x300A0672;
+    public static final int BolusDefinitionSequence = 0x300A0673;
+    public static final int NumberOfBoluses = 0x300A0674;
+    public static final int EquipmentFrameOfReferenceUID = 0x300A0675;
+    public static final int EquipmentFrameOfReferenceDescription = 0x300A0676;
+    public static final int EquipmentReferencePointCoordinatesSequence = 0x300A0677;
+    public static final int EquipmentReferencePointCodeSequence = 0x300A0678;
+    public static final int RTBeamLimitingDeviceAngle = 0x300A0679;
+    public static final int SourceRollAngle = 0x300A067A;
+    public static final int RadiationGenerationModeSequence = 0x300A067B;
+    public static final int RadiationGenerationModeLabel = 0x300A067C;
+    public static final int RadiationGenerationModeDescription = 0x300A067D;
+    public static final int RadiationGenerationModeMachineCodeSequence = 0x300A067E;
+    public static final int RadiationTypeCodeSequence = 0x300A067F;
+    public static final int NominalEnergy = 0x300A0680;
+    public static final int MinimumNominalEnergy = 0x300A0681;
+    public static final int MaximumNominalEnergy = 0x300A0682;
+    public static final int RadiationFluenceModifierCodeSequence = 0x300A0683;
+    public static final int EnergyUnitCodeSequence = 0x300A0684;
+    public static final int NumberOfRadiationGenerationModes = 0x300A0685;
+    public static final int PatientSupportDevicesSequence = 0x300A0686;
+    public static final int NumberOfPatientSupportDevices = 0x300A0687;
+    public static final int RTBeamModifierDefinitionDistance = 0x300A0688;
+    public static final int BeamAreaLimitSequence = 0x300A0689;
+    public static final int ReferencedRTPrescriptionSequence = 0x300A068A;
+    public static final int TreatmentSessionUID = 0x300A0700;
+    public static final int RTRadiationUsage = 0x300A0701;
+    public static final int ReferencedRTRadiationSetSequence = 0x300A0702;
+    public static final int ReferencedRTRadiationRecordSequence = 0x300A0703;
+    public static final int RTRadiationSetDeliveryNumber = 0x300A0704;
+    public static final int ClinicalFractionNumber = 0x300A0705;
+    public static final int RTTreatmentFractionCompletionStatus = 0x300A0706;
+    public static final int RTRadiationSetUsage = 0x300A0707;
+    public static final int TreatmentDeliveryContinuationFlag = 0x300A0708;
+    public static final int TreatmentRecordContentOrigin = 0x300A0709;
+    public static final int RTTreatmentTerminationStatus = 0x300A0714;
+    public static final int RTTreatmentTerminationReasonCodeSequence = 0x300A0715;
+    public static final int MachineSpecificTreatmentTerminationCodeSequence = 0x300A0716;
+    public static final int RTRadiationSalvageRecordControlPointSequence = 0x300A0722;
+    public static final int StartingMetersetValueKnownFlag = 0x300A0723;
+    public static final int TreatmentTerminationDescription = 0x300A0730;
+    public static final int TreatmentToleranceViolationSequence = 0x300A0731;
+    public static final int TreatmentToleranceViolationCategory = 0x300A0732;
+    public static final int TreatmentToleranceViolationAttributeSequence = 0x300A0733;
+    public static final int TreatmentToleranceViolationDescription = 0x300A0734;
+    public static final int TreatmentToleranceViolationIdentification = 0x300A0735;
+    public static final int TreatmentToleranceViolationDateTime = 0x300A0736;
+    public static final int RecordedRTControlPointDateTime = 0x300A073A;
+    public static final int ReferencedRadiationRTControlPointIndex = 0x300A073B;
+    public static final int AlternateValueSequence = 0x300A073E;
+    public static final int ConfirmationSequence = 0x300A073F;
+    public static final int InterlockSequence = 0x300A0740;
+    public static final int InterlockDateTime = 0x300A0741;
+    public static final int InterlockDescription = 0x300A0742;
+    public static final int InterlockOriginatingDeviceSequence = 0x300A0743;
+    public static final int InterlockCodeSequence = 0x300A0744;
+    public static final int InterlockResolutionCodeSequence = 0x300A0745;
+    public static final int InterlockResolutionUserSequence = 0x300A0746;
+    public static final int OverrideDateTime = 0x300A0760;
+    public static final int TreatmentToleranceViolationTypeCodeSequence = 0x300A0761;
+    public static final int TreatmentToleranceViolationCauseCodeSequence = 0x300A0762;
+    public static final int MeasuredMetersetToDoseMappingSequence = 0x300A0772;
+    public static final int ReferencedExpectedInVivoMeasurementValueIndex = 0x300A0773;
+    public static final int DoseMeasurementDeviceCodeSequence = 0x300A0774;
+    public static final int AdditionalParameterRecordingInstanceSequence = 0x300A0780;
+    public static final int InterlockOriginDescription = 0x300A0783;
+    public static final int ReferencedRTPlanSequence = 0x300C0002;
+    public static final int ReferencedBeamSequence = 0x300C0004;
+    public static final int ReferencedBeamNumber = 0x300C0006;
+    public static final int ReferencedReferenceImageNumber = 0x300C0007;
+    public static final int StartCumulativeMetersetWeight = 0x300C0008;
+    public static final int EndCumulativeMetersetWeight = 0x300C0009;
+    public static final int ReferencedBrachyApplicationSetupSequence = 0x300C000A;
+    public static final int ReferencedBrachyApplicationSetupNumber = 0x300C000C;
+    public static final int ReferencedSourceNumber = 0x300C000E;
+    public static final int ReferencedFractionGroupSequence = 0x300C0020;
+    public static final int ReferencedFractionGroupNumber = 0x300C0022;
+    public static final int ReferencedVerificationImageSequence = 0x300C0040;
+    public static final int ReferencedReferenceImageSequence = 0x300C0042;
+    public static final int ReferencedDoseReferenceSequence = 0x300C0050;
+    public static final int ReferencedDoseReferenceNumber = 0x300C0051;
+    public static final int BrachyReferencedDoseReferenceSequence = 0x300C0055;
+    public static final int ReferencedStructureSetSequence = 0x300C0060;
+    public static final int ReferencedPatientSetupNumber = 0x300C006A;
+    public static final int ReferencedDoseSequence = 0x300C0080;
+    public static final int ReferencedToleranceTableNumber = 0x300C00A0;
+    public static final int ReferencedBolusSequence = 0x300C00B0;
+    public static final int ReferencedWedgeNumber = 0x300C00C0;
+    public static final int ReferencedCompensatorNumber = 0x300C00D0;
+    public static final int ReferencedBlockNumber = 0x300C00E0;
+    public static final int ReferencedControlPointIndex = 0x300C00F0;
+    public static final int ReferencedControlPointSequence = 0x300C00F2;
+    public static final int ReferencedStartControlPointIndex = 0x300C00F4;
+    public static final int ReferencedStopControlPointIndex = 0x300C00F6;
+    public static final int ReferencedRangeShifterNumber = 0x300C0100;
+    public static final int ReferencedLateralSpreadingDeviceNumber = 0x300C0102;
+    public static final int ReferencedRangeModulatorNumber = 0x300C0104;
+    public static final int OmittedBeamTaskSequence = 0x300C0111;
+    public static final int ReasonForOmission = 0x300C0112;
+    public static final int ReasonForOmissionDescription = 0x300C0113;
+    public static final int ApprovalStatus = 0x300E0002;
+    public static final int ReviewDate = 0x300E0004;
+    public static final int ReviewTime = 0x300E0005;
+    public static final int ReviewerName = 0x300E0008;
+    public static final int RadiobiologicalDoseEffectSequence = 0x30100001;
+    public static final int RadiobiologicalDoseEffectFlag = 0x30100002;
+    public static final int EffectiveDoseCalculationMethodCategoryCodeSequence = 0x30100003;
+    public static final int EffectiveDoseCalculationMethodCodeSequence = 0x30100004;
+    public static final int EffectiveDoseCalculationMethodDescription = 0x30100005;
+    public static final int ConceptualVolumeUID = 0x30100006;
+    public static final int OriginatingSOPInstanceReferenceSequence = 0x30100007;
+    public static final int ConceptualVolumeConstituentSequence = 0x30100008;
+    public static final int EquivalentConceptualVolumeInstanceReferenceSequence = 0x30100009;
+    public static final int EquivalentConceptualVolumesSequence = 0x3010000A;
+    public static final int ReferencedConceptualVolumeUID = 0x3010000B;
+    public static final int ConceptualVolumeCombinationExpression = 0x3010000C;
+    public static final int ConceptualVolumeConstituentIndex = 0x3010000D;
+    public static final int ConceptualVolumeCombinationFlag = 0x3010000E;
+    public static final int ConceptualVolumeCombinationDescription = 0x3010000F;
+    public static final int ConceptualVolumeSegmentationDefinedFlag = 0x30100010;
+    public static final int ConceptualVolumeSegmentationReferenceSequence = 0x30100011;
+    public static final int ConceptualVolumeConstituentSegmentationReferenceSequence = 0x30100012;
+    public static final int ConstituentConceptualVolumeUID = 0x30100013;
+    public static final int DerivationConceptualVolumeSequence = 0x30100014;
+    public static final int SourceConceptualVolumeUID = 0x30100015;
+    public static final int ConceptualVolumeDerivationAlgorithmSequence = 0x30100016;
+    public static final int ConceptualVolumeDescription = 0x30100017;
+    public static final int SourceConceptualVolumeSequence = 0x30100018;
+    public static final int AuthorIdentificationSequence = 0x30100019;
+    public static final int ManufacturerModelVersion = 0x3010001A;
+    public static final int DeviceAlternateIdentifier = 0x3010001B;
+    public static final int DeviceAlternateIdentifierType = 0x3010001C;
+    public static final int DeviceAlternateIdentifierFormat = 0x3010001D;
+    public static final int SegmentationCreationTemplateLabel = 0x3010001E;
+    public static final int SegmentationTemplateUID = 0x3010001F;
+    public static final int ReferencedSegmentReferenceIndex = 0x30100020;
+    public static final int SegmentReferenceSequence = 0x30100021;
+    public static final int SegmentReferenceIndex = 0x30100022;
+    public static final int DirectSegmentReferenceSequence = 0x30100023;
+    public static final int CombinationSegmentReferenceSequence = 0x30100024;
+    public static final int ConceptualVolumeSequence = 0x30100025;
+    public static final int SegmentedRTAccessoryDeviceSequence = 0x30100026;
+    public static final int SegmentCharacteristicsSequence = 0x30100027;
+    public static final int RelatedSegmentCharacteristicsSequence = 0x30100028;
+    public static final int SegmentCharacteristicsPrecedence = 0x30100029;
+    public static final int RTSegmentAnnotationSequence = 0x3010002A;
+    public static final int SegmentAnnotationCategoryCodeSequence = 0x3010002B;
+    public static final int SegmentAnnotationTypeCodeSequence = 0x3010002C;
+    public static final int DeviceLabel = 0x3010002D;
+    public static final int DeviceTypeCodeSequence = 0x3010002E;
+    public static final int SegmentAnnotationTypeModifierCodeSequence = 0x3010002F;
+    public static final int PatientEquipmentRelationshipCodeSequence = 0x30100030;
+    public static final int ReferencedFiducialsUID = 0x30100031;
+    public static final int PatientTreatmentOrientationSequence = 0x30100032;
+    public static final int UserContentLabel = 0x30100033;
+    public static final int UserContentLongLabel = 0x30100034;
+    public static final int EntityLabel = 0x30100035;
+    public static final int EntityName = 0x30100036;
+    public static final int EntityDescription = 0x30100037;
+    public static final int EntityLongLabel = 0x30100038;
+    public static final int DeviceIndex = 0x30100039;
+    public static final int RTTreatmentPhaseIndex = 0x3010003A;
+    public static final int RTTreatmentPhaseUID = 0x3010003B;
+    public static final int RTPrescriptionIndex = 0x3010003C;
+    public static final int RTSegmentAnnotationIndex = 0x3010003D;
+    public static final int BasisRTTreatmentPhaseIndex = 0x3010003E;
+    public static final int RelatedRTTreatmentPhaseIndex = 0x3010003F;
+    public static final int ReferencedRTTreatmentPhaseIndex = 0x30100040;
+    public static final int ReferencedRTPrescriptionIndex = 0x30100041;
+    public static final int ReferencedParentRTPrescriptionIndex = 0x30100042;
+    public static final int ManufacturerDeviceIdentifier = 0x30100043;
+    public static final int InstanceLevelReferencedPerformedProcedureStepSequence = 0x30100044;
+    public static final int RTTreatmentPhaseIntentPresenceFlag = 0x30100045;
+    public static final int RadiotherapyTreatmentType = 0x30100046;
+    public static final int TeletherapyRadiationType = 0x30100047;
+    public static final int BrachytherapySourceType = 0x30100048;
+    public static final int ReferencedRTTreatmentPhaseSequence = 0x30100049;
+    public static final int ReferencedDirectSegmentInstanceSequence = 0x3010004A;
+    public static final int IntendedRTTreatmentPhaseSequence = 0x3010004B;
+    public static final int IntendedPhaseStartDate = 0x3010004C;
+    public static final int IntendedPhaseEndDate = 0x3010004D;
+    public static final int RTTreatmentPhaseIntervalSequence = 0x3010004E;
+    public static final int TemporalRelationshipIntervalAnchor = 0x3010004F;
+    public static final int MinimumNumberOfIntervalDays = 0x30100050;
+    public static final int MaximumNumberOfIntervalDays = 0x30100051;
+    public static final int PertinentSOPClassesInStudy = 0x30100052;
+    public static final int PertinentSOPClassesInSeries = 0x30100053;
+    public static final int RTPrescriptionLabel = 0x30100054;
+    public static final int RTPhysicianIntentPredecessorSequence = 0x30100055;
+    public static final int RTTreatmentApproachLabel = 0x30100056;
+    public static final int RTPhysicianIntentSequence = 0x30100057;
+    public static final int RTPhysicianIntentIndex = 0x30100058;
+    public static final int RTTreatmentIntentType = 0x30100059;
+    public static final int RTPhysicianIntentNarrative = 0x3010005A;
+    public static final int RTProtocolCodeSequence = 0x3010005B;
+    public static final int ReasonForSuperseding = 0x3010005C;
+    public static final int RTDiagnosisCodeSequence = 0x3010005D;
+    public static final int ReferencedRTPhysicianIntentIndex = 0x3010005E;
+    public static final int RTPhysicianIntentInputInstanceSequence = 0x3010005F;
+    public static final int RTAnatomicPrescriptionSequence = 0x30100060;
+    public static final int PriorTreatmentDoseDescription = 0x30100061;
+    public static final int PriorTreatmentReferenceSequence = 0x30100062;
+    public static final int DosimetricObjectiveEvaluationScope = 0x30100063;
+    public static final int TherapeuticRoleCategoryCodeSequence = 0x30100064;
+    public static final int TherapeuticRoleTypeCodeSequence = 0x30100065;
+    public static final int ConceptualVolumeOptimizationPrecedence = 0x30100066;
+    public static final int ConceptualVolumeCategoryCodeSequence = 0x30100067;
+    public static final int ConceptualVolumeBlockingConstraint = 0x30100068;
+    public static final int ConceptualVolumeTypeCodeSequence = 0x30100069;
+    public static final int ConceptualVolumeTypeModifierCodeSequence = 0x3010006A;
+    public static final int RTPrescriptionSequence = 0x3010006B;
+    public static final int DosimetricObjectiveSequence = 0x3010006C;
+    public static final int DosimetricObjectiveTypeCodeSequence = 0x3010006D;
+    public static final int DosimetricObjectiveUID = 0x3010006E;
+    public static final int ReferencedDosimetricObjectiveUID = 0x3010006F;
+    public static final int DosimetricObjectiveParameterSequence = 0x30100070;
+    public static final int ReferencedDosimetricObjectivesSequence = 0x30100071;
+    public static final int AbsoluteDosimetricObjectiveFlag = 0x30100073;
+    public static final int DosimetricObjectiveWeight = 0x30100074;
+    public static final int DosimetricObjectivePurpose = 0x30100075;
+    public static final int PlanningInputInformationSequence = 0x30100076;
+    public static final int TreatmentSite = 0x30100077;
+    public static final int TreatmentSiteCodeSequence = 0x30100078;
+    public static final int FractionPatternSequence = 0x30100079;
+    public static final int TreatmentTechniqueNotes = 0x3010007A;
+    public static final int PrescriptionNotes = 0x3010007B;
+    public static final int NumberOfIntervalFractions = 0x3010007C;
+    public static final int NumberOfFractions = 0x3010007D;
+    public static final int IntendedDeliveryDuration = 0x3010007E;
+    public static final int FractionationNotes = 0x3010007F;
+    public static final int RTTreatmentTechniqueCodeSequence = 0x30100080;
+    public static final int PrescriptionNotesSequence = 0x30100081;
+    public static final int FractionBasedRelationshipSequence = 0x30100082;
+    public static final int FractionBasedRelationshipIntervalAnchor = 0x30100083;
+    public static final int MinimumHoursBetweenFractions = 0x30100084;
+    public static final int IntendedFractionStartTime = 0x30100085;
+    public static final int IntendedStartDayOfWeek = 0x30100086;
+    public static final int WeekdayFractionPatternSequence = 0x30100087;
+    public static final int DeliveryTimeStructureCodeSequence = 0x30100088;
+    public static final int TreatmentSiteModifierCodeSequence = 0x30100089;
+    public static final int RoboticBaseLocationIndicator = 0x30100090;
+    public static final int RoboticPathNodeSetCodeSequence = 0x30100091;
+    public static final int RoboticNodeIdentifier = 0x30100092;
+    public static final int RTTreatmentSourceCoordinates = 0x30100093;
+    public static final int RadiationSourceCoordinateSystemYawAngle = 0x30100094;
+    public static final int RadiationSourceCoordinateSystemRollAngle = 0x30100095;
+    public static final int RadiationSourceCoordinateSystemPitchAngle = 0x30100096;
+    public static final int RoboticPathControlPointSequence = 0x30100097;
+    public static final int TomotherapeuticControlPointSequence = 0x30100098;
+    public static final int TomotherapeuticLeafOpenDurations = 0x30100099;
+    public static final int TomotherapeuticLeafInitialClosedDurations = 0x3010009A;
+    public static final int LowEnergyDetectors = 0x40100001;
+    public static final int HighEnergyDetectors = 0x40100002;
+    public static final int DetectorGeometrySequence = 0x40100004;
+    public static final int ThreatROIVoxelSequence = 0x40101001;
+    public static final int ThreatROIBase = 0x40101004;
+    public static final int ThreatROIExtents = 0x40101005;
+    public static final int ThreatROIBitmap = 0x40101006;
+    public static final int RouteSegmentID = 0x40101007;
+    public static final int GantryType = 0x40101008;
+    public static final int OOIOwnerType = 0x40101009;
+    public static final int RouteSegmentSequence = 0x4010100A;
+    public static final int PotentialThreatObjectID = 0x40101010;
+    public static final int ThreatSequence = 0x40101011;
+    public static final int ThreatCategory = 0x40101012;
+    public static final int ThreatCategoryDescription = 0x40101013;
+    public static final int ATDAbilityAssessment = 0x40101014;
+    public static final int ATDAssessmentFlag = 0x40101015;
+    public static final int ATDAssessmentProbability = 0x40101016;
+    public static final int Mass = 0x40101017;
+    public static final int Density = 0x40101018;
+    public static final int ZEffective = 0x40101019;
+    public static final int BoardingPassID = 0x4010101A;
+    public static final int CenterOfMass = 0x4010101B;
+    public static final int CenterOfPTO = 0x4010101C;
+    public static final int BoundingPolygon = 0x4010101D;
+    public static final int RouteSegmentStartLocationID = 0x4010101E;
+    public static final int RouteSegmentEndLocationID = 0x4010101F;
+    public static final int RouteSegmentLocationIDType = 0x40101020;
+    public static final int AbortReason = 0x40101021;
+    public static final int VolumeOfPTO = 0x40101023;
+    public static final int AbortFlag = 0x40101024;
+    public static final int RouteSegmentStartTime = 0x40101025;
+    public static final int RouteSegmentEndTime = 0x40101026;
+    public static final int TDRType = 0x40101027;
+    public static final int InternationalRouteSegment = 0x40101028;
+    public static final int ThreatDetectionAlgorithmAndVersion = 0x40101029;
+    public static final int AssignedLocation = 0x4010102A;
+    public static final int AlarmDecisionTime = 0x4010102B;
+    public static final int AlarmDecision = 0x40101031;
+    public static final int NumberOfTotalObjects = 0x40101033;
+    public static final int NumberOfAlarmObjects = 0x40101034;
+    public static final int PTORepresentationSequence = 0x40101037;
+    public static final int ATDAssessmentSequence = 0x40101038;
+    public static final int TIPType = 0x40101039;
+    public static final int DICOSVersion = 0x4010103A;
+    public static final int OOIOwnerCreationTime = 0x40101041;
+    public static final int OOIType = 0x40101042;
+    public static final int OOISize = 0x40101043;
+    public static final int AcquisitionStatus = 0x40101044;
+    public static final int BasisMaterialsCodeSequence = 0x40101045;
+    public static final int PhantomType = 0x40101046;
+    public static final int OOIOwnerSequence = 0x40101047;
+    public static final int ScanType = 0x40101048;
+    public static final int ItineraryID = 0x40101051;
+    public static final int ItineraryIDType = 0x40101052;
+    public static final int ItineraryIDAssigningAuthority = 0x40101053;
+    public static final int RouteID = 0x40101054;
+    public static final int RouteIDAssigningAuthority = 0x40101055;
+    public static final int InboundArrivalType = 0x40101056;
+    public static final int CarrierID = 0x40101058;
+    public static final int CarrierIDAssigningAuthority = 0x40101059;
+    public static final int SourceOrientation = 0x40101060;
+    public static final int SourcePosition = 0x40101061;
+    public static final int BeltHeight = 0x40101062;
+    public static final int AlgorithmRoutingCodeSequence = 0x40101064;
+    public static final int TransportClassification = 0x40101067;
+    public static final int OOITypeDescriptor = 0x40101068;
+    public static final int TotalProcessingTime = 0x40101069;
+    public static final int DetectorCalibrationData = 0x4010106C;
+    public static final int AdditionalScreeningPerformed = 0x4010106D;
+    public static final int AdditionalInspectionSelectionCriteria = 0x4010106E;
+    public static final int AdditionalInspectionMethodSequence = 0x4010106F;
+    public static final int AITDeviceType = 0x40101070;
+    public static final int QRMeasurementsSequence = 0x40101071;
+    public static final int TargetMaterialSequence = 0x40101072;
+    public static final int SNRThreshold = 0x40101073;
+    public static final int ImageScaleRepresentation = 0x40101075;
+    public static final int ReferencedPTOSequence = 0x40101076;
+    public static final int ReferencedTDRInstanceSequence = 0x40101077;
+    public static final int PTOLocationDescription = 0x40101078;
+    public static final int AnomalyLocatorIndicatorSequence = 0x40101079;
+    public static final int AnomalyLocatorIndicator = 0x4010107A;
+    public static final int PTORegionSequence = 0x4010107B;
+    public static final int InspectionSelectionCriteria = 0x4010107C;
+    public static final int SecondaryInspectionMethodSequence = 0x4010107D;
+    public static final int PRCSToRCSOrientation = 0x4010107E;
+    public static final int MACParametersSequence = 0x4FFE0001;
+    public static final int SharedFunctionalGroupsSequence = 0x52009229;
+    public static final int PerFrameFunctionalGroupsSequence = 0x52009230;
+    public static final int WaveformSequence = 0x54000100;
+    public static final int ChannelMinimumValue = 0x54000110;
+    public static final int ChannelMaximumValue = 0x54000112;
+    public static final int WaveformBitsAllocated = 0x54001004;
+    public static final int WaveformSampleInterpretation = 0x54001006;
+    public static final int WaveformPaddingValue = 0x5400100A;
+    public static final int WaveformData = 0x54001010;
+    public static final int FirstOrderPhaseCorrectionAngle = 0x56000010;
+    public static final int SpectroscopyData = 0x56000020;
+    public static final int OverlayRows = 0x60000010;
+    public static final int OverlayColumns = 0x60000011;
+    public static final int NumberOfFramesInOverlay = 0x60000015;
+    public static final int OverlayDescription = 0x60000022;
+    public static final int OverlayType = 0x60000040;
+    public static final int OverlaySubtype = 0x60000045;
+    public static final int OverlayOrigin = 0x60000050;
+    public static final int ImageFrameOrigin = 0x60000051;
+    public static final int OverlayBitsAllocated = 0x60000100;
+    public static final int OverlayBitPosition = 0x60000102;
+    public static final int OverlayActivationLayer = 0x60001001;
+    public static final int ROIArea = 0x60001301;
+    public static final int ROIMean = 0x60001302;
+    public static final int ROIStandardDeviation = 0x60001303;
+    public static final int OverlayLabel = 0x60001500;
+    public static final int OverlayData = 0x60003000;
+    public static final int ExtendedOffsetTable = 0x7FE00001;
+    public static final int ExtendedOffsetTableLengths = 0x7FE00002;
+    public static final int FloatPixelData = 0x7FE00008;
+    public static final int DoubleFloatPixelData = 0x7FE00009;
+    public static final int PixelData = 0x7FE00010;
+    public static final int DigitalSignaturesSequence = 0xFFFAFFFA;
+    public static final int DataSetTrailingPadding = 0xFFFCFFFC;
+    public static final int Item = 0xFFFEE000;
+    public static final int ItemDelimitationItem = 0xFFFEE00D;
+    public static final int SequenceDelimitationItem = 0xFFFEE0DD;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package bransford.dicom.parser;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Compiles dicom.dic into the dicom.dict resource DICOMDictionary.standard() loads. Run by the build (see the
+// exec-maven-plugin execution in pom.xml) after the classes are compiled, so the text is parsed once per build
+// rather than once per parser:
+//
+//     DictionaryCompiler <dicom.dic> <classes dir>/bransford/dicom/parser/dicom.dict
+public class DictionaryCompiler
+{
+    public static void main(String[] args)
+    {
+        if (args.length != 2)
+        {
+            System.err.println("Command line args must contain <dictionary file> <compiled dictionary file>");
+            System.exit(-1);
+        }
+
+        DICOMDictionary dictionary = new DICOMDictionary(args[0]);
+        if (dictionary.size() == 0)
+        {
+            System.err.println("no entries read from " + args[0]);
+            System.exit(-1);
+        }
+
+        File compiled = new File(args[1]);
+        if (compiled.getParentFile() != null)
+        {
+            compiled.getParentFile().mkdirs();
+        }
+
+        try (OutputStream out = new FileOutputStream(compiled))
+        {
+            dictionary.write(out);
+        }
+        catch (IOException ioe)
+        {
+            ioe.printStackTrace();
+            System.exit(-1);
+        }
+
+        System.out.println("compiled " + dictionary.size() + " dictionary entries to " + args[1]);
+    }
+}
@@ -0,0 +1,62 @@
+package bransford.dicom.parser;
+
+// What the dictionary knows about a tag: its VR, description and value multiplicity, and the flags that follow from
+// them. An entry is immutable and one instance is shared by every element of that tag parsed, in any parser, so an
+// element carries only a reference to it, beside its own value and parsed state.
+public final class DictionaryEntry
+{
+    public static final String unknown_description = "Unknown Tag & Data";
+
+    public final int tag;
+    public final String VR;
+    public final String description;
+    // the value multiplicity in the dictionary, -1 for any number ("1-n", "2-2n", ...)
+    public final int multiplicity;
+
+    public final boolean isNumeric;
+    public final boolean isExplicitVrReserved;
+    public final boolean isSequence;
+    public final boolean isSequenceDelimiter;
+    public final boolean isItemDelimiter;
+    public final boolean isItem;
+    public final boolean isPixelData;
+
+    public DictionaryEntry(int tag, String VR, String description, int multiplicity)
+    {
+        this.tag = tag;
+        this.description = description;
+        this.multiplicity = multiplicity;
+
+        // pixel data is read as OB whatever the dictionary lists (OB or OW)
+        String pixel_data_vr = DicomTag.pixelDataVR(tag);
+        isPixelData = pixel_data_vr != null;
+        this.VR = (isPixelData ? pixel_data_vr : VR).intern();
+
+        isNumeric = DicomTag.isNumericVR(this.VR);
+        isExplicitVrReserved = DicomTag.isExplicitVRReservedVR(this.VR);
+        isSequence = this.VR.equals("SQ");
+        isSequenceDelimiter = tag == DicomTags.SequenceDelimitationItem;
+        isItemDelimiter = tag == DicomTags.ItemDelimitationItem;
+        isItem = tag == DicomTags.Item;
+    }
+
+    // an entry from a tab separated line of dicom.dic: tag, VR, description, multiplicity, ... A repeating group
+    // range (e.g. "(60xx,3000)") has no single tag, and comes back with a tag of -1
+    public static DictionaryEntry fromDict(String[] dicom_dict_entry)
+    {
+        int tag = ValueConversions.parseTagKey(dicom_dict_entry[0]);
+        String mult = dicom_dict_entry[3];
+        int multiplicity;
+
+        if (mult.contains("-") || mult.contains("n"))
+        {
+            multiplicity = -1;
+        }
+        else
+        {
+            multiplicity = Integer.parseInt(mult);
+        }
+
+        return new DictionaryEntry(tag, dicom_dict_entry[1], dicom_dict_entry[2], multiplicity);
+    }
+}
@@ -0,0 +1,197 @@
+package bransford.dicom.parser;
+
+// Stored pixel values to 8 bit display values, the grey scale pipeline of PS3.3 C.11: the modality rescale (slope and
+// intercept), then the VOI transform, a window (LINEAR, LINEAR_EXACT or SIGMOID VOI LUT function) or an explicit
+// VOI LUT, then inverted for MONOCHROME1.
+//
+// It is compiled into a table with an entry for every stored value (up to 16 bits stored), so a frame is rendered with
+// one lookup a sample and dragging the window only rebuilds the table, never more than 65536 entries, whatever the
+// size of the image. Wider samples go through the transforms one by one.
+public class DisplayLut
+{
+    public static final String linear = "LINEAR";
+    public static final String linear_exact = "LINEAR_EXACT";
+    public static final String sigmoid = "SIGMOID";
+
+    private static final int max_table_bits = 16;
+
+    public final int bits_stored;
+    public final boolean signed;
+    public final double slope;
+    public final double intercept;
+    public final double center;
+    public final double width;
+    public final String function;
+    public final boolean invert;
+
+    // an explicit VOI LUT in place of the window: entries, the value mapped to the first, and bits per entry
+    private final int[] voi_lut;
+    private final int voi_lut_first;
+    private final int voi_lut_bits;
+
+    // the stored value of the table's first entry
+    public final int min_stored;
+    // null for more than 16 bits stored
+    public final byte[] table;
+
+    // a window: width 0 or less is taken as 1
+    public DisplayLut(int bits_stored, boolean signed, double slope, double intercept, double center, double width,
+                      String function, boolean invert)
+    {
+        this(bits_stored, signed, slope, intercept, center, width, function, invert, null, 0, 0);
+    }
+
+    // an explicit VOI LUT (0028,3010): descriptor (0028,3002) of number of entries (0 for 65536), first value mapped
+    // and bits per entry, and the entries (0028,3006)
+    public DisplayLut(int bits_stored, boolean signed, double slope, double intercept, int[] descriptor, int[] entries,
+                      boolean invert)
+    {
+        this(bits_stored, signed, slope, intercept, 0, 0, null, invert, entries,
+                signed ? (short) descriptor[1] : descriptor[1], descriptor[2]);
+    }
+
+    private DisplayLut(int bits_stored, boolean signed, double slope, double intercept, double center, double width,
+                       String function, boolean invert, int[] voi_lut, int voi_lut_first, int voi_lut_bits)
+    {
+        this.bits_stored = bits_stored;
+        this.signed = signed;
+        this.slope = slope;
+        this.intercept = intercept;
+        this.center = center;
+        this.width = width;
+        this.function = function == null || function.isEmpty() ? linear : function;
+        this.invert = invert;
+        this.voi_lut = voi_lut;
+        this.voi_lut_first = voi_lut_first;
+        this.voi_lut_bits = voi_lut_bits <= 0 || voi_lut_bits > 16 ? 16 : voi_lut_bits;
+
+        min_stored = signed ? -(1 << (bits_stored - 1)) : 0;
+
+        if (bits_stored <= max_table_bits)
+        {
+            table = new byte[1 << bits_stored];
+            for (int i = 0; i < table.length; i++)
+            {
+                table[i] = (byte) display(min_stored + i);
+            }
+        }
+        else
+        {
+            table = null;
+        }
+    }
+
+    // the display value, 0 to 255, of one stored value
+    public int display(long stored)
+    {
+        double modality = stored * slope + intercept;
+        double y = voi_lut != null ? lookup(modality) : window(modality);
+
+        int value = (int) Math.round(y);
+        value = Math.max(0, Math.min(255, value));
+        return invert ? 255 - value : value;
+    }
+
+    // samples as from DicomImage.getFrameAsInts, masked and sign extended, of bits_stored bits and signed as the LUT is
+    public byte[] render(int[] samples)
+    {
+        byte[] pixels = new byte[samples.length];
+
+        if (table != null)
+        {
+            byte[] table = this.table;
+            int min_stored = this.min_stored;
+            for (int i = 0; i < samples.length; i++)
+            {
+                pixels[i] = table[samples[i] - min_stored];
+            }
+        }
+        else
+        {
+            for (int i = 0; i < samples.length; i++)
+            {
+                pixels[i] = (byte) display(signed ? samples[i] : samples[i] & 0xFFFFFFFFL);
+            }
+        }
+
+        return pixels;
+    }
+
+    // samples as from DicomImage.getFrameAsShorts, half the memory of ints for 16 bits allocated; only for a LUT with a
+    // table
+    public byte[] render(short[] samples)
+    {
+        if (table == null)
+        {
+            throw new IllegalStateException("no table for " + bits_stored + " bits stored, render the samples as ints");
+        }
+
+        byte[] pixels = new byte[samples.length];
+        byte[] table = this.table;
+        int min_stored = this.min_stored;
+
+        if (signed)
+        {
+            for (int i = 0; i < samples.length; i++)
+            {
+                pixels[i] = table[samples[i] - min_stored];
+            }
+        }
+        else
+        {
+            for (int i = 0; i < samples.length; i++)
+            {
+                pixels[i] = table[samples[i] & 0xFFFF];
+            }
+        }
+
+        return pixels;
+    }
+
+    // PS3.3 C.11.2.1.2, to 0 - 255
+    private double window(double x)
+    {
+        switch (function)
+        {
+            case linear_exact ->
+            {
+                double w = width > 0 ? width : 1;
+                if (x <= center - w / 2)
+                {
+                    return 0;
+                }
+                if (x > center + w / 2)
+                {
+                    return 255;
+                }
+                return ((x - center) / w + 0.5) * 255;
+            }
+            case sigmoid ->
+            {
+                double w = width > 0 ? width : 1;
+                return 255 / (1 + Math.exp(-4 * (x - center) / w));
+            }
+            default ->
+            {
+                double w = width >= 1 ? width : 1;
+                if (x <= center - 0.5 - (w - 1) / 2)
+                {
+                    return 0;
+                }
+                if (x > center - 0.5 + (w - 1) / 2)
+                {
+                    return 255;
+                }
+                return ((x - (center - 0.5)) / (w - 1) + 0.5) * 255;
+            }
+        }
+    }
+
+    // values below the first mapped take the first entry, above the last the last (PS3.3 C.11.2.1.1)
+    private double lookup(double x)
+    {
+        long index = Math.round(x) - voi_lut_first;
+        index = Math.max(0, Math.min(voi_lut.length - 1, index));
+        return voi_lut[(int) index] * 255.0 / ((1 << voi_lut_bits) - 1);
+    }
+}
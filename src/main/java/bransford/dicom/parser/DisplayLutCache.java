@@ -0,0 +1,83 @@
+package bransford.dicom.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compiled display LUTs by everything that goes into one, so the same window preset over a series of slices with the
+// same stored bits and rescale is compiled once and each slice is only a lookup pass. Holds at most max_luts (each up
+// to 64 KB), dropping the least recently used.
+public class DisplayLutCache
+{
+    private record Key(int bits_stored, boolean signed, double slope, double intercept, double center, double width,
+                       String function, boolean invert)
+    {
+    }
+
+    public final int max_luts;
+
+    // in access order, the least recently used first
+    private final LinkedHashMap<Key, DisplayLut> luts;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public DisplayLutCache(int max_luts)
+    {
+        this.max_luts = max_luts;
+        luts = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, DisplayLut> eldest)
+            {
+                return size() > DisplayLutCache.this.max_luts;
+            }
+        };
+    }
+
+    // the LUT for a window, compiled if it isn't cached
+    public DisplayLut get(int bits_stored, boolean signed, double slope, double intercept, double center, double width,
+                          String function, boolean invert)
+    {
+        String voi_lut_function = function == null || function.isEmpty() ? DisplayLut.linear : function;
+        Key key = new Key(bits_stored, signed, slope, intercept, center, width, voi_lut_function, invert);
+
+        synchronized (this)
+        {
+            DisplayLut lut = luts.get(key);
+            if (lut != null)
+            {
+                hits++;
+                return lut;
+            }
+            misses++;
+        }
+
+        // compiled outside the lock, two threads may both compile one, the first put is kept
+        DisplayLut lut = new DisplayLut(bits_stored, signed, slope, intercept, center, width, voi_lut_function, invert);
+        synchronized (this)
+        {
+            DisplayLut cached = luts.putIfAbsent(key, lut);
+            return cached == null ? lut : cached;
+        }
+    }
+
+    public synchronized void clear()
+    {
+        luts.clear();
+    }
+
+    public synchronized long hits()
+    {
+        return hits;
+    }
+
+    public synchronized long misses()
+    {
+        return misses;
+    }
+
+    public synchronized int size()
+    {
+        return luts.size();
+    }
+}
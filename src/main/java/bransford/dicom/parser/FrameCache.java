@@ -0,0 +1,122 @@
+package bransford.dicom.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Decompressed frames by SOP instance UID and frame number, so an image a viewer keeps coming back to is decoded once.
+// Holds at most max_bytes of pixels, dropping the least recently used frames first to make room for a new one.
+//
+// The key also holds how the frames are encoded, so another file with the same UID (re-encoded, say, or with a UID
+// reused by mistake) gets frames of its own. Frames are copied in and out, what is cached can't be written to
+public class FrameCache
+{
+    public record Key(String sopInstanceUID, String transferSyntaxUID, int rows, int columns, int bitsAllocated,
+                      int samplesPerPixel, int frame)
+    {
+    }
+
+    public final long max_bytes;
+
+    // in access order, the least recently used first
+    private final LinkedHashMap<Key, byte[]> frames = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public FrameCache(long max_bytes)
+    {
+        this.max_bytes = max_bytes;
+    }
+
+    // a copy of the frame, or null (a miss) if it isn't cached
+    public synchronized byte[] get(Key key)
+    {
+        byte[] pixels = frames.get(key);
+        if (pixels == null)
+        {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return pixels.clone();
+    }
+
+    // a copy of the frame is kept, a frame bigger than the whole budget isn't
+    public synchronized void put(Key key, byte[] pixels)
+    {
+        if (pixels == null || pixels.length > max_bytes)
+        {
+            return;
+        }
+
+        byte[] replaced = frames.put(key, pixels.clone());
+        bytes += pixels.length - (replaced == null ? 0 : replaced.length);
+
+        // the new frame is the most recently used, so it is never reached
+        Iterator<Map.Entry<Key, byte[]>> least_recently_used = frames.entrySet().iterator();
+        while (bytes > max_bytes && least_recently_used.hasNext())
+        {
+            bytes -= least_recently_used.next().getValue().length;
+            least_recently_used.remove();
+            evictions++;
+        }
+    }
+
+    // every frame of an instance, e.g. when it has changed
+    public synchronized void remove(String sopInstanceUID)
+    {
+        Iterator<Map.Entry<Key, byte[]>> entries = frames.entrySet().iterator();
+        while (entries.hasNext())
+        {
+            Map.Entry<Key, byte[]> entry = entries.next();
+            if (entry.getKey().sopInstanceUID().equals(sopInstanceUID))
+            {
+                bytes -= entry.getValue().length;
+                entries.remove();
+            }
+        }
+    }
+
+    public synchronized void clear()
+    {
+        frames.clear();
+        bytes = 0;
+    }
+
+    public synchronized long hits()
+    {
+        return hits;
+    }
+
+    public synchronized long misses()
+    {
+        return misses;
+    }
+
+    public synchronized long evictions()
+    {
+        return evictions;
+    }
+
+    // bytes of pixels held
+    public synchronized long bytes()
+    {
+        return bytes;
+    }
+
+    public synchronized int size()
+    {
+        return frames.size();
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "FrameCache: " + frames.size() + " frames, " + bytes + " of " + max_bytes + " bytes, " + hits
+                + " hits, " + misses + " misses, " + evictions + " evictions";
+    }
+}
@@ -0,0 +1,323 @@
+package bransford.dicom.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+// A minimal lossless JPEG (ITU T.81 process 14, selection value 1) encoder for a single grey scale component of 2 to
+// 16 bit precision, i.e. the JPEG Lossless, Non-Hierarchical, First-Order Prediction transfer syntax
+// (1.2.840.10008.1.2.4.70). ImageIO only writes 8 bit baseline JPEG, this is what lets SyntheticDicom make the
+// 12 and 16 bit compressed frames Driver12_16 decodes.
+//
+// Each sample is predicted from the one to its left (the first column from the one above, the first sample from
+// half the range), and the differences are Huffman coded with a table made optimal for the frame.
+public class LosslessJpegEncoder
+{
+    private static final int SOI = 0xFFD8;
+    private static final int SOF3 = 0xFFC3;
+    private static final int DHT = 0xFFC4;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+
+    // samples: rows * columns unsigned samples, row by row
+    public static byte[] encode(int[] samples, int rows, int columns, int precision)
+    {
+        if (precision < 2 || precision > 16)
+        {
+            throw new IllegalArgumentException("lossless JPEG precision must be 2 to 16 bits, not " + precision);
+        }
+
+        int[] differences = differences(samples, rows, columns, precision);
+
+        // how often each difference category (the number of bits in the difference) occurs
+        int[] frequencies = new int[257];
+        for (int difference : differences)
+        {
+            frequencies[category(difference)]++;
+        }
+
+        byte[] bits = new byte[17];
+        byte[] values = optimalTable(frequencies, bits);
+        int[] codes = new int[17];
+        int[] code_lengths = new int[17];
+        canonicalCodes(bits, values, codes, code_lengths);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(samples.length * 2);
+        marker(out, SOI);
+
+        marker(out, SOF3);
+        short16(out, 11);
+        out.write(precision);
+        short16(out, rows);
+        short16(out, columns);
+        // one component, id 1, no subsampling, no quantisation table
+        out.write(1);
+        out.write(1);
+        out.write(0x11);
+        out.write(0);
+
+        marker(out, DHT);
+        short16(out, 2 + 1 + 16 + values.length);
+        // DC table 0
+        out.write(0x00);
+        out.write(bits, 1, 16);
+        out.write(values, 0, values.length);
+
+        marker(out, SOS);
+        short16(out, 8);
+        out.write(1);
+        out.write(1);
+        out.write(0x00);
+        // selection value (predictor) 1, no point transform
+        out.write(1);
+        out.write(0);
+        out.write(0);
+
+        BitWriter bit_writer = new BitWriter(out);
+        for (int difference : differences)
+        {
+            int category = category(difference);
+            bit_writer.write(codes[category], code_lengths[category]);
+
+            // category 16 (a difference of 32768) has no additional bits
+            if (category != 0 && category != 16)
+            {
+                int additional = difference < 0 ? difference - 1 : difference;
+                bit_writer.write(additional & ((1 << category) - 1), category);
+            }
+        }
+        bit_writer.flush();
+
+        marker(out, EOI);
+        return out.toByteArray();
+    }
+
+    private static int[] differences(int[] samples, int rows, int columns, int precision)
+    {
+        int[] differences = new int[rows * columns];
+
+        for (int row = 0, i = 0; row < rows; row++)
+        {
+            for (int column = 0; column < columns; column++, i++)
+            {
+                int prediction;
+                if (row == 0 && column == 0)
+                {
+                    prediction = 1 << (precision - 1);
+                }
+                else if (column == 0)
+                {
+                    prediction = samples[i - columns];
+                }
+                else
+                {
+                    prediction = samples[i - 1];
+                }
+
+                // differences are modulo 2^16, in the range -32767 to 32768
+                int difference = (samples[i] - prediction) & 0xFFFF;
+                if (difference > 32768)
+                {
+                    difference -= 65536;
+                }
+                differences[i] = difference;
+            }
+        }
+
+        return differences;
+    }
+
+    private static int category(int difference)
+    {
+        return 32 - Integer.numberOfLeadingZeros(Math.abs(difference));
+    }
+
+    // the Huffman code lengths for the frequencies (T.81 Annex K.2, as libjpeg does it), limited to 16 bits and never
+    // using the all ones code. Fills bits[1..16] with the number of codes of each length, answers the symbols in
+    // order of code length
+    private static byte[] optimalTable(int[] frequencies, byte[] bits)
+    {
+        int[] freq = frequencies.clone();
+        int[] code_size = new int[257];
+        int[] others = new int[257];
+        Arrays.fill(others, -1);
+
+        // a pseudo symbol reserves the all ones code
+        freq[256] = 1;
+
+        while (true)
+        {
+            // the two least frequent symbols, the larger symbol of a tie first
+            int c1 = -1;
+            long v = Long.MAX_VALUE;
+            for (int i = 0; i <= 256; i++)
+            {
+                if (freq[i] != 0 && freq[i] <= v)
+                {
+                    v = freq[i];
+                    c1 = i;
+                }
+            }
+
+            int c2 = -1;
+            v = Long.MAX_VALUE;
+            for (int i = 0; i <= 256; i++)
+            {
+                if (freq[i] != 0 && freq[i] <= v && i != c1)
+                {
+                    v = freq[i];
+                    c2 = i;
+                }
+            }
+
+            if (c2 < 0)
+            {
+                break;
+            }
+
+            freq[c1] += freq[c2];
+            freq[c2] = 0;
+
+            code_size[c1]++;
+            while (others[c1] >= 0)
+            {
+                c1 = others[c1];
+                code_size[c1]++;
+            }
+            others[c1] = c2;
+
+            code_size[c2]++;
+            while (others[c2] >= 0)
+            {
+                c2 = others[c2];
+                code_size[c2]++;
+            }
+        }
+
+        int[] count = new int[33];
+        int num_values = 0;
+        for (int i = 0; i <= 256; i++)
+        {
+            if (code_size[i] != 0)
+            {
+                count[code_size[i]]++;
+                num_values++;
+            }
+        }
+
+        // move codes longer than 16 bits up the tree
+        for (int i = 32; i > 16; i--)
+        {
+            while (count[i] > 0)
+            {
+                int j = i - 2;
+                while (count[j] == 0)
+                {
+                    j--;
+                }
+
+                count[i] -= 2;
+                count[i - 1]++;
+                count[j + 1] += 2;
+                count[j]--;
+            }
+        }
+
+        // drop the pseudo symbol, which has one of the longest codes
+        int longest = 16;
+        while (count[longest] == 0)
+        {
+            longest--;
+        }
+        count[longest]--;
+
+        for (int i = 1; i <= 16; i++)
+        {
+            bits[i] = (byte) count[i];
+        }
+
+        byte[] values = new byte[num_values - 1];
+        int n = 0;
+        for (int length = 1; length <= 32; length++)
+        {
+            for (int symbol = 0; symbol < 256; symbol++)
+            {
+                if (code_size[symbol] == length)
+                {
+                    values[n++] = (byte) symbol;
+                }
+            }
+        }
+
+        return values;
+    }
+
+    private static void canonicalCodes(byte[] bits, byte[] values, int[] codes, int[] code_lengths)
+    {
+        int code = 0;
+        int n = 0;
+
+        for (int length = 1; length <= 16; length++)
+        {
+            for (int i = 0; i < bits[length]; i++, n++)
+            {
+                codes[values[n]] = code++;
+                code_lengths[values[n]] = length;
+            }
+            code <<= 1;
+        }
+    }
+
+    private static void marker(ByteArrayOutputStream out, int marker)
+    {
+        short16(out, marker);
+    }
+
+    private static void short16(ByteArrayOutputStream out, int value)
+    {
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    // entropy coded bits, most significant first, with a 0 stuffed after every 0xFF byte
+    private static class BitWriter
+    {
+        private final ByteArrayOutputStream out;
+        private long buffer = 0;
+        private int num_bits = 0;
+
+        BitWriter(ByteArrayOutputStream out)
+        {
+            this.out = out;
+        }
+
+        void write(int bits, int length)
+        {
+            buffer = (buffer << length) | (bits & ((1L << length) - 1));
+            num_bits += length;
+
+            while (num_bits >= 8)
+            {
+                num_bits -= 8;
+                writeByte((int) (buffer >>> num_bits) & 0xFF);
+            }
+        }
+
+        // pad the last byte with 1 bits
+        void flush()
+        {
+            if (num_bits > 0)
+            {
+                write(0x7F, 8 - num_bits);
+            }
+        }
+
+        private void writeByte(int value)
+        {
+            out.write(value);
+            if (value == 0xFF)
+            {
+                out.write(0);
+            }
+        }
+    }
+}
@@ -6,15 +6,16 @@ public class Main
 {
     public static void main(String[] args)
     {
-        if (args.length != 2)
+        if (args.length != 1 && args.length != 2)
         {
             System.err.println("Command line args must contain the fully " +
-                    "qualified path to <DICOM file> <dictionary file>");
+                    "qualified path to <DICOM file> [dictionary file]");
             return;
         }
 
-        DicomParser parser = new DicomParser(args[0], args[1]);
-        if (DCMBuff.data == null)
+        DicomParser parser = new DicomParser(args[0], args.length == 2 ? args[1] : null);
+        parser.verbose = true;
+        if (parser.dcm_buff == null || !parser.dcm_buff.isLoaded())
         {
             System.err.println("unable to parse DICOM filer: " + args[0]);
             System.exit(-1);
@@ -0,0 +1,182 @@
+package bransford.dicom.parser;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// Direct (off heap) buffers for decoded frames, so a large volume held by a renderer is not something the garbage
+// collector copies and scans. Buffers are acquired for a frame and released back when done with, and a released
+// buffer is handed out again for the next frame of its size; frames of a series are all the one size.
+//
+// Up to max_pooled_bytes of released buffers are kept for reuse, any more are dropped for the collector to free. A
+// buffer must not be used after it is released. Buffers handed out are tracked only weakly, so one that is never
+// released (the caller threw, or just dropped the frame) is freed by the collector like any other, it is simply
+// never reused.
+public class PixelBufferPool
+{
+    // an acquired buffer, by identity: ByteBuffer's equals and hashCode are its contents
+    private static final class Acquired extends WeakReference<ByteBuffer>
+    {
+        final int identity;
+
+        Acquired(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue)
+        {
+            super(buffer, queue);
+            identity = System.identityHashCode(buffer);
+        }
+    }
+
+    public static final PixelBufferPool shared = new PixelBufferPool(512L << 20);
+
+    public final long max_pooled_bytes;
+
+    // released buffers by capacity
+    private final HashMap<Integer, ArrayDeque<ByteBuffer>> free = new HashMap<>();
+    private final HashMap<Integer, ArrayList<Acquired>> acquired = new HashMap<>();
+    private final ReferenceQueue<ByteBuffer> dropped = new ReferenceQueue<>();
+    private int outstanding = 0;
+    private long pooled_bytes = 0;
+
+    private long allocations = 0;
+    private long reuses = 0;
+
+    public PixelBufferPool(long max_pooled_bytes)
+    {
+        this.max_pooled_bytes = max_pooled_bytes;
+    }
+
+    // a little endian buffer of exactly capacity bytes, positioned at 0; its contents are whatever was last in it
+    public synchronized ByteBuffer acquire(int capacity)
+    {
+        ArrayDeque<ByteBuffer> buffers = free.get(capacity);
+        ByteBuffer buffer = buffers == null ? null : buffers.poll();
+
+        if (buffer == null)
+        {
+            buffer = ByteBuffer.allocateDirect(capacity);
+            allocations++;
+        }
+        else
+        {
+            pooled_bytes -= capacity;
+            reuses++;
+        }
+
+        buffer.clear().order(ByteOrder.LITTLE_ENDIAN);
+        expunge();
+        Acquired reference = new Acquired(buffer, dropped);
+        acquired.computeIfAbsent(reference.identity, identity -> new ArrayList<>(1)).add(reference);
+        outstanding++;
+        return buffer;
+    }
+
+    public synchronized void release(ByteBuffer buffer)
+    {
+        if (buffer == null)
+        {
+            return;
+        }
+
+        if (!forget(buffer))
+        {
+            throw new IllegalStateException("buffer was not acquired from this pool, or was already released");
+        }
+
+        if (pooled_bytes + buffer.capacity() <= max_pooled_bytes)
+        {
+            free.computeIfAbsent(buffer.capacity(), capacity -> new ArrayDeque<>()).push(buffer);
+            pooled_bytes += buffer.capacity();
+        }
+    }
+
+    public void release(ByteBuffer[] buffers)
+    {
+        if (buffers == null)
+        {
+            return;
+        }
+
+        for (ByteBuffer buffer : buffers)
+        {
+            release(buffer);
+        }
+    }
+
+    // drop the released buffers kept for reuse
+    public synchronized void clear()
+    {
+        free.clear();
+        pooled_bytes = 0;
+    }
+
+    public synchronized long pooledBytes()
+    {
+        return pooled_bytes;
+    }
+
+    // buffers acquired and not yet released, nor collected
+    public synchronized int outstanding()
+    {
+        expunge();
+        return outstanding;
+    }
+
+    // stop tracking buffer, false if it wasn't tracked
+    private boolean forget(ByteBuffer buffer)
+    {
+        int identity = System.identityHashCode(buffer);
+        ArrayList<Acquired> references = acquired.get(identity);
+        if (references == null)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < references.size(); i++)
+        {
+            if (references.get(i).refersTo(buffer))
+            {
+                references.remove(i);
+                if (references.isEmpty())
+                {
+                    acquired.remove(identity);
+                }
+                outstanding--;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // buffers dropped without being released
+    private void expunge()
+    {
+        for (Reference<? extends ByteBuffer> reference; (reference = dropped.poll()) != null; )
+        {
+            ArrayList<Acquired> references = acquired.get(((Acquired) reference).identity);
+            if (references != null && references.remove(reference))
+            {
+                if (references.isEmpty())
+                {
+                    acquired.remove(((Acquired) reference).identity);
+                }
+                outstanding--;
+            }
+        }
+    }
+
+    public synchronized long allocations()
+    {
+        return allocations;
+    }
+
+    public synchronized long reuses()
+    {
+        return reuses;
+    }
+}
@@ -0,0 +1,161 @@
+package bransford.dicom.parser;
+
+import java.util.stream.IntStream;
+
+// The RLE Lossless transfer syntax (1.2.840.10008.1.2.5, PS3.5 Annex G). Each frame is one fragment: a 64 byte header
+// of little endian ints, the number of segments and up to 15 segment offsets, then the segments. A segment holds one
+// byte of every sample, PackBits run length encoded: the most significant byte of each sample of the first sample
+// (e.g. red) in the first segment, then the next byte, and so on.
+//
+// Every segment lands on its own bytes of the frame, so the segments are decoded in parallel, each straight into its
+// place in the frame: samples little endian, interleaved (planar configuration 0) or one plane after another (1)
+public class RleDecoder
+{
+    public static final String rle_lossless = "1.2.840.10008.1.2.5";
+
+    private static final int header_length = 64;
+    private static final int max_segments = 15;
+
+    // frames of fewer pixels are decoded a segment at a time, the parallel overhead is more than the decode
+    public static final int parallel_threshold = 64 * 1024;
+
+    public static byte[] decode(byte[] fragment, int rows, int columns, int samples_per_pixel, int bits_allocated,
+                                int planar_configuration)
+    {
+        return decode(fragment, rows, columns, samples_per_pixel, bits_allocated, planar_configuration,
+                parallel_threshold);
+    }
+
+    // min_parallel_pixels: decode the segments in parallel for a frame of at least this many pixels
+    public static byte[] decode(byte[] fragment, int rows, int columns, int samples_per_pixel, int bits_allocated,
+                                int planar_configuration, int min_parallel_pixels)
+    {
+        int bytes_per_sample = bits_allocated / 8;
+        byte[] frame = new byte[rows * columns * samples_per_pixel * bytes_per_sample];
+        decode(fragment, rows, columns, samples_per_pixel, bits_allocated, planar_configuration, frame,
+                min_parallel_pixels);
+        return frame;
+    }
+
+    // decode into frame, which holds rows * columns * samples_per_pixel samples of bits_allocated
+    public static void decode(byte[] fragment, int rows, int columns, int samples_per_pixel, int bits_allocated,
+                              int planar_configuration, byte[] frame)
+    {
+        decode(fragment, rows, columns, samples_per_pixel, bits_allocated, planar_configuration, frame,
+                parallel_threshold);
+    }
+
+    public static void decode(byte[] fragment, int rows, int columns, int samples_per_pixel, int bits_allocated,
+                              int planar_configuration, byte[] frame, int min_parallel_pixels)
+    {
+        int bytes_per_sample = bits_allocated / 8;
+        int num_pixels = rows * columns;
+        int expected_segments = samples_per_pixel * bytes_per_sample;
+
+        if (fragment == null || fragment.length < header_length)
+        {
+            System.err.println("RLE frame is too short to hold its header");
+            return;
+        }
+
+        int num_segments = intValue(fragment, 0);
+        if (num_segments != expected_segments || num_segments > max_segments)
+        {
+            System.err.println("RLE frame has " + num_segments + " segments, " + expected_segments + " expected");
+            num_segments = Math.min(Math.min(num_segments, expected_segments), max_segments);
+        }
+
+        int segments = num_segments;
+        IntStream each_segment = IntStream.range(0, segments);
+        if (num_pixels >= min_parallel_pixels)
+        {
+            each_segment = each_segment.parallel();
+        }
+
+        each_segment.forEach(segment ->
+        {
+            int from = intValue(fragment, 4 + segment * 4);
+            int to = segment + 1 < segments ? intValue(fragment, 8 + segment * 4) : fragment.length;
+            if (from < header_length || from > fragment.length)
+            {
+                // an offset past the end of the fragment, or (high bit set) negative
+                System.err.println("RLE segment " + segment + " is at " + Integer.toUnsignedString(from)
+                        + ", outside the " + fragment.length + " byte frame, skipped");
+                return;
+            }
+            if (to < from || to > fragment.length)
+            {
+                // the next segment's offset is no good, this one can only end at the end of the fragment
+                to = fragment.length;
+            }
+
+            // segment sample's byte (0 the most significant) of sample segment / bytes_per_sample, little endian
+            int sample = segment / bytes_per_sample;
+            int byte_of_sample = bytes_per_sample - 1 - segment % bytes_per_sample;
+
+            int start;
+            int stride;
+            if (planar_configuration == 0)
+            {
+                start = sample * bytes_per_sample + byte_of_sample;
+                stride = samples_per_pixel * bytes_per_sample;
+            }
+            else
+            {
+                start = sample * num_pixels * bytes_per_sample + byte_of_sample;
+                stride = bytes_per_sample;
+            }
+
+            int decoded = decodeSegment(fragment, from, Math.min(to, fragment.length), frame, start, stride,
+                    num_pixels);
+            if (decoded < num_pixels)
+            {
+                System.err.println("RLE segment " + segment + " decoded to " + decoded + " of " + num_pixels
+                        + " bytes");
+            }
+        });
+    }
+
+    // PackBits: a byte n of 0 to 127 is followed by n + 1 literal bytes, -127 to -1 by one byte repeated 1 - n times,
+    // and -128 is nothing. Writes at most count bytes, stride apart, answers how many
+    private static int decodeSegment(byte[] in, int from, int to, byte[] out, int start, int stride, int count)
+    {
+        int i = from;
+        int o = start;
+        int written = 0;
+
+        while (written < count && i < to)
+        {
+            int n = in[i++];
+
+            if (n >= 0)
+            {
+                int length = Math.min(Math.min(n + 1, count - written), to - i);
+                for (int j = 0; j < length; j++, o += stride)
+                {
+                    out[o] = in[i++];
+                }
+                written += length;
+                i += n + 1 - length;
+            }
+            else if (n != -128 && i < to)
+            {
+                byte value = in[i++];
+                int length = Math.min(1 - n, count - written);
+                for (int j = 0; j < length; j++, o += stride)
+                {
+                    out[o] = value;
+                }
+                written += length;
+            }
+        }
+
+        return written;
+    }
+
+    private static int intValue(byte[] bytes, int offset)
+    {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+                | (bytes[offset + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,105 @@
+package bransford.dicom.parser;
+
+import java.io.ByteArrayOutputStream;
+
+// An RLE Lossless (1.2.840.10008.1.2.5, PS3.5 Annex G) encoder, what RleDecoder reads: a segment per byte of each
+// sample, most significant first, each PackBits encoded a row at a time and padded to an even length. Lets
+// SyntheticDicom write RLE frames.
+public class RleEncoder
+{
+    private static final int header_length = 64;
+    private static final int max_segments = 15;
+
+    // frame: rows * columns pixels of samples_per_pixel little endian samples, interleaved
+    public static byte[] encode(byte[] frame, int rows, int columns, int samples_per_pixel, int bits_allocated)
+    {
+        int bytes_per_sample = bits_allocated / 8;
+        int num_segments = samples_per_pixel * bytes_per_sample;
+        if (num_segments < 1 || num_segments > max_segments || bits_allocated % 8 != 0)
+        {
+            throw new IllegalArgumentException("RLE takes at most 15 bytes of samples a pixel, not "
+                    + samples_per_pixel + " samples of " + bits_allocated + " bits");
+        }
+
+        int stride = num_segments;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(frame.length + header_length);
+        out.writeBytes(new byte[header_length]);
+        int[] offsets = new int[num_segments];
+        byte[] row = new byte[columns];
+
+        for (int segment = 0; segment < num_segments; segment++)
+        {
+            offsets[segment] = out.size();
+            int sample = segment / bytes_per_sample;
+            int byte_of_sample = bytes_per_sample - 1 - segment % bytes_per_sample;
+
+            for (int r = 0; r < rows; r++)
+            {
+                int from = r * columns * stride + sample * bytes_per_sample + byte_of_sample;
+                for (int column = 0; column < columns; column++)
+                {
+                    row[column] = frame[from + column * stride];
+                }
+                packBits(row, out);
+            }
+
+            if (out.size() % 2 != 0)
+            {
+                out.write(0);
+            }
+        }
+
+        byte[] encoded = out.toByteArray();
+        intValue(encoded, 0, num_segments);
+        for (int segment = 0; segment < num_segments; segment++)
+        {
+            intValue(encoded, 4 + segment * 4, offsets[segment]);
+        }
+
+        return encoded;
+    }
+
+    // runs of 3 or more the same as a replicate run, everything else as literal runs, neither longer than 128
+    private static void packBits(byte[] row, ByteArrayOutputStream out)
+    {
+        int i = 0;
+
+        while (i < row.length)
+        {
+            int run = 1;
+            while (i + run < row.length && run < 128 && row[i + run] == row[i])
+            {
+                run++;
+            }
+
+            if (run >= 3)
+            {
+                out.write(1 - run);
+                out.write(row[i]);
+                i += run;
+                continue;
+            }
+
+            int start = i;
+            while (i < row.length && i - start < 128)
+            {
+                if (i + 2 < row.length && row[i] == row[i + 1] && row[i] == row[i + 2])
+                {
+                    break;
+                }
+                i++;
+            }
+
+            out.write(i - start - 1);
+            out.write(row, start, i - start);
+        }
+    }
+
+    private static void intValue(byte[] bytes, int offset, int value)
+    {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
@@ -0,0 +1,287 @@
+package bransford.dicom.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+// A DCMBuff over a stream (a socket, an object store download, ...) rather than a file. Only a window of the stream
+// is held at once; as the parser moves forward, bytes behind the cursor are dropped and more are read from the
+// channel, so memory stays bounded by the window size however large the object is.
+//
+// Locations are positions in the stream, exactly as they would be offsets in the file. Because the window is reused,
+// values can't be views of it: a value is copied out when its tag is read, or, if it won't fit in the window (pixel
+// data, typically), it is skipped over and the tag keeps only its location and length. With skip_large_values off,
+// such a value is instead read through the window, a piece at a time, into an array of its own.
+public class StreamingDCMBuff extends DCMBuff
+{
+    public static final int default_window_size = 1 << 20;
+
+    // the parser steps back at most the few bytes of a tag header it has just read, keep a little more than that
+    private static final int keep_behind = 16;
+
+    public ReadableByteChannel channel = null;
+
+    // holds the stream bytes from window_start to window_start + window.limit()
+    public ByteBuffer window = null;
+    public long window_start = 0;
+    public boolean end_of_stream = false;
+
+    // skip values too large for the window rather than reading them onto the heap
+    public boolean skip_large_values = true;
+
+    // a blocking channel: a non-blocking one may read nothing, and there is nothing to do but try again
+    public StreamingDCMBuff(ReadableByteChannel channel, int window_size)
+    {
+        super(null, false);
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking())
+        {
+            throw new IllegalArgumentException("a stream must be read from a blocking channel");
+        }
+
+        this.channel = channel;
+        window = ByteBuffer.allocate(window_size).order(default_byte_order);
+        window.limit(0);
+
+        // unknown, until the end of the stream is reached
+        length = Long.MAX_VALUE;
+    }
+
+    // the largest value that can be copied out of the window
+    public int maxValueLength()
+    {
+        return window.capacity() - keep_behind;
+    }
+
+    @Override
+    public boolean isLoaded()
+    {
+        return channel != null;
+    }
+
+    @Override
+    public void setTagValue(DicomTag tag)
+    {
+        int value_length = (int) (buffer_range - buffer_location);
+
+        if (value_length <= maxValueLength())
+        {
+            tag.setRawValue(getChunk(buffer_location, buffer_range));
+            tag.byteOrder = byte_order;
+        }
+        else if (!skip_large_values)
+        {
+            // a window full at a time, the window itself never grows
+            byte[] value = new byte[value_length];
+            int piece = maxValueLength();
+            for (int offset = 0; offset < value_length; offset += piece)
+            {
+                int num_bytes = Math.min(piece, value_length - offset);
+                long location = buffer_location + offset;
+                require(location, num_bytes);
+                window.get((int) (location - window_start), value, offset, num_bytes);
+            }
+            tag.setRawValue(value);
+            tag.byteOrder = byte_order;
+        }
+        else
+        {
+            // too large to hold, only where it was in the stream is kept
+            tag.setValueSkipped(buffer_location);
+        }
+    }
+
+    @Override
+    public void setByteOrder(ByteOrder order)
+    {
+        byte_order = order;
+        window.order(order);
+    }
+
+    @Override
+    public boolean isValidBufferLocation()
+    {
+        if (!skip_large_values && buffer_range - buffer_location > maxValueLength() && buffer_location >= window_start)
+        {
+            // don't jump over a large value not yet read through the window, setTagValue finds out if the stream
+            // ends in it
+            return true;
+        }
+        return fill(buffer_range, 1);
+    }
+
+    @Override
+    public byte getByte(long location)
+    {
+        require(location, 1);
+        return window.get((int) (location - window_start));
+    }
+
+    @Override
+    public short getShort(long location)
+    {
+        require(location, _2bytes);
+        return window.getShort((int) (location - window_start));
+    }
+
+    @Override
+    public int getInt(long location)
+    {
+        require(location, _4bytes);
+        return window.getInt((int) (location - window_start));
+    }
+
+    @Override
+    public String getString(long location, int length)
+    {
+        return dataChunkToString(getChunk(location, location + length));
+    }
+
+    @Override
+    public ByteBuffer slice(long location, int length)
+    {
+        // the window is reused, so a slice of it would not stay valid
+        return ByteBuffer.wrap(getChunk(location, location + length)).order(byte_order);
+    }
+
+    // what is left of the window from location, then the rest of the channel
+    @Override
+    public InputStream inputStream(long location)
+    {
+        fill(location, 0);
+        int offset = (int) Math.min(location - window_start, window.limit());
+        InputStream buffered = new ByteArrayInputStream(window.array(), window.arrayOffset() + offset,
+                window.limit() - offset);
+
+        return end_of_stream ? buffered : new SequenceInputStream(buffered, Channels.newInputStream(channel));
+    }
+
+    @Override
+    public byte[] getChunk(long fromIndex, long toIndex)
+    {
+        int length = (int) (toIndex - fromIndex);
+        byte[] chunk = new byte[length];
+
+        if (length > 0)
+        {
+            require(fromIndex, length);
+            window.get((int) (fromIndex - window_start), chunk, 0, length);
+        }
+
+        return chunk;
+    }
+
+    private void require(long location, int num_bytes)
+    {
+        if (!fill(location, num_bytes))
+        {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    // make sure the window holds num_bytes from location, reading (or skipping) forward in the channel as need be.
+    // Answers false if the stream ends first
+    private boolean fill(long location, int num_bytes)
+    {
+        long end = location + num_bytes;
+
+        if (location >= window_start && end <= window_start + window.limit())
+        {
+            return true;
+        }
+
+        if (location < window_start)
+        {
+            throw new IllegalStateException("cannot step back to " + location + ", the stream window starts at "
+                    + window_start);
+        }
+
+        if (num_bytes > maxValueLength())
+        {
+            throw new IllegalStateException(num_bytes + " bytes will not fit in a stream window of "
+                    + window.capacity());
+        }
+
+        if (end_of_stream)
+        {
+            return false;
+        }
+
+        try
+        {
+            // drop everything behind the cursor, less the few bytes the parser may step back over
+            long keep_from = Math.max(window_start, Math.min(location, buffer_location) - keep_behind);
+            if (end - keep_from > window.capacity())
+            {
+                keep_from = location;
+            }
+            long window_end = window_start + window.limit();
+
+            if (keep_from >= window_end)
+            {
+                // jumping past the window, e.g. over a value too large to hold
+                skip(keep_from - window_end);
+                window.clear();
+            }
+            else
+            {
+                window.position((int) (keep_from - window_start));
+                window.compact();
+            }
+            window_start = keep_from;
+
+            while (window.position() < end - window_start)
+            {
+                if (channel.read(window) < 0)
+                {
+                    end_of_stream = true;
+                    break;
+                }
+            }
+            window.flip();
+
+            if (end_of_stream)
+            {
+                length = window_start + window.limit();
+            }
+        }
+        catch (IOException ioe)
+        {
+            throw new UncheckedIOException(ioe);
+        }
+
+        return end <= window_start + window.limit();
+    }
+
+    private void skip(long num_bytes) throws IOException
+    {
+        if (channel instanceof SeekableByteChannel seekable)
+        {
+            seekable.position(seekable.position() + num_bytes);
+            return;
+        }
+
+        while (num_bytes > 0)
+        {
+            window.clear();
+            window.limit((int) Math.min(window.capacity(), num_bytes));
+            int bytes_read = channel.read(window);
+
+            if (bytes_read < 0)
+            {
+                end_of_stream = true;
+                return;
+            }
+
+            num_bytes -= bytes_read;
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package bransford.dicom.parser;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+// Writes valid Part 10 files with no patient data in them, for benchmarks and load tests: the file meta group, the
+// usual patient, study, series and image tags, num_tags more tags taken from the dictionary, a sequence nested
+// sequence_depth deep, and num_frames frames of rows x columns monochrome pixels, in any of
+//
+//     implicit VR little endian         1.2.840.10008.1.2
+//     explicit VR little endian         1.2.840.10008.1.2.1
+//     explicit VR big endian            1.2.840.10008.1.2.2
+//     deflated explicit VR little endian 1.2.840.10008.1.2.1.99
+//     JPEG baseline (8 bit)             1.2.840.10008.1.2.4.50, encoded with ImageIO
+//     JPEG lossless, SV1 (2 to 16 bit)  1.2.840.10008.1.2.4.70, encoded with LosslessJpegEncoder
+//     RLE lossless                      1.2.840.10008.1.2.5, encoded with RleEncoder
+//
+// From the command line, to write a corpus for a load test:
+//
+//     SyntheticDicom <output directory> <number of files> [transfer_syntax=<uid>] [tags=<n>] [depth=<n>]
+//         [frames=<n>] [rows=<n>] [columns=<n>] [bits_allocated=<8|16>] [bits_stored=<n>] [fragments=<n>]
+//         [offset_table=<none|basic|extended>]
+public class SyntheticDicom
+{
+    public static final String implicit_little_endian = "1.2.840.10008.1.2";
+    public static final String explicit_little_endian = "1.2.840.10008.1.2.1";
+    public static final String explicit_big_endian = "1.2.840.10008.1.2.2";
+    public static final String deflated_explicit_little_endian = "1.2.840.10008.1.2.1.99";
+    public static final String jpeg_baseline = "1.2.840.10008.1.2.4.50";
+    public static final String jpeg_lossless = "1.2.840.10008.1.2.4.70";
+    public static final String rle_lossless = "1.2.840.10008.1.2.5";
+
+    public static final String sop_class = "1.2.840.10008.5.1.4.1.1.7";
+    // a root for the made up UIDs
+    public static final String uid_root = "1.2.826.0.1.3680043.2.1125.";
+
+    public String transfer_syntax = explicit_little_endian;
+    // tags in addition to the few dozen always written; at most as many as the dictionary has of the simple VRs
+    public int num_tags = 50;
+    // how deep ReferencedImageSequence items nest, 0 for no sequence
+    public int sequence_depth = 1;
+    public boolean undefined_length_sequences = true;
+    public int num_frames = 1;
+    public int rows = 512;
+    public int columns = 512;
+    public int bits_allocated = 16;
+    // 0 for the usual 12 of 16 (8 of 8)
+    public int bits_stored = 0;
+    // compressed frames are split over this many fragments, and located by an offset table if one is asked for
+    public int fragments_per_frame = 1;
+    public OffsetTable offset_table = OffsetTable.NONE;
+    // the instance number, also made part of the SOP instance UID so each file of a corpus is unique
+    public int instance = 1;
+
+    // how the frames of encapsulated pixel data are located: not at all, by the basic offset table (in the first item),
+    // or by the extended offset table (with an empty basic one)
+    public enum OffsetTable
+    {
+        NONE,
+        BASIC,
+        EXTENDED
+    }
+
+    public byte[] generate() throws IOException
+    {
+        if (bits_allocated != 8 && bits_allocated != 16)
+        {
+            throw new IllegalArgumentException("bits_allocated must be 8 or 16, not " + bits_allocated);
+        }
+
+        if (transfer_syntax.equals(jpeg_baseline) && bits_allocated != 8)
+        {
+            throw new IllegalArgumentException("JPEG baseline is 8 bit only");
+        }
+
+        int stored = bitsStored();
+        String sop_instance = uid_root + "1." + instance;
+
+        ElementWriter file = new ElementWriter(true, ByteOrder.LITTLE_ENDIAN);
+        file.preamble();
+        file.fileMeta(sop_instance, transfer_syntax);
+
+        boolean encapsulated = transfer_syntax.equals(jpeg_baseline) || transfer_syntax.equals(jpeg_lossless)
+                || transfer_syntax.equals(rle_lossless);
+        ElementWriter data_set = new ElementWriter(!transfer_syntax.equals(implicit_little_endian),
+                transfer_syntax.equals(explicit_big_endian) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+
+        ArrayList<DictionaryEntry> acquisition = new ArrayList<>();
+        ArrayList<DictionaryEntry> other = new ArrayList<>();
+        fillerTags(acquisition, other);
+
+        data_set.string(DicomTags.SOPClassUID, "UI", sop_class);
+        data_set.string(DicomTags.SOPInstanceUID, "UI", sop_instance);
+        data_set.string(DicomTags.StudyDate, "DA", "20230115");
+        data_set.string(DicomTags.StudyTime, "TM", "101530.250000");
+        data_set.string(DicomTags.AccessionNumber, "SH", "A" + instance);
+        data_set.string(DicomTags.Modality, "CS", "OT");
+        data_set.string(DicomTags.StudyDescription, "LO", "SYNTHETIC STUDY");
+        data_set.string(DicomTags.SeriesDescription, "LO", "SYNTHETIC SERIES");
+        if (sequence_depth > 0)
+        {
+            data_set.sequence(DicomTags.ReferencedImageSequence, referencedImage(data_set, sequence_depth),
+                    undefined_length_sequences);
+        }
+        data_set.string(DicomTags.PatientName, "PN", "Synthetic^Patient");
+        data_set.string(DicomTags.PatientID, "LO", "SYN" + instance);
+        data_set.string(DicomTags.PatientBirthDate, "DA", "19700101");
+        data_set.string(DicomTags.PatientSex, "CS", "O");
+
+        for (DictionaryEntry entry : acquisition)
+        {
+            data_set.string(entry.tag, entry.VR, sampleValue(entry.VR));
+        }
+
+        data_set.string(DicomTags.StudyInstanceUID, "UI", uid_root + "2");
+        data_set.string(DicomTags.SeriesInstanceUID, "UI", uid_root + "3");
+        data_set.string(DicomTags.InstanceNumber, "IS", String.valueOf(instance));
+        data_set.unsignedShort(DicomTags.SamplesPerPixel, 1);
+        data_set.string(DicomTags.PhotometricInterpretation, "CS", "MONOCHROME2");
+        data_set.string(DicomTags.NumberOfFrames, "IS", String.valueOf(num_frames));
+        data_set.unsignedShort(DicomTags.Rows, rows);
+        data_set.unsignedShort(DicomTags.Columns, columns);
+        data_set.string(DicomTags.PixelSpacing, "DS", "0.5\\0.5");
+        data_set.unsignedShort(DicomTags.BitsAllocated, bits_allocated);
+        data_set.unsignedShort(DicomTags.BitsStored, stored);
+        data_set.unsignedShort(DicomTags.HighBit, stored - 1);
+        data_set.unsignedShort(DicomTags.PixelRepresentation, 0);
+        data_set.string(DicomTags.WindowCenter, "DS", String.valueOf(1 << (stored - 1)));
+        data_set.string(DicomTags.WindowWidth, "DS", String.valueOf(1 << stored));
+        data_set.string(DicomTags.RescaleIntercept, "DS", "0");
+        data_set.string(DicomTags.RescaleSlope, "DS", "1");
+
+        for (DictionaryEntry entry : other)
+        {
+            data_set.string(entry.tag, entry.VR, sampleValue(entry.VR));
+        }
+
+        int[][] frames = new int[num_frames][];
+        for (int frame = 0; frame < num_frames; frame++)
+        {
+            frames[frame] = frame(frame, stored);
+        }
+
+        if (encapsulated)
+        {
+            byte[][][] fragments = new byte[num_frames][][];
+            for (int frame = 0; frame < num_frames; frame++)
+            {
+                byte[] encoded;
+                if (transfer_syntax.equals(rle_lossless))
+                {
+                    encoded = RleEncoder.encode(nativePixels(new int[][]{frames[frame]}, ByteOrder.LITTLE_ENDIAN),
+                            rows, columns, 1, bits_allocated);
+                }
+                else
+                {
+                    encoded = transfer_syntax.equals(jpeg_baseline) ? encodeBaseline(frames[frame])
+                            : LosslessJpegEncoder.encode(frames[frame], rows, columns, stored);
+                }
+                fragments[frame] = split(encoded, fragments_per_frame);
+            }
+
+            // where each frame's first fragment item starts, from the first fragment item, and its length
+            ByteBuffer offsets = ByteBuffer.allocate(num_frames * 4).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer extended_offsets = ByteBuffer.allocate(num_frames * 8).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer extended_lengths = ByteBuffer.allocate(num_frames * 8).order(ByteOrder.LITTLE_ENDIAN);
+            long offset = 0;
+            for (byte[][] frame : fragments)
+            {
+                offsets.putInt((int) offset);
+                extended_offsets.putLong(offset);
+                long length = 0;
+                for (byte[] fragment : frame)
+                {
+                    length += fragment.length;
+                    offset += 8 + fragment.length;
+                }
+                extended_lengths.putLong(length);
+            }
+
+            if (offset_table == OffsetTable.EXTENDED)
+            {
+                data_set.element(DicomTags.ExtendedOffsetTable, "OV", extended_offsets.array());
+                data_set.element(DicomTags.ExtendedOffsetTableLengths, "OV", extended_lengths.array());
+            }
+
+            // encapsulated pixel data is always explicit VR little endian, as is the transfer syntax
+            data_set.undefinedLength(DicomTags.PixelData, "OB");
+            // the basic offset table is empty unless asked for, and always is with an extended one
+            data_set.item(offset_table == OffsetTable.BASIC ? offsets.array() : new byte[0]);
+            for (byte[][] frame : fragments)
+            {
+                for (byte[] fragment : frame)
+                {
+                    data_set.item(fragment);
+                }
+            }
+            data_set.delimiter(DicomTags.SequenceDelimitationItem);
+        }
+        else
+        {
+            data_set.element(DicomTags.PixelData, bits_allocated == 8 ? "OB" : "OW",
+                    nativePixels(frames, data_set.order));
+        }
+
+        byte[] data_set_bytes = data_set.toByteArray();
+        file.out.writeBytes(transfer_syntax.equals(deflated_explicit_little_endian) ? deflate(data_set_bytes)
+                : data_set_bytes);
+        return file.toByteArray();
+    }
+
+    // an encoded frame as num_fragments fragments of about the same, even, length
+    private static byte[][] split(byte[] encoded, int num_fragments)
+    {
+        if (encoded.length % 2 != 0)
+        {
+            encoded = Arrays.copyOf(encoded, encoded.length + 1);
+        }
+
+        int length = (encoded.length + num_fragments - 1) / num_fragments;
+        length += length % 2;
+
+        ArrayList<byte[]> fragments = new ArrayList<>();
+        for (int from = 0; from < encoded.length; from += length)
+        {
+            fragments.add(Arrays.copyOfRange(encoded, from, Math.min(from + length, encoded.length)));
+        }
+
+        return fragments.toArray(new byte[0][]);
+    }
+
+    // raw deflate, without the zlib header and checksum
+    private static byte[] deflate(byte[] bytes)
+    {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 2);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(deflated, deflater))
+        {
+            out.write(bytes);
+        }
+        catch (IOException ioe)
+        {
+            throw new UncheckedIOException(ioe);
+        }
+        finally
+        {
+            deflater.end();
+        }
+
+        return deflated.toByteArray();
+    }
+
+    public Path write(Path file) throws IOException
+    {
+        return Files.write(file, generate());
+    }
+
+    public int bitsStored()
+    {
+        if (bits_stored != 0)
+        {
+            return bits_stored;
+        }
+
+        return bits_allocated == 16 ? 12 : 8;
+    }
+
+    // dictionary tags of simple string VRs to pad the header out to num_tags: group 0018 ones, written between the
+    // patient and study groups, then any between the image pixel group and the pixel data
+    private void fillerTags(ArrayList<DictionaryEntry> acquisition, ArrayList<DictionaryEntry> other)
+    {
+        DICOMDictionary dictionary = DICOMDictionary.standard();
+        int num_written = 0;
+
+        for (int i = 0; i < dictionary.size() && num_written < num_tags; i++)
+        {
+            DictionaryEntry entry = dictionary.entryAt(i);
+            int group = entry.tag >>> 16;
+
+            if (sampleValue(entry.VR) == null)
+            {
+                continue;
+            }
+
+            if (group == 0x0018)
+            {
+                acquisition.add(entry);
+                num_written++;
+            }
+            else if (group > 0x0028 && group < 0x7FE0 && (group & 1) == 0)
+            {
+                other.add(entry);
+                num_written++;
+            }
+        }
+    }
+
+    private static String sampleValue(String vr)
+    {
+        return switch (vr)
+        {
+            case "LO" -> "SYNTHETIC VALUE";
+            case "SH" -> "SHORT";
+            case "CS" -> "CODE";
+            case "DS" -> "-125.5\\98.25";
+            case "IS" -> "42";
+            case "DA" -> "20230115";
+            case "TM" -> "101530.25";
+            default -> null;
+        };
+    }
+
+    // depth nested items of a referenced SOP class and instance
+    private byte[][] referencedImage(ElementWriter parent, int depth)
+    {
+        ElementWriter item = new ElementWriter(parent.explicit, parent.order);
+        if (depth > 1)
+        {
+            item.sequence(DicomTags.ReferencedImageSequence, referencedImage(parent, depth - 1),
+                    undefined_length_sequences);
+        }
+        item.string(DicomTags.ReferencedSOPClassUID, "UI", sop_class);
+        item.string(DicomTags.ReferencedSOPInstanceUID, "UI", uid_root + "4." + depth);
+        return new byte[][]{item.toByteArray()};
+    }
+
+    // a smooth gradient with some texture, so that compressed sizes are of a realistic order
+    private int[] frame(int frame, int stored)
+    {
+        int max = (1 << stored) - 1;
+        int[] samples = new int[rows * columns];
+
+        for (int row = 0, i = 0; row < rows; row++)
+        {
+            for (int column = 0; column < columns; column++, i++)
+            {
+                long gradient = (long) (row + column + frame) * max / (rows + columns);
+                samples[i] = (int) ((gradient + ((row * 31 + column * 17) & 15)) & max);
+            }
+        }
+
+        return samples;
+    }
+
+    private byte[] nativePixels(int[][] frames, ByteOrder order)
+    {
+        int bytes_per_sample = bits_allocated / 8;
+        ByteBuffer pixels = ByteBuffer.allocate(frames.length * rows * columns * bytes_per_sample).order(order);
+
+        for (int[] frame : frames)
+        {
+            for (int sample : frame)
+            {
+                if (bytes_per_sample == 1)
+                {
+                    pixels.put((byte) sample);
+                }
+                else
+                {
+                    pixels.putShort((short) sample);
+                }
+            }
+        }
+
+        return pixels.array();
+    }
+
+    private byte[] encodeBaseline(int[] frame) throws IOException
+    {
+        BufferedImage image = new BufferedImage(columns, rows, BufferedImage.TYPE_BYTE_GRAY);
+        byte[] samples = new byte[frame.length];
+        for (int i = 0; i < frame.length; i++)
+        {
+            samples[i] = (byte) frame[i];
+        }
+        image.getRaster().setDataElements(0, 0, columns, rows, samples);
+
+        ImageWriter jpeg = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+
+        try (MemoryCacheImageOutputStream out = new MemoryCacheImageOutputStream(encoded))
+        {
+            ImageWriteParam param = jpeg.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.9f);
+            jpeg.setOutput(out);
+            jpeg.write(null, new IIOImage(image, null, null), param);
+        }
+        finally
+        {
+            jpeg.dispose();
+        }
+
+        return encoded.toByteArray();
+    }
+
+    public static void main(String[] args)
+    {
+        if (args.length < 2)
+        {
+            System.err.println("Command line args must contain <output directory> <number of files> "
+                    + "[transfer_syntax=<uid>] [tags=<n>] [depth=<n>] [frames=<n>] [rows=<n>] [columns=<n>] "
+                    + "[bits_allocated=<8|16>] [bits_stored=<n>] [fragments=<n>] "
+                    + "[offset_table=<none|basic|extended>]");
+            System.exit(-1);
+        }
+
+        SyntheticDicom generator = new SyntheticDicom();
+        for (int i = 2; i < args.length; i++)
+        {
+            String[] option = args[i].split("=", 2);
+            try
+            {
+                switch (option[0])
+                {
+                    case "transfer_syntax" -> generator.transfer_syntax = option[1];
+                    case "tags" -> generator.num_tags = Integer.parseInt(option[1]);
+                    case "depth" -> generator.sequence_depth = Integer.parseInt(option[1]);
+                    case "frames" -> generator.num_frames = Integer.parseInt(option[1]);
+                    case "rows" -> generator.rows = Integer.parseInt(option[1]);
+                    case "columns" -> generator.columns = Integer.parseInt(option[1]);
+                    case "bits_allocated" -> generator.bits_allocated = Integer.parseInt(option[1]);
+                    case "bits_stored" -> generator.bits_stored = Integer.parseInt(option[1]);
+                    case "fragments" -> generator.fragments_per_frame = Integer.parseInt(option[1]);
+                    case "offset_table" -> generator.offset_table = OffsetTable.valueOf(option[1].toUpperCase());
+                    default ->
+                    {
+                        System.err.println("unknown option: " + args[i]);
+                        System.exit(-1);
+                    }
+                }
+            }
+            catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e)
+            {
+                // no value, a value that is not a number, or not one of the offset tables
+                System.err.println("bad option: " + args[i]);
+                System.exit(-1);
+            }
+        }
+
+        try
+        {
+            Path directory = Files.createDirectories(Path.of(args[0]));
+            int num_files = Integer.parseInt(args[1]);
+            for (int i = 1; i <= num_files; i++)
+            {
+                generator.instance = i;
+                generator.write(directory.resolve(String.format("synthetic_%06d.dcm", i)));
+            }
+            System.out.println("wrote " + num_files + " files to " + directory);
+        }
+        catch (IOException ioe)
+        {
+            ioe.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    // data elements in the given VR encoding and byte order
+    private static class ElementWriter
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final boolean explicit;
+        final ByteOrder order;
+
+        ElementWriter(boolean explicit, ByteOrder order)
+        {
+            this.explicit = explicit;
+            this.order = order;
+        }
+
+        void preamble()
+        {
+            out.writeBytes(new byte[128]);
+            out.writeBytes("DICM".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        // the file meta group, always explicit VR little endian
+        void fileMeta(String sop_instance, String transfer_syntax)
+        {
+            ElementWriter meta = new ElementWriter(true, ByteOrder.LITTLE_ENDIAN);
+            meta.element(DicomTags.FileMetaInformationVersion, "OB", new byte[]{0, 1});
+            meta.string(DicomTags.MediaStorageSOPClassUID, "UI", sop_class);
+            meta.string(DicomTags.MediaStorageSOPInstanceUID, "UI", sop_instance);
+            meta.string(DicomTags.TransferSyntaxUID, "UI", transfer_syntax);
+            byte[] group = meta.toByteArray();
+
+            element(DicomTags.FileMetaInformationGroupLength, "UL",
+                    ByteBuffer.allocate(4).order(order).putInt(group.length).array());
+            out.writeBytes(group);
+        }
+
+        void string(int tag, String vr, String value)
+        {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            if (bytes.length % 2 != 0)
+            {
+                // UIs are padded with a null, everything else with a space
+                bytes = Arrays.copyOf(bytes, bytes.length + 1);
+                bytes[bytes.length - 1] = (byte) (vr.equals("UI") ? 0 : ' ');
+            }
+            element(tag, vr, bytes);
+        }
+
+        void unsignedShort(int tag, int value)
+        {
+            element(tag, "US", ByteBuffer.allocate(2).order(order).putShort((short) value).array());
+        }
+
+        // an odd length value (e.g. 8 bit pixel data of an odd number of pixels) is padded with a null, as an item is
+        void element(int tag, String vr, byte[] value)
+        {
+            byte[] padded = value.length % 2 == 0 ? value : Arrays.copyOf(value, value.length + 1);
+            header(tag, vr, padded.length);
+            out.writeBytes(padded);
+        }
+
+        void undefinedLength(int tag, String vr)
+        {
+            header(tag, vr, 0xFFFFFFFF);
+        }
+
+        // a sequence of the given (already encoded) items
+        void sequence(int tag, byte[][] items, boolean undefined_length)
+        {
+            if (undefined_length)
+            {
+                header(tag, "SQ", 0xFFFFFFFF);
+                for (byte[] item : items)
+                {
+                    tag(DicomTags.Item, 0xFFFFFFFF);
+                    out.writeBytes(item);
+                    delimiter(DicomTags.ItemDelimitationItem);
+                }
+                delimiter(DicomTags.SequenceDelimitationItem);
+            }
+            else
+            {
+                int length = 0;
+                for (byte[] item : items)
+                {
+                    length += 8 + item.length;
+                }
+
+                header(tag, "SQ", length);
+                for (byte[] item : items)
+                {
+                    item(item);
+                }
+            }
+        }
+
+        void item(byte[] value)
+        {
+            byte[] padded = value.length % 2 == 0 ? value : Arrays.copyOf(value, value.length + 1);
+            tag(DicomTags.Item, padded.length);
+            out.writeBytes(padded);
+        }
+
+        void delimiter(int tag)
+        {
+            tag(tag, 0);
+        }
+
+        // an item or delimiter: tag and 4 byte length, no VR
+        private void tag(int tag, int length)
+        {
+            out.writeBytes(ByteBuffer.allocate(8).order(order)
+                    .putShort((short) (tag >>> 16)).putShort((short) tag).putInt(length).array());
+        }
+
+        private void header(int tag, String vr, int length)
+        {
+            ByteBuffer header = ByteBuffer.allocate(12).order(order);
+            header.putShort((short) (tag >>> 16)).putShort((short) tag);
+
+            if (!explicit)
+            {
+                header.putInt(length);
+            }
+            else if (DicomTag.isExplicitVRReservedVR(vr))
+            {
+                header.put(vr.getBytes(StandardCharsets.US_ASCII)).putShort((short) 0).putInt(length);
+            }
+            else
+            {
+                header.put(vr.getBytes(StandardCharsets.US_ASCII)).putShort((short) length);
+            }
+
+            out.write(header.array(), 0, header.position());
+        }
+
+        byte[] toByteArray()
+        {
+            return out.toByteArray();
+        }
+    }
+}
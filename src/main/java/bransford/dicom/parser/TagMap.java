@@ -0,0 +1,125 @@
+package bransford.dicom.parser;
+
+import java.util.Arrays;
+
+// An insertion ordered map from packed tag to DicomTag, built from primitive arrays rather than a HashMap and a
+// linked list: the tags (and their keys) are held in the order they were put, and an open addressing table of
+// indexes into those arrays gives the O(1) lookup. Per tag that is a key, a reference and a slot, with no boxed
+// Integer, no map entry and no list node, so many headers can be held in memory at once.
+public class TagMap
+{
+    private static final int default_capacity = 16;
+
+    private int[] keys;
+    private DicomTag[] values;
+    private int size = 0;
+
+    // index + 1 into keys/values, 0 for an empty slot; always a power of two in length, and at most half full
+    private int[] slots;
+
+    public TagMap()
+    {
+        this(default_capacity);
+    }
+
+    public TagMap(int expected_size)
+    {
+        int capacity = Math.max(default_capacity, expected_size);
+        keys = new int[capacity];
+        values = new DicomTag[capacity];
+        slots = new int[Integer.highestOneBit(capacity * 2 - 1) * 2];
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public DicomTag get(int tag)
+    {
+        int mask = slots.length - 1;
+
+        for (int slot = hash(tag) & mask; slots[slot] != 0; slot = (slot + 1) & mask)
+        {
+            int index = slots[slot] - 1;
+            if (keys[index] == tag)
+            {
+                return values[index];
+            }
+        }
+
+        return null;
+    }
+
+    public boolean containsKey(int tag)
+    {
+        return get(tag) != null;
+    }
+
+    // adds the tag at the end of the order, answers false (and keeps the first) if the tag is already present
+    public boolean putIfAbsent(int tag, DicomTag value)
+    {
+        int mask = slots.length - 1;
+        int slot = hash(tag) & mask;
+
+        for (; slots[slot] != 0; slot = (slot + 1) & mask)
+        {
+            if (keys[slots[slot] - 1] == tag)
+            {
+                return false;
+            }
+        }
+
+        if (size == keys.length)
+        {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        keys[size] = tag;
+        values[size] = value;
+        size++;
+        slots[slot] = size;
+
+        if (size * 2 > slots.length)
+        {
+            rehash(slots.length * 2);
+        }
+
+        return true;
+    }
+
+    // the index'th tag in insertion order
+    public DicomTag valueAt(int index)
+    {
+        return values[index];
+    }
+
+    public int keyAt(int index)
+    {
+        return keys[index];
+    }
+
+    private void rehash(int num_slots)
+    {
+        slots = new int[num_slots];
+        int mask = num_slots - 1;
+
+        for (int index = 0; index < size; index++)
+        {
+            int slot = hash(keys[index]) & mask;
+            while (slots[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+
+    // tags cluster (consecutive elements of a few groups), spread them over the table
+    private static int hash(int tag)
+    {
+        int h = tag * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
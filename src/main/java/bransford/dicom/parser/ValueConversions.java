@@ -1,9 +1,13 @@
 package bransford.dicom.parser;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 
 public class ValueConversions
@@ -19,6 +23,47 @@ public class ValueConversions
         return getHexString(toHex);
     }
 
+    private static final char[] hex_digits = "0123456789ABCDEF".toCharArray();
+
+    // a packed tag as "(GGGG,EEEE)"
+    public static String tagToString(int tag)
+    {
+        char[] key = new char[11];
+        key[0] = '(';
+        key[5] = ',';
+        key[10] = ')';
+
+        for (int i = 0; i < 4; i++)
+        {
+            key[4 - i] = hex_digits[(tag >>> (16 + 4 * i)) & 0xF];
+            key[9 - i] = hex_digits[(tag >>> (4 * i)) & 0xF];
+        }
+
+        return new String(key);
+    }
+
+    // "(gggg,eeee)" packed into an int, or -1 for a key that is not a single tag (such as the repeating group
+    // ranges of the dictionary, "(6000-60FF,0010)")
+    public static int parseTagKey(String key)
+    {
+        if (key.length() != 11 || key.charAt(0) != '(' || key.charAt(5) != ',' || key.charAt(10) != ')')
+        {
+            return -1;
+        }
+
+        try
+        {
+            int group = Integer.parseInt(key, 1, 5, 16);
+            int element = Integer.parseInt(key, 6, 10, 16);
+            return (group << 16) | element;
+        }
+        catch (NumberFormatException nfe)
+        {
+            return -1;
+        }
+    }
+
+    // the (first) value of an IS tag, 0 for a missing tag or value
     public static int stringToInt(DicomTag tag)
     {
         if (tag == null || tag.isNumeric)
@@ -26,27 +71,420 @@ public class ValueConversions
             return 0;
         }
 
-        if (tag.valueString == null || tag.valueString.isEmpty())
+        return tag.getInt();
+    }
+
+    // Parsers for the numeric, date and time string VRs, reading the bytes of one value, [from, to) in the value
+    // buffer, without making a String of them. Leading and trailing padding is skipped. A malformed value is reported
+    // and reads as 0 (or null, for a date or time), as a missing one does
+
+    private static final double[] powers_of_ten = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private static boolean isPadding(byte b)
+    {
+        return b == ' ' || b == 0;
+    }
+
+    private static boolean isDigit(byte b)
+    {
+        return b >= '0' && b <= '9';
+    }
+
+    // DS: a fixed or floating point decimal of up to 16 characters
+    public static double parseDecimalString(ByteBuffer value, int from, int to)
+    {
+        while (from < to && isPadding(value.get(from)))
         {
-            return 0;
+            from++;
+        }
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+        if (from == to)
+        {
+            return 0.0;
+        }
+
+        int i = from;
+        boolean negative = false;
+        if (value.get(i) == '+' || value.get(i) == '-')
+        {
+            negative = value.get(i) == '-';
+            i++;
         }
-        int value = 0;
 
+        // up to 18 significant digits, a long can't overflow
+        long mantissa = 0;
+        int num_significant = 0;
+        int exponent = 0;
+        boolean any_digits = false;
+
+        for (; i < to && isDigit(value.get(i)); i++)
+        {
+            any_digits = true;
+            if (num_significant < 18)
+            {
+                mantissa = mantissa * 10 + (value.get(i) - '0');
+                num_significant += mantissa == 0 ? 0 : 1;
+            }
+            else
+            {
+                exponent++;
+            }
+        }
+
+        if (i < to && value.get(i) == '.')
+        {
+            for (i++; i < to && isDigit(value.get(i)); i++)
+            {
+                any_digits = true;
+                if (num_significant < 18)
+                {
+                    mantissa = mantissa * 10 + (value.get(i) - '0');
+                    num_significant += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                }
+            }
+        }
+
+        if (any_digits && i < to && (value.get(i) == 'e' || value.get(i) == 'E'))
+        {
+            i++;
+            boolean negative_exponent = false;
+            if (i < to && (value.get(i) == '+' || value.get(i) == '-'))
+            {
+                negative_exponent = value.get(i) == '-';
+                i++;
+            }
+
+            int explicit_exponent = 0;
+            boolean any_exponent_digits = false;
+            for (; i < to && isDigit(value.get(i)); i++)
+            {
+                any_exponent_digits = true;
+                explicit_exponent = Math.min(explicit_exponent * 10 + (value.get(i) - '0'), 100000);
+            }
+
+            if (!any_exponent_digits)
+            {
+                any_digits = false;
+            }
+            exponent += negative_exponent ? -explicit_exponent : explicit_exponent;
+        }
+
+        if (i == to && any_digits)
+        {
+            if (mantissa == 0)
+            {
+                return negative ? -0.0 : 0.0;
+            }
+
+            // both the mantissa and the power of ten are exact doubles, so one multiply or divide rounds correctly
+            if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22)
+            {
+                double result = exponent < 0 ? mantissa / powers_of_ten[-exponent]
+                        : mantissa * powers_of_ten[exponent];
+                return negative ? -result : result;
+            }
+        }
+
+        // too many digits to be exact this way, or malformed
+        String string = asciiString(value, from, to);
         try
         {
-            value = Integer.parseInt(tag.valueString);
+            return Double.parseDouble(string);
         }
         catch (NumberFormatException nfe)
         {
-            System.err.println("Error parsing string to an integer: " + nfe.getMessage());
+            System.err.println("Error parsing decimal string: " + string);
+            return 0.0;
+        }
+    }
+
+    // IS: a decimal integer of up to 12 characters
+    public static long parseIntegerString(ByteBuffer value, int from, int to)
+    {
+        while (from < to && isPadding(value.get(from)))
+        {
+            from++;
+        }
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+        if (from == to)
+        {
+            return 0;
+        }
+
+        int i = from;
+        boolean negative = false;
+        if (value.get(i) == '+' || value.get(i) == '-')
+        {
+            negative = value.get(i) == '-';
+            i++;
+        }
+
+        long result = 0;
+        int num_digits = 0;
+        for (; i < to && isDigit(value.get(i)) && num_digits < 18; i++, num_digits++)
+        {
+            result = result * 10 + (value.get(i) - '0');
+        }
+
+        if (i == to && num_digits > 0)
+        {
+            return negative ? -result : result;
+        }
+
+        System.err.println("Error parsing integer string: " + asciiString(value, from, to));
+        return 0;
+    }
+
+    // DA: YYYYMMDD, or the old YYYY.MM.DD
+    public static LocalDate parseDate(ByteBuffer value, int from, int to)
+    {
+        while (from < to && isPadding(value.get(from)))
+        {
+            from++;
+        }
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+
+        int separator = to - from == 10 ? 1 : 0;
+        if (to - from != 8 + 2 * separator)
+        {
+            return invalid("date", value, from, to);
+        }
+
+        int year = digits(value, from, 4);
+        int month = digits(value, from + 4 + separator, 2);
+        int day = digits(value, from + 6 + 2 * separator, 2);
+
+        try
+        {
+            return year < 0 || month < 0 || day < 0 ? invalid("date", value, from, to) : LocalDate.of(year, month, day);
+        }
+        catch (DateTimeException dte)
+        {
+            return invalid("date", value, from, to);
+        }
+    }
+
+    // TM: HH[MM[SS[.FFFFFF]]], or the old HH:MM:SS.frac
+    public static LocalTime parseTime(ByteBuffer value, int from, int to)
+    {
+        while (from < to && isPadding(value.get(from)))
+        {
+            from++;
+        }
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+
+        int[] fields = new int[4];
+        int end = timeFields(value, from, to, fields);
+        if (end != to)
+        {
+            return invalid("time", value, from, to);
+        }
+
+        try
+        {
+            // a leap second is clamped
+            return LocalTime.of(fields[0], fields[1], Math.min(fields[2], 59), fields[3]);
+        }
+        catch (DateTimeException dte)
+        {
+            return invalid("time", value, from, to);
+        }
+    }
+
+    // DT: YYYY[MM[DD[HH[MM[SS[.FFFFFF]]]]]][&ZZXX], the date and time without the offset (see parseDateTimeOffset);
+    // components left out are the earliest they can be
+    public static LocalDateTime parseDateTime(ByteBuffer value, int from, int to)
+    {
+        while (from < to && isPadding(value.get(from)))
+        {
+            from++;
+        }
+        to = dateTimeEnd(value, from, to);
+
+        int length = to - from;
+        if (length < 4 || (length < 14 && length % 2 != 0))
+        {
+            return invalid("date time", value, from, to);
+        }
+
+        int year = digits(value, from, 4);
+        int month = length >= 6 ? digits(value, from + 4, 2) : 1;
+        int day = length >= 8 ? digits(value, from + 6, 2) : 1;
+
+        int[] fields = new int[4];
+        if (length > 8 && timeFields(value, from + 8, to, fields) != to)
+        {
+            return invalid("date time", value, from, to);
+        }
+
+        try
+        {
+            if (year < 0 || month < 0 || day < 0)
+            {
+                return invalid("date time", value, from, to);
+            }
+            return LocalDateTime.of(year, month, day, fields[0], fields[1], Math.min(fields[2], 59), fields[3]);
+        }
+        catch (DateTimeException dte)
+        {
+            return invalid("date time", value, from, to);
+        }
+    }
+
+    // the &ZZXX offset from UTC of a DT value, null if it has none
+    public static ZoneOffset parseDateTimeOffset(ByteBuffer value, int from, int to)
+    {
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+
+        int offset = dateTimeEnd(value, from, to);
+        if (offset == to || to - offset != 5)
+        {
+            return null;
+        }
+
+        int hours = digits(value, offset + 1, 2);
+        int minutes = digits(value, offset + 3, 2);
+        if (hours < 0 || minutes < 0)
+        {
+            return null;
+        }
+
+        int sign = value.get(offset) == '-' ? -1 : 1;
+        try
+        {
+            return ZoneOffset.ofHoursMinutes(sign * hours, sign * minutes);
+        }
+        catch (DateTimeException dte)
+        {
+            return null;
+        }
+    }
+
+    // where the date and time of a DT value end, at the offset if there is one
+    private static int dateTimeEnd(ByteBuffer value, int from, int to)
+    {
+        while (to > from && isPadding(value.get(to - 1)))
+        {
+            to--;
+        }
+
+        for (int i = from + 4; i < to; i++)
+        {
+            if (value.get(i) == '+' || value.get(i) == '-')
+            {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    // hours, minutes, seconds and nanoseconds of HH[MM[SS[.F]]] (with or without colons) into fields, answers where
+    // the time ended
+    private static int timeFields(ByteBuffer value, int from, int to, int[] fields)
+    {
+        int i = from;
+        for (int field = 0; field < 3 && i + 2 <= to; field++)
+        {
+            if (field > 0 && value.get(i) == ':')
+            {
+                i++;
+            }
+
+            int digits = digits(value, i, 2);
+            if (digits < 0)
+            {
+                return -1;
+            }
+            fields[field] = digits;
+            i += 2;
+
+            if (i < to && value.get(i) == '.')
+            {
+                if (field != 2)
+                {
+                    return -1;
+                }
+
+                // fractional seconds, to the nanosecond
+                int nanos = 0;
+                int num_digits = 0;
+                for (i++; i < to && isDigit(value.get(i)); i++, num_digits++)
+                {
+                    if (num_digits < 9)
+                    {
+                        nanos = nanos * 10 + (value.get(i) - '0');
+                    }
+                }
+                for (; num_digits < 9; num_digits++)
+                {
+                    nanos *= 10;
+                }
+                fields[3] = nanos;
+            }
+        }
+
+        return i == from ? -1 : i;
+    }
+
+    // count digits at from as a number, -1 if they aren't all digits
+    private static int digits(ByteBuffer value, int from, int count)
+    {
+        if (from + count > value.limit())
+        {
+            return -1;
+        }
+
+        int result = 0;
+        for (int i = from; i < from + count; i++)
+        {
+            byte b = value.get(i);
+            if (!isDigit(b))
+            {
+                return -1;
+            }
+            result = result * 10 + (b - '0');
+        }
+
+        return result;
+    }
+
+    private static <T> T invalid(String what, ByteBuffer value, int from, int to)
+    {
+        if (from < to)
+        {
+            System.err.println("Error parsing " + what + ": " + asciiString(value, from, to));
         }
+        return null;
+    }
 
-        return value;
+    private static String asciiString(ByteBuffer value, int from, int to)
+    {
+        byte[] bytes = new byte[to - from];
+        value.get(from, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
     }
 
     public static short shortValue(byte[] array)
     {
-        return shortValue(array, DCMBuff.system_byte_order);
+        return shortValue(array, DCMBuff.default_byte_order);
     }
 
     public static short shortValue(byte[] array, ByteOrder byteOrder)
@@ -57,7 +495,7 @@ public class ValueConversions
 
     public static int intValue(byte[] array)
     {
-       return intValue(array, DCMBuff.system_byte_order);
+       return intValue(array, DCMBuff.default_byte_order);
     }
 
     public static int intValue(byte[] array, ByteOrder byteOrder)
@@ -68,7 +506,7 @@ public class ValueConversions
 
     public static float floatValue(byte[] chunk, int sizeof_type)
     {
-        ByteBuffer buff = ByteBuffer.wrap(chunk).order(DCMBuff.system_byte_order);
+        ByteBuffer buff = ByteBuffer.wrap(chunk).order(DCMBuff.default_byte_order);
         switch (sizeof_type)
         {
             case (2) ->
@@ -88,7 +526,7 @@ public class ValueConversions
 
     public static double doubleValue(byte[] chunk)
     {
-        ByteBuffer buff = ByteBuffer.wrap(chunk).order(DCMBuff.system_byte_order);
+        ByteBuffer buff = ByteBuffer.wrap(chunk).order(DCMBuff.default_byte_order);
         return Double.longBitsToDouble(buff.getLong());
     }
 
@@ -106,113 +544,18 @@ public class ValueConversions
         return Integer.toUnsignedLong(signedInt);
     }
 
-    public static BigInteger[] bigIntegerArray(byte[] raw_value, int sizeof_type, boolean unsigned)
-    {
-        int raw_value_length = raw_value.length;
-
-        int num_to_pad = raw_value_length % sizeof_type;
-
-        if (num_to_pad != 0)
-        {
-            byte[] ar = new byte[num_to_pad];
-            Arrays.fill(ar, (byte) 0);
-            byte[] c = new byte[raw_value_length + num_to_pad];
-            System.arraycopy(raw_value, 0, c, 0, raw_value_length);
-            System.arraycopy(ar, 0, c, raw_value.length, ar.length);
-            raw_value = c;
-        }
-
-        int cardinality = raw_value_length / sizeof_type;
-        BigInteger[] result = new BigInteger[cardinality];
-        byte[] chunk;
-
-        for (int i = 0, c = 0; i < raw_value_length; i+=sizeof_type, c+=1)
-        {
-            chunk = new byte[sizeof_type];
-            System.arraycopy(raw_value, i, chunk, 0, sizeof_type);
-            switch (sizeof_type)
-            {
-                case 2 ->
-                {
-                    String val;
-                    if (unsigned)
-                    {
-                        val = String.valueOf(unsignedShortValue(chunk));
-                    }
-                    else
-                    {
-                        val = String.valueOf(shortValue(chunk));
-                    }
-                    BigInteger bi = new BigInteger(val);
-                    result[c] = bi;
-                }
-                case 4 ->
-                {
-                    String val;
-                    if (unsigned)
-                    {
-                        val = String.valueOf(unsignedIntValue(chunk));
-                    }
-                    else
-                    {
-                        val = String.valueOf(intValue(chunk));
-                    }
-                    BigInteger bi = new BigInteger(val);
-                    result[c] = bi;
-                }
-                default ->
-                {
-                    System.err.println("invalid integer type, size_of = " + sizeof_type);
-                }
-            }
-        }
-
-
-        return result;
-    }
-
-    public static BigDecimal[] bigDecimalArray(byte[] raw_value, int sizeof_type)
+    // reverse the bytes of each sizeof_type value in the array, in place
+    public static void swapByteOrder(byte[] array, int sizeof_type)
     {
-        int raw_value_length = raw_value.length;
-        int num_to_pad = raw_value_length % sizeof_type;
-
-        if (num_to_pad != 0)
-        {
-            byte[] ar = new byte[num_to_pad];
-            Arrays.fill(ar, (byte) 0);
-
-            byte[] c = new byte[raw_value_length + num_to_pad];
-            System.arraycopy(raw_value, 0, c, 0, raw_value_length);
-            System.arraycopy(ar, 0, c, raw_value.length, ar.length);
-            raw_value = c;
-        }
-
-        int cardinality = raw_value_length / sizeof_type;
-        BigDecimal[] result = new BigDecimal[cardinality];
-        byte[] chunk;
-
-        for (int i = 0, c = 0; i < raw_value_length; i+=sizeof_type, c+=1)
+        for (int i = 0; i + sizeof_type <= array.length; i += sizeof_type)
         {
-            chunk = new byte[sizeof_type];
-            System.arraycopy(raw_value, i, chunk, 0, sizeof_type);
-            switch (sizeof_type)
+            for (int j = i, k = i + sizeof_type - 1; j < k; j++, k--)
             {
-                case 2, 4 ->
-                {
-                    result[c] = BigDecimal.valueOf(floatValue(chunk, sizeof_type));
-                }
-                case 8 ->
-                {
-                     result[c] = BigDecimal.valueOf(doubleValue(chunk));
-                }
-                default ->
-                {
-                    System.err.println("invalid decimal type, size_of = " + sizeof_type);
-                }
+                byte swap = array[j];
+                array[j] = array[k];
+                array[k] = swap;
             }
         }
-
-        return result;
     }
 
     public static byte[][] chunkByteArray(int stride, byte[] raw_value, int numChunks)
@@ -250,6 +593,7 @@ public class ValueConversions
         return frames;
     }
 
+    // the first value of a binary numeric tag, 0 for a missing tag or value
     public static long getNumericValue(DicomTag tag)
     {
         if (tag == null || !tag.isNumeric)
@@ -257,51 +601,7 @@ public class ValueConversions
             return 0;
         }
 
-        byte[] rawValue = tag.rawValue;
-
-        if (rawValue == null || rawValue.length == 0)
-        {
-            return 0;
-        }
-
-        long value = 0;
-        switch (tag.VR)
-        {
-            case "US" ->
-            {
-                if (rawValue.length <= 2)
-                {
-                    value = ValueConversions.unsignedShortValue(rawValue);
-                }
-            }
-            case "SS" ->
-            {
-                if (rawValue.length <= 2)
-                {
-                    value = ValueConversions.shortValue(rawValue);
-                }
-            }
-            case "UL" ->
-            {
-                if (rawValue.length <= 4)
-                {
-                    value = ValueConversions.unsignedIntValue(rawValue);
-                }
-            }
-            case "SL" ->
-            {
-                if (rawValue.length <= 4)
-                {
-                    value = ValueConversions.intValue(rawValue);
-                }
-            }
-            default ->
-            {
-                return 0;
-            }
-        }
-
-        return value;
+        return tag.getLong(0);
     }
 
     public static Double getDecimalValue(DicomTag tag)
@@ -311,30 +611,6 @@ public class ValueConversions
             return 0.0;
         }
 
-        byte[] rawValue = tag.rawValue;
-
-        if (rawValue == null || rawValue.length == 0)
-        {
-            return 0.0;
-        }
-
-        double value = 0.0;
-        switch (tag.VR)
-        {
-            case "FL" ->
-            {
-                value = ValueConversions.floatValue(rawValue, 4);
-            }
-            case "FD" ->
-            {
-                value = ValueConversions.doubleValue(rawValue);
-            }
-            default ->
-            {
-                return 0.0;
-            }
-        }
-
-        return value;
+        return tag.getDouble(0);
     }
 }
@@ -0,0 +1,66 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DICOMDictionary;
+import bransford.dicom.parser.DicomTag;
+import bransford.dicom.parser.DictionaryEntry;
+import bransford.dicom.parser.DicomTags;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class DICOMDictionaryTest
+{
+    @Test
+    public void testStandardLookup()
+    {
+        DICOMDictionary dictionary = DICOMDictionary.standard();
+        Assert.assertSame(dictionary, DICOMDictionary.standard());
+
+        DicomTag tag = dictionary.get_tag(DicomTags.PatientName);
+        Assert.assertNotNull(tag);
+        Assert.assertEquals("PN", tag.VR);
+        Assert.assertEquals("PatientName", tag.getDescription());
+        Assert.assertFalse(tag.isUnknown);
+
+        // every element of a tag shares the one entry
+        Assert.assertSame(tag.entry, dictionary.get_tag(DicomTags.PatientName).entry);
+        Assert.assertNull(tag.subsequence);
+
+        // a group above 0x7FFF sorts after every other, unsigned
+        Assert.assertTrue(dictionary.get_tag(DicomTags.Item).isItem);
+        Assert.assertNull(dictionary.get_tag(0x00090010));
+
+        // only the header row is skipped, not the entries with "Tag" in their names
+        DicomTag thickness = dictionary.get_tag(0x00189035);
+        Assert.assertNotNull(thickness);
+        Assert.assertEquals("TagThickness", thickness.getDescription());
+        Assert.assertEquals("Tagging", dictionary.get_tag(0x00189028).getDescription());
+        Assert.assertEquals("TagAngleSecondAxis", dictionary.get_tag(0x00189219).getDescription());
+    }
+
+    @Test
+    public void testCompiledRoundTrip() throws IOException
+    {
+        DICOMDictionary dictionary = DICOMDictionary.standard();
+        ByteArrayOutputStream compiled = new ByteArrayOutputStream();
+        dictionary.write(compiled);
+
+        DICOMDictionary read = DICOMDictionary.read(new ByteArrayInputStream(compiled.toByteArray()));
+        Assert.assertEquals(dictionary.size(), read.size());
+
+        for (int i = 0; i < dictionary.size(); i++)
+        {
+            DictionaryEntry entry = dictionary.entryAt(i);
+            DictionaryEntry read_entry = read.entryAt(i);
+            Assert.assertEquals(entry.tag, read_entry.tag);
+            Assert.assertSame(entry.VR, read_entry.VR);
+            Assert.assertEquals(entry.description, read_entry.description);
+            Assert.assertEquals(entry.multiplicity, read_entry.multiplicity);
+            Assert.assertEquals(entry.isNumeric, read_entry.isNumeric);
+            Assert.assertEquals(i, read.indexOf(entry.tag));
+        }
+    }
+}
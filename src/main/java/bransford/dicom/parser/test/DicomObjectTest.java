@@ -1,6 +1,5 @@
 package bransford.dicom.parser.test;
 
-import bransford.dicom.parser.DCMBuff;
 import bransford.dicom.parser.DicomObject;
 import bransford.dicom.parser.DicomParser;
 import org.junit.Assert;
@@ -18,7 +17,7 @@ public class DicomObjectTest
         String dict_file = "/Users/m056084/JDicomParser/src/edu/mayo/dicom/parser/dicom.dic";
 
         DicomParser parser = new DicomParser(dcm_file, dict_file);
-        if (DCMBuff.data == null)
+        if (parser.dcm_buff == null || !parser.dcm_buff.isLoaded())
         {
             System.err.println("unable to parse DICOM filer: " + dcm_file);
             System.exit(-1);
@@ -0,0 +1,187 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DicomImage;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.DisplayLut;
+import bransford.dicom.parser.DisplayLutCache;
+import bransford.dicom.parser.SyntheticDicom;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class DisplayLutTest
+{
+    @Test
+    public void testWindows()
+    {
+        // CT: stored 0 - 4095, rescaled by -1024 to Hounsfield units, a 400 wide window at 40
+        DisplayLut linear = new DisplayLut(12, false, 1, -1024, 40, 400, DisplayLut.linear, false);
+        Assert.assertEquals(4096, linear.table.length);
+        Assert.assertEquals(0, linear.display(1024 - 160));
+        Assert.assertEquals(255, linear.display(1024 + 240));
+        Assert.assertEquals(128, linear.display(1024 + 40));
+        Assert.assertEquals(0, linear.display(0));
+        Assert.assertEquals(255, linear.display(4095));
+
+        DisplayLut exact = new DisplayLut(12, false, 1, -1024, 40, 400, DisplayLut.linear_exact, false);
+        Assert.assertEquals(0, exact.display(1024 - 160));
+        Assert.assertEquals(255, exact.display(1024 + 240));
+        Assert.assertEquals(64, exact.display(1024 - 60));
+
+        DisplayLut sigmoid = new DisplayLut(12, false, 1, -1024, 40, 400, DisplayLut.sigmoid, false);
+        Assert.assertEquals(128, sigmoid.display(1024 + 40));
+        // 255 / (1 + e^2) half a width below the center, and never quite 0
+        Assert.assertEquals(30, sigmoid.display(1024 - 160));
+        Assert.assertEquals(5, sigmoid.display(1024 - 360));
+
+        // MONOCHROME1 is the other way around
+        DisplayLut inverted = new DisplayLut(12, false, 1, -1024, 40, 400, DisplayLut.linear, true);
+        Assert.assertEquals(255, inverted.display(0));
+        Assert.assertEquals(255 - linear.display(1100), inverted.display(1100));
+
+        // an empty function is LINEAR, a width under 1 is 1
+        Assert.assertEquals(DisplayLut.linear, new DisplayLut(8, false, 1, 0, 100, 0, "", false).function);
+        DisplayLut step = new DisplayLut(8, false, 1, 0, 100, 0, "", false);
+        Assert.assertEquals(0, step.display(99));
+        Assert.assertEquals(255, step.display(100));
+    }
+
+    @Test
+    public void testRender()
+    {
+        // signed 12 bit samples, the table starts at -2048
+        DisplayLut lut = new DisplayLut(12, true, 2, 10, 0, 1000, DisplayLut.linear, false);
+        Assert.assertEquals(-2048, lut.min_stored);
+        int[] samples = {-2048, -300, -5, 0, 5, 300, 2047};
+        byte[] rendered = lut.render(samples);
+        short[] shorts = new short[samples.length];
+        for (int i = 0; i < samples.length; i++)
+        {
+            Assert.assertEquals(lut.display(samples[i]), rendered[i] & 0xFF);
+            shorts[i] = (short) samples[i];
+        }
+        Assert.assertArrayEquals(rendered, lut.render(shorts));
+
+        // unsigned 16 bit samples in shorts
+        DisplayLut wide = new DisplayLut(16, false, 1, 0, 40000, 20000, DisplayLut.linear, false);
+        Assert.assertEquals(255, wide.render(new short[]{(short) 60000})[0] & 0xFF);
+        Assert.assertEquals(0, wide.render(new short[]{(short) 20000})[0] & 0xFF);
+
+        // no table past 16 bits, each sample through the transforms
+        DisplayLut deep = new DisplayLut(20, false, 1, 0, 1 << 19, 1 << 20, DisplayLut.linear, false);
+        Assert.assertNull(deep.table);
+        Assert.assertArrayEquals(new byte[]{0, (byte) 128, (byte) 255},
+                deep.render(new int[]{0, 1 << 19, (1 << 20) - 1}));
+    }
+
+    @Test
+    public void testVoiLut()
+    {
+        // 8 bit entries for 1000 to 1003, clamped either side
+        DisplayLut lut = new DisplayLut(12, false, 1, 0, new int[]{4, 1000, 8}, new int[]{0, 51, 102, 255}, false);
+        Assert.assertEquals(0, lut.display(0));
+        Assert.assertEquals(51, lut.display(1001));
+        Assert.assertEquals(102, lut.display(1002));
+        Assert.assertEquals(255, lut.display(4095));
+
+        // a signed first value mapped, and 12 bit entries
+        DisplayLut signed = new DisplayLut(12, true, 1, 0, new int[]{2, 0xFFFF, 12}, new int[]{0, 4095}, false);
+        Assert.assertEquals(0, signed.display(-1));
+        Assert.assertEquals(255, signed.display(0));
+    }
+
+    @Test
+    public void testCache()
+    {
+        DisplayLutCache cache = new DisplayLutCache(2);
+        DisplayLut lung = cache.get(12, false, 1, -1024, -600, 1500, DisplayLut.linear, false);
+        Assert.assertSame(lung, cache.get(12, false, 1, -1024, -600, 1500, DisplayLut.linear, false));
+        // no function is LINEAR
+        Assert.assertSame(lung, cache.get(12, false, 1, -1024, -600, 1500, "", false));
+
+        // anything else different is another LUT
+        DisplayLut bone = cache.get(12, false, 1, -1024, 300, 1500, DisplayLut.linear, false);
+        Assert.assertNotSame(lung, bone);
+        Assert.assertNotSame(lung, cache.get(12, false, 1, -1000, -600, 1500, DisplayLut.linear, false));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(2, cache.hits());
+        Assert.assertEquals(3, cache.misses());
+
+        // the least recently used, lung, was dropped for the third
+        Assert.assertSame(bone, cache.get(12, false, 1, -1024, 300, 1500, DisplayLut.linear, false));
+        Assert.assertNotSame(lung, cache.get(12, false, 1, -1024, -600, 1500, DisplayLut.linear, false));
+    }
+
+    @Test
+    public void testDisplayFrame() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_frames = 2;
+        generator.rows = 32;
+        generator.columns = 32;
+
+        Path file = generator.write(Files.createTempFile("display", ".dcm"));
+        try
+        {
+            DicomParser parser = new DicomParser(file.toString());
+            Assert.assertTrue(parser.isValidDicomImage());
+            DicomImage image = new DicomImage(parser.parseDICOMImage());
+
+            // the image's own window, 4096 wide at 2048, compiled once for any image like it
+            image.displayLutCache = new DisplayLutCache(8);
+            DisplayLut lut = image.getDisplayLut();
+            Assert.assertEquals(2048, lut.center, 0);
+            Assert.assertEquals(4096, lut.width, 0);
+            Assert.assertSame(lut, image.getDisplayLut());
+
+            int[] samples = image.getFrameAsInts(1);
+            byte[] display = image.getDisplayFrame(1);
+            for (int i = 0; i < samples.length; i++)
+            {
+                Assert.assertEquals(lut.display(samples[i]), display[i] & 0xFF);
+            }
+
+            // dragged to a narrow window, and then inverted
+            byte[] narrow = image.getDisplayFrame(1, image.getDisplayLut(1000, 100));
+            image.photometricInterpretation = "MONOCHROME1";
+            byte[] inverted = image.getDisplayFrame(1, image.getDisplayLut(1000, 100));
+            for (int i = 0; i < samples.length; i++)
+            {
+                Assert.assertEquals(samples[i] < 950 ? 0 : samples[i] >= 1050 ? 255 : narrow[i] & 0xFF,
+                        narrow[i] & 0xFF);
+                Assert.assertEquals(255 - (narrow[i] & 0xFF), inverted[i] & 0xFF);
+            }
+
+            // a LUT for other samples than the image's is refused, not indexed out of its table
+            image.photometricInterpretation = "MONOCHROME2";
+            DisplayLut wider = new DisplayLut(16, false, 1, 0, 1000, 100, DisplayLut.linear, false);
+            Assert.assertThrows(IllegalArgumentException.class, () -> image.getDisplayFrame(1, wider));
+            DisplayLut signed = new DisplayLut(12, true, 1, 0, 1000, 100, DisplayLut.linear, false);
+            Assert.assertThrows(IllegalArgumentException.class, () -> image.getDisplayFrame(1, signed));
+
+            // with no window, fitted to the frame
+            image.windowWidth = 0;
+            byte[] fitted = image.getDisplayFrame(0);
+            int lowest = 255;
+            int highest = 0;
+            for (byte pixel : fitted)
+            {
+                lowest = Math.min(lowest, pixel & 0xFF);
+                highest = Math.max(highest, pixel & 0xFF);
+            }
+            Assert.assertEquals(0, lowest);
+            Assert.assertEquals(255, highest);
+
+            // but still only for grey scale
+            image.photometricInterpretation = "RGB";
+            Assert.assertThrows(IllegalStateException.class, () -> image.getDisplayFrame(0));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DicomImage;
+import bransford.dicom.parser.DicomObject;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.FrameCache;
+import bransford.dicom.parser.SyntheticDicom;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class FrameCacheTest
+{
+    private static FrameCache.Key key(String sopInstanceUID, int frame)
+    {
+        return new FrameCache.Key(sopInstanceUID, SyntheticDicom.rle_lossless, 10, 10, 8, 1, frame);
+    }
+
+    @Test
+    public void testLeastRecentlyUsed()
+    {
+        FrameCache cache = new FrameCache(300);
+        cache.put(key("1.2.3", 0), new byte[100]);
+        cache.put(key("1.2.3", 1), new byte[100]);
+        cache.put(key("1.2.4", 0), new byte[100]);
+        Assert.assertEquals(300, cache.bytes());
+
+        // frame 0 is used, so frame 1 is the one to go
+        Assert.assertNotNull(cache.get(key("1.2.3", 0)));
+        cache.put(key("1.2.4", 1), new byte[100]);
+        Assert.assertNull(cache.get(key("1.2.3", 1)));
+        Assert.assertNotNull(cache.get(key("1.2.3", 0)));
+        Assert.assertEquals(1, cache.evictions());
+
+        // a big frame pushes out as many as it needs to
+        cache.put(key("1.2.5", 0), new byte[250]);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(250, cache.bytes());
+
+        // and one over the budget isn't kept
+        cache.put(key("1.2.6", 0), new byte[301]);
+        Assert.assertNull(cache.get(key("1.2.6", 0)));
+        Assert.assertNotNull(cache.get(key("1.2.5", 0)));
+
+        // replacing a frame counts its new size only
+        cache.put(key("1.2.5", 0), new byte[50]);
+        Assert.assertEquals(50, cache.bytes());
+
+        // the same frame of the same instance, encoded another way, is another frame
+        Assert.assertNull(cache.get(new FrameCache.Key("1.2.5", SyntheticDicom.explicit_little_endian, 10, 10, 8, 1,
+                0)));
+
+        // what is handed out is a copy
+        byte[] frame = cache.get(key("1.2.5", 0));
+        frame[0] = 1;
+        Assert.assertEquals(0, cache.get(key("1.2.5", 0))[0]);
+
+        cache.remove("1.2.5");
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.bytes());
+        Assert.assertEquals(5, cache.hits());
+        Assert.assertEquals(3, cache.misses());
+    }
+
+    private static DicomObject parse(Path file) throws IOException
+    {
+        DicomParser parser = new DicomParser(file.toString());
+        Assert.assertTrue(parser.isValidDicomImage());
+        return parser.parseDICOMImage();
+    }
+
+    @Test
+    public void testDecompressedOnce() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.transfer_syntax = SyntheticDicom.rle_lossless;
+        generator.num_frames = 4;
+        generator.rows = 32;
+        generator.columns = 32;
+
+        Path file = generator.write(Files.createTempFile("cached", ".dcm"));
+        try
+        {
+            DicomImage image = new DicomImage(parse(file));
+            FrameCache cache = new FrameCache(1 << 20);
+            image.frameCache = cache;
+
+            byte[] frame = image.getFrame(2);
+            Assert.assertEquals(1, cache.misses());
+            Assert.assertArrayEquals(frame, image.getFrame(2));
+            Assert.assertEquals(1, cache.hits());
+
+            // only the other three frames are decompressed
+            byte[][] frames = image.getPixelData(true);
+            Assert.assertArrayEquals(frame, frames[2]);
+            Assert.assertEquals(4, cache.size());
+            Assert.assertEquals(4 * 32 * 32 * 2, cache.bytes());
+
+            // writing to a frame handed out doesn't touch the cached one
+            byte first = frames[0][0];
+            frames[0][0] = (byte) ~first;
+            byte[][] again = image.getPixelData(true);
+            Assert.assertEquals(first, again[0][0]);
+            Assert.assertArrayEquals(frames[3], again[3]);
+            Assert.assertEquals(6, cache.hits());
+            Assert.assertEquals(4, cache.misses());
+
+            // another image with the same UID, but a frame of a different size, isn't handed this one's frames
+            generator.rows = 16;
+            DicomImage other = new DicomImage(parse(generator.write(file)));
+            other.frameCache = cache;
+            Assert.assertEquals(16 * 32 * 2, other.getFrame(2).length);
+            Assert.assertEquals(6, cache.hits());
+
+            // and a cached frame of the wrong length is decoded again
+            cache.put(new FrameCache.Key(image.SOPInstanceUID, image.transferSyntaxUID, 32, 32, 16, 1, 1),
+                    new byte[7]);
+            Assert.assertEquals(32 * 32 * 2, image.getFrame(1).length);
+
+            // without a cache every call decompresses
+            image.frameCache = null;
+            Assert.assertArrayEquals(frame, image.getFrame(2));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+}
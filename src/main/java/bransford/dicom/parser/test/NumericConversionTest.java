@@ -1,9 +1,13 @@
 package bransford.dicom.parser.test;
 
+import bransford.dicom.parser.DCMBuff;
+import bransford.dicom.parser.DicomTag;
+import bransford.dicom.parser.DicomTags;
 import bransford.dicom.parser.ValueConversions;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 import java.lang.Integer;
@@ -108,4 +112,75 @@ public class NumericConversionTest
         Assert.assertEquals(floatValue, 85.125, 0);
     }
 
+    @Test
+    public void testTagKeyRoundTrip()
+    {
+        Assert.assertEquals(DicomTags.PixelData, ValueConversions.parseTagKey("(7FE0,0010)"));
+        Assert.assertEquals("(7FE0,0010)", ValueConversions.tagToString(DicomTags.PixelData));
+        Assert.assertEquals("(0028,0010)", ValueConversions.tagToString(DicomTags.Rows));
+        Assert.assertEquals(-1, ValueConversions.parseTagKey("(6000-60FF,0010)"));
+    }
+
+    private static DicomTag binaryTag(String vr, ByteBuffer value)
+    {
+        DicomTag tag = new DicomTag();
+        tag.setTag(0x00091000);
+        tag.setVR(vr);
+        byte[] bytes = new byte[value.position()];
+        value.flip().get(bytes);
+        tag.setRawValue(bytes);
+        tag.setValueLength(bytes.length);
+        return tag;
+    }
+
+    @Test
+    public void testPrimitiveAccessors()
+    {
+        ByteBuffer value = ByteBuffer.allocate(64).order(DCMBuff.default_byte_order);
+
+        DicomTag us = binaryTag("US", value.putShort((short) 0xFFFF).putShort((short) 512));
+        Assert.assertArrayEquals(new int[]{65535, 512}, us.getInts());
+        Assert.assertEquals(65535, us.getInt());
+        Assert.assertEquals(512, us.getInt(1));
+        Assert.assertEquals(0, us.getInt(2));
+
+        DicomTag ss = binaryTag("SS", value.clear().putShort((short) -2));
+        Assert.assertEquals(-2, ss.getInt());
+        Assert.assertEquals(-2.0, ss.getDouble(), 0);
+
+        DicomTag ul = binaryTag("UL", value.clear().putInt(0xFFFFFFFE));
+        Assert.assertArrayEquals(new long[]{0xFFFFFFFEL}, ul.getLongs());
+
+        DicomTag fd = binaryTag("FD", value.clear().putDouble(-125.5).putDouble(42.25));
+        Assert.assertArrayEquals(new double[]{-125.5, 42.25}, fd.getDoubles(), 0);
+        Assert.assertArrayEquals(new float[]{-125.5f, 42.25f}, fd.getFloats(), 0);
+        Assert.assertArrayEquals(new int[]{-125, 42}, fd.getInts());
+
+        DicomTag fl = binaryTag("FL", value.clear().putFloat(0.5f));
+        Assert.assertEquals(0.5, fl.getDouble(), 0);
+
+        // the 64 bit and other long VRs decode as numbers too, e.g. an extended offset table
+        DicomTag ov = binaryTag("OV", value.clear().putLong(0).putLong(1L << 40).putLong(-1L));
+        ov.decode();
+        Assert.assertTrue(ov.isNumeric());
+        Assert.assertEquals(3, ov.multiplicity);
+        Assert.assertArrayEquals(new long[]{0, 1L << 40, -1L}, ov.getLongs());
+        Assert.assertNull(ov.getValueString());
+        Assert.assertTrue(ov.toString().contains("[0\\1099511627776\\18446744073709551615]"));
+
+        DicomTag sv = binaryTag("SV", value.clear().putLong(-5));
+        Assert.assertTrue(sv.toString().contains("[-5]"));
+        Assert.assertEquals(-5, sv.getLong(0));
+
+        DicomTag ol = binaryTag("OL", value.clear().putInt(7).putInt(0xFFFFFFFF));
+        ol.decode();
+        Assert.assertEquals(2, ol.multiplicity);
+        Assert.assertTrue(ol.toString().contains("[7\\4294967295]"));
+
+        // not binary, so no values
+        DicomTag cs = binaryTag("CS", value.clear().put((byte) 'A').put((byte) 'B'));
+        Assert.assertEquals(0, cs.getInts().length);
+        Assert.assertEquals(0, cs.getInt());
+    }
+
 }
@@ -0,0 +1,156 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DCMBuff;
+import bransford.dicom.parser.DicomImage;
+import bransford.dicom.parser.DicomObject;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.DicomTags;
+import bransford.dicom.parser.PixelBufferPool;
+import bransford.dicom.parser.SyntheticDicom;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class PixelBufferPoolTest
+{
+    @Test
+    public void testReuse()
+    {
+        PixelBufferPool pool = new PixelBufferPool(1000);
+        ByteBuffer first = pool.acquire(400);
+        Assert.assertTrue(first.isDirect());
+        Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, first.order());
+        Assert.assertEquals(400, first.remaining());
+
+        first.position(100);
+        pool.release(first);
+        Assert.assertEquals(400, pool.pooledBytes());
+
+        // the same buffer again, from the start, for the same size only
+        Assert.assertSame(first, pool.acquire(400));
+        Assert.assertEquals(0, first.position());
+        Assert.assertNotSame(first, pool.acquire(200));
+        Assert.assertEquals(2, pool.allocations());
+        Assert.assertEquals(1, pool.reuses());
+        Assert.assertEquals(2, pool.outstanding());
+
+        pool.release(first);
+        Assert.assertThrows(IllegalStateException.class, () -> pool.release(first));
+        Assert.assertThrows(IllegalStateException.class, () -> pool.release(ByteBuffer.allocateDirect(400)));
+
+        // no more than max_pooled_bytes are kept
+        ByteBuffer[] buffers = {pool.acquire(400), pool.acquire(400), pool.acquire(400)};
+        pool.release(buffers);
+        Assert.assertEquals(800, pool.pooledBytes());
+
+        pool.clear();
+        Assert.assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void testDroppedBuffers() throws InterruptedException
+    {
+        // buffers never released aren't held by the pool, the collector frees them
+        PixelBufferPool pool = new PixelBufferPool(1000);
+        ByteBuffer kept = pool.acquire(100);
+        for (int i = 0; i < 10; i++)
+        {
+            pool.acquire(100);
+        }
+
+        for (int attempt = 0; attempt < 50 && pool.outstanding() > 1; attempt++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(1, pool.outstanding());
+
+        pool.release(kept);
+        Assert.assertEquals(0, pool.outstanding());
+    }
+
+    @Test
+    public void testFrames() throws IOException
+    {
+        PixelBufferPool pool = new PixelBufferPool(1 << 20);
+
+        for (String transfer_syntax : new String[]{SyntheticDicom.explicit_little_endian,
+                SyntheticDicom.explicit_big_endian, SyntheticDicom.rle_lossless})
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.transfer_syntax = transfer_syntax;
+            generator.num_frames = 5;
+            generator.rows = 20;
+            generator.columns = 16;
+
+            Path file = generator.write(Files.createTempFile("buffers", ".dcm"));
+            try
+            {
+                DicomParser parser = new DicomParser(file.toString());
+                Assert.assertTrue(parser.isValidDicomImage());
+                DicomImage image = new DicomImage(parser.parseDICOMImage());
+                byte[][] expected = image.getPixelData(true);
+
+                ByteBuffer[] buffers = image.getPixelBuffers(pool);
+                Assert.assertEquals(5, buffers.length);
+                for (int frame = 0; frame < 5; frame++)
+                {
+                    Assert.assertTrue(buffers[frame].isDirect());
+                    Assert.assertEquals(ByteBuffer.wrap(expected[frame]), buffers[frame]);
+                }
+
+                ByteBuffer frame = image.getFrameBuffer(3, pool);
+                Assert.assertEquals(ByteBuffer.wrap(expected[3]), frame);
+
+                pool.release(buffers);
+                pool.release(frame);
+                Assert.assertEquals(0, pool.outstanding());
+            }
+            finally
+            {
+                Files.delete(file);
+            }
+        }
+
+        // the frames of all three files were the one size, so most buffers were reused
+        Assert.assertEquals(6, pool.allocations());
+    }
+
+    @Test
+    public void testCorruptFrame() throws IOException
+    {
+        // a batch of frames decoded fine, then one that won't decode
+        int num_frames = Runtime.getRuntime().availableProcessors() + 1;
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.transfer_syntax = SyntheticDicom.rle_lossless;
+        generator.num_frames = num_frames;
+        generator.rows = 20;
+        generator.columns = 16;
+
+        Path file = generator.write(Files.createTempFile("corrupt", ".dcm"));
+        try
+        {
+            DicomParser parser = new DicomParser(file.toString());
+            Assert.assertTrue(parser.isValidDicomImage());
+            DicomObject dcm = parser.parseDICOMImage();
+
+            // the last frame's fragment is cut short, it can't be read
+            DCMBuff truncated = new DCMBuff(new ByteBuffer[]{ByteBuffer.allocate(8)}, false);
+            dcm.get_dicom_tag(DicomTags.PixelData).subsequence.get(num_frames).setValueSource(truncated, 0);
+
+            PixelBufferPool pool = new PixelBufferPool(1 << 20);
+            Assert.assertThrows(RuntimeException.class, () -> new DicomImage(dcm).getPixelBuffers(pool));
+            Assert.assertEquals(0, pool.outstanding());
+            Assert.assertTrue(pool.allocations() > 0);
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+}
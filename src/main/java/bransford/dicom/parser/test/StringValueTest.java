@@ -0,0 +1,155 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DicomTag;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+public class StringValueTest
+{
+    private static DicomTag stringTag(String vr, String value)
+    {
+        DicomTag tag = new DicomTag();
+        tag.setTag(0x00091000);
+        tag.setVR(vr);
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        tag.setRawValue(bytes);
+        tag.setValueLength(bytes.length);
+        return tag;
+    }
+
+    @Test
+    public void testDecimalStrings()
+    {
+        String[] values = {"0", "-0", "1", "400", " 40.5 ", "-1024", "+3.25", ".5", "5.", "1e3", "-2.5E-4",
+                "0.1", "0.3", "1234567.890123", "12345678901234567890", "1e300", "2.2250738585072014E-308",
+                "0.000000000000000000000000001", "79.99999999999999"};
+
+        for (String value : values)
+        {
+            double expected = Double.parseDouble(value.trim());
+            Assert.assertEquals(value, expected, stringTag("DS", value).getDouble(), 0);
+        }
+
+        // multiple values, padded to an even length
+        DicomTag window = stringTag("DS", "400\\40.5\\-1000 ");
+        Assert.assertEquals(3, window.numStringValues());
+        Assert.assertArrayEquals(new double[]{400, 40.5, -1000}, window.getDoubles(), 0);
+        Assert.assertEquals(40.5, window.getDouble(1), 0);
+        Assert.assertEquals(-1000, window.getInt(2));
+        Assert.assertEquals(0, window.getDouble(3), 0);
+
+        // empty and malformed values read as 0
+        Assert.assertEquals(0, stringTag("DS", "  ").getDouble(), 0);
+        Assert.assertArrayEquals(new double[]{1, 0, 2}, stringTag("DS", "1\\\\2").getDoubles(), 0);
+        Assert.assertEquals(0, stringTag("DS", "1.2.3").getDouble(), 0);
+    }
+
+    @Test
+    public void testIntegerStrings()
+    {
+        Assert.assertEquals(12, stringTag("IS", "12").getInt());
+        Assert.assertEquals(-7, stringTag("IS", " -7 ").getInt());
+        Assert.assertEquals(2147483648L, stringTag("IS", "+2147483648 ").getLong(0));
+        Assert.assertArrayEquals(new int[]{1, 2, 30}, stringTag("IS", "1\\2\\30").getInts());
+        Assert.assertEquals(0, stringTag("IS", "x1").getInt());
+        Assert.assertEquals(0, stringTag("IS", "").getInts().length);
+    }
+
+    @Test
+    public void testDatesAndTimes()
+    {
+        Assert.assertEquals(LocalDate.of(2023, 2, 28), stringTag("DA", "20230228").getDate(0));
+        Assert.assertEquals(LocalDate.of(1999, 12, 31), stringTag("DA", "19991231\\20000101").getDate(0));
+        Assert.assertEquals(LocalDate.of(2000, 1, 1), stringTag("DA", "19991231\\20000101").getDate(1));
+        Assert.assertEquals(LocalDate.of(1993, 8, 22), stringTag("DA", "1993.08.22").getDate(0));
+        Assert.assertNull(stringTag("DA", "20230229").getDate(0));
+        Assert.assertNull(stringTag("DA", "2023022").getDate(0));
+        Assert.assertNull(stringTag("DA", "").getDate(0));
+
+        Assert.assertEquals(LocalTime.of(7, 0), stringTag("TM", "07").getTime(0));
+        Assert.assertEquals(LocalTime.of(7, 30), stringTag("TM", "0730").getTime(0));
+        Assert.assertEquals(LocalTime.of(7, 30, 15, 250000000), stringTag("TM", "073015.25 ").getTime(0));
+        Assert.assertEquals(LocalTime.of(7, 30, 15, 123456000), stringTag("TM", "07:30:15.123456").getTime(0));
+        Assert.assertEquals(LocalTime.of(23, 59, 59), stringTag("TM", "235960").getTime(0));
+        Assert.assertNull(stringTag("TM", "2500").getTime(0));
+        Assert.assertNull(stringTag("TM", "073").getTime(0));
+
+        DicomTag dt = stringTag("DT", "20230228073015.5-0500\\2023");
+        Assert.assertEquals(LocalDateTime.of(2023, 2, 28, 7, 30, 15, 500000000), dt.getDateTime(0));
+        Assert.assertEquals(ZoneOffset.ofHours(-5), dt.getDateTimeOffset(0));
+        Assert.assertEquals(LocalDateTime.of(2023, 1, 1, 0, 0), dt.getDateTime(1));
+        Assert.assertNull(dt.getDateTimeOffset(1));
+        Assert.assertNull(dt.getDateTime(2));
+        Assert.assertEquals(LocalDateTime.of(2023, 2, 1, 0, 0), stringTag("DT", "202302").getDateTime(0));
+        Assert.assertNull(stringTag("DT", "20231").getDateTime(0));
+
+        // the wrong VR has no date
+        Assert.assertNull(stringTag("DS", "20230228").getDate(0));
+    }
+
+    @Test
+    public void testMultiplicity()
+    {
+        DicomTag orientation = stringTag("DS", "1\\0\\0\\0\\1\\0 ");
+        orientation.calculateValue();
+        Assert.assertEquals(6, orientation.multiplicity);
+        Assert.assertEquals("1", orientation.getString(0));
+        Assert.assertEquals("0", orientation.getString(5));
+        Assert.assertNull(orientation.getString(6));
+
+        DicomTag name = stringTag("PN", "Doe^John\\ ");
+        name.calculateValue();
+        Assert.assertEquals(2, name.multiplicity);
+        Assert.assertEquals("Doe^John", name.getString(0));
+        Assert.assertEquals("", name.getString(1));
+
+        // a text value is one value, backslashes and all
+        DicomTag text = stringTag("LT", "  C:\\images\\ ");
+        text.calculateValue();
+        Assert.assertEquals(1, text.multiplicity);
+        Assert.assertEquals("  C:\\images\\", text.getString(0));
+
+        DicomTag empty = stringTag("CS", "");
+        empty.calculateValue();
+        Assert.assertEquals(0, empty.multiplicity);
+        Assert.assertNull(empty.getString(0));
+    }
+
+    @Test
+    public void testLazyDecode()
+    {
+        DicomTag spacing = stringTag("DS", "0.5\\0.25");
+        Assert.assertEquals(DicomTag.ValueState.UNDECODED, spacing.valueState);
+
+        // decoded once, then the same results
+        String value = spacing.getValueString();
+        Assert.assertEquals(DicomTag.ValueState.DECODED, spacing.valueState);
+        Assert.assertSame(value, spacing.getValueString());
+        Assert.assertSame(spacing.getDoubles(), spacing.getDoubles());
+        Assert.assertEquals(0.25, spacing.getDouble(1), 0);
+
+        // a new value is decoded again
+        spacing.setRawValue("2\\3 ".getBytes(StandardCharsets.US_ASCII));
+        Assert.assertEquals(DicomTag.ValueState.UNDECODED, spacing.valueState);
+        Assert.assertArrayEquals(new double[]{2, 3}, spacing.getDoubles(), 0);
+        Assert.assertEquals("2\\3", spacing.getValueString());
+
+        // a value that is skipped drops what was decoded
+        spacing.setValueSkipped(128);
+        Assert.assertTrue(spacing.isValueSkipped());
+        Assert.assertFalse(spacing.decode());
+        Assert.assertNull(spacing.getValueString());
+        Assert.assertEquals(0, spacing.getDoubles().length);
+
+        DicomTag empty = new DicomTag();
+        empty.setVR("LO");
+        Assert.assertFalse(empty.decode());
+        Assert.assertEquals(DicomTag.ValueState.NO_VALUE, empty.valueState);
+    }
+}
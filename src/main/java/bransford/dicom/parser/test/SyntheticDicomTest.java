@@ -0,0 +1,755 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DicomImage;
+import bransford.dicom.parser.DicomObject;
+import bransford.dicom.parser.DicomParser;
+import bransford.dicom.parser.DicomTag;
+import bransford.dicom.parser.DicomTags;
+import bransford.dicom.parser.PixelBufferPool;
+import bransford.dicom.parser.RleDecoder;
+import bransford.dicom.parser.RleEncoder;
+import bransford.dicom.parser.StreamingDCMBuff;
+import bransford.dicom.parser.SyntheticDicom;
+import bransford.dicom.parser.ValueConversions;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SyntheticDicomTest
+{
+    private static DicomObject parse(SyntheticDicom generator) throws IOException
+    {
+        Path file = Files.createTempFile("synthetic", ".dcm");
+        try
+        {
+            generator.write(file);
+            DicomParser parser = new DicomParser(file.toString());
+            Assert.assertTrue(parser.isValidDicomImage());
+            return parser.parseDICOMImage();
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testNativeTransferSyntaxes() throws IOException
+    {
+        for (String transfer_syntax : new String[]{SyntheticDicom.implicit_little_endian,
+                SyntheticDicom.explicit_little_endian})
+        {
+            for (boolean undefined_length : new boolean[]{true, false})
+            {
+                SyntheticDicom generator = new SyntheticDicom();
+                generator.transfer_syntax = transfer_syntax;
+                generator.undefined_length_sequences = undefined_length;
+                generator.num_tags = 200;
+                generator.sequence_depth = 3;
+                generator.num_frames = 2;
+                generator.rows = 16;
+                generator.columns = 24;
+
+                DicomObject dcm = parse(generator);
+                Assert.assertEquals(16, ValueConversions.getNumericValue(dcm.get_dicom_tag(DicomTags.Rows)));
+                Assert.assertEquals(24, ValueConversions.getNumericValue(dcm.get_dicom_tag(DicomTags.Columns)));
+                Assert.assertEquals(2 * 16 * 24 * 2, dcm.get_dicom_tag(DicomTags.PixelData).getValueLength());
+
+                // the nesting survived: sequence, item, sequence, item, sequence
+                DicomTag sequence = dcm.get_dicom_tag(DicomTags.ReferencedImageSequence);
+                for (int depth = 1; depth < 3; depth++)
+                {
+                    DicomTag item = sequence.subsequence.get(0);
+                    Assert.assertTrue(item.isItem);
+                    sequence = item.subsequence.get(0);
+                    Assert.assertEquals(DicomTags.ReferencedImageSequence, sequence.tag);
+                }
+
+                // the header is padded out with the tags asked for, none of them decoded until read
+                Assert.assertTrue(dcm.getNumTags() > 200);
+                DicomTag modality = dcm.get_dicom_tag(DicomTags.Modality);
+                Assert.assertEquals(DicomTag.ValueState.UNDECODED, modality.valueState);
+                Assert.assertEquals("OT", modality.getValueString());
+                Assert.assertEquals(DicomTag.ValueState.DECODED, modality.valueState);
+            }
+        }
+    }
+
+    @Test
+    public void testBigEndian() throws IOException
+    {
+        DicomObject[] parsed = new DicomObject[2];
+        String[] transfer_syntaxes = {SyntheticDicom.explicit_little_endian, SyntheticDicom.explicit_big_endian};
+        for (int i = 0; i < 2; i++)
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.transfer_syntax = transfer_syntaxes[i];
+            generator.num_frames = 2;
+            generator.rows = 16;
+            generator.columns = 24;
+            parsed[i] = parse(generator);
+        }
+
+        DicomObject big_endian = parsed[1];
+        Assert.assertEquals(16, big_endian.get_dicom_tag(DicomTags.Rows).getInt());
+        Assert.assertEquals(12, big_endian.get_dicom_tag(DicomTags.BitsStored).getInt());
+        Assert.assertEquals(1, big_endian.get_dicom_tag(DicomTags.ReferencedImageSequence).subsequence.size() - 1);
+
+        // the meta information is little endian whatever the data set is
+        Assert.assertEquals(parsed[0].get_dicom_tag(DicomTags.FileMetaInformationGroupLength).getInt(),
+                big_endian.get_dicom_tag(DicomTags.FileMetaInformationGroupLength).getInt());
+
+        // and the pixels come out the same
+        DicomImage little = new DicomImage(parsed[0]);
+        DicomImage big = new DicomImage(parsed[1]);
+        Assert.assertTrue(big.isBigEndian);
+        byte[][] little_pixels = little.getPixelData(false);
+        byte[][] big_pixels = big.getPixelData(false);
+        for (int frame = 0; frame < 2; frame++)
+        {
+            Assert.assertArrayEquals(little_pixels[frame], big_pixels[frame]);
+        }
+    }
+
+    @Test
+    public void testDeflated() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_tags = 200;
+        generator.sequence_depth = 2;
+        generator.rows = 32;
+        generator.columns = 32;
+        DicomObject explicit = parse(generator);
+        int explicit_length = generator.generate().length;
+
+        generator.transfer_syntax = SyntheticDicom.deflated_explicit_little_endian;
+        Assert.assertTrue(generator.generate().length < explicit_length / 2);
+        DicomObject deflated = parse(generator);
+
+        Assert.assertEquals(explicit.getNumTags(), deflated.getNumTags());
+        Assert.assertEquals("Synthetic^Patient", deflated.get_dicom_tag(DicomTags.PatientName).getValueString());
+        Assert.assertEquals(DicomTags.ReferencedImageSequence, deflated.get_dicom_tag(DicomTags.ReferencedImageSequence)
+                .subsequence.get(0).subsequence.get(0).tag);
+        Assert.assertArrayEquals(explicit.get_dicom_tag(DicomTags.PixelData).getRawValue(),
+                deflated.get_dicom_tag(DicomTags.PixelData).getRawValue());
+
+        // 2 MB of pixel data, larger than the window the data set is inflated through, is still read
+        generator.rows = 1024;
+        generator.columns = 1024;
+        generator.transfer_syntax = SyntheticDicom.explicit_little_endian;
+        byte[][] expected = new DicomImage(parse(generator)).getPixelData(false);
+        generator.transfer_syntax = SyntheticDicom.deflated_explicit_little_endian;
+        DicomObject large = parse(generator);
+        DicomTag pixel_data = large.get_dicom_tag(DicomTags.PixelData);
+        Assert.assertTrue(pixel_data.getValueLength() > StreamingDCMBuff.default_window_size);
+        Assert.assertFalse(pixel_data.isValueSkipped());
+        Assert.assertArrayEquals(expected[0], new DicomImage(large).getPixelData(false)[0]);
+    }
+
+    @Test
+    public void testMemoryMapped() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_tags = 100;
+        generator.num_frames = 3;
+        generator.rows = 64;
+        generator.columns = 48;
+        Path file = generator.write(Files.createTempFile("mapped", ".dcm"));
+
+        try
+        {
+            DicomObject[] parsed = new DicomObject[2];
+            for (int i = 0; i < 2; i++)
+            {
+                DicomParser parser = new DicomParser(file.toString(), i == 1);
+                Assert.assertEquals(i == 1, parser.dcm_buff.is_mapped);
+                Assert.assertTrue(parser.isValidDicomImage());
+                parsed[i] = parser.parseDICOMImage();
+            }
+
+            // the same object, whether read onto the heap or mapped
+            DicomObject heap = parsed[0];
+            DicomObject mapped = parsed[1];
+            Assert.assertEquals(heap.getNumTags(), mapped.getNumTags());
+            Assert.assertEquals(heap.get_dicom_tag(DicomTags.SOPInstanceUID).getValueString(),
+                    mapped.get_dicom_tag(DicomTags.SOPInstanceUID).getValueString());
+            Assert.assertEquals("Synthetic^Patient", mapped.get_dicom_tag(DicomTags.PatientName).getValueString());
+
+            byte[][] heap_pixels = new DicomImage(heap).getPixelData(false);
+            byte[][] mapped_pixels = new DicomImage(mapped).getPixelData(false);
+            Assert.assertEquals(3, mapped_pixels.length);
+            for (int frame = 0; frame < 3; frame++)
+            {
+                Assert.assertArrayEquals(heap_pixels[frame], mapped_pixels[frame]);
+            }
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStreaming() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_tags = 200;
+        generator.sequence_depth = 2;
+        generator.rows = 32;
+        generator.columns = 32;
+
+        // 2 KB of pixel data, then trailing padding to find after it
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(generator.generate());
+        bytes.write(new byte[]{(byte) 0xFC, (byte) 0xFF, (byte) 0xFC, (byte) 0xFF, 'O', 'B', 0, 0, 4, 0, 0, 0,
+                1, 2, 3, 4});
+        Path file = Files.write(Files.createTempFile("streamed", ".dcm"), bytes.toByteArray());
+
+        try
+        {
+            DicomParser from_file = new DicomParser(file.toString());
+            Assert.assertTrue(from_file.isValidDicomImage());
+            DicomObject expected = from_file.parseDICOMImage();
+            DicomTag expected_pixels = expected.get_dicom_tag(DicomTags.PixelData);
+            Assert.assertTrue(expected_pixels.valueOffset > 4 * 1024);
+
+            // a 1 KB window, a fraction of the header, over a stream and over a file (skipping by position)
+            try (InputStream stream = Files.newInputStream(file); FileChannel channel = FileChannel.open(file))
+            {
+                for (ReadableByteChannel source : new ReadableByteChannel[]{Channels.newChannel(stream), channel})
+                {
+                    DicomParser parser = new DicomParser(source, 1024);
+                    Assert.assertTrue(parser.isValidDicomImage());
+                    DicomObject dcm = parser.parseDICOMImage();
+
+                    Assert.assertEquals(expected.getNumTags(), dcm.getNumTags());
+                    Assert.assertEquals("Synthetic^Patient", dcm.get_dicom_tag(DicomTags.PatientName).getValueString());
+                    Assert.assertEquals(DicomTags.ReferencedImageSequence,
+                            dcm.get_dicom_tag(DicomTags.ReferencedImageSequence).subsequence.get(0).subsequence.get(0)
+                                    .tag);
+
+                    // the pixel data is too large for the window, only where it is is kept
+                    DicomTag pixel_data = dcm.get_dicom_tag(DicomTags.PixelData);
+                    Assert.assertTrue(pixel_data.isValueSkipped());
+                    Assert.assertEquals(expected_pixels.getValueLength(), pixel_data.getValueLength());
+                    Assert.assertEquals(expected_pixels.valueOffset, pixel_data.valueOffset);
+                    Assert.assertThrows(IllegalStateException.class, () -> new DicomImage(dcm).getFrame(0));
+
+                    // and the parse picks up again after it
+                    Assert.assertArrayEquals(new byte[]{1, 2, 3, 4},
+                            dcm.get_dicom_tag(DicomTags.DataSetTrailingPadding).getRawValue());
+                }
+            }
+
+            // a non-blocking channel may read nothing at all, it is refused rather than spun on
+            Pipe pipe = Pipe.open();
+            try
+            {
+                pipe.source().configureBlocking(false);
+                Assert.assertThrows(IllegalArgumentException.class, () -> new DicomParser(pipe.source(), 1024));
+            }
+            finally
+            {
+                pipe.source().close();
+                pipe.sink().close();
+            }
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testHeaderOnly() throws IOException
+    {
+        for (String transfer_syntax : new String[]{SyntheticDicom.explicit_little_endian, SyntheticDicom.rle_lossless})
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.transfer_syntax = transfer_syntax;
+            generator.num_frames = 3;
+            generator.rows = 32;
+            generator.columns = 32;
+            Path file = generator.write(Files.createTempFile("header", ".dcm"));
+
+            try
+            {
+                DicomObject whole = parse(generator);
+                DicomTag expected = whole.get_dicom_tag(DicomTags.PixelData);
+
+                // up to the pixel data, stopped where its group and element start: 12 bytes of tag, VR, reserved
+                // bytes and length before its value (or first item)
+                DicomParser parser = new DicomParser(file.toString());
+                parser.stop_at_tag = DicomTags.PixelData;
+                Assert.assertTrue(parser.isValidDicomImage());
+                DicomObject header = parser.parseDICOMImage();
+                Assert.assertNull(header.get_dicom_tag(DicomTags.PixelData));
+                Assert.assertEquals(whole.getNumTags() - 1, header.getNumTags());
+                Assert.assertEquals("Synthetic^Patient", header.get_dicom_tag(DicomTags.PatientName).getValueString());
+                long value_start = expected.isUndefinedLength() ? expected.subsequence.get(0).valueOffset - 8
+                        : expected.valueOffset;
+                Assert.assertEquals(value_start - 12, parser.stop_location);
+                DicomImage no_pixels = new DicomImage(header);
+                Assert.assertThrows(IllegalStateException.class, () -> no_pixels.getFrame(0));
+
+                // past the pixel data, which is only located
+                parser = new DicomParser(file.toString());
+                parser.skip_bulk_data = true;
+                Assert.assertTrue(parser.isValidDicomImage());
+                DicomObject bulk_skipped = parser.parseDICOMImage();
+                DicomTag pixel_data = bulk_skipped.get_dicom_tag(DicomTags.PixelData);
+                Assert.assertEquals(expected.getValueLength(), pixel_data.getValueLength());
+
+                // so there are no frames to get, rather than null or garbage ones
+                DicomImage skipped = new DicomImage(bulk_skipped);
+                PixelBufferPool pool = new PixelBufferPool(1 << 20);
+                Assert.assertThrows(IllegalStateException.class, () -> skipped.getPixelData(false));
+                Assert.assertThrows(IllegalStateException.class, () -> skipped.getPixelData(true));
+                Assert.assertThrows(IllegalStateException.class, () -> skipped.getFrame(1));
+                Assert.assertThrows(IllegalStateException.class, () -> skipped.getPixelBuffers(pool));
+                Assert.assertThrows(IllegalStateException.class, () -> skipped.getFrameBuffer(1, pool));
+                Assert.assertEquals(0, pool.outstanding());
+                if (expected.isUndefinedLength())
+                {
+                    // offset table, a fragment per frame, delimiter: every item skipped and where it was
+                    Assert.assertEquals(5, pixel_data.subsequence.size());
+                    for (int i = 0; i < 4; i++)
+                    {
+                        DicomTag item = pixel_data.subsequence.get(i);
+                        Assert.assertFalse(item.hasValue());
+                        Assert.assertTrue(item.isValueSkipped());
+                        Assert.assertEquals(expected.subsequence.get(i).getValueLength(), item.getValueLength());
+                        Assert.assertEquals(expected.subsequence.get(i).valueOffset, item.valueOffset);
+                    }
+                }
+                else
+                {
+                    Assert.assertTrue(pixel_data.isValueSkipped());
+                    Assert.assertEquals(3 * 32 * 32 * 2, pixel_data.getValueLength());
+                    Assert.assertEquals(expected.valueOffset, pixel_data.valueOffset);
+                }
+            }
+            finally
+            {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testEncapsulatedFrames() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.transfer_syntax = SyntheticDicom.jpeg_lossless;
+        generator.num_frames = 3;
+        generator.rows = 32;
+        generator.columns = 32;
+
+        DicomTag pixel_data = parse(generator).get_dicom_tag(DicomTags.PixelData);
+        Assert.assertTrue(pixel_data.isUndefinedLength());
+
+        // offset table, a fragment per frame, delimiter
+        Assert.assertEquals(5, pixel_data.subsequence.size());
+        byte[] frame = pixel_data.subsequence.get(1).getRawValue();
+
+        // SOI, then the SOF3 of a lossless 12 bit, 32x32 frame
+        Assert.assertEquals((byte) 0xD8, frame[1]);
+        Assert.assertEquals((byte) 0xC3, frame[3]);
+        Assert.assertEquals(12, frame[6]);
+        Assert.assertEquals(32, frame[8]);
+    }
+
+    @Test
+    public void testLosslessJpeg() throws IOException
+    {
+        // LosslessJpegEncoder's frames, decoded by Driver12_16, are the native frames again, bit for bit
+        for (int bits_stored : new int[]{12, 16})
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.num_frames = 3;
+            generator.rows = 40;
+            generator.columns = 30;
+            generator.bits_stored = bits_stored;
+            byte[][] expected = new DicomImage(parse(generator)).getPixelData(false);
+
+            generator.transfer_syntax = SyntheticDicom.jpeg_lossless;
+            DicomImage lossless = new DicomImage(parse(generator));
+            Assert.assertTrue(lossless.isCompressed);
+            byte[][] decoded = lossless.getPixelData(true);
+            Assert.assertEquals(3, decoded.length);
+            for (int frame = 0; frame < 3; frame++)
+            {
+                Assert.assertArrayEquals(bits_stored + " bits, frame " + frame, expected[frame], decoded[frame]);
+            }
+        }
+    }
+
+    @Test
+    public void testRle() throws IOException
+    {
+        for (int bits_allocated : new int[]{8, 16})
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.num_frames = 3;
+            generator.rows = 40;
+            generator.columns = 30;
+            generator.bits_allocated = bits_allocated;
+            byte[][] expected = new DicomImage(parse(generator)).getPixelData(false);
+
+            generator.transfer_syntax = SyntheticDicom.rle_lossless;
+            DicomImage rle = new DicomImage(parse(generator));
+            Assert.assertTrue(rle.isCompressed);
+            byte[][] decoded = rle.getPixelData(true);
+            Assert.assertEquals(3, decoded.length);
+            for (int frame = 0; frame < 3; frame++)
+            {
+                Assert.assertArrayEquals(expected[frame], decoded[frame]);
+            }
+        }
+
+        // three 16 bit samples a pixel, six segments, decoded interleaved and by plane, a segment a thread
+        int rows = 7;
+        int columns = 300;
+        byte[] frame = new byte[rows * columns * 3 * 2];
+        for (int i = 0; i < frame.length; i++)
+        {
+            frame[i] = (byte) (i % 7 == 0 ? i : i / 200);
+        }
+        byte[] encoded = RleEncoder.encode(frame, rows, columns, 3, 16);
+        Assert.assertEquals(6, encoded[0]);
+
+        Assert.assertArrayEquals(frame, RleDecoder.decode(encoded, rows, columns, 3, 16, 0, 0));
+
+        byte[] planes = RleDecoder.decode(encoded, rows, columns, 3, 16, 1, 0);
+        int num_pixels = rows * columns;
+        for (int pixel = 0; pixel < num_pixels; pixel++)
+        {
+            for (int sample = 0; sample < 3; sample++)
+            {
+                for (int b = 0; b < 2; b++)
+                {
+                    Assert.assertEquals(frame[(pixel * 3 + sample) * 2 + b],
+                            planes[(sample * num_pixels + pixel) * 2 + b]);
+                }
+            }
+        }
+
+        // a segment offset outside the frame (negative, its high bit set) is reported and that segment, the low byte
+        // of the third sample, left as 0s; the rest decode as ever
+        byte[] corrupt = encoded.clone();
+        corrupt[4 + 5 * 4 + 3] = (byte) 0x80;
+        byte[] partial = RleDecoder.decode(corrupt, rows, columns, 3, 16, 0, 0);
+        for (int i = 0; i < frame.length; i++)
+        {
+            Assert.assertEquals(i % 6 == 4 ? 0 : frame[i], partial[i]);
+        }
+    }
+
+    @Test
+    public void testFramesInOrder() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_frames = 12;
+        generator.rows = 16;
+        generator.columns = 16;
+        byte[][] expected = new DicomImage(parse(generator)).getPixelData(false);
+
+        generator.transfer_syntax = SyntheticDicom.rle_lossless;
+        DicomImage rle = new DicomImage(parse(generator));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try
+        {
+            rle.decompressExecutor = executor;
+            byte[][] decoded = rle.getPixelData(true);
+            for (int frame = 0; frame < 12; frame++)
+            {
+                Assert.assertArrayEquals(expected[frame], decoded[frame]);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testJpegFramesInOrder() throws IOException
+    {
+        for (String transfer_syntax : new String[]{SyntheticDicom.jpeg_baseline, SyntheticDicom.jpeg_lossless})
+        {
+            SyntheticDicom generator = new SyntheticDicom();
+            generator.transfer_syntax = transfer_syntax;
+            generator.bits_allocated = transfer_syntax.equals(SyntheticDicom.jpeg_baseline) ? 8 : 16;
+            generator.num_frames = 12;
+            generator.rows = 16;
+            generator.columns = 16;
+            DicomObject dcm = parse(generator);
+
+            // each frame on its own, decoded on this thread
+            DicomImage image = new DicomImage(dcm);
+            byte[][] expected = new byte[12][];
+            for (int frame = 0; frame < 12; frame++)
+            {
+                expected[frame] = image.getFrame(frame);
+            }
+
+            // then all of them at once, on a thread (and a driver) each, put back in frame order
+            DicomImage jpeg = new DicomImage(dcm);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try
+            {
+                jpeg.decompressExecutor = executor;
+                byte[][] decoded = jpeg.getPixelData(true);
+                Assert.assertEquals(12, decoded.length);
+                for (int frame = 0; frame < 12; frame++)
+                {
+                    Assert.assertArrayEquals(transfer_syntax + " frame " + frame, expected[frame], decoded[frame]);
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testOffsetTables() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_frames = 4;
+        generator.rows = 24;
+        generator.columns = 20;
+        byte[][] expected = new DicomImage(parse(generator)).getPixelData(false);
+        Assert.assertArrayEquals(expected[2], new DicomImage(parse(generator)).getFrame(2));
+
+        generator.transfer_syntax = SyntheticDicom.rle_lossless;
+        for (SyntheticDicom.OffsetTable offset_table : SyntheticDicom.OffsetTable.values())
+        {
+            for (int fragments : new int[]{1, 3})
+            {
+                if (offset_table == SyntheticDicom.OffsetTable.NONE && fragments > 1)
+                {
+                    // an RLE frame split without a table can't be told from several frames
+                    continue;
+                }
+
+                generator.offset_table = offset_table;
+                generator.fragments_per_frame = fragments;
+                DicomObject dcm = parse(generator);
+                Assert.assertEquals(2 + 4 * fragments, dcm.get_dicom_tag(DicomTags.PixelData).subsequence.size());
+
+                // any frame on its own, in any order
+                DicomImage image = new DicomImage(dcm);
+                for (int frame : new int[]{3, 0, 2, 1})
+                {
+                    Assert.assertArrayEquals(offset_table + " " + fragments, expected[frame], image.getFrame(frame));
+                }
+
+                byte[][] decoded = new DicomImage(dcm).getPixelData(true);
+                Assert.assertEquals(4, decoded.length);
+                for (int frame = 0; frame < 4; frame++)
+                {
+                    Assert.assertArrayEquals(expected[frame], decoded[frame]);
+                }
+            }
+        }
+
+        // without a table, JPEG frames split across fragments are found by their start of image marker
+        generator.transfer_syntax = SyntheticDicom.jpeg_lossless;
+        generator.offset_table = SyntheticDicom.OffsetTable.NONE;
+        generator.fragments_per_frame = 1;
+        byte[][] whole = new DicomImage(parse(generator)).getPixelData(false);
+        generator.fragments_per_frame = 3;
+        byte[][] joined = new DicomImage(parse(generator)).getPixelData(false);
+        Assert.assertEquals(4, joined.length);
+        for (int frame = 0; frame < 4; frame++)
+        {
+            Assert.assertArrayEquals(whole[frame], joined[frame]);
+        }
+    }
+
+    @Test
+    public void testTypedSamples() throws IOException
+    {
+        SyntheticDicom generator = new SyntheticDicom();
+        generator.num_frames = 2;
+        generator.rows = 16;
+        generator.columns = 16;
+        DicomImage image = new DicomImage(parse(generator));
+        Assert.assertEquals(12, image.bitsStored);
+        Assert.assertEquals(0, image.pixelRepresentation);
+
+        byte[] bytes = image.getFrame(1);
+        int[] raw = new int[bytes.length / 2];
+        for (int i = 0; i < raw.length; i++)
+        {
+            raw[i] = (bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] & 0xFF) << 8;
+        }
+
+        // 12 unsigned bits, then the same bits as two's complement, then 12 bits up to bit 13
+        int[][] expected = new int[3][raw.length];
+        for (int i = 0; i < raw.length; i++)
+        {
+            expected[0][i] = raw[i] & 0xFFF;
+            expected[1][i] = expected[0][i] >= 2048 ? expected[0][i] - 4096 : expected[0][i];
+            expected[2][i] = (raw[i] >> 2) & 0xFFF;
+        }
+
+        for (int layout = 0; layout < 3; layout++)
+        {
+            image.pixelRepresentation = layout == 1 ? 1 : 0;
+            image.highBit = layout == 2 ? 13 : 11;
+
+            Assert.assertArrayEquals(expected[layout], image.getFrameAsInts(1));
+            short[] shorts = image.getFrameAsShorts(1);
+            for (int i = 0; i < raw.length; i++)
+            {
+                Assert.assertEquals(expected[layout][i], shorts[i]);
+            }
+        }
+
+        // all 16 bits, signed, and unsigned
+        image.bitsStored = 16;
+        image.highBit = 15;
+        for (int representation = 0; representation < 2; representation++)
+        {
+            image.pixelRepresentation = representation;
+            int[] ints = image.getFrameAsInts(1);
+            short[] shorts = image.getFrameAsShorts(1);
+            for (int i = 0; i < raw.length; i++)
+            {
+                Assert.assertEquals(representation == 1 ? (short) raw[i] : raw[i], ints[i]);
+                Assert.assertEquals((short) raw[i], shorts[i]);
+            }
+        }
+
+        // 8 bit samples, sign extended from bit 7
+        generator.bits_allocated = 8;
+        generator.num_frames = 1;
+        generator.rows = 15;
+        generator.columns = 15;
+        DicomObject dcm8 = parse(generator);
+        DicomImage bytes8 = new DicomImage(dcm8);
+        byte[] pixels = bytes8.getFrame(0);
+        bytes8.pixelRepresentation = 1;
+        int[] ints = bytes8.getFrameAsInts(0);
+        short[] shorts = bytes8.getFrameAsShorts(0);
+        for (int i = 0; i < pixels.length; i++)
+        {
+            Assert.assertEquals(pixels[i], ints[i]);
+            Assert.assertEquals(pixels[i], shorts[i]);
+        }
+
+        // an odd number of 8 bit pixels is padded to an even length
+        Assert.assertEquals(15 * 15 + 1, dcm8.get_dicom_tag(DicomTags.PixelData).getValueLength());
+        Assert.assertEquals(15 * 15, pixels.length);
+    }
+
+    // every tag as it is dumped, nested items and all, and the frames
+    private static String describe(DicomObject dcm)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < dcm.getNumTags(); i++)
+        {
+            describe(dcm.get_tag_at(i), sb);
+        }
+
+        for (byte[] frame : new DicomImage(dcm).getPixelData(false))
+        {
+            sb.append(Arrays.hashCode(frame)).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    private static void describe(DicomTag tag, StringBuilder sb)
+    {
+        sb.append(tag).append("\n");
+        if (tag.hasSubsequence())
+        {
+            for (DicomTag child : tag.subsequence)
+            {
+                describe(child, sb);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentParse() throws Exception
+    {
+        // a file of each native and RLE transfer syntax, two of each, every one a different instance
+        String[] transfer_syntaxes = new String[]{SyntheticDicom.implicit_little_endian,
+                SyntheticDicom.explicit_little_endian, SyntheticDicom.explicit_big_endian,
+                SyntheticDicom.deflated_explicit_little_endian, SyntheticDicom.rle_lossless};
+        int num_files = 2 * transfer_syntaxes.length;
+        Path[] files = new Path[num_files];
+        String[] expected = new String[num_files];
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            for (int i = 0; i < num_files; i++)
+            {
+                SyntheticDicom generator = new SyntheticDicom();
+                generator.transfer_syntax = transfer_syntaxes[i % transfer_syntaxes.length];
+                generator.instance = i + 1;
+                generator.num_tags = 150;
+                generator.sequence_depth = 2;
+                generator.num_frames = 3;
+                generator.rows = 32;
+                generator.columns = 24;
+                files[i] = generator.write(Files.createTempFile("concurrent", ".dcm"));
+
+                // parsed one after the other first
+                DicomParser parser = new DicomParser(files[i].toString());
+                Assert.assertTrue(parser.isValidDicomImage());
+                expected[i] = describe(parser.parseDICOMImage());
+            }
+
+            // then every file several times over, all at once, each parse on its own parser
+            ArrayList<Future<String>> parsed = new ArrayList<>();
+            for (int round = 0; round < 4; round++)
+            {
+                for (Path file : files)
+                {
+                    parsed.add(executor.submit(() ->
+                    {
+                        DicomParser parser = new DicomParser(file.toString());
+                        Assert.assertTrue(parser.isValidDicomImage());
+                        return describe(parser.parseDICOMImage());
+                    }));
+                }
+            }
+
+            for (int i = 0; i < parsed.size(); i++)
+            {
+                Assert.assertEquals("file " + i % num_files, expected[i % num_files], parsed.get(i).get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            for (Path file : files)
+            {
+                if (file != null)
+                {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package bransford.dicom.parser.test;
+
+import bransford.dicom.parser.DicomTag;
+import bransford.dicom.parser.DicomTags;
+import bransford.dicom.parser.TagMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TagMapTest
+{
+    private static DicomTag tag(int id)
+    {
+        DicomTag tag = new DicomTag();
+        tag.setTag(id);
+        return tag;
+    }
+
+    @Test
+    public void testOrderAndLookup()
+    {
+        TagMap map = new TagMap();
+        int num_tags = 10000;
+
+        // clustered keys, as in a real header, enough to grow the table several times
+        for (int i = 0; i < num_tags; i++)
+        {
+            int id = ((0x0008 + 2 * (i / 100)) << 16) | (i % 100);
+            Assert.assertTrue(map.putIfAbsent(id, tag(id)));
+        }
+
+        Assert.assertEquals(num_tags, map.size());
+
+        for (int i = 0; i < num_tags; i++)
+        {
+            int id = ((0x0008 + 2 * (i / 100)) << 16) | (i % 100);
+            Assert.assertEquals(id, map.keyAt(i));
+            Assert.assertEquals(id, map.valueAt(i).tag);
+            Assert.assertEquals(id, map.get(id).tag);
+        }
+
+        Assert.assertNull(map.get(DicomTags.PixelData));
+    }
+
+    @Test
+    public void testDuplicateKeepsFirst()
+    {
+        TagMap map = new TagMap();
+        DicomTag first = tag(DicomTags.Rows);
+
+        Assert.assertTrue(map.putIfAbsent(DicomTags.Rows, first));
+        Assert.assertFalse(map.putIfAbsent(DicomTags.Rows, tag(DicomTags.Rows)));
+        Assert.assertSame(first, map.get(DicomTags.Rows));
+        Assert.assertEquals(1, map.size());
+    }
+}